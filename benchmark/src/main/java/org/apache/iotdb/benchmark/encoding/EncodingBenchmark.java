@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.benchmark.encoding;
+
+import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.encoding.encoder.TSEncodingBuilder;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of every encoder/decoder pair supported by TsFile, measured on one page of synthetic
+ * values. The score is the number of values encoded or decoded per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodingBenchmark {
+
+  private static final int POINT_NUM = 10_000;
+
+  /** data type and encoding separated by '-' */
+  @Param({
+    "BOOLEAN-PLAIN",
+    "BOOLEAN-RLE",
+    "INT32-PLAIN",
+    "INT32-RLE",
+    "INT32-TS_2DIFF",
+    "INT32-REGULAR",
+    "INT32-GORILLA",
+    "INT32-ZIGZAG",
+    "INT32-FREQ",
+    "INT32-CHIMP",
+    "INT64-PLAIN",
+    "INT64-RLE",
+    "INT64-TS_2DIFF",
+    "INT64-REGULAR",
+    "INT64-GORILLA",
+    "INT64-ZIGZAG",
+    "INT64-FREQ",
+    "INT64-CHIMP",
+    "FLOAT-PLAIN",
+    "FLOAT-RLE",
+    "FLOAT-TS_2DIFF",
+    "FLOAT-GORILLA_V1",
+    "FLOAT-GORILLA",
+    "FLOAT-FREQ",
+    "FLOAT-CHIMP",
+    "FLOAT-ELF",
+    "DOUBLE-PLAIN",
+    "DOUBLE-RLE",
+    "DOUBLE-TS_2DIFF",
+    "DOUBLE-GORILLA_V1",
+    "DOUBLE-GORILLA",
+    "DOUBLE-FREQ",
+    "DOUBLE-CHIMP",
+    "DOUBLE-ELF",
+    "TEXT-PLAIN",
+    "TEXT-DICTIONARY"
+  })
+  private String dataTypeAndEncoding;
+
+  private TSDataType dataType;
+  private TSEncoding encoding;
+
+  private boolean[] booleans;
+  private int[] ints;
+  private long[] longs;
+  private float[] floats;
+  private double[] doubles;
+  private Binary[] binaries;
+
+  private PublicBAOS outputStream;
+  private byte[] encoded;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    String[] split = dataTypeAndEncoding.split("-");
+    dataType = TSDataType.valueOf(split[0]);
+    encoding = TSEncoding.valueOf(split[1]);
+    generateData();
+
+    outputStream = new PublicBAOS();
+    encode();
+    encoded = outputStream.toByteArray();
+  }
+
+  /** Values follow a random walk, which is the typical shape of sensor data. */
+  private void generateData() {
+    Random random = new Random(0);
+    booleans = new boolean[POINT_NUM];
+    ints = new int[POINT_NUM];
+    longs = new long[POINT_NUM];
+    floats = new float[POINT_NUM];
+    doubles = new double[POINT_NUM];
+    binaries = new Binary[POINT_NUM];
+    long current = 1_000;
+    for (int i = 0; i < POINT_NUM; i++) {
+      current += random.nextInt(21) - 10;
+      booleans[i] = random.nextInt(10) == 0;
+      ints[i] = (int) current;
+      longs[i] = current;
+      floats[i] = current / 100f;
+      doubles[i] = current / 100d;
+      binaries[i] = new Binary("status_" + random.nextInt(16));
+    }
+  }
+
+  private void encode() throws IOException {
+    outputStream.reset();
+    Encoder encoder = TSEncodingBuilder.getEncodingBuilder(encoding).getEncoder(dataType);
+    switch (dataType) {
+      case BOOLEAN:
+        for (boolean value : booleans) {
+          encoder.encode(value, outputStream);
+        }
+        break;
+      case INT32:
+        for (int value : ints) {
+          encoder.encode(value, outputStream);
+        }
+        break;
+      case INT64:
+        for (long value : longs) {
+          encoder.encode(value, outputStream);
+        }
+        break;
+      case FLOAT:
+        for (float value : floats) {
+          encoder.encode(value, outputStream);
+        }
+        break;
+      case DOUBLE:
+        for (double value : doubles) {
+          encoder.encode(value, outputStream);
+        }
+        break;
+      case TEXT:
+        for (Binary value : binaries) {
+          encoder.encode(value, outputStream);
+        }
+        break;
+      default:
+        throw new UnsupportedOperationException(dataType.toString());
+    }
+    encoder.flush(outputStream);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(POINT_NUM)
+  public int encodePage() throws IOException {
+    encode();
+    return outputStream.size();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(POINT_NUM)
+  public void decodePage(Blackhole blackhole) throws IOException {
+    Decoder decoder = Decoder.getDecoderByType(encoding, dataType);
+    ByteBuffer buffer = ByteBuffer.wrap(encoded);
+    switch (dataType) {
+      case BOOLEAN:
+        while (decoder.hasNext(buffer)) {
+          blackhole.consume(decoder.readBoolean(buffer));
+        }
+        break;
+      case INT32:
+        while (decoder.hasNext(buffer)) {
+          blackhole.consume(decoder.readInt(buffer));
+        }
+        break;
+      case INT64:
+        while (decoder.hasNext(buffer)) {
+          blackhole.consume(decoder.readLong(buffer));
+        }
+        break;
+      case FLOAT:
+        while (decoder.hasNext(buffer)) {
+          blackhole.consume(decoder.readFloat(buffer));
+        }
+        break;
+      case DOUBLE:
+        while (decoder.hasNext(buffer)) {
+          blackhole.consume(decoder.readDouble(buffer));
+        }
+        break;
+      case TEXT:
+        while (decoder.hasNext(buffer)) {
+          blackhole.consume(decoder.readBinary(buffer));
+        }
+        break;
+      default:
+        throw new UnsupportedOperationException(dataType.toString());
+    }
+  }
+}
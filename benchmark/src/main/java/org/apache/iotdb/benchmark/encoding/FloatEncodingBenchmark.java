@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.benchmark.encoding;
+
+import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.encoding.encoder.TSEncodingBuilder;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the floating-point encodings GORILLA, CHIMP and ELF on synthetic sensor data. Besides
+ * the number of values encoded or decoded per second, the encode benchmark reports the size of the
+ * encoded page as the {@code bitsPerValue} counter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FloatEncodingBenchmark {
+
+  private static final int POINT_NUM = 10_000;
+
+  @Param({"GORILLA", "CHIMP", "ELF"})
+  private TSEncoding encoding;
+
+  @Param({"FLOAT", "DOUBLE"})
+  private TSDataType dataType;
+
+  /**
+   * Shape of the values:
+   *
+   * <ul>
+   *   <li>TEMPERATURE: slow random walk with 1 decimal place
+   *   <li>VOLTAGE: noise around a constant with 3 decimal places
+   *   <li>COUNTER_RATE: steps of different magnitudes with 2 decimal places
+   *   <li>RANDOM: full precision values in [0, 1000)
+   * </ul>
+   */
+  @Param({"TEMPERATURE", "VOLTAGE", "COUNTER_RATE", "RANDOM"})
+  private String dataset;
+
+  private float[] floats;
+  private double[] doubles;
+
+  private PublicBAOS outputStream;
+  private byte[] encoded;
+
+  /** size of the encoded page, reported next to the throughput. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class EncodedSize {
+
+    public double bitsPerValue;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    generateData();
+    outputStream = new PublicBAOS();
+    encode();
+    encoded = outputStream.toByteArray();
+  }
+
+  private void generateData() {
+    Random random = new Random(0);
+    doubles = new double[POINT_NUM];
+    floats = new float[POINT_NUM];
+    double current = 20;
+    for (int i = 0; i < POINT_NUM; i++) {
+      switch (dataset) {
+        case "TEMPERATURE":
+          current += (random.nextInt(3) - 1) / 10d;
+          doubles[i] = Math.round(current * 10) / 10d;
+          break;
+        case "VOLTAGE":
+          doubles[i] = Math.round((220 + random.nextGaussian()) * 1000) / 1000d;
+          break;
+        case "COUNTER_RATE":
+          doubles[i] = Math.round(random.nextDouble() * Math.pow(10, random.nextInt(6))) / 100d;
+          break;
+        case "RANDOM":
+          doubles[i] = random.nextDouble() * 1000;
+          break;
+        default:
+          throw new IllegalArgumentException(dataset);
+      }
+      floats[i] = (float) doubles[i];
+    }
+  }
+
+  private void encode() throws IOException {
+    outputStream.reset();
+    Encoder encoder = TSEncodingBuilder.getEncodingBuilder(encoding).getEncoder(dataType);
+    if (dataType == TSDataType.FLOAT) {
+      for (float value : floats) {
+        encoder.encode(value, outputStream);
+      }
+    } else {
+      for (double value : doubles) {
+        encoder.encode(value, outputStream);
+      }
+    }
+    encoder.flush(outputStream);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(POINT_NUM)
+  public void encodePage(EncodedSize size) throws IOException {
+    encode();
+    size.bitsPerValue = (double) outputStream.size() * Byte.SIZE / POINT_NUM;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(POINT_NUM)
+  public void decodePage(Blackhole blackhole) throws IOException {
+    Decoder decoder = Decoder.getDecoderByType(encoding, dataType);
+    ByteBuffer buffer = ByteBuffer.wrap(encoded);
+    if (dataType == TSDataType.FLOAT) {
+      while (decoder.hasNext(buffer)) {
+        blackhole.consume(decoder.readFloat(buffer));
+      }
+    } else {
+      while (decoder.hasNext(buffer)) {
+        blackhole.consume(decoder.readDouble(buffer));
+      }
+    }
+  }
+}
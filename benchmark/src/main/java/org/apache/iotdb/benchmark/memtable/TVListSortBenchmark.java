@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.benchmark.memtable;
+
+import org.apache.iotdb.db.utils.datastructure.TVList;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** Latency of {@link TVList#sort()}, which is called on every working TVList before a flush. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TVListSortBenchmark {
+
+  @Param({"INT32", "INT64", "DOUBLE"})
+  private TSDataType dataType;
+
+  @Param({"100000"})
+  private int size;
+
+  /**
+   * IN_ORDER: strictly increasing timestamps. OUT_OF_ORDER: increasing timestamps with 10% of the
+   * points delayed. REVERSE: strictly decreasing timestamps.
+   */
+  @Param({"IN_ORDER", "OUT_OF_ORDER", "REVERSE"})
+  private String order;
+
+  private long[] timestamps;
+
+  private TVList list;
+
+  @Setup(Level.Trial)
+  public void generateTimestamps() {
+    Random random = new Random(0);
+    timestamps = new long[size];
+    for (int i = 0; i < size; i++) {
+      switch (order) {
+        case "IN_ORDER":
+          timestamps[i] = i;
+          break;
+        case "OUT_OF_ORDER":
+          timestamps[i] = random.nextInt(10) == 0 ? i - random.nextInt(1000) : i;
+          break;
+        case "REVERSE":
+          timestamps[i] = size - i;
+          break;
+        default:
+          throw new IllegalArgumentException(order);
+      }
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void fillList() {
+    list = TVList.newList(dataType);
+    for (int i = 0; i < size; i++) {
+      switch (dataType) {
+        case INT32:
+          list.putInt(timestamps[i], i);
+          break;
+        case INT64:
+          list.putLong(timestamps[i], i);
+          break;
+        case DOUBLE:
+          list.putDouble(timestamps[i], i);
+          break;
+        default:
+          throw new IllegalArgumentException(dataType.toString());
+      }
+    }
+  }
+
+  @TearDown(Level.Invocation)
+  public void releaseList() {
+    list.clear();
+  }
+
+  @Benchmark
+  public TVList sort() {
+    list.sort();
+    return list;
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.benchmark.mpp;
+
+import org.apache.iotdb.db.mpp.transformation.dag.column.ColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.binary.ArithmeticAdditionColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.binary.ArithmeticMultiplicationColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.binary.CompareGreaterThanColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.leaf.ConstantColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.leaf.IdentityColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.leaf.LeafColumnTransformer;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.block.TsBlock;
+import org.apache.iotdb.tsfile.read.common.block.column.Column;
+import org.apache.iotdb.tsfile.read.common.block.column.DoubleColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.IntColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.LongColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.TimeColumn;
+import org.apache.iotdb.tsfile.read.common.type.Type;
+import org.apache.iotdb.tsfile.read.common.type.TypeFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** Latency of evaluating the filter {@code s1 * 2 + s2 > 100} over one TsBlock. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnTransformerBenchmark {
+
+  @Param({"1000", "10000"})
+  private int positionCount;
+
+  /** percentage of null values in s1 */
+  @Param({"0", "20"})
+  private int nullPercentage;
+
+  private TsBlock tsBlock;
+  private List<LeafColumnTransformer> leaves;
+  private ColumnTransformer filter;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(0);
+    long[] times = new long[positionCount];
+    int[] s1 = new int[positionCount];
+    boolean[] s1IsNull = new boolean[positionCount];
+    long[] s2 = new long[positionCount];
+    for (int i = 0; i < positionCount; i++) {
+      times[i] = i;
+      s1[i] = random.nextInt(100);
+      s1IsNull[i] = random.nextInt(100) < nullPercentage;
+      s2[i] = random.nextInt(100);
+    }
+    tsBlock =
+        new TsBlock(
+            new TimeColumn(positionCount, times),
+            new IntColumn(positionCount, Optional.of(s1IsNull), s1),
+            new LongColumn(positionCount, Optional.empty(), s2));
+
+    Type doubleType = TypeFactory.getType(TSDataType.DOUBLE);
+    LeafColumnTransformer s1Leaf =
+        new IdentityColumnTransformer(TypeFactory.getType(TSDataType.INT32), 0);
+    LeafColumnTransformer s2Leaf =
+        new IdentityColumnTransformer(TypeFactory.getType(TSDataType.INT64), 1);
+    LeafColumnTransformer two =
+        new ConstantColumnTransformer(
+            doubleType, new DoubleColumn(1, Optional.of(new boolean[] {false}), new double[] {2}));
+    LeafColumnTransformer hundred =
+        new ConstantColumnTransformer(
+            doubleType,
+            new DoubleColumn(1, Optional.of(new boolean[] {false}), new double[] {100}));
+    ColumnTransformer multiplication =
+        new ArithmeticMultiplicationColumnTransformer(doubleType, s1Leaf, two);
+    ColumnTransformer addition =
+        new ArithmeticAdditionColumnTransformer(doubleType, multiplication, s2Leaf);
+    filter =
+        new CompareGreaterThanColumnTransformer(
+            TypeFactory.getType(TSDataType.BOOLEAN), addition, hundred);
+    leaves = Arrays.asList(s1Leaf, s2Leaf, two, hundred);
+    // every transformer is read once, as ColumnTransformerVisitor counts it
+    for (ColumnTransformer transformer : leaves) {
+      transformer.addReferenceCount();
+    }
+    multiplication.addReferenceCount();
+    addition.addReferenceCount();
+    filter.addReferenceCount();
+  }
+
+  @Benchmark
+  public Column filter() {
+    for (LeafColumnTransformer leaf : leaves) {
+      leaf.initFromTsBlock(tsBlock);
+    }
+    filter.tryEvaluate();
+    return filter.getColumn();
+  }
+}
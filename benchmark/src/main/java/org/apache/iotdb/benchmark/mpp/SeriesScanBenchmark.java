@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.benchmark.mpp;
+
+import org.apache.iotdb.commons.concurrent.IoTDBThreadPoolFactory;
+import org.apache.iotdb.commons.exception.IllegalPathException;
+import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResourceStatus;
+import org.apache.iotdb.db.metadata.path.MeasurementPath;
+import org.apache.iotdb.db.mpp.common.FragmentInstanceId;
+import org.apache.iotdb.db.mpp.common.PlanFragmentId;
+import org.apache.iotdb.db.mpp.common.QueryId;
+import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceContext;
+import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceStateMachine;
+import org.apache.iotdb.db.mpp.execution.operator.Operator;
+import org.apache.iotdb.db.mpp.execution.operator.OperatorContext;
+import org.apache.iotdb.db.mpp.execution.operator.process.join.TimeJoinOperator;
+import org.apache.iotdb.db.mpp.execution.operator.process.join.merge.AscTimeComparator;
+import org.apache.iotdb.db.mpp.execution.operator.process.join.merge.ColumnMerger;
+import org.apache.iotdb.db.mpp.execution.operator.process.join.merge.SingleColumnMerger;
+import org.apache.iotdb.db.mpp.execution.operator.source.SeriesScanOperator;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNodeId;
+import org.apache.iotdb.db.mpp.plan.planner.plan.parameter.InputLocation;
+import org.apache.iotdb.db.mpp.plan.statement.component.Ordering;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.common.block.TsBlock;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.datapoint.IntDataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceContext.createFragmentInstanceContext;
+
+/**
+ * Latency of scanning synthetic sequence TsFiles with {@link SeriesScanOperator} and of joining
+ * several scans with {@link TimeJoinOperator}. The files are generated once per trial, so after
+ * warm up the chunk and metadata caches are hot and the scores reflect CPU cost only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+// the caches size their entries through reflection, see datanode-env.sh
+@Fork(
+    value = 1,
+    jvmArgsAppend = {
+      "--add-opens=java.base/java.util=ALL-UNNAMED",
+      "--add-opens=java.base/java.lang=ALL-UNNAMED"
+    })
+public class SeriesScanBenchmark {
+
+  private static final String DEVICE = "root.benchmark.d0";
+
+  @Param({"10"})
+  private int fileNum;
+
+  @Param({"100000"})
+  private int pointNumPerFile;
+
+  /** number of series joined by TimeJoinOperator */
+  @Param({"2", "8"})
+  private int seriesNum;
+
+  private File dataDirectory;
+  private final List<TsFileResource> seqResources = new ArrayList<>();
+  private ExecutorService instanceNotificationExecutor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, WriteProcessException {
+    dataDirectory = Files.createTempDirectory("scan-benchmark").toFile();
+    for (int i = 0; i < fileNum; i++) {
+      File file = new File(dataDirectory, String.format("%d-%d-0-0.tsfile", i, i));
+      TsFileResource resource = new TsFileResource(file);
+      resource.setStatus(TsFileResourceStatus.CLOSED);
+      resource.setVersion(i);
+      writeFile(resource, (long) i * pointNumPerFile);
+      seqResources.add(resource);
+    }
+    instanceNotificationExecutor =
+        IoTDBThreadPoolFactory.newFixedThreadPool(1, "benchmark-instance-notification");
+  }
+
+  private void writeFile(TsFileResource resource, long startTime)
+      throws IOException, WriteProcessException {
+    try (TsFileWriter writer = new TsFileWriter(resource.getTsFile())) {
+      for (int i = 0; i < seriesNum; i++) {
+        writer.registerTimeseries(
+            new Path(DEVICE),
+            new MeasurementSchema(
+                "s" + i, TSDataType.INT32, TSEncoding.RLE, CompressionType.SNAPPY));
+      }
+      for (long time = startTime; time < startTime + pointNumPerFile; time++) {
+        TSRecord record = new TSRecord(time, DEVICE);
+        for (int i = 0; i < seriesNum; i++) {
+          record.addTuple(new IntDataPoint("s" + i, (int) (time % 1000)));
+        }
+        writer.write(record);
+      }
+    }
+    resource.updateStartTime(DEVICE, startTime);
+    resource.updateEndTime(DEVICE, startTime + pointNumPerFile - 1);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    instanceNotificationExecutor.shutdown();
+    FileUtils.deleteDirectory(dataDirectory);
+  }
+
+  @Benchmark
+  public void scanSingleSeries(Blackhole blackhole) throws IllegalPathException {
+    FragmentInstanceContext context = createContext();
+    Operator operator = createScanOperator(context, 0);
+    consume(operator, blackhole);
+  }
+
+  @Benchmark
+  public void timeJoin(Blackhole blackhole) throws IllegalPathException {
+    FragmentInstanceContext context = createContext();
+    List<Operator> children = new ArrayList<>();
+    List<TSDataType> dataTypes = new ArrayList<>();
+    List<ColumnMerger> mergers = new ArrayList<>();
+    for (int i = 0; i < seriesNum; i++) {
+      children.add(createScanOperator(context, i));
+      dataTypes.add(TSDataType.INT32);
+      mergers.add(new SingleColumnMerger(new InputLocation(i, 0), new AscTimeComparator()));
+    }
+    OperatorContext operatorContext =
+        context.addOperatorContext(
+            seriesNum, new PlanNodeId("join"), TimeJoinOperator.class.getSimpleName());
+    Operator operator =
+        new TimeJoinOperator(
+            operatorContext, children, Ordering.ASC, dataTypes, mergers, new AscTimeComparator());
+    consume(operator, blackhole);
+  }
+
+  private FragmentInstanceContext createContext() {
+    FragmentInstanceId instanceId =
+        new FragmentInstanceId(new PlanFragmentId(new QueryId("benchmark"), 0), "instance");
+    return createFragmentInstanceContext(
+        instanceId, new FragmentInstanceStateMachine(instanceId, instanceNotificationExecutor));
+  }
+
+  private Operator createScanOperator(FragmentInstanceContext context, int seriesIndex)
+      throws IllegalPathException {
+    String measurement = "s" + seriesIndex;
+    PlanNodeId planNodeId = new PlanNodeId(measurement);
+    OperatorContext operatorContext =
+        context.addOperatorContext(
+            seriesIndex, planNodeId, SeriesScanOperator.class.getSimpleName());
+    Set<String> allSensors = new HashSet<>();
+    for (int i = 0; i < seriesNum; i++) {
+      allSensors.add("s" + i);
+    }
+    SeriesScanOperator operator =
+        new SeriesScanOperator(
+            planNodeId,
+            new MeasurementPath(DEVICE + "." + measurement, TSDataType.INT32),
+            allSensors,
+            TSDataType.INT32,
+            operatorContext,
+            null,
+            null,
+            true);
+    operator.initQueryDataSource(new QueryDataSource(seqResources, Collections.emptyList()));
+    return operator;
+  }
+
+  private void consume(Operator operator, Blackhole blackhole) {
+    while (operator.hasNext()) {
+      TsBlock tsBlock = operator.next();
+      if (tsBlock != null) {
+        blackhole.consume(tsBlock.getPositionCount());
+      }
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.benchmark.wal;
+
+import org.apache.iotdb.commons.exception.IllegalPathException;
+import org.apache.iotdb.commons.path.PartialPath;
+import org.apache.iotdb.db.qp.physical.crud.InsertRowPlan;
+import org.apache.iotdb.db.wal.buffer.WALBuffer;
+import org.apache.iotdb.db.wal.buffer.WALEntry;
+import org.apache.iotdb.db.wal.buffer.WALInfoEntry;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput of {@link WALBuffer#write(WALEntry)} shared by several writer threads. The number of
+ * writers is set by JMH's {@code -t} option, e.g. {@code java -jar benchmarks.jar WALBuffer -t 8}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class WALBufferBenchmark {
+
+  /** whether a writer waits until its entry is synced to disk, like the SYNC wal mode does */
+  @Param({"false", "true"})
+  private boolean waitForSync;
+
+  private File logDirectory;
+  private WALBuffer walBuffer;
+
+  private final AtomicLong timestamp = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    logDirectory = Files.createTempDirectory("wal-benchmark").toFile();
+    walBuffer = new WALBuffer("benchmark", logDirectory.getAbsolutePath());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    walBuffer.close();
+    FileUtils.deleteDirectory(logDirectory);
+  }
+
+  @Benchmark
+  public void write() throws IllegalPathException {
+    WALEntry walEntry =
+        new WALInfoEntry(0, getInsertRowPlan(timestamp.incrementAndGet()), waitForSync);
+    walBuffer.write(walEntry);
+    if (waitForSync) {
+      walEntry.getWalFlushListener().waitForResult();
+    }
+  }
+
+  private InsertRowPlan getInsertRowPlan(long time) throws IllegalPathException {
+    return new InsertRowPlan(
+        new PartialPath("root.benchmark.d0"),
+        time,
+        new String[] {"s1", "s2", "s3", "s4", "s5", "s6"},
+        new TSDataType[] {
+          TSDataType.DOUBLE,
+          TSDataType.FLOAT,
+          TSDataType.INT64,
+          TSDataType.INT32,
+          TSDataType.BOOLEAN,
+          TSDataType.TEXT
+        },
+        new String[] {"1.0", "2", "10000", "100", "false", "hh0"});
+  }
+}
@@ -169,7 +169,9 @@ namespace TSEncoding {
         REGULAR = (char) 7,
         GORILLA = (char) 8,
         ZIGZAG = (char) 9,
-        FREQ = (char) 10
+        FREQ = (char) 10,
+        CHIMP = (char) 11,
+        ELF = (char) 12
     };
 }
 
@@ -18,6 +18,7 @@
  */
 package org.apache.iotdb.commons.concurrent;
 
+import org.apache.iotdb.commons.concurrent.threadpool.WrappedForkJoinPool;
 import org.apache.iotdb.commons.concurrent.threadpool.WrappedScheduledExecutorService;
 import org.apache.iotdb.commons.concurrent.threadpool.WrappedSingleThreadExecutorService;
 import org.apache.iotdb.commons.concurrent.threadpool.WrappedSingleThreadScheduledExecutor;
@@ -30,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.SynchronousQueue;
@@ -55,6 +57,8 @@ public class IoTDBThreadPoolFactory {
   private static final String NEW_SYNCHRONOUS_QUEUE_THREAD_POOL_LOGGER_FORMAT =
       "new SynchronousQueue thread pool: {}";
   private static final String NEW_THREAD_POOL_LOGGER_FORMAT = "new thread pool: {}";
+  private static final String NEW_FORK_JOIN_POOL_LOGGER_FORMAT =
+      "new fork join pool: {}, parallelism: {}";
 
   private IoTDBThreadPoolFactory() {}
 
@@ -225,6 +229,19 @@ public class IoTDBThreadPoolFactory {
         poolName);
   }
 
+  /**
+   * see {@link ForkJoinPool#ForkJoinPool(int)}, use it instead of {@link ForkJoinPool#commonPool()}
+   * so that the number of threads is bounded and the workers can be traced by name.
+   *
+   * @param parallelism the max number of threads running tasks concurrently.
+   * @param poolName the name of thread pool.
+   * @return fork join pool.
+   */
+  public static ForkJoinPool newForkJoinPool(int parallelism, String poolName) {
+    logger.info(NEW_FORK_JOIN_POOL_LOGGER_FORMAT, poolName, parallelism);
+    return new WrappedForkJoinPool(parallelism, poolName);
+  }
+
   public static ExecutorService newThreadPool(
       int corePoolSize,
       int maximumPoolSize,
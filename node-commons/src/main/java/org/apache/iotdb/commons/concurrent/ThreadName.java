@@ -37,6 +37,8 @@ public enum ThreadName {
   DATA_REGION_RECOVER_SERVICE("Data-Region-Recover"),
   FLUSH_SERVICE("Flush"),
   FLUSH_SUB_TASK_SERVICE("Flush-SubTask"),
+  FLUSH_ENCODING_SERVICE("Flush-Encoding"),
+  TVLIST_SORT_SERVICE("TVList-Sort"),
   COMPACTION_SERVICE("Compaction"),
   COMPACTION_SUB_SERVICE("Sub-Compaction"),
   COMPACTION_SCHEDULE("Compaction_Schedule"),
@@ -50,6 +52,7 @@ public enum ThreadName {
   TIME_COST_STATISTIC("TIME_COST_STATISTIC"),
   QUERY_SERVICE("Query"),
   SUB_RAW_QUERY_SERVICE("Sub_RawQuery"),
+  CHUNK_PREFETCH_SERVICE("Chunk-Prefetch"),
   INSERTION_SERVICE("MultithreadingInsertionPool"),
   WINDOW_EVALUATION_SERVICE("WindowEvaluationTaskPoolManager"),
   TTL_CHECK_SERVICE("TTL-CHECK"),
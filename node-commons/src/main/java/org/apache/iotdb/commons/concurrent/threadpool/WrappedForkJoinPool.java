@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.commons.concurrent.threadpool;
+
+import org.apache.iotdb.commons.concurrent.IoTDBDefaultThreadExceptionHandler;
+import org.apache.iotdb.commons.conf.IoTDBConstant;
+import org.apache.iotdb.commons.service.JMXService;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** A ForkJoinPool with named worker threads, registered to JMX like the other thread pools. */
+public class WrappedForkJoinPool extends ForkJoinPool implements WrappedForkJoinPoolMBean {
+  private final String mbeanName;
+
+  public WrappedForkJoinPool(int parallelism, String poolName) {
+    super(
+        parallelism,
+        new NamedWorkerThreadFactory(poolName),
+        new IoTDBDefaultThreadExceptionHandler(),
+        false);
+    this.mbeanName =
+        String.format(
+            "%s:%s=%s", IoTDBConstant.IOTDB_THREADPOOL_PACKAGE, IoTDBConstant.JMX_TYPE, poolName);
+    JMXService.registerMBean(this, this.mbeanName);
+  }
+
+  @Override
+  public void shutdown() {
+    super.shutdown();
+    JMXService.deregisterMBean(mbeanName);
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    JMXService.deregisterMBean(mbeanName);
+    return super.shutdownNow();
+  }
+
+  private static class NamedWorkerThreadFactory implements ForkJoinWorkerThreadFactory {
+    private static final AtomicInteger poolNumber = new AtomicInteger(1);
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+    private final String namePrefix;
+
+    private NamedWorkerThreadFactory(String poolName) {
+      // same name format as IoTThreadFactory: pool-number-IoTDB-poolName-threadnum
+      this.namePrefix = "pool-" + poolNumber.getAndIncrement() + "-IoTDB-" + poolName + "-";
+    }
+
+    @Override
+    public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+      ForkJoinWorkerThread thread =
+          ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName(namePrefix + threadNumber.getAndIncrement());
+      return thread;
+    }
+  }
+}
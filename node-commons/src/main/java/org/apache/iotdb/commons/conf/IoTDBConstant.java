@@ -232,6 +232,8 @@ public class IoTDBConstant {
 
   // cross space compaction
   public static final String CROSS_COMPACTION_TMP_FILE_SUFFIX = ".cross";
+  // temporary file of a device range in cross space compaction, named after its tmp target file
+  public static final String CROSS_COMPACTION_RANGE_FILE_SUFFIX = ".range";
 
   // cross space compaction of previous version (<0.13)
   public static final String CROSS_COMPACTION_TMP_FILE_SUFFIX_FROM_OLD = ".merge";
@@ -30,6 +30,7 @@ import org.apache.iotdb.db.engine.compaction.constant.InnerSeqCompactionPerforme
 import org.apache.iotdb.db.engine.compaction.constant.InnerSequenceCompactionSelector;
 import org.apache.iotdb.db.engine.compaction.constant.InnerUnseqCompactionPerformer;
 import org.apache.iotdb.db.engine.compaction.constant.InnerUnsequenceCompactionSelector;
+import org.apache.iotdb.db.engine.flush.EncodingSelectionPolicy;
 import org.apache.iotdb.db.engine.storagegroup.timeindex.TimeIndexLevel;
 import org.apache.iotdb.db.exception.LoadConfigurationException;
 import org.apache.iotdb.db.metadata.LocalSchemaProcessor;
@@ -179,6 +180,12 @@ public class IoTDBConfig {
   /** Duration a wal flush operation will wait before calling fsync. Unit: millisecond */
   private volatile long fsyncWalDelayInMs = 3;
 
+  /**
+   * Whether to size wal fsync batches adaptively by queue depth and recent fsync cost. When
+   * enabled, fsyncWalDelayInMs is only the upper bound of the time to wait for a batch.
+   */
+  private volatile boolean enableWalGroupCommit = false;
+
   /** Buffer size of each wal node. Unit: byte */
   private int walBufferSize = 16 * 1024 * 1024;
 
@@ -308,6 +315,12 @@ public class IoTDBConfig {
   /** How many threads can concurrently flush. When <= 0, use CPU core number. */
   private int concurrentFlushThread = Runtime.getRuntime().availableProcessors();
 
+  /**
+   * How many threads encode the series of flushing memtables, shared by all flushes. 1 encodes the
+   * series of each memtable in the flush task itself. When <= 0, use CPU core number.
+   */
+  private int flushEncodingThreadCount = 1;
+
   /** How many threads can concurrently execute query statement. When <= 0, use CPU core number. */
   private int concurrentQueryThread = Runtime.getRuntime().availableProcessors();
 
@@ -395,8 +408,8 @@ public class IoTDBConfig {
   private boolean enableCrossSpaceCompaction = true;
 
   /**
-   * The strategy of inner space compaction task. There are just one inner space compaction strategy
-   * SIZE_TIRED_COMPACTION:
+   * The strategy of inner space compaction task. There are two inner sequence space compaction
+   * strategies SIZE_TIERED and LEVELED
    */
   private InnerSequenceCompactionSelector innerSequenceCompactionSelector =
       InnerSequenceCompactionSelector.SIZE_TIERED;
@@ -411,8 +424,8 @@ public class IoTDBConfig {
       InnerUnseqCompactionPerformer.READ_POINT;
 
   /**
-   * The strategy of cross space compaction task. There are just one cross space compaction strategy
-   * SIZE_TIRED_COMPACTION:
+   * The strategy of cross space compaction task. There are two cross space compaction strategies
+   * REWRITE and LEVELED
    */
   private CrossCompactionSelector crossCompactionSelector = CrossCompactionSelector.REWRITE;
 
@@ -459,6 +472,18 @@ public class IoTDBConfig {
   /** The max candidate file num in cross space compaction */
   private int maxCrossCompactionCandidateFileNum = 1000;
 
+  /**
+   * The size ratio between the target file sizes of adjacent levels in leveled compaction. It also
+   * bounds how many times a file is rewritten before being promoted to the next level.
+   */
+  private int leveledCompactionSizeRatio = 10;
+
+  /**
+   * The number of levels above level 0 in leveled compaction, the highest level has the target
+   * file size of targetCompactionFileSize
+   */
+  private int leveledCompactionMaxLevel = 4;
+
   /** The interval of compaction task schedulation in each virtual storage group. The unit is ms. */
   private long compactionScheduleIntervalInMs = 60_000L;
 
@@ -467,13 +492,61 @@ public class IoTDBConfig {
 
   /**
    * The number of sub compaction threads to be set up to perform compaction. Currently only works
-   * for nonAligned data in cross space compaction and unseq inner space compaction.
+   * for cross space compaction and unseq inner space compaction, and only for nonAligned data
+   * unless cross space compaction is split by device range.
    */
   private int subCompactionTaskNum = 4;
 
+  /**
+   * Cross space compaction is split into device ranges compacted by sub compaction threads in
+   * parallel if each range has at least this number of devices. Otherwise, the measurements of each
+   * device are compacted in parallel. 0 means never splitting by device range.
+   */
+  private int minDeviceNumPerSubCompactionRange = 16;
+
   /** whether to cache meta data(ChunkMetaData and TsFileMetaData) or not. */
   private boolean metaDataCacheEnable = true;
 
+  /**
+   * whether to read sealed TsFiles through memory-mapped windows instead of positional reads. The
+   * windows of a file are unmapped when its reader is closed, e.g., when the file is deleted and no
+   * query uses it.
+   */
+  private boolean enableMmapRead = false;
+
+  /** Size of each memory-mapped window of a sealed TsFile, in byte */
+  private int mmapReadWindowSizeInByte = 64 * 1024 * 1024;
+
+  /** Max total size of memory-mapped windows of all sealed TsFiles, in byte */
+  private long maxMmapReadSizeInByte = 8L * 1024 * 1024 * 1024;
+
+  /**
+   * Max number of opened readers of closed TsFiles. Readers no longer referenced by any query are
+   * kept open for later queries and evicted in LRU order beyond this number.
+   */
+  private int maxOpenedFileReaderNum = 1000;
+
+  /**
+   * Proportion of the chunk cache reserved as a probationary segment for chunks read by large range
+   * scans, so that scans cannot flush out the hot chunks. 0 means such chunks are not cached.
+   */
+  private double chunkCacheScanProportion = 0.1;
+
+  /**
+   * A query reading at least this number of TsFiles in a fragment instance is regarded as a large
+   * range scan by the chunk cache.
+   */
+  private int chunkCacheScanFileThreshold = 16;
+
+  /**
+   * Max number of chunks a raw data scan of a series loads into the chunk cache asynchronously
+   * ahead of reading them. 0 means chunks are only read when they are needed.
+   */
+  private int chunkPrefetchDepth = 0;
+
+  /** Number of threads loading prefetched chunks */
+  private int chunkPrefetchThreadCount = 4;
+
   /** Memory allocated for bloomFilter cache in read process */
   private long allocateMemoryForBloomFilterCache = allocateMemoryForRead / 1001;
 
@@ -622,6 +695,21 @@ public class IoTDBConfig {
   /** TEXT encoding when creating schema automatically is enabled */
   private TSEncoding defaultTextEncoding = TSEncoding.PLAIN;
 
+  /**
+   * How the encoding of a series created with the default encoding of its data type is chosen when
+   * the series is flushed. NONE keeps the default encoding.
+   */
+  private EncodingSelectionPolicy encodingSelectionPolicy = EncodingSelectionPolicy.NONE;
+
+  /** Databases whose series may have their encodings chosen when flushed, none by default */
+  private String[] encodingSelectionDatabases = {};
+
+  /** Max number of points of a flushed series trial-encoded to choose its encoding */
+  private int encodingSelectionSampleSize = 1024;
+
+  /** Max number of points trial-encoded to choose encodings in one memtable flush */
+  private long encodingSelectionPointsPerFlush = 1024 * 1024;
+
   /** How much memory (in byte) can be used by a single merge task. */
   private long crossCompactionMemoryBudget = (long) (Runtime.getRuntime().maxMemory() * 0.1);
 
@@ -647,6 +735,36 @@ public class IoTDBConfig {
   /** The limit of compaction merge can reach per second */
   private int compactionWriteThroughputMbPerSec = 16;
 
+  /**
+   * The limit of bytes compaction reads from disk per second, in MB. Chunks already in the chunk
+   * cache are not counted. 0 means no limit.
+   */
+  private int compactionReadThroughputMbPerSec = 0;
+
+  /**
+   * Hours of the day (in the local time zone) during which compaction is slowed down to leave
+   * resources to queries, indexed by hour.
+   */
+  private boolean[] compactionBusyHours = new boolean[24];
+
+  /**
+   * Ratio applied to the compaction throughput limits and to the number of running compaction
+   * tasks during compactionBusyHours.
+   */
+  private double compactionBusyHoursRatio = 0.5;
+
+  /**
+   * Whether to halve the number of running compaction tasks while queries wait for execution
+   * threads, unless there are more waiting compaction tasks than compaction threads.
+   */
+  private boolean enableAdaptiveCompactionThread = false;
+
+  /**
+   * Max number of waiting and running compaction tasks of one data region, so that one region
+   * cannot occupy all compaction threads. 0 means no limit.
+   */
+  private int maxCompactionTaskNumPerRegion = 0;
+
   /**
    * How many thread will be set up to perform compaction, 10 by default. Set to 1 when less than or
    * equal to 0.
@@ -741,6 +859,46 @@ public class IoTDBConfig {
   /** The default value of primitive array size in array pool */
   private int primitiveArraySize = 32;
 
+  /**
+   * whether to store the time and value arrays of non-aligned numeric and boolean series in
+   * off-heap slabs instead of the primitive array pool
+   */
+  private boolean enableOffHeapMemTable = false;
+
+  /**
+   * Min number of rows sorted by one fork-join task when sorting a TVList. TVLists with at least
+   * twice this number of rows are sorted in parallel. Non-positive value disables parallel sorting.
+   */
+  private int tvListParallelSortThreshold = 16384;
+
+  /**
+   * How many threads sort TVLists in parallel, shared by all flushes and queries. When <= 0, use
+   * CPU core number.
+   */
+  private int tvListSortThreadCount = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * Bucket sizes of the pre-aggregated rollup tiers written beside each sealed sequence TsFile, in
+   * the unit of timestamp precision and sorted from the coarsest to the finest. Empty array means
+   * no rollup is written.
+   */
+  private long[] rollupIntervals = new long[0];
+
+  /**
+   * Whether to write a metadata index file beside each sealed TsFile and use it to look up
+   * TimeseriesMetadata without reading the TsFileMetadata and walking the MetadataIndexNodes.
+   */
+  private boolean enableMetadataIndexFile = false;
+
+  /**
+   * Max number of metadata index files kept mapped, each of which takes one entry of the
+   * vm.max_map_count of the process
+   */
+  private int metadataIndexCacheSize = 4096;
+
+  /** Max number of rollup files kept mapped for GROUP BY queries */
+  private int rollupFileCacheSize = 4096;
+
   /** whether enable data partition. If disabled, all data belongs to partition 0 */
   private boolean enablePartition = false;
 
@@ -1376,6 +1534,14 @@ public class IoTDBConfig {
     this.concurrentFlushThread = concurrentFlushThread;
   }
 
+  public int getFlushEncodingThreadCount() {
+    return flushEncodingThreadCount;
+  }
+
+  public void setFlushEncodingThreadCount(int flushEncodingThreadCount) {
+    this.flushEncodingThreadCount = flushEncodingThreadCount;
+  }
+
   public int getConcurrentQueryThread() {
     return concurrentQueryThread;
   }
@@ -1630,6 +1796,14 @@ public class IoTDBConfig {
     this.fsyncWalDelayInMs = fsyncWalDelayInMs;
   }
 
+  public boolean isEnableWalGroupCommit() {
+    return enableWalGroupCommit;
+  }
+
+  public void setEnableWalGroupCommit(boolean enableWalGroupCommit) {
+    this.enableWalGroupCommit = enableWalGroupCommit;
+  }
+
   public int getWalBufferSize() {
     return walBufferSize;
   }
@@ -1872,6 +2046,46 @@ public class IoTDBConfig {
     this.compactionWriteThroughputMbPerSec = compactionWriteThroughputMbPerSec;
   }
 
+  public int getCompactionReadThroughputMbPerSec() {
+    return compactionReadThroughputMbPerSec;
+  }
+
+  public void setCompactionReadThroughputMbPerSec(int compactionReadThroughputMbPerSec) {
+    this.compactionReadThroughputMbPerSec = compactionReadThroughputMbPerSec;
+  }
+
+  public boolean[] getCompactionBusyHours() {
+    return compactionBusyHours;
+  }
+
+  public void setCompactionBusyHours(boolean[] compactionBusyHours) {
+    this.compactionBusyHours = compactionBusyHours;
+  }
+
+  public double getCompactionBusyHoursRatio() {
+    return compactionBusyHoursRatio;
+  }
+
+  public void setCompactionBusyHoursRatio(double compactionBusyHoursRatio) {
+    this.compactionBusyHoursRatio = compactionBusyHoursRatio;
+  }
+
+  public boolean isEnableAdaptiveCompactionThread() {
+    return enableAdaptiveCompactionThread;
+  }
+
+  public void setEnableAdaptiveCompactionThread(boolean enableAdaptiveCompactionThread) {
+    this.enableAdaptiveCompactionThread = enableAdaptiveCompactionThread;
+  }
+
+  public int getMaxCompactionTaskNumPerRegion() {
+    return maxCompactionTaskNumPerRegion;
+  }
+
+  public void setMaxCompactionTaskNumPerRegion(int maxCompactionTaskNumPerRegion) {
+    this.maxCompactionTaskNumPerRegion = maxCompactionTaskNumPerRegion;
+  }
+
   public boolean isEnableMemControl() {
     return enableMemControl;
   }
@@ -2238,6 +2452,38 @@ public class IoTDBConfig {
     this.defaultTextEncoding = TSEncoding.valueOf(defaultTextEncoding);
   }
 
+  public EncodingSelectionPolicy getEncodingSelectionPolicy() {
+    return encodingSelectionPolicy;
+  }
+
+  public void setEncodingSelectionPolicy(EncodingSelectionPolicy encodingSelectionPolicy) {
+    this.encodingSelectionPolicy = encodingSelectionPolicy;
+  }
+
+  public String[] getEncodingSelectionDatabases() {
+    return encodingSelectionDatabases;
+  }
+
+  public void setEncodingSelectionDatabases(String[] encodingSelectionDatabases) {
+    this.encodingSelectionDatabases = encodingSelectionDatabases;
+  }
+
+  public int getEncodingSelectionSampleSize() {
+    return encodingSelectionSampleSize;
+  }
+
+  public void setEncodingSelectionSampleSize(int encodingSelectionSampleSize) {
+    this.encodingSelectionSampleSize = encodingSelectionSampleSize;
+  }
+
+  public long getEncodingSelectionPointsPerFlush() {
+    return encodingSelectionPointsPerFlush;
+  }
+
+  public void setEncodingSelectionPointsPerFlush(long encodingSelectionPointsPerFlush) {
+    this.encodingSelectionPointsPerFlush = encodingSelectionPointsPerFlush;
+  }
+
   FSType getTsFileStorageFs() {
     return tsFileStorageFs;
   }
@@ -2434,6 +2680,126 @@ public class IoTDBConfig {
     this.primitiveArraySize = primitiveArraySize;
   }
 
+  public boolean isEnableOffHeapMemTable() {
+    return enableOffHeapMemTable;
+  }
+
+  public void setEnableOffHeapMemTable(boolean enableOffHeapMemTable) {
+    this.enableOffHeapMemTable = enableOffHeapMemTable;
+  }
+
+  public int getTvListParallelSortThreshold() {
+    return tvListParallelSortThreshold;
+  }
+
+  public void setTvListParallelSortThreshold(int tvListParallelSortThreshold) {
+    this.tvListParallelSortThreshold = tvListParallelSortThreshold;
+  }
+
+  public int getTvListSortThreadCount() {
+    return tvListSortThreadCount;
+  }
+
+  public void setTvListSortThreadCount(int tvListSortThreadCount) {
+    this.tvListSortThreadCount = tvListSortThreadCount;
+  }
+
+  public long[] getRollupIntervals() {
+    return rollupIntervals;
+  }
+
+  public void setRollupIntervals(long[] rollupIntervals) {
+    this.rollupIntervals = rollupIntervals;
+  }
+
+  public boolean isEnableMetadataIndexFile() {
+    return enableMetadataIndexFile;
+  }
+
+  public void setEnableMetadataIndexFile(boolean enableMetadataIndexFile) {
+    this.enableMetadataIndexFile = enableMetadataIndexFile;
+  }
+
+  public int getMetadataIndexCacheSize() {
+    return metadataIndexCacheSize;
+  }
+
+  public void setMetadataIndexCacheSize(int metadataIndexCacheSize) {
+    this.metadataIndexCacheSize = metadataIndexCacheSize;
+  }
+
+  public int getRollupFileCacheSize() {
+    return rollupFileCacheSize;
+  }
+
+  public void setRollupFileCacheSize(int rollupFileCacheSize) {
+    this.rollupFileCacheSize = rollupFileCacheSize;
+  }
+
+  public double getChunkCacheScanProportion() {
+    return chunkCacheScanProportion;
+  }
+
+  public void setChunkCacheScanProportion(double chunkCacheScanProportion) {
+    this.chunkCacheScanProportion = chunkCacheScanProportion;
+  }
+
+  public int getChunkCacheScanFileThreshold() {
+    return chunkCacheScanFileThreshold;
+  }
+
+  public void setChunkCacheScanFileThreshold(int chunkCacheScanFileThreshold) {
+    this.chunkCacheScanFileThreshold = chunkCacheScanFileThreshold;
+  }
+
+  public int getChunkPrefetchDepth() {
+    return chunkPrefetchDepth;
+  }
+
+  public void setChunkPrefetchDepth(int chunkPrefetchDepth) {
+    this.chunkPrefetchDepth = chunkPrefetchDepth;
+  }
+
+  public int getChunkPrefetchThreadCount() {
+    return chunkPrefetchThreadCount;
+  }
+
+  public void setChunkPrefetchThreadCount(int chunkPrefetchThreadCount) {
+    this.chunkPrefetchThreadCount = chunkPrefetchThreadCount;
+  }
+
+  public int getMaxOpenedFileReaderNum() {
+    return maxOpenedFileReaderNum;
+  }
+
+  public void setMaxOpenedFileReaderNum(int maxOpenedFileReaderNum) {
+    this.maxOpenedFileReaderNum = maxOpenedFileReaderNum;
+  }
+
+  public boolean isEnableMmapRead() {
+    return enableMmapRead;
+  }
+
+  public void setEnableMmapRead(boolean enableMmapRead) {
+    this.enableMmapRead = enableMmapRead;
+  }
+
+  public int getMmapReadWindowSizeInByte() {
+    return mmapReadWindowSizeInByte;
+  }
+
+  public void setMmapReadWindowSizeInByte(int mmapReadWindowSizeInByte) {
+    this.mmapReadWindowSizeInByte = mmapReadWindowSizeInByte;
+  }
+
+  public long getMaxMmapReadSizeInByte() {
+    return maxMmapReadSizeInByte;
+  }
+
+  public void setMaxMmapReadSizeInByte(long maxMmapReadSizeInByte) {
+    this.maxMmapReadSizeInByte = maxMmapReadSizeInByte;
+  }
+
   public long getStartUpNanosecond() {
     return startUpNanosecond;
   }
@@ -2757,6 +3123,22 @@ public class IoTDBConfig {
     this.maxCrossCompactionCandidateFileNum = maxCrossCompactionCandidateFileNum;
   }
 
+  public int getLeveledCompactionSizeRatio() {
+    return leveledCompactionSizeRatio;
+  }
+
+  public void setLeveledCompactionSizeRatio(int leveledCompactionSizeRatio) {
+    this.leveledCompactionSizeRatio = leveledCompactionSizeRatio;
+  }
+
+  public int getLeveledCompactionMaxLevel() {
+    return leveledCompactionMaxLevel;
+  }
+
+  public void setLeveledCompactionMaxLevel(int leveledCompactionMaxLevel) {
+    this.leveledCompactionMaxLevel = leveledCompactionMaxLevel;
+  }
+
   public long getCompactionSubmissionIntervalInMs() {
     return compactionSubmissionIntervalInMs;
   }
@@ -2773,6 +3155,14 @@ public class IoTDBConfig {
     this.subCompactionTaskNum = subCompactionTaskNum;
   }
 
+  public int getMinDeviceNumPerSubCompactionRange() {
+    return minDeviceNumPerSubCompactionRange;
+  }
+
+  public void setMinDeviceNumPerSubCompactionRange(int minDeviceNumPerSubCompactionRange) {
+    this.minDeviceNumPerSubCompactionRange = minDeviceNumPerSubCompactionRange;
+  }
+
   public String getDeviceIDTransformationMethod() {
     return deviceIDTransformationMethod;
   }
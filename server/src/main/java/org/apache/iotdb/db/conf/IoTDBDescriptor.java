@@ -33,6 +33,7 @@ import org.apache.iotdb.db.engine.compaction.constant.InnerSeqCompactionPerforme
 import org.apache.iotdb.db.engine.compaction.constant.InnerSequenceCompactionSelector;
 import org.apache.iotdb.db.engine.compaction.constant.InnerUnseqCompactionPerformer;
 import org.apache.iotdb.db.engine.compaction.constant.InnerUnsequenceCompactionSelector;
+import org.apache.iotdb.db.engine.flush.EncodingSelectionPolicy;
 import org.apache.iotdb.db.exception.BadNodeUrlFormatException;
 import org.apache.iotdb.db.exception.query.QueryProcessException;
 import org.apache.iotdb.db.qp.utils.DatetimeUtils;
@@ -63,6 +64,7 @@ import java.net.URL;
 import java.net.UnknownHostException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Properties;
 
 public class IoTDBDescriptor {
@@ -468,6 +470,11 @@ public class IoTDBDescriptor {
                 "sub_compaction_thread_num", Integer.toString(conf.getSubCompactionTaskNum())));
     subtaskNum = subtaskNum <= 0 ? 1 : subtaskNum;
     conf.setSubCompactionTaskNum(subtaskNum);
+    conf.setMinDeviceNumPerSubCompactionRange(
+        Integer.parseInt(
+            properties.getProperty(
+                "min_device_num_per_sub_compaction_range",
+                Integer.toString(conf.getMinDeviceNumPerSubCompactionRange()))));
 
     conf.setQueryTimeoutThreshold(
         Long.parseLong(
@@ -497,6 +504,16 @@ public class IoTDBDescriptor {
       conf.setConcurrentFlushThread(Runtime.getRuntime().availableProcessors());
     }
 
+    conf.setFlushEncodingThreadCount(
+        Integer.parseInt(
+            properties.getProperty(
+                "flush_encoding_thread_count",
+                Integer.toString(conf.getFlushEncodingThreadCount()))));
+
+    if (conf.getFlushEncodingThreadCount() <= 0) {
+      conf.setFlushEncodingThreadCount(Runtime.getRuntime().availableProcessors());
+    }
+
     // start: index parameter setting
     conf.setIndexRootFolder(properties.getProperty("index_root_dir", conf.getIndexRootFolder()));
 
@@ -639,6 +656,16 @@ public class IoTDBDescriptor {
             properties.getProperty(
                 "max_cross_compaction_candidate_file_num",
                 Integer.toString(conf.getMaxCrossCompactionCandidateFileNum()))));
+    conf.setLeveledCompactionSizeRatio(
+        Integer.parseInt(
+            properties.getProperty(
+                "leveled_compaction_size_ratio",
+                Integer.toString(conf.getLeveledCompactionSizeRatio()))));
+    conf.setLeveledCompactionMaxLevel(
+        Integer.parseInt(
+            properties.getProperty(
+                "leveled_compaction_max_level",
+                Integer.toString(conf.getLeveledCompactionMaxLevel()))));
 
     conf.setCompactionWriteThroughputMbPerSec(
         Integer.parseInt(
@@ -646,6 +673,35 @@ public class IoTDBDescriptor {
                 "compaction_write_throughput_mb_per_sec",
                 Integer.toString(conf.getCompactionWriteThroughputMbPerSec()))));
 
+    conf.setCompactionReadThroughputMbPerSec(
+        Integer.parseInt(
+            properties.getProperty(
+                "compaction_read_throughput_mb_per_sec",
+                Integer.toString(conf.getCompactionReadThroughputMbPerSec()))));
+
+    String compactionBusyHours = properties.getProperty("compaction_busy_hours");
+    if (compactionBusyHours != null) {
+      conf.setCompactionBusyHours(parseHourRanges(compactionBusyHours));
+    }
+
+    conf.setCompactionBusyHoursRatio(
+        Double.parseDouble(
+            properties.getProperty(
+                "compaction_busy_hours_ratio",
+                Double.toString(conf.getCompactionBusyHoursRatio()))));
+
+    conf.setEnableAdaptiveCompactionThread(
+        Boolean.parseBoolean(
+            properties.getProperty(
+                "enable_adaptive_compaction_thread",
+                Boolean.toString(conf.isEnableAdaptiveCompactionThread()))));
+
+    conf.setMaxCompactionTaskNumPerRegion(
+        Integer.parseInt(
+            properties.getProperty(
+                "max_compaction_task_num_per_region",
+                Integer.toString(conf.getMaxCompactionTaskNumPerRegion()))));
+
     conf.setEnablePartialInsert(
         Boolean.parseBoolean(
             properties.getProperty(
@@ -756,6 +812,87 @@ public class IoTDBDescriptor {
             properties.getProperty(
                 "primitive_array_size", String.valueOf(conf.getPrimitiveArraySize())))));
 
+    conf.setEnableOffHeapMemTable(
+        Boolean.parseBoolean(
+            properties.getProperty(
+                "enable_off_heap_memtable", String.valueOf(conf.isEnableOffHeapMemTable()))));
+
+    conf.setTvListParallelSortThreshold(
+        Integer.parseInt(
+            properties.getProperty(
+                "tvlist_parallel_sort_threshold",
+                String.valueOf(conf.getTvListParallelSortThreshold()))));
+
+    conf.setTvListSortThreadCount(
+        Integer.parseInt(
+            properties.getProperty(
+                "tvlist_sort_thread_num", Integer.toString(conf.getTvListSortThreadCount()))));
+
+    if (conf.getTvListSortThreadCount() <= 0) {
+      conf.setTvListSortThreadCount(Runtime.getRuntime().availableProcessors());
+    }
+
+    String rollupIntervals = properties.getProperty("rollup_intervals");
+    if (rollupIntervals != null) {
+      conf.setRollupIntervals(parseRollupIntervals(rollupIntervals));
+    }
+    conf.setRollupFileCacheSize(
+        Integer.parseInt(
+            properties.getProperty(
+                "rollup_file_cache_size", String.valueOf(conf.getRollupFileCacheSize()))));
+
+    conf.setEnableMetadataIndexFile(
+        Boolean.parseBoolean(
+            properties.getProperty(
+                "enable_metadata_index_file", String.valueOf(conf.isEnableMetadataIndexFile()))));
+    conf.setMetadataIndexCacheSize(
+        Integer.parseInt(
+            properties.getProperty(
+                "metadata_index_cache_size", String.valueOf(conf.getMetadataIndexCacheSize()))));
+
+    conf.setChunkCacheScanProportion(
+        Double.parseDouble(
+            properties.getProperty(
+                "chunk_cache_scan_proportion",
+                String.valueOf(conf.getChunkCacheScanProportion()))));
+
+    conf.setChunkCacheScanFileThreshold(
+        Integer.parseInt(
+            properties.getProperty(
+                "chunk_cache_scan_file_threshold",
+                String.valueOf(conf.getChunkCacheScanFileThreshold()))));
+
+    conf.setChunkPrefetchDepth(
+        Integer.parseInt(
+            properties.getProperty(
+                "chunk_prefetch_depth", String.valueOf(conf.getChunkPrefetchDepth()))));
+
+    conf.setChunkPrefetchThreadCount(
+        Integer.parseInt(
+            properties.getProperty(
+                "chunk_prefetch_thread_count",
+                String.valueOf(conf.getChunkPrefetchThreadCount()))));
+
+    conf.setMaxOpenedFileReaderNum(
+        Integer.parseInt(
+            properties.getProperty(
+                "max_opened_file_reader_num", String.valueOf(conf.getMaxOpenedFileReaderNum()))));
+
+    conf.setEnableMmapRead(
+        Boolean.parseBoolean(
+            properties.getProperty("enable_mmap_read", String.valueOf(conf.isEnableMmapRead()))));
+
+    conf.setMmapReadWindowSizeInByte(
+        Integer.parseInt(
+            properties.getProperty(
+                "mmap_read_window_size_in_byte",
+                String.valueOf(conf.getMmapReadWindowSizeInByte()))));
+
+    conf.setMaxMmapReadSizeInByte(
+        Long.parseLong(
+            properties.getProperty(
+                "max_mmap_read_size_in_byte", String.valueOf(conf.getMaxMmapReadSizeInByte()))));
+
     conf.setThriftMaxFrameSize(
         Integer.parseInt(
             properties.getProperty(
@@ -1066,6 +1203,11 @@ public class IoTDBDescriptor {
       conf.setFsyncWalDelayInMs(fsyncWalDelayInMs);
     }
 
+    conf.setEnableWalGroupCommit(
+        Boolean.parseBoolean(
+            properties.getProperty(
+                "enable_wal_group_commit", Boolean.toString(conf.isEnableWalGroupCommit()))));
+
     long walFileSizeThreshold =
         Long.parseLong(
             properties.getProperty(
@@ -1169,6 +1311,28 @@ public class IoTDBDescriptor {
             "default_double_encoding", conf.getDefaultDoubleEncoding().toString()));
     conf.setDefaultTextEncoding(
         properties.getProperty("default_text_encoding", conf.getDefaultTextEncoding().toString()));
+    conf.setEncodingSelectionPolicy(
+        EncodingSelectionPolicy.valueOf(
+            properties.getProperty(
+                "encoding_selection_policy", conf.getEncodingSelectionPolicy().toString())));
+    String encodingSelectionDatabases =
+        properties.getProperty("encoding_selection_databases", "").trim();
+    if (!encodingSelectionDatabases.isEmpty()) {
+      conf.setEncodingSelectionDatabases(
+          Arrays.stream(encodingSelectionDatabases.split(","))
+              .map(String::trim)
+              .toArray(String[]::new));
+    }
+    conf.setEncodingSelectionSampleSize(
+        Integer.parseInt(
+            properties.getProperty(
+                "encoding_selection_sample_size",
+                String.valueOf(conf.getEncodingSelectionSampleSize()))));
+    conf.setEncodingSelectionPointsPerFlush(
+        Long.parseLong(
+            properties.getProperty(
+                "encoding_selection_points_per_flush",
+                String.valueOf(conf.getEncodingSelectionPointsPerFlush()))));
   }
 
   private void loadTsFileProps(Properties properties) {
@@ -1243,6 +1407,22 @@ public class IoTDBDescriptor {
             properties.getProperty(
                 "compressor",
                 TSFileDescriptor.getInstance().getConfig().getCompressor().toString()));
+    TSFileDescriptor.getInstance()
+        .getConfig()
+        .setLz4CompressionLevel(
+            Integer.parseInt(
+                properties.getProperty(
+                    "lz4_compression_level",
+                    Integer.toString(
+                        TSFileDescriptor.getInstance().getConfig().getLz4CompressionLevel()))));
+    TSFileDescriptor.getInstance()
+        .getConfig()
+        .setZstdCompressionLevel(
+            Integer.parseInt(
+                properties.getProperty(
+                    "zstd_compression_level",
+                    Integer.toString(
+                        TSFileDescriptor.getInstance().getConfig().getZstdCompressionLevel()))));
     TSFileDescriptor.getInstance()
         .getConfig()
         .setMaxDegreeOfIndexNode(
@@ -1459,6 +1639,12 @@ public class IoTDBDescriptor {
               properties.getProperty(
                   "merge_write_throughput_mb_per_sec",
                   Integer.toString(conf.getCompactionWriteThroughputMbPerSec()))));
+      // update compaction_read_throughput_mb_per_sec
+      conf.setCompactionReadThroughputMbPerSec(
+          Integer.parseInt(
+              properties.getProperty(
+                  "compaction_read_throughput_mb_per_sec",
+                  Integer.toString(conf.getCompactionReadThroughputMbPerSec()))));
 
       // update insert-tablet-plan's row limit for select-into
       conf.setSelectIntoInsertTabletPlanRowLimit(
@@ -1856,6 +2042,63 @@ public class IoTDBDescriptor {
     }
   }
 
+  /** Parse comma-separated rollup intervals, sorted from the coarsest to the finest */
+  private long[] parseRollupIntervals(String value) {
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .filter(interval -> !interval.isEmpty())
+        .mapToLong(Long::parseLong)
+        .filter(
+            interval -> {
+              if (interval <= 0) {
+                logger.warn("Ignore non-positive rollup interval {}", interval);
+                return false;
+              }
+              return true;
+            })
+        .map(interval -> -interval)
+        .distinct()
+        .sorted()
+        .map(interval -> -interval)
+        .toArray();
+  }
+
+  /**
+   * Parse comma-separated hour ranges such as "8-12,14-18" into flags indexed by hour. A range
+   * "start-end" covers the hours from start to end - 1 and wraps around midnight if end < start,
+   * e.g. "22-6". "0-24" covers the whole day. Illegal and empty ranges, e.g. "8-8", are ignored.
+   */
+  static boolean[] parseHourRanges(String value) {
+    boolean[] hours = new boolean[24];
+    for (String range : value.split(",")) {
+      range = range.trim();
+      if (range.isEmpty()) {
+        continue;
+      }
+      String[] bounds = range.split("-");
+      int start = -1;
+      int end = -1;
+      if (bounds.length == 2) {
+        try {
+          start = Integer.parseInt(bounds[0].trim());
+          end = Integer.parseInt(bounds[1].trim());
+        } catch (NumberFormatException e) {
+          start = -1;
+        }
+      }
+      if (start < 0 || start > 23 || end < 0 || end > 24 || start == end) {
+        logger.warn("Ignore illegal hour range {}", range);
+        continue;
+      }
+      int hour = start;
+      do {
+        hours[hour] = true;
+        hour = (hour + 1) % 24;
+      } while (hour != end % 24);
+    }
+    return hours;
+  }
+
   // These configurations are received from config node when registering
   public void loadGlobalConfig(TGlobalConfig globalConfig) {
     conf.setSeriesPartitionExecutorClass(globalConfig.getSeriesPartitionExecutorClass());
@@ -422,6 +422,7 @@ public class StorageEngineV2 implements IService {
       if (dataRegion != null) {
         ThreadUtils.stopThreadPool(
             dataRegion.getTimedCompactionScheduleTask(), ThreadName.COMPACTION_SCHEDULE);
+        dataRegion.removeAmplificationMetrics();
       }
     }
     syncCloseAllProcessor();
@@ -440,6 +441,7 @@ public class StorageEngineV2 implements IService {
       for (DataRegion dataRegion : dataRegionMap.values()) {
         ThreadUtils.stopThreadPool(
             dataRegion.getTimedCompactionScheduleTask(), ThreadName.COMPACTION_SCHEDULE);
+        dataRegion.removeAmplificationMetrics();
       }
       forceCloseAllProcessor();
     } catch (TsFileProcessorException e) {
@@ -691,6 +693,9 @@ public class StorageEngineV2 implements IService {
       DataRegion oldRegion = dataRegionMap.get(regionId);
       oldRegion.syncCloseAllWorkingTsFileProcessors();
       oldRegion.abortCompaction();
+      // both regions share the same name, so the gauges must be bound to the new one again
+      oldRegion.removeAmplificationMetrics();
+      newRegion.registerAmplificationMetrics();
     }
     dataRegionMap.put(regionId, newRegion);
   }
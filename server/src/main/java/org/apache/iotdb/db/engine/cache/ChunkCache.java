@@ -22,6 +22,7 @@ package org.apache.iotdb.db.engine.cache;
 import org.apache.iotdb.commons.utils.TestOnly;
 import org.apache.iotdb.db.conf.IoTDBConfig;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.compaction.CompactionTaskManager;
 import org.apache.iotdb.db.query.control.FileReaderManager;
 import org.apache.iotdb.db.service.metrics.MetricService;
 import org.apache.iotdb.db.service.metrics.enums.Metric;
@@ -39,11 +40,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This class is used to cache <code>Chunk</code> of <code>ChunkMetaData</code> in IoTDB. The
- * caching strategy is LRU.
+ * caching strategy is W-TinyLFU of Caffeine.
+ *
+ * <p>The cache is split into a main segment and a small probationary segment. Chunks read by large
+ * range scans ({@link ChunkCacheHint#SCAN}) are only admitted to the probationary segment and are
+ * promoted when an ordinary query reads them, and compactions never admit chunks, so that neither
+ * of them can flush out the hot chunks of ordinary queries.
  */
 public class ChunkCache {
 
@@ -52,48 +60,106 @@ public class ChunkCache {
   private static final IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
   private static final long MEMORY_THRESHOLD_IN_CHUNK_CACHE =
       config.getAllocateMemoryForChunkCache();
+  private static final long MEMORY_THRESHOLD_IN_SCAN_SEGMENT =
+      (long) (MEMORY_THRESHOLD_IN_CHUNK_CACHE * config.getChunkCacheScanProportion());
   private static final boolean CACHE_ENABLE = config.isMetaDataCacheEnable();
 
   private final LoadingCache<ChunkMetadata, Chunk> lruCache;
 
+  /** the probationary segment for chunks read by large range scans */
+  private final LoadingCache<ChunkMetadata, Chunk> scanCache;
+
+  private final LongAdder[] hitCounts = new LongAdder[ChunkCacheHint.values().length];
+  private final LongAdder[] requestCounts = new LongAdder[ChunkCacheHint.values().length];
+
   private final AtomicLong entryAverageSize = new AtomicLong(0);
 
   private ChunkCache() {
     if (CACHE_ENABLE) {
-      logger.info("ChunkCache size = " + MEMORY_THRESHOLD_IN_CHUNK_CACHE);
+      logger.info(
+          "ChunkCache size = {}, including {} for scans",
+          MEMORY_THRESHOLD_IN_CHUNK_CACHE,
+          MEMORY_THRESHOLD_IN_SCAN_SEGMENT);
+    }
+    lruCache = buildCache(MEMORY_THRESHOLD_IN_CHUNK_CACHE - MEMORY_THRESHOLD_IN_SCAN_SEGMENT);
+    scanCache = buildCache(MEMORY_THRESHOLD_IN_SCAN_SEGMENT);
+    for (int i = 0; i < hitCounts.length; i++) {
+      hitCounts[i] = new LongAdder();
+      requestCounts[i] = new LongAdder();
     }
-    lruCache =
-        Caffeine.newBuilder()
-            .maximumWeight(MEMORY_THRESHOLD_IN_CHUNK_CACHE)
-            .weigher(
-                (Weigher<ChunkMetadata, Chunk>)
-                    (chunkMetadata, chunk) ->
-                        (int)
-                            (RamUsageEstimator.NUM_BYTES_OBJECT_REF
-                                + RamUsageEstimator.sizeOf(chunk)))
-            .recordStats()
-            .build(
-                chunkMetadata -> {
-                  try {
-                    TsFileSequenceReader reader =
-                        FileReaderManager.getInstance()
-                            .get(chunkMetadata.getFilePath(), chunkMetadata.isClosed());
-                    return reader.readMemChunk(chunkMetadata);
-                  } catch (IOException e) {
-                    logger.error("Something wrong happened in reading {}", chunkMetadata, e);
-                    throw e;
-                  }
-                });
 
     // add metrics
     MetricService.getInstance()
         .getOrCreateAutoGauge(
             Metric.CACHE_HIT.toString(),
             MetricLevel.IMPORTANT,
-            lruCache,
-            l -> (long) (l.stats().hitRate() * 100),
+            this,
+            c -> (long) (c.calculateChunkHitRatio() * 100),
             Tag.NAME.toString(),
             "chunk");
+    for (ChunkCacheHint hint : ChunkCacheHint.values()) {
+      MetricService.getInstance()
+          .getOrCreateAutoGauge(
+              Metric.CACHE_HIT.toString(),
+              MetricLevel.IMPORTANT,
+              this,
+              c -> (long) (c.calculateChunkHitRatio(hint) * 100),
+              Tag.NAME.toString(),
+              "chunk",
+              Tag.TYPE.toString(),
+              hint.name().toLowerCase());
+    }
+    MetricService.getInstance()
+        .getOrCreateAutoGauge(
+            Metric.CACHE.toString(),
+            MetricLevel.IMPORTANT,
+            this,
+            ChunkCache::getEvictionCount,
+            Tag.NAME.toString(),
+            "chunk",
+            Tag.TYPE.toString(),
+            "evicted");
+  }
+
+  private static LoadingCache<ChunkMetadata, Chunk> buildCache(long maximumWeight) {
+    return Caffeine.newBuilder()
+        .maximumWeight(maximumWeight)
+        .weigher(
+            (Weigher<ChunkMetadata, Chunk>)
+                (chunkMetadata, chunk) ->
+                    (int)
+                        (RamUsageEstimator.NUM_BYTES_OBJECT_REF
+                            + RamUsageEstimator.sizeOf(chunk)))
+        .recordStats()
+        .build(ChunkCache::readChunkToHeap);
+  }
+
+  /**
+   * Data of chunks read from mapped TsFiles are slices of mapped windows, which are unmapped when
+   * the reader is closed, so the cached chunks keep a heap copy of them instead.
+   */
+  private static Chunk readChunkToHeap(ChunkMetadata chunkMetadata) throws IOException {
+    Chunk chunk = readChunk(chunkMetadata);
+    if (!chunk.getData().isDirect()) {
+      return chunk;
+    }
+    ByteBuffer data = ByteBuffer.allocate(chunk.getData().remaining());
+    data.put(chunk.getData().duplicate());
+    data.flip();
+    return new Chunk(
+        chunk.getHeader(), data, chunk.getDeleteIntervalList(), chunk.getChunkStatistic());
+  }
+
+  private static Chunk readChunk(ChunkMetadata chunkMetadata) throws IOException {
+    try {
+      TsFileSequenceReader reader =
+          FileReaderManager.getInstance()
+              .get(chunkMetadata.getFilePath(), chunkMetadata.isClosed());
+      return reader.readMemChunk(chunkMetadata);
+    } catch (IOException e) {
+      logger.error("Something wrong happened in reading {}", chunkMetadata, e);
+      throw e;
+    }
   }
 
   public static ChunkCache getInstance() {
@@ -101,15 +167,18 @@ public class ChunkCache {
   }
 
   public Chunk get(ChunkMetadata chunkMetaData) throws IOException {
-    return get(chunkMetaData, false);
+    return get(chunkMetaData, ChunkCacheHint.QUERY, false);
   }
 
   public Chunk get(ChunkMetadata chunkMetaData, boolean debug) throws IOException {
+    return get(chunkMetaData, ChunkCacheHint.QUERY, debug);
+  }
+
+  public Chunk get(ChunkMetadata chunkMetaData, ChunkCacheHint hint, boolean debug)
+      throws IOException {
     if (!CACHE_ENABLE) {
-      TsFileSequenceReader reader =
-          FileReaderManager.getInstance()
-              .get(chunkMetaData.getFilePath(), chunkMetaData.isClosed());
-      Chunk chunk = reader.readMemChunk(chunkMetaData);
+      Chunk chunk =
+          hint == ChunkCacheHint.COMPACTION ? load(chunkMetaData, hint) : readChunk(chunkMetaData);
       return new Chunk(
           chunk.getHeader(),
           chunk.getData().duplicate(),
@@ -117,7 +186,21 @@ public class ChunkCache {
           chunkMetaData.getStatistics());
     }
 
-    Chunk chunk = lruCache.get(chunkMetaData);
+    requestCounts[hint.ordinal()].increment();
+    Chunk chunk = lruCache.getIfPresent(chunkMetaData);
+    if (chunk == null) {
+      chunk = scanCache.getIfPresent(chunkMetaData);
+      if (chunk != null && hint == ChunkCacheHint.QUERY) {
+        // promote the chunk read by an ordinary query
+        lruCache.put(chunkMetaData, chunk);
+        scanCache.invalidate(chunkMetaData);
+      }
+    }
+    if (chunk != null) {
+      hitCounts[hint.ordinal()].increment();
+    } else {
+      chunk = load(chunkMetaData, hint);
+    }
 
     if (debug) {
       DEBUG_LOGGER.info("get chunk from cache whose meta data is: " + chunkMetaData);
@@ -130,12 +213,69 @@ public class ChunkCache {
         chunkMetaData.getStatistics());
   }
 
+  /**
+   * Load a chunk into the cache ahead of a query reading it under the hint. It does nothing if the
+   * chunk is already cached and is not counted as a request.
+   */
+  public void prefetch(ChunkMetadata chunkMetaData, ChunkCacheHint hint) throws IOException {
+    if (!isCachedUnder(hint)
+        || lruCache.getIfPresent(chunkMetaData) != null
+        || scanCache.getIfPresent(chunkMetaData) != null) {
+      return;
+    }
+    load(chunkMetaData, hint);
+  }
+
+  /** @return whether chunks read under the hint are kept in the cache */
+  public boolean isCachedUnder(ChunkCacheHint hint) {
+    switch (hint) {
+      case SCAN:
+        return CACHE_ENABLE && MEMORY_THRESHOLD_IN_SCAN_SEGMENT > 0;
+      case COMPACTION:
+        return false;
+      case QUERY:
+      default:
+        return CACHE_ENABLE;
+    }
+  }
+
+  private Chunk load(ChunkMetadata chunkMetaData, ChunkCacheHint hint) throws IOException {
+    switch (hint) {
+      case SCAN:
+        if (MEMORY_THRESHOLD_IN_SCAN_SEGMENT > 0) {
+          return scanCache.get(chunkMetaData);
+        }
+        return readChunk(chunkMetaData);
+      case COMPACTION:
+        // only compaction reads missing the cache go to the disk and are throttled
+        Chunk chunk = readChunk(chunkMetaData);
+        CompactionTaskManager.mergeRateLimiterAcquire(
+            CompactionTaskManager.getInstance().getMergeReadRateLimiter(),
+            chunk.getHeader().getSerializedSize() + chunk.getHeader().getDataSize());
+        return chunk;
+      case QUERY:
+      default:
+        return lruCache.get(chunkMetaData);
+    }
+  }
+
   public double calculateChunkHitRatio() {
-    return lruCache.stats().hitRate();
+    long requestCount = 0;
+    long hitCount = 0;
+    for (int i = 0; i < requestCounts.length; i++) {
+      requestCount += requestCounts[i].sum();
+      hitCount += hitCounts[i].sum();
+    }
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  public double calculateChunkHitRatio(ChunkCacheHint hint) {
+    long requestCount = requestCounts[hint.ordinal()].sum();
+    return requestCount == 0 ? 1.0 : (double) hitCounts[hint.ordinal()].sum() / requestCount;
   }
 
   public long getEvictionCount() {
-    return lruCache.stats().evictionCount();
+    return lruCache.stats().evictionCount() + scanCache.stats().evictionCount();
   }
 
   public long getMaxMemory() {
@@ -150,19 +290,48 @@ public class ChunkCache {
     return entryAverageSize.get();
   }
 
-  /** clear LRUCache. */
+  /** clear LRUCache and the hit counts. */
   public void clear() {
     lruCache.invalidateAll();
     lruCache.cleanUp();
+    scanCache.invalidateAll();
+    scanCache.cleanUp();
+    for (int i = 0; i < hitCounts.length; i++) {
+      hitCounts[i].reset();
+      requestCounts[i].reset();
+    }
   }
 
   public void remove(ChunkMetadata chunkMetaData) {
     lruCache.invalidate(chunkMetaData);
+    scanCache.invalidate(chunkMetaData);
+  }
+
+  /** Remove the chunks of the file indicated by filePath, e.g., when the file is deleted. */
+  public void removeFile(String filePath) {
+    lruCache
+        .asMap()
+        .keySet()
+        .removeIf(chunkMetadata -> filePath.equals(chunkMetadata.getFilePath()));
+    scanCache
+        .asMap()
+        .keySet()
+        .removeIf(chunkMetadata -> filePath.equals(chunkMetadata.getFilePath()));
   }
 
   @TestOnly
   public boolean isEmpty() {
-    return lruCache.asMap().isEmpty();
+    return lruCache.asMap().isEmpty() && scanCache.asMap().isEmpty();
+  }
+
+  @TestOnly
+  boolean isInMainSegment(ChunkMetadata chunkMetaData) {
+    return lruCache.asMap().containsKey(chunkMetaData);
+  }
+
+  @TestOnly
+  boolean isInScanSegment(ChunkMetadata chunkMetaData) {
+    return scanCache.asMap().containsKey(chunkMetaData);
   }
 
   /** singleton pattern. */
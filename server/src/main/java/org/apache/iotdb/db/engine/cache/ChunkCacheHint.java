@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.cache;
+
+/** How a read uses the {@link ChunkCache}. Hits and misses of the cache are counted per hint. */
+public enum ChunkCacheHint {
+  /** reads of ordinary queries, whose chunks are admitted to the main segment */
+  QUERY,
+  /**
+   * reads of large range scans, whose chunks are admitted to a small probationary segment only, so
+   * that a scan cannot flush out the hot chunks. A chunk is promoted to the main segment when a
+   * QUERY read hits it.
+   */
+  SCAN,
+  /** reads of compactions, which use cached chunks but never admit new ones */
+  COMPACTION
+}
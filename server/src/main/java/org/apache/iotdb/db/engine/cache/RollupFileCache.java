@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.cache;
+
+import org.apache.iotdb.commons.utils.TestOnly;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.rollup.RollupFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class caches the mapped {@link RollupFile}s of sealed TsFiles, so that GROUP BY queries do
+ * not open and read the index of a rollup file for every series. The caching strategy is LRU and
+ * the number of rollup files is bounded by {@code rollup_file_cache_size}. An evicted rollup file
+ * is unmapped once the queries using it release it.
+ */
+public class RollupFileCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(RollupFileCache.class);
+  private static final IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+
+  /** TsFile path -> rollup file, in access order, guarded by this */
+  private final Map<String, RollupFile> lruCache =
+      new LinkedHashMap<String, RollupFile>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RollupFile> eldest) {
+          if (size() > config.getRollupFileCacheSize()) {
+            eldest.getValue().release();
+            return true;
+          }
+          return false;
+        }
+      };
+
+  private RollupFileCache() {}
+
+  public static RollupFileCache getInstance() {
+    return RollupFileCacheHolder.INSTANCE;
+  }
+
+  /**
+   * Get the rollup file of a sealed TsFile, which is mapped on a cache miss. The caller must {@link
+   * RollupFile#release()} it after use.
+   *
+   * @return the rollup file, or null if the TsFile has none or it cannot be loaded
+   */
+  public RollupFile acquire(File tsFile) {
+    String key = tsFile.getPath();
+    synchronized (this) {
+      RollupFile rollupFile = lruCache.get(key);
+      if (rollupFile != null) {
+        rollupFile.retain();
+        return rollupFile;
+      }
+    }
+
+    RollupFile loaded;
+    try {
+      loaded = RollupFile.load(tsFile);
+    } catch (IOException e) {
+      logger.warn("Failed to load the rollup file of {}", tsFile, e);
+      return null;
+    }
+    if (loaded == null) {
+      return null;
+    }
+    synchronized (this) {
+      RollupFile rollupFile = lruCache.get(key);
+      if (rollupFile != null) {
+        // loaded by another query meanwhile
+        loaded.release();
+        rollupFile.retain();
+        return rollupFile;
+      }
+      // the reference of the loaded file is held by the cache, which may evict it at once
+      loaded.retain();
+      lruCache.put(key, loaded);
+      return loaded;
+    }
+  }
+
+  /** Remove the rollup file of a TsFile, which is unmapped once it is released by queries. */
+  public synchronized void remove(File tsFile) {
+    RollupFile rollupFile = lruCache.remove(tsFile.getPath());
+    if (rollupFile != null) {
+      rollupFile.release();
+    }
+  }
+
+  public synchronized void clear() {
+    lruCache.values().forEach(RollupFile::release);
+    lruCache.clear();
+  }
+
+  @TestOnly
+  public synchronized int size() {
+    return lruCache.size();
+  }
+
+  /** singleton pattern. */
+  private static class RollupFileCacheHolder {
+    private static final RollupFileCache INSTANCE = new RollupFileCache();
+  }
+}
@@ -23,6 +23,7 @@ import org.apache.iotdb.commons.conf.IoTDBConstant;
 import org.apache.iotdb.commons.utils.TestOnly;
 import org.apache.iotdb.db.conf.IoTDBConfig;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.storagegroup.TsFileMetadataIndex;
 import org.apache.iotdb.db.query.control.FileReaderManager;
 import org.apache.iotdb.db.service.metrics.MetricService;
 import org.apache.iotdb.db.service.metrics.enums.Metric;
@@ -44,13 +45,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.lang.ref.WeakReference;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -73,8 +77,13 @@ public class TimeSeriesMetadataCache {
   private final AtomicLong bloomFilterRequestCount = new AtomicLong(0L);
   private final AtomicLong bloomFilterPreventCount = new AtomicLong(0L);
 
-  private final Map<String, WeakReference<String>> devices =
-      Collections.synchronizedMap(new WeakHashMap<>());
+  /** number of TimeseriesMetadata reads from TsFiles on cache misses */
+  private final AtomicLong metadataReadCount = new AtomicLong(0L);
+
+  /** loads in progress, keyed by device$filePath, see {@link #load} */
+  private final Map<String, CompletableFuture<Map<String, TimeseriesMetadata>>> loadingDevices =
+      new ConcurrentHashMap<>();
+
   private static final String SEPARATOR = "$";
 
   private TimeSeriesMetadataCache() {
@@ -136,13 +145,29 @@ public class TimeSeriesMetadataCache {
     return TimeSeriesMetadataCache.TimeSeriesMetadataCacheHolder.INSTANCE;
   }
 
-  @SuppressWarnings("squid:S1860") // Suppress synchronize warning
   public TimeseriesMetadata get(
       TimeSeriesMetadataCacheKey key,
       Set<String> allSensors,
       boolean ignoreNotExists,
       boolean debug)
       throws IOException {
+    return get(key, allSensors, ignoreNotExists, debug, null);
+  }
+
+  /**
+   * @param allSensors the measurements of the device read by the query, whose metadata is loaded
+   *     together with that of the key on a cache miss, null to load all measurements in the same
+   *     leaf index node
+   * @param metadataIndex the metadata index of the TsFile, used to locate the metadata on a cache
+   *     miss, null to search the metadata index tree of the TsFile
+   */
+  public TimeseriesMetadata get(
+      TimeSeriesMetadataCacheKey key,
+      Set<String> allSensors,
+      boolean ignoreNotExists,
+      boolean debug,
+      TsFileMetadataIndex metadataIndex)
+      throws IOException {
     if (!CACHE_ENABLE) {
       // bloom filter part
       TsFileSequenceReader reader = FileReaderManager.getInstance().get(key.filePath, true);
@@ -166,44 +191,7 @@ public class TimeSeriesMetadataCache {
             "Cache miss: {}.{} in file: {}", key.device, key.measurement, key.filePath);
         DEBUG_LOGGER.info("Device: {}, all sensors: {}", key.device, allSensors);
       }
-      // allow for the parallelism of different devices
-      synchronized (
-          devices.computeIfAbsent(key.device + SEPARATOR + key.filePath, WeakReference::new)) {
-        // double check
-        timeseriesMetadata = lruCache.getIfPresent(key);
-        if (timeseriesMetadata == null) {
-          Path path = new Path(key.device, key.measurement);
-          // bloom filter part
-          BloomFilter bloomFilter =
-              BloomFilterCache.getInstance()
-                  .get(new BloomFilterCache.BloomFilterCacheKey(key.filePath), debug);
-          if (bloomFilter != null) {
-            bloomFilterRequestCount.incrementAndGet();
-            if (!bloomFilter.contains(path.getFullPath())) {
-              bloomFilterPreventCount.incrementAndGet();
-              if (debug) {
-                DEBUG_LOGGER.info("TimeSeries meta data {} is filter by bloomFilter!", key);
-              }
-              return null;
-            }
-          }
-          TsFileSequenceReader reader = FileReaderManager.getInstance().get(key.filePath, true);
-          List<TimeseriesMetadata> timeSeriesMetadataList =
-              reader.readTimeseriesMetadata(path, allSensors);
-          // put TimeSeriesMetadata of all sensors used in this query into cache
-          for (TimeseriesMetadata metadata : timeSeriesMetadataList) {
-            TimeSeriesMetadataCacheKey k =
-                new TimeSeriesMetadataCacheKey(
-                    key.filePath, key.device, metadata.getMeasurementId());
-            if (metadata.getStatistics().getCount() != 0) {
-              lruCache.put(k, metadata);
-            }
-            if (metadata.getMeasurementId().equals(key.measurement)) {
-              timeseriesMetadata = metadata.getStatistics().getCount() == 0 ? null : metadata;
-            }
-          }
-        }
-      }
+      timeseriesMetadata = load(key, allSensors, debug, metadataIndex);
     }
     if (timeseriesMetadata == null) {
       if (debug) {
@@ -223,6 +211,130 @@ public class TimeSeriesMetadataCache {
     }
   }
 
+  /**
+   * Load the metadata of the key on a cache miss. Concurrent misses of the same device in the same
+   * file share one read: the first one reads the metadata of the measurements in its allSensors
+   * from the leaf index node containing its key, and the others wait for its result and load by
+   * themselves only if their keys are not covered. Misses of different devices never wait for each
+   * other.
+   *
+   * @return the metadata of the key, or null if the file does not have the time series
+   */
+  private TimeseriesMetadata load(
+      TimeSeriesMetadataCacheKey key,
+      Set<String> allSensors,
+      boolean debug,
+      TsFileMetadataIndex metadataIndex)
+      throws IOException {
+    String loadingKey = key.device + SEPARATOR + key.filePath;
+    while (true) {
+      CompletableFuture<Map<String, TimeseriesMetadata>> loading = new CompletableFuture<>();
+      CompletableFuture<Map<String, TimeseriesMetadata>> existing =
+          loadingDevices.putIfAbsent(loadingKey, loading);
+      if (existing == null) {
+        try {
+          // double check, the metadata may have been loaded by a finished load
+          TimeseriesMetadata timeseriesMetadata = lruCache.getIfPresent(key);
+          Map<String, TimeseriesMetadata> loaded =
+              timeseriesMetadata == null
+                  ? loadLeafMetadata(key, allSensors, debug, metadataIndex)
+                  : Collections.singletonMap(key.measurement, timeseriesMetadata);
+          loading.complete(loaded);
+          return loaded.get(key.measurement);
+        } catch (IOException | RuntimeException e) {
+          loading.completeExceptionally(e);
+          throw e;
+        } finally {
+          loadingDevices.remove(loadingKey, loading);
+        }
+      }
+
+      Map<String, TimeseriesMetadata> loaded;
+      try {
+        loaded = existing.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException) e.getCause();
+        }
+        throw e;
+      }
+      if (loaded.containsKey(key.measurement)) {
+        return loaded.get(key.measurement);
+      }
+      TimeseriesMetadata timeseriesMetadata = lruCache.getIfPresent(key);
+      if (timeseriesMetadata != null) {
+        return timeseriesMetadata;
+      }
+      // the finished load does not cover this measurement, so load it by ourselves
+    }
+  }
+
+  /**
+   * Read the metadata of the measurements in allSensors from the leaf index node containing the
+   * key, and put the non-empty ones into the cache.
+   *
+   * @return measurement -> metadata, where the metadata is null if the series is empty
+   */
+  private Map<String, TimeseriesMetadata> loadLeafMetadata(
+      TimeSeriesMetadataCacheKey key,
+      Set<String> allSensors,
+      boolean debug,
+      TsFileMetadataIndex metadataIndex)
+      throws IOException {
+    if (allSensors != null && !allSensors.contains(key.measurement)) {
+      allSensors = new HashSet<>(allSensors);
+      allSensors.add(key.measurement);
+    }
+    if (metadataIndex != null) {
+      long[] leafOffsets = metadataIndex.getLeafOffsets(key.device, key.measurement);
+      if (leafOffsets == null) {
+        return Collections.singletonMap(key.measurement, null);
+      }
+      TsFileSequenceReader reader = FileReaderManager.getInstance().get(key.filePath, true);
+      metadataReadCount.incrementAndGet();
+      return cacheLeafMetadata(
+          key,
+          reader.readLeafTimeseriesMetadata(leafOffsets[0], leafOffsets[1], allSensors, true));
+    }
+    Path path = new Path(key.device, key.measurement);
+    // bloom filter part
+    BloomFilter bloomFilter =
+        BloomFilterCache.getInstance()
+            .get(new BloomFilterCache.BloomFilterCacheKey(key.filePath), debug);
+    if (bloomFilter != null) {
+      bloomFilterRequestCount.incrementAndGet();
+      if (!bloomFilter.contains(path.getFullPath())) {
+        bloomFilterPreventCount.incrementAndGet();
+        if (debug) {
+          DEBUG_LOGGER.info("TimeSeries meta data {} is filter by bloomFilter!", key);
+        }
+        return Collections.singletonMap(key.measurement, null);
+      }
+    }
+    TsFileSequenceReader reader = FileReaderManager.getInstance().get(key.filePath, true);
+    metadataReadCount.incrementAndGet();
+    return cacheLeafMetadata(key, reader.readTimeseriesMetadata(path, allSensors));
+  }
+
+  private Map<String, TimeseriesMetadata> cacheLeafMetadata(
+      TimeSeriesMetadataCacheKey key, List<TimeseriesMetadata> timeSeriesMetadataList) {
+    Map<String, TimeseriesMetadata> loaded = new HashMap<>();
+    // put TimeSeriesMetadata of all sensors in the leaf into cache
+    for (TimeseriesMetadata metadata : timeSeriesMetadataList) {
+      if (metadata.getStatistics().getCount() != 0) {
+        lruCache.put(
+            new TimeSeriesMetadataCacheKey(key.filePath, key.device, metadata.getMeasurementId()),
+            metadata);
+        loaded.put(metadata.getMeasurementId(), metadata);
+      } else {
+        loaded.put(metadata.getMeasurementId(), null);
+      }
+    }
+    // the leaf containing the key does not have it
+    loaded.putIfAbsent(key.measurement, null);
+    return loaded;
+  }
+
   public double calculateTimeSeriesMetadataHitRatio() {
     return lruCache.stats().hitRate();
   }
@@ -258,6 +370,16 @@ public class TimeSeriesMetadataCache {
     return lruCache.asMap().isEmpty();
   }
 
+  @TestOnly
+  public boolean isCached(TimeSeriesMetadataCacheKey key) {
+    return lruCache.getIfPresent(key) != null;
+  }
+
+  @TestOnly
+  public long getMetadataReadCount() {
+    return metadataReadCount.get();
+  }
+
   public static class TimeSeriesMetadataCacheKey {
 
     private final String filePath;
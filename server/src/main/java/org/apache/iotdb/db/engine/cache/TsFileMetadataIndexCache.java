@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.cache;
+
+import org.apache.iotdb.commons.utils.TestOnly;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.storagegroup.TsFileMetadataIndex;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class caches the mapped {@link TsFileMetadataIndex} of sealed TsFiles. The caching strategy
+ * is LRU and the number of indexes is bounded by {@code metadata_index_cache_size}, so the mapped
+ * index files do not exhaust vm.max_map_count. An evicted index is unmapped once the queries using
+ * it release it.
+ */
+public class TsFileMetadataIndexCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(TsFileMetadataIndexCache.class);
+  private static final IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+
+  /** TsFile path -> metadata index, in access order, guarded by this */
+  private final Map<String, TsFileMetadataIndex> lruCache =
+      new LinkedHashMap<String, TsFileMetadataIndex>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TsFileMetadataIndex> eldest) {
+          if (size() > config.getMetadataIndexCacheSize()) {
+            eldest.getValue().release();
+            return true;
+          }
+          return false;
+        }
+      };
+
+  private TsFileMetadataIndexCache() {}
+
+  public static TsFileMetadataIndexCache getInstance() {
+    return TsFileMetadataIndexCacheHolder.INSTANCE;
+  }
+
+  /**
+   * Get the metadata index of a sealed TsFile, which is mapped on a cache miss. The caller must
+   * {@link TsFileMetadataIndex#release()} it after use.
+   *
+   * @return the metadata index, or null if the TsFile has none or it cannot be loaded
+   */
+  public TsFileMetadataIndex acquire(File tsFile) {
+    String key = tsFile.getPath();
+    synchronized (this) {
+      TsFileMetadataIndex metadataIndex = lruCache.get(key);
+      if (metadataIndex != null) {
+        metadataIndex.retain();
+        return metadataIndex;
+      }
+    }
+
+    TsFileMetadataIndex loaded;
+    try {
+      loaded = TsFileMetadataIndex.load(tsFile);
+    } catch (IOException e) {
+      logger.warn("Failed to load the metadata index of {}", tsFile, e);
+      return null;
+    }
+    if (loaded == null) {
+      return null;
+    }
+    synchronized (this) {
+      TsFileMetadataIndex metadataIndex = lruCache.get(key);
+      if (metadataIndex != null) {
+        // loaded by another query meanwhile
+        loaded.release();
+        metadataIndex.retain();
+        return metadataIndex;
+      }
+      // the reference of the loaded index is held by the cache, which may evict it at once
+      loaded.retain();
+      lruCache.put(key, loaded);
+      return loaded;
+    }
+  }
+
+  /** Remove the metadata index of a TsFile, which is unmapped once it is released by queries. */
+  public synchronized void remove(File tsFile) {
+    TsFileMetadataIndex metadataIndex = lruCache.remove(tsFile.getPath());
+    if (metadataIndex != null) {
+      metadataIndex.release();
+    }
+  }
+
+  public synchronized void clear() {
+    lruCache.values().forEach(TsFileMetadataIndex::release);
+    lruCache.clear();
+  }
+
+  @TestOnly
+  public synchronized int size() {
+    return lruCache.size();
+  }
+
+  /** singleton pattern. */
+  private static class TsFileMetadataIndexCacheHolder {
+    private static final TsFileMetadataIndexCache INSTANCE = new TsFileMetadataIndexCache();
+  }
+}
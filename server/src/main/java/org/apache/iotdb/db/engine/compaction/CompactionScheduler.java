@@ -55,6 +55,11 @@ public class CompactionScheduler {
     if (!tsFileManager.isAllowCompaction()) {
       return;
     }
+    // leave the compaction threads to other regions if this one already has enough tasks
+    if (!CompactionTaskManager.getInstance()
+        .hasTaskQuota(tsFileManager.getStorageGroupName(), tsFileManager.getDataRegionId())) {
+      return;
+    }
     try {
       tryToSubmitCrossSpaceCompactionTask(
           tsFileManager.getStorageGroupName(),
@@ -32,6 +32,7 @@ import org.apache.iotdb.db.engine.compaction.comparator.DefaultCompactionTaskCom
 import org.apache.iotdb.db.engine.compaction.constant.CompactionTaskStatus;
 import org.apache.iotdb.db.engine.compaction.task.AbstractCompactionTask;
 import org.apache.iotdb.db.engine.compaction.task.CompactionTaskSummary;
+import org.apache.iotdb.db.mpp.execution.schedule.DriverScheduler;
 import org.apache.iotdb.db.service.metrics.recorder.CompactionMetricsRecorder;
 import org.apache.iotdb.db.utils.datastructure.FixedPriorityBlockingQueue;
 
@@ -39,6 +40,7 @@ import com.google.common.util.concurrent.RateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -77,6 +79,8 @@ public class CompactionTaskManager implements IService {
 
   private final RateLimiter mergeWriteRateLimiter = RateLimiter.create(Double.MAX_VALUE);
 
+  private final RateLimiter mergeReadRateLimiter = RateLimiter.create(Double.MAX_VALUE);
+
   private final IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
 
   public static CompactionTaskManager getInstance() {
@@ -214,7 +218,9 @@ public class CompactionTaskManager implements IService {
    */
   public synchronized boolean addTaskToWaitingQueue(AbstractCompactionTask compactionTask)
       throws InterruptedException {
-    if (!candidateCompactionTaskQueue.contains(compactionTask) && !isTaskRunning(compactionTask)) {
+    if (!candidateCompactionTaskQueue.contains(compactionTask)
+        && !isTaskRunning(compactionTask)
+        && hasTaskQuota(compactionTask.getStorageGroupName(), compactionTask.getDataRegionId())) {
       compactionTask.setSourceFilesToCompactionCandidate();
       candidateCompactionTaskQueue.put(compactionTask);
 
@@ -234,20 +240,83 @@ public class CompactionTaskManager implements IService {
         .containsKey(task);
   }
 
+  /**
+   * Whether the data region may queue one more compaction task, see {@link
+   * IoTDBConfig#getMaxCompactionTaskNumPerRegion()}.
+   */
+  public boolean hasTaskQuota(String storageGroupName, String dataRegionId) {
+    int maxTaskNum = config.getMaxCompactionTaskNumPerRegion();
+    if (maxTaskNum <= 0) {
+      return true;
+    }
+    Map<AbstractCompactionTask, Future<CompactionTaskSummary>> runningTasks =
+        storageGroupTasks.get(getSGWithRegionId(storageGroupName, dataRegionId));
+    int taskNum = runningTasks == null ? 0 : runningTasks.size();
+    taskNum +=
+        candidateCompactionTaskQueue.count(
+            task ->
+                task.getStorageGroupName().equals(storageGroupName)
+                    && task.getDataRegionId().equals(dataRegionId));
+    return taskNum < maxTaskNum;
+  }
+
+  /**
+   * Number of compaction tasks allowed to run now. Workers with larger ids than it do not take new
+   * tasks, see {@link CompactionWorker}.
+   */
+  public int getAllowedRunningTaskNum() {
+    boolean queryBusy =
+        config.isEnableAdaptiveCompactionThread()
+            && DriverScheduler.getInstance().getReadyDriverNum()
+                >= config.getConcurrentQueryThread();
+    return getAllowedRunningTaskNum(
+        LocalTime.now().getHour(), queryBusy, candidateCompactionTaskQueue.size());
+  }
+
+  /**
+   * @param hour current hour of the day
+   * @param queryBusy whether queries are waiting for execution threads
+   * @param waitingTaskNum number of compaction tasks waiting in the queue
+   */
+  int getAllowedRunningTaskNum(int hour, boolean queryBusy, int waitingTaskNum) {
+    int threadNum = config.getConcurrentCompactionThread();
+    int allowed = Math.max(1, (int) Math.round(threadNum * getThroughputRatio(hour)));
+    // queries are preferred unless the backlog of compaction keeps growing
+    if (config.isEnableAdaptiveCompactionThread() && queryBusy && waitingTaskNum < threadNum) {
+      allowed = Math.max(1, allowed / 2);
+    }
+    return allowed;
+  }
+
+  /** @return ratio of the configured throughput and threads that compaction uses in the hour */
+  private double getThroughputRatio(int hour) {
+    return config.getCompactionBusyHours()[hour] ? config.getCompactionBusyHoursRatio() : 1.0;
+  }
+
   public RateLimiter getMergeWriteRateLimiter() {
-    setWriteMergeRate(
+    setMergeRate(
+        mergeWriteRateLimiter,
         IoTDBDescriptor.getInstance().getConfig().getCompactionWriteThroughputMbPerSec());
     return mergeWriteRateLimiter;
   }
 
-  private void setWriteMergeRate(final double throughoutMbPerSec) {
-    double throughout = throughoutMbPerSec * 1024.0 * 1024.0;
+  /** limits the bytes compaction reads from disk, shared by all compaction tasks */
+  public RateLimiter getMergeReadRateLimiter() {
+    setMergeRate(
+        mergeReadRateLimiter,
+        IoTDBDescriptor.getInstance().getConfig().getCompactionReadThroughputMbPerSec());
+    return mergeReadRateLimiter;
+  }
+
+  private void setMergeRate(RateLimiter rateLimiter, final double throughoutMbPerSec) {
+    double throughout =
+        throughoutMbPerSec * getThroughputRatio(LocalTime.now().getHour()) * 1024.0 * 1024.0;
     // if throughout = 0, disable rate limiting
     if (throughout == 0) {
       throughout = Double.MAX_VALUE;
     }
-    if (mergeWriteRateLimiter.getRate() != throughout) {
-      mergeWriteRateLimiter.setRate(throughout);
+    if (rateLimiter.getRate() != throughout) {
+      rateLimiter.setRate(throughout);
     }
   }
   /** wait by throughoutMbPerSec limit to avoid continuous Write Or Read */
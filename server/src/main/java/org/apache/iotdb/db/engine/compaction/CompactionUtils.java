@@ -26,6 +26,10 @@ import org.apache.iotdb.db.engine.compaction.cross.rewrite.selector.ICrossSpaceC
 import org.apache.iotdb.db.engine.compaction.cross.rewrite.selector.RewriteCompactionFileSelector;
 import org.apache.iotdb.db.engine.modification.Modification;
 import org.apache.iotdb.db.engine.modification.ModificationFile;
+import org.apache.iotdb.db.engine.rollup.RollupFile;
+import org.apache.iotdb.db.engine.rollup.RollupWriter;
+import org.apache.iotdb.db.engine.rollup.SeriesRollup;
+import org.apache.iotdb.db.engine.storagegroup.TsFileMetadataIndex;
 import org.apache.iotdb.db.engine.storagegroup.TsFileNameGenerator;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.query.control.FileReaderManager;
@@ -91,6 +95,8 @@ public class CompactionUtils {
       FSFactoryProducer.getFSFactory().moveFile(targetResource.getTsFile(), newFile);
     }
 
+    TsFileMetadataIndex.writeIfEnabled(newFile);
+
     // serialize xxx.tsfile.resource
     targetResource.setFile(newFile);
     targetResource.serialize();
@@ -147,6 +153,40 @@ public class CompactionUtils {
     updateOneTargetMods(targetTsFile, modifications);
   }
 
+  /**
+   * Merge the rollups of source files as the rollup of the target file of a sequence inner space
+   * compaction. The target file gets no rollup if any source file has no rollup or has
+   * modifications, as its data is no longer the union of the source rollups.
+   */
+  public static void combineRollupsInInnerCompaction(
+      Collection<TsFileResource> sourceFiles, TsFileResource targetTsFile) {
+    if (!targetTsFile.getTsFile().exists()) {
+      return;
+    }
+    try {
+      RollupWriter rollupWriter = new RollupWriter(new long[0]);
+      for (TsFileResource sourceFile : sourceFiles) {
+        try (ModificationFile modificationFile = ModificationFile.getNormalMods(sourceFile)) {
+          if (modificationFile.exists()) {
+            return;
+          }
+        }
+        Map<String, Map<String, SeriesRollup>> rollups = RollupFile.readAll(sourceFile.getTsFile());
+        if (rollups == null) {
+          return;
+        }
+        for (Map.Entry<String, Map<String, SeriesRollup>> deviceEntry : rollups.entrySet()) {
+          for (Map.Entry<String, SeriesRollup> entry : deviceEntry.getValue().entrySet()) {
+            rollupWriter.merge(deviceEntry.getKey(), entry.getKey(), entry.getValue());
+          }
+        }
+      }
+      rollupWriter.write(targetTsFile.getTsFile());
+    } catch (IOException | IllegalArgumentException e) {
+      logger.warn("[Compaction] Failed to combine rollups into {}", targetTsFile, e);
+    }
+  }
+
   private static void updateOneTargetMods(
       TsFileResource targetFile, Set<Modification> modifications) throws IOException {
     if (!modifications.isEmpty()) {
@@ -35,6 +35,10 @@ import java.util.concurrent.TimeoutException;
 
 public class CompactionWorker implements Runnable {
   private static final Logger log = LoggerFactory.getLogger("COMPACTION");
+
+  /** interval for a throttled worker to check whether it may take tasks again */
+  private static final long THROTTLED_CHECK_INTERVAL_MS = 1000L;
+
   private final int threadId;
   private final FixedPriorityBlockingQueue<AbstractCompactionTask> compactionTaskQueue;
 
@@ -48,6 +52,16 @@ public class CompactionWorker implements Runnable {
   public void run() {
     while (!Thread.currentThread().isInterrupted()) {
       try {
+        if (threadId >= CompactionTaskManager.getInstance().getAllowedRunningTaskNum()) {
+          // compaction is slowed down in busy hours or under query load
+          try {
+            TimeUnit.MILLISECONDS.sleep(THROTTLED_CHECK_INTERVAL_MS);
+          } catch (InterruptedException e) {
+            log.warn("CompactionThread-{} terminates because interruption", threadId);
+            return;
+          }
+          continue;
+        }
         AbstractCompactionTask task = null;
         try {
           task = compactionTaskQueue.take();
@@ -19,15 +19,19 @@
 package org.apache.iotdb.db.engine.compaction.constant;
 
 import org.apache.iotdb.db.engine.compaction.cross.ICrossSpaceSelector;
+import org.apache.iotdb.db.engine.compaction.cross.rewrite.LeveledCrossSpaceCompactionSelector;
 import org.apache.iotdb.db.engine.compaction.cross.rewrite.RewriteCrossSpaceCompactionSelector;
 import org.apache.iotdb.db.engine.storagegroup.TsFileManager;
 
 public enum CrossCompactionSelector {
-  REWRITE;
+  REWRITE,
+  LEVELED;
 
   public static CrossCompactionSelector getCrossCompactionSelector(String name) {
     if (REWRITE.toString().equalsIgnoreCase(name)) {
       return REWRITE;
+    } else if (LEVELED.toString().equalsIgnoreCase(name)) {
+      return LEVELED;
     }
     throw new RuntimeException("Illegal Cross Compaction Selector " + name);
   }
@@ -38,6 +42,9 @@ public enum CrossCompactionSelector {
       long timePartition,
       TsFileManager tsFileManager) {
     switch (this) {
+      case LEVELED:
+        return new LeveledCrossSpaceCompactionSelector(
+            logicalStorageGroupName, virtualGroupId, timePartition, tsFileManager);
       case REWRITE:
       default:
         return new RewriteCrossSpaceCompactionSelector(
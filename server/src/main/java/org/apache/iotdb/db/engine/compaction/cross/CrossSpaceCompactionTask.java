@@ -148,6 +148,10 @@ public class CrossSpaceCompactionTask extends AbstractCompactionTask {
             targetTsfileResourceList,
             timePartition,
             true);
+        for (TsFileResource targetResource : targetTsfileResourceList) {
+          tsFileManager.recordCompactedFileSize(targetResource.getTsFileSize());
+        }
+        tsFileManager.recordCompactedFileSize(summary.getTemporaryFileSize());
 
         releaseReadAndLockWrite(selectedSequenceFiles);
         releaseReadAndLockWrite(selectedUnsequenceFiles);
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction.cross.rewrite;
+
+import org.apache.iotdb.commons.conf.IoTDBConstant;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.storagegroup.TsFileManager;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.tsfile.utils.Pair;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LeveledCrossSpaceCompactionSelector regards the unsequence files as the level below the sequence
+ * files. It selects files like {@link RewriteCrossSpaceCompactionSelector}, but only submits the
+ * task when the selected unsequence data reaches 1/leveled_compaction_size_ratio of the overlapped
+ * sequence data, so that each byte of the sequence files is rewritten for at least that much
+ * unsequence data. To bound the number of files a query reads, the task is submitted anyway once
+ * the time partition has leveled_compaction_size_ratio unsequence files.
+ */
+public class LeveledCrossSpaceCompactionSelector extends RewriteCrossSpaceCompactionSelector {
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(IoTDBConstant.COMPACTION_LOGGER_NAME);
+  private static final IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+
+  public LeveledCrossSpaceCompactionSelector(
+      String logicalStorageGroupName,
+      String dataRegionId,
+      long timePartition,
+      TsFileManager tsFileManager) {
+    super(logicalStorageGroupName, dataRegionId, timePartition, tsFileManager);
+  }
+
+  @Override
+  public List selectCrossSpaceTask(
+      List<TsFileResource> sequenceFileList, List<TsFileResource> unsequenceFileList) {
+    List<Pair<List<TsFileResource>, List<TsFileResource>>> taskList =
+        super.selectCrossSpaceTask(sequenceFileList, unsequenceFileList);
+    if (taskList.isEmpty()) {
+      return taskList;
+    }
+    int sizeRatio = Math.max(2, config.getLeveledCompactionSizeRatio());
+    if (unsequenceFileList.size() >= sizeRatio) {
+      return taskList;
+    }
+    Pair<List<TsFileResource>, List<TsFileResource>> task = taskList.get(0);
+    long seqFileSize = getTotalFileSize(task.left);
+    long unseqFileSize = getTotalFileSize(task.right);
+    if (unseqFileSize * sizeRatio >= seqFileSize) {
+      return taskList;
+    }
+    LOGGER.debug(
+        "{} [Compaction] postpone cross compaction of {} bytes unsequence data "
+            + "into {} bytes sequence data",
+        logicalStorageGroupName + "-" + dataRegionId,
+        unseqFileSize,
+        seqFileSize);
+    return Collections.emptyList();
+  }
+
+  private long getTotalFileSize(List<TsFileResource> tsFileResources) {
+    long totalSize = 0L;
+    for (TsFileResource tsFileResource : tsFileResources) {
+      totalSize += tsFileResource.getTsFileSize();
+    }
+    return totalSize;
+  }
+}
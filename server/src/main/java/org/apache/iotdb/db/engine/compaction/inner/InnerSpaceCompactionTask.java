@@ -151,6 +151,10 @@ public class InnerSpaceCompactionTask extends AbstractCompactionTask {
           dataRegionId);
       CompactionUtils.combineModsInInnerCompaction(
           selectedTsFileResourceList, targetTsFileResource);
+      if (sequence) {
+        CompactionUtils.combineRollupsInInnerCompaction(
+            selectedTsFileResourceList, targetTsFileResource);
+      }
 
       if (Thread.currentThread().isInterrupted() || summary.isCancel()) {
         throw new InterruptedException(
@@ -173,6 +177,9 @@ public class InnerSpaceCompactionTask extends AbstractCompactionTask {
             timePartition,
             false);
       }
+      for (TsFileResource targetResource : targetTsFileList) {
+        tsFileManager.recordCompactedFileSize(targetResource.getTsFileSize());
+      }
 
       LOGGER.info(
           "{}-{} [Compaction] Compacted target files, try to get the write lock of source files",
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction.inner.leveled;
+
+import org.apache.iotdb.commons.conf.IoTDBConstant;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.compaction.inner.IInnerSeqSpaceSelector;
+import org.apache.iotdb.db.engine.storagegroup.TsFileManager;
+import org.apache.iotdb.db.engine.storagegroup.TsFileNameGenerator;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResourceStatus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LeveledCompactionSelector organizes the sequence files of a time partition into levels L0 to Ln,
+ * where n is leveled_compaction_max_level. The target file size of Ln is
+ * target_compaction_file_size, and the target file size of each lower level is
+ * leveled_compaction_size_ratio times smaller. Small files that have never been compacted are in
+ * L0, and other files belong to the lowest level whose target file size they have not reached.
+ *
+ * <p>Consecutive files of a level are merged into the file of the next level right before them,
+ * once there are leveled_compaction_size_ratio of them or the merged file reaches the target size
+ * of the next level. Therefore each level tends to keep a single file per time partition, which
+ * bounds the number of files a query reads at the cost of rewriting a file of the next level up to
+ * leveled_compaction_size_ratio times, while SizeTieredCompactionSelector rewrites data once per
+ * level but leaves more files behind. Like SizeTieredCompactionSelector, the selector searches from
+ * L0 upwards and does not search higher levels once a task is found in some level.
+ */
+public class LeveledCompactionSelector implements IInnerSeqSpaceSelector {
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(IoTDBConstant.COMPACTION_LOGGER_NAME);
+  private static final IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+  protected String storageGroupName;
+  protected String dataRegionId;
+  protected long timePartition;
+  protected TsFileManager tsFileManager;
+  protected boolean hasNextTimePartition;
+
+  private int sizeRatio;
+  private int maxLevel;
+  /** levelTargetFileSize[i] is the target file size of level i, level 0 has no target size */
+  private long[] levelTargetFileSize;
+
+  public LeveledCompactionSelector(
+      String storageGroupName,
+      String dataRegionId,
+      long timePartition,
+      TsFileManager tsFileManager) {
+    this.storageGroupName = storageGroupName;
+    this.dataRegionId = dataRegionId;
+    this.timePartition = timePartition;
+    this.tsFileManager = tsFileManager;
+    hasNextTimePartition = tsFileManager.hasNextTimePartition(timePartition, true);
+  }
+
+  @Override
+  public List<List<TsFileResource>> selectInnerSpaceTask(List<TsFileResource> tsFileResources) {
+    sizeRatio = Math.max(2, config.getLeveledCompactionSizeRatio());
+    maxLevel = Math.max(1, config.getLeveledCompactionMaxLevel());
+    levelTargetFileSize = new long[maxLevel + 1];
+    levelTargetFileSize[maxLevel] = config.getTargetCompactionFileSize();
+    for (int level = maxLevel - 1; level > 0; level--) {
+      levelTargetFileSize[level] = levelTargetFileSize[level + 1] / sizeRatio;
+    }
+    try {
+      // copy the files into an array list as TsFileResourceList is a linked list
+      List<TsFileResource> resources = new ArrayList<>();
+      List<Integer> levels = new ArrayList<>();
+      for (TsFileResource resource : tsFileResources) {
+        resources.add(resource);
+        levels.add(getLevel(resource));
+      }
+      List<List<TsFileResource>> taskList = new ArrayList<>();
+      for (int level = 0; level < maxLevel && taskList.isEmpty(); level++) {
+        selectLevelTask(level, resources, levels, taskList);
+      }
+      return taskList;
+    } catch (Exception e) {
+      LOGGER.error("Exception occurs while selecting files", e);
+    }
+    return Collections.emptyList();
+  }
+
+  private int getLevel(TsFileResource resource) throws IOException {
+    long fileSize = resource.getTsFileSize();
+    TsFileNameGenerator.TsFileName tsFileName =
+        TsFileNameGenerator.getTsFileName(resource.getTsFile().getName());
+    if (tsFileName.getInnerCompactionCnt() == 0 && fileSize < levelTargetFileSize[1]) {
+      return 0;
+    }
+    for (int level = 1; level < maxLevel; level++) {
+      if (fileSize < levelTargetFileSize[level]) {
+        return level;
+      }
+    }
+    return maxLevel;
+  }
+
+  /**
+   * Searches the runs of consecutive files of the given level, each optionally headed by the
+   * unfilled file of the next level right before it, and adds the runs that should be merged to
+   * taskList.
+   */
+  private void selectLevelTask(
+      int level,
+      List<TsFileResource> tsFileResources,
+      List<Integer> levels,
+      List<List<TsFileResource>> taskList) {
+    long nextLevelTargetFileSize = levelTargetFileSize[level + 1];
+    List<TsFileResource> selectedFileList = new ArrayList<>();
+    long selectedFileSize = 0L;
+    int selectedLevelFileNum = 0;
+
+    for (int i = 0; i < tsFileResources.size(); i++) {
+      TsFileResource currentFile = tsFileResources.get(i);
+      boolean closed = currentFile.getStatus() == TsFileResourceStatus.CLOSED;
+      if (!closed || levels.get(i) != level) {
+        // a run of this level is interrupted
+        submitIfNeeded(selectedFileList, hasNextTimePartition, taskList);
+        selectedFileList = new ArrayList<>();
+        selectedFileSize = 0L;
+        selectedLevelFileNum = 0;
+        if (closed
+            && levels.get(i) == level + 1
+            && currentFile.getTsFileSize() < nextLevelTargetFileSize) {
+          // the unfilled file of the next level absorbs the following files of this level
+          selectedFileList.add(currentFile);
+          selectedFileSize += currentFile.getTsFileSize();
+        }
+        continue;
+      }
+      selectedFileList.add(currentFile);
+      selectedFileSize += currentFile.getTsFileSize();
+      selectedLevelFileNum++;
+      if (selectedLevelFileNum >= sizeRatio
+          || selectedFileSize >= nextLevelTargetFileSize
+          || selectedFileList.size() >= config.getMaxInnerCompactionCandidateFileNum()) {
+        submitIfNeeded(selectedFileList, true, taskList);
+        selectedFileList = new ArrayList<>();
+        selectedFileSize = 0L;
+        selectedLevelFileNum = 0;
+      }
+    }
+    // if next time partition exists
+    // submit a merge task even it does not meet the requirement for file num or file size
+    submitIfNeeded(selectedFileList, hasNextTimePartition, taskList);
+  }
+
+  private void submitIfNeeded(
+      List<TsFileResource> selectedFileList,
+      boolean reachThreshold,
+      List<List<TsFileResource>> taskList) {
+    if (reachThreshold && selectedFileList.size() > 1) {
+      LOGGER.debug(
+          "{}-{} [Compaction] select {} files for leveled compaction",
+          storageGroupName,
+          dataRegionId,
+          selectedFileList.size());
+      taskList.add(selectedFileList);
+    }
+  }
+}
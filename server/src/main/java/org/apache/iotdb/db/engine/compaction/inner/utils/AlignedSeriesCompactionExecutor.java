@@ -20,6 +20,7 @@ package org.apache.iotdb.db.engine.compaction.inner.utils;
 
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.engine.cache.ChunkCache;
+import org.apache.iotdb.db.engine.cache.ChunkCacheHint;
 import org.apache.iotdb.db.engine.compaction.CompactionTaskManager;
 import org.apache.iotdb.db.engine.compaction.constant.CompactionType;
 import org.apache.iotdb.db.engine.compaction.constant.ProcessChunkType;
@@ -110,7 +111,9 @@ public class AlignedSeriesCompactionExecutor {
             continue;
           }
           measurementSet.add(chunkMetadata.getMeasurementUid());
-          Chunk chunk = ChunkCache.getInstance().get((ChunkMetadata) chunkMetadata);
+          Chunk chunk =
+              ChunkCache.getInstance()
+                  .get((ChunkMetadata) chunkMetadata, ChunkCacheHint.COMPACTION, false);
           ChunkHeader header = chunk.getHeader();
           schemaSet.add(
               new MeasurementSchema(
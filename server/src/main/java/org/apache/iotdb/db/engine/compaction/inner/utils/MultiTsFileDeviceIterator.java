@@ -53,6 +53,9 @@ public class MultiTsFileDeviceIterator implements AutoCloseable {
   private Map<TsFileResource, TsFileDeviceIterator> deviceIteratorMap = new HashMap<>();
   private Map<TsFileResource, List<Modification>> modificationCache = new HashMap<>();
   private Pair<String, Boolean> currentDevice = null;
+  // resources whose shared readers from FileReaderManager are referenced until close, and null if
+  // the readers are owned by this iterator
+  private List<TsFileResource> referencedResources = null;
 
   /** Used for inner space compaction. */
   public MultiTsFileDeviceIterator(List<TsFileResource> tsFileResources) throws IOException {
@@ -74,20 +77,28 @@ public class MultiTsFileDeviceIterator implements AutoCloseable {
     }
   }
 
-  /** Used for cross space compaction. */
+  /**
+   * Used for cross space compaction. The readers are shared ones from FileReaderManager, and each
+   * of them is referenced until this iterator is closed so that it is not evicted while in use.
+   */
   public MultiTsFileDeviceIterator(
       List<TsFileResource> seqResources, List<TsFileResource> unseqResources) throws IOException {
-    for (TsFileResource tsFileResource : seqResources) {
-      TsFileSequenceReader reader =
-          FileReaderManager.getInstance().get(tsFileResource.getTsFilePath(), true);
-      readerMap.put(tsFileResource, reader);
-      deviceIteratorMap.put(tsFileResource, reader.getAllDevicesIteratorWithIsAligned());
-    }
-    for (TsFileResource tsFileResource : unseqResources) {
-      TsFileSequenceReader reader =
-          FileReaderManager.getInstance().get(tsFileResource.getTsFilePath(), true);
-      readerMap.put(tsFileResource, reader);
-      deviceIteratorMap.put(tsFileResource, reader.getAllDevicesIteratorWithIsAligned());
+    List<TsFileResource> resources = new ArrayList<>(seqResources);
+    resources.addAll(unseqResources);
+    referencedResources = new ArrayList<>(resources.size());
+    try {
+      for (TsFileResource tsFileResource : resources) {
+        FileReaderManager.getInstance().increaseFileReaderReference(tsFileResource, true);
+        referencedResources.add(tsFileResource);
+        TsFileSequenceReader reader =
+            FileReaderManager.getInstance().get(tsFileResource.getTsFilePath(), true);
+        readerMap.put(tsFileResource, reader);
+        deviceIteratorMap.put(tsFileResource, reader.getAllDevicesIteratorWithIsAligned());
+      }
+    } catch (Throwable throwable) {
+      // release the references taken so far
+      close();
+      throw throwable;
     }
   }
 
@@ -231,6 +242,13 @@ public class MultiTsFileDeviceIterator implements AutoCloseable {
 
   @Override
   public void close() throws IOException {
+    if (referencedResources != null) {
+      for (TsFileResource tsFileResource : referencedResources) {
+        FileReaderManager.getInstance().decreaseFileReaderReference(tsFileResource, true);
+      }
+      referencedResources.clear();
+      return;
+    }
     for (TsFileSequenceReader reader : readerMap.values()) {
       reader.close();
     }
@@ -25,14 +25,24 @@ import org.apache.iotdb.db.engine.compaction.constant.CompactionType;
 import org.apache.iotdb.db.engine.compaction.constant.ProcessChunkType;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.service.metrics.recorder.CompactionMetricsRecorder;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.compress.IUnCompressor;
+import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
+import org.apache.iotdb.tsfile.exception.write.PageException;
+import org.apache.iotdb.tsfile.file.MetaMarker;
 import org.apache.iotdb.tsfile.file.header.ChunkHeader;
+import org.apache.iotdb.tsfile.file.header.PageHeader;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.read.TimeValuePair;
 import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
 import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.read.common.TimeRange;
 import org.apache.iotdb.tsfile.read.reader.IChunkReader;
 import org.apache.iotdb.tsfile.read.reader.IPointReader;
 import org.apache.iotdb.tsfile.read.reader.chunk.ChunkReader;
+import org.apache.iotdb.tsfile.read.reader.page.PageReader;
 import org.apache.iotdb.tsfile.utils.Pair;
 import org.apache.iotdb.tsfile.write.chunk.ChunkWriterImpl;
 import org.apache.iotdb.tsfile.write.schema.IMeasurementSchema;
@@ -42,6 +52,7 @@ import org.apache.iotdb.tsfile.write.writer.TsFileIOWriter;
 import com.google.common.util.concurrent.RateLimiter;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -118,6 +129,9 @@ public class SingleSeriesCompactionExecutor {
       List<ChunkMetadata> chunkMetadataList = readerListPair.right;
       for (ChunkMetadata chunkMetadata : chunkMetadataList) {
         Chunk currentChunk = reader.readMemChunk(chunkMetadata);
+        CompactionTaskManager.mergeRateLimiterAcquire(
+            CompactionTaskManager.getInstance().getMergeReadRateLimiter(),
+            getChunkSize(currentChunk));
         if (this.chunkWriter == null) {
           constructChunkWriterFromReadChunk(currentChunk);
         }
@@ -130,6 +144,14 @@ public class SingleSeriesCompactionExecutor {
           continue;
         }
 
+        // the encoding of flushed chunks may differ from chunk to chunk, and pages can only be
+        // appended to a cached chunk with the same encoding and compression
+        if (cachedChunk != null && !canAppendPages(cachedChunk, currentChunk)) {
+          flushChunkToFileWriter(cachedChunk, cachedChunkMetadata, true);
+          cachedChunk = null;
+          cachedChunkMetadata = null;
+        }
+
         long chunkSize = getChunkSize(currentChunk);
         long chunkPointNum = currentChunk.getChunkStatistic().getCount();
         // we process this chunk in three different way according to the size of it
@@ -228,23 +250,128 @@ public class SingleSeriesCompactionExecutor {
     flushChunkWriterIfLargeEnough();
   }
 
-  /** Deserialize a chunk into points and write it to the chunkWriter */
+  /**
+   * Write a chunk to the chunkWriter page by page. A page is copied without decoding if it is large
+   * enough, not touched by deletions and later than all the points written before, otherwise it is
+   * deserialized into points.
+   */
   private void writeChunkIntoChunkWriter(Chunk chunk) throws IOException {
+    ChunkHeader chunkHeader = chunk.getHeader();
+    if (chunk.isFromOldFile()
+        || chunkHeader.getDataType() != schema.getType()
+        || chunkHeader.getEncodingType() != schema.getEncodingType()
+        || chunkHeader.getCompressionType() != schema.getCompressor()) {
+      // the pages of this chunk can not be appended to the chunkWriter
+      deserializeChunkIntoChunkWriter(chunk);
+      return;
+    }
+    ByteBuffer chunkData = chunk.getData();
+    boolean onlyOnePage =
+        ((byte) (chunkHeader.getChunkType() & 0x3F)) == MetaMarker.ONLY_ONE_PAGE_CHUNK_HEADER;
+    while (chunkData.remaining() > 0) {
+      PageHeader pageHeader =
+          onlyOnePage
+              ? PageHeader.deserializeFrom(chunkData, chunk.getChunkStatistic())
+              : PageHeader.deserializeFrom(chunkData, chunkHeader.getDataType());
+      ByteBuffer pageData = chunkData.slice();
+      pageData.limit(pageHeader.getCompressedSize());
+      chunkData.position(chunkData.position() + pageHeader.getCompressedSize());
+      if (canCopyPage(pageHeader, chunk.getDeleteIntervalList())) {
+        copyPageIntoChunkWriter(pageHeader, pageData);
+      } else {
+        deserializePageIntoChunkWriter(
+            chunkHeader, pageHeader, pageData, chunk.getDeleteIntervalList());
+      }
+    }
+  }
+
+  private boolean canCopyPage(PageHeader pageHeader, List<TimeRange> deleteIntervalList) {
+    if (pageHeader.getStartTime() <= maxEndTimestamp) {
+      // the page overlaps with the points written before
+      return false;
+    }
+    // small pages are deserialized so that they are packed into larger ones, and so is the page
+    // following a small unsealed page of the chunkWriter
+    if (pageHeader.getCompressedSize() < chunkSizeLowerBound
+        && pageHeader.getNumOfValues() < chunkPointNumLowerBound) {
+      return false;
+    }
+    long unsealedPointNum = chunkWriter.getPointNumOfUnsealedPage();
+    if (unsealedPointNum > 0 && unsealedPointNum < chunkPointNumLowerBound) {
+      return false;
+    }
+    if (deleteIntervalList != null) {
+      TimeRange pageTimeRange = new TimeRange(pageHeader.getStartTime(), pageHeader.getEndTime());
+      for (TimeRange deleteInterval : deleteIntervalList) {
+        if (deleteInterval.overlaps(pageTimeRange)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /** Append the compressed page to the chunkWriter, only the chunk statistics are updated */
+  private void copyPageIntoChunkWriter(PageHeader pageHeader, ByteBuffer pageData)
+      throws IOException {
+    chunkWriter.sealCurrentPage();
+    try {
+      chunkWriter.writePageHeaderAndDataIntoBuff(pageData, pageHeader);
+    } catch (PageException e) {
+      throw new IOException(e);
+    }
+    if (pageHeader.getStartTime() < minStartTimestamp) {
+      minStartTimestamp = pageHeader.getStartTime();
+    }
+    maxEndTimestamp = pageHeader.getEndTime();
+    pointCountInChunkWriter += pageHeader.getNumOfValues();
+  }
+
+  private void deserializePageIntoChunkWriter(
+      ChunkHeader chunkHeader,
+      PageHeader pageHeader,
+      ByteBuffer pageData,
+      List<TimeRange> deleteIntervalList)
+      throws IOException {
+    byte[] compressedPageData = new byte[pageHeader.getCompressedSize()];
+    pageData.get(compressedPageData);
+    byte[] uncompressedPageData = new byte[pageHeader.getUncompressedSize()];
+    IUnCompressor.getUnCompressor(chunkHeader.getCompressionType())
+        .uncompress(compressedPageData, 0, compressedPageData.length, uncompressedPageData, 0);
+    PageReader pageReader =
+        new PageReader(
+            pageHeader,
+            ByteBuffer.wrap(uncompressedPageData),
+            chunkHeader.getDataType(),
+            Decoder.getDecoderByType(chunkHeader.getEncodingType(), chunkHeader.getDataType()),
+            Decoder.getDecoderByType(
+                TSEncoding.valueOf(TSFileDescriptor.getInstance().getConfig().getTimeEncoder()),
+                TSDataType.INT64),
+            null);
+    pageReader.setDeleteIntervalList(deleteIntervalList);
+    writePointsIntoChunkWriter(pageReader.getAllSatisfiedPageData().getBatchDataIterator());
+  }
+
+  /** Deserialize a chunk into points and write it to the chunkWriter */
+  private void deserializeChunkIntoChunkWriter(Chunk chunk) throws IOException {
     IChunkReader chunkReader = new ChunkReader(chunk, null);
     while (chunkReader.hasNextSatisfiedPage()) {
-      IPointReader batchIterator = chunkReader.nextPageData().getBatchDataIterator();
-      while (batchIterator.hasNextTimeValuePair()) {
-        TimeValuePair timeValuePair = batchIterator.nextTimeValuePair();
-        writeTimeAndValueToChunkWriter(timeValuePair);
-        if (timeValuePair.getTimestamp() > maxEndTimestamp) {
-          maxEndTimestamp = timeValuePair.getTimestamp();
-        }
-        if (timeValuePair.getTimestamp() < minStartTimestamp) {
-          minStartTimestamp = timeValuePair.getTimestamp();
-        }
+      writePointsIntoChunkWriter(chunkReader.nextPageData().getBatchDataIterator());
+    }
+  }
+
+  private void writePointsIntoChunkWriter(IPointReader batchIterator) throws IOException {
+    while (batchIterator.hasNextTimeValuePair()) {
+      TimeValuePair timeValuePair = batchIterator.nextTimeValuePair();
+      writeTimeAndValueToChunkWriter(timeValuePair);
+      if (timeValuePair.getTimestamp() > maxEndTimestamp) {
+        maxEndTimestamp = timeValuePair.getTimestamp();
+      }
+      if (timeValuePair.getTimestamp() < minStartTimestamp) {
+        minStartTimestamp = timeValuePair.getTimestamp();
       }
+      pointCountInChunkWriter++;
     }
-    pointCountInChunkWriter += chunk.getChunkStatistic().getCount();
   }
 
   private void writeCachedChunkIntoChunkWriter() throws IOException {
@@ -270,6 +397,12 @@ public class SingleSeriesCompactionExecutor {
     cachedChunkMetadata.mergeChunkMetadata(currentChunkMetadata);
   }
 
+  private boolean canAppendPages(Chunk cachedChunk, Chunk currentChunk) {
+    return cachedChunk.getHeader().getEncodingType() == currentChunk.getHeader().getEncodingType()
+        && cachedChunk.getHeader().getCompressionType()
+            == currentChunk.getHeader().getCompressionType();
+  }
+
   private void writeTimeAndValueToChunkWriter(TimeValuePair timeValuePair) {
     switch (chunkWriter.getDataType()) {
       case TEXT:
@@ -24,6 +24,7 @@ import org.apache.iotdb.commons.exception.MetadataException;
 import org.apache.iotdb.commons.path.PartialPath;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.engine.cache.ChunkCache;
+import org.apache.iotdb.db.engine.cache.ChunkCacheHint;
 import org.apache.iotdb.db.engine.compaction.CompactionTaskManager;
 import org.apache.iotdb.db.engine.compaction.cross.rewrite.task.ReadPointPerformerSubTask;
 import org.apache.iotdb.db.engine.compaction.inner.utils.MultiTsFileDeviceIterator;
@@ -62,6 +63,7 @@ import org.apache.iotdb.tsfile.write.writer.TsFileIOWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -71,6 +73,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
@@ -82,7 +85,7 @@ public class ReadPointCompactionPerformer
   private List<TsFileResource> unseqFiles = Collections.emptyList();
   private static final int subTaskNum =
       IoTDBDescriptor.getInstance().getConfig().getSubCompactionTaskNum();
-  private Map<TsFileResource, TsFileSequenceReader> readerCacheMap = new HashMap<>();
+  private Map<TsFileResource, TsFileSequenceReader> readerCacheMap = new ConcurrentHashMap<>();
   private CompactionTaskSummary summary;
 
   private List<TsFileResource> targetFiles = Collections.emptyList();
@@ -116,24 +119,30 @@ public class ReadPointCompactionPerformer
         .addUsedFilesForQuery(queryId, queryDataSource);
 
     try (AbstractCompactionWriter compactionWriter =
-        getCompactionWriter(seqFiles, unseqFiles, targetFiles)) {
-      // Do not close device iterator, because tsfile reader is managed by FileReaderManager.
-      MultiTsFileDeviceIterator deviceIterator =
-          new MultiTsFileDeviceIterator(seqFiles, unseqFiles);
+            getCompactionWriter(seqFiles, unseqFiles, targetFiles);
+        // closing the device iterator only releases its references to the shared readers
+        MultiTsFileDeviceIterator deviceIterator =
+            new MultiTsFileDeviceIterator(seqFiles, unseqFiles)) {
+      List<Pair<String, Boolean>> devices = new ArrayList<>();
       while (deviceIterator.hasNextDevice()) {
-        checkThreadInterrupted();
-        Pair<String, Boolean> deviceInfo = deviceIterator.nextDevice();
-        String device = deviceInfo.left;
-        boolean isAligned = deviceInfo.right;
-        QueryUtils.fillOrderIndexes(queryDataSource, device, true);
-
-        if (isAligned) {
-          compactAlignedSeries(
-              device, deviceIterator, compactionWriter, fragmentInstanceContext, queryDataSource);
-        } else {
-          compactNonAlignedSeries(
-              device, deviceIterator, compactionWriter, fragmentInstanceContext, queryDataSource);
-        }
+        devices.add(deviceIterator.nextDevice());
+      }
+
+      int deviceRangeNum = getDeviceRangeNum(devices.size(), compactionWriter);
+      if (deviceRangeNum > 1) {
+        compactDeviceRanges(
+            devices,
+            deviceRangeNum,
+            (CrossSpaceCompactionWriter) compactionWriter,
+            fragmentInstanceContext);
+      } else {
+        compactDevices(
+            devices,
+            deviceIterator,
+            compactionWriter,
+            fragmentInstanceContext,
+            queryDataSource,
+            true);
       }
 
       compactionWriter.endFile();
@@ -155,6 +164,130 @@ public class ReadPointCompactionPerformer
     this.summary = summary;
   }
 
+  private int getDeviceRangeNum(int deviceNum, AbstractCompactionWriter compactionWriter) {
+    int minDeviceNumPerRange =
+        IoTDBDescriptor.getInstance().getConfig().getMinDeviceNumPerSubCompactionRange();
+    if (!(compactionWriter instanceof CrossSpaceCompactionWriter) || minDeviceNumPerRange <= 0) {
+      return 1;
+    }
+    return Math.max(1, Math.min(subTaskNum, deviceNum / minDeviceNumPerRange));
+  }
+
+  /**
+   * Split the sorted devices into consecutive ranges with the same number of devices, and compact
+   * each range in a sub task. The first range is written into the target files directly, while each
+   * of the other ranges is written into its own temporary files, whose chunk groups are appended to
+   * the target files after all sub tasks finish. As the ranges are disjoint, the metadata index of
+   * each target file is built from the chunk groups of all ranges when the file ends. The size of
+   * the temporary files is recorded in the summary, so that the write amplification counts them.
+   */
+  private void compactDeviceRanges(
+      List<Pair<String, Boolean>> devices,
+      int deviceRangeNum,
+      CrossSpaceCompactionWriter compactionWriter,
+      FragmentInstanceContext fragmentInstanceContext)
+      throws IOException, InterruptedException {
+    List<CrossSpaceCompactionWriter> rangeWriters = new ArrayList<>();
+    List<TsFileResource> rangeFiles = new ArrayList<>();
+    List<Future<Void>> futures = new ArrayList<>();
+    try {
+      rangeWriters.add(compactionWriter);
+      for (int i = 1; i < deviceRangeNum; i++) {
+        List<TsFileResource> rangeTargetFiles = new ArrayList<>();
+        for (TsFileResource targetFile : targetFiles) {
+          rangeTargetFiles.add(
+              new TsFileResource(
+                  new File(
+                      targetFile.getTsFilePath()
+                          + IoTDBConstant.CROSS_COMPACTION_RANGE_FILE_SUFFIX
+                          + i)));
+        }
+        rangeFiles.addAll(rangeTargetFiles);
+        rangeWriters.add(new CrossSpaceCompactionWriter(rangeTargetFiles, seqFiles));
+      }
+
+      for (int i = 0; i < deviceRangeNum; i++) {
+        List<Pair<String, Boolean>> rangeDevices =
+            devices.subList(
+                devices.size() * i / deviceRangeNum, devices.size() * (i + 1) / deviceRangeNum);
+        CrossSpaceCompactionWriter rangeWriter = rangeWriters.get(i);
+        futures.add(
+            CompactionTaskManager.getInstance()
+                .submitSubTask(
+                    () -> {
+                      // each sub task has its own order indexes of the source files
+                      try (MultiTsFileDeviceIterator rangeDeviceIterator =
+                          new MultiTsFileDeviceIterator(seqFiles, unseqFiles)) {
+                        compactDevices(
+                            rangeDevices,
+                            rangeDeviceIterator,
+                            rangeWriter,
+                            fragmentInstanceContext,
+                            new QueryDataSource(seqFiles, unseqFiles),
+                            false);
+                      }
+                      return null;
+                    }));
+      }
+
+      // wait for all sub tasks finish
+      for (Future<Void> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          LOGGER.error("[Compaction] SubCompactionTask meet errors ", e);
+          throw new IOException(e);
+        }
+      }
+
+      for (int i = 1; i < deviceRangeNum; i++) {
+        summary.addTemporaryFileSize(compactionWriter.appendChunkGroups(rangeWriters.get(i)));
+      }
+    } finally {
+      // stop the remaining sub tasks if any sub task fails
+      for (Future<Void> future : futures) {
+        future.cancel(true);
+      }
+      for (int i = 1; i < rangeWriters.size(); i++) {
+        rangeWriters.get(i).close();
+      }
+      for (TsFileResource rangeFile : rangeFiles) {
+        if (rangeFile.getTsFile().exists() && !rangeFile.getTsFile().delete()) {
+          LOGGER.warn("[Compaction] Failed to delete temporary file {}", rangeFile.getTsFile());
+        }
+      }
+    }
+  }
+
+  private void compactDevices(
+      List<Pair<String, Boolean>> devices,
+      MultiTsFileDeviceIterator deviceIterator,
+      AbstractCompactionWriter compactionWriter,
+      FragmentInstanceContext fragmentInstanceContext,
+      QueryDataSource queryDataSource,
+      boolean parallelMeasurements)
+      throws IOException, MetadataException, InterruptedException {
+    for (Pair<String, Boolean> deviceInfo : devices) {
+      checkThreadInterrupted();
+      String device = deviceInfo.left;
+      boolean isAligned = deviceInfo.right;
+      QueryUtils.fillOrderIndexes(queryDataSource, device, true);
+
+      if (isAligned) {
+        compactAlignedSeries(
+            device, deviceIterator, compactionWriter, fragmentInstanceContext, queryDataSource);
+      } else {
+        compactNonAlignedSeries(
+            device,
+            deviceIterator,
+            compactionWriter,
+            fragmentInstanceContext,
+            queryDataSource,
+            parallelMeasurements);
+      }
+    }
+  }
+
   private void compactAlignedSeries(
       String device,
       MultiTsFileDeviceIterator deviceIterator,
@@ -199,13 +332,35 @@ public class ReadPointCompactionPerformer
       MultiTsFileDeviceIterator deviceIterator,
       AbstractCompactionWriter compactionWriter,
       FragmentInstanceContext fragmentInstanceContext,
-      QueryDataSource queryDataSource)
+      QueryDataSource queryDataSource,
+      boolean parallelMeasurements)
       throws IOException, InterruptedException, IllegalPathException {
     MultiTsFileDeviceIterator.MeasurementIterator measurementIterator =
         deviceIterator.iterateNotAlignedSeries(device, false);
     Set<String> allMeasurements = measurementIterator.getAllMeasurements();
-    int subTaskNums = Math.min(allMeasurements.size(), subTaskNum);
     Map<String, MeasurementSchema> schemaMap = getMeasurementSchema(device, allMeasurements);
+    if (!parallelMeasurements) {
+      // the device is compacted in a sub task already, so compact its measurements in this thread
+      compactionWriter.startChunkGroup(device, false);
+      try {
+        new ReadPointPerformerSubTask(
+                device,
+                allMeasurements,
+                fragmentInstanceContext,
+                queryDataSource,
+                compactionWriter,
+                schemaMap,
+                0)
+            .call();
+      } catch (IOException | IllegalPathException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IOException(e);
+      }
+      compactionWriter.endChunkGroup();
+      return;
+    }
+    int subTaskNums = Math.min(allMeasurements.size(), subTaskNum);
 
     // assign all measurements to different sub tasks
     Set<String>[] measurementsForEachSubTask = new HashSet[subTaskNums];
@@ -303,7 +458,8 @@ public class ReadPointCompactionPerformer
         reader.getChunkMetadataList(new PartialPath(device, measurement), true);
     if (chunkMetadata.size() > 0) {
       chunkMetadata.get(0).setFilePath(resource.getTsFilePath());
-      Chunk chunk = ChunkCache.getInstance().get(chunkMetadata.get(0));
+      Chunk chunk =
+          ChunkCache.getInstance().get(chunkMetadata.get(0), ChunkCacheHint.COMPACTION, false);
       ChunkHeader header = chunk.getHeader();
       return new MeasurementSchema(
           measurement, header.getDataType(), header.getEncodingType(), header.getCompressionType());
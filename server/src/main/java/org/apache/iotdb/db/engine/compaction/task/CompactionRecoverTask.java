@@ -97,6 +97,12 @@ public class CompactionRecoverTask {
           return;
         }
 
+        // remove temporary files of device ranges, which are never part of the target files
+        if (!isInnerSpace && !deleteDeviceRangeFiles(targetFileIdentifiers)) {
+          recoverSuccess = false;
+          return;
+        }
+
         // check is all source files existed
         boolean isAllSourcesFileExisted = true;
         for (TsFileIdentifier sourceFileIdentifier : sourceFileIdentifiers) {
@@ -268,6 +274,35 @@ public class CompactionRecoverTask {
     return handleSuccess;
   }
 
+  /**
+   * Delete the temporary files that the device ranges of a cross space compaction are written
+   * into, which are named after the tmp target file with the suffix {@link
+   * IoTDBConstant#CROSS_COMPACTION_RANGE_FILE_SUFFIX} and the index of the range.
+   */
+  private boolean deleteDeviceRangeFiles(List<TsFileIdentifier> targetFileIdentifiers) {
+    String[] dataDirs = IoTDBDescriptor.getInstance().getConfig().getDataDirs();
+    for (TsFileIdentifier targetFileIdentifier : targetFileIdentifiers) {
+      for (String dataDir : dataDirs) {
+        File tmpTargetFile = new File(dataDir, targetFileIdentifier.getFilePath());
+        String rangeFilePrefix =
+            tmpTargetFile.getName() + IoTDBConstant.CROSS_COMPACTION_RANGE_FILE_SUFFIX;
+        File[] rangeFiles =
+            tmpTargetFile
+                .getParentFile()
+                .listFiles((dir, name) -> name.startsWith(rangeFilePrefix));
+        if (rangeFiles == null) {
+          continue;
+        }
+        for (File rangeFile : rangeFiles) {
+          if (!checkAndDeleteFile(rangeFile)) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
   /**
    * This method find the File object of given filePath by searching it in every data directory. If
    * the file is not found, it will return null.
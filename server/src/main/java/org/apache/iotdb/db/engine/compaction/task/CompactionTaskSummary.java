@@ -23,6 +23,7 @@ public class CompactionTaskSummary {
   private long timeCost = 0L;
   private volatile Status status = Status.NOT_STARTED;
   private long startTime = -1L;
+  private long temporaryFileSize = 0L;
 
   public CompactionTaskSummary() {}
 
@@ -65,6 +66,15 @@ public class CompactionTaskSummary {
     return timeCost;
   }
 
+  /** Record the bytes written into temporary files, which are not part of the target files. */
+  public void addTemporaryFileSize(long size) {
+    this.temporaryFileSize += size;
+  }
+
+  public long getTemporaryFileSize() {
+    return temporaryFileSize;
+  }
+
   enum Status {
     NOT_STARTED,
     STARTED,
@@ -144,6 +144,24 @@ public class CrossSpaceCompactionWriter extends AbstractCompactionWriter {
     seqTsFileResources = null;
   }
 
+  /**
+   * Append the chunk groups written by another writer of the same source seq files to the target
+   * files of this writer. The two writers must have written disjoint devices, and the other writer
+   * must not have ended its files. The copied bytes are limited by the merge write rate limiter.
+   *
+   * @return the number of bytes appended to the target files
+   */
+  public long appendChunkGroups(CrossSpaceCompactionWriter writer) throws IOException {
+    long appendedSize = 0;
+    for (int i = 0; i < fileWriterList.size(); i++) {
+      long fileAppendedSize = fileWriterList.get(i).appendChunkGroups(writer.fileWriterList.get(i));
+      writeRateLimit(fileAppendedSize);
+      appendedSize += fileAppendedSize;
+      isEmptyFile[i] = isEmptyFile[i] && writer.isEmptyFile[i];
+    }
+    return appendedSize;
+  }
+
   @Override
   public List<TsFileIOWriter> getFileIOWriter() {
     return fileWriterList;
@@ -175,10 +193,18 @@ public class CrossSpaceCompactionWriter extends AbstractCompactionWriter {
         currentDeviceEndTime[fileIndex] = seqTsFileResources.get(fileIndex).getEndTime(deviceId);
       } else {
         long endTime = Long.MIN_VALUE;
-        Map<String, TimeseriesMetadata> deviceMetadataMap =
-            FileReaderManager.getInstance()
-                .get(seqTsFileResources.get(fileIndex).getTsFilePath(), true)
-                .readDeviceMetadata(deviceId);
+        TsFileResource seqResource = seqTsFileResources.get(fileIndex);
+        Map<String, TimeseriesMetadata> deviceMetadataMap;
+        // hold a reference so that the shared reader is not evicted while reading
+        FileReaderManager.getInstance().increaseFileReaderReference(seqResource, true);
+        try {
+          deviceMetadataMap =
+              FileReaderManager.getInstance()
+                  .get(seqResource.getTsFilePath(), true)
+                  .readDeviceMetadata(deviceId);
+        } finally {
+          FileReaderManager.getInstance().decreaseFileReaderReference(seqResource, true);
+        }
         for (Map.Entry<String, TimeseriesMetadata> entry : deviceMetadataMap.entrySet()) {
           long tmpStartTime = entry.getValue().getStatistics().getStartTime();
           long tmpEndTime = entry.getValue().getStatistics().getEndTime();
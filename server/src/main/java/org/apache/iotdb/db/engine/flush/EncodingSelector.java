@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.flush;
+
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.utils.EncodingInferenceUtils;
+import org.apache.iotdb.db.utils.datastructure.TVList;
+import org.apache.iotdb.tsfile.common.constant.TsFileConstant;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.encoding.encoder.TSEncodingBuilder;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.write.schema.IMeasurementSchema;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chooses the encoding of a series when it is flushed by trial-encoding the first points of the
+ * series with every lossless encoding of its data type. The chosen encoding is recorded in the
+ * ChunkHeader, so readers and compaction decode each chunk with the encoding it was written with.
+ *
+ * <p>Selection is opt-in per database by {@code encoding_selection_databases}, since a schema does
+ * not record whether its encoding was chosen in CREATE TIMESERIES: in these databases the series
+ * encoded with the default encoding of their data type, e.g. the automatically created ones, are
+ * considered. A series with another encoding or with encoding properties is always kept.
+ *
+ * <p>A selector is created for each flushed memtable, and trial-encodes at most {@code
+ * encoding_selection_points_per_flush} points in total, the series flushed after that keep their
+ * encodings.
+ */
+public class EncodingSelector {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(EncodingSelector.class);
+
+  private static final IoTDBConfig CONFIG = IoTDBDescriptor.getInstance().getConfig();
+
+  // candidates of each data type, sorted from the cheapest to the most expensive to decode
+  private static final TSEncoding[] BOOLEAN_CANDIDATES = {TSEncoding.PLAIN, TSEncoding.RLE};
+  private static final TSEncoding[] INTEGER_CANDIDATES = {
+    TSEncoding.PLAIN,
+    TSEncoding.RLE,
+    TSEncoding.TS_2DIFF,
+    TSEncoding.ZIGZAG,
+    TSEncoding.GORILLA,
+    TSEncoding.CHIMP
+  };
+  // RLE and TS_2DIFF round floating-point values to float_precision, so they are not candidates
+  private static final TSEncoding[] FLOATING_POINT_CANDIDATES = {
+    TSEncoding.PLAIN, TSEncoding.GORILLA, TSEncoding.CHIMP, TSEncoding.ELF
+  };
+  private static final TSEncoding[] TEXT_CANDIDATES = {TSEncoding.PLAIN, TSEncoding.DICTIONARY};
+
+  private final EncodingSelectionPolicy policy;
+  private final String[] databases;
+
+  /** points that can still be trial-encoded in this flush, series may be encoded in parallel */
+  private final AtomicLong remainingTrialPoints;
+
+  private EncodingSelector(EncodingSelectionPolicy policy, String[] databases) {
+    this.policy = policy;
+    this.databases = databases;
+    this.remainingTrialPoints = new AtomicLong(CONFIG.getEncodingSelectionPointsPerFlush());
+  }
+
+  /** @return a selector for one flushed memtable, or null if encoding selection is disabled */
+  public static EncodingSelector create() {
+    EncodingSelectionPolicy policy = CONFIG.getEncodingSelectionPolicy();
+    String[] databases = CONFIG.getEncodingSelectionDatabases();
+    return policy == EncodingSelectionPolicy.NONE || databases.length == 0
+        ? null
+        : new EncodingSelector(policy, databases);
+  }
+
+  /** @return whether the encodings of the series of the device may be chosen */
+  public boolean isEnabled(String deviceId) {
+    for (String database : databases) {
+      if (deviceId.startsWith(database)
+          && (deviceId.length() == database.length()
+              || deviceId.charAt(database.length()) == TsFileConstant.PATH_SEPARATOR_CHAR)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param schema schema of the flushed series
+   * @param list sorted points of the flushed series
+   * @return the schema to write the series with, which is the given one if its encoding is kept
+   */
+  public IMeasurementSchema select(IMeasurementSchema schema, TVList list) {
+    if (list.rowCount() == 0
+        || (schema.getProps() != null && !schema.getProps().isEmpty())
+        || schema.getEncodingType() != EncodingInferenceUtils.getDefaultEncoding(schema.getType())) {
+      return schema;
+    }
+    int sampleSize = Math.min(list.rowCount(), CONFIG.getEncodingSelectionSampleSize());
+    // the current encoding and every candidate are tried at most
+    long trialPoints = (long) sampleSize * (getCandidates(schema.getType()).length + 1);
+    if (remainingTrialPoints.addAndGet(-trialPoints) < 0) {
+      return schema;
+    }
+    TSEncoding selected =
+        select(schema.getType(), schema.getEncodingType(), list, sampleSize, policy);
+    if (selected == schema.getEncodingType()) {
+      return schema;
+    }
+    LOGGER.debug(
+        "Series {} is flushed with {} instead of {}",
+        schema.getMeasurementId(),
+        selected,
+        schema.getEncodingType());
+    return new MeasurementSchema(
+        schema.getMeasurementId(), schema.getType(), selected, schema.getCompressor());
+  }
+
+  static TSEncoding select(
+      TSDataType dataType,
+      TSEncoding current,
+      TVList list,
+      int sampleSize,
+      EncodingSelectionPolicy policy) {
+    TSEncoding[] candidates = getCandidates(dataType);
+    int currentSize = encodedSize(current, dataType, list, sampleSize);
+    TSEncoding selected = current;
+    int selectedSize = currentSize;
+    for (TSEncoding candidate : candidates) {
+      if (candidate == current) {
+        if (policy == EncodingSelectionPolicy.DECODE_SPEED) {
+          // no candidate cheaper to decode is as small
+          return current;
+        }
+        continue;
+      }
+      int size = encodedSize(candidate, dataType, list, sampleSize);
+      if (policy == EncodingSelectionPolicy.DECODE_SPEED) {
+        // the first candidate not larger than the current encoding is the cheapest to decode
+        if (size <= currentSize) {
+          return candidate;
+        }
+      } else if (size < selectedSize) {
+        selected = candidate;
+        selectedSize = size;
+      }
+    }
+    return selected;
+  }
+
+  private static TSEncoding[] getCandidates(TSDataType dataType) {
+    switch (dataType) {
+      case BOOLEAN:
+        return BOOLEAN_CANDIDATES;
+      case INT32:
+      case INT64:
+        return INTEGER_CANDIDATES;
+      case FLOAT:
+      case DOUBLE:
+        return FLOATING_POINT_CANDIDATES;
+      case TEXT:
+        return TEXT_CANDIDATES;
+      default:
+        return new TSEncoding[0];
+    }
+  }
+
+  /** @return bytes of the first sampleSize values of the list encoded with the given encoding */
+  private static int encodedSize(
+      TSEncoding encoding, TSDataType dataType, TVList list, int sampleSize) {
+    TSEncodingBuilder builder = TSEncodingBuilder.getEncodingBuilder(encoding);
+    builder.initFromProps(null);
+    Encoder encoder = builder.getEncoder(dataType);
+    PublicBAOS out = new PublicBAOS();
+    for (int i = 0; i < sampleSize; i++) {
+      switch (dataType) {
+        case BOOLEAN:
+          encoder.encode(list.getBoolean(i), out);
+          break;
+        case INT32:
+          encoder.encode(list.getInt(i), out);
+          break;
+        case INT64:
+          encoder.encode(list.getLong(i), out);
+          break;
+        case FLOAT:
+          encoder.encode(list.getFloat(i), out);
+          break;
+        case DOUBLE:
+          encoder.encode(list.getDouble(i), out);
+          break;
+        case TEXT:
+          encoder.encode(list.getBinary(i), out);
+          break;
+        default:
+          break;
+      }
+    }
+    try {
+      encoder.flush(out);
+    } catch (IOException e) {
+      // PublicBAOS never throws, the candidate is simply not chosen
+      return Integer.MAX_VALUE;
+    }
+    return out.size();
+  }
+}
@@ -25,6 +25,7 @@ import org.apache.iotdb.commons.service.JMXService;
 import org.apache.iotdb.commons.service.ServiceType;
 import org.apache.iotdb.db.conf.IoTDBConfig;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.flush.pool.FlushEncodingTaskPoolManager;
 import org.apache.iotdb.db.engine.flush.pool.FlushSubTaskPoolManager;
 import org.apache.iotdb.db.engine.flush.pool.FlushTaskPoolManager;
 import org.apache.iotdb.db.engine.storagegroup.TsFileProcessor;
@@ -52,6 +53,7 @@ public class FlushManager implements FlushManagerMBean, IService {
   @Override
   public void start() throws StartupException {
     FlushSubTaskPoolManager.getInstance().start();
+    FlushEncodingTaskPoolManager.getInstance().start();
     flushPool.start();
     try {
       JMXService.registerMBean(this, ServiceType.FLUSH_SERVICE.getJmxName());
@@ -83,6 +85,7 @@ public class FlushManager implements FlushManagerMBean, IService {
   @Override
   public void stop() {
     FlushSubTaskPoolManager.getInstance().stop();
+    FlushEncodingTaskPoolManager.getInstance().stop();
     FlushTaskPoolManager.getInstance().stop();
     JMXService.deregisterMBean(ServiceType.FLUSH_SERVICE.getJmxName());
   }
@@ -20,10 +20,12 @@ package org.apache.iotdb.db.engine.flush;
 
 import org.apache.iotdb.db.conf.IoTDBConfig;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.flush.pool.FlushEncodingTaskPoolManager;
 import org.apache.iotdb.db.engine.flush.pool.FlushSubTaskPoolManager;
 import org.apache.iotdb.db.engine.memtable.IMemTable;
 import org.apache.iotdb.db.engine.memtable.IWritableMemChunk;
 import org.apache.iotdb.db.engine.memtable.IWritableMemChunkGroup;
+import org.apache.iotdb.db.engine.rollup.RollupWriter;
 import org.apache.iotdb.db.exception.runtime.FlushRunTimeException;
 import org.apache.iotdb.db.metadata.idtable.entry.IDeviceID;
 import org.apache.iotdb.db.rescon.SystemInfo;
@@ -43,16 +45,21 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * flush task to flush one memtable using a pipeline model to flush, which is sort memtable ->
- * encoding -> write to disk (io task)
+ * encoding -> write to disk (io task). When flush_encoding_thread_count is larger than 1, the
+ * encoding task hands each series to the shared encoding pool and passes the future of its chunk to
+ * the io task, which writes the chunks in the order of the memtable.
  */
 public class MemTableFlushTask {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(MemTableFlushTask.class);
   private static final FlushSubTaskPoolManager SUB_TASK_POOL_MANAGER =
       FlushSubTaskPoolManager.getInstance();
+  private static final FlushEncodingTaskPoolManager ENCODING_TASK_POOL_MANAGER =
+      FlushEncodingTaskPoolManager.getInstance();
   private static IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
   private final Future<?> encodingTaskFuture;
   private final Future<?> ioTaskFuture;
@@ -68,7 +75,14 @@ public class MemTableFlushTask {
 
   private IMemTable memTable;
 
-  private volatile long memSerializeTime = 0L;
+  /** collects rollups of flushed series, null if the flushed file has no rollup */
+  private final RollupWriter rollupWriter;
+
+  /** chooses the encodings of flushed series, null if encoding selection is disabled */
+  private final EncodingSelector encodingSelector = EncodingSelector.create();
+
+  /** sum of the time spent encoding every series, which may overlap in parallel encoding */
+  private final AtomicLong memSerializeTime = new AtomicLong();
   private volatile long ioTime = 0L;
 
   /**
@@ -78,9 +92,24 @@ public class MemTableFlushTask {
    */
   public MemTableFlushTask(
       IMemTable memTable, RestorableTsFileIOWriter writer, String storageGroup) {
+    this(memTable, writer, storageGroup, null);
+  }
+
+  /**
+   * @param memTable the memTable to flush
+   * @param writer the writer where memTable will be flushed to (current tsfile writer or vm writer)
+   * @param storageGroup current storage group
+   * @param rollupWriter collects rollups of the flushed series, null to skip rollups
+   */
+  public MemTableFlushTask(
+      IMemTable memTable,
+      RestorableTsFileIOWriter writer,
+      String storageGroup,
+      RollupWriter rollupWriter) {
     this.memTable = memTable;
     this.writer = writer;
     this.storageGroup = storageGroup;
+    this.rollupWriter = rollupWriter;
     this.encodingTaskFuture = SUB_TASK_POOL_MANAGER.submit(encodingTask);
     this.ioTaskFuture = SUB_TASK_POOL_MANAGER.submit(ioTask);
     LOGGER.debug(
@@ -107,7 +136,7 @@ public class MemTableFlushTask {
               ? 0
               : memTable.memSize()
                   / memTable.getSeriesNumber()
-                  * config.getIoTaskQueueSizeForFlushing();
+                  * (config.getIoTaskQueueSizeForFlushing() + getEncodingParallelism());
       SystemInfo.getInstance().applyTemporaryMemoryForFlushing(estimatedTemporaryMemSize);
     }
     long start = System.currentTimeMillis();
@@ -158,7 +187,9 @@ public class MemTableFlushTask {
       if (estimatedTemporaryMemSize != 0) {
         SystemInfo.getInstance().releaseTemporaryMemoryForFlushing(estimatedTemporaryMemSize);
       }
-      SystemInfo.getInstance().setEncodingFasterThanIo(ioTime >= memSerializeTime);
+      SystemInfo.getInstance()
+          .setEncodingFasterThanIo(
+              ioTime >= memSerializeTime.get() / Math.max(1, getEncodingParallelism()));
     }
 
     MetricService.getInstance()
@@ -188,6 +219,7 @@ public class MemTableFlushTask {
               "Storage group {} memtable flushing to file {} starts to encoding data.",
               storageGroup,
               writer.getFile().getName());
+          String deviceId = null;
           while (true) {
 
             Object task;
@@ -199,6 +231,9 @@ public class MemTableFlushTask {
               break;
             }
             if (task instanceof StartFlushGroupIOTask || task instanceof EndChunkGroupIoTask) {
+              if (task instanceof StartFlushGroupIOTask) {
+                deviceId = ((StartFlushGroupIOTask) task).deviceId;
+              }
               try {
                 ioTaskQueue.put(task);
               } catch (
@@ -215,19 +250,22 @@ public class MemTableFlushTask {
             } else if (task instanceof TaskEnd) {
               break;
             } else {
-              long starTime = System.currentTimeMillis();
               IWritableMemChunk writableMemChunk = (IWritableMemChunk) task;
-              IChunkWriter seriesWriter = writableMemChunk.createIChunkWriter();
-              writableMemChunk.encode(seriesWriter);
-              seriesWriter.sealCurrentPage();
-              seriesWriter.clearPageWriter();
+              Object ioTask;
+              if (getEncodingParallelism() > 0) {
+                String chunkDeviceId = deviceId;
+                ioTask =
+                    ENCODING_TASK_POOL_MANAGER.submit(
+                        () -> encodeSeries(chunkDeviceId, writableMemChunk));
+              } else {
+                ioTask = encodeSeries(deviceId, writableMemChunk);
+              }
               try {
-                ioTaskQueue.put(seriesWriter);
+                ioTaskQueue.put(ioTask);
               } catch (InterruptedException e) {
                 LOGGER.error("Put task into ioTaskQueue Interrupted");
                 Thread.currentThread().interrupt();
               }
-              memSerializeTime += System.currentTimeMillis() - starTime;
             }
           }
           try {
@@ -241,10 +279,33 @@ public class MemTableFlushTask {
               "Storage group {}, flushing memtable {} into disk: Encoding data cost " + "{} ms.",
               storageGroup,
               writer.getFile().getName(),
-              memSerializeTime);
+              memSerializeTime.get());
         }
       };
 
+  /** @return number of threads encoding series in parallel, 0 if encoded in the encoding task */
+  private static int getEncodingParallelism() {
+    int threadCount = config.getFlushEncodingThreadCount();
+    return threadCount > 1 ? threadCount : 0;
+  }
+
+  private IChunkWriter encodeSeries(String deviceId, IWritableMemChunk writableMemChunk) {
+    long starTime = System.currentTimeMillis();
+    IChunkWriter seriesWriter =
+        writableMemChunk.createIChunkWriter(
+            encodingSelector != null && encodingSelector.isEnabled(deviceId)
+                ? encodingSelector
+                : null);
+    writableMemChunk.encode(seriesWriter);
+    if (rollupWriter != null) {
+      rollupWriter.collect(deviceId, writableMemChunk);
+    }
+    seriesWriter.sealCurrentPage();
+    seriesWriter.clearPageWriter();
+    memSerializeTime.addAndGet(System.currentTimeMillis() - starTime);
+    return seriesWriter;
+  }
+
   /** io task (third task of pipeline) */
   @SuppressWarnings("squid:S135")
   private Runnable ioTask =
@@ -253,6 +314,7 @@ public class MemTableFlushTask {
             "Storage group {} memtable flushing to file {} start io.",
             storageGroup,
             writer.getFile().getName());
+        ExecutionException encodingFailure = null;
         while (true) {
           Object ioMessage = null;
           try {
@@ -262,6 +324,31 @@ public class MemTableFlushTask {
             Thread.currentThread().interrupt();
             break;
           }
+          if (encodingFailure != null && !(ioMessage instanceof TaskEnd)) {
+            // keep draining the queue so that the encoding task is not blocked
+            if (ioMessage instanceof Future) {
+              ((Future<?>) ioMessage).cancel(false);
+            }
+            continue;
+          }
+          if (ioMessage instanceof Future) {
+            // the series is encoded by the encoding pool, wait for its chunk in memtable order
+            try {
+              ioMessage = ((Future<?>) ioMessage).get();
+            } catch (InterruptedException e) {
+              LOGGER.error("wait for encoded chunk Interrupted");
+              Thread.currentThread().interrupt();
+              break;
+            } catch (ExecutionException e) {
+              LOGGER.error(
+                  "Storage group {} memtable {}, encoding task meets error.",
+                  storageGroup,
+                  memTable,
+                  e);
+              encodingFailure = e;
+              continue;
+            }
+          }
           long starTime = System.currentTimeMillis();
           try {
             if (ioMessage instanceof StartFlushGroupIOTask) {
@@ -287,6 +374,9 @@ public class MemTableFlushTask {
             writer.getFile().getName(),
             storageGroup,
             ioTime);
+        if (encodingFailure != null) {
+          throw new FlushRunTimeException(encodingFailure);
+        }
       };
 
   static class TaskEnd {
@@ -18,6 +18,7 @@
  */
 package org.apache.iotdb.db.engine.memtable;
 
+import org.apache.iotdb.db.engine.flush.EncodingSelector;
 import org.apache.iotdb.db.utils.datastructure.TVList;
 import org.apache.iotdb.db.wal.buffer.WALEntryValue;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
@@ -131,7 +132,11 @@ public interface IWritableMemChunk extends WALEntryValue {
   /** @return how many points are deleted */
   int delete(long lowerBound, long upperBound);
 
-  IChunkWriter createIChunkWriter();
+  /**
+   * @param encodingSelector chooses the encoding of the flushed series, null to keep the encoding
+   *     in the schema
+   */
+  IChunkWriter createIChunkWriter(EncodingSelector encodingSelector);
 
   void encode(IChunkWriter chunkWriter);
 
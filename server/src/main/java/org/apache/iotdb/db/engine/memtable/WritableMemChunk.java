@@ -18,6 +18,7 @@
  */
 package org.apache.iotdb.db.engine.memtable;
 
+import org.apache.iotdb.db.engine.flush.EncodingSelector;
 import org.apache.iotdb.db.utils.datastructure.TVList;
 import org.apache.iotdb.db.wal.buffer.IWALByteBufferView;
 import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
@@ -271,8 +272,9 @@ public class WritableMemChunk implements IWritableMemChunk {
   }
 
   @Override
-  public IChunkWriter createIChunkWriter() {
-    return new ChunkWriterImpl(schema);
+  public IChunkWriter createIChunkWriter(EncodingSelector encodingSelector) {
+    return new ChunkWriterImpl(
+        encodingSelector == null ? schema : encodingSelector.select(schema, list));
   }
 
   @Override
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.rollup;
+
+import org.apache.iotdb.commons.utils.TestOnly;
+import org.apache.iotdb.db.utils.MmapUtil;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A rollup file stores the {@link SeriesRollup}s of the series in a sealed sequence TsFile, beside
+ * the TsFile with {@link #FILE_SUFFIX}. It is made of:
+ *
+ * <pre>
+ * [SeriesRollup]...
+ * [index entry count, (index entry position)..., (device, measurement, offset, size)...]
+ * [index offset]
+ * </pre>
+ *
+ * <p>Index entries are sorted by device and then measurement, so the rollup of a series is binary
+ * searched in the mapped file. A rollup file is immutable. The rollup of a TsFile that has
+ * modifications or overlaps with other files must not be used.
+ *
+ * <p>A loaded rollup file is reference counted and unmapped when its last reference is released,
+ * see {@link org.apache.iotdb.db.engine.cache.RollupFileCache}.
+ */
+public class RollupFile {
+
+  public static final String FILE_SUFFIX = ".rollup";
+  public static final String TEMP_SUFFIX = ".tmp";
+
+  private final MappedByteBuffer buffer;
+  private final int indexPosition;
+
+  /** the buffer is unmapped when it drops to 0 */
+  private final AtomicInteger referenceCount = new AtomicInteger(1);
+
+  private RollupFile(MappedByteBuffer buffer, int indexPosition) {
+    this.buffer = buffer;
+    this.indexPosition = indexPosition;
+  }
+
+  public static File getRollupFile(File tsFile) {
+    return new File(tsFile.getPath() + FILE_SUFFIX);
+  }
+
+  /**
+   * Map the rollup file of a sealed TsFile. The caller holds the only reference of the rollup file
+   * and must {@link #release()} it.
+   *
+   * @return the rollup file, or null if the TsFile has no rollup file
+   */
+  public static RollupFile load(File tsFile) throws IOException {
+    File rollupFile = getRollupFile(tsFile);
+    if (!rollupFile.exists()) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(rollupFile.toPath(), StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < Long.BYTES || size > Integer.MAX_VALUE) {
+        throw new IOException("Broken rollup file " + rollupFile + ", size: " + size);
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      long indexPosition = buffer.getLong((int) size - Long.BYTES);
+      if (indexPosition < 0 || indexPosition > size - Long.BYTES - Integer.BYTES) {
+        MmapUtil.clean(buffer);
+        throw new IOException("Broken rollup file " + rollupFile + ", index: " + indexPosition);
+      }
+      return new RollupFile(buffer, (int) indexPosition);
+    }
+  }
+
+  /**
+   * Read the rollups of all series of a TsFile without caching its rollup file.
+   *
+   * @return device -> measurement -> rollup, or null if the TsFile has no rollup file
+   */
+  public static Map<String, Map<String, SeriesRollup>> readAll(File tsFile) throws IOException {
+    RollupFile rollupFile = load(tsFile);
+    if (rollupFile == null) {
+      return null;
+    }
+    try {
+      return rollupFile.readAll();
+    } finally {
+      rollupFile.release();
+    }
+  }
+
+  /** Add a reference, only called when another reference is held. */
+  public void retain() {
+    referenceCount.incrementAndGet();
+  }
+
+  /** Release a reference, and unmap the rollup file once no reference is held. */
+  public void release() {
+    if (referenceCount.decrementAndGet() == 0) {
+      MmapUtil.clean(buffer);
+    }
+  }
+
+  @TestOnly
+  public boolean isUnmapped() {
+    return referenceCount.get() == 0;
+  }
+
+  /** @return the rollup of the series, or null if the series has no rollup */
+  public SeriesRollup read(String device, String measurement) {
+    int low = 0;
+    int high = buffer.getInt(indexPosition) - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      ByteBuffer entry = entryAt(mid);
+      int compare = ReadWriteIOUtils.readString(entry).compareTo(device);
+      if (compare == 0) {
+        compare = ReadWriteIOUtils.readString(entry).compareTo(measurement);
+      }
+      if (compare < 0) {
+        low = mid + 1;
+      } else if (compare > 0) {
+        high = mid - 1;
+      } else {
+        return readSeries(entry);
+      }
+    }
+    return null;
+  }
+
+  /** @return device -> measurement -> rollup */
+  public Map<String, Map<String, SeriesRollup>> readAll() {
+    Map<String, Map<String, SeriesRollup>> rollups = new TreeMap<>();
+    int entryCount = buffer.getInt(indexPosition);
+    for (int i = 0; i < entryCount; i++) {
+      ByteBuffer entry = entryAt(i);
+      String device = ReadWriteIOUtils.readString(entry);
+      String measurement = ReadWriteIOUtils.readString(entry);
+      rollups.computeIfAbsent(device, k -> new TreeMap<>()).put(measurement, readSeries(entry));
+    }
+    return rollups;
+  }
+
+  /** @return a view of the buffer positioned at the i-th index entry */
+  private ByteBuffer entryAt(int i) {
+    ByteBuffer entry = buffer.duplicate();
+    entry.position(buffer.getInt(indexPosition + Integer.BYTES * (i + 1)));
+    return entry;
+  }
+
+  /** Read the rollup pointed by an index entry positioned after its device and measurement. */
+  private SeriesRollup readSeries(ByteBuffer entry) {
+    int offset = (int) ReadWriteIOUtils.readLong(entry);
+    int size = ReadWriteIOUtils.readInt(entry);
+    ByteBuffer series = buffer.duplicate();
+    series.position(offset);
+    series.limit(offset + size);
+    return SeriesRollup.deserialize(series.slice());
+  }
+}
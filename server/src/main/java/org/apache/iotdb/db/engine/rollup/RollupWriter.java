@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.rollup;
+
+import org.apache.iotdb.db.engine.memtable.IWritableMemChunk;
+import org.apache.iotdb.db.engine.memtable.WritableMemChunk;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+import org.apache.iotdb.tsfile.write.schema.IMeasurementSchema;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * RollupWriter accumulates the {@link SeriesRollup}s of one TsFile while its memtables are flushed
+ * (or while source files are compacted into it), and writes them into a {@link RollupFile} once the
+ * TsFile is sealed. Methods are synchronized so that series can be collected by several threads.
+ */
+public class RollupWriter {
+
+  /** key of the measurement props that marks a lossy (e.g. SDT) encoded series */
+  private static final String LOSS = "loss";
+
+  private final long[] intervals;
+
+  /** device -> measurement -> rollup, sorted to keep the file stable */
+  private final Map<String, Map<String, SeriesRollup>> rollups = new TreeMap<>();
+
+  /** estimated memory of all rollups, guarded by this */
+  private long ramSize = 0;
+
+  public RollupWriter(long[] intervals) {
+    this.intervals = intervals;
+  }
+
+  /**
+   * Add the sorted points of a memtable series into its rollup. Aligned series and series with
+   * lossy encoding, whose flushed points differ from the memtable, are ignored.
+   */
+  public void collect(String deviceId, IWritableMemChunk memChunk) {
+    if (!(memChunk instanceof WritableMemChunk)) {
+      return;
+    }
+    IMeasurementSchema schema = memChunk.getSchema();
+    if (schema.getProps() != null && schema.getProps().containsKey(LOSS)) {
+      return;
+    }
+    // only lock the series while collecting, so that different series can be collected in parallel
+    SeriesRollup rollup;
+    synchronized (this) {
+      rollup =
+          rollups
+              .computeIfAbsent(deviceId, k -> new TreeMap<>())
+              .computeIfAbsent(
+                  schema.getMeasurementId(), k -> new SeriesRollup(schema.getType(), intervals));
+    }
+    long increment;
+    synchronized (rollup) {
+      long prevRamSize = rollup.getRamSize();
+      rollup.collect(((WritableMemChunk) memChunk).getTVList());
+      increment = rollup.getRamSize() - prevRamSize;
+    }
+    synchronized (this) {
+      ramSize += increment;
+    }
+  }
+
+  /** Add a rollup read from a source file of compaction. */
+  public synchronized void merge(String deviceId, String measurement, SeriesRollup other) {
+    SeriesRollup rollup = rollups.computeIfAbsent(deviceId, k -> new TreeMap<>()).get(measurement);
+    if (rollup == null) {
+      rollup = new SeriesRollup(other.getDataType(), other.getIntervals());
+      rollups.get(deviceId).put(measurement, rollup);
+    }
+    long prevRamSize = rollup.getRamSize();
+    rollup.merge(other);
+    ramSize += rollup.getRamSize() - prevRamSize;
+  }
+
+  /**
+   * @return estimated memory of the buckets of all rollups, which are kept until the TsFile is
+   *     sealed
+   */
+  public synchronized long getRamSize() {
+    return ramSize;
+  }
+
+  /**
+   * Write the rollups beside the sealed TsFile. Nothing is written if there is no rollup. The file
+   * is written to a temp file first so that a partially written rollup file is never visible.
+   */
+  public synchronized void write(File tsFile) throws IOException {
+    File rollupFile = RollupFile.getRollupFile(tsFile);
+    File tempFile = new File(rollupFile.getPath() + RollupFile.TEMP_SUFFIX);
+    PublicBAOS entryBuffer = new PublicBAOS();
+    List<Integer> entryPositions = new ArrayList<>();
+    long offset = 0;
+    try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+      PublicBAOS seriesBuffer = new PublicBAOS();
+      for (Map.Entry<String, Map<String, SeriesRollup>> deviceEntry : rollups.entrySet()) {
+        for (Map.Entry<String, SeriesRollup> entry : deviceEntry.getValue().entrySet()) {
+          if (entry.getValue().isEmpty()) {
+            continue;
+          }
+          seriesBuffer.reset();
+          entry.getValue().serialize(seriesBuffer);
+          seriesBuffer.writeTo(output);
+          entryPositions.add(entryBuffer.size());
+          ReadWriteIOUtils.write(deviceEntry.getKey(), entryBuffer);
+          ReadWriteIOUtils.write(entry.getKey(), entryBuffer);
+          ReadWriteIOUtils.write(offset, entryBuffer);
+          ReadWriteIOUtils.write(seriesBuffer.size(), entryBuffer);
+          offset += seriesBuffer.size();
+        }
+      }
+      // entry positions are positions in the whole file so that entries are binary searched
+      long entryStart = offset + (long) Integer.BYTES * (entryPositions.size() + 1);
+      if (entryStart + entryBuffer.size() + Long.BYTES > Integer.MAX_VALUE) {
+        throw new IOException("Rollup file of " + tsFile + " exceeds 2GB");
+      }
+      ReadWriteIOUtils.write(entryPositions.size(), output);
+      for (int entryPosition : entryPositions) {
+        ReadWriteIOUtils.write((int) entryStart + entryPosition, output);
+      }
+      entryBuffer.writeTo(output);
+      ReadWriteIOUtils.write(offset, output);
+    }
+    if (entryPositions.isEmpty()) {
+      Files.delete(tempFile.toPath());
+      return;
+    }
+    Files.move(tempFile.toPath(), rollupFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.rollup;
+
+import org.apache.iotdb.db.utils.datastructure.TVList;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
+import org.apache.iotdb.tsfile.utils.RamUsageEstimator;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pre-aggregated statistics of one series in one TsFile. Points are grouped into fixed buckets of
+ * each rollup interval, bucket i of interval t covering [i * t, (i + 1) * t). A bucket keeps the
+ * same {@link Statistics} as a page, so an aggregation window made of whole buckets can be
+ * calculated without reading any chunk.
+ */
+public class SeriesRollup {
+
+  /** memory of the TreeMap entry and the boxed start time of a bucket */
+  private static final long BUCKET_ENTRY_RAM_SIZE =
+      RamUsageEstimator.alignObjectSize(
+              RamUsageEstimator.NUM_BYTES_OBJECT_HEADER
+                  + 5L * RamUsageEstimator.NUM_BYTES_OBJECT_REF
+                  + 1)
+          + RamUsageEstimator.shallowSizeOfInstance(Long.class);
+
+  private final TSDataType dataType;
+
+  /** rollup intervals, from the coarsest to the finest */
+  private final long[] intervals;
+
+  /** bucket start time -> statistics of the bucket, one map for each interval */
+  private final List<TreeMap<Long, Statistics<? extends Serializable>>> tiers;
+
+  /**
+   * estimated memory of the buckets created by collecting or merging, deserialized buckets are not
+   * counted as they are never written
+   */
+  private long ramSize = 0;
+
+  public SeriesRollup(TSDataType dataType, long[] intervals) {
+    this.dataType = dataType;
+    this.intervals = intervals;
+    this.tiers = new ArrayList<>(intervals.length);
+    for (int i = 0; i < intervals.length; i++) {
+      tiers.add(new TreeMap<>());
+    }
+  }
+
+  public TSDataType getDataType() {
+    return dataType;
+  }
+
+  public long[] getIntervals() {
+    return intervals;
+  }
+
+  public long getRamSize() {
+    return ramSize;
+  }
+
+  /**
+   * Add points of a sorted TVList into the buckets. Only the last one of points with the same
+   * timestamp is counted, the same as {@code WritableMemChunk.encode}.
+   */
+  public void collect(TVList list) {
+    int rowCount = list.rowCount();
+    long[] currentBucketStarts = new long[intervals.length];
+    Statistics<?>[] currentBuckets = new Statistics<?>[intervals.length];
+    for (int row = 0; row < rowCount; row++) {
+      long time = list.getTime(row);
+      // skip duplicated data
+      if (row + 1 < rowCount && time == list.getTime(row + 1)) {
+        continue;
+      }
+      for (int tier = 0; tier < intervals.length; tier++) {
+        long bucketStart = getBucketStart(time, intervals[tier]);
+        if (currentBuckets[tier] == null || currentBucketStarts[tier] != bucketStart) {
+          currentBucketStarts[tier] = bucketStart;
+          currentBuckets[tier] = getOrCreateBucket(tiers.get(tier), bucketStart);
+        }
+        update(currentBuckets[tier], list, row, time);
+      }
+    }
+  }
+
+  private Statistics<? extends Serializable> getOrCreateBucket(
+      TreeMap<Long, Statistics<? extends Serializable>> buckets, long bucketStart) {
+    Statistics<? extends Serializable> bucket = buckets.get(bucketStart);
+    if (bucket == null) {
+      bucket = Statistics.getStatsByType(dataType);
+      buckets.put(bucketStart, bucket);
+      ramSize += BUCKET_ENTRY_RAM_SIZE + bucket.calculateRamSize();
+    }
+    return bucket;
+  }
+
+  private void update(Statistics<?> statistics, TVList list, int row, long time) {
+    switch (dataType) {
+      case BOOLEAN:
+        statistics.update(time, list.getBoolean(row));
+        break;
+      case INT32:
+        statistics.update(time, list.getInt(row));
+        break;
+      case INT64:
+        statistics.update(time, list.getLong(row));
+        break;
+      case FLOAT:
+        statistics.update(time, list.getFloat(row));
+        break;
+      case DOUBLE:
+        statistics.update(time, list.getDouble(row));
+        break;
+      case TEXT:
+        statistics.update(time, list.getBinary(row));
+        break;
+      default:
+        throw new UnsupportedOperationException("Rollup does not support data type " + dataType);
+    }
+  }
+
+  /**
+   * Merge buckets of another rollup of the same series, whose points must not overlap with points
+   * of this rollup in time.
+   *
+   * @throws IllegalArgumentException if the two rollups have different data types or intervals
+   */
+  public void merge(SeriesRollup other) {
+    if (dataType != other.dataType || !Arrays.equals(intervals, other.intervals)) {
+      throw new IllegalArgumentException("Cannot merge rollups of different types or intervals");
+    }
+    for (int tier = 0; tier < intervals.length; tier++) {
+      TreeMap<Long, Statistics<? extends Serializable>> buckets = tiers.get(tier);
+      for (Map.Entry<Long, Statistics<? extends Serializable>> entry :
+          other.tiers.get(tier).entrySet()) {
+        getOrCreateBucket(buckets, entry.getKey()).mergeStatistics(entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * @return index of the coarsest interval whose buckets exactly cover the closed time range
+   *     [startTime, endTime], or -1 if there is no such interval
+   */
+  public int getAlignedTier(long startTime, long endTime) {
+    if (endTime == Long.MAX_VALUE || endTime < startTime) {
+      return -1;
+    }
+    for (int tier = 0; tier < intervals.length; tier++) {
+      if (getBucketStart(startTime, intervals[tier]) == startTime
+          && getBucketStart(endTime + 1, intervals[tier]) == endTime + 1) {
+        return tier;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return statistics of all points of the buckets of the given tier inside the closed time range
+   *     [startTime, endTime], or null if there is no point
+   */
+  public Statistics<? extends Serializable> aggregate(int tier, long startTime, long endTime) {
+    Statistics<? extends Serializable> result = null;
+    for (Statistics<? extends Serializable> bucket :
+        tiers.get(tier).subMap(startTime, true, endTime, true).values()) {
+      if (result == null) {
+        result = Statistics.getStatsByType(dataType);
+      }
+      result.mergeStatistics(bucket);
+    }
+    return result;
+  }
+
+  public boolean isEmpty() {
+    return intervals.length == 0 || tiers.get(0).isEmpty();
+  }
+
+  public void serialize(OutputStream outputStream) throws IOException {
+    ReadWriteIOUtils.write(dataType, outputStream);
+    ReadWriteIOUtils.write(intervals.length, outputStream);
+    for (int tier = 0; tier < intervals.length; tier++) {
+      TreeMap<Long, Statistics<? extends Serializable>> buckets = tiers.get(tier);
+      ReadWriteIOUtils.write(intervals[tier], outputStream);
+      ReadWriteIOUtils.write(buckets.size(), outputStream);
+      for (Map.Entry<Long, Statistics<? extends Serializable>> entry : buckets.entrySet()) {
+        ReadWriteIOUtils.write(entry.getKey(), outputStream);
+        entry.getValue().serialize(outputStream);
+      }
+    }
+  }
+
+  public static SeriesRollup deserialize(ByteBuffer buffer) {
+    TSDataType dataType = ReadWriteIOUtils.readDataType(buffer);
+    long[] intervals = new long[ReadWriteIOUtils.readInt(buffer)];
+    SeriesRollup rollup = new SeriesRollup(dataType, intervals);
+    for (int tier = 0; tier < intervals.length; tier++) {
+      intervals[tier] = ReadWriteIOUtils.readLong(buffer);
+      TreeMap<Long, Statistics<? extends Serializable>> buckets = rollup.tiers.get(tier);
+      int bucketCount = ReadWriteIOUtils.readInt(buffer);
+      for (int i = 0; i < bucketCount; i++) {
+        long bucketStart = ReadWriteIOUtils.readLong(buffer);
+        buckets.put(bucketStart, Statistics.deserialize(buffer, dataType));
+      }
+    }
+    return rollup;
+  }
+
+  private static long getBucketStart(long time, long interval) {
+    return time - Math.floorMod(time, interval);
+  }
+}
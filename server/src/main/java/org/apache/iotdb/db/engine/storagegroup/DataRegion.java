@@ -47,6 +47,7 @@ import org.apache.iotdb.db.engine.memtable.IMemTable;
 import org.apache.iotdb.db.engine.modification.Deletion;
 import org.apache.iotdb.db.engine.modification.ModificationFile;
 import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
+import org.apache.iotdb.db.engine.rollup.RollupFile;
 import org.apache.iotdb.db.engine.trigger.executor.TriggerEngine;
 import org.apache.iotdb.db.engine.trigger.executor.TriggerEvent;
 import org.apache.iotdb.db.engine.upgrade.UpgradeCheckStatus;
@@ -98,6 +99,7 @@ import org.apache.iotdb.db.wal.utils.WALMode;
 import org.apache.iotdb.db.wal.utils.listener.WALFlushListener;
 import org.apache.iotdb.db.wal.utils.listener.WALRecoverListener;
 import org.apache.iotdb.metrics.utils.MetricLevel;
+import org.apache.iotdb.metrics.utils.MetricType;
 import org.apache.iotdb.rpc.RpcUtils;
 import org.apache.iotdb.rpc.TSStatusCode;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
@@ -353,6 +355,60 @@ public class DataRegion {
             StorageGroupInfo::getMemCost,
             Tag.NAME.toString(),
             "storageGroup_" + getStorageGroupName());
+    registerAmplificationMetrics();
+  }
+
+  /**
+   * Register the write, read and space amplification gauges of this region. A region replacing
+   * another one with the same name must call this again after the old one removed its gauges.
+   */
+  public void registerAmplificationMetrics() {
+    String regionName = storageGroupName + "-" + dataRegionId;
+    MetricService.getInstance()
+        .getOrCreateAutoGauge(
+            Metric.COMPACTION_AMPLIFICATION.toString(),
+            MetricLevel.IMPORTANT,
+            tsFileManager,
+            TsFileManager::getWriteAmplification,
+            Tag.NAME.toString(),
+            regionName,
+            Tag.TYPE.toString(),
+            "write");
+    MetricService.getInstance()
+        .getOrCreateAutoGauge(
+            Metric.COMPACTION_AMPLIFICATION.toString(),
+            MetricLevel.IMPORTANT,
+            tsFileManager,
+            TsFileManager::getReadAmplification,
+            Tag.NAME.toString(),
+            regionName,
+            Tag.TYPE.toString(),
+            "read");
+    MetricService.getInstance()
+        .getOrCreateAutoGauge(
+            Metric.COMPACTION_AMPLIFICATION.toString(),
+            MetricLevel.IMPORTANT,
+            tsFileManager,
+            TsFileManager::getSpaceAmplification,
+            Tag.NAME.toString(),
+            regionName,
+            Tag.TYPE.toString(),
+            "space");
+  }
+
+  /** Remove the amplification gauges of this region, called when it is deleted or stopped. */
+  public void removeAmplificationMetrics() {
+    String regionName = storageGroupName + "-" + dataRegionId;
+    for (String type : new String[] {"write", "read", "space"}) {
+      MetricService.getInstance()
+          .remove(
+              MetricType.GAUGE,
+              Metric.COMPACTION_AMPLIFICATION.toString(),
+              Tag.NAME.toString(),
+              regionName,
+              Tag.TYPE.toString(),
+              type);
+    }
   }
 
   @TestOnly
@@ -669,6 +725,7 @@ public class DataRegion {
             // such
             // resources
             continueFailedRenames(partitionFolder, TEMP_SUFFIX);
+            deleteIncompleteRollupFiles(partitionFolder);
 
             Collections.addAll(
                 tsFiles,
@@ -719,6 +776,26 @@ public class DataRegion {
     }
   }
 
+  /**
+   * Delete the temp rollup files being written when the system crashed. Unlike resources, they
+   * may be incomplete, and the TsFile is still readable without its rollup.
+   */
+  private void deleteIncompleteRollupFiles(File partitionFolder) {
+    File[] files =
+        fsFactory.listFilesBySuffix(
+            partitionFolder.getAbsolutePath(), RollupFile.FILE_SUFFIX + RollupFile.TEMP_SUFFIX);
+    if (files == null) {
+      return;
+    }
+    for (File tempRollupFile : files) {
+      try {
+        Files.deleteIfExists(tempRollupFile.toPath());
+      } catch (IOException e) {
+        logger.warn("Cannot delete the incomplete rollup file {}", tempRollupFile, e);
+      }
+    }
+  }
+
   /** check if the tsfile's time is smaller than system current time */
   private void checkTsFileTime(File tsFile) throws DataRegionException {
     String[] items = tsFile.getName().replace(TSFILE_SUFFIX, "").split(FILE_NAME_SEPARATOR);
@@ -1715,6 +1792,7 @@ public class DataRegion {
       // we close it here just for IT test.
       closeAllResources();
       deleteAllSGFolders(DirectoryManager.getInstance().getAllFilesFolders());
+      removeAmplificationMetrics();
 
       this.workSequenceTsFileProcessors.clear();
       this.workUnsequenceTsFileProcessors.clear();
@@ -2463,6 +2541,7 @@ public class DataRegion {
     try {
       tsFileProcessor.close();
       tsFileResourceManager.registerSealedTsFileResource(tsFileProcessor.getTsFileResource());
+      tsFileManager.recordFlushedFileSize(tsFileProcessor.getTsFileResource().getTsFileSize());
     } finally {
       closeQueryLock.writeLock().unlock();
     }
@@ -63,6 +63,11 @@ public class TsFileManager {
   private boolean allowCompaction = true;
   private AtomicLong currentCompactionTaskSerialId = new AtomicLong(0);
 
+  /** total size of the TsFiles sealed by flushing since this manager was created */
+  private final AtomicLong flushedFileSize = new AtomicLong(0);
+  /** total size of the target files written by compaction since this manager was created */
+  private final AtomicLong compactedFileSize = new AtomicLong(0);
+
   public TsFileManager(String storageGroupName, String dataRegionId, String storageGroupDir) {
     this.storageGroupName = storageGroupName;
     this.storageGroupDir = storageGroupDir;
@@ -441,4 +446,82 @@ public class TsFileManager {
       return false;
     }
   }
+
+  public void recordFlushedFileSize(long fileSize) {
+    flushedFileSize.addAndGet(fileSize);
+  }
+
+  public void recordCompactedFileSize(long fileSize) {
+    compactedFileSize.addAndGet(fileSize);
+  }
+
+  /**
+   * Write amplification in percent, that is, the bytes written to disk by flushing and compaction
+   * divided by the bytes written by flushing. 100 means compaction has not rewritten anything.
+   */
+  public long getWriteAmplification() {
+    long flushed = flushedFileSize.get();
+    if (flushed == 0) {
+      return 100;
+    }
+    return (flushed + compactedFileSize.get()) * 100 / flushed;
+  }
+
+  /**
+   * Read amplification in percent, that is, the average number of sorted runs a query has to merge
+   * in a time partition. The sequence files of a partition never overlap and form one run, while
+   * every unsequence file is a run of its own.
+   */
+  public long getReadAmplification() {
+    readLock();
+    try {
+      Set<Long> timePartitions = new HashSet<>(sequenceFiles.keySet());
+      timePartitions.addAll(unsequenceFiles.keySet());
+      long runNum = 0;
+      int partitionNum = 0;
+      for (long timePartition : timePartitions) {
+        TsFileResourceList seqList = sequenceFiles.get(timePartition);
+        TsFileResourceList unseqList = unsequenceFiles.get(timePartition);
+        int partitionRunNum =
+            (seqList == null || seqList.isEmpty() ? 0 : 1)
+                + (unseqList == null ? 0 : unseqList.size());
+        if (partitionRunNum > 0) {
+          runNum += partitionRunNum;
+          partitionNum++;
+        }
+      }
+      return partitionNum == 0 ? 100 : runNum * 100 / partitionNum;
+    } finally {
+      readUnlock();
+    }
+  }
+
+  /**
+   * Space amplification in percent, estimated as the size of all TsFiles divided by the size of the
+   * sequence files, as the unsequence data may still overwrite or duplicate sequence data until it
+   * is compacted.
+   */
+  public long getSpaceAmplification() {
+    readLock();
+    try {
+      long seqFileSize = getTotalFileSize(sequenceFiles);
+      long unseqFileSize = getTotalFileSize(unsequenceFiles);
+      if (seqFileSize == 0) {
+        return 100;
+      }
+      return (seqFileSize + unseqFileSize) * 100 / seqFileSize;
+    } finally {
+      readUnlock();
+    }
+  }
+
+  private long getTotalFileSize(Map<Long, TsFileResourceList> partitionFiles) {
+    long totalSize = 0;
+    for (TsFileResourceList tsFileResources : partitionFiles.values()) {
+      for (TsFileResource tsFileResource : tsFileResources) {
+        totalSize += tsFileResource.getTsFileSize();
+      }
+    }
+    return totalSize;
+  }
 }
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.storagegroup;
+
+import org.apache.iotdb.commons.utils.TestOnly;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.utils.MmapUtil;
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.utils.Pair;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
+import com.google.common.primitives.UnsignedBytes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A metadata index file is a compact sidecar of a sealed TsFile, beside the TsFile with {@link
+ * #FILE_SUFFIX}. It maps each series to the leaf measurement node holding its TimeseriesMetadata
+ * and keeps the time range of the series, so the TimeseriesMetadata can be read with one I/O
+ * instead of reading the TsFileMetadata, the BloomFilter and the MetadataIndexNodes. It is made of:
+ *
+ * <pre>
+ * [device block]...
+ * [device count, (device entry position)..., (device, device block position)...]
+ * [device table position, TsFile length]
+ *
+ * device block:
+ * [leaf count, (leaf start offset, leaf end offset)...]
+ * [measurement count, (measurement entry position)..., (measurement, leaf index, start time, end time)...]
+ * </pre>
+ *
+ * <p>Devices and measurements are sorted by their UTF-8 bytes, so they are binary searched in the
+ * mapped file by comparing the bytes in place. Empty series are not indexed. A metadata index file
+ * is immutable and ignored if the length of its TsFile has changed.
+ *
+ * <p>A loaded index is reference counted and unmapped when its last reference is released, see
+ * {@link org.apache.iotdb.db.engine.cache.TsFileMetadataIndexCache}.
+ */
+public class TsFileMetadataIndex {
+
+  private static final Logger logger = LoggerFactory.getLogger(TsFileMetadataIndex.class);
+
+  public static final String FILE_SUFFIX = ".index";
+  public static final String TEMP_SUFFIX = ".tmp";
+
+  private static final int FOOTER_SIZE = 2 * Long.BYTES;
+
+  /** order of the devices and measurements in the file */
+  private static final Comparator<String> NAME_ORDER =
+      Comparator.comparing(
+          name -> name.getBytes(TSFileConfig.STRING_CHARSET),
+          UnsignedBytes.lexicographicalComparator());
+
+  private final MappedByteBuffer buffer;
+  private final int deviceTablePosition;
+
+  /** the buffer is unmapped when it drops to 0 */
+  private final AtomicInteger referenceCount = new AtomicInteger(1);
+
+  private TsFileMetadataIndex(MappedByteBuffer buffer, int deviceTablePosition) {
+    this.buffer = buffer;
+    this.deviceTablePosition = deviceTablePosition;
+  }
+
+  public static File getMetadataIndexFile(File tsFile) {
+    return new File(tsFile.getPath() + FILE_SUFFIX);
+  }
+
+  /**
+   * Write the metadata index file of a sealed TsFile if it is enabled. A failure is only logged, as
+   * the TsFile can still be read without it.
+   */
+  public static void writeIfEnabled(File tsFile) {
+    if (!IoTDBDescriptor.getInstance().getConfig().isEnableMetadataIndexFile()) {
+      return;
+    }
+    try {
+      write(tsFile);
+    } catch (IOException e) {
+      logger.warn("Failed to write the metadata index file of {}", tsFile, e);
+    }
+  }
+
+  /** Write the metadata index file of a sealed TsFile by walking its metadata index once. */
+  public static void write(File tsFile) throws IOException {
+    PublicBAOS output = new PublicBAOS();
+    Map<String, Integer> deviceBlockPositions = new TreeMap<>(NAME_ORDER);
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(tsFile.getPath())) {
+      for (Map.Entry<String, List<Pair<Long, Long>>> deviceEntry :
+          reader.getAllLeafMeasurementNodeOffsets().entrySet()) {
+        List<Pair<Long, Long>> leaves = deviceEntry.getValue();
+        // measurement -> leaf index, start time, end time
+        Map<String, long[]> measurements = new TreeMap<>(NAME_ORDER);
+        for (int i = 0; i < leaves.size(); i++) {
+          for (TimeseriesMetadata timeseriesMetadata :
+              reader.readLeafTimeseriesMetadata(
+                  leaves.get(i).left, leaves.get(i).right, null, false)) {
+            if (timeseriesMetadata.getStatistics().getCount() != 0) {
+              measurements.put(
+                  timeseriesMetadata.getMeasurementId(),
+                  new long[] {
+                    i,
+                    timeseriesMetadata.getStatistics().getStartTime(),
+                    timeseriesMetadata.getStatistics().getEndTime()
+                  });
+            }
+          }
+        }
+        if (measurements.isEmpty()) {
+          continue;
+        }
+        deviceBlockPositions.put(deviceEntry.getKey(), output.size());
+        ReadWriteIOUtils.write(leaves.size(), output);
+        for (Pair<Long, Long> leaf : leaves) {
+          ReadWriteIOUtils.write(leaf.left, output);
+          ReadWriteIOUtils.write(leaf.right, output);
+        }
+        writeTable(
+            output,
+            measurements,
+            (entry, out) -> {
+              ReadWriteIOUtils.write((int) entry[0], out);
+              ReadWriteIOUtils.write(entry[1], out);
+              ReadWriteIOUtils.write(entry[2], out);
+            });
+      }
+    }
+    long deviceTablePosition = output.size();
+    writeTable(
+        output,
+        deviceBlockPositions,
+        (position, out) -> ReadWriteIOUtils.write(position.longValue(), out));
+    ReadWriteIOUtils.write(deviceTablePosition, output);
+    ReadWriteIOUtils.write(tsFile.length(), output);
+
+    File indexFile = getMetadataIndexFile(tsFile);
+    File tempFile = new File(indexFile.getPath() + TEMP_SUFFIX);
+    try (OutputStream fileOutput = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+      output.writeTo(fileOutput);
+    }
+    Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /** Write [count, (entry position)..., (name, value)...] with positions in the whole output. */
+  private static <T> void writeTable(
+      PublicBAOS output, Map<String, T> entries, EntryValueWriter<T> valueWriter)
+      throws IOException {
+    PublicBAOS entryBuffer = new PublicBAOS();
+    int entryStart = output.size() + Integer.BYTES * (entries.size() + 1);
+    ReadWriteIOUtils.write(entries.size(), output);
+    for (Map.Entry<String, T> entry : entries.entrySet()) {
+      ReadWriteIOUtils.write(entryStart + entryBuffer.size(), output);
+      ReadWriteIOUtils.write(entry.getKey(), entryBuffer);
+      valueWriter.write(entry.getValue(), entryBuffer);
+    }
+    entryBuffer.writeTo(output);
+  }
+
+  @FunctionalInterface
+  private interface EntryValueWriter<T> {
+    void write(T value, OutputStream output) throws IOException;
+  }
+
+  /**
+   * Map the metadata index file of a sealed TsFile. The caller holds the only reference of the
+   * index and must {@link #release()} it.
+   *
+   * @return the metadata index, or null if the TsFile has no metadata index file or it is stale
+   */
+  public static TsFileMetadataIndex load(File tsFile) throws IOException {
+    File indexFile = getMetadataIndexFile(tsFile);
+    if (!indexFile.exists()) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < FOOTER_SIZE || size > Integer.MAX_VALUE) {
+        throw new IOException("Broken metadata index file " + indexFile + ", size: " + size);
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      long deviceTablePosition = buffer.getLong((int) size - FOOTER_SIZE);
+      long tsFileLength = buffer.getLong((int) size - Long.BYTES);
+      if (deviceTablePosition < 0 || deviceTablePosition > size - FOOTER_SIZE) {
+        MmapUtil.clean(buffer);
+        throw new IOException(
+            "Broken metadata index file " + indexFile + ", device table: " + deviceTablePosition);
+      }
+      if (tsFileLength != tsFile.length()) {
+        MmapUtil.clean(buffer);
+        logger.warn("Ignore the stale metadata index file {}", indexFile);
+        return null;
+      }
+      return new TsFileMetadataIndex(buffer, (int) deviceTablePosition);
+    }
+  }
+
+  /** Add a reference, only called when another reference is held. */
+  public void retain() {
+    referenceCount.incrementAndGet();
+  }
+
+  /** Release a reference, and unmap the index file once no reference is held. */
+  public void release() {
+    if (referenceCount.decrementAndGet() == 0) {
+      MmapUtil.clean(buffer);
+    }
+  }
+
+  @TestOnly
+  public boolean isUnmapped() {
+    return referenceCount.get() == 0;
+  }
+
+  /**
+   * @return [start offset, end offset) of the leaf measurement node holding the TimeseriesMetadata
+   *     of the series, or null if the TsFile has no such series or the series is empty
+   */
+  public long[] getLeafOffsets(String device, String measurement) {
+    int deviceBlockPosition = findDeviceBlock(device);
+    if (deviceBlockPosition < 0) {
+      return null;
+    }
+    int entryPosition = findMeasurement(deviceBlockPosition, measurement);
+    if (entryPosition < 0) {
+      return null;
+    }
+    int leafPosition =
+        deviceBlockPosition + Integer.BYTES + buffer.getInt(entryPosition) * 2 * Long.BYTES;
+    return new long[] {buffer.getLong(leafPosition), buffer.getLong(leafPosition + Long.BYTES)};
+  }
+
+  /**
+   * @return [start time, end time] of the series, or null if the TsFile has no such series or the
+   *     series is empty
+   */
+  public long[] getTimeRange(String device, String measurement) {
+    int deviceBlockPosition = findDeviceBlock(device);
+    if (deviceBlockPosition < 0) {
+      return null;
+    }
+    int entryPosition = findMeasurement(deviceBlockPosition, measurement);
+    if (entryPosition < 0) {
+      return null;
+    }
+    return new long[] {
+      buffer.getLong(entryPosition + Integer.BYTES),
+      buffer.getLong(entryPosition + Integer.BYTES + Long.BYTES)
+    };
+  }
+
+  private int findDeviceBlock(String device) {
+    int valuePosition = search(deviceTablePosition, device.getBytes(TSFileConfig.STRING_CHARSET));
+    return valuePosition < 0 ? -1 : (int) buffer.getLong(valuePosition);
+  }
+
+  private int findMeasurement(int deviceBlockPosition, String measurement) {
+    int leafCount = buffer.getInt(deviceBlockPosition);
+    return search(
+        deviceBlockPosition + Integer.BYTES + leafCount * 2 * Long.BYTES,
+        measurement.getBytes(TSFileConfig.STRING_CHARSET));
+  }
+
+  /** @return the position of the value of the entry named name in a table, or -1 if not found */
+  private int search(int tablePosition, byte[] name) {
+    int low = 0;
+    int high = buffer.getInt(tablePosition) - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int entryPosition = buffer.getInt(tablePosition + Integer.BYTES * (mid + 1));
+      int nameLength = buffer.getInt(entryPosition);
+      int compare = compareName(entryPosition + Integer.BYTES, nameLength, name);
+      if (compare < 0) {
+        low = mid + 1;
+      } else if (compare > 0) {
+        high = mid - 1;
+      } else {
+        return entryPosition + Integer.BYTES + nameLength;
+      }
+    }
+    return -1;
+  }
+
+  /** Compare the name at the position of the buffer with the given name as unsigned bytes. */
+  private int compareName(int position, int length, byte[] name) {
+    int commonLength = Math.min(length, name.length);
+    for (int i = 0; i < commonLength; i++) {
+      int compare = UnsignedBytes.compare(buffer.get(position + i), name[i]);
+      if (compare != 0) {
+        return compare;
+      }
+    }
+    return length - name.length;
+  }
+}
@@ -39,6 +39,7 @@ import org.apache.iotdb.db.engine.memtable.IMemTable;
 import org.apache.iotdb.db.engine.modification.Deletion;
 import org.apache.iotdb.db.engine.modification.Modification;
 import org.apache.iotdb.db.engine.querycontext.ReadOnlyMemChunk;
+import org.apache.iotdb.db.engine.rollup.RollupWriter;
 import org.apache.iotdb.db.engine.storagegroup.DataRegion.UpdateEndTimeCallBack;
 import org.apache.iotdb.db.exception.TsFileProcessorException;
 import org.apache.iotdb.db.exception.WriteProcessException;
@@ -151,6 +152,15 @@ public class TsFileProcessor {
   /** whether it's a sequence file or not */
   private final boolean sequence;
 
+  /**
+   * collects rollups of the flushed series, null if this file is not a new sequence file or rollups
+   * are disabled
+   */
+  private RollupWriter rollupWriter;
+
+  /** memory of the collected rollups charged to tsFileProcessorInfo */
+  private long rollupMemCost = 0;
+
   /** total memtable size for mem control */
   private long totalMemTableSize;
 
@@ -182,6 +192,11 @@ public class TsFileProcessor {
     this.writer = new RestorableTsFileIOWriter(tsfile);
     this.updateLatestFlushTimeCallback = updateLatestFlushTimeCallback;
     this.sequence = sequence;
+    // a reopened file may contain flushed data that was not collected, so only new files have
+    // rollups
+    if (sequence && config.getRollupIntervals().length > 0) {
+      this.rollupWriter = new RollupWriter(config.getRollupIntervals());
+    }
     this.walNode = WALManager.getInstance().applyForWALNode(storageGroupName);
     flushListeners.add(FlushListener.DefaultMemTableFLushListener.INSTANCE);
     flushListeners.add(this.walNode);
@@ -1221,9 +1236,12 @@ public class TsFileProcessor {
       try {
         writer.mark();
         MemTableFlushTask flushTask =
-            new MemTableFlushTask(memTableToFlush, writer, storageGroupName);
+            new MemTableFlushTask(memTableToFlush, writer, storageGroupName, rollupWriter);
         flushTask.syncFlushMemTable();
+        updateRollupMemCost();
       } catch (Throwable e) {
+        // points of the failed memtable may have been collected
+        abandonRollups();
         if (writer == null) {
           logger.info(
               "{}: {} is closed during flush, abandon flush task",
@@ -1414,11 +1432,47 @@ public class TsFileProcessor {
     }
   }
 
+  /**
+   * Charge the memory of the rollups collected by the last flush, which are kept until the file is
+   * sealed, so that memory control flushes or rejects insertions in time.
+   */
+  private void updateRollupMemCost() {
+    if (rollupWriter == null || !enableMemControl) {
+      return;
+    }
+    long increment = rollupWriter.getRamSize() - rollupMemCost;
+    if (increment > 0) {
+      rollupMemCost += increment;
+      tsFileProcessorInfo.addTSPMemCost(increment);
+      SystemInfo.getInstance().resetStorageGroupStatus(storageGroupInfo);
+    }
+  }
+
+  private void abandonRollups() {
+    rollupWriter = null;
+    if (enableMemControl && rollupMemCost > 0) {
+      tsFileProcessorInfo.releaseTSPMemCost(rollupMemCost);
+      SystemInfo.getInstance().resetStorageGroupStatus(storageGroupInfo);
+    }
+    rollupMemCost = 0;
+  }
+
   /** end file and write some meta */
   private void endFile() throws IOException, TsFileProcessorException {
     logger.info("Start to end file {}", tsFileResource);
     long closeStartTime = System.currentTimeMillis();
     writer.endFile();
+    if (rollupWriter != null) {
+      try {
+        rollupWriter.write(tsFileResource.getTsFile());
+      } catch (IOException e) {
+        logger.warn("{}: write rollup of {} failed", storageGroupName, tsFileResource, e);
+      }
+      // the charged memory is released with the other memory of this processor below
+      rollupWriter = null;
+      rollupMemCost = 0;
+    }
+    TsFileMetadataIndex.writeIfEnabled(tsFileResource.getTsFile());
     tsFileResource.serialize();
     if (tsFileSyncManager.isEnableSync()) {
       tsFileSyncManager.collectRealTimeResource(tsFileResource.getTsFile());
@@ -22,8 +22,12 @@ import org.apache.iotdb.commons.path.PartialPath;
 import org.apache.iotdb.commons.utils.TestOnly;
 import org.apache.iotdb.db.conf.IoTDBConfig;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.cache.ChunkCache;
+import org.apache.iotdb.db.engine.cache.RollupFileCache;
+import org.apache.iotdb.db.engine.cache.TsFileMetadataIndexCache;
 import org.apache.iotdb.db.engine.modification.ModificationFile;
 import org.apache.iotdb.db.engine.querycontext.ReadOnlyMemChunk;
+import org.apache.iotdb.db.engine.rollup.RollupFile;
 import org.apache.iotdb.db.engine.storagegroup.DataRegion.SettleTsFileCallBack;
 import org.apache.iotdb.db.engine.storagegroup.DataRegion.UpgradeTsFileResourceCallBack;
 import org.apache.iotdb.db.engine.storagegroup.TsFileNameGenerator.TsFileName;
@@ -34,6 +38,7 @@ import org.apache.iotdb.db.engine.storagegroup.timeindex.TimeIndexLevel;
 import org.apache.iotdb.db.engine.upgrade.UpgradeTask;
 import org.apache.iotdb.db.exception.PartitionViolationException;
 import org.apache.iotdb.db.metadata.utils.ResourceByPathUtils;
+import org.apache.iotdb.db.query.control.FileReaderManager;
 import org.apache.iotdb.db.query.filter.TsFileFilter;
 import org.apache.iotdb.db.service.UpgradeSevice;
 import org.apache.iotdb.tsfile.common.constant.TsFileConstant;
@@ -154,6 +159,12 @@ public class TsFileResource {
    */
   private TsFileResource originTsFileResource;
 
+  /** whether this sealed TsFile is known to have no usable metadata index file */
+  private volatile boolean metadataIndexAbsent = false;
+
+  /** whether this sealed TsFile is known to have no usable rollup file */
+  private volatile boolean rollupFileAbsent = false;
+
   public TsFileResource() {}
 
   public TsFileResource(TsFileResource other) throws IOException {
@@ -507,6 +518,8 @@ public class TsFileResource {
 
   /** Remove the data file, its resource file, and its modification file physically. */
   public boolean remove() {
+    FileReaderManager.getInstance().closeUnusedReader(file.getPath());
+    ChunkCache.getInstance().removeFile(file.getPath());
     try {
       fsFactory.deleteIfExists(file);
     } catch (IOException e) {
@@ -522,6 +535,20 @@ public class TsFileResource {
       LOGGER.error("ModificationFile {} cannot be deleted: {}", file, e.getMessage());
       return false;
     }
+    RollupFileCache.getInstance().remove(file);
+    try {
+      fsFactory.deleteIfExists(fsFactory.getFile(file.getPath() + RollupFile.FILE_SUFFIX));
+    } catch (IOException e) {
+      LOGGER.error("RollupFile {} cannot be deleted: {}", file, e.getMessage());
+      return false;
+    }
+    TsFileMetadataIndexCache.getInstance().remove(file);
+    try {
+      fsFactory.deleteIfExists(fsFactory.getFile(file.getPath() + TsFileMetadataIndex.FILE_SUFFIX));
+    } catch (IOException e) {
+      LOGGER.error("TsFileMetadataIndex {} cannot be deleted: {}", file, e.getMessage());
+      return false;
+    }
     return true;
   }
 
@@ -547,6 +574,54 @@ public class TsFileResource {
           originModFile,
           fsFactory.getFile(targetDir, file.getName() + ModificationFile.FILE_SUFFIX));
     }
+    RollupFileCache.getInstance().remove(file);
+    File originRollupFile = fsFactory.getFile(file.getPath() + RollupFile.FILE_SUFFIX);
+    if (originRollupFile.exists()) {
+      fsFactory.moveFile(
+          originRollupFile, fsFactory.getFile(targetDir, file.getName() + RollupFile.FILE_SUFFIX));
+    }
+    TsFileMetadataIndexCache.getInstance().remove(file);
+    File originMetadataIndexFile =
+        fsFactory.getFile(file.getPath() + TsFileMetadataIndex.FILE_SUFFIX);
+    if (originMetadataIndexFile.exists()) {
+      fsFactory.moveFile(
+          originMetadataIndexFile,
+          fsFactory.getFile(targetDir, file.getName() + TsFileMetadataIndex.FILE_SUFFIX));
+    }
+  }
+
+  /**
+   * Get the rollup file of this sealed TsFile from the {@link RollupFileCache}. The caller must
+   * {@link RollupFile#release()} it after use.
+   *
+   * @return the rollup file, or null if the TsFile has none
+   */
+  public RollupFile acquireRollupFile() {
+    if (rollupFileAbsent) {
+      return null;
+    }
+    RollupFile rollupFile = RollupFileCache.getInstance().acquire(file);
+    if (rollupFile == null) {
+      rollupFileAbsent = true;
+    }
+    return rollupFile;
+  }
+
+  /**
+   * Get the metadata index of this sealed TsFile from the {@link TsFileMetadataIndexCache}. The
+   * caller must {@link TsFileMetadataIndex#release()} it after use.
+   *
+   * @return the metadata index, or null if the TsFile has none or metadata index files are disabled
+   */
+  public TsFileMetadataIndex acquireMetadataIndex() {
+    if (!CONFIG.isEnableMetadataIndexFile() || metadataIndexAbsent) {
+      return null;
+    }
+    TsFileMetadataIndex metadataIndex = TsFileMetadataIndexCache.getInstance().acquire(file);
+    if (metadataIndex == null) {
+      metadataIndexAbsent = true;
+    }
+    return metadataIndex;
   }
 
   @Override
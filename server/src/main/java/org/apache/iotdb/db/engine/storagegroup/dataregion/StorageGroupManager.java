@@ -485,6 +485,7 @@ public class StorageGroupManager {
       if (vsg != null) {
         ThreadUtils.stopThreadPool(
             vsg.getTimedCompactionScheduleTask(), ThreadName.COMPACTION_SCHEDULE);
+        vsg.removeAmplificationMetrics();
       }
     }
   }
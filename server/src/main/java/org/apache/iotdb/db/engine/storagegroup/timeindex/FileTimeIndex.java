@@ -86,9 +86,10 @@ public class FileTimeIndex implements ITimeIndex {
 
   @Override
   public Set<String> getDevices(String tsFilePath, TsFileResource tsFileResource) {
-    FILE_READER_MANAGER.increaseFileReaderReference(tsFileResource, tsFileResource.isClosed());
+    // reference the reader of the closed file that is read, so that it is not evicted while in use
+    FILE_READER_MANAGER.increaseFileReaderReference(tsFileResource, true);
     try {
-      TsFileSequenceReader fileReader = FileReaderManager.getInstance().get(tsFilePath, true);
+      TsFileSequenceReader fileReader = FILE_READER_MANAGER.get(tsFilePath, true);
       return new HashSet<>(fileReader.getAllDevices());
     } catch (NoSuchFileException e) {
       // deleted by ttl
@@ -102,7 +103,7 @@ public class FileTimeIndex implements ITimeIndex {
       logger.error("Failed to get devices from tsfile: {}", tsFilePath, e);
       throw new RuntimeException("Failed to get devices from tsfile:: " + tsFilePath);
     } finally {
-      FILE_READER_MANAGER.decreaseFileReaderReference(tsFileResource, tsFileResource.isClosed());
+      FILE_READER_MANAGER.decreaseFileReaderReference(tsFileResource, true);
     }
   }
 
@@ -19,12 +19,15 @@
 package org.apache.iotdb.db.mpp.execution.driver;
 
 import org.apache.iotdb.commons.path.PartialPath;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.cache.ChunkCacheHint;
 import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
 import org.apache.iotdb.db.engine.storagegroup.DataRegion;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.exception.query.QueryProcessException;
 import org.apache.iotdb.db.metadata.idtable.IDTable;
 import org.apache.iotdb.db.mpp.execution.exchange.ISinkHandle;
+import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceContext;
 import org.apache.iotdb.db.mpp.execution.operator.Operator;
 import org.apache.iotdb.db.mpp.execution.operator.source.DataSourceOperator;
 import org.apache.iotdb.db.query.control.FileReaderManager;
@@ -142,6 +145,14 @@ public class DataDriver extends Driver {
       // running merge
       addUsedFilesForQuery(dataSource);
 
+      // chunks of a large range scan should not flush out the hot chunks in the ChunkCache
+      FragmentInstanceContext fragmentInstanceContext = driverContext.getFragmentInstanceContext();
+      if (fragmentInstanceContext.getChunkCacheHint() == ChunkCacheHint.QUERY
+          && dataSource.getSeqResources().size() + dataSource.getUnseqResources().size()
+              >= IoTDBDescriptor.getInstance().getConfig().getChunkCacheScanFileThreshold()) {
+        fragmentInstanceContext.setChunkCacheHint(ChunkCacheHint.SCAN);
+      }
+
       return dataSource;
     } finally {
       dataRegion.readUnlock();
@@ -18,6 +18,7 @@
  */
 package org.apache.iotdb.db.mpp.execution.fragment;
 
+import org.apache.iotdb.db.engine.cache.ChunkCacheHint;
 import org.apache.iotdb.db.mpp.common.FragmentInstanceId;
 import org.apache.iotdb.db.mpp.execution.driver.DriverContext;
 import org.apache.iotdb.db.mpp.execution.operator.OperatorContext;
@@ -74,7 +75,9 @@ public class FragmentInstanceContext extends QueryContext {
   }
 
   public static FragmentInstanceContext createFragmentInstanceContextForCompaction(long queryId) {
-    return new FragmentInstanceContext(queryId);
+    FragmentInstanceContext context = new FragmentInstanceContext(queryId);
+    context.setChunkCacheHint(ChunkCacheHint.COMPACTION);
+    return context;
   }
 
   private FragmentInstanceContext(
@@ -91,6 +91,10 @@ public class MemoryPool {
     return maxBytes;
   }
 
+  public long getMaxBytesPerQuery() {
+    return maxBytesPerQuery;
+  }
+
   /** @return if reserve succeed, pair.right will be true, otherwise false */
   public Pair<ListenableFuture<Void>, Boolean> reserve(String queryId, long bytes) {
     Validate.notNull(queryId);
@@ -18,55 +18,253 @@
  */
 package org.apache.iotdb.db.mpp.execution.operator.process;
 
+import org.apache.iotdb.db.mpp.execution.memory.MemoryPool;
+import org.apache.iotdb.db.mpp.execution.operator.Operator;
 import org.apache.iotdb.db.mpp.execution.operator.OperatorContext;
+import org.apache.iotdb.db.mpp.execution.operator.process.sort.DiskSpiller;
+import org.apache.iotdb.db.mpp.execution.operator.process.sort.MemoryReader;
+import org.apache.iotdb.db.mpp.execution.operator.process.sort.MergeSortKey;
+import org.apache.iotdb.db.mpp.execution.operator.process.sort.SortReader;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.read.common.block.TsBlock;
+import org.apache.iotdb.tsfile.read.common.block.TsBlockBuilder;
 
 import com.google.common.util.concurrent.ListenableFuture;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * SortOperator consumes all the TsBlocks of its child and outputs the rows in the order defined by
+ * the comparator.
+ *
+ * <p>Memory of the cached TsBlocks, together with the {@link MergeSortKey}s that their rows are
+ * sorted by, is reserved from the query {@link MemoryPool}. Once the reservation fails, the cached
+ * rows are sorted and spilled to disk as a sorted run through {@link DiskSpiller}, and the
+ * reservation is released. After the child is exhausted, the in-memory rows and all the spilled
+ * runs are merged k-way, so only one TsBlock of each spilled run is kept in memory while
+ * outputting.
+ */
 public class SortOperator implements ProcessOperator {
 
+  private final OperatorContext operatorContext;
+  private final Operator inputOperator;
+  private final List<TSDataType> dataTypes;
+  private final TsBlockBuilder tsBlockBuilder;
+  private final Comparator<MergeSortKey> comparator;
+
+  private final MemoryPool memoryPool;
+  private String queryId;
+  private final DiskSpiller diskSpiller;
+
+  // TsBlocks which have not been spilled, their memory is reserved from memoryPool
+  private final List<TsBlock> cachedTsBlocks = new ArrayList<>();
+  private long reservedBytes = 0L;
+
+  // null until all the TsBlocks of inputOperator have been consumed
+  private PriorityQueue<SortReader> mergeHeap;
+
+  public SortOperator(
+      OperatorContext operatorContext,
+      Operator inputOperator,
+      List<TSDataType> dataTypes,
+      Comparator<MergeSortKey> comparator,
+      MemoryPool memoryPool,
+      String spillFolderPath) {
+    this.operatorContext = requireNonNull(operatorContext, "operatorContext is null");
+    this.inputOperator = requireNonNull(inputOperator, "inputOperator is null");
+    this.dataTypes = dataTypes;
+    this.tsBlockBuilder = new TsBlockBuilder(dataTypes);
+    this.comparator = requireNonNull(comparator, "comparator is null");
+    this.memoryPool = requireNonNull(memoryPool, "memoryPool is null");
+    this.diskSpiller =
+        new DiskSpiller(spillFolderPath, operatorContext.getOperatorId() + "-", dataTypes);
+  }
+
   @Override
   public OperatorContext getOperatorContext() {
-    return null;
+    return operatorContext;
   }
 
   @Override
   public ListenableFuture<?> isBlocked() {
-    return ProcessOperator.super.isBlocked();
+    return mergeHeap == null ? inputOperator.isBlocked() : NOT_BLOCKED;
   }
 
   @Override
   public TsBlock next() {
-    return null;
+    try {
+      if (mergeHeap == null) {
+        if (inputOperator.hasNext()) {
+          TsBlock tsBlock = inputOperator.next();
+          if (tsBlock != null && !tsBlock.isEmpty()) {
+            cacheTsBlock(tsBlock);
+          }
+          return null;
+        }
+        prepareMerge();
+      }
+      return mergeSortedRuns();
+    } catch (IOException e) {
+      throw new RuntimeException("Error happened while spilling or merging sorted data", e);
+    }
+  }
+
+  private void cacheTsBlock(TsBlock tsBlock) throws IOException {
+    if (queryId == null) {
+      queryId = operatorContext.getInstanceContext().getId().getQueryId().getId();
+    }
+    long bytes =
+        tsBlock.getRetainedSizeInBytes() + tsBlock.getPositionCount() * MergeSortKey.SIZE_IN_BYTES;
+    if (bytes > memoryPool.getMaxBytesPerQuery()) {
+      // the TsBlock can never be held by the memory pool
+      diskSpiller.spillSortedData(sortTsBlocks(Collections.singletonList(tsBlock)));
+      return;
+    }
+    if (memoryPool.tryReserve(queryId, bytes)) {
+      cachedTsBlocks.add(tsBlock);
+      reservedBytes += bytes;
+      return;
+    }
+    spillCachedTsBlocks();
+    if (memoryPool.tryReserve(queryId, bytes)) {
+      cachedTsBlocks.add(tsBlock);
+      reservedBytes += bytes;
+    } else {
+      // the memory of this query is occupied by other operators, spill the TsBlock on its own
+      diskSpiller.spillSortedData(sortTsBlocks(Collections.singletonList(tsBlock)));
+    }
+  }
+
+  private void spillCachedTsBlocks() throws IOException {
+    if (cachedTsBlocks.isEmpty()) {
+      return;
+    }
+    diskSpiller.spillSortedData(sortTsBlocks(cachedTsBlocks));
+    cachedTsBlocks.clear();
+    releaseMemory();
+  }
+
+  private List<MergeSortKey> sortTsBlocks(List<TsBlock> tsBlocks) {
+    int rowCount = 0;
+    for (TsBlock tsBlock : tsBlocks) {
+      rowCount += tsBlock.getPositionCount();
+    }
+    List<MergeSortKey> sortKeys = new ArrayList<>(rowCount);
+    for (TsBlock tsBlock : tsBlocks) {
+      for (int i = 0, size = tsBlock.getPositionCount(); i < size; i++) {
+        sortKeys.add(new MergeSortKey(tsBlock, i));
+      }
+    }
+    sortKeys.sort(comparator);
+    return sortKeys;
+  }
+
+  private void prepareMerge() throws IOException {
+    List<SortReader> sortReaders = new ArrayList<>();
+    if (!cachedTsBlocks.isEmpty()) {
+      sortReaders.add(new MemoryReader(sortTsBlocks(cachedTsBlocks)));
+    }
+    sortReaders.addAll(diskSpiller.getReaders());
+
+    mergeHeap =
+        new PriorityQueue<>(
+            Math.max(1, sortReaders.size()), (o1, o2) -> comparator.compare(o1.peek(), o2.peek()));
+    for (SortReader sortReader : sortReaders) {
+      if (sortReader.hasNext()) {
+        mergeHeap.add(sortReader);
+      } else {
+        sortReader.close();
+      }
+    }
+  }
+
+  private TsBlock mergeSortedRuns() throws IOException {
+    tsBlockBuilder.reset();
+    while (!mergeHeap.isEmpty() && !tsBlockBuilder.isFull()) {
+      SortReader sortReader = mergeHeap.poll();
+      DiskSpiller.appendRow(tsBlockBuilder, sortReader.peek());
+      sortReader.advance();
+      if (sortReader.hasNext()) {
+        mergeHeap.add(sortReader);
+      } else {
+        sortReader.close();
+      }
+    }
+    if (mergeHeap.isEmpty()) {
+      cachedTsBlocks.clear();
+      releaseMemory();
+      diskSpiller.clear();
+    }
+    return tsBlockBuilder.build();
+  }
+
+  private void releaseMemory() {
+    if (reservedBytes > 0) {
+      memoryPool.free(queryId, reservedBytes);
+      reservedBytes = 0L;
+    }
   }
 
   @Override
   public boolean hasNext() {
-    return false;
+    if (mergeHeap != null) {
+      return !mergeHeap.isEmpty();
+    }
+    return inputOperator.hasNext() || !cachedTsBlocks.isEmpty() || diskSpiller.hasSpilledData();
   }
 
   @Override
   public void close() throws Exception {
-    ProcessOperator.super.close();
+    inputOperator.close();
+    if (mergeHeap != null) {
+      for (SortReader sortReader : mergeHeap) {
+        sortReader.close();
+      }
+      mergeHeap.clear();
+    }
+    cachedTsBlocks.clear();
+    releaseMemory();
+    diskSpiller.clear();
   }
 
   @Override
   public boolean isFinished() {
-    return false;
+    if (mergeHeap != null) {
+      return mergeHeap.isEmpty();
+    }
+    return inputOperator.isFinished() && cachedTsBlocks.isEmpty() && !diskSpiller.hasSpilledData();
   }
 
   @Override
   public long calculateMaxPeekMemory() {
-    return 0;
+    // the cached TsBlocks and their sort keys are accounted by the memory pool, so only the TsBlock
+    // being consumed, the sort keys of it if it is spilled on its own and the TsBlock being built
+    // are counted here
+    long maxRowCount = TSFileDescriptor.getInstance().getConfig().getMaxTsBlockLineNumber();
+    return Math.max(
+        inputOperator.calculateMaxPeekMemory(),
+        inputOperator.calculateMaxReturnSize()
+            + inputOperator.calculateRetainedSizeAfterCallingNext()
+            + maxRowCount * MergeSortKey.SIZE_IN_BYTES
+            + calculateMaxReturnSize());
   }
 
   @Override
   public long calculateMaxReturnSize() {
-    return 0;
+    // time + all value columns
+    return (1L + dataTypes.size()) * TSFileDescriptor.getInstance().getConfig().getPageSizeInByte();
   }
 
   @Override
   public long calculateRetainedSizeAfterCallingNext() {
-    return 0;
+    return inputOperator.calculateRetainedSizeAfterCallingNext();
   }
 }
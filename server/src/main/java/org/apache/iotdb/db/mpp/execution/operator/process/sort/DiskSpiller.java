@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.execution.operator.process.sort;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.block.TsBlock;
+import org.apache.iotdb.tsfile.read.common.block.TsBlockBuilder;
+import org.apache.iotdb.tsfile.read.common.block.column.ColumnBuilder;
+import org.apache.iotdb.tsfile.read.common.block.column.TimeColumnBuilder;
+import org.apache.iotdb.tsfile.read.common.block.column.TsBlockSerde;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DiskSpiller writes sorted runs of SortOperator to files under the given folder, which must not be
+ * shared with other spillers as it is deleted as a whole. Each run is stored as a sequence of
+ * serialized TsBlocks, every one of which is prefixed by its length.
+ */
+public class DiskSpiller {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DiskSpiller.class);
+
+  private final String folderPath;
+  private final String filePrefix;
+  private final List<TSDataType> dataTypes;
+  private final TsBlockSerde serde = new TsBlockSerde();
+
+  private final List<String> fileList = new ArrayList<>();
+  private boolean folderCreated = false;
+
+  public DiskSpiller(String folderPath, String filePrefix, List<TSDataType> dataTypes) {
+    this.folderPath = folderPath;
+    this.filePrefix = filePrefix;
+    this.dataTypes = dataTypes;
+  }
+
+  /** Write the rows referenced by sortedKeys, which must be sorted already, as a new run. */
+  public void spillSortedData(List<MergeSortKey> sortedKeys) throws IOException {
+    if (sortedKeys.isEmpty()) {
+      return;
+    }
+    createFolderIfNecessary();
+    String fileName = folderPath + File.separator + filePrefix + fileList.size();
+    fileList.add(fileName);
+
+    TsBlockBuilder tsBlockBuilder = new TsBlockBuilder(dataTypes);
+    try (DataOutputStream outputStream =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName)))) {
+      for (MergeSortKey sortKey : sortedKeys) {
+        appendRow(tsBlockBuilder, sortKey);
+        if (tsBlockBuilder.isFull()) {
+          writeTsBlock(outputStream, tsBlockBuilder.build());
+          tsBlockBuilder.reset();
+        }
+      }
+      if (!tsBlockBuilder.isEmpty()) {
+        writeTsBlock(outputStream, tsBlockBuilder.build());
+      }
+    }
+  }
+
+  private void writeTsBlock(DataOutputStream outputStream, TsBlock tsBlock) throws IOException {
+    ByteBuffer byteBuffer = serde.serialize(tsBlock);
+    outputStream.writeInt(byteBuffer.remaining());
+    outputStream.write(byteBuffer.array(), byteBuffer.arrayOffset(), byteBuffer.remaining());
+  }
+
+  private void createFolderIfNecessary() throws IOException {
+    if (folderCreated) {
+      return;
+    }
+    File folder = new File(folderPath);
+    if (!folder.exists() && !folder.mkdirs()) {
+      throw new IOException("Failed to create spill folder " + folderPath);
+    }
+    folderCreated = true;
+  }
+
+  public boolean hasSpilledData() {
+    return !fileList.isEmpty();
+  }
+
+  public List<SortReader> getReaders() throws IOException {
+    List<SortReader> sortReaders = new ArrayList<>(fileList.size());
+    for (String fileName : fileList) {
+      sortReaders.add(new FileSpillerReader(fileName, serde));
+    }
+    return sortReaders;
+  }
+
+  /** Delete the folder of this spiller together with all the spilled files in it. */
+  public void clear() {
+    if (!folderCreated) {
+      return;
+    }
+    try {
+      FileUtils.deleteDirectory(new File(folderPath));
+    } catch (IOException e) {
+      LOGGER.warn("Failed to delete spill folder {}", folderPath, e);
+    }
+    fileList.clear();
+    folderCreated = false;
+  }
+
+  /** Append the row referenced by sortKey to tsBlockBuilder. */
+  public static void appendRow(TsBlockBuilder tsBlockBuilder, MergeSortKey sortKey) {
+    TsBlock tsBlock = sortKey.tsBlock;
+    int rowIndex = sortKey.rowIndex;
+    TimeColumnBuilder timeColumnBuilder = tsBlockBuilder.getTimeColumnBuilder();
+    timeColumnBuilder.writeLong(tsBlock.getTimeByIndex(rowIndex));
+    ColumnBuilder[] valueColumnBuilders = tsBlockBuilder.getValueColumnBuilders();
+    for (int i = 0; i < valueColumnBuilders.length; i++) {
+      if (tsBlock.getColumn(i).isNull(rowIndex)) {
+        valueColumnBuilders[i].appendNull();
+      } else {
+        valueColumnBuilders[i].write(tsBlock.getColumn(i), rowIndex);
+      }
+    }
+    tsBlockBuilder.declarePosition();
+  }
+}
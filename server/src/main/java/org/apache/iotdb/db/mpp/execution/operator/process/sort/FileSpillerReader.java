@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.execution.operator.process.sort;
+
+import org.apache.iotdb.tsfile.read.common.block.TsBlock;
+import org.apache.iotdb.tsfile.read.common.block.column.TsBlockSerde;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * FileSpillerReader iterates one sorted run spilled by {@link DiskSpiller}. Only one TsBlock of the
+ * run is kept in memory at a time.
+ */
+public class FileSpillerReader implements SortReader {
+
+  private final String fileName;
+  private final DataInputStream inputStream;
+  private final TsBlockSerde serde;
+  private final MergeSortKey sortKey;
+
+  private TsBlock cachedTsBlock;
+  private int rowIndex;
+  private boolean isEnd = false;
+
+  public FileSpillerReader(String fileName, TsBlockSerde serde) throws IOException {
+    this.fileName = fileName;
+    this.inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(fileName)));
+    this.serde = serde;
+    this.sortKey = new MergeSortKey(null, 0);
+  }
+
+  @Override
+  public MergeSortKey peek() {
+    sortKey.tsBlock = cachedTsBlock;
+    sortKey.rowIndex = rowIndex;
+    return sortKey;
+  }
+
+  @Override
+  public void advance() {
+    rowIndex++;
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    if (isEnd) {
+      return false;
+    }
+    if (cachedTsBlock != null && rowIndex < cachedTsBlock.getPositionCount()) {
+      return true;
+    }
+    while (readTsBlock()) {
+      if (cachedTsBlock.getPositionCount() > 0) {
+        return true;
+      }
+    }
+    isEnd = true;
+    cachedTsBlock = null;
+    return false;
+  }
+
+  private boolean readTsBlock() throws IOException {
+    int length;
+    try {
+      length = inputStream.readInt();
+    } catch (EOFException e) {
+      return false;
+    }
+    byte[] bytes = new byte[length];
+    inputStream.readFully(bytes);
+    cachedTsBlock = serde.deserialize(ByteBuffer.wrap(bytes));
+    rowIndex = 0;
+    return true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    cachedTsBlock = null;
+    inputStream.close();
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.execution.operator.process.sort;
+
+import java.util.List;
+
+/** MemoryReader iterates the sorted row references of TsBlocks cached in memory. */
+public class MemoryReader implements SortReader {
+
+  private final List<MergeSortKey> sortedKeys;
+  private int index = 0;
+
+  public MemoryReader(List<MergeSortKey> sortedKeys) {
+    this.sortedKeys = sortedKeys;
+  }
+
+  @Override
+  public MergeSortKey peek() {
+    return sortedKeys.get(index);
+  }
+
+  @Override
+  public void advance() {
+    index++;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return index < sortedKeys.size();
+  }
+
+  @Override
+  public void close() {
+    // nothing to release, the cached TsBlocks are released by SortOperator
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.execution.operator.process.sort;
+
+import org.apache.iotdb.db.mpp.plan.statement.component.Ordering;
+import org.apache.iotdb.db.mpp.plan.statement.component.SortItem;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.block.column.Column;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.apache.iotdb.db.mpp.common.header.ColumnHeaderConstant.COLUMN_DEVICE;
+import static org.apache.iotdb.db.mpp.common.header.ColumnHeaderConstant.COLUMN_TIMESERIES;
+
+/** Comparators of {@link MergeSortKey} used by SortOperator. */
+public class MergeSortComparator {
+
+  private static final Comparator<MergeSortKey> ASC_TIME_COMPARATOR =
+      Comparator.comparingLong(sortKey -> sortKey.tsBlock.getTimeByIndex(sortKey.rowIndex));
+
+  private static final Comparator<MergeSortKey> DESC_TIME_COMPARATOR =
+      ASC_TIME_COMPARATOR.reversed();
+
+  private MergeSortComparator() {
+    // util class
+  }
+
+  /**
+   * Build the comparator of the sort items, items closer to the list head have higher priority.
+   * DEVICE and TIMESERIES are compared by the value column of the same name, rows are sorted by
+   * time in ascending order if there is no sort item.
+   *
+   * @param columnNames names of the value columns of the sorted TsBlocks
+   * @param dataTypes data types of the value columns of the sorted TsBlocks
+   */
+  public static Comparator<MergeSortKey> getComparator(
+      List<SortItem> sortItemList, List<String> columnNames, List<TSDataType> dataTypes) {
+    Comparator<MergeSortKey> comparator = null;
+    for (SortItem sortItem : sortItemList) {
+      Comparator<MergeSortKey> itemComparator;
+      switch (sortItem.getSortKey()) {
+        case TIME:
+          itemComparator = getTimeComparator(sortItem.getOrdering());
+          break;
+        case DEVICE:
+          itemComparator =
+              getValueComparator(columnNames, dataTypes, COLUMN_DEVICE, sortItem.getOrdering());
+          break;
+        case TIMESERIES:
+          itemComparator =
+              getValueComparator(
+                  columnNames, dataTypes, COLUMN_TIMESERIES, sortItem.getOrdering());
+          break;
+        default:
+          throw new UnsupportedOperationException("Unsupported sort key: " + sortItem.getSortKey());
+      }
+      comparator = comparator == null ? itemComparator : comparator.thenComparing(itemComparator);
+    }
+    return comparator == null ? ASC_TIME_COMPARATOR : comparator;
+  }
+
+  public static Comparator<MergeSortKey> getTimeComparator(Ordering ordering) {
+    return ordering == Ordering.ASC ? ASC_TIME_COMPARATOR : DESC_TIME_COMPARATOR;
+  }
+
+  /**
+   * Compare the rows by the value column at columnIndex. Null values are always put at the end of
+   * the result no matter which ordering is used.
+   */
+  public static Comparator<MergeSortKey> getValueComparator(
+      int columnIndex, TSDataType dataType, Ordering ordering) {
+    Comparator<MergeSortKey> comparator;
+    switch (dataType) {
+      case INT32:
+        comparator =
+            Comparator.comparingInt(
+                sortKey -> getColumn(sortKey, columnIndex).getInt(sortKey.rowIndex));
+        break;
+      case INT64:
+        comparator =
+            Comparator.comparingLong(
+                sortKey -> getColumn(sortKey, columnIndex).getLong(sortKey.rowIndex));
+        break;
+      case FLOAT:
+        comparator =
+            (o1, o2) ->
+                Float.compare(
+                    getColumn(o1, columnIndex).getFloat(o1.rowIndex),
+                    getColumn(o2, columnIndex).getFloat(o2.rowIndex));
+        break;
+      case DOUBLE:
+        comparator =
+            Comparator.comparingDouble(
+                sortKey -> getColumn(sortKey, columnIndex).getDouble(sortKey.rowIndex));
+        break;
+      case BOOLEAN:
+        comparator =
+            (o1, o2) ->
+                Boolean.compare(
+                    getColumn(o1, columnIndex).getBoolean(o1.rowIndex),
+                    getColumn(o2, columnIndex).getBoolean(o2.rowIndex));
+        break;
+      case TEXT:
+        comparator =
+            Comparator.comparing(
+                sortKey -> getColumn(sortKey, columnIndex).getBinary(sortKey.rowIndex));
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported data type: " + dataType);
+    }
+    if (ordering == Ordering.DESC) {
+      comparator = comparator.reversed();
+    }
+    Comparator<MergeSortKey> valueComparator = comparator;
+    return (o1, o2) -> {
+      boolean isNull1 = getColumn(o1, columnIndex).isNull(o1.rowIndex);
+      boolean isNull2 = getColumn(o2, columnIndex).isNull(o2.rowIndex);
+      if (isNull1 || isNull2) {
+        return Boolean.compare(isNull1, isNull2);
+      }
+      return valueComparator.compare(o1, o2);
+    };
+  }
+
+  private static Comparator<MergeSortKey> getValueComparator(
+      List<String> columnNames, List<TSDataType> dataTypes, String columnName, Ordering ordering) {
+    int columnIndex = columnNames.indexOf(columnName);
+    if (columnIndex < 0) {
+      throw new IllegalArgumentException(
+          "Cannot sort by " + columnName + ", it is not in the columns " + columnNames);
+    }
+    return getValueComparator(columnIndex, dataTypes.get(columnIndex), ordering);
+  }
+
+  private static Column getColumn(MergeSortKey sortKey, int columnIndex) {
+    return sortKey.tsBlock.getColumn(columnIndex);
+  }
+}
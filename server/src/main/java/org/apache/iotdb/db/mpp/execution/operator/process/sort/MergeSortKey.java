@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.execution.operator.process.sort;
+
+import org.apache.iotdb.tsfile.read.common.block.TsBlock;
+import org.apache.iotdb.tsfile.utils.RamUsageEstimator;
+
+/** A reference to one row of a TsBlock, which is the unit compared by SortOperator. */
+public class MergeSortKey {
+
+  /** memory of a key and its reference in the sorted list */
+  public static final long SIZE_IN_BYTES =
+      RamUsageEstimator.shallowSizeOfInstance(MergeSortKey.class)
+          + RamUsageEstimator.NUM_BYTES_OBJECT_REF;
+
+  public TsBlock tsBlock;
+  public int rowIndex;
+
+  public MergeSortKey(TsBlock tsBlock, int rowIndex) {
+    this.tsBlock = tsBlock;
+    this.rowIndex = rowIndex;
+  }
+}
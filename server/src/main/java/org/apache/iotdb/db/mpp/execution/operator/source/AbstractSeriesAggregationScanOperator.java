@@ -20,6 +20,7 @@
 package org.apache.iotdb.db.mpp.execution.operator.source;
 
 import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
+import org.apache.iotdb.db.engine.rollup.SeriesRollup;
 import org.apache.iotdb.db.mpp.aggregation.Aggregator;
 import org.apache.iotdb.db.mpp.aggregation.timerangeiterator.ITimeRangeIterator;
 import org.apache.iotdb.db.mpp.execution.operator.OperatorContext;
@@ -184,8 +185,8 @@ public abstract class AbstractSeriesAggregationScanOperator implements DataSourc
         return;
       }
 
-      // read chunk data secondly
-      if (readAndCalcFromChunk()) {
+      // read chunk data secondly, unless current file has not been unpacked into chunks
+      if (!seriesScanUtil.hasCurrentFileNotUnpacked() && readAndCalcFromChunk()) {
         updateResultTsBlock();
         return;
       }
@@ -253,6 +254,16 @@ public abstract class AbstractSeriesAggregationScanOperator implements DataSourc
             continue;
           }
         }
+        // calc from the rollup buckets of current file which make up the whole time window
+        if (isGroupByQuery && calcFromCurrentFileRollup()) {
+          if (ascending
+              ? fileTimeStatistics.getEndTime() <= curTimeRange.getMax()
+              : fileTimeStatistics.getStartTime() >= curTimeRange.getMin()) {
+            seriesScanUtil.skipCurrentFile();
+            continue;
+          }
+          return true;
+        }
       }
 
       // read chunk
@@ -264,6 +275,29 @@ public abstract class AbstractSeriesAggregationScanOperator implements DataSourc
     return false;
   }
 
+  /**
+   * Calculate current time window from the rollup of current file if the window is aligned to the
+   * buckets of one of its rollup intervals. Should only be called when the statistics of current
+   * file can be used.
+   *
+   * @return true if current time window has been calculated from the rollup
+   */
+  private boolean calcFromCurrentFileRollup() throws IOException {
+    SeriesRollup rollup = seriesScanUtil.currentFileRollup();
+    if (rollup == null) {
+      return false;
+    }
+    int tier = rollup.getAlignedTier(curTimeRange.getMin(), curTimeRange.getMax());
+    if (tier < 0) {
+      return false;
+    }
+    Statistics statistics = rollup.aggregate(tier, curTimeRange.getMin(), curTimeRange.getMax());
+    if (statistics != null) {
+      calcFromStatistics(new Statistics[] {statistics});
+    }
+    return true;
+  }
+
   protected boolean readAndCalcFromChunk() throws IOException {
     while (seriesScanUtil.hasNextChunk()) {
       if (canUseCurrentChunkStatistics()) {
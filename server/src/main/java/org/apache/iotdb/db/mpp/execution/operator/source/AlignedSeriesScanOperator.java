@@ -26,6 +26,8 @@ import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.read.common.block.TsBlock;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 
+import com.google.common.util.concurrent.ListenableFuture;
+
 import java.io.IOException;
 import java.util.HashSet;
 
@@ -57,6 +59,7 @@ public class AlignedSeriesScanOperator implements DataSourceOperator {
             timeFilter,
             valueFilter,
             ascending);
+    this.seriesScanUtil.enableChunkPrefetch();
     // time + all value columns
     this.maxReturnSize =
         (1L + seriesPath.getMeasurementList().size())
@@ -118,6 +121,11 @@ public class AlignedSeriesScanOperator implements DataSourceOperator {
     }
   }
 
+  @Override
+  public ListenableFuture<?> isBlocked() {
+    return hasCachedTsBlock ? NOT_BLOCKED : seriesScanUtil.isBlocked();
+  }
+
   @Override
   public boolean isFinished() {
     return finished || (finished = !hasNext());
@@ -166,6 +174,11 @@ public class AlignedSeriesScanOperator implements DataSourceOperator {
     return sourceId;
   }
 
+  @Override
+  public void close() throws Exception {
+    seriesScanUtil.close();
+  }
+
   @Override
   public void initQueryDataSource(QueryDataSource dataSource) {
     seriesScanUtil.initQueryDataSource(dataSource);
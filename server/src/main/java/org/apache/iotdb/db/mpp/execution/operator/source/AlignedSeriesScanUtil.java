@@ -19,6 +19,7 @@
 package org.apache.iotdb.db.mpp.execution.operator.source;
 
 import org.apache.iotdb.commons.path.PartialPath;
+import org.apache.iotdb.db.engine.rollup.SeriesRollup;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.metadata.path.AlignedPath;
 import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceContext;
@@ -69,6 +70,12 @@ public class AlignedSeriesScanUtil extends SeriesScanUtil {
     return ((AlignedTimeSeriesMetadata) firstTimeSeriesMetadata).getTimeStatistics();
   }
 
+  @Override
+  protected SeriesRollup currentFileRollup() {
+    // rollups are not collected for aligned series
+    return null;
+  }
+
   @Override
   protected Statistics currentChunkStatistics(int index) throws IOException {
     return ((AlignedChunkMetadata) firstChunkMetadata).getStatistics(index);
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.execution.operator.source;
+
+import org.apache.iotdb.commons.concurrent.IoTDBThreadPoolFactory;
+import org.apache.iotdb.commons.concurrent.ThreadName;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.cache.ChunkCache;
+import org.apache.iotdb.db.engine.cache.ChunkCacheHint;
+import org.apache.iotdb.db.mpp.execution.operator.Operator;
+import org.apache.iotdb.db.query.context.QueryContext;
+import org.apache.iotdb.db.query.reader.chunk.DiskAlignedChunkLoader;
+import org.apache.iotdb.db.query.reader.chunk.DiskChunkLoader;
+import org.apache.iotdb.tsfile.file.metadata.AlignedChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.IChunkMetadata;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Loads the chunks that a series scan will read next into the {@link ChunkCache} on a shared thread
+ * pool, at most {@code chunk_prefetch_depth} chunks ahead of the scan. While the next chunk is
+ * still being loaded, the scan reports itself blocked, so the driver thread can run other drivers
+ * instead of waiting for the disk.
+ *
+ * <p>The scan tells the prefetcher which chunks it will read by {@link #addChunks(List)} and which
+ * chunks it has read or skipped by {@link #onChunkRead(IChunkMetadata)}, so each chunk costs
+ * O(log n) here however many chunks are cached by the scan.
+ *
+ * <p>A prefetcher is used by one driver at a time and is not thread safe, except that its loads run
+ * on the prefetch pool. {@link #close()} waits for the running loads, so no load reads a file after
+ * the driver releases its references to the files.
+ */
+public class ChunkPrefetcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChunkPrefetcher.class);
+
+  private final QueryContext context;
+  private final int depth;
+
+  /** chunks to be read by the scan and not submitted yet, in the order the scan reads them */
+  private final PriorityQueue<IChunkMetadata> candidateChunks;
+
+  /** chunks read or skipped by the scan before they are submitted */
+  private final Set<IChunkMetadata> readCandidateChunks =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+
+  /** submitted chunks not read by the scan yet */
+  private final Map<IChunkMetadata, ListenableFuture<?>> prefetchingChunks =
+      new IdentityHashMap<>();
+
+  /** guarded by this, number of loads running on the prefetch pool */
+  private int runningLoadNum = 0;
+
+  /** guarded by this, no load starts once the prefetcher is closed */
+  private boolean closed = false;
+
+  private ChunkPrefetcher(
+      QueryContext context, int depth, Comparator<? super IChunkMetadata> chunkOrder) {
+    this.context = context;
+    this.depth = depth;
+    this.candidateChunks = new PriorityQueue<>(chunkOrder);
+  }
+
+  /**
+   * @param chunkOrder the order the scan reads chunks in
+   * @return a prefetcher, or null if chunk prefetch is disabled
+   */
+  public static ChunkPrefetcher create(
+      QueryContext context, Comparator<? super IChunkMetadata> chunkOrder) {
+    int depth = IoTDBDescriptor.getInstance().getConfig().getChunkPrefetchDepth();
+    return depth > 0 ? new ChunkPrefetcher(context, depth, chunkOrder) : null;
+  }
+
+  /** Add the chunks unpacked by the scan, which will be read by it later. */
+  public void addChunks(List<IChunkMetadata> chunkMetadataList) {
+    candidateChunks.addAll(chunkMetadataList);
+  }
+
+  /** Forget a chunk read or skipped by the scan. */
+  public void onChunkRead(IChunkMetadata chunkMetadata) {
+    if (prefetchingChunks.remove(chunkMetadata) == null) {
+      readCandidateChunks.add(chunkMetadata);
+    }
+  }
+
+  /**
+   * Submit the chunks to be read next, until {@code depth} chunks not read by the scan yet are
+   * submitted.
+   */
+  public void prefetch() {
+    ChunkCacheHint hint = context.getChunkCacheHint();
+    if (prefetchingChunks.size() >= depth || !ChunkCache.getInstance().isCachedUnder(hint)) {
+      return;
+    }
+    while (prefetchingChunks.size() < depth && !candidateChunks.isEmpty()) {
+      IChunkMetadata chunkMetadata = candidateChunks.poll();
+      if (!readCandidateChunks.remove(chunkMetadata)) {
+        submit(chunkMetadata, hint);
+      }
+    }
+  }
+
+  private void submit(IChunkMetadata chunkMetadata, ChunkCacheHint hint) {
+    if (!(chunkMetadata.getChunkLoader() instanceof DiskChunkLoader
+        || chunkMetadata.getChunkLoader() instanceof DiskAlignedChunkLoader)) {
+      return;
+    }
+    prefetchingChunks.put(
+        chunkMetadata, PrefetchPoolHolder.POOL.submit(() -> load(chunkMetadata, hint)));
+  }
+
+  private void load(IChunkMetadata chunkMetadata, ChunkCacheHint hint) {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      runningLoadNum++;
+    }
+    try {
+      loadIntoChunkCache(chunkMetadata, hint);
+    } finally {
+      synchronized (this) {
+        if (--runningLoadNum == 0) {
+          notifyAll();
+        }
+      }
+    }
+  }
+
+  private static void loadIntoChunkCache(IChunkMetadata chunkMetadata, ChunkCacheHint hint) {
+    ChunkCache chunkCache = ChunkCache.getInstance();
+    try {
+      if (chunkMetadata instanceof AlignedChunkMetadata) {
+        AlignedChunkMetadata alignedChunkMetadata = (AlignedChunkMetadata) chunkMetadata;
+        chunkCache.prefetch((ChunkMetadata) alignedChunkMetadata.getTimeChunkMetadata(), hint);
+        for (IChunkMetadata valueChunkMetadata : alignedChunkMetadata.getValueChunkMetadataList()) {
+          if (valueChunkMetadata != null) {
+            chunkCache.prefetch((ChunkMetadata) valueChunkMetadata, hint);
+          }
+        }
+      } else {
+        chunkCache.prefetch((ChunkMetadata) chunkMetadata, hint);
+      }
+    } catch (IOException | RuntimeException e) {
+      // the scan reads the chunk again by itself and reports the error
+      LOGGER.debug("Failed to prefetch chunk {}", chunkMetadata, e);
+    }
+  }
+
+  /**
+   * @return a future completed when the chunk is loaded, or {@link Operator#NOT_BLOCKED} if it is
+   *     loaded or not prefetched
+   */
+  public ListenableFuture<?> isBlocked(IChunkMetadata chunkMetadata) {
+    ListenableFuture<?> future = prefetchingChunks.get(chunkMetadata);
+    return future == null || future.isDone() ? Operator.NOT_BLOCKED : future;
+  }
+
+  /**
+   * Cancel the chunks not loaded yet and wait for the running loads, which must be done before the
+   * driver releases its references to the files.
+   */
+  public void close() {
+    synchronized (this) {
+      closed = true;
+    }
+    prefetchingChunks.values().forEach(future -> future.cancel(false));
+    prefetchingChunks.clear();
+    candidateChunks.clear();
+    readCandidateChunks.clear();
+
+    boolean interrupted = false;
+    synchronized (this) {
+      while (runningLoadNum > 0) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          // a load reading a released file may fail, so wait for it anyway
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class PrefetchPoolHolder {
+
+    private static final ListeningExecutorService POOL =
+        MoreExecutors.listeningDecorator(
+            IoTDBThreadPoolFactory.newFixedThreadPoolWithDaemonThread(
+                IoTDBDescriptor.getInstance().getConfig().getChunkPrefetchThreadCount(),
+                ThreadName.CHUNK_PREFETCH_SERVICE.getName()));
+
+    private PrefetchPoolHolder() {}
+  }
+}
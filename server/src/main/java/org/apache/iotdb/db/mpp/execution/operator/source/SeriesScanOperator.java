@@ -27,6 +27,8 @@ import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.read.common.block.TsBlock;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 
+import com.google.common.util.concurrent.ListenableFuture;
+
 import java.io.IOException;
 import java.util.Set;
 
@@ -61,6 +63,7 @@ public class SeriesScanOperator implements DataSourceOperator {
             timeFilter,
             valueFilter,
             ascending);
+    this.seriesScanUtil.enableChunkPrefetch();
     this.maxReturnSize = TSFileDescriptor.getInstance().getConfig().getPageSizeInByte();
   }
 
@@ -119,6 +122,11 @@ public class SeriesScanOperator implements DataSourceOperator {
     }
   }
 
+  @Override
+  public ListenableFuture<?> isBlocked() {
+    return hasCachedTsBlock ? NOT_BLOCKED : seriesScanUtil.isBlocked();
+  }
+
   @Override
   public boolean isFinished() {
     return finished || (finished = !hasNext());
@@ -167,6 +175,11 @@ public class SeriesScanOperator implements DataSourceOperator {
     return sourceId;
   }
 
+  @Override
+  public void close() throws Exception {
+    seriesScanUtil.close();
+  }
+
   @Override
   public void initQueryDataSource(QueryDataSource dataSource) {
     seriesScanUtil.initQueryDataSource(dataSource);
@@ -21,9 +21,12 @@ package org.apache.iotdb.db.mpp.execution.operator.source;
 import org.apache.iotdb.commons.path.PartialPath;
 import org.apache.iotdb.commons.utils.TestOnly;
 import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
+import org.apache.iotdb.db.engine.rollup.RollupFile;
+import org.apache.iotdb.db.engine.rollup.SeriesRollup;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.metadata.idtable.IDTable;
 import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceContext;
+import org.apache.iotdb.db.mpp.execution.operator.Operator;
 import org.apache.iotdb.db.query.context.QueryContext;
 import org.apache.iotdb.db.query.reader.universal.DescPriorityMergeReader;
 import org.apache.iotdb.db.query.reader.universal.PriorityMergeReader;
@@ -45,12 +48,16 @@ import org.apache.iotdb.tsfile.read.reader.IPageReader;
 import org.apache.iotdb.tsfile.read.reader.IPointReader;
 import org.apache.iotdb.tsfile.utils.TsPrimitiveType;
 
+import com.google.common.util.concurrent.ListenableFuture;
+
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.PriorityQueue;
 import java.util.Set;
@@ -97,12 +104,25 @@ public class SeriesScanUtil {
   protected final List<ITimeSeriesMetadata> seqTimeSeriesMetadata = new LinkedList<>();
   protected final PriorityQueue<ITimeSeriesMetadata> unSeqTimeSeriesMetadata;
 
+  /*
+   * sealed sequence files of cached TimeSeriesMetadata, for finding the rollup of current file
+   */
+  private final Map<ITimeSeriesMetadata, TsFileResource> sealedSeqFileResources =
+      new IdentityHashMap<>();
+  private TsFileResource rollupFileResource;
+  private SeriesRollup rollup;
+
   /*
    * chunk cache
    */
   protected IChunkMetadata firstChunkMetadata;
   protected final PriorityQueue<IChunkMetadata> cachedChunkMetadata;
 
+  /*
+   * loads chunks of cachedChunkMetadata ahead of reading them, null if disabled
+   */
+  private ChunkPrefetcher chunkPrefetcher;
+
   /*
    * page cache
    */
@@ -176,6 +196,49 @@ public class SeriesScanUtil {
     orderUtils.setCurSeqFileIndex(dataSource);
   }
 
+  /** Load the chunks to be read next asynchronously, see {@link ChunkPrefetcher}. */
+  public void enableChunkPrefetch() {
+    chunkPrefetcher = ChunkPrefetcher.create(context, cachedChunkMetadata.comparator());
+  }
+
+  /**
+   * @return a future completed when the next chunk to read is loaded by the chunk prefetcher, or
+   *     {@link Operator#NOT_BLOCKED} if the scan can go on without waiting for the disk
+   */
+  public ListenableFuture<?> isBlocked() {
+    if (chunkPrefetcher == null
+        || hasCachedNextOverlappedPage
+        || firstPageReader != null
+        || !seqPageReaders.isEmpty()
+        || !unSeqPageReaders.isEmpty()
+        || mergeReader.hasNextTimeValuePair()) {
+      return Operator.NOT_BLOCKED;
+    }
+    IChunkMetadata nextChunkMetadata =
+        firstChunkMetadata != null ? firstChunkMetadata : cachedChunkMetadata.peek();
+    return nextChunkMetadata == null
+        ? Operator.NOT_BLOCKED
+        : chunkPrefetcher.isBlocked(nextChunkMetadata);
+  }
+
+  private void prefetchChunks() {
+    if (chunkPrefetcher != null) {
+      chunkPrefetcher.prefetch();
+    }
+  }
+
+  private void onChunkRead(IChunkMetadata chunkMetadata) {
+    if (chunkPrefetcher != null) {
+      chunkPrefetcher.onChunkRead(chunkMetadata);
+    }
+  }
+
+  public void close() {
+    if (chunkPrefetcher != null) {
+      chunkPrefetcher.close();
+    }
+  }
+
   protected PriorityMergeReader getPriorityMergeReader() {
     return new PriorityMergeReader();
   }
@@ -255,7 +318,50 @@ public class SeriesScanUtil {
     return firstTimeSeriesMetadata.isModified();
   }
 
+  /**
+   * @return rollup of current file if it is a sealed sequence file with a rollup of this series,
+   *     otherwise null. The caller should check whether statistics of current file can be used
+   *     before using the rollup.
+   */
+  protected SeriesRollup currentFileRollup() throws IOException {
+    if (firstTimeSeriesMetadata == null) {
+      throw new IOException("no first file");
+    }
+    TsFileResource resource = sealedSeqFileResources.get(firstTimeSeriesMetadata);
+    if (resource == null) {
+      return null;
+    }
+    if (resource != rollupFileResource) {
+      rollupFileResource = resource;
+      RollupFile rollupFile = resource.acquireRollupFile();
+      if (rollupFile == null) {
+        rollup = null;
+      } else {
+        try {
+          rollup = rollupFile.read(seriesPath.getDevice(), seriesPath.getMeasurement());
+        } finally {
+          rollupFile.release();
+        }
+      }
+      if (rollup != null && rollup.getDataType() != dataType) {
+        rollup = null;
+      }
+    }
+    return rollup;
+  }
+
+  /**
+   * @return true if there is a current file left by previous calculation and none of its chunks has
+   *     been unpacked, so that it may still be calculated from its statistics or rollup
+   */
+  boolean hasCurrentFileNotUnpacked() {
+    return firstTimeSeriesMetadata != null
+        && firstChunkMetadata == null
+        && cachedChunkMetadata.isEmpty();
+  }
+
   void skipCurrentFile() {
+    sealedSeqFileResources.remove(firstTimeSeriesMetadata);
     firstTimeSeriesMetadata = null;
   }
 
@@ -349,11 +455,16 @@ public class SeriesScanUtil {
 
   protected void unpackOneTimeSeriesMetadata(ITimeSeriesMetadata timeSeriesMetadata)
       throws IOException {
+    sealedSeqFileResources.remove(timeSeriesMetadata);
     List<IChunkMetadata> chunkMetadataList =
         FileLoaderUtils.loadChunkMetadataList(timeSeriesMetadata);
     chunkMetadataList.forEach(chunkMetadata -> chunkMetadata.setSeq(timeSeriesMetadata.isSeq()));
 
     cachedChunkMetadata.addAll(chunkMetadataList);
+    if (chunkPrefetcher != null) {
+      chunkPrefetcher.addChunks(chunkMetadataList);
+    }
+    prefetchChunks();
   }
 
   boolean isChunkOverlapped() throws IOException {
@@ -387,7 +498,9 @@ public class SeriesScanUtil {
   }
 
   void skipCurrentChunk() {
+    onChunkRead(firstChunkMetadata);
     firstChunkMetadata = null;
+    prefetchChunks();
   }
 
   /**
@@ -516,6 +629,8 @@ public class SeriesScanUtil {
   private void unpackOneChunkMetaData(IChunkMetadata chunkMetaData) throws IOException {
     List<IPageReader> pageReaderList =
         FileLoaderUtils.loadPageReaderList(chunkMetaData, timeFilter);
+    onChunkRead(chunkMetaData);
+    prefetchChunks();
 
     // init TsBlockBuilder for each page reader
     pageReaderList.forEach(p -> p.initTsBlockBuilder(getTsDataTypeList()));
@@ -1008,6 +1123,7 @@ public class SeriesScanUtil {
         && !isFileOverlapped()
         && !firstTimeSeriesMetadata.isModified()
         && !valueFilter.satisfy(firstTimeSeriesMetadata.getStatistics())) {
+      sealedSeqFileResources.remove(firstTimeSeriesMetadata);
       firstTimeSeriesMetadata = null;
     }
   }
@@ -1025,16 +1141,16 @@ public class SeriesScanUtil {
   }
 
   private void unpackSeqTsFileResource() throws IOException {
+    TsFileResource resource = orderUtils.getNextSeqFileResource(true);
     ITimeSeriesMetadata timeseriesMetadata =
-        loadTimeSeriesMetadata(
-            orderUtils.getNextSeqFileResource(true),
-            seriesPath,
-            context,
-            getAnyFilter(),
-            allSensors);
+        loadTimeSeriesMetadata(resource, seriesPath, context, getAnyFilter(), allSensors);
     if (timeseriesMetadata != null) {
       timeseriesMetadata.setSeq(true);
       seqTimeSeriesMetadata.add(timeseriesMetadata);
+      // the rollup of a file is written before the file is marked as closed
+      if (resource.isClosed()) {
+        sealedSeqFileResources.put(timeseriesMetadata, resource);
+      }
     }
   }
 
@@ -232,6 +232,11 @@ public class DriverScheduler implements IDriverScheduler, IService {
     return scheduler;
   }
 
+  /** @return number of drivers waiting for a worker thread */
+  public int getReadyDriverNum() {
+    return readyQueue.size();
+  }
+
   @TestOnly
   IndexedBlockingQueue<DriverTask> getReadyQueue() {
     return readyQueue;
@@ -49,6 +49,7 @@ import org.apache.iotdb.db.mpp.plan.expression.unary.RegularExpression;
 import org.apache.iotdb.db.mpp.plan.expression.unary.UnaryExpression;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.read.filter.TimeFilter;
+import org.apache.iotdb.tsfile.read.filter.ValueFilter;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.utils.Pair;
 
@@ -357,6 +358,83 @@ public class ExpressionUtils {
     return null;
   }
 
+  /**
+   * Construct a value filter of the series scan from the predicate {@code seriesExpression
+   * expressionType valueExpression}. Returns null if the predicate can not be evaluated on the
+   * series without changing its semantics, e.g. the series is not numeric or the constant can not
+   * be represented exactly in the data type of the series.
+   */
+  public static Filter constructValueFilter(
+      ExpressionType expressionType,
+      Expression seriesExpression,
+      Expression valueExpression,
+      PartialPath seriesPath,
+      TSDataType seriesType) {
+    if (!(seriesExpression instanceof TimeSeriesOperand)
+        || !(valueExpression instanceof ConstantOperand)
+        || !((TimeSeriesOperand) seriesExpression)
+            .getPath()
+            .getFullPath()
+            .equals(seriesPath.getFullPath())) {
+      return null;
+    }
+    Comparable<?> value = parseConstant((ConstantOperand) valueExpression, seriesType);
+    if (value == null) {
+      return null;
+    }
+    return constructValueFilter(expressionType, value);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Filter constructValueFilter(ExpressionType expressionType, Comparable value) {
+    switch (expressionType) {
+      case LESS_THAN:
+        return ValueFilter.lt(value);
+      case LESS_EQUAL:
+        return ValueFilter.ltEq(value);
+      case GREATER_THAN:
+        return ValueFilter.gt(value);
+      case GREATER_EQUAL:
+        return ValueFilter.gtEq(value);
+      case EQUAL_TO:
+        return ValueFilter.eq(value);
+      case NON_EQUAL:
+        return ValueFilter.notEq(value);
+      default:
+        return null;
+    }
+  }
+
+  private static Comparable<?> parseConstant(ConstantOperand constant, TSDataType seriesType) {
+    TSDataType constantType = constant.getDataType();
+    String valueString = constant.getValueString();
+    try {
+      switch (seriesType) {
+        case INT32:
+          return constantType == TSDataType.INT64 ? Integer.parseInt(valueString) : null;
+        case INT64:
+          return constantType == TSDataType.INT64 ? Long.parseLong(valueString) : null;
+        case FLOAT:
+          if (constantType == TSDataType.TEXT || constantType == TSDataType.BOOLEAN) {
+            return null;
+          }
+          double doubleValue = Double.parseDouble(valueString);
+          float floatValue = (float) doubleValue;
+          // comparisons in the filter operator are done in double precision
+          return floatValue == doubleValue ? floatValue : null;
+        case DOUBLE:
+          return constantType == TSDataType.TEXT || constantType == TSDataType.BOOLEAN
+              ? null
+              : Double.parseDouble(valueString);
+        default:
+          // boolean and text comparisons follow different rules in the filter operator
+          return null;
+      }
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
   public static Pair<Filter, Boolean> getPairFromBetweenTimeFirst(
       Expression firstExpression, Expression secondExpression, boolean not) {
     if (firstExpression instanceof ConstantOperand
@@ -42,7 +42,10 @@ import org.apache.iotdb.db.mpp.plan.execution.memory.MemorySourceHandle;
 import org.apache.iotdb.db.mpp.plan.execution.memory.StatementMemorySource;
 import org.apache.iotdb.db.mpp.plan.execution.memory.StatementMemorySourceContext;
 import org.apache.iotdb.db.mpp.plan.execution.memory.StatementMemorySourceVisitor;
+import org.apache.iotdb.db.mpp.plan.optimization.LimitOffsetPushDown;
 import org.apache.iotdb.db.mpp.plan.optimization.PlanOptimizer;
+import org.apache.iotdb.db.mpp.plan.optimization.PredicatePushDown;
+import org.apache.iotdb.db.mpp.plan.optimization.RemoveRedundantProject;
 import org.apache.iotdb.db.mpp.plan.planner.LogicalPlanner;
 import org.apache.iotdb.db.mpp.plan.planner.distribution.DistributionPlanner;
 import org.apache.iotdb.db.mpp.plan.planner.plan.DistributedQueryPlan;
@@ -133,6 +136,11 @@ public class QueryExecution implements IQueryExecution {
     this.scheduledExecutor = scheduledExecutor;
     this.context = context;
     this.planOptimizers = new ArrayList<>();
+    this.planOptimizers.add(new RemoveRedundantProject());
+    // predicates have to be pushed down before the limit, so that the limit applies to filtered
+    // rows
+    this.planOptimizers.add(new PredicatePushDown());
+    this.planOptimizers.add(new LimitOffsetPushDown());
     this.analysis = analyze(statement, context, partitionFetcher, schemaFetcher);
     this.stateMachine = new QueryStateMachine(context.getQueryId(), executor);
     this.partitionFetcher = partitionFetcher;
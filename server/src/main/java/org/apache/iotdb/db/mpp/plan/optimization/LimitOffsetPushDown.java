@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.plan.optimization;
+
+import org.apache.iotdb.db.mpp.common.MPPQueryContext;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.SimplePlanNodeRewriter;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.process.LimitNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.process.OffsetNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.process.TimeJoinNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.source.AlignedSeriesScanNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.source.SeriesScanNode;
+
+/**
+ * Push the row limit of a raw data query down to the series scans.
+ *
+ * <p>For a plan like LimitNode -> [OffsetNode] -> [TimeJoinNode] -> SeriesScanNodes, every scan
+ * only needs to produce its first (limit + offset) points, because the first (limit + offset)
+ * timestamps of the joined result are always among them. The LimitNode and OffsetNode are kept on
+ * top to cut the joined result.
+ */
+public class LimitOffsetPushDown implements PlanOptimizer {
+
+  @Override
+  public PlanNode optimize(PlanNode plan, MPPQueryContext context) {
+    return new Rewriter().rewrite(plan, null);
+  }
+
+  private static class Rewriter extends SimplePlanNodeRewriter<Void> {
+
+    @Override
+    public PlanNode visitLimit(LimitNode node, Void context) {
+      LimitNode newNode = (LimitNode) defaultRewrite(node, context);
+      long rowLimit = newNode.getLimit();
+      PlanNode child = newNode.getChild();
+      if (child instanceof OffsetNode) {
+        rowLimit += ((OffsetNode) child).getOffset();
+        child = ((OffsetNode) child).getChild();
+      }
+      if (rowLimit <= 0 || rowLimit > Integer.MAX_VALUE) {
+        return newNode;
+      }
+
+      if (child instanceof TimeJoinNode) {
+        for (PlanNode scanNode : child.getChildren()) {
+          pushDownLimit(scanNode, (int) rowLimit);
+        }
+      } else {
+        pushDownLimit(child, (int) rowLimit);
+      }
+      return newNode;
+    }
+
+    private void pushDownLimit(PlanNode node, int rowLimit) {
+      if (node instanceof SeriesScanNode) {
+        SeriesScanNode scanNode = (SeriesScanNode) node;
+        scanNode.setLimit(mergeLimit(scanNode.getLimit(), rowLimit));
+      } else if (node instanceof AlignedSeriesScanNode) {
+        AlignedSeriesScanNode scanNode = (AlignedSeriesScanNode) node;
+        scanNode.setLimit(mergeLimit(scanNode.getLimit(), rowLimit));
+      }
+    }
+
+    private int mergeLimit(int originalLimit, int rowLimit) {
+      return originalLimit > 0 ? Math.min(originalLimit, rowLimit) : rowLimit;
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.plan.optimization;
+
+import org.apache.iotdb.db.metadata.path.MeasurementPath;
+import org.apache.iotdb.db.mpp.common.MPPQueryContext;
+import org.apache.iotdb.db.mpp.plan.expression.Expression;
+import org.apache.iotdb.db.mpp.plan.expression.ExpressionType;
+import org.apache.iotdb.db.mpp.plan.expression.binary.BinaryExpression;
+import org.apache.iotdb.db.mpp.plan.expression.leaf.TimeSeriesOperand;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.SimplePlanNodeRewriter;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.process.FilterNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.source.SeriesScanNode;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory;
+
+import static org.apache.iotdb.db.mpp.plan.analyze.ExpressionUtils.constructValueFilter;
+
+/**
+ * Push the predicate of a FilterNode down to the SeriesScanNode below it as a value filter, so that
+ * chunks and pages can be skipped by their statistics.
+ *
+ * <p>The rewrite only happens when the FilterNode outputs exactly the scanned series and the
+ * predicate is a conjunction of comparisons between the scanned series and constants.
+ */
+public class PredicatePushDown implements PlanOptimizer {
+
+  @Override
+  public PlanNode optimize(PlanNode plan, MPPQueryContext context) {
+    return new Rewriter().rewrite(plan, null);
+  }
+
+  private static class Rewriter extends SimplePlanNodeRewriter<Void> {
+
+    @Override
+    public PlanNode visitFilter(FilterNode node, Void context) {
+      FilterNode newNode = (FilterNode) defaultRewrite(node, context);
+      PlanNode child = newNode.getChildren().get(0);
+      if (!(child instanceof SeriesScanNode)) {
+        return newNode;
+      }
+      SeriesScanNode scanNode = (SeriesScanNode) child;
+      if (scanNode.getValueFilter() != null
+          || !isScannedSeriesOnly(newNode.getOutputExpressions(), scanNode.getSeriesPath())) {
+        return newNode;
+      }
+
+      Filter valueFilter = transformToValueFilter(newNode.getPredicate(), scanNode.getSeriesPath());
+      if (valueFilter == null) {
+        return newNode;
+      }
+      // the value filter replaces the time filter on non-overlapped pages, so it has to carry the
+      // time filter as well
+      if (scanNode.getTimeFilter() != null) {
+        valueFilter = FilterFactory.and(scanNode.getTimeFilter().copy(), valueFilter);
+      }
+      scanNode.setValueFilter(valueFilter);
+      return scanNode;
+    }
+
+    private boolean isScannedSeriesOnly(Expression[] outputExpressions, MeasurementPath path) {
+      return outputExpressions.length == 1
+          && outputExpressions[0] instanceof TimeSeriesOperand
+          && ((TimeSeriesOperand) outputExpressions[0])
+              .getPath()
+              .getFullPath()
+              .equals(path.getFullPath());
+    }
+
+    /** Returns null if the predicate can not be transformed to a value filter of the series. */
+    private Filter transformToValueFilter(Expression predicate, MeasurementPath path) {
+      if (predicate.getExpressionType() == ExpressionType.LOGIC_AND) {
+        Filter left =
+            transformToValueFilter(((BinaryExpression) predicate).getLeftExpression(), path);
+        Filter right =
+            transformToValueFilter(((BinaryExpression) predicate).getRightExpression(), path);
+        return left == null || right == null ? null : FilterFactory.and(left, right);
+      }
+      if (!predicate.isCompareBinaryExpression()) {
+        return null;
+      }
+
+      Expression leftExpression = ((BinaryExpression) predicate).getLeftExpression();
+      Expression rightExpression = ((BinaryExpression) predicate).getRightExpression();
+      Filter seriesInLeftFilter =
+          constructValueFilter(
+              predicate.getExpressionType(),
+              leftExpression,
+              rightExpression,
+              path,
+              path.getSeriesType());
+      if (seriesInLeftFilter != null) {
+        return seriesInLeftFilter;
+      }
+      return constructValueFilter(
+          reverse(predicate.getExpressionType()),
+          rightExpression,
+          leftExpression,
+          path,
+          path.getSeriesType());
+    }
+
+    /** Returns the comparison that holds after swapping the two operands. */
+    private ExpressionType reverse(ExpressionType expressionType) {
+      switch (expressionType) {
+        case LESS_THAN:
+          return ExpressionType.GREATER_THAN;
+        case LESS_EQUAL:
+          return ExpressionType.GREATER_EQUAL;
+        case GREATER_THAN:
+          return ExpressionType.LESS_THAN;
+        case GREATER_EQUAL:
+          return ExpressionType.LESS_EQUAL;
+        default:
+          return expressionType;
+      }
+    }
+  }
+}
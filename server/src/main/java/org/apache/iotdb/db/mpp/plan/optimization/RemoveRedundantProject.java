@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.plan.optimization;
+
+import org.apache.iotdb.db.mpp.common.MPPQueryContext;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.SimplePlanNodeRewriter;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.process.ProjectNode;
+
+/** Remove the ProjectNode whose output columns are exactly the output columns of its child. */
+public class RemoveRedundantProject implements PlanOptimizer {
+
+  @Override
+  public PlanNode optimize(PlanNode plan, MPPQueryContext context) {
+    return new Rewriter().rewrite(plan, null);
+  }
+
+  private static class Rewriter extends SimplePlanNodeRewriter<Void> {
+
+    @Override
+    public PlanNode visitProject(ProjectNode node, Void context) {
+      PlanNode newNode = defaultRewrite(node, context);
+      PlanNode child = newNode.getChildren().get(0);
+      return newNode.getOutputColumnNames().equals(child.getOutputColumnNames()) ? child : newNode;
+    }
+  }
+}
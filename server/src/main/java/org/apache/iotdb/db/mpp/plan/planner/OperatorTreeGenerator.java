@@ -20,6 +20,7 @@ package org.apache.iotdb.db.mpp.plan.planner;
 
 import org.apache.iotdb.common.rpc.thrift.TEndPoint;
 import org.apache.iotdb.commons.path.PartialPath;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.exception.query.QueryProcessException;
 import org.apache.iotdb.db.metadata.cache.DataNodeSchemaCache;
 import org.apache.iotdb.db.metadata.path.AlignedPath;
@@ -48,6 +49,7 @@ import org.apache.iotdb.db.mpp.execution.operator.process.OffsetOperator;
 import org.apache.iotdb.db.mpp.execution.operator.process.ProcessOperator;
 import org.apache.iotdb.db.mpp.execution.operator.process.RawDataAggregationOperator;
 import org.apache.iotdb.db.mpp.execution.operator.process.SlidingWindowAggregationOperator;
+import org.apache.iotdb.db.mpp.execution.operator.process.SortOperator;
 import org.apache.iotdb.db.mpp.execution.operator.process.TransformOperator;
 import org.apache.iotdb.db.mpp.execution.operator.process.fill.IFill;
 import org.apache.iotdb.db.mpp.execution.operator.process.fill.ILinearFill;
@@ -84,6 +86,7 @@ import org.apache.iotdb.db.mpp.execution.operator.process.last.LastQueryOperator
 import org.apache.iotdb.db.mpp.execution.operator.process.last.LastQuerySortOperator;
 import org.apache.iotdb.db.mpp.execution.operator.process.last.LastQueryUtil;
 import org.apache.iotdb.db.mpp.execution.operator.process.last.UpdateLastCacheOperator;
+import org.apache.iotdb.db.mpp.execution.operator.process.sort.MergeSortComparator;
 import org.apache.iotdb.db.mpp.execution.operator.schema.CountMergeOperator;
 import org.apache.iotdb.db.mpp.execution.operator.schema.DevicesCountOperator;
 import org.apache.iotdb.db.mpp.execution.operator.schema.DevicesSchemaScanOperator;
@@ -109,6 +112,7 @@ import org.apache.iotdb.db.mpp.plan.expression.Expression;
 import org.apache.iotdb.db.mpp.plan.expression.leaf.TimeSeriesOperand;
 import org.apache.iotdb.db.mpp.plan.expression.visitor.ColumnTransformerVisitor;
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNodeId;
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanVisitor;
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.metedata.read.CountSchemaMergeNode;
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.metedata.read.DevicesCountNode;
@@ -176,6 +180,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import org.apache.commons.lang3.Validate;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -245,7 +250,8 @@ public class OperatorTreeGenerator extends PlanVisitor<Operator, LocalExecutionP
     context.addSourceOperator(seriesScanOperator);
     context.addPath(seriesPath);
     context.getTimeSliceAllocator().recordExecutionWeight(operatorContext, 1);
-    return seriesScanOperator;
+    return applyScanOffsetAndLimit(
+        seriesScanOperator, node.getPlanNodeId(), node.getOffset(), node.getLimit(), context);
   }
 
   @Override
@@ -275,7 +281,40 @@ public class OperatorTreeGenerator extends PlanVisitor<Operator, LocalExecutionP
     context
         .getTimeSliceAllocator()
         .recordExecutionWeight(operatorContext, seriesPath.getColumnNum());
-    return seriesScanOperator;
+    return applyScanOffsetAndLimit(
+        seriesScanOperator, node.getPlanNodeId(), node.getOffset(), node.getLimit(), context);
+  }
+
+  /**
+   * Cut the output of a raw data scan by the offset and limit pushed down to it, so that the scan
+   * stops reading chunks once enough rows have been produced.
+   */
+  private Operator applyScanOffsetAndLimit(
+      Operator scanOperator,
+      PlanNodeId planNodeId,
+      int offset,
+      int limit,
+      LocalExecutionPlanContext context) {
+    Operator root = scanOperator;
+    if (offset > 0) {
+      OperatorContext operatorContext =
+          context
+              .getInstanceContext()
+              .addOperatorContext(
+                  context.getNextOperatorId(), planNodeId, OffsetOperator.class.getSimpleName());
+      context.getTimeSliceAllocator().recordExecutionWeight(operatorContext, 1);
+      root = new OffsetOperator(operatorContext, offset, root);
+    }
+    if (limit > 0) {
+      OperatorContext operatorContext =
+          context
+              .getInstanceContext()
+              .addOperatorContext(
+                  context.getNextOperatorId(), planNodeId, LimitOperator.class.getSimpleName());
+      context.getTimeSliceAllocator().recordExecutionWeight(operatorContext, 1);
+      root = new LimitOperator(operatorContext, limit, root);
+    }
+    return root;
   }
 
   @Override
@@ -1254,7 +1293,36 @@ public class OperatorTreeGenerator extends PlanVisitor<Operator, LocalExecutionP
 
   @Override
   public Operator visitSort(SortNode node, LocalExecutionPlanContext context) {
-    return super.visitSort(node, context);
+    Operator child = node.getChildren().get(0).accept(this, context);
+    OperatorContext operatorContext =
+        context
+            .getInstanceContext()
+            .addOperatorContext(
+                context.getNextOperatorId(),
+                node.getPlanNodeId(),
+                SortOperator.class.getSimpleName());
+    List<TSDataType> dataTypes = getOutputColumnTypes(node, context.getTypeProvider());
+    // each SortOperator of the fragment instance spills into and deletes its own folder
+    String spillFolderPath =
+        IoTDBDescriptor.getInstance().getConfig().getQueryDir()
+            + File.separator
+            + "sort"
+            + File.separator
+            + context.getInstanceContext().getId().getFullId()
+            + File.separator
+            + node.getPlanNodeId().getId();
+
+    context.getTimeSliceAllocator().recordExecutionWeight(operatorContext, 1);
+    return new SortOperator(
+        operatorContext,
+        child,
+        dataTypes,
+        MergeSortComparator.getComparator(
+            node.getOrderByParameter().getSortItemList(),
+            node.getOutputColumnNames(),
+            dataTypes),
+        MPP_DATA_EXCHANGE_MANAGER.getLocalMemoryManager().getQueryPool(),
+        spillFolderPath);
   }
 
   @Override
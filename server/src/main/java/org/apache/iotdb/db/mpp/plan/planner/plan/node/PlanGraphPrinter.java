@@ -41,6 +41,7 @@ import org.apache.iotdb.db.mpp.plan.planner.plan.node.source.AlignedSeriesScanNo
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.source.SeriesAggregationScanNode;
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.source.SeriesScanNode;
 import org.apache.iotdb.db.mpp.plan.planner.plan.parameter.AggregationDescriptor;
+import org.apache.iotdb.db.mpp.plan.statement.component.SortItem;
 
 import org.apache.commons.lang3.Validate;
 
@@ -214,7 +215,11 @@ public class PlanGraphPrinter extends PlanVisitor<List<String>, PlanGraphPrinter
   public List<String> visitSort(SortNode node, GraphContext context) {
     List<String> boxValue = new ArrayList<>();
     boxValue.add(String.format("Sort-%s", node.getPlanNodeId().getId()));
-    boxValue.add(String.format("OrderBy: %s", node.getSortOrder()));
+    List<String> sortItems = new ArrayList<>();
+    for (SortItem sortItem : node.getOrderByParameter().getSortItemList()) {
+      sortItems.add(sortItem.getSortKey() + " " + sortItem.getOrdering());
+    }
+    boxValue.add(String.format("OrderBy: %s", String.join(", ", sortItems)));
     return render(node, boxValue, context);
   }
 
@@ -22,8 +22,7 @@ import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNode;
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNodeId;
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNodeType;
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanVisitor;
-import org.apache.iotdb.db.mpp.plan.statement.component.Ordering;
-import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+import org.apache.iotdb.db.mpp.plan.planner.plan.parameter.OrderByParameter;
 
 import com.google.common.collect.ImmutableList;
 
@@ -41,20 +40,20 @@ public class SortNode extends ProcessNode {
 
   private PlanNode child;
 
-  private final Ordering sortOrder;
+  private final OrderByParameter orderByParameter;
 
-  public SortNode(PlanNodeId id, Ordering sortOrder) {
+  public SortNode(PlanNodeId id, OrderByParameter orderByParameter) {
     super(id);
-    this.sortOrder = sortOrder;
+    this.orderByParameter = orderByParameter;
   }
 
-  public SortNode(PlanNodeId id, PlanNode child, Ordering sortOrder) {
-    this(id, sortOrder);
+  public SortNode(PlanNodeId id, PlanNode child, OrderByParameter orderByParameter) {
+    this(id, orderByParameter);
     this.child = child;
   }
 
-  public Ordering getSortOrder() {
-    return sortOrder;
+  public OrderByParameter getOrderByParameter() {
+    return orderByParameter;
   }
 
   @Override
@@ -74,7 +73,7 @@ public class SortNode extends ProcessNode {
 
   @Override
   public PlanNode clone() {
-    return new SortNode(getPlanNodeId(), sortOrder);
+    return new SortNode(getPlanNodeId(), orderByParameter);
   }
 
   @Override
@@ -90,19 +89,19 @@ public class SortNode extends ProcessNode {
   @Override
   protected void serializeAttributes(ByteBuffer byteBuffer) {
     PlanNodeType.SORT.serialize(byteBuffer);
-    ReadWriteIOUtils.write(sortOrder.ordinal(), byteBuffer);
+    orderByParameter.serializeAttributes(byteBuffer);
   }
 
   @Override
   protected void serializeAttributes(DataOutputStream stream) throws IOException {
     PlanNodeType.SORT.serialize(stream);
-    ReadWriteIOUtils.write(sortOrder.ordinal(), stream);
+    orderByParameter.serializeAttributes(stream);
   }
 
   public static SortNode deserialize(ByteBuffer byteBuffer) {
-    Ordering orderBy = Ordering.values()[ReadWriteIOUtils.readInt(byteBuffer)];
+    OrderByParameter orderByParameter = OrderByParameter.deserialize(byteBuffer);
     PlanNodeId planNodeId = PlanNodeId.deserialize(byteBuffer);
-    return new SortNode(planNodeId, orderBy);
+    return new SortNode(planNodeId, orderByParameter);
   }
 
   @Override
@@ -117,11 +116,11 @@ public class SortNode extends ProcessNode {
       return false;
     }
     SortNode sortNode = (SortNode) o;
-    return child.equals(sortNode.child) && sortOrder == sortNode.sortOrder;
+    return child.equals(sortNode.child) && orderByParameter.equals(sortNode.orderByParameter);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), child, sortOrder);
+    return Objects.hash(super.hashCode(), child, orderByParameter);
   }
 }
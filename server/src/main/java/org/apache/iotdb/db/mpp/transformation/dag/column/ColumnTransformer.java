@@ -19,6 +19,7 @@
 
 package org.apache.iotdb.db.mpp.transformation.dag.column;
 
+import org.apache.iotdb.db.mpp.transformation.dag.util.TransformUtils;
 import org.apache.iotdb.tsfile.read.common.block.column.Column;
 import org.apache.iotdb.tsfile.read.common.type.Type;
 import org.apache.iotdb.tsfile.read.common.type.TypeEnum;
@@ -71,6 +72,30 @@ public abstract class ColumnTransformer {
         || typeEnum.equals(TypeEnum.DOUBLE);
   }
 
+  /**
+   * Returns the position count of the output of this transformer. Transformers that can be fused
+   * into their parent answer this without evaluating themselves.
+   */
+  public int evaluatePositionCount() {
+    tryEvaluate();
+    return getColumnCachePositionCount();
+  }
+
+  /**
+   * Writes the output of this transformer into {@code values} as doubles and marks its null
+   * positions in {@code isNull}, leaving the other positions of {@code isNull} untouched.
+   *
+   * <p>Arithmetic transformers override this to compute their result directly into the arrays of
+   * the caller when the caller is their only reader, so that a tree of them is evaluated with one
+   * tight loop per operator over primitive arrays instead of building a column for every node.
+   *
+   * @return false if no position was marked as null
+   */
+  public boolean evaluateDoubles(double[] values, boolean[] isNull) {
+    tryEvaluate();
+    return TransformUtils.readDoubles(returnType, getColumn(), values, isNull);
+  }
+
   /** Responsible for the calculation */
   protected abstract void evaluate();
 
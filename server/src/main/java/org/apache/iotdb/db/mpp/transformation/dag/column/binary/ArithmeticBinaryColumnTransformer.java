@@ -20,6 +20,7 @@
 package org.apache.iotdb.db.mpp.transformation.dag.column.binary;
 
 import org.apache.iotdb.db.mpp.transformation.dag.column.ColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.util.TransformUtils;
 import org.apache.iotdb.tsfile.read.common.block.column.Column;
 import org.apache.iotdb.tsfile.read.common.block.column.ColumnBuilder;
 import org.apache.iotdb.tsfile.read.common.type.Type;
@@ -30,16 +31,53 @@ public abstract class ArithmeticBinaryColumnTransformer extends BinaryColumnTran
     super(returnType, leftTransformer, rightTransformer);
   }
 
+  @Override
+  public void evaluate() {
+    int positionCount = leftTransformer.evaluatePositionCount();
+    double[] values = new double[positionCount];
+    boolean[] isNull = new boolean[positionCount];
+    boolean hasNull = doEvaluateDoubles(values, isNull);
+    initializeColumnCache(
+        TransformUtils.buildDoubleColumn(returnType, values, hasNull ? isNull : null));
+  }
+
+  @Override
+  public int evaluatePositionCount() {
+    return referenceCount == 1
+        ? leftTransformer.evaluatePositionCount()
+        : super.evaluatePositionCount();
+  }
+
+  @Override
+  public boolean evaluateDoubles(double[] values, boolean[] isNull) {
+    // a transformer read by several parents is computed once and cached
+    return referenceCount == 1
+        ? doEvaluateDoubles(values, isNull)
+        : super.evaluateDoubles(values, isNull);
+  }
+
+  private boolean doEvaluateDoubles(double[] values, boolean[] isNull) {
+    double[] rightValues = new double[values.length];
+    // non-short-circuit or, both sides must be evaluated
+    boolean hasNull =
+        leftTransformer.evaluateDoubles(values, isNull)
+            | rightTransformer.evaluateDoubles(rightValues, isNull);
+    transform(values, rightValues, values.length);
+    return hasNull;
+  }
+
   @Override
   protected void doTransform(
       Column leftColumn, Column rightColumn, ColumnBuilder builder, int positionCount) {
+    double[] leftValues = new double[positionCount];
+    double[] rightValues = new double[positionCount];
+    boolean[] isNull = new boolean[positionCount];
+    TransformUtils.readDoubles(leftTransformer.getType(), leftColumn, leftValues, isNull);
+    TransformUtils.readDoubles(rightTransformer.getType(), rightColumn, rightValues, isNull);
+    transform(leftValues, rightValues, positionCount);
     for (int i = 0; i < positionCount; i++) {
-      if (!leftColumn.isNull(i) && !rightColumn.isNull(i)) {
-        returnType.writeDouble(
-            builder,
-            transform(
-                leftTransformer.getType().getDouble(leftColumn, i),
-                rightTransformer.getType().getDouble(rightColumn, i)));
+      if (!isNull[i]) {
+        returnType.writeDouble(builder, leftValues[i]);
       } else {
         builder.appendNull();
       }
@@ -53,5 +91,9 @@ public abstract class ArithmeticBinaryColumnTransformer extends BinaryColumnTran
     }
   }
 
-  protected abstract double transform(double d1, double d2);
+  /**
+   * Applies the operator to each position, i.e. left[i] = left[i] op right[i]. Implementations keep
+   * the loop free of calls so that the JIT can unroll and vectorize it.
+   */
+  protected abstract void transform(double[] left, double[] right, int positionCount);
 }
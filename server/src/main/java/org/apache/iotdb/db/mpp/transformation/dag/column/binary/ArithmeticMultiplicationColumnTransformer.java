@@ -30,7 +30,9 @@ public class ArithmeticMultiplicationColumnTransformer extends ArithmeticBinaryC
   }
 
   @Override
-  protected double transform(double d1, double d2) {
-    return d1 * d2;
+  protected void transform(double[] left, double[] right, int positionCount) {
+    for (int i = 0; i < positionCount; i++) {
+      left[i] *= right[i];
+    }
   }
 }
@@ -29,7 +29,9 @@ public class ArithmeticSubtractionColumnTransformer extends ArithmeticBinaryColu
   }
 
   @Override
-  protected double transform(double d1, double d2) {
-    return d1 - d2;
+  protected void transform(double[] left, double[] right, int positionCount) {
+    for (int i = 0; i < positionCount; i++) {
+      left[i] -= right[i];
+    }
   }
 }
@@ -21,11 +21,14 @@ package org.apache.iotdb.db.mpp.transformation.dag.column.binary;
 
 import org.apache.iotdb.db.mpp.transformation.dag.column.ColumnTransformer;
 import org.apache.iotdb.db.mpp.transformation.dag.util.TransformUtils;
+import org.apache.iotdb.tsfile.read.common.block.column.BooleanColumn;
 import org.apache.iotdb.tsfile.read.common.block.column.Column;
 import org.apache.iotdb.tsfile.read.common.block.column.ColumnBuilder;
 import org.apache.iotdb.tsfile.read.common.type.Type;
 import org.apache.iotdb.tsfile.read.common.type.TypeEnum;
 
+import java.util.Optional;
+
 public abstract class CompareBinaryColumnTransformer extends BinaryColumnTransformer {
 
   public CompareBinaryColumnTransformer(
@@ -33,6 +36,34 @@ public abstract class CompareBinaryColumnTransformer extends BinaryColumnTransfo
     super(returnType, leftTransformer, rightTransformer);
   }
 
+  @Override
+  public void evaluate() {
+    if (!leftTransformer.isReturnTypeNumeric() || !rightTransformer.isReturnTypeNumeric()) {
+      super.evaluate();
+      return;
+    }
+
+    int positionCount = leftTransformer.evaluatePositionCount();
+    double[] leftValues = new double[positionCount];
+    double[] rightValues = new double[positionCount];
+    boolean[] isNull = new boolean[positionCount];
+    // non-short-circuit or, both sides must be evaluated
+    boolean hasNull =
+        leftTransformer.evaluateDoubles(leftValues, isNull)
+            | rightTransformer.evaluateDoubles(rightValues, isNull);
+    boolean[] values = new boolean[positionCount];
+    transform(leftValues, rightValues, values, positionCount);
+    if (hasNull) {
+      for (int i = 0; i < positionCount; i++) {
+        if (isNull[i]) {
+          values[i] = false;
+        }
+      }
+    }
+    initializeColumnCache(
+        new BooleanColumn(positionCount, Optional.ofNullable(hasNull ? isNull : null), values));
+  }
+
   @Override
   protected void doTransform(
       Column leftColumn, Column rightColumn, ColumnBuilder builder, int positionCount) {
@@ -86,4 +117,10 @@ public abstract class CompareBinaryColumnTransformer extends BinaryColumnTransfo
    * @return
    */
   protected abstract boolean transform(int flag);
+
+  /**
+   * Compares each position of two numeric inputs, the vectorized form of {@link #transform(int)}.
+   */
+  protected abstract void transform(
+      double[] left, double[] right, boolean[] result, int positionCount);
 }
@@ -32,4 +32,11 @@ public class CompareGreaterEqualColumnTransformer extends CompareBinaryColumnTra
   protected boolean transform(int flag) {
     return flag >= 0;
   }
+
+  @Override
+  protected void transform(double[] left, double[] right, boolean[] result, int positionCount) {
+    for (int i = 0; i < positionCount; i++) {
+      result[i] = Double.compare(left[i], right[i]) >= 0;
+    }
+  }
 }
@@ -20,9 +20,11 @@
 package org.apache.iotdb.db.mpp.transformation.dag.column.unary;
 
 import org.apache.iotdb.db.mpp.transformation.dag.column.ColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.util.TransformUtils;
 import org.apache.iotdb.tsfile.read.common.block.column.Column;
 import org.apache.iotdb.tsfile.read.common.block.column.ColumnBuilder;
 import org.apache.iotdb.tsfile.read.common.type.Type;
+import org.apache.iotdb.tsfile.read.common.type.TypeEnum;
 
 public class ArithmeticNegationColumnTransformer extends UnaryColumnTransformer {
   public ArithmeticNegationColumnTransformer(
@@ -30,12 +32,51 @@ public class ArithmeticNegationColumnTransformer extends UnaryColumnTransformer
     super(returnType, childColumnTransformer);
   }
 
+  @Override
+  public void evaluate() {
+    int positionCount = childColumnTransformer.evaluatePositionCount();
+    double[] values = new double[positionCount];
+    boolean[] isNull = new boolean[positionCount];
+    boolean hasNull = doEvaluateDoubles(values, isNull);
+    initializeColumnCache(
+        TransformUtils.buildDoubleColumn(returnType, values, hasNull ? isNull : null));
+  }
+
+  @Override
+  public int evaluatePositionCount() {
+    return canBeFused()
+        ? childColumnTransformer.evaluatePositionCount()
+        : super.evaluatePositionCount();
+  }
+
+  @Override
+  public boolean evaluateDoubles(double[] values, boolean[] isNull) {
+    return canBeFused() ? doEvaluateDoubles(values, isNull) : super.evaluateDoubles(values, isNull);
+  }
+
+  private boolean canBeFused() {
+    // the negation of Integer.MIN_VALUE overflows when written back as INT32, so it can only be
+    // fused when its result needs no narrowing
+    return referenceCount == 1 && returnType.getTypeEnum() != TypeEnum.INT32;
+  }
+
+  private boolean doEvaluateDoubles(double[] values, boolean[] isNull) {
+    boolean hasNull = childColumnTransformer.evaluateDoubles(values, isNull);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = -values[i];
+    }
+    return hasNull;
+  }
+
   @Override
   protected void doTransform(Column column, ColumnBuilder columnBuilder) {
-    for (int i = 0, n = column.getPositionCount(); i < n; i++) {
-      if (!column.isNull(i)) {
-        returnType.writeDouble(
-            columnBuilder, -childColumnTransformer.getType().getDouble(column, i));
+    int positionCount = column.getPositionCount();
+    double[] values = new double[positionCount];
+    boolean[] isNull = new boolean[positionCount];
+    TransformUtils.readDoubles(childColumnTransformer.getType(), column, values, isNull);
+    for (int i = 0; i < positionCount; i++) {
+      if (!isNull[i]) {
+        returnType.writeDouble(columnBuilder, -values[i]);
       } else {
         columnBuilder.appendNull();
       }
@@ -26,14 +26,19 @@ import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
 import org.apache.iotdb.tsfile.read.common.block.column.BinaryColumn;
 import org.apache.iotdb.tsfile.read.common.block.column.BooleanColumn;
 import org.apache.iotdb.tsfile.read.common.block.column.Column;
+import org.apache.iotdb.tsfile.read.common.block.column.ColumnBuilder;
 import org.apache.iotdb.tsfile.read.common.block.column.DoubleColumn;
 import org.apache.iotdb.tsfile.read.common.block.column.FloatColumn;
 import org.apache.iotdb.tsfile.read.common.block.column.IntColumn;
 import org.apache.iotdb.tsfile.read.common.block.column.LongColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.RunLengthEncodedColumn;
+import org.apache.iotdb.tsfile.read.common.type.Type;
+import org.apache.iotdb.tsfile.read.common.type.TypeEnum;
 import org.apache.iotdb.tsfile.utils.Binary;
 
 import org.apache.commons.lang3.Validate;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -96,4 +101,97 @@ public class TransformUtils {
       throw new UnsupportedOperationException(e);
     }
   }
+
+  /**
+   * Reads a numeric column into {@code values} as doubles and marks its null positions in {@code
+   * isNull}. The type is dispatched once per column instead of once per position.
+   *
+   * @return false if no position was marked as null
+   */
+  public static boolean readDoubles(Type type, Column column, double[] values, boolean[] isNull) {
+    int positionCount = column.getPositionCount();
+    if (positionCount == 0) {
+      return false;
+    }
+    if (column instanceof RunLengthEncodedColumn) {
+      if (column.isNull(0)) {
+        Arrays.fill(isNull, 0, positionCount, true);
+        return true;
+      }
+      Arrays.fill(values, 0, positionCount, type.getDouble(column, 0));
+      return false;
+    }
+
+    switch (type.getTypeEnum()) {
+      case INT32:
+        for (int i = 0; i < positionCount; i++) {
+          values[i] = column.getInt(i);
+        }
+        break;
+      case INT64:
+        for (int i = 0; i < positionCount; i++) {
+          values[i] = column.getLong(i);
+        }
+        break;
+      case FLOAT:
+        for (int i = 0; i < positionCount; i++) {
+          values[i] = column.getFloat(i);
+        }
+        break;
+      case DOUBLE:
+        for (int i = 0; i < positionCount; i++) {
+          values[i] = column.getDouble(i);
+        }
+        break;
+      default:
+        for (int i = 0; i < positionCount; i++) {
+          if (!column.isNull(i)) {
+            values[i] = type.getDouble(column, i);
+          }
+        }
+    }
+
+    if (!column.mayHaveNull()) {
+      return false;
+    }
+    boolean hasNull = false;
+    for (int i = 0; i < positionCount; i++) {
+      if (column.isNull(i)) {
+        isNull[i] = true;
+        hasNull = true;
+      }
+    }
+    return hasNull;
+  }
+
+  /**
+   * Builds a column of {@code type} from the doubles computed by {@link #readDoubles} and the
+   * operators applied to them.
+   *
+   * @param isNull null positions, or null if there is none. The values at these positions are
+   *     ignored.
+   */
+  public static Column buildDoubleColumn(Type type, double[] values, boolean[] isNull) {
+    int positionCount = values.length;
+    if (type.getTypeEnum() == TypeEnum.DOUBLE) {
+      if (isNull != null) {
+        for (int i = 0; i < positionCount; i++) {
+          if (isNull[i]) {
+            values[i] = 0;
+          }
+        }
+      }
+      return new DoubleColumn(positionCount, Optional.ofNullable(isNull), values);
+    }
+
+    ColumnBuilder builder = type.createColumnBuilder(positionCount);
+    for (int i = 0; i < positionCount; i++) {
+      if (isNull != null && isNull[i]) {
+        builder.appendNull();
+      } else {
+        type.writeDouble(builder, values[i]);
+      }
+    }
+    return builder.build();
+  }
 }
@@ -20,6 +20,7 @@
 package org.apache.iotdb.db.query.context;
 
 import org.apache.iotdb.commons.path.PartialPath;
+import org.apache.iotdb.db.engine.cache.ChunkCacheHint;
 import org.apache.iotdb.db.engine.modification.Modification;
 import org.apache.iotdb.db.engine.modification.ModificationFile;
 import org.apache.iotdb.db.metadata.path.AlignedPath;
@@ -70,6 +71,8 @@ public class QueryContext {
 
   private volatile boolean isInterrupted = false;
 
+  private volatile ChunkCacheHint chunkCacheHint = ChunkCacheHint.QUERY;
+
   public QueryContext() {}
 
   public QueryContext(long queryId) {
@@ -201,6 +204,14 @@ public class QueryContext {
     isInterrupted = interrupted;
   }
 
+  public ChunkCacheHint getChunkCacheHint() {
+    return chunkCacheHint;
+  }
+
+  public void setChunkCacheHint(ChunkCacheHint chunkCacheHint) {
+    this.chunkCacheHint = chunkCacheHint;
+  }
+
   public boolean isInterrupted() {
     return isInterrupted;
   }
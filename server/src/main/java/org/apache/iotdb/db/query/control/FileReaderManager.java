@@ -18,24 +18,44 @@
  */
 package org.apache.iotdb.db.query.control;
 
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.service.metrics.MetricService;
+import org.apache.iotdb.db.service.metrics.enums.Metric;
+import org.apache.iotdb.db.service.metrics.enums.Tag;
+import org.apache.iotdb.db.utils.MmapUtil;
+import org.apache.iotdb.metrics.utils.MetricLevel;
 import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.fileSystem.FSType;
 import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
 import org.apache.iotdb.tsfile.read.UnClosedTsFileReader;
+import org.apache.iotdb.tsfile.read.reader.MappedTsFileInput;
 import org.apache.iotdb.tsfile.v2.read.TsFileSequenceReaderForV2;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.Iterator;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * FileReaderManager is a singleton, which is used to manage all file readers(opened file streams)
  * to ensure that each file is opened at most once.
+ *
+ * <p>Readers and their reference counts are kept in concurrent maps and every update of a file is
+ * done atomically by compute on its path, so queries on different files never contend. Readers of
+ * closed files are kept open after their last reference is released, and the idle ones are evicted
+ * in approximately LRU order (second chance) once the number of opened closed-file readers exceeds
+ * max_opened_file_reader_num.
  */
 public class FileReaderManager {
 
@@ -43,61 +63,88 @@ public class FileReaderManager {
   private static final Logger resourceLogger = LoggerFactory.getLogger("FileMonitor");
   private static final Logger DEBUG_LOGGER = LoggerFactory.getLogger("QUERY_DEBUG");
 
-  /** max number of file streams being cached, must be lower than 65535. */
-  private static final int MAX_CACHED_FILE_SIZE = 30000;
-
   /**
-   * When number of file streams reached MAX_CACHED_FILE_SIZE, then we will print a warning log each
-   * PRINT_INTERVAL
+   * When the number of opened closed-file readers exceeds the budget because all of them are in
+   * use, we will print a warning log each PRINT_INTERVAL opened readers.
    */
   private static final int PRINT_INTERVAL = 10000;
 
-  /**
-   * the key of closedFileReaderMap is the file path and the value of closedFileReaderMap is the
-   * corresponding reader.
-   */
-  private Map<String, TsFileSequenceReader> closedFileReaderMap;
-  /**
-   * the key of unclosedFileReaderMap is the file path and the value of unclosedFileReaderMap is the
-   * corresponding reader.
-   */
-  private Map<String, TsFileSequenceReader> unclosedFileReaderMap;
+  private final IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
 
-  /**
-   * the key of closedFileReaderMap is the file path and the value of closedFileReaderMap is the
-   * file's reference count.
-   */
-  private Map<String, AtomicInteger> closedReferenceMap;
-  /**
-   * the key of unclosedFileReaderMap is the file path and the value of unclosedFileReaderMap is the
-   * file's reference count.
-   */
-  private Map<String, AtomicInteger> unclosedReferenceMap;
+  /** the key is the file path and the value holds the reader and reference count of the file. */
+  private final Map<String, ReaderHolder> closedFileReaderMap = new ConcurrentHashMap<>();
+  /** the key is the file path and the value holds the reader and reference count of the file. */
+  private final Map<String, ReaderHolder> unclosedFileReaderMap = new ConcurrentHashMap<>();
+
+  /** paths of closed files whose readers are (or were, if referenced again) idle */
+  private final Queue<String> idleClosedFilePaths = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger openedClosedReaderNum = new AtomicInteger(0);
+  private final AtomicInteger openedUnclosedReaderNum = new AtomicInteger(0);
+  private final AtomicLong evictedReaderNum = new AtomicLong(0);
 
   private FileReaderManager() {
-    closedFileReaderMap = new ConcurrentHashMap<>();
-    unclosedFileReaderMap = new ConcurrentHashMap<>();
-    closedReferenceMap = new ConcurrentHashMap<>();
-    unclosedReferenceMap = new ConcurrentHashMap<>();
+    addMetric(openedClosedReaderNum, "closed");
+    addMetric(openedUnclosedReaderNum, "unclosed");
+    MetricService.getInstance()
+        .getOrCreateAutoGauge(
+            Metric.QUANTITY.toString(),
+            MetricLevel.IMPORTANT,
+            evictedReaderNum,
+            AtomicLong::get,
+            Tag.NAME.toString(),
+            "file_reader",
+            Tag.TYPE.toString(),
+            "evicted");
+  }
+
+  private void addMetric(AtomicInteger readerNum, String type) {
+    MetricService.getInstance()
+        .getOrCreateAutoGauge(
+            Metric.QUANTITY.toString(),
+            MetricLevel.IMPORTANT,
+            readerNum,
+            AtomicInteger::get,
+            Tag.NAME.toString(),
+            "file_reader",
+            Tag.TYPE.toString(),
+            type);
   }
 
   public static FileReaderManager getInstance() {
     return FileReaderManagerHelper.INSTANCE;
   }
 
-  public synchronized void closeFileAndRemoveReader(String filePath) throws IOException {
-    closedReferenceMap.remove(filePath);
-    TsFileSequenceReader reader = closedFileReaderMap.remove(filePath);
-    if (reader != null) {
-      reader.close();
+  public void closeFileAndRemoveReader(String filePath) throws IOException {
+    ReaderHolder holder = closedFileReaderMap.remove(filePath);
+    if (holder != null && holder.reader != null) {
+      openedClosedReaderNum.decrementAndGet();
+      holder.reader.close();
     }
-    unclosedReferenceMap.remove(filePath);
-    reader = unclosedFileReaderMap.remove(filePath);
-    if (reader != null) {
-      reader.close();
+    holder = unclosedFileReaderMap.remove(filePath);
+    if (holder != null && holder.reader != null) {
+      openedUnclosedReaderNum.decrementAndGet();
+      holder.reader.close();
     }
   }
 
+  /**
+   * Close the reader of the closed file indicated by filePath if no query refers to it, or when the
+   * last query releases it otherwise, e.g., when the file is deleted, so that the reader does not
+   * keep the deleted file open or mapped.
+   */
+  public void closeUnusedReader(String filePath) {
+    closedFileReaderMap.computeIfPresent(
+        filePath,
+        (path, holder) -> {
+          if (holder.referenceCount > 0) {
+            holder.removed = true;
+            return holder;
+          }
+          return closeReader(path, holder);
+        });
+  }
+
   /**
    * Get the reader of the file(tsfile or unseq tsfile) indicated by filePath. If the reader already
    * exists, just get it from closedFileReaderMap or unclosedFileReaderMap depending on isClosing .
@@ -108,40 +155,83 @@ public class FileReaderManager {
    * @return the reader of the file specified by filePath.
    * @throws IOException when reader cannot be created.
    */
-  @SuppressWarnings("squid:S2095")
-  public synchronized TsFileSequenceReader get(String filePath, boolean isClosed)
-      throws IOException {
-
-    Map<String, TsFileSequenceReader> readerMap =
-        !isClosed ? unclosedFileReaderMap : closedFileReaderMap;
-    if (!readerMap.containsKey(filePath)) {
-      int currentOpenedReaderCount = readerMap.size();
-      if (currentOpenedReaderCount >= MAX_CACHED_FILE_SIZE
-          && (currentOpenedReaderCount % PRINT_INTERVAL == 0)) {
-        logger.warn("Query has opened {} files !", readerMap.size());
-      }
+  public TsFileSequenceReader get(String filePath, boolean isClosed) throws IOException {
+    Map<String, ReaderHolder> readerMap = isClosed ? closedFileReaderMap : unclosedFileReaderMap;
+    ReaderHolder holder = readerMap.get(filePath);
+    TsFileSequenceReader reader = holder == null ? null : holder.reader;
+    if (reader != null) {
+      return reader;
+    }
 
-      TsFileSequenceReader tsFileReader = null;
-      // check if the file is old version
-      if (!isClosed) {
-        tsFileReader = new UnClosedTsFileReader(filePath);
-      } else {
-        tsFileReader = new TsFileSequenceReader(filePath);
-        if (tsFileReader.readVersionNumber() != TSFileConfig.VERSION_NUMBER) {
-          tsFileReader.close();
-          tsFileReader = new TsFileSequenceReaderForV2(filePath);
-          if (!((TsFileSequenceReaderForV2) tsFileReader)
-              .readVersionNumberV2()
-              .equals(TSFileConfig.VERSION_NUMBER_V2)) {
-            throw new IOException("The version of this TsFile is not corrent. ");
+    TsFileSequenceReader[] result = new TsFileSequenceReader[1];
+    boolean[] opened = new boolean[1];
+    try {
+      readerMap.compute(
+          filePath,
+          (path, oldHolder) -> {
+            ReaderHolder newHolder = oldHolder == null ? new ReaderHolder() : oldHolder;
+            if (newHolder.reader == null) {
+              try {
+                newHolder.reader = openReader(path, isClosed);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+              opened[0] = true;
+            }
+            result[0] = newHolder.reader;
+            return newHolder;
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    if (opened[0]) {
+      if (isClosed) {
+        int openedNum = openedClosedReaderNum.incrementAndGet();
+        if (openedNum > config.getMaxOpenedFileReaderNum()) {
+          evictIdleReaders();
+          openedNum = openedClosedReaderNum.get();
+          if (openedNum > config.getMaxOpenedFileReaderNum() && openedNum % PRINT_INTERVAL == 0) {
+            logger.warn("Query has opened {} files !", openedNum);
           }
         }
+      } else {
+        openedUnclosedReaderNum.incrementAndGet();
       }
-      readerMap.put(filePath, tsFileReader);
-      return tsFileReader;
     }
+    return result[0];
+  }
 
-    return readerMap.get(filePath);
+  @SuppressWarnings("squid:S2095")
+  private TsFileSequenceReader openReader(String filePath, boolean isClosed) throws IOException {
+    if (!isClosed) {
+      return new UnClosedTsFileReader(filePath);
+    }
+    TsFileSequenceReader tsFileReader = openClosedFileReader(filePath);
+    // check if the file is old version
+    if (tsFileReader.readVersionNumber() != TSFileConfig.VERSION_NUMBER) {
+      tsFileReader.close();
+      tsFileReader = new TsFileSequenceReaderForV2(filePath);
+      if (!((TsFileSequenceReaderForV2) tsFileReader)
+          .readVersionNumberV2()
+          .equals(TSFileConfig.VERSION_NUMBER_V2)) {
+        throw new IOException("The version of this TsFile is not corrent. ");
+      }
+    }
+    return tsFileReader;
+  }
+
+  private TsFileSequenceReader openClosedFileReader(String filePath) throws IOException {
+    if (!config.isEnableMmapRead()
+        || TSFileDescriptor.getInstance().getConfig().getTSFileStorageFs() != FSType.LOCAL) {
+      return new TsFileSequenceReader(filePath);
+    }
+    return new TsFileSequenceReader(
+        new MappedTsFileInput(
+            Paths.get(filePath),
+            config.getMmapReadWindowSizeInByte(),
+            config.getMaxMmapReadSizeInByte(),
+            MmapUtil::clean));
   }
 
   /**
@@ -150,17 +240,14 @@ public class FileReaderManager {
    */
   public void increaseFileReaderReference(TsFileResource tsFile, boolean isClosed) {
     tsFile.readLock();
-    synchronized (this) {
-      if (!isClosed) {
-        unclosedReferenceMap
-            .computeIfAbsent(tsFile.getTsFilePath(), k -> new AtomicInteger())
-            .getAndIncrement();
-      } else {
-        closedReferenceMap
-            .computeIfAbsent(tsFile.getTsFilePath(), k -> new AtomicInteger())
-            .getAndIncrement();
-      }
-    }
+    Map<String, ReaderHolder> readerMap = isClosed ? closedFileReaderMap : unclosedFileReaderMap;
+    readerMap.compute(
+        tsFile.getTsFilePath(),
+        (path, holder) -> {
+          ReaderHolder newHolder = holder == null ? new ReaderHolder() : holder;
+          newHolder.referenceCount++;
+          return newHolder;
+        });
   }
 
   /**
@@ -168,91 +255,163 @@ public class FileReaderManager {
    * Only when the reference count of a reader equals zero, the reader can be closed and removed.
    */
   public void decreaseFileReaderReference(TsFileResource tsFile, boolean isClosed) {
-    synchronized (this) {
-      if (!isClosed && unclosedReferenceMap.containsKey(tsFile.getTsFilePath())) {
-        if (unclosedReferenceMap.get(tsFile.getTsFilePath()).decrementAndGet() == 0) {
-          closeUnUsedReaderAndRemoveRef(tsFile.getTsFilePath(), false);
-        }
-      } else if (closedReferenceMap.containsKey(tsFile.getTsFilePath())) {
-        if (closedReferenceMap.get(tsFile.getTsFilePath()).decrementAndGet() == 0) {
-          closeUnUsedReaderAndRemoveRef(tsFile.getTsFilePath(), true);
-        }
-      }
+    if (isClosed || !decreaseReference(tsFile.getTsFilePath(), false)) {
+      decreaseReference(tsFile.getTsFilePath(), true);
     }
     tsFile.readUnlock();
+    if (openedClosedReaderNum.get() > config.getMaxOpenedFileReaderNum()) {
+      evictIdleReaders();
+    }
   }
 
-  private void closeUnUsedReaderAndRemoveRef(String tsFilePath, boolean isClosed) {
-    Map<String, TsFileSequenceReader> readerMap =
-        isClosed ? closedFileReaderMap : unclosedFileReaderMap;
-    Map<String, AtomicInteger> refMap = isClosed ? closedReferenceMap : unclosedReferenceMap;
-    synchronized (this) {
-      // check ref num again
-      if (refMap.get(tsFilePath).get() != 0) {
-        return;
-      }
+  /** @return whether the file is referenced */
+  private boolean decreaseReference(String tsFilePath, boolean isClosed) {
+    boolean[] referenced = new boolean[1];
+    Map<String, ReaderHolder> readerMap = isClosed ? closedFileReaderMap : unclosedFileReaderMap;
+    readerMap.computeIfPresent(
+        tsFilePath,
+        (path, holder) -> {
+          if (holder.referenceCount <= 0) {
+            return holder;
+          }
+          referenced[0] = true;
+          if (--holder.referenceCount > 0) {
+            return holder;
+          }
+          if (!isClosed || holder.reader == null || holder.removed) {
+            return closeReader(path, holder);
+          }
+          // keep the idle reader of the closed file for later queries
+          if (holder.queued) {
+            holder.referencedSinceQueued = true;
+          } else {
+            holder.queued = true;
+            idleClosedFilePaths.add(path);
+          }
+          return holder;
+        });
+    return referenced[0];
+  }
 
-      TsFileSequenceReader reader = readerMap.get(tsFilePath);
-      if (reader != null) {
-        try {
-          reader.close();
-        } catch (IOException e) {
-          logger.error("Can not close TsFileSequenceReader {} !", reader.getFileName(), e);
-        }
+  /**
+   * Close idle readers of closed files until the number of opened closed-file readers is within the
+   * budget. A reader referenced again since it was queued gets a second chance.
+   */
+  private void evictIdleReaders() {
+    String path;
+    while (openedClosedReaderNum.get() > config.getMaxOpenedFileReaderNum()
+        && (path = idleClosedFilePaths.poll()) != null) {
+      closedFileReaderMap.computeIfPresent(
+          path,
+          (filePath, holder) -> {
+            if (holder.referenceCount > 0) {
+              // it will be queued again when it becomes idle
+              holder.queued = false;
+              return holder;
+            }
+            if (holder.referencedSinceQueued) {
+              holder.referencedSinceQueued = false;
+              idleClosedFilePaths.add(filePath);
+              return holder;
+            }
+            evictedReaderNum.incrementAndGet();
+            return closeReader(filePath, holder);
+          });
+    }
+  }
+
+  /** @return null, so that it can be returned by compute to remove the holder */
+  private ReaderHolder closeReader(String tsFilePath, ReaderHolder holder) {
+    TsFileSequenceReader reader = holder.reader;
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        logger.error("Can not close TsFileSequenceReader {} !", reader.getFileName(), e);
       }
-      readerMap.remove(tsFilePath);
-      refMap.remove(tsFilePath);
-      if (resourceLogger.isDebugEnabled()) {
-        resourceLogger.debug("{} TsFileReader is closed because of no reference.", tsFilePath);
+      if (reader instanceof UnClosedTsFileReader) {
+        openedUnclosedReaderNum.decrementAndGet();
+      } else {
+        openedClosedReaderNum.decrementAndGet();
       }
     }
+    if (resourceLogger.isDebugEnabled()) {
+      resourceLogger.debug("{} TsFileReader is closed because of no reference.", tsFilePath);
+    }
+    return null;
   }
 
   /**
    * Only for <code>EnvironmentUtils.cleanEnv</code> method. To make sure that unit tests and
    * integration tests will not conflict with each other.
    */
-  public synchronized void closeAndRemoveAllOpenedReaders() throws IOException {
-    Iterator<Map.Entry<String, TsFileSequenceReader>> iterator =
-        closedFileReaderMap.entrySet().iterator();
-    while (iterator.hasNext()) {
-      Map.Entry<String, TsFileSequenceReader> entry = iterator.next();
-      entry.getValue().close();
+  public void closeAndRemoveAllOpenedReaders() throws IOException {
+    for (Map.Entry<String, ReaderHolder> entry : closedFileReaderMap.entrySet()) {
+      if (entry.getValue().reader != null) {
+        entry.getValue().reader.close();
+      }
       if (resourceLogger.isDebugEnabled()) {
         resourceLogger.debug("{} closedTsFileReader is closed.", entry.getKey());
       }
-      closedReferenceMap.remove(entry.getKey());
-      iterator.remove();
     }
-    iterator = unclosedFileReaderMap.entrySet().iterator();
-    while (iterator.hasNext()) {
-      Map.Entry<String, TsFileSequenceReader> entry = iterator.next();
-      entry.getValue().close();
+    closedFileReaderMap.clear();
+    for (Map.Entry<String, ReaderHolder> entry : unclosedFileReaderMap.entrySet()) {
+      if (entry.getValue().reader != null) {
+        entry.getValue().reader.close();
+      }
       if (resourceLogger.isDebugEnabled()) {
         resourceLogger.debug("{} unclosedTsFileReader is closed.", entry.getKey());
       }
-      unclosedReferenceMap.remove(entry.getKey());
-      iterator.remove();
     }
+    unclosedFileReaderMap.clear();
+    idleClosedFilePaths.clear();
+    openedClosedReaderNum.set(0);
+    openedUnclosedReaderNum.set(0);
   }
 
   /** This method is only for unit tests. */
-  public synchronized boolean contains(TsFileResource tsFile, boolean isClosed) {
-    return (isClosed && closedFileReaderMap.containsKey(tsFile.getTsFilePath()))
-        || (!isClosed && unclosedFileReaderMap.containsKey(tsFile.getTsFilePath()));
+  public boolean contains(TsFileResource tsFile, boolean isClosed) {
+    ReaderHolder holder =
+        (isClosed ? closedFileReaderMap : unclosedFileReaderMap).get(tsFile.getTsFilePath());
+    return holder != null && holder.reader != null;
   }
 
-  public synchronized void writeFileReferenceInfo() {
+  public int getOpenedClosedReaderNum() {
+    return openedClosedReaderNum.get();
+  }
+
+  public long getEvictedReaderNum() {
+    return evictedReaderNum.get();
+  }
+
+  public void writeFileReferenceInfo() {
     DEBUG_LOGGER.info("[closedReferenceMap]\n");
-    for (Map.Entry<String, AtomicInteger> entry : closedReferenceMap.entrySet()) {
-      DEBUG_LOGGER.info(String.format("\t%s: %d\n", entry.getKey(), entry.getValue().get()));
+    for (Map.Entry<String, ReaderHolder> entry : closedFileReaderMap.entrySet()) {
+      DEBUG_LOGGER.info(
+          String.format("\t%s: %d\n", entry.getKey(), entry.getValue().referenceCount));
     }
     DEBUG_LOGGER.info("[unclosedReferenceMap]\n");
-    for (Map.Entry<String, AtomicInteger> entry : unclosedReferenceMap.entrySet()) {
-      DEBUG_LOGGER.info(String.format("\t%s: %d", entry.getKey(), entry.getValue().get()));
+    for (Map.Entry<String, ReaderHolder> entry : unclosedFileReaderMap.entrySet()) {
+      DEBUG_LOGGER.info(String.format("\t%s: %d", entry.getKey(), entry.getValue().referenceCount));
     }
   }
 
+  /**
+   * The reader and reference count of a file. Fields are only modified in compute of the maps,
+   * which are atomic for the same file.
+   */
+  private static class ReaderHolder {
+
+    private volatile TsFileSequenceReader reader;
+    private volatile int referenceCount;
+    /** whether the path is in idleClosedFilePaths */
+    private boolean queued;
+    /** whether the reader is referenced again after its path was queued */
+    private boolean referencedSinceQueued;
+    /** whether the file is deleted, so that the reader is closed once it is not referenced */
+    private boolean removed;
+  }
+
   private static class FileReaderManagerHelper {
 
     private static final FileReaderManager INSTANCE = new FileReaderManager();
@@ -19,6 +19,7 @@
 package org.apache.iotdb.db.query.reader.chunk;
 
 import org.apache.iotdb.db.engine.cache.ChunkCache;
+import org.apache.iotdb.db.engine.cache.ChunkCacheHint;
 import org.apache.iotdb.tsfile.file.metadata.AlignedChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.IChunkMetadata;
@@ -35,9 +36,11 @@ import java.util.List;
 public class DiskAlignedChunkLoader implements IChunkLoader {
 
   private final boolean debug;
+  private final ChunkCacheHint chunkCacheHint;
 
-  public DiskAlignedChunkLoader(boolean debug) {
+  public DiskAlignedChunkLoader(boolean debug, ChunkCacheHint chunkCacheHint) {
     this.debug = debug;
+    this.chunkCacheHint = chunkCacheHint;
   }
 
   @Override
@@ -54,13 +57,15 @@ public class DiskAlignedChunkLoader implements IChunkLoader {
     AlignedChunkMetadata alignedChunkMetadata = (AlignedChunkMetadata) chunkMetaData;
     Chunk timeChunk =
         ChunkCache.getInstance()
-            .get((ChunkMetadata) alignedChunkMetadata.getTimeChunkMetadata(), debug);
+            .get(
+                (ChunkMetadata) alignedChunkMetadata.getTimeChunkMetadata(), chunkCacheHint, debug);
     List<Chunk> valueChunkList = new ArrayList<>();
     for (IChunkMetadata valueChunkMetadata : alignedChunkMetadata.getValueChunkMetadataList()) {
       valueChunkList.add(
           valueChunkMetadata == null
               ? null
-              : ChunkCache.getInstance().get((ChunkMetadata) valueChunkMetadata, debug));
+              : ChunkCache.getInstance()
+                  .get((ChunkMetadata) valueChunkMetadata, chunkCacheHint, debug));
     }
     return new AlignedChunkReader(timeChunk, valueChunkList, timeFilter);
   }
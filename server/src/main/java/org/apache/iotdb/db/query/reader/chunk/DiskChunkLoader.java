@@ -20,6 +20,7 @@
 package org.apache.iotdb.db.query.reader.chunk;
 
 import org.apache.iotdb.db.engine.cache.ChunkCache;
+import org.apache.iotdb.db.engine.cache.ChunkCacheHint;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.IChunkMetadata;
 import org.apache.iotdb.tsfile.read.common.Chunk;
@@ -34,14 +35,16 @@ import java.io.IOException;
 public class DiskChunkLoader implements IChunkLoader {
 
   private final boolean debug;
+  private final ChunkCacheHint chunkCacheHint;
 
-  public DiskChunkLoader(boolean debug) {
+  public DiskChunkLoader(boolean debug, ChunkCacheHint chunkCacheHint) {
     this.debug = debug;
+    this.chunkCacheHint = chunkCacheHint;
   }
 
   @Override
   public Chunk loadChunk(ChunkMetadata chunkMetaData) throws IOException {
-    return ChunkCache.getInstance().get(chunkMetaData, debug);
+    return ChunkCache.getInstance().get(chunkMetaData, chunkCacheHint, debug);
   }
 
   @Override
@@ -52,7 +55,8 @@ public class DiskChunkLoader implements IChunkLoader {
   @Override
   public IChunkReader getChunkReader(IChunkMetadata chunkMetaData, Filter timeFilter)
       throws IOException {
-    Chunk chunk = ChunkCache.getInstance().get((ChunkMetadata) chunkMetaData, debug);
+    Chunk chunk =
+        ChunkCache.getInstance().get((ChunkMetadata) chunkMetaData, chunkCacheHint, debug);
     chunk.setFromOldFile(chunkMetaData.isFromOldTsFile());
     return new ChunkReader(chunk, timeFilter);
   }
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.rescon;
+
+import org.apache.iotdb.commons.utils.TestOnly;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+
+import com.google.common.collect.MapMaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apache.iotdb.db.rescon.PrimitiveArrayManager.ARRAY_SIZE;
+
+/**
+ * Manage the off-heap arrays used by off-heap TVLists. Each array is a slice of a direct memory
+ * slab, so the JVM only allocates a few large direct buffers, and released arrays are pooled in
+ * their slabs for reuse.
+ *
+ * <p>Once the pooled arrays exceed their threshold, a slab is dropped as soon as all of its arrays
+ * are released, and its size is released from {@link SystemInfo}. A slab whose arrays are never
+ * released, e.g. a TVList held by a query is never cleared, is freed by the JVM once none of its
+ * arrays is reachable, and then its size is released from {@link SystemInfo} too.
+ */
+public class OffHeapArrayManager {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OffHeapArrayManager.class);
+
+  private static final IoTDBConfig CONFIG = IoTDBDescriptor.getInstance().getConfig();
+
+  /** size of each direct memory slab, unless a single array is larger */
+  private static final int SLAB_SIZE = 1024 * 1024;
+
+  /**
+   * threshold of the total size of pooled arrays, beyond which free slabs are dropped. The pooled
+   * arrays are counted in the memory cost of writing by {@link SystemInfo}, so the threshold is
+   * half of the gap between the flush and the reject thresholds, which keeps the pooled arrays from
+   * pushing the system into rejecting on their own.
+   */
+  private static long pooledArraysMemoryThreshold =
+      (long)
+          (CONFIG.getAllocateMemoryForWrite()
+              * (CONFIG.getRejectProportion() - CONFIG.getFlushProportion())
+              / 2);
+
+  /** element size in bytes -> slabs that have pooled arrays, only 1, 4 and 8 are used */
+  private static final ArrayDeque<Slab>[] POOLED_SLABS = new ArrayDeque[Long.BYTES + 1];
+
+  /** element size in bytes -> slab that new arrays are sliced from */
+  private static final Slab[] CURRENT_SLABS = new Slab[Long.BYTES + 1];
+
+  /** array -> the slab it is sliced from, arrays are compared by identity and weakly referenced */
+  private static final Map<ByteBuffer, Slab> ARRAY_SLABS = new MapMaker().weakKeys().makeMap();
+
+  /** slabs that have been allocated and not yet dropped or freed by the JVM */
+  private static final Set<SlabReference> SLAB_REFERENCES = ConcurrentHashMap.newKeySet();
+
+  private static final ReferenceQueue<ByteBuffer> FREED_SLABS = new ReferenceQueue<>();
+
+  /** total size of the arrays held by TVLists */
+  private static final AtomicLong USED_BYTES = new AtomicLong(0);
+
+  /** total size of the pooled arrays */
+  private static final AtomicLong POOLED_BYTES = new AtomicLong(0);
+
+  static {
+    for (int i = 0; i < POOLED_SLABS.length; i++) {
+      POOLED_SLABS[i] = new ArrayDeque<>();
+    }
+  }
+
+  private OffHeapArrayManager() {}
+
+  /**
+   * Get or allocate an off-heap array which can hold ARRAY_SIZE elements.
+   *
+   * @param elementBytes size of each element in bytes, should be 1, 4 or 8
+   * @return a direct ByteBuffer in native byte order
+   */
+  public static ByteBuffer allocate(int elementBytes) {
+    ArrayDeque<Slab> pooledSlabs = POOLED_SLABS[elementBytes];
+    synchronized (pooledSlabs) {
+      ByteBuffer array;
+      Slab slab = pooledSlabs.peek();
+      if (slab != null) {
+        array = slab.pooledArrays.poll();
+        POOLED_BYTES.addAndGet(-array.capacity());
+        if (slab.pooledArrays.isEmpty()) {
+          pooledSlabs.poll();
+          slab.isPooled = false;
+        }
+      } else {
+        array = sliceFromSlab(elementBytes);
+      }
+      USED_BYTES.addAndGet(array.capacity());
+      return array;
+    }
+  }
+
+  /** Must be called with the lock of POOLED_SLABS[elementBytes] held. */
+  private static ByteBuffer sliceFromSlab(int elementBytes) {
+    int arrayBytes = ARRAY_SIZE * elementBytes;
+    Slab slab = CURRENT_SLABS[elementBytes];
+    if (slab == null || slab.buffer.remaining() < arrayBytes) {
+      slab = allocateSlab(Math.max(SLAB_SIZE / arrayBytes, 1) * arrayBytes);
+      CURRENT_SLABS[elementBytes] = slab;
+    }
+    ByteBuffer buffer = slab.buffer;
+    buffer.limit(buffer.position() + arrayBytes);
+    ByteBuffer array = buffer.slice().order(ByteOrder.nativeOrder());
+    buffer.position(buffer.limit());
+    buffer.limit(buffer.capacity());
+    slab.arrayNum++;
+    ARRAY_SLABS.put(array, slab);
+    return array;
+  }
+
+  private static Slab allocateSlab(int size) {
+    reclaimFreedSlabs();
+    Slab slab = new Slab(ByteBuffer.allocateDirect(size));
+    SLAB_REFERENCES.add(slab.reference);
+    SystemInfo.getInstance().addOffHeapMemTableCost(size);
+    LOGGER.debug("Allocate an off-heap memtable slab of {} bytes", size);
+    return slab;
+  }
+
+  private static void reclaimFreedSlabs() {
+    Reference<? extends ByteBuffer> reference;
+    while ((reference = FREED_SLABS.poll()) != null) {
+      SlabReference slabReference = (SlabReference) reference;
+      if (SLAB_REFERENCES.remove(slabReference)) {
+        SystemInfo.getInstance().releaseOffHeapMemTableCost(slabReference.size);
+      }
+    }
+  }
+
+  /**
+   * This method is called when bringing back an off-heap array
+   *
+   * @param array array allocated by {@link #allocate(int)}
+   */
+  public static void release(ByteBuffer array) {
+    Slab slab = ARRAY_SLABS.get(array);
+    if (slab == null) {
+      // the manager has been closed
+      return;
+    }
+    int elementBytes = array.capacity() / ARRAY_SIZE;
+    ArrayDeque<Slab> pooledSlabs = POOLED_SLABS[elementBytes];
+    synchronized (pooledSlabs) {
+      array.clear();
+      USED_BYTES.addAndGet(-array.capacity());
+      POOLED_BYTES.addAndGet(array.capacity());
+      slab.pooledArrays.add(array);
+      if (!slab.isPooled) {
+        slab.isPooled = true;
+        pooledSlabs.add(slab);
+      }
+      if (slab.pooledArrays.size() == slab.arrayNum
+          && slab != CURRENT_SLABS[elementBytes]
+          && POOLED_BYTES.get() > pooledArraysMemoryThreshold) {
+        dropSlab(pooledSlabs, slab);
+      }
+    }
+  }
+
+  /** Must be called with the lock of pooledSlabs held. */
+  private static void dropSlab(ArrayDeque<Slab> pooledSlabs, Slab slab) {
+    pooledSlabs.remove(slab);
+    for (ByteBuffer array : slab.pooledArrays) {
+      ARRAY_SLABS.remove(array);
+      POOLED_BYTES.addAndGet(-array.capacity());
+    }
+    slab.pooledArrays.clear();
+    if (SLAB_REFERENCES.remove(slab.reference)) {
+      SystemInfo.getInstance().releaseOffHeapMemTableCost(slab.reference.size);
+    }
+    LOGGER.debug("Drop an off-heap memtable slab of {} bytes", slab.reference.size);
+  }
+
+  /** @return total size of the arrays held by TVLists */
+  public static long getUsedBytes() {
+    return USED_BYTES.get();
+  }
+
+  /** @return total size of the pooled arrays */
+  public static long getPooledBytes() {
+    return POOLED_BYTES.get();
+  }
+
+  @TestOnly
+  public static long getPooledArraysMemoryThreshold() {
+    return pooledArraysMemoryThreshold;
+  }
+
+  @TestOnly
+  public static void setPooledArraysMemoryThreshold(long threshold) {
+    pooledArraysMemoryThreshold = threshold;
+  }
+
+  /** Drop all pooled arrays, the slabs will be freed by the JVM when they are unreachable. */
+  public static void close() {
+    for (int i = 0; i < POOLED_SLABS.length; i++) {
+      synchronized (POOLED_SLABS[i]) {
+        POOLED_SLABS[i].clear();
+        CURRENT_SLABS[i] = null;
+      }
+    }
+    ARRAY_SLABS.clear();
+    SLAB_REFERENCES.clear();
+    USED_BYTES.set(0);
+    POOLED_BYTES.set(0);
+  }
+
+  private static class Slab {
+    private final ByteBuffer buffer;
+    private final SlabReference reference;
+    /** number of arrays sliced from the buffer */
+    private int arrayNum;
+    /** released arrays of this slab */
+    private final ArrayDeque<ByteBuffer> pooledArrays = new ArrayDeque<>();
+    /** whether this slab is in POOLED_SLABS */
+    private boolean isPooled;
+
+    private Slab(ByteBuffer buffer) {
+      this.buffer = buffer;
+      this.reference = new SlabReference(buffer, FREED_SLABS);
+    }
+  }
+
+  private static class SlabReference extends PhantomReference<ByteBuffer> {
+    private final int size;
+
+    SlabReference(ByteBuffer slab, ReferenceQueue<ByteBuffer> queue) {
+      super(slab, queue);
+      this.size = slab.capacity();
+    }
+  }
+}
@@ -48,6 +48,9 @@ public class SystemInfo {
 
   private long flushingMemTablesCost = 0L;
 
+  /** direct memory held by the slabs of off-heap memtables, see {@link OffHeapArrayManager} */
+  private long offHeapMemTableCost = 0L;
+
   private ExecutorService flushTaskSubmitThreadPool =
       IoTDBThreadPoolFactory.newSingleThreadExecutor("FlushTask-Submit-Pool");
   private static double FLUSH_THERSHOLD = memorySizeForWrite * config.getFlushProportion();
@@ -78,30 +81,32 @@ public class SystemInfo {
     }
     reportedStorageGroupMemCostMap.put(storageGroupInfo, storageGroupInfo.getMemCost());
     storageGroupInfo.setLastReportedSize(storageGroupInfo.getMemCost());
-    if (totalStorageGroupMemCost < FLUSH_THERSHOLD) {
+    long totalMemCost = getTotalMemCost();
+    if (totalMemCost < FLUSH_THERSHOLD) {
       return true;
-    } else if (totalStorageGroupMemCost >= FLUSH_THERSHOLD
-        && totalStorageGroupMemCost < REJECT_THERSHOLD) {
+    } else if (totalMemCost >= FLUSH_THERSHOLD && totalMemCost < REJECT_THERSHOLD) {
       logger.debug(
           "The total storage group mem costs are too large, call for flushing. "
-              + "Current sg cost is {}",
-          totalStorageGroupMemCost);
+              + "Current sg cost is {}, pooled off-heap cost is {}",
+          totalStorageGroupMemCost,
+          totalMemCost - totalStorageGroupMemCost);
       chooseMemTablesToMarkFlush(tsFileProcessor);
       return true;
     } else {
       logger.info(
-          "Change system to reject status. Triggered by: logical SG ({}), mem cost delta ({}), totalSgMemCost ({}).",
+          "Change system to reject status. Triggered by: logical SG ({}), mem cost delta ({}), totalSgMemCost ({}), pooled off-heap cost ({}).",
           storageGroupInfo.getDataRegion().getStorageGroupName(),
           delta,
-          totalStorageGroupMemCost);
+          totalStorageGroupMemCost,
+          totalMemCost - totalStorageGroupMemCost);
       rejected = true;
       if (chooseMemTablesToMarkFlush(tsFileProcessor)) {
-        if (totalStorageGroupMemCost < memorySizeForWrite) {
+        if (totalMemCost < memorySizeForWrite) {
           return true;
         } else {
           throw new WriteProcessRejectException(
               "Total Storage Group MemCost "
-                  + totalStorageGroupMemCost
+                  + totalMemCost
                   + " is over than memorySizeForWriting "
                   + memorySizeForWrite);
         }
@@ -127,8 +132,8 @@ public class SystemInfo {
       reportedStorageGroupMemCostMap.put(storageGroupInfo, storageGroupInfo.getMemCost());
     }
 
-    if (totalStorageGroupMemCost >= FLUSH_THERSHOLD
-        && totalStorageGroupMemCost < REJECT_THERSHOLD) {
+    long totalMemCost = getTotalMemCost();
+    if (totalMemCost >= FLUSH_THERSHOLD && totalMemCost < REJECT_THERSHOLD) {
       logger.debug(
           "SG ({}) released memory (delta: {}) but still exceeding flush proportion (totalSgMemCost: {}), call flush.",
           storageGroupInfo.getDataRegion().getStorageGroupName(),
@@ -143,7 +148,7 @@ public class SystemInfo {
       }
       logCurrentTotalSGMemory();
       rejected = false;
-    } else if (totalStorageGroupMemCost >= REJECT_THERSHOLD) {
+    } else if (totalMemCost >= REJECT_THERSHOLD) {
       logger.warn(
           "SG ({}) released memory (delta: {}), but system is still in reject status (totalSgMemCost: {}).",
           storageGroupInfo.getDataRegion().getStorageGroupName(),
@@ -170,6 +175,28 @@ public class SystemInfo {
     this.flushingMemTablesCost -= flushingMemTableCost;
   }
 
+  public synchronized void addOffHeapMemTableCost(long offHeapMemTableCost) {
+    this.offHeapMemTableCost += offHeapMemTableCost;
+  }
+
+  public synchronized void releaseOffHeapMemTableCost(long offHeapMemTableCost) {
+    this.offHeapMemTableCost -= offHeapMemTableCost;
+  }
+
+  public synchronized long getOffHeapMemTableCost() {
+    return offHeapMemTableCost;
+  }
+
+  /**
+   * The memory cost that flushing and rejecting are decided on. The arrays held by off-heap
+   * memtables are already counted in the memtable costs like heap arrays, so only the rest of the
+   * off-heap slabs, i.e., the pooled arrays and the part not sliced yet, is added.
+   */
+  private long getTotalMemCost() {
+    return totalStorageGroupMemCost
+        + Math.max(0L, offHeapMemTableCost - OffHeapArrayManager.getUsedBytes());
+  }
+
   private void logCurrentTotalSGMemory() {
     logger.debug("Current Sg cost is {}", totalStorageGroupMemCost);
   }
@@ -192,7 +219,7 @@ public class SystemInfo {
     }
     boolean isCurrentTsFileProcessorSelected = false;
     long memCost = 0;
-    long activeMemSize = totalStorageGroupMemCost - flushingMemTablesCost;
+    long activeMemSize = getTotalMemCost() - flushingMemTablesCost;
     while (activeMemSize - memCost > FLUSH_THERSHOLD) {
       if (allTsFileProcessors.isEmpty()
           || allTsFileProcessors.peek().getWorkMemTableRamCost() == 0) {
@@ -228,6 +255,7 @@ public class SystemInfo {
   public void close() {
     reportedStorageGroupMemCostMap.clear();
     totalStorageGroupMemCost = 0;
+    offHeapMemTableCost = 0;
     rejected = false;
   }
 
@@ -43,6 +43,7 @@ import org.apache.iotdb.db.localconfignode.LocalConfigNode;
 import org.apache.iotdb.db.metadata.LocalSchemaProcessor;
 import org.apache.iotdb.db.protocol.influxdb.meta.InfluxDBMetaManager;
 import org.apache.iotdb.db.protocol.rest.RestService;
+import org.apache.iotdb.db.rescon.OffHeapArrayManager;
 import org.apache.iotdb.db.rescon.PrimitiveArrayManager;
 import org.apache.iotdb.db.rescon.SystemInfo;
 import org.apache.iotdb.db.service.basic.ServiceProvider;
@@ -253,6 +254,7 @@ public class IoTDB implements IoTDBMBean {
     logger.info("Deactivating IoTDB...");
     registerManager.shutdownAll();
     PrimitiveArrayManager.close();
+    OffHeapArrayManager.close();
     SystemInfo.getInstance().close();
     JMXService.deregisterMBean(mbeanName);
     logger.info("IoTDB is deactivated.");
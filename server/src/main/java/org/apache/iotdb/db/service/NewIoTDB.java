@@ -44,6 +44,7 @@ import org.apache.iotdb.db.localconfignode.LocalConfigNode;
 import org.apache.iotdb.db.metadata.LocalSchemaProcessor;
 import org.apache.iotdb.db.mpp.execution.schedule.DriverScheduler;
 import org.apache.iotdb.db.protocol.mpprest.MPPRestService;
+import org.apache.iotdb.db.rescon.OffHeapArrayManager;
 import org.apache.iotdb.db.rescon.PrimitiveArrayManager;
 import org.apache.iotdb.db.rescon.SystemInfo;
 import org.apache.iotdb.db.service.metrics.MetricService;
@@ -226,6 +227,7 @@ public class NewIoTDB implements NewIoTDBMBean {
     logger.info("Deactivating IoTDB...");
     registerManager.shutdownAll();
     PrimitiveArrayManager.close();
+    OffHeapArrayManager.close();
     SystemInfo.getInstance().close();
     JMXService.deregisterMBean(mbeanName);
     logger.info("IoTDB is deactivated.");
@@ -33,6 +33,7 @@ public enum Metric {
   DATA_WRITTEN,
   DATA_READ,
   COMPACTION_TASK_COUNT,
+  COMPACTION_AMPLIFICATION,
   CLUSTER_NODE_STATUS,
   CLUSTER_NODE_LEADER_COUNT,
   CLUSTER_ELECT,
@@ -69,8 +69,6 @@ public class AlignedTVList extends TVList {
 
   private int[][] sortedIndices;
 
-  private int pivotIndex;
-
   AlignedTVList(List<TSDataType> types) {
     super();
     indices = new ArrayList<>(types.size());
@@ -568,7 +566,7 @@ public class AlignedTVList extends TVList {
       sortedIndices =
           (int[][]) PrimitiveArrayManager.createDataListsByType(TSDataType.INT32, rowCount);
     }
-    sort(0, rowCount);
+    sortAllRows();
     clearSortedValue();
     clearSortedTime();
     sorted = true;
@@ -651,12 +649,6 @@ public class AlignedTVList extends TVList {
     }
   }
 
-  @Override
-  protected void saveAsPivot(int pos) {
-    pivotTime = getTime(pos);
-    pivotIndex = getValueIndex(pos);
-  }
-
   /**
    * Get the row index value in index column
    *
@@ -693,11 +685,6 @@ public class AlignedTVList extends TVList {
     return validRowIndex;
   }
 
-  @Override
-  protected void setPivotTo(int pos) {
-    set(pos, pivotTime, pivotIndex);
-  }
-
   @Override
   public TimeValuePair getTimeValuePair(int index) {
     return new TimeValuePair(
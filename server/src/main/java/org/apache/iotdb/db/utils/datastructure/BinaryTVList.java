@@ -46,8 +46,6 @@ public class BinaryTVList extends TVList {
 
   private Binary[][] sortedValues;
 
-  private Binary pivotValue;
-
   BinaryTVList() {
     super();
     values = new ArrayList<>();
@@ -115,7 +113,7 @@ public class BinaryTVList extends TVList {
       sortedValues =
           (Binary[][]) PrimitiveArrayManager.createDataListsByType(TSDataType.TEXT, rowCount);
     }
-    sort(0, rowCount);
+    sortAllRows();
     clearSortedValue();
     clearSortedTime();
     sorted = true;
@@ -177,17 +175,6 @@ public class BinaryTVList extends TVList {
     values.add((Binary[]) getPrimitiveArraysByType(TSDataType.TEXT));
   }
 
-  @Override
-  protected void saveAsPivot(int pos) {
-    pivotTime = getTime(pos);
-    pivotValue = getBinary(pos);
-  }
-
-  @Override
-  protected void setPivotTo(int pos) {
-    set(pos, pivotTime, pivotValue);
-  }
-
   @Override
   public TimeValuePair getTimeValuePair(int index) {
     return new TimeValuePair(
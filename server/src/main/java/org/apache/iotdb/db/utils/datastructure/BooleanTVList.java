@@ -45,8 +45,6 @@ public class BooleanTVList extends TVList {
 
   private boolean[][] sortedValues;
 
-  private boolean pivotValue;
-
   BooleanTVList() {
     super();
     values = new ArrayList<>();
@@ -114,7 +112,7 @@ public class BooleanTVList extends TVList {
       sortedValues =
           (boolean[][]) PrimitiveArrayManager.createDataListsByType(TSDataType.BOOLEAN, rowCount);
     }
-    sort(0, rowCount);
+    sortAllRows();
     clearSortedValue();
     clearSortedTime();
     sorted = true;
@@ -176,17 +174,6 @@ public class BooleanTVList extends TVList {
     values.add((boolean[]) getPrimitiveArraysByType(TSDataType.BOOLEAN));
   }
 
-  @Override
-  protected void saveAsPivot(int pos) {
-    pivotTime = getTime(pos);
-    pivotValue = getBoolean(pos);
-  }
-
-  @Override
-  protected void setPivotTo(int pos) {
-    set(pos, pivotTime, pivotValue);
-  }
-
   @Override
   public TimeValuePair getTimeValuePair(int index) {
     return new TimeValuePair(
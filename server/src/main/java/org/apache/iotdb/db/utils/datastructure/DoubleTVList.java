@@ -45,8 +45,6 @@ public class DoubleTVList extends TVList {
 
   private double[][] sortedValues;
 
-  private double pivotValue;
-
   DoubleTVList() {
     super();
     values = new ArrayList<>();
@@ -114,7 +112,7 @@ public class DoubleTVList extends TVList {
       sortedValues =
           (double[][]) PrimitiveArrayManager.createDataListsByType(TSDataType.DOUBLE, rowCount);
     }
-    sort(0, rowCount);
+    sortAllRows();
     clearSortedValue();
     clearSortedTime();
     sorted = true;
@@ -176,17 +174,6 @@ public class DoubleTVList extends TVList {
     values.add((double[]) getPrimitiveArraysByType(TSDataType.DOUBLE));
   }
 
-  @Override
-  protected void saveAsPivot(int pos) {
-    pivotTime = getTime(pos);
-    pivotValue = getDouble(pos);
-  }
-
-  @Override
-  protected void setPivotTo(int pos) {
-    set(pos, pivotTime, pivotValue);
-  }
-
   @Override
   public TimeValuePair getTimeValuePair(int index) {
     return new TimeValuePair(
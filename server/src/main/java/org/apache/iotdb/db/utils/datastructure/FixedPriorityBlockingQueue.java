@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
 /**
  * This is a priority blocking queue with a maximum size. If the queue's size is larger than the max
@@ -123,6 +124,23 @@ public class FixedPriorityBlockingQueue<T> {
     }
   }
 
+  /** @return number of elements matching the predicate */
+  public int count(Predicate<T> predicate) {
+    final ReentrantLock lock = this.lock;
+    lock.lock();
+    try {
+      int count = 0;
+      for (T element : queue) {
+        if (predicate.test(element)) {
+          count++;
+        }
+      }
+      return count;
+    } finally {
+      lock.unlock();
+    }
+  }
+
   public int size() {
     final ReentrantLock lock = this.lock;
     lock.lock();
@@ -45,8 +45,6 @@ public class FloatTVList extends TVList {
 
   private float[][] sortedValues;
 
-  private float pivotValue;
-
   FloatTVList() {
     super();
     values = new ArrayList<>();
@@ -114,7 +112,7 @@ public class FloatTVList extends TVList {
       sortedValues =
           (float[][]) PrimitiveArrayManager.createDataListsByType(TSDataType.FLOAT, rowCount);
     }
-    sort(0, rowCount);
+    sortAllRows();
     clearSortedValue();
     clearSortedTime();
     sorted = true;
@@ -176,17 +174,6 @@ public class FloatTVList extends TVList {
     values.add((float[]) getPrimitiveArraysByType(TSDataType.FLOAT));
   }
 
-  @Override
-  protected void saveAsPivot(int pos) {
-    pivotTime = getTime(pos);
-    pivotValue = getFloat(pos);
-  }
-
-  @Override
-  protected void setPivotTo(int pos) {
-    set(pos, pivotTime, pivotValue);
-  }
-
   @Override
   public TimeValuePair getTimeValuePair(int index) {
     return new TimeValuePair(
@@ -44,8 +44,6 @@ public class IntTVList extends TVList {
 
   private int[][] sortedValues;
 
-  private int pivotValue;
-
   IntTVList() {
     super();
     values = new ArrayList<>();
@@ -113,7 +111,7 @@ public class IntTVList extends TVList {
       sortedValues =
           (int[][]) PrimitiveArrayManager.createDataListsByType(TSDataType.INT32, rowCount);
     }
-    sort(0, rowCount);
+    sortAllRows();
     clearSortedValue();
     clearSortedTime();
     sorted = true;
@@ -175,17 +173,6 @@ public class IntTVList extends TVList {
     values.add((int[]) getPrimitiveArraysByType(TSDataType.INT32));
   }
 
-  @Override
-  protected void saveAsPivot(int pos) {
-    pivotTime = getTime(pos);
-    pivotValue = getInt(pos);
-  }
-
-  @Override
-  protected void setPivotTo(int pos) {
-    set(pos, pivotTime, pivotValue);
-  }
-
   @Override
   public TimeValuePair getTimeValuePair(int index) {
     return new TimeValuePair(
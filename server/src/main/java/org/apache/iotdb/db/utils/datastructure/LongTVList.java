@@ -44,8 +44,6 @@ public class LongTVList extends TVList {
 
   private long[][] sortedValues;
 
-  private long pivotValue;
-
   LongTVList() {
     super();
     values = new ArrayList<>();
@@ -113,7 +111,7 @@ public class LongTVList extends TVList {
       sortedValues =
           (long[][]) PrimitiveArrayManager.createDataListsByType(TSDataType.INT64, rowCount);
     }
-    sort(0, rowCount);
+    sortAllRows();
     clearSortedValue();
     clearSortedTime();
     sorted = true;
@@ -175,17 +173,6 @@ public class LongTVList extends TVList {
     values.add((long[]) getPrimitiveArraysByType(TSDataType.INT64));
   }
 
-  @Override
-  protected void saveAsPivot(int pos) {
-    pivotTime = getTime(pos);
-    pivotValue = getLong(pos);
-  }
-
-  @Override
-  protected void setPivotTo(int pos) {
-    set(pos, pivotTime, pivotValue);
-  }
-
   @Override
   public TimeValuePair getTimeValuePair(int index) {
     return new TimeValuePair(
@@ -0,0 +1,581 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.utils.datastructure;
+
+import org.apache.iotdb.db.rescon.OffHeapArrayManager;
+import org.apache.iotdb.db.rescon.PrimitiveArrayManager;
+import org.apache.iotdb.db.utils.MathUtils;
+import org.apache.iotdb.db.wal.buffer.IWALByteBufferView;
+import org.apache.iotdb.db.wal.utils.WALWriteUtils;
+import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.TimeValuePair;
+import org.apache.iotdb.tsfile.read.common.TimeRange;
+import org.apache.iotdb.tsfile.read.common.block.TsBlockBuilder;
+import org.apache.iotdb.tsfile.utils.BitMap;
+import org.apache.iotdb.tsfile.utils.TsPrimitiveType;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+
+import static org.apache.iotdb.db.rescon.PrimitiveArrayManager.ARRAY_SIZE;
+
+/**
+ * TVList of INT32, INT64, FLOAT, DOUBLE or BOOLEAN whose time and value arrays are allocated by
+ * {@link OffHeapArrayManager}, so the data points don't live in the java heap. Values are kept as
+ * their raw bits in arrays of 1, 4 or 8 bytes per element, which lets the sorting methods be shared
+ * by all data types.
+ */
+public class OffHeapTVList extends TVList {
+
+  private final TSDataType dataType;
+
+  private final int valueBytes;
+
+  // list of off-heap array, add 1 when expanded -> data point timestamp array
+  // index relation: arrayIndex -> elementIndex
+  private final List<ByteBuffer> timeArrays;
+
+  // list of off-heap array, add 1 when expanded -> raw bits of values
+  private final List<ByteBuffer> valueArrays;
+
+  // the arrays for sorting are temporary, so they stay in the heap
+  private long[][] sortedValues;
+
+  OffHeapTVList(TSDataType dataType) {
+    super();
+    if (!isSupported(dataType)) {
+      throw new UnSupportedDataTypeException(dataType.name());
+    }
+    this.dataType = dataType;
+    this.valueBytes = dataType.getDataTypeSize();
+    timeArrays = new ArrayList<>();
+    valueArrays = new ArrayList<>();
+  }
+
+  public static boolean isSupported(TSDataType dataType) {
+    switch (dataType) {
+      case BOOLEAN:
+      case INT32:
+      case INT64:
+      case FLOAT:
+      case DOUBLE:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  // region raw accessors
+  private long getValueBits(int index) {
+    ByteBuffer array = valueArrays.get(index / ARRAY_SIZE);
+    int offset = (index % ARRAY_SIZE) * valueBytes;
+    switch (valueBytes) {
+      case Long.BYTES:
+        return array.getLong(offset);
+      case Integer.BYTES:
+        return array.getInt(offset);
+      default:
+        return array.get(offset);
+    }
+  }
+
+  private void set(int index, long timestamp, long valueBits) {
+    int arrayIndex = index / ARRAY_SIZE;
+    int elementIndex = index % ARRAY_SIZE;
+    timeArrays.get(arrayIndex).putLong(elementIndex * Long.BYTES, timestamp);
+    ByteBuffer array = valueArrays.get(arrayIndex);
+    int offset = elementIndex * valueBytes;
+    switch (valueBytes) {
+      case Long.BYTES:
+        array.putLong(offset, valueBits);
+        break;
+      case Integer.BYTES:
+        array.putInt(offset, (int) valueBits);
+        break;
+      default:
+        array.put(offset, (byte) valueBits);
+        break;
+    }
+  }
+
+  private void putBits(long timestamp, long valueBits) {
+    checkExpansion();
+    minTime = Math.min(minTime, timestamp);
+    set(rowCount, timestamp, valueBits);
+    rowCount++;
+    if (sorted && rowCount > 1 && timestamp < getTime(rowCount - 2)) {
+      sorted = false;
+    }
+  }
+
+  private long getBits(int index, TSDataType expectedType) {
+    if (dataType != expectedType) {
+      throw new UnsupportedOperationException(ERR_DATATYPE_NOT_CONSISTENT);
+    }
+    if (index >= rowCount) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    return getValueBits(index);
+  }
+
+  private void checkDataType(TSDataType expectedType) {
+    if (dataType != expectedType) {
+      throw new UnsupportedOperationException(ERR_DATATYPE_NOT_CONSISTENT);
+    }
+  }
+  // endregion
+
+  @Override
+  public long getTime(int index) {
+    if (index >= rowCount) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    return timeArrays.get(index / ARRAY_SIZE).getLong((index % ARRAY_SIZE) * Long.BYTES);
+  }
+
+  // region put and get
+  @Override
+  public void putLong(long timestamp, long value) {
+    checkDataType(TSDataType.INT64);
+    putBits(timestamp, value);
+  }
+
+  @Override
+  public void putInt(long timestamp, int value) {
+    checkDataType(TSDataType.INT32);
+    putBits(timestamp, value);
+  }
+
+  @Override
+  public void putFloat(long timestamp, float value) {
+    checkDataType(TSDataType.FLOAT);
+    putBits(timestamp, Float.floatToRawIntBits(value));
+  }
+
+  @Override
+  public void putDouble(long timestamp, double value) {
+    checkDataType(TSDataType.DOUBLE);
+    putBits(timestamp, Double.doubleToRawLongBits(value));
+  }
+
+  @Override
+  public void putBoolean(long timestamp, boolean value) {
+    checkDataType(TSDataType.BOOLEAN);
+    putBits(timestamp, value ? 1 : 0);
+  }
+
+  @Override
+  public long getLong(int index) {
+    return getBits(index, TSDataType.INT64);
+  }
+
+  @Override
+  public int getInt(int index) {
+    return (int) getBits(index, TSDataType.INT32);
+  }
+
+  @Override
+  public float getFloat(int index) {
+    return Float.intBitsToFloat((int) getBits(index, TSDataType.FLOAT));
+  }
+
+  @Override
+  public double getDouble(int index) {
+    return Double.longBitsToDouble(getBits(index, TSDataType.DOUBLE));
+  }
+
+  @Override
+  public boolean getBoolean(int index) {
+    return getBits(index, TSDataType.BOOLEAN) != 0;
+  }
+
+  @Override
+  public void putLongs(long[] time, long[] value, BitMap bitMap, int start, int end) {
+    checkDataType(TSDataType.INT64);
+    putBatch(
+        time,
+        bitMap,
+        start,
+        end,
+        i -> value[i],
+        (array, elementIndex, index, length) ->
+            view(array, elementIndex, Long.BYTES).asLongBuffer().put(value, index, length));
+  }
+
+  @Override
+  public void putInts(long[] time, int[] value, BitMap bitMap, int start, int end) {
+    checkDataType(TSDataType.INT32);
+    putBatch(
+        time,
+        bitMap,
+        start,
+        end,
+        i -> value[i],
+        (array, elementIndex, index, length) ->
+            view(array, elementIndex, Integer.BYTES).asIntBuffer().put(value, index, length));
+  }
+
+  @Override
+  public void putFloats(long[] time, float[] value, BitMap bitMap, int start, int end) {
+    checkDataType(TSDataType.FLOAT);
+    putBatch(
+        time,
+        bitMap,
+        start,
+        end,
+        i -> Float.floatToRawIntBits(value[i]),
+        (array, elementIndex, index, length) ->
+            view(array, elementIndex, Float.BYTES).asFloatBuffer().put(value, index, length));
+  }
+
+  @Override
+  public void putDoubles(long[] time, double[] value, BitMap bitMap, int start, int end) {
+    checkDataType(TSDataType.DOUBLE);
+    putBatch(
+        time,
+        bitMap,
+        start,
+        end,
+        i -> Double.doubleToRawLongBits(value[i]),
+        (array, elementIndex, index, length) ->
+            view(array, elementIndex, Double.BYTES).asDoubleBuffer().put(value, index, length));
+  }
+
+  @Override
+  public void putBooleans(long[] time, boolean[] value, BitMap bitMap, int start, int end) {
+    checkDataType(TSDataType.BOOLEAN);
+    putBatch(
+        time,
+        bitMap,
+        start,
+        end,
+        i -> value[i] ? 1 : 0,
+        (array, elementIndex, index, length) -> {
+          for (int i = 0; i < length; i++) {
+            array.put(elementIndex + i, (byte) (value[index + i] ? 1 : 0));
+          }
+        });
+  }
+
+  /** Copy values[index, index + length) into array since elementIndex */
+  @FunctionalInterface
+  private interface ValueCopier {
+    void copy(ByteBuffer array, int elementIndex, int index, int length);
+  }
+
+  private void putBatch(
+      long[] time,
+      BitMap bitMap,
+      int start,
+      int end,
+      IntToLongFunction valueBits,
+      ValueCopier valueCopier) {
+    if (bitMap != null && !bitMap.isAllUnmarked()) {
+      // skip null values one by one
+      for (int i = start; i < end; i++) {
+        if (!bitMap.isMarked(i)) {
+          putBits(time[i], valueBits.applyAsLong(i));
+        }
+      }
+      return;
+    }
+
+    updateMinTimeAndSorted(time, start, end);
+    int idx = start;
+    while (idx < end) {
+      checkExpansion();
+      int arrayIdx = rowCount / ARRAY_SIZE;
+      int elementIdx = rowCount % ARRAY_SIZE;
+      int length = Math.min(end - idx, ARRAY_SIZE - elementIdx);
+      view(timeArrays.get(arrayIdx), elementIdx, Long.BYTES).asLongBuffer().put(time, idx, length);
+      valueCopier.copy(valueArrays.get(arrayIdx), elementIdx, idx, length);
+      idx += length;
+      rowCount += length;
+    }
+  }
+
+  private static ByteBuffer view(ByteBuffer array, int elementIndex, int elementBytes) {
+    // duplicate() doesn't keep the byte order
+    ByteBuffer view = array.duplicate().order(array.order());
+    view.position(elementIndex * elementBytes);
+    return view;
+  }
+  // endregion
+
+  // region array management
+  @Override
+  protected void checkExpansion() {
+    if ((rowCount % ARRAY_SIZE) == 0) {
+      expandValues();
+      timeArrays.add(OffHeapArrayManager.allocate(Long.BYTES));
+    }
+  }
+
+  @Override
+  protected void expandValues() {
+    valueArrays.add(OffHeapArrayManager.allocate(valueBytes));
+  }
+
+  @Override
+  protected void releaseLastTimeArray() {
+    OffHeapArrayManager.release(timeArrays.remove(timeArrays.size() - 1));
+  }
+
+  @Override
+  protected void releaseLastValueArray() {
+    OffHeapArrayManager.release(valueArrays.remove(valueArrays.size() - 1));
+  }
+
+  @Override
+  public int delete(long lowerBound, long upperBound) {
+    int deletedNumber = super.delete(lowerBound, upperBound);
+    // TVList only releases the heap time arrays, release the off-heap arrays that are empty here
+    int newArrayNum = PrimitiveArrayManager.getArrayRowCount(rowCount);
+    while (timeArrays.size() > newArrayNum) {
+      releaseLastTimeArray();
+      releaseLastValueArray();
+    }
+    return deletedNumber;
+  }
+
+  @Override
+  protected void clearTime() {
+    for (ByteBuffer array : timeArrays) {
+      OffHeapArrayManager.release(array);
+    }
+    timeArrays.clear();
+  }
+
+  @Override
+  void clearValue() {
+    for (ByteBuffer array : valueArrays) {
+      OffHeapArrayManager.release(array);
+    }
+    valueArrays.clear();
+  }
+
+  @Override
+  void clearSortedValue() {
+    if (sortedValues != null) {
+      sortedValues = null;
+    }
+  }
+
+  @Override
+  public OffHeapTVList clone() {
+    OffHeapTVList cloneList = new OffHeapTVList(dataType);
+    cloneAs(cloneList);
+    for (ByteBuffer array : timeArrays) {
+      cloneList.timeArrays.add(cloneArray(array, Long.BYTES));
+    }
+    for (ByteBuffer array : valueArrays) {
+      cloneList.valueArrays.add(cloneArray(array, valueBytes));
+    }
+    return cloneList;
+  }
+
+  private ByteBuffer cloneArray(ByteBuffer array, int elementBytes) {
+    ByteBuffer cloneArray = OffHeapArrayManager.allocate(elementBytes);
+    cloneArray.put(array.duplicate());
+    cloneArray.clear();
+    return cloneArray;
+  }
+  // endregion
+
+  // region sort
+  @Override
+  public void sort() {
+    if (sortedTimestamps == null
+        || sortedTimestamps.length < PrimitiveArrayManager.getArrayRowCount(rowCount)) {
+      sortedTimestamps =
+          (long[][]) PrimitiveArrayManager.createDataListsByType(TSDataType.INT64, rowCount);
+    }
+    if (sortedValues == null
+        || sortedValues.length < PrimitiveArrayManager.getArrayRowCount(rowCount)) {
+      sortedValues =
+          (long[][]) PrimitiveArrayManager.createDataListsByType(TSDataType.INT64, rowCount);
+    }
+    sortAllRows();
+    clearSortedValue();
+    clearSortedTime();
+    sorted = true;
+  }
+
+  @Override
+  protected void setFromSorted(int src, int dest) {
+    set(
+        dest,
+        sortedTimestamps[src / ARRAY_SIZE][src % ARRAY_SIZE],
+        sortedValues[src / ARRAY_SIZE][src % ARRAY_SIZE]);
+  }
+
+  @Override
+  protected void set(int src, int dest) {
+    set(dest, getTime(src), getValueBits(src));
+  }
+
+  @Override
+  protected void setToSorted(int src, int dest) {
+    sortedTimestamps[dest / ARRAY_SIZE][dest % ARRAY_SIZE] = getTime(src);
+    sortedValues[dest / ARRAY_SIZE][dest % ARRAY_SIZE] = getValueBits(src);
+  }
+
+  @Override
+  protected void reverseRange(int lo, int hi) {
+    hi--;
+    while (lo < hi) {
+      long loT = getTime(lo);
+      long loV = getValueBits(lo);
+      long hiT = getTime(hi);
+      long hiV = getValueBits(hi);
+      set(lo++, hiT, hiV);
+      set(hi--, loT, loV);
+    }
+  }
+  // endregion
+
+  // region query
+  @Override
+  public TimeValuePair getTimeValuePair(int index) {
+    return new TimeValuePair(getTime(index), getPrimitiveValue(index));
+  }
+
+  @Override
+  protected TimeValuePair getTimeValuePair(
+      int index, long time, Integer floatPrecision, TSEncoding encoding) {
+    switch (dataType) {
+      case FLOAT:
+        float floatValue = getFloat(index);
+        if (!Float.isNaN(floatValue)
+            && (encoding == TSEncoding.RLE || encoding == TSEncoding.TS_2DIFF)) {
+          floatValue = MathUtils.roundWithGivenPrecision(floatValue, floatPrecision);
+        }
+        return new TimeValuePair(time, TsPrimitiveType.getByType(dataType, floatValue));
+      case DOUBLE:
+        double doubleValue = getDouble(index);
+        if (!Double.isNaN(doubleValue)
+            && (encoding == TSEncoding.RLE || encoding == TSEncoding.TS_2DIFF)) {
+          doubleValue = MathUtils.roundWithGivenPrecision(doubleValue, floatPrecision);
+        }
+        return new TimeValuePair(time, TsPrimitiveType.getByType(dataType, doubleValue));
+      default:
+        return new TimeValuePair(time, getPrimitiveValue(index));
+    }
+  }
+
+  private TsPrimitiveType getPrimitiveValue(int index) {
+    switch (dataType) {
+      case BOOLEAN:
+        return TsPrimitiveType.getByType(dataType, getBoolean(index));
+      case INT32:
+        return TsPrimitiveType.getByType(dataType, getInt(index));
+      case INT64:
+        return TsPrimitiveType.getByType(dataType, getLong(index));
+      case FLOAT:
+        return TsPrimitiveType.getByType(dataType, getFloat(index));
+      case DOUBLE:
+        return TsPrimitiveType.getByType(dataType, getDouble(index));
+      default:
+        throw new UnSupportedDataTypeException(dataType.name());
+    }
+  }
+
+  @Override
+  protected void writeValidValuesIntoTsBlock(
+      TsBlockBuilder builder,
+      int floatPrecision,
+      TSEncoding encoding,
+      List<TimeRange> deletionList) {
+    Integer deleteCursor = 0;
+    for (int i = 0; i < rowCount; i++) {
+      if (!isPointDeleted(getTime(i), deletionList, deleteCursor)
+          && (i == rowCount - 1 || getTime(i) != getTime(i + 1))) {
+        builder.getTimeColumnBuilder().writeLong(getTime(i));
+        switch (dataType) {
+          case BOOLEAN:
+            builder.getColumnBuilder(0).writeBoolean(getBoolean(i));
+            break;
+          case INT32:
+            builder.getColumnBuilder(0).writeInt(getInt(i));
+            break;
+          case INT64:
+            builder.getColumnBuilder(0).writeLong(getLong(i));
+            break;
+          case FLOAT:
+            builder
+                .getColumnBuilder(0)
+                .writeFloat(roundValueWithGivenPrecision(getFloat(i), floatPrecision, encoding));
+            break;
+          case DOUBLE:
+            builder
+                .getColumnBuilder(0)
+                .writeDouble(roundValueWithGivenPrecision(getDouble(i), floatPrecision, encoding));
+            break;
+          default:
+            throw new UnSupportedDataTypeException(dataType.name());
+        }
+        builder.declarePosition();
+      }
+    }
+  }
+  // endregion
+
+  @Override
+  public TSDataType getDataType() {
+    return dataType;
+  }
+
+  /** Same format as the heap TVList of the same data type, so they share the deserializer. */
+  @Override
+  public int serializedSize() {
+    return Byte.BYTES + Integer.BYTES + rowCount * (Long.BYTES + valueBytes);
+  }
+
+  @Override
+  public void serializeToWAL(IWALByteBufferView buffer) {
+    WALWriteUtils.write(dataType, buffer);
+    buffer.putInt(rowCount);
+    for (int rowIdx = 0; rowIdx < rowCount; ++rowIdx) {
+      buffer.putLong(getTime(rowIdx));
+      switch (dataType) {
+        case BOOLEAN:
+          WALWriteUtils.write(getBoolean(rowIdx), buffer);
+          break;
+        case INT32:
+          buffer.putInt(getInt(rowIdx));
+          break;
+        case INT64:
+          buffer.putLong(getLong(rowIdx));
+          break;
+        case FLOAT:
+          buffer.putFloat(getFloat(rowIdx));
+          break;
+        case DOUBLE:
+          buffer.putDouble(getDouble(rowIdx));
+          break;
+        default:
+          throw new UnSupportedDataTypeException(dataType.name());
+      }
+    }
+  }
+}
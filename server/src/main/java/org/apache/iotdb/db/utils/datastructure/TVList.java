@@ -19,7 +19,10 @@
 
 package org.apache.iotdb.db.utils.datastructure;
 
+import org.apache.iotdb.commons.concurrent.IoTDBThreadPoolFactory;
+import org.apache.iotdb.commons.concurrent.ThreadName;
 import org.apache.iotdb.commons.utils.TestOnly;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.rescon.PrimitiveArrayManager;
 import org.apache.iotdb.db.utils.MathUtils;
 import org.apache.iotdb.db.wal.buffer.WALEntryValue;
@@ -38,6 +41,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.iotdb.db.rescon.PrimitiveArrayManager.ARRAY_SIZE;
@@ -55,10 +60,11 @@ public abstract class TVList implements WALEntryValue {
 
   protected long[][] sortedTimestamps;
   protected boolean sorted = true;
+  // rows before this index are known to be sorted, so sorting again can skip them
+  protected int sortedRowCount;
   // record reference count of this tv list
   // currently this reference will only be increase because we can't know when to decrease it
   protected AtomicInteger referenceCount;
-  protected long pivotTime;
   protected long minTime;
 
   private long version;
@@ -71,6 +77,10 @@ public abstract class TVList implements WALEntryValue {
   }
 
   public static TVList newList(TSDataType dataType) {
+    if (IoTDBDescriptor.getInstance().getConfig().isEnableOffHeapMemTable()
+        && OffHeapTVList.isSupported(dataType)) {
+      return new OffHeapTVList(dataType);
+    }
     switch (dataType) {
       case TEXT:
         return new BinaryTVList();
@@ -268,6 +278,7 @@ public abstract class TVList implements WALEntryValue {
     }
     int deletedNumber = rowCount - newSize;
     rowCount = newSize;
+    sortedRowCount = 0;
     // release primitive arrays that are empty
     int newArrayNum = newSize / ARRAY_SIZE;
     if (newSize % ARRAY_SIZE != 0) {
@@ -287,12 +298,14 @@ public abstract class TVList implements WALEntryValue {
     }
     cloneList.rowCount = rowCount;
     cloneList.sorted = sorted;
+    cloneList.sortedRowCount = sortedRowCount;
     cloneList.minTime = minTime;
   }
 
   public void clear() {
     rowCount = 0;
     sorted = true;
+    sortedRowCount = 0;
     minTime = Long.MAX_VALUE;
     clearTime();
     clearSortedTime();
@@ -360,6 +373,130 @@ public abstract class TVList implements WALEntryValue {
     merge(lo, mid, hi);
   }
 
+  /**
+   * Sort all rows with the sorting buffers prepared. Rows are scanned for ascending runs first: a
+   * list made of a few long runs, e.g. a sorted list with an out-of-order batch appended, only
+   * merges its runs, otherwise the list is merge sorted. Large lists are sorted by fork-join tasks
+   * in a dedicated pool.
+   */
+  protected void sortAllRows() {
+    if (sorted || rowCount <= 1) {
+      return;
+    }
+    // min number of rows sorted by one fork-join task
+    int parallelThreshold =
+        IoTDBDescriptor.getInstance().getConfig().getTvListParallelSortThreshold();
+    boolean parallel = parallelThreshold > 0 && rowCount >= 2L * parallelThreshold;
+    int[] runStarts = findRuns(rowCount / SMALL_ARRAY_LENGTH);
+    if (runStarts == null) {
+      if (parallel) {
+        SortPoolHolder.POOL.invoke(new SortTask(0, rowCount, parallelThreshold));
+      } else {
+        sort(0, rowCount);
+      }
+    } else {
+      MergeRunsTask task =
+          new MergeRunsTask(runStarts, 0, runStarts.length - 1, parallel ? parallelThreshold : 0);
+      if (parallel) {
+        SortPoolHolder.POOL.invoke(task);
+      } else {
+        task.compute();
+      }
+    }
+    sortedRowCount = rowCount;
+  }
+
+  /** The sort threads are only started when the first large TVList is sorted. */
+  private static class SortPoolHolder {
+    private static final ForkJoinPool POOL =
+        IoTDBThreadPoolFactory.newForkJoinPool(
+            IoTDBDescriptor.getInstance().getConfig().getTvListSortThreadCount(),
+            ThreadName.TVLIST_SORT_SERVICE.getName());
+
+    private SortPoolHolder() {}
+  }
+
+  /**
+   * @param maxRunNum give up finding runs if there are more runs than this
+   * @return start index of each ascending run followed by rowCount, or null if there are too many
+   *     runs
+   */
+  private int[] findRuns(int maxRunNum) {
+    List<Integer> runStarts = new ArrayList<>();
+    runStarts.add(0);
+    // rows before sortedRowCount are in the first run
+    for (int i = Math.max(sortedRowCount, 1); i < rowCount; i++) {
+      if (getTime(i) < getTime(i - 1)) {
+        if (runStarts.size() >= maxRunNum) {
+          return null;
+        }
+        runStarts.add(i);
+      }
+    }
+    runStarts.add(rowCount);
+    return runStarts.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /** Merge sort rows of [lo, hi), two halves of a large range are sorted concurrently. */
+  private class SortTask extends RecursiveAction {
+    private final int lo;
+    private final int hi;
+    private final int parallelThreshold;
+
+    SortTask(int lo, int hi, int parallelThreshold) {
+      this.lo = lo;
+      this.hi = hi;
+      this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (hi - lo < 2L * parallelThreshold) {
+        sort(lo, hi);
+        return;
+      }
+      int mid = (lo + hi) >>> 1;
+      invokeAll(new SortTask(lo, mid, parallelThreshold), new SortTask(mid, hi, parallelThreshold));
+      merge(lo, mid, hi);
+    }
+  }
+
+  /**
+   * Merge the ascending runs of [fromRun, toRun) as a balanced binary tree, subtrees of a large
+   * range are merged concurrently if parallelThreshold is positive.
+   */
+  private class MergeRunsTask extends RecursiveAction {
+    private final int[] runStarts;
+    private final int fromRun;
+    private final int toRun;
+    private final int parallelThreshold;
+
+    MergeRunsTask(int[] runStarts, int fromRun, int toRun, int parallelThreshold) {
+      this.runStarts = runStarts;
+      this.fromRun = fromRun;
+      this.toRun = toRun;
+      this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (toRun - fromRun <= 1) {
+        return;
+      }
+      int midRun = (fromRun + toRun) >>> 1;
+      MergeRunsTask left = new MergeRunsTask(runStarts, fromRun, midRun, parallelThreshold);
+      MergeRunsTask right = new MergeRunsTask(runStarts, midRun, toRun, parallelThreshold);
+      if (parallelThreshold > 0
+          && runStarts[toRun] - runStarts[fromRun] >= 2L * parallelThreshold) {
+        invokeAll(left, right);
+      } else {
+        left.compute();
+        right.compute();
+      }
+      merge(runStarts[fromRun], runStarts[midRun], runStarts[toRun]);
+    }
+  }
+
   protected int countRunAndMakeAscending(int lo, int hi) {
     assert lo < hi;
     int runHi = lo + 1;
@@ -388,10 +525,6 @@ public abstract class TVList implements WALEntryValue {
     return Long.compare(t1, t2);
   }
 
-  protected abstract void saveAsPivot(int pos);
-
-  protected abstract void setPivotTo(int pos);
-
   /** From TimSort.java */
   protected void binarySort(int lo, int hi, int start) {
     assert lo <= start && start <= hi;
@@ -400,7 +533,9 @@ public abstract class TVList implements WALEntryValue {
     }
     for (; start < hi; start++) {
 
-      saveAsPivot(start);
+      // keep the pivot in the sorting buffer rather than a field, so that disjoint ranges can be
+      // sorted concurrently. Slots of [lo, hi) in the buffer are not used until the end.
+      setToSorted(start, start);
       // Set left (and right) to the index where a[start] (pivot) belongs
       int left = lo;
       int right = start;
@@ -431,7 +566,7 @@ public abstract class TVList implements WALEntryValue {
       for (int i = n; i >= 1; i--) {
         set(left + i - 1, left + i);
       }
-      setPivotTo(left);
+      setFromSorted(start, left);
     }
     for (int i = lo; i < hi; i++) {
       setToSorted(i, i);
@@ -43,6 +43,7 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -82,6 +83,10 @@ public class WALBuffer extends AbstractWALBuffer {
   private final ExecutorService serializeThread;
   /** single thread to sync syncingBuffer to disk */
   private final ExecutorService syncBufferThread;
+  /** decides how long to wait for a fsync batch when group commit is enabled */
+  private final WALGroupCommitPolicy groupCommitPolicy = new WALGroupCommitPolicy();
+  /** number of submitted SyncBufferTasks that will call fsync but haven't finished */
+  private final AtomicInteger pendingFsyncTaskNum = new AtomicInteger(0);
 
   public WALBuffer(String identifier, String logDirectory) throws FileNotFoundException {
     this(identifier, logDirectory, 0, 0L);
@@ -169,14 +174,22 @@ public class WALBuffer extends AbstractWALBuffer {
         Thread.currentThread().interrupt();
       }
 
-      // for better fsync performance, sleep a while to enlarge write batch
-      long fsyncDelay = config.getFsyncWalDelayInMs();
-      if (fsyncDelay > 0) {
-        try {
-          Thread.sleep(fsyncDelay);
-        } catch (InterruptedException e) {
-          logger.warn("Interrupted when sleeping a while to enlarge wal write batch.");
-          Thread.currentThread().interrupt();
+      if (config.isEnableWalGroupCommit()) {
+        // wait adaptively for more WALEntries to enlarge write batch
+        boolean returnFlag = collectGroupCommitBatch();
+        if (returnFlag) {
+          return;
+        }
+      } else {
+        // for better fsync performance, sleep a while to enlarge write batch
+        long fsyncDelay = config.getFsyncWalDelayInMs();
+        if (fsyncDelay > 0) {
+          try {
+            Thread.sleep(fsyncDelay);
+          } catch (InterruptedException e) {
+            logger.warn("Interrupted when sleeping a while to enlarge wal write batch.");
+            Thread.currentThread().interrupt();
+          }
         }
       }
 
@@ -195,6 +208,45 @@ public class WALBuffer extends AbstractWALBuffer {
       }
     }
 
+    /**
+     * Wait for more WALEntries until the batch reaches the size given by {@link
+     * WALGroupCommitPolicy} or the wait time is used up. Unlike sleeping a fixed delay, this
+     * returns as soon as the batch is large enough and doesn't wait at all under low load.
+     *
+     * @return true if fsyncWorkingBuffer has been called, which means this serialization task
+     *     should be ended.
+     */
+    private boolean collectGroupCommitBatch() {
+      long waitTimeInNs =
+          groupCommitPolicy.getWaitTimeInNs(
+              walEntries.size(), pendingFsyncTaskNum.get() > 0, config.getFsyncWalDelayInMs());
+      if (waitTimeInNs <= 0) {
+        return false;
+      }
+      int targetBatchSize = groupCommitPolicy.getTargetBatchSize(walEntries.size(), QUEUE_CAPACITY);
+      long deadline = System.nanoTime() + waitTimeInNs;
+      try {
+        while (batchSize < targetBatchSize) {
+          long remainingTimeInNs = deadline - System.nanoTime();
+          if (remainingTimeInNs <= 0) {
+            break;
+          }
+          WALEntry walEntry = walEntries.poll(remainingTimeInNs, TimeUnit.NANOSECONDS);
+          if (walEntry == null) {
+            break;
+          }
+          boolean returnFlag = handleWALEntry(walEntry);
+          if (returnFlag) {
+            return true;
+          }
+        }
+      } catch (InterruptedException e) {
+        logger.warn("Interrupted when waiting for more WALEntries to enlarge wal write batch.");
+        Thread.currentThread().interrupt();
+      }
+      return false;
+    }
+
     /**
      * @return true if fsyncWorkingBuffer has been called, which means this serialization task
      *     should be ended.
@@ -363,7 +415,11 @@ public class WALBuffer extends AbstractWALBuffer {
 
   /** Notice: this method only called at the last of SerializeTask. */
   private void fsyncWorkingBuffer(long searchIndex, WALFileStatus fileStatus, SerializeInfo info) {
+    if (!info.fsyncListeners.isEmpty()) {
+      groupCommitPolicy.recordBatchSize(info.fsyncListeners.size());
+    }
     switchWorkingBufferToFlushing();
+    pendingFsyncTaskNum.incrementAndGet();
     syncBufferThread.submit(new SyncBufferTask(searchIndex, fileStatus, true, info));
     currentFileStatus = WALFileStatus.CONTAINS_NONE_SEARCH_INDEX;
   }
@@ -412,6 +468,16 @@ public class WALBuffer extends AbstractWALBuffer {
 
     @Override
     public void run() {
+      try {
+        syncBuffer();
+      } finally {
+        if (forceFlag) {
+          pendingFsyncTaskNum.decrementAndGet();
+        }
+      }
+    }
+
+    private void syncBuffer() {
       currentWALFileWriter.updateFileStatus(fileStatus);
 
       // flush buffer to os
@@ -446,7 +512,9 @@ public class WALBuffer extends AbstractWALBuffer {
       } else if (forceFlag) { // force os cache to the storage device, avoid force twice by judging
         // after rolling file
         try {
+          long startTime = System.nanoTime();
           currentWALFileWriter.force();
+          groupCommitPolicy.recordFsyncCost(System.nanoTime() - startTime);
           forceSuccess = true;
         } catch (IOException e) {
           logger.error(
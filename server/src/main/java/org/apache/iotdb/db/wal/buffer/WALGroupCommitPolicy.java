@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.wal.buffer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This policy decides how long {@link WALBuffer} waits to enlarge a fsync batch. It keeps moving
+ * averages of the fsync cost and of the batch size, then waits about one fsync for as many entries
+ * as the last batches had, so idle nodes fsync at once and busy nodes fsync in large groups.
+ *
+ * <p>Only serializeThread reads the estimates and only syncBufferThread updates the fsync cost, so
+ * volatile fields are enough here.
+ */
+public class WALGroupCommitPolicy {
+  /** weight of the latest sample in the moving averages */
+  private static final double SMOOTHING_FACTOR = 0.2;
+
+  /** moving average of fsync cost. Unit: nanosecond */
+  private volatile double avgFsyncCostInNs = 0;
+  /** moving average of entries number per fsync */
+  private volatile double avgBatchSize = 1;
+
+  /** Called by syncBufferThread after each fsync. */
+  public void recordFsyncCost(long costInNs) {
+    avgFsyncCostInNs =
+        avgFsyncCostInNs == 0
+            ? costInNs
+            : SMOOTHING_FACTOR * costInNs + (1 - SMOOTHING_FACTOR) * avgFsyncCostInNs;
+  }
+
+  /** Called by serializeThread when a batch is handed to syncBufferThread. */
+  public void recordBatchSize(int batchSize) {
+    avgBatchSize = SMOOTHING_FACTOR * batchSize + (1 - SMOOTHING_FACTOR) * avgBatchSize;
+  }
+
+  /**
+   * @param queueSize number of entries waiting in the queue
+   * @param syncing whether syncBufferThread is still syncing previous batch
+   * @param maxDelayInMs upper bound of the wait time
+   * @return nanoseconds to wait for more entries, 0 means calling fsync at once
+   */
+  public long getWaitTimeInNs(int queueSize, boolean syncing, long maxDelayInMs) {
+    if (maxDelayInMs <= 0) {
+      return 0;
+    }
+    // low load, no one else will join this batch
+    if (queueSize == 0 && !syncing && avgBatchSize < 2) {
+      return 0;
+    }
+    // waiting longer than one fsync makes latency worse than fsync twice
+    return Math.min(TimeUnit.MILLISECONDS.toNanos(maxDelayInMs), (long) avgFsyncCostInNs);
+  }
+
+  /**
+   * @param queueSize number of entries waiting in the queue
+   * @param capacity max number of entries in one batch
+   * @return number of entries this batch should wait for
+   */
+  public int getTargetBatchSize(int queueSize, int capacity) {
+    // allow the batch to grow by one so that it can follow increasing load
+    int target = Math.max(queueSize, (int) Math.round(avgBatchSize)) + 1;
+    return Math.min(target, capacity);
+  }
+
+  public double getAvgFsyncCostInNs() {
+    return avgFsyncCostInNs;
+  }
+
+  public double getAvgBatchSize() {
+    return avgBatchSize;
+  }
+}
@@ -25,6 +25,7 @@ import org.apache.iotdb.db.engine.memtable.IWritableMemChunkGroup;
 import org.apache.iotdb.db.engine.modification.Deletion;
 import org.apache.iotdb.db.engine.modification.Modification;
 import org.apache.iotdb.db.engine.modification.ModificationFile;
+import org.apache.iotdb.db.engine.storagegroup.TsFileMetadataIndex;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.exception.DataRegionException;
 import org.apache.iotdb.db.metadata.idtable.IDTable;
@@ -241,6 +242,7 @@ public class UnsealedTsFileRecoverPerformer extends AbstractTsFileRecoverPerform
         // if we put following codes in if clause above, this file can be continued writing into it
         // currently, we close this file anyway
         writer.endFile();
+        TsFileMetadataIndex.writeIfEnabled(tsFileResource.getTsFile());
         tsFileResource.serialize();
       } catch (IOException | ExecutionException e) {
         throw new WALRecoverException(e);
@@ -26,6 +26,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.net.URL;
+import java.util.Arrays;
 
 public class IoTDBDescriptorTest {
   private final String confPath = System.getProperty(IoTDBConstant.IOTDB_CONF, null);
@@ -74,4 +75,29 @@ public class IoTDBDescriptorTest {
     URL confURL = desc.getPropsUrl();
     Assert.assertEquals(confURL.toString(), path.toString());
   }
+
+  @Test
+  public void testParseHourRanges() {
+    boolean[] expected = new boolean[24];
+    Arrays.fill(expected, 8, 12, true);
+    Arrays.fill(expected, 14, 18, true);
+    Assert.assertArrayEquals(expected, IoTDBDescriptor.parseHourRanges("8-12, 14-18"));
+
+    // wraps around midnight
+    expected = new boolean[24];
+    Arrays.fill(expected, 22, 24, true);
+    Arrays.fill(expected, 0, 6, true);
+    Assert.assertArrayEquals(expected, IoTDBDescriptor.parseHourRanges("22-6"));
+
+    expected = new boolean[24];
+    Arrays.fill(expected, true);
+    Assert.assertArrayEquals(expected, IoTDBDescriptor.parseHourRanges("0-24"));
+
+    // empty and illegal ranges cover no hour
+    expected = new boolean[24];
+    expected[9] = true;
+    Assert.assertArrayEquals(
+        expected, IoTDBDescriptor.parseHourRanges("8-8,0-0,9-10,24-1,3-25,a-b,7,,"));
+    Assert.assertArrayEquals(new boolean[24], IoTDBDescriptor.parseHourRanges(""));
+  }
 }
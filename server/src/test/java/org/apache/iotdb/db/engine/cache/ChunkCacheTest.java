@@ -21,6 +21,8 @@ package org.apache.iotdb.db.engine.cache;
 
 import org.apache.iotdb.commons.exception.MetadataException;
 import org.apache.iotdb.commons.path.PartialPath;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.constant.TestConstant;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResourceStatus;
@@ -38,6 +40,7 @@ import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
 import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
 import org.apache.iotdb.tsfile.read.common.Chunk;
 import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.reader.MappedTsFileInput;
 import org.apache.iotdb.tsfile.write.TsFileWriter;
 import org.apache.iotdb.tsfile.write.record.TSRecord;
 import org.apache.iotdb.tsfile.write.record.datapoint.DataPoint;
@@ -135,6 +138,66 @@ public class ChunkCacheTest {
     reader.close();
   }
 
+  @Test
+  public void testScanAndCompactionAdmission() throws IOException {
+    TsFileResource tsFileResource = seqResources.get(0);
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(tsFileResource.getTsFilePath())) {
+      List<Path> paths = reader.getAllPaths();
+      ChunkMetadata scannedChunk = reader.getChunkMetadataList(paths.get(0)).get(0);
+      scannedChunk.setFilePath(tsFileResource.getTsFilePath());
+      ChunkMetadata compactedChunk = reader.getChunkMetadataList(paths.get(1)).get(0);
+      compactedChunk.setFilePath(tsFileResource.getTsFilePath());
+      chunkCache.clear();
+
+      // chunks read by scans only enter the probationary segment
+      Chunk chunk1 = chunkCache.get(scannedChunk, ChunkCacheHint.SCAN, false);
+      Assert.assertTrue(chunkCache.isInScanSegment(scannedChunk));
+      Assert.assertFalse(chunkCache.isInMainSegment(scannedChunk));
+      Assert.assertEquals(0.0, chunkCache.calculateChunkHitRatio(ChunkCacheHint.SCAN), 0.0);
+
+      // and are promoted when an ordinary query reads them
+      Chunk chunk2 = chunkCache.get(scannedChunk, ChunkCacheHint.QUERY, false);
+      Assert.assertEquals(chunk1.getData(), chunk2.getData());
+      Assert.assertTrue(chunkCache.isInMainSegment(scannedChunk));
+      Assert.assertFalse(chunkCache.isInScanSegment(scannedChunk));
+      Assert.assertEquals(1.0, chunkCache.calculateChunkHitRatio(ChunkCacheHint.QUERY), 0.0);
+
+      // compactions never admit chunks, but use cached ones
+      chunkCache.get(compactedChunk, ChunkCacheHint.COMPACTION, false);
+      Assert.assertFalse(chunkCache.isInMainSegment(compactedChunk));
+      Assert.assertFalse(chunkCache.isInScanSegment(compactedChunk));
+      chunkCache.get(scannedChunk, ChunkCacheHint.COMPACTION, false);
+      Assert.assertEquals(0.5, chunkCache.calculateChunkHitRatio(ChunkCacheHint.COMPACTION), 0.0);
+    }
+  }
+
+  @Test
+  public void testMappedChunksAndFileRemoval() throws IOException {
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    boolean enableMmapRead = config.isEnableMmapRead();
+    config.setEnableMmapRead(true);
+    TsFileResource tsFileResource = seqResources.get(0);
+    long mappedBytes = MappedTsFileInput.getMappedBytes();
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(tsFileResource.getTsFilePath())) {
+      ChunkMetadata chunkMetadata = reader.getChunkMetadataList(reader.getAllPaths().get(0)).get(0);
+      chunkMetadata.setFilePath(tsFileResource.getTsFilePath());
+      chunkCache.clear();
+
+      // cached chunks do not refer to the mapped windows, which are unmapped with the reader
+      Chunk chunk = chunkCache.get(chunkMetadata);
+      Assert.assertFalse(chunk.getData().isDirect());
+      Assert.assertEquals(reader.readMemChunk(chunkMetadata).getData(), chunk.getData());
+      Assert.assertTrue(chunkCache.isInMainSegment(chunkMetadata));
+      Assert.assertTrue(MappedTsFileInput.getMappedBytes() > mappedBytes);
+
+      Assert.assertTrue(tsFileResource.remove());
+      Assert.assertTrue(chunkCache.isEmpty());
+      Assert.assertEquals(mappedBytes, MappedTsFileInput.getMappedBytes());
+    } finally {
+      config.setEnableMmapRead(enableMmapRead);
+    }
+  }
+
   void prepareSeries() throws MetadataException {
     measurementSchemas = new MeasurementSchema[measurementNum];
     for (int i = 0; i < measurementNum; i++) {
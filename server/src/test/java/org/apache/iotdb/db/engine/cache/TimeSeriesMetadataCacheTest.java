@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.cache;
+
+import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.cache.TimeSeriesMetadataCache.TimeSeriesMetadataCacheKey;
+import org.apache.iotdb.db.query.control.FileReaderManager;
+import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.datapoint.LongDataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TimeSeriesMetadataCacheTest {
+
+  private static final int DEVICE_NUM = 2;
+  private static final int MEASUREMENT_NUM = 4;
+  private static final long PT_NUM = 100;
+
+  private final File tsFile = new File(TestConstant.getTestTsFilePath("root.sg1", 0, 0, 1));
+  private final TimeSeriesMetadataCache cache = TimeSeriesMetadataCache.getInstance();
+
+  @Before
+  public void setUp() throws Exception {
+    if (!tsFile.getParentFile().exists()) {
+      Assert.assertTrue(tsFile.getParentFile().mkdirs());
+    }
+    try (TsFileWriter writer = new TsFileWriter(tsFile)) {
+      for (int d = 0; d < DEVICE_NUM; d++) {
+        for (int m = 0; m < MEASUREMENT_NUM; m++) {
+          writer.registerTimeseries(
+              new Path(getDevice(d)), new MeasurementSchema("s" + m, TSDataType.INT64));
+        }
+      }
+      for (long time = 0; time < PT_NUM; time++) {
+        for (int d = 0; d < DEVICE_NUM; d++) {
+          TSRecord record = new TSRecord(time, getDevice(d));
+          for (int m = 0; m < MEASUREMENT_NUM; m++) {
+            record.addTuple(new LongDataPoint("s" + m, time));
+          }
+          writer.write(record);
+        }
+      }
+    }
+    cache.clear();
+  }
+
+  @After
+  public void tearDown() {
+    cache.clear();
+    FileReaderManager.getInstance().closeAndRemoveAllOpenedReaders();
+    tsFile.delete();
+  }
+
+  @Test
+  public void testConcurrentMissReadsOnce() throws Exception {
+    Set<String> allSensors = new HashSet<>();
+    for (int m = 0; m < MEASUREMENT_NUM; m++) {
+      allSensors.add("s" + m);
+    }
+    long readCount = cache.getMetadataReadCount();
+
+    int threadNum = 8;
+    ExecutorService pool = Executors.newFixedThreadPool(threadNum);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<TimeseriesMetadata>> futures = new ArrayList<>();
+      for (int i = 0; i < threadNum; i++) {
+        String measurement = "s" + (i % MEASUREMENT_NUM);
+        futures.add(
+            pool.submit(
+                () -> {
+                  start.await();
+                  return cache.get(
+                      new TimeSeriesMetadataCacheKey(tsFile.getPath(), getDevice(0), measurement),
+                      allSensors,
+                      false,
+                      false);
+                }));
+      }
+      start.countDown();
+      for (int i = 0; i < threadNum; i++) {
+        TimeseriesMetadata metadata = futures.get(i).get();
+        Assert.assertNotNull(metadata);
+        Assert.assertEquals("s" + (i % MEASUREMENT_NUM), metadata.getMeasurementId());
+        Assert.assertEquals(PT_NUM, metadata.getStatistics().getCount());
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    // every miss of the device is served by one read of the file
+    Assert.assertEquals(readCount + 1, cache.getMetadataReadCount());
+  }
+
+  @Test
+  public void testMissLoadsOnlyQueriedSensors() throws Exception {
+    Assert.assertNotNull(
+        cache.get(
+            new TimeSeriesMetadataCacheKey(tsFile.getPath(), getDevice(0), "s0"),
+            new HashSet<>(Arrays.asList("s0", "s1")),
+            false,
+            false));
+    for (int m = 0; m < MEASUREMENT_NUM; m++) {
+      Assert.assertEquals(
+          m < 2,
+          cache.isCached(new TimeSeriesMetadataCacheKey(tsFile.getPath(), getDevice(0), "s" + m)));
+      Assert.assertFalse(
+          cache.isCached(new TimeSeriesMetadataCacheKey(tsFile.getPath(), getDevice(1), "s" + m)));
+    }
+
+    Assert.assertNull(
+        cache.get(
+            new TimeSeriesMetadataCacheKey(tsFile.getPath(), getDevice(0), "nonexistent"),
+            Collections.singleton("nonexistent"),
+            true,
+            false));
+  }
+
+  private static String getDevice(int index) {
+    return "root.sg1.d" + index;
+  }
+}
@@ -18,10 +18,16 @@
  */
 package org.apache.iotdb.db.engine.compaction;
 
+import org.apache.iotdb.commons.path.PartialPath;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.cache.ChunkCache;
+import org.apache.iotdb.db.engine.cache.ChunkCacheHint;
 import org.apache.iotdb.db.engine.compaction.cross.CrossSpaceCompactionTask;
 import org.apache.iotdb.db.engine.compaction.inner.InnerCompactionTest;
 import org.apache.iotdb.db.engine.compaction.inner.InnerSpaceCompactionTask;
+import org.apache.iotdb.db.engine.compaction.inner.utils.SingleSeriesCompactionExecutor;
 import org.apache.iotdb.db.engine.compaction.performer.impl.ReadChunkCompactionPerformer;
 import org.apache.iotdb.db.engine.compaction.performer.impl.ReadPointCompactionPerformer;
 import org.apache.iotdb.db.engine.compaction.task.AbstractCompactionTask;
@@ -29,7 +35,14 @@ import org.apache.iotdb.db.engine.compaction.task.CompactionTaskSummary;
 import org.apache.iotdb.db.engine.storagegroup.TsFileManager;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.exception.StorageEngineException;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.utils.Pair;
+import org.apache.iotdb.tsfile.write.writer.TsFileIOWriter;
 
+import com.google.common.util.concurrent.RateLimiter;
 import org.apache.commons.io.FileUtils;
 import org.junit.After;
 import org.junit.Assert;
@@ -40,8 +53,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class CompactionTaskManagerTest extends InnerCompactionTest {
@@ -325,4 +341,169 @@ public class CompactionTaskManagerTest extends InnerCompactionTest {
       Assert.assertFalse(resource.isCompactionCandidate());
     }
   }
+
+  @Test
+  public void testAllowedRunningTaskNum() {
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    int threadNum = config.getConcurrentCompactionThread();
+    boolean[] busyHours = config.getCompactionBusyHours();
+    double busyHoursRatio = config.getCompactionBusyHoursRatio();
+    boolean adaptive = config.isEnableAdaptiveCompactionThread();
+    try {
+      config.setConcurrentCompactionThread(8);
+      boolean[] newBusyHours = new boolean[24];
+      Arrays.fill(newBusyHours, 8, 12, true);
+      config.setCompactionBusyHours(newBusyHours);
+      config.setCompactionBusyHoursRatio(0.5);
+      config.setEnableAdaptiveCompactionThread(true);
+      CompactionTaskManager manager = CompactionTaskManager.getInstance();
+      Assert.assertEquals(8, manager.getAllowedRunningTaskNum(7, false, 0));
+      Assert.assertEquals(4, manager.getAllowedRunningTaskNum(8, false, 0));
+      Assert.assertEquals(8, manager.getAllowedRunningTaskNum(12, false, 0));
+      // queries are busy, compaction gives way
+      Assert.assertEquals(4, manager.getAllowedRunningTaskNum(7, true, 0));
+      Assert.assertEquals(2, manager.getAllowedRunningTaskNum(8, true, 0));
+      // unless the compaction backlog is too large
+      Assert.assertEquals(8, manager.getAllowedRunningTaskNum(7, true, 8));
+    } finally {
+      config.setConcurrentCompactionThread(threadNum);
+      config.setCompactionBusyHours(busyHours);
+      config.setCompactionBusyHoursRatio(busyHoursRatio);
+      config.setEnableAdaptiveCompactionThread(adaptive);
+    }
+  }
+
+  @Test
+  public void testTaskQuotaPerRegion() throws Exception {
+    TsFileManager tsFileManager =
+        new TsFileManager("root.compactionTest", "0", tempSGDir.getAbsolutePath());
+    tsFileManager.addAll(seqResources, true);
+    List<TsFileResource> sourceFiles1 = seqResources.subList(0, 3);
+    List<TsFileResource> sourceFiles2 = seqResources.subList(3, 6);
+    InnerSpaceCompactionTask task1 =
+        new InnerSpaceCompactionTask(
+            0,
+            tsFileManager,
+            sourceFiles1,
+            true,
+            new ReadChunkCompactionPerformer(sourceFiles1),
+            new AtomicInteger(0),
+            0);
+    InnerSpaceCompactionTask task2 =
+        new InnerSpaceCompactionTask(
+            0,
+            tsFileManager,
+            sourceFiles2,
+            true,
+            new ReadChunkCompactionPerformer(sourceFiles2),
+            new AtomicInteger(0),
+            0);
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    CompactionTaskManager manager = CompactionTaskManager.getInstance();
+    config.setMaxCompactionTaskNumPerRegion(1);
+    Future<CompactionTaskSummary> summaryFuture;
+    seqResources.get(0).readLock();
+    try {
+      Assert.assertTrue(manager.hasTaskQuota("root.compactionTest", "0"));
+      Assert.assertTrue(manager.addTaskToWaitingQueue(task1));
+      // task1 keeps running while the read lock is held
+      summaryFuture = manager.getCompactionTaskFutureMayBlock(task1);
+      Assert.assertFalse(manager.hasTaskQuota("root.compactionTest", "0"));
+      Assert.assertTrue(manager.hasTaskQuota("root.compactionTest", "1"));
+      Assert.assertFalse(manager.addTaskToWaitingQueue(task2));
+      for (TsFileResource resource : sourceFiles2) {
+        Assert.assertFalse(resource.isCompactionCandidate());
+      }
+      // 0 means no limit
+      config.setMaxCompactionTaskNumPerRegion(0);
+      Assert.assertTrue(manager.hasTaskQuota("root.compactionTest", "0"));
+      config.setMaxCompactionTaskNumPerRegion(1);
+    } finally {
+      seqResources.get(0).readUnlock();
+    }
+    summaryFuture.get();
+    Assert.assertTrue(manager.hasTaskQuota("root.compactionTest", "0"));
+  }
+
+  @Test
+  public void testChunkCacheChargesReadLimiterOnMiss() throws Exception {
+    String filePath = seqResources.get(0).getTsFilePath();
+    ChunkCache chunkCache = ChunkCache.getInstance();
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(filePath)) {
+      Path path = new Path(deviceIds[0], measurementSchemas[0].getMeasurementId());
+      ChunkMetadata chunkMetadata = reader.getChunkMetadataList(path).get(0);
+      chunkMetadata.setFilePath(filePath);
+      Chunk chunk = reader.readMemChunk(chunkMetadata);
+      long chunkSize = chunk.getHeader().getSerializedSize() + chunk.getHeader().getDataSize();
+      chunkCache.clear();
+
+      RateLimiter limiter = throttleCompactionRead(chunkSize);
+      try {
+        // neither queries nor compaction reads hitting the cache are charged
+        chunkCache.get(chunkMetadata, ChunkCacheHint.QUERY, false);
+        Assert.assertTrue(limiter.tryAcquire(1, 50, TimeUnit.MILLISECONDS));
+        chunkCache.get(chunkMetadata, ChunkCacheHint.COMPACTION, false);
+        Assert.assertTrue(limiter.tryAcquire(1, 50, TimeUnit.MILLISECONDS));
+
+        chunkCache.clear();
+        chunkCache.get(chunkMetadata, ChunkCacheHint.COMPACTION, false);
+        Assert.assertFalse(limiter.tryAcquire(1, 50, TimeUnit.MILLISECONDS));
+      } finally {
+        // pay off the debt before other tests use the limiter
+        limiter.acquire();
+      }
+    }
+  }
+
+  @Test
+  public void testSingleSeriesCompactionChargesReadLimiter() throws Exception {
+    PartialPath series = new PartialPath(deviceIds[0], measurementSchemas[0].getMeasurementId());
+    String filePath = seqResources.get(0).getTsFilePath();
+    File targetFile = new File(tempSGDir, "0-0-1-0.tsfile");
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(filePath);
+        TsFileIOWriter writer = new TsFileIOWriter(targetFile)) {
+      List<ChunkMetadata> chunkMetadataList =
+          reader.getChunkMetadataList(new Path(series.getDevice(), series.getMeasurement()));
+      long readBytes = 0;
+      for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+        Chunk chunk = reader.readMemChunk(chunkMetadata);
+        readBytes += chunk.getHeader().getSerializedSize() + chunk.getHeader().getDataSize();
+      }
+      LinkedList<Pair<TsFileSequenceReader, List<ChunkMetadata>>> readerAndChunkMetadataList =
+          new LinkedList<>();
+      readerAndChunkMetadataList.add(new Pair<>(reader, chunkMetadataList));
+
+      RateLimiter limiter = throttleCompactionRead(readBytes);
+      try {
+        writer.startChunkGroup(series.getDevice());
+        new SingleSeriesCompactionExecutor(
+                series, readerAndChunkMetadataList, writer, new TsFileResource(targetFile))
+            .execute();
+        writer.endChunkGroup();
+        Assert.assertFalse(limiter.tryAcquire(1, 50, TimeUnit.MILLISECONDS));
+      } finally {
+        // pay off the debt before other tests use the limiter
+        limiter.acquire();
+      }
+    }
+  }
+
+  /**
+   * Throttle compaction reads so that charging the given bytes takes 200ms to pay off, and drain
+   * the stored permits of the read limiter, so that it is in debt right after being charged.
+   */
+  private RateLimiter throttleCompactionRead(long bytes) {
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    boolean[] busyHours = new boolean[24];
+    Arrays.fill(busyHours, true);
+    config.setCompactionBusyHours(busyHours);
+    config.setCompactionBusyHoursRatio(bytes * 5.0 / 1024 / 1024);
+    config.setCompactionReadThroughputMbPerSec(1);
+    RateLimiter limiter = CompactionTaskManager.getInstance().getMergeReadRateLimiter();
+    while (limiter.tryAcquire()) {
+      // consume the permits stored while the limiter was idle
+    }
+    limiter.acquire();
+    return limiter;
+  }
 }
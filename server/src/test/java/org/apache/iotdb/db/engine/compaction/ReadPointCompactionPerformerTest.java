@@ -56,6 +56,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -1827,6 +1828,88 @@ public class ReadPointCompactionPerformerTest extends AbstractCompactionTest {
     assertEquals(500, count);
   }
 
+  /**
+   * Total 5 seq files and 5 unseq files, each file has the same nonAligned timeseries, and the
+   * devices are compacted in several device ranges.
+   *
+   * <p>Seq files has d0 ~ d3 and s0 ~ s2, time range is 0 ~ 99, 100 ~ 199, 200 ~ 299, 300 ~ 399
+   * and 400 ~ 499, value range is 0 ~ 99, 100 ~ 199, 200 ~ 299, 300 ~ 399 and 400 ~ 499.
+   *
+   * <p>UnSeq files has d0 ~ d3 and s0 ~ s2, time range is 0 ~ 49, 100 ~ 149, 200 ~ 249, 300 ~ 349
+   * and 400 ~ 449, value range is 10000 ~ 10049, 10100 ~ 10149, 10200 ~ 10249, 10300 ~ 10349 and
+   * 10400 ~ 10449.
+   */
+  @Test
+  public void testCrossSpaceCompactionByDeviceRange()
+      throws IOException, WriteProcessException, MetadataException, StorageEngineException,
+          InterruptedException {
+    int oldMinDeviceNumPerRange =
+        IoTDBDescriptor.getInstance().getConfig().getMinDeviceNumPerSubCompactionRange();
+    IoTDBDescriptor.getInstance().getConfig().setMinDeviceNumPerSubCompactionRange(1);
+    try {
+      registerTimeseriesInMManger(4, 3, false);
+      createFiles(5, 4, 3, 100, 0, 0, 0, 0, false, true);
+      createFiles(5, 4, 3, 50, 0, 10000, 50, 50, false, false);
+
+      List<TsFileResource> targetResources =
+          CompactionFileGeneratorUtils.getCrossCompactionTargetTsFileResources(seqResources);
+      ICompactionPerformer performer =
+          new ReadPointCompactionPerformer(seqResources, unseqResources, targetResources);
+      performer.setSummary(new CompactionTaskSummary());
+      performer.perform();
+      CompactionUtils.moveTargetFile(targetResources, false, COMPACTION_TEST_SG);
+
+      // temporary files of the device ranges are deleted
+      for (TsFileResource targetResource : targetResources) {
+        File[] rangeFiles =
+            targetResource
+                .getTsFile()
+                .getParentFile()
+                .listFiles((dir, name) -> name.contains(".range"));
+        assertEquals(0, rangeFiles == null ? 0 : rangeFiles.length);
+      }
+
+      for (int i = 0; i < 4; i++) {
+        for (int j = 0; j < 3; j++) {
+          PartialPath path =
+              new MeasurementPath(
+                  COMPACTION_TEST_SG + PATH_SEPARATOR + "d" + i,
+                  "s" + j,
+                  new MeasurementSchema("s" + j, TSDataType.INT64));
+          IDataBlockReader tsBlockReader =
+              new SeriesDataBlockReader(
+                  path,
+                  TSDataType.INT64,
+                  FragmentInstanceContext.createFragmentInstanceContextForCompaction(
+                      EnvironmentUtils.TEST_QUERY_CONTEXT.getQueryId()),
+                  targetResources,
+                  new ArrayList<>(),
+                  true);
+          int count = 0;
+          while (tsBlockReader.hasNextBatch()) {
+            TsBlock block = tsBlockReader.nextBatch();
+            IBatchDataIterator iterator = block.getTsBlockSingleColumnIterator();
+            while (iterator.hasNext()) {
+              if (iterator.currentTime() % 100 < 50) {
+                assertEquals(iterator.currentTime() + 10000, iterator.currentValue());
+              } else {
+                assertEquals(iterator.currentTime(), iterator.currentValue());
+              }
+              count++;
+              iterator.next();
+            }
+          }
+          tsBlockReader.close();
+          assertEquals(500, count);
+        }
+      }
+    } finally {
+      IoTDBDescriptor.getInstance()
+          .getConfig()
+          .setMinDeviceNumPerSubCompactionRange(oldMinDeviceNumPerRange);
+    }
+  }
+
   /**
    * Total 4 seq files and 5 unseq files, each file has different nonAligned timeseries.
    *
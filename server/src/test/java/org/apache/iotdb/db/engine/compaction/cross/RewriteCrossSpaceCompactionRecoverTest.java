@@ -44,6 +44,7 @@ import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -131,6 +132,52 @@ public class RewriteCrossSpaceCompactionRecoverTest extends AbstractCompactionTe
     }
   }
 
+  @Test
+  public void testRecoverWithDeviceRangeFiles() throws Exception {
+    registerTimeseriesInMManger(2, 3, false);
+    createFiles(2, 2, 3, 100, 0, 0, 0, 0, false, true);
+    createFiles(2, 2, 3, 50, 0, 10000, 50, 50, false, false);
+    TsFileManager tsFileManager = new TsFileManager(COMPACTION_TEST_SG, "0", SEQ_DIRS.getPath());
+    tsFileManager.addAll(seqResources, true);
+    tsFileManager.addAll(unseqResources, false);
+
+    List<TsFileResource> targetResources =
+        CompactionFileGeneratorUtils.getCrossCompactionTargetTsFileResources(seqResources);
+    File compactionLogFile =
+        new File(
+            SEQ_DIRS,
+            targetResources.get(0).getTsFile().getName()
+                + CompactionLogger.CROSS_COMPACTION_LOG_NAME_SUFFIX);
+    CompactionLogger compactionLogger = new CompactionLogger(compactionLogFile);
+    compactionLogger.logFiles(targetResources, STR_TARGET_FILES);
+    compactionLogger.logFiles(seqResources, STR_SOURCE_FILES);
+    compactionLogger.logFiles(unseqResources, STR_SOURCE_FILES);
+    compactionLogger.close();
+    // the compaction crashes while the device ranges are written into temporary files
+    List<File> rangeFiles = new ArrayList<>();
+    for (TsFileResource resource : targetResources) {
+      for (int i = 1; i < 3; i++) {
+        File rangeFile =
+            new File(
+                resource.getTsFilePath() + IoTDBConstant.CROSS_COMPACTION_RANGE_FILE_SUFFIX + i);
+        Assert.assertTrue(rangeFile.createNewFile());
+        rangeFiles.add(rangeFile);
+      }
+    }
+    new CompactionRecoverTask(COMPACTION_TEST_SG, "0", tsFileManager, compactionLogFile, false)
+        .doCompaction();
+    for (File rangeFile : rangeFiles) {
+      Assert.assertFalse(rangeFile.exists());
+    }
+    for (TsFileResource resource : seqResources) {
+      Assert.assertTrue(resource.getTsFile().exists());
+    }
+    for (TsFileResource resource : unseqResources) {
+      Assert.assertTrue(resource.getTsFile().exists());
+    }
+    Assert.assertFalse(compactionLogFile.exists());
+  }
+
   @Test
   public void testRecoverWithAllSourceFilesExistedAndSomeTargetFilesNotExist() throws Exception {
     registerTimeseriesInMManger(4, 5, false);
@@ -351,7 +351,9 @@ public class ReadChunkCompactionPerformerNoAlignedTest {
     try {
       List<TsFileResource> sourceFiles = new ArrayList();
       int fileNum = 6;
-      long pointStep = 10L;
+      // the small chunks make up a page smaller than the lower bound, so the page of the large
+      // chunk is not copied but deserialized
+      long pointStep = 5L;
       long[] points = new long[fileNum];
       for (int i = 0; i < fileNum - 1; ++i) {
         List<List<Long>> chunkPagePointsNum = new ArrayList<>();
@@ -420,6 +422,104 @@ public class ReadChunkCompactionPerformerNoAlignedTest {
     }
   }
 
+  /**
+   * Generate some small data that are less than lower bound, and a chunk larger than target size.
+   * The page of the large chunk will be copied into the chunk writer without deserialization.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testLargeChunkCopyPage() throws Exception {
+    long testTargetChunkPointNum = 2000L;
+    long testChunkSizeLowerBound = 1024L;
+    long testChunkPointNumLowerBound = 100L;
+    long originTargetChunkSize = IoTDBDescriptor.getInstance().getConfig().getTargetChunkSize();
+    long originTargetChunkPointNum =
+        IoTDBDescriptor.getInstance().getConfig().getTargetChunkPointNum();
+    IoTDBDescriptor.getInstance().getConfig().setTargetChunkSize(1024 * 1024);
+    IoTDBDescriptor.getInstance().getConfig().setTargetChunkPointNum(testTargetChunkPointNum);
+    long originChunkSizeLowerBound =
+        IoTDBDescriptor.getInstance().getConfig().getChunkSizeLowerBoundInCompaction();
+    IoTDBDescriptor.getInstance()
+        .getConfig()
+        .setChunkSizeLowerBoundInCompaction(testChunkSizeLowerBound);
+    long originChunkPointNumLowerBound =
+        IoTDBDescriptor.getInstance().getConfig().getChunkPointNumLowerBoundInCompaction();
+    IoTDBDescriptor.getInstance()
+        .getConfig()
+        .setChunkPointNumLowerBoundInCompaction(testChunkPointNumLowerBound);
+    try {
+      List<TsFileResource> sourceFiles = new ArrayList();
+      int fileNum = 6;
+      long pointStep = 10L;
+      long[] points = new long[fileNum];
+      for (int i = 0; i < fileNum - 1; ++i) {
+        List<List<Long>> chunkPagePointsNum = new ArrayList<>();
+        List<Long> pagePointsNum = new ArrayList<>();
+        pagePointsNum.add((i + 1) * pointStep);
+        points[i] = (i + 1) * pointStep;
+        chunkPagePointsNum.add(pagePointsNum);
+        TsFileResource resource =
+            new TsFileResource(new File(SEQ_DIRS, String.format("%d-%d-0-0.tsfile", i + 1, i + 1)));
+        sourceFiles.add(resource);
+        CompactionFileGeneratorUtils.writeTsFile(
+            fullPathSet, chunkPagePointsNum, i * 1500L, resource);
+      }
+      List<List<Long>> chunkPagePointsNum = new ArrayList<>();
+      List<Long> pagePointsNum = new ArrayList<>();
+      pagePointsNum.add(testTargetChunkPointNum + 100L);
+      points[fileNum - 1] = testTargetChunkPointNum + 100L;
+      chunkPagePointsNum.add(pagePointsNum);
+      TsFileResource resource =
+          new TsFileResource(
+              new File(SEQ_DIRS, String.format("%d-%d-0-0.tsfile", fileNum, fileNum)));
+      sourceFiles.add(resource);
+      CompactionFileGeneratorUtils.writeTsFile(
+          fullPathSet, chunkPagePointsNum, fileNum * testTargetChunkPointNum, resource);
+
+      Map<PartialPath, List<TimeValuePair>> originData =
+          CompactionCheckerUtils.getDataByQuery(paths, schemaList, sourceFiles, new ArrayList<>());
+      TsFileNameGenerator.TsFileName tsFileName =
+          TsFileNameGenerator.getTsFileName(sourceFiles.get(0).getTsFile().getName());
+      TsFileResource targetResource =
+          new TsFileResource(
+              new File(
+                  SEQ_DIRS,
+                  String.format(
+                      "%d-%d-%d-%d.tsfile",
+                      tsFileName.getTime(),
+                      tsFileName.getVersion(),
+                      tsFileName.getInnerCompactionCnt() + 1,
+                      tsFileName.getCrossCompactionCnt())));
+      ICompactionPerformer performer =
+          new ReadChunkCompactionPerformer(sourceFiles, targetResource);
+      performer.setSummary(new CompactionTaskSummary());
+      performer.perform();
+      Map<String, List<List<Long>>> chunkPagePointsNumMerged = new HashMap<>();
+      // outer list is a chunk, inner list is point num in each page
+      for (String path : fullPathSet) {
+        CompactionCheckerUtils.putChunk(
+            chunkPagePointsNumMerged,
+            path,
+            new long[] {(fileNum - 1) * fileNum * pointStep / 2, testTargetChunkPointNum + 100L});
+      }
+      Map<PartialPath, List<TimeValuePair>> compactedData =
+          CompactionCheckerUtils.getDataByQuery(
+              paths, schemaList, Collections.singletonList(targetResource), new ArrayList<>());
+      CompactionCheckerUtils.validDataByValueList(originData, compactedData);
+      CompactionCheckerUtils.checkChunkAndPage(chunkPagePointsNumMerged, targetResource);
+    } finally {
+      IoTDBDescriptor.getInstance().getConfig().setTargetChunkSize(originTargetChunkSize);
+      IoTDBDescriptor.getInstance().getConfig().setTargetChunkPointNum(originTargetChunkPointNum);
+      IoTDBDescriptor.getInstance()
+          .getConfig()
+          .setChunkSizeLowerBoundInCompaction(originChunkSizeLowerBound);
+      IoTDBDescriptor.getInstance()
+          .getConfig()
+          .setChunkPointNumLowerBoundInCompaction(originChunkPointNumLowerBound);
+    }
+  }
+
   /**
    * Generate files that chunk are smaller than target chunk point num but greater than lower bound,
    * and the chunk will be merged.
@@ -544,7 +644,9 @@ public class ReadChunkCompactionPerformerNoAlignedTest {
     try {
       List<TsFileResource> sourceFiles = new ArrayList();
       int fileNum = 6;
-      long pointStep = 10L;
+      // the small chunks make up a page smaller than the lower bound, so the page of the middle
+      // chunk is not copied but deserialized
+      long pointStep = 5L;
       long[] points = new long[fileNum];
       for (int i = 0; i < fileNum - 1; ++i) {
         List<List<Long>> chunkPagePointsNum = new ArrayList<>();
@@ -697,7 +799,7 @@ public class ReadChunkCompactionPerformerNoAlignedTest {
   /**
    * Generate some chunks are less than the target size and greater than the lower bound, and some
    * chunks that are less than the lower bound. So the chunk will be merged first, and the cached
-   * chunk will be deserialized into points later.
+   * chunk will be written into the chunk writer later. Its pages are large enough to be copied.
    *
    * @throws Exception
    */
@@ -757,10 +859,10 @@ public class ReadChunkCompactionPerformerNoAlignedTest {
       performer.perform();
       Map<String, List<List<Long>>> chunkPagePointsNumMerged = new HashMap<>();
       // outer list is a chunk, inner list is point num in each page
-      List<List<Long>> chunkPointsArray = new ArrayList<>();
+      // the pages of the cached chunk are copied, the last small chunk is deserialized
       for (String path : fullPathSet) {
-        CompactionCheckerUtils.putOnePageChunk(
-            chunkPagePointsNumMerged, path, fileNum * (fileNum + 1) * pointStep / 2);
+        CompactionCheckerUtils.putChunk(
+            chunkPagePointsNumMerged, path, new long[] {300, 250, 200, 150, 100, 50});
       }
       CompactionCheckerUtils.checkChunkAndPage(chunkPagePointsNumMerged, targetResource);
       Map<PartialPath, List<TimeValuePair>> compactedData =
@@ -837,8 +939,9 @@ public class ReadChunkCompactionPerformerNoAlignedTest {
       Map<String, List<List<Long>>> chunkPagePointsNumMerged = new HashMap<>();
       // outer list is a chunk, inner list is point num in each page
       for (String path : fullPathSet) {
-        CompactionCheckerUtils.putOnePageChunk(chunkPagePointsNumMerged, path, 2750);
-        CompactionCheckerUtils.putOnePageChunk(chunkPagePointsNumMerged, path, 2950);
+        CompactionCheckerUtils.putChunk(
+            chunkPagePointsNumMerged, path, new long[] {100, 200, 300, 2150});
+        CompactionCheckerUtils.putChunk(chunkPagePointsNumMerged, path, new long[] {650, 2300});
         CompactionCheckerUtils.putOnePageChunk(chunkPagePointsNumMerged, path, 2500);
         CompactionCheckerUtils.putChunk(
             chunkPagePointsNumMerged, path, new long[] {1000, 500, 500});
@@ -918,8 +1021,8 @@ public class ReadChunkCompactionPerformerNoAlignedTest {
       Map<String, List<List<Long>>> chunkPagePointsNumMerged = new HashMap<>();
       // outer list is a chunk, inner list is point num in each page
       for (String path : fullPathSet) {
-        CompactionCheckerUtils.putOnePageChunk(chunkPagePointsNumMerged, path, 2010);
-        CompactionCheckerUtils.putOnePageChunk(chunkPagePointsNumMerged, path, 2010);
+        CompactionCheckerUtils.putChunk(chunkPagePointsNumMerged, path, new long[] {1960, 50});
+        CompactionCheckerUtils.putChunk(chunkPagePointsNumMerged, path, new long[] {1960, 50});
         CompactionCheckerUtils.putOnePageChunk(chunkPagePointsNumMerged, path, 2100);
         CompactionCheckerUtils.putOnePageChunk(chunkPagePointsNumMerged, path, 2010);
         CompactionCheckerUtils.putOnePageChunk(chunkPagePointsNumMerged, path, 2300);
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction.inner.leveled;
+
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.storagegroup.FakedTsFileResource;
+import org.apache.iotdb.db.engine.storagegroup.TsFileManager;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LeveledCompactionSelectorTest {
+  private final IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+  private long originTargetCompactionFileSize;
+  private int originSizeRatio;
+  private int originMaxLevel;
+
+  @Before
+  public void setUp() {
+    originTargetCompactionFileSize = config.getTargetCompactionFileSize();
+    originSizeRatio = config.getLeveledCompactionSizeRatio();
+    originMaxLevel = config.getLeveledCompactionMaxLevel();
+    // the target file size of level 1 is 400 and that of level 2 is 1600
+    config.setTargetCompactionFileSize(1600);
+    config.setLeveledCompactionSizeRatio(4);
+    config.setLeveledCompactionMaxLevel(2);
+  }
+
+  @After
+  public void tearDown() {
+    config.setTargetCompactionFileSize(originTargetCompactionFileSize);
+    config.setLeveledCompactionSizeRatio(originSizeRatio);
+    config.setLeveledCompactionMaxLevel(originMaxLevel);
+  }
+
+  @Test
+  public void testMergeIntoNextLevelFile() {
+    List<TsFileResource> resources = new ArrayList<>();
+    // a level 1 file followed by 4 level 0 files
+    resources.add(new FakedTsFileResource(200, "1-1-1-0.tsfile"));
+    for (int i = 2; i <= 5; i++) {
+      resources.add(new FakedTsFileResource(50, String.format("%d-%d-0-0.tsfile", i, i)));
+    }
+    List<List<TsFileResource>> tasks = select(resources);
+    Assert.assertEquals(1, tasks.size());
+    Assert.assertEquals(resources, tasks.get(0));
+  }
+
+  @Test
+  public void testNotMergeIntoFullFile() {
+    List<TsFileResource> resources = new ArrayList<>();
+    // a level 2 file is never merged with level 0 files
+    resources.add(new FakedTsFileResource(500, "1-1-1-0.tsfile"));
+    for (int i = 2; i <= 5; i++) {
+      resources.add(new FakedTsFileResource(50, String.format("%d-%d-0-0.tsfile", i, i)));
+    }
+    List<List<TsFileResource>> tasks = select(resources);
+    Assert.assertEquals(1, tasks.size());
+    Assert.assertEquals(resources.subList(1, 5), tasks.get(0));
+  }
+
+  @Test
+  public void testSubmitWhenReachNextLevelSize() {
+    List<TsFileResource> resources = new ArrayList<>();
+    resources.add(new FakedTsFileResource(200, "1-1-1-0.tsfile"));
+    resources.add(new FakedTsFileResource(50, "2-2-0-0.tsfile"));
+    resources.add(new FakedTsFileResource(50, "3-3-0-0.tsfile"));
+    // neither the file num nor the file size reaches the threshold
+    Assert.assertTrue(select(resources).isEmpty());
+
+    resources.add(new FakedTsFileResource(150, "4-4-0-0.tsfile"));
+    List<List<TsFileResource>> tasks = select(resources);
+    Assert.assertEquals(1, tasks.size());
+    Assert.assertEquals(resources, tasks.get(0));
+  }
+
+  private List<List<TsFileResource>> select(List<TsFileResource> resources) {
+    TsFileManager manager = new TsFileManager("root.test", "0", "");
+    manager.addAll(resources, true);
+    return new LeveledCompactionSelector("root.test", "0", 0, manager)
+        .selectInnerSpaceTask(manager.getSequenceListByTimePartition(0));
+  }
+}
@@ -44,6 +44,10 @@ public class CompactionConfigRestorer {
   private long compactionScheduleIntervalInMs = 60000L;
   private long compactionSubmissionIntervalInMs = 60000L;
   private int compactionWriteThroughputMbPerSec = 8;
+  private int compactionReadThroughputMbPerSec = 0;
+  private double compactionBusyHoursRatio = 0.5;
+  private boolean enableAdaptiveCompactionThread = false;
+  private int maxCompactionTaskNumPerRegion = 0;
 
   public CompactionConfigRestorer() {}
 
@@ -66,5 +70,10 @@ public class CompactionConfigRestorer {
     config.setCompactionScheduleIntervalInMs(compactionScheduleIntervalInMs);
     config.setCompactionSubmissionIntervalInMs(compactionSubmissionIntervalInMs);
     config.setCompactionWriteThroughputMbPerSec(compactionWriteThroughputMbPerSec);
+    config.setCompactionReadThroughputMbPerSec(compactionReadThroughputMbPerSec);
+    config.setCompactionBusyHours(new boolean[24]);
+    config.setCompactionBusyHoursRatio(compactionBusyHoursRatio);
+    config.setEnableAdaptiveCompactionThread(enableAdaptiveCompactionThread);
+    config.setMaxCompactionTaskNumPerRegion(maxCompactionTaskNumPerRegion);
   }
 }
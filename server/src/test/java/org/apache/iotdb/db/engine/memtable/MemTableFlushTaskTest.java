@@ -19,13 +19,25 @@
 package org.apache.iotdb.db.engine.memtable;
 
 import org.apache.iotdb.commons.exception.IllegalPathException;
+import org.apache.iotdb.commons.path.PartialPath;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.constant.TestConstant;
 import org.apache.iotdb.db.engine.MetadataManagerHelper;
+import org.apache.iotdb.db.engine.flush.EncodingSelectionPolicy;
 import org.apache.iotdb.db.engine.flush.MemTableFlushTask;
+import org.apache.iotdb.db.metadata.idtable.entry.DeviceIDFactory;
+import org.apache.iotdb.db.utils.EncodingInferenceUtils;
 import org.apache.iotdb.db.utils.EnvironmentUtils;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.read.reader.chunk.ChunkReader;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
 import org.apache.iotdb.tsfile.write.writer.RestorableTsFileIOWriter;
 
 import org.junit.After;
@@ -33,6 +45,8 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import static org.junit.Assert.assertEquals;
@@ -105,6 +119,103 @@ public class MemTableFlushTaskTest {
     assertEquals(endTime - startTime + 1, chunkMetaData.getNumOfPoints());
   }
 
+  @Test
+  public void testFlushWithParallelEncoding()
+      throws ExecutionException, InterruptedException, IllegalPathException {
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    int threadCount = config.getFlushEncodingThreadCount();
+    config.setFlushEncodingThreadCount(4);
+    try {
+      for (int device = 0; device < 5; device++) {
+        for (int measurement = 0; measurement < 20; measurement++) {
+          MemTableTestUtils.produceData(
+              memTable, startTime, endTime, "d" + device, "s" + measurement, TSDataType.INT32);
+        }
+      }
+      new MemTableFlushTask(memTable, writer, storageGroup).syncFlushMemTable();
+    } finally {
+      config.setFlushEncodingThreadCount(threadCount);
+    }
+    writer.makeMetadataVisible();
+    for (int device = 0; device < 5; device++) {
+      for (int measurement = 0; measurement < 20; measurement++) {
+        List<ChunkMetadata> chunkMetadataList =
+            writer.getVisibleMetadataList("d" + device, "s" + measurement, TSDataType.INT32);
+        assertEquals(1, chunkMetadataList.size());
+        assertEquals("s" + measurement, chunkMetadataList.get(0).getMeasurementUid());
+        assertEquals(startTime, chunkMetadataList.get(0).getStartTime());
+        assertEquals(endTime, chunkMetadataList.get(0).getEndTime());
+        assertEquals(endTime - startTime + 1, chunkMetadataList.get(0).getNumOfPoints());
+      }
+    }
+  }
+
+  @Test
+  public void testFlushWithEncodingSelection()
+      throws ExecutionException, InterruptedException, IllegalPathException, IOException {
+    // evenly increasing values are smallest with TS_2DIFF
+    assertEquals(
+        TSEncoding.TS_2DIFF, flushWithEncodingSelection("root.sg.d0", new String[] {"root.sg"}));
+  }
+
+  @Test
+  public void testFlushWithEncodingSelectionOfOtherDatabases()
+      throws ExecutionException, InterruptedException, IllegalPathException, IOException {
+    assertEquals(
+        EncodingInferenceUtils.getDefaultEncoding(TSDataType.INT64),
+        flushWithEncodingSelection("root.sg1.d0", new String[] {"root.sg"}));
+  }
+
+  /** @return encoding of the flushed chunk */
+  private TSEncoding flushWithEncodingSelection(String deviceId, String[] databases)
+      throws ExecutionException, InterruptedException, IllegalPathException, IOException {
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    EncodingSelectionPolicy policy = config.getEncodingSelectionPolicy();
+    String[] prevDatabases = config.getEncodingSelectionDatabases();
+    config.setEncodingSelectionPolicy(EncodingSelectionPolicy.SIZE);
+    config.setEncodingSelectionDatabases(databases);
+    try {
+      for (long l = startTime; l <= endTime; l++) {
+        memTable.write(
+            DeviceIDFactory.getInstance().getDeviceID(new PartialPath(deviceId)),
+            Collections.singletonList(
+                new MeasurementSchema(
+                    MemTableTestUtils.measurementId0,
+                    TSDataType.INT64,
+                    EncodingInferenceUtils.getDefaultEncoding(TSDataType.INT64))),
+            l,
+            new Object[] {l * 1000});
+      }
+      new MemTableFlushTask(memTable, writer, storageGroup).syncFlushMemTable();
+    } finally {
+      config.setEncodingSelectionPolicy(policy);
+      config.setEncodingSelectionDatabases(prevDatabases);
+    }
+    writer.makeMetadataVisible();
+    ChunkMetadata chunkMetaData =
+        writer
+            .getVisibleMetadataList(deviceId, MemTableTestUtils.measurementId0, TSDataType.INT64)
+            .get(0);
+    writer.endFile();
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(filePath)) {
+      Chunk chunk = reader.readMemChunk(chunkMetaData);
+      ChunkReader chunkReader = new ChunkReader(chunk, null);
+      long expected = startTime;
+      while (chunkReader.hasNextSatisfiedPage()) {
+        BatchData batchData = chunkReader.nextPageData();
+        while (batchData.hasCurrent()) {
+          assertEquals(expected, batchData.currentTime());
+          assertEquals(expected * 1000, batchData.getLong());
+          expected++;
+          batchData.next();
+        }
+      }
+      assertEquals(endTime + 1, expected);
+      return chunk.getHeader().getEncodingType();
+    }
+  }
+
   @Test
   public void testFlushVectorMemTable()
       throws ExecutionException, InterruptedException, IllegalPathException, IOException {
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.rollup;
+
+import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.memtable.WritableMemChunk;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RollupWriterTest {
+
+  private final File tsFile = new File(TestConstant.BASE_OUTPUT_PATH.concat("rollup.tsfile"));
+
+  @After
+  public void tearDown() {
+    RollupFile.getRollupFile(tsFile).delete();
+  }
+
+  @Test
+  public void testCollectAndRead() throws IOException {
+    RollupWriter rollupWriter = new RollupWriter(new long[] {100, 10});
+    WritableMemChunk memChunk =
+        new WritableMemChunk(new MeasurementSchema("s1", TSDataType.INT64, TSEncoding.PLAIN));
+    for (long time = 0; time < 250; time++) {
+      memChunk.putLong(time, time);
+    }
+    // duplicated timestamp, only the last one is flushed
+    memChunk.putLong(5, 1000);
+    memChunk.sortTvListForFlush();
+    rollupWriter.collect("root.sg.d1", memChunk);
+    // 3 buckets of 100 and 25 buckets of 10
+    long ramSize = rollupWriter.getRamSize();
+    assertEquals(0, ramSize % 28);
+    assertTrue(ramSize > 0);
+
+    // lossy encoded series are skipped
+    WritableMemChunk sdtMemChunk =
+        new WritableMemChunk(
+            new MeasurementSchema(
+                "s2",
+                TSDataType.INT64,
+                TSEncoding.PLAIN,
+                CompressionType.UNCOMPRESSED,
+                Collections.singletonMap("loss", "sdt")));
+    sdtMemChunk.putLong(1, 1);
+    sdtMemChunk.sortTvListForFlush();
+    rollupWriter.collect("root.sg.d1", sdtMemChunk);
+    assertEquals(ramSize, rollupWriter.getRamSize());
+    rollupWriter.write(tsFile);
+
+    assertNull(read("root.sg.d1", "s2"));
+    SeriesRollup rollup = read("root.sg.d1", "s1");
+    assertEquals(TSDataType.INT64, rollup.getDataType());
+
+    assertEquals(0, rollup.getAlignedTier(100, 199));
+    assertEquals(1, rollup.getAlignedTier(0, 9));
+    assertEquals(1, rollup.getAlignedTier(100, 129));
+    assertEquals(-1, rollup.getAlignedTier(0, 98));
+    assertEquals(-1, rollup.getAlignedTier(5, 14));
+
+    Statistics statistics = rollup.aggregate(0, 0, 99);
+    assertEquals(100, statistics.getCount());
+    assertEquals(4950 - 5 + 1000, statistics.getSumDoubleValue(), 0.0001);
+    assertEquals(1000L, statistics.getMaxValue());
+    statistics = rollup.aggregate(1, 200, 249);
+    assertEquals(50, statistics.getCount());
+    assertEquals(200L, statistics.getFirstValue());
+    assertEquals(249L, statistics.getLastValue());
+    assertEquals(200, statistics.getStartTime());
+    assertEquals(249, statistics.getEndTime());
+    assertNull(rollup.aggregate(0, 300, 399));
+  }
+
+  @Test
+  public void testMerge() throws IOException {
+    SeriesRollup rollup = new SeriesRollup(TSDataType.INT64, new long[] {100});
+    WritableMemChunk memChunk =
+        new WritableMemChunk(new MeasurementSchema("s1", TSDataType.INT64, TSEncoding.PLAIN));
+    for (long time = 0; time < 50; time++) {
+      memChunk.putLong(time, 1);
+    }
+    rollup.collect(memChunk.getTVList());
+    SeriesRollup other = new SeriesRollup(TSDataType.INT64, new long[] {100});
+    memChunk =
+        new WritableMemChunk(new MeasurementSchema("s1", TSDataType.INT64, TSEncoding.PLAIN));
+    for (long time = 50; time < 150; time++) {
+      memChunk.putLong(time, 2);
+    }
+    other.collect(memChunk.getTVList());
+
+    RollupWriter rollupWriter = new RollupWriter(new long[0]);
+    rollupWriter.merge("root.sg.d1", "s1", rollup);
+    rollupWriter.merge("root.sg.d1", "s1", other);
+    rollupWriter.write(tsFile);
+
+    Map<String, Map<String, SeriesRollup>> rollups = RollupFile.readAll(tsFile);
+    assertEquals(1, rollups.size());
+    SeriesRollup merged = rollups.get("root.sg.d1").get("s1");
+    Statistics statistics = merged.aggregate(0, 0, 99);
+    assertEquals(100, statistics.getCount());
+    assertEquals(50 + 100, statistics.getSumDoubleValue(), 0.0001);
+    statistics = merged.aggregate(0, 100, 199);
+    assertEquals(50, statistics.getCount());
+    assertEquals(1L, merged.aggregate(0, 0, 199).getFirstValue());
+  }
+
+  @Test
+  public void testWriteNothing() throws IOException {
+    new RollupWriter(new long[] {100}).write(tsFile);
+    assertFalse(RollupFile.getRollupFile(tsFile).exists());
+    assertNull(RollupFile.load(tsFile));
+    assertTrue(
+        new SeriesRollup(TSDataType.INT32, new long[] {100}).isEmpty()
+            && RollupFile.readAll(tsFile) == null);
+  }
+
+  @Test
+  public void testBinarySearch() throws IOException {
+    RollupWriter rollupWriter = new RollupWriter(new long[0]);
+    for (int device = 0; device < 10; device++) {
+      for (int measurement = 0; measurement < 10; measurement++) {
+        SeriesRollup rollup = new SeriesRollup(TSDataType.INT64, new long[] {100});
+        WritableMemChunk memChunk =
+            new WritableMemChunk(new MeasurementSchema("s1", TSDataType.INT64, TSEncoding.PLAIN));
+        memChunk.putLong(device, measurement);
+        rollup.collect(memChunk.getTVList());
+        rollupWriter.merge("root.sg.d" + device, "s" + measurement, rollup);
+      }
+    }
+    rollupWriter.write(tsFile);
+
+    RollupFile rollupFile = RollupFile.load(tsFile);
+    try {
+      for (int device = 0; device < 10; device++) {
+        for (int measurement = 0; measurement < 10; measurement++) {
+          Statistics statistics =
+              rollupFile.read("root.sg.d" + device, "s" + measurement).aggregate(0, 0, 99);
+          assertEquals(device, statistics.getStartTime());
+          assertEquals((long) measurement, statistics.getFirstValue());
+        }
+        assertNull(rollupFile.read("root.sg.d" + device, "s10"));
+      }
+      assertNull(rollupFile.read("root.sg.d", "s0"));
+      assertNull(rollupFile.read("root.sg.d10", "s0"));
+      assertEquals(10, rollupFile.readAll().size());
+    } finally {
+      rollupFile.release();
+    }
+    assertTrue(rollupFile.isUnmapped());
+  }
+
+  private SeriesRollup read(String device, String measurement) throws IOException {
+    RollupFile rollupFile = RollupFile.load(tsFile);
+    try {
+      return rollupFile.read(device, measurement);
+    } finally {
+      rollupFile.release();
+    }
+  }
+}
@@ -237,4 +237,30 @@ public class TsFileManagerTest {
     }
     assertEquals(8, count);
   }
+
+  @Test
+  public void testAmplification() {
+    long[][] seqFiles = {{0, 100}, {0, 100}, {1, 200}};
+    long[][] unseqFiles = {{0, 50}, {0, 50}};
+    for (int i = 0; i < seqFiles.length; i++) {
+      FakedTsFileResource resource =
+          new FakedTsFileResource(seqFiles[i][1], String.format("%d-%d-0-0.tsfile", i, i));
+      resource.timePartition = seqFiles[i][0];
+      tsFileManager.add(resource, true);
+    }
+    for (int i = 0; i < unseqFiles.length; i++) {
+      FakedTsFileResource resource =
+          new FakedTsFileResource(unseqFiles[i][1], String.format("%d-%d-0-0.tsfile", i, i));
+      resource.timePartition = unseqFiles[i][0];
+      tsFileManager.add(resource, false);
+    }
+    // nothing has been flushed or compacted yet
+    assertEquals(100, tsFileManager.getWriteAmplification());
+    tsFileManager.recordFlushedFileSize(400);
+    tsFileManager.recordCompactedFileSize(200);
+    assertEquals(150, tsFileManager.getWriteAmplification());
+    // partition 0 has 1 sequence run and 2 unsequence files, partition 1 has 1 sequence run
+    assertEquals(200, tsFileManager.getReadAmplification());
+    assertEquals(125, tsFileManager.getSpaceAmplification());
+  }
 }
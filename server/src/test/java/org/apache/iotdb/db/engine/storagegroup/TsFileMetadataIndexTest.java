@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.storagegroup;
+
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.cache.TsFileMetadataIndexCache;
+import org.apache.iotdb.db.engine.cache.TimeSeriesMetadataCache;
+import org.apache.iotdb.db.engine.cache.TimeSeriesMetadataCache.TimeSeriesMetadataCacheKey;
+import org.apache.iotdb.db.query.control.FileReaderManager;
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.datapoint.LongDataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TsFileMetadataIndexTest {
+
+  private static final int DEVICE_NUM = 5;
+  private static final int MEASUREMENT_NUM = 10;
+
+  private final TSFileConfig tsFileConfig = TSFileDescriptor.getInstance().getConfig();
+  private final File tsFile = new File(TestConstant.getTestTsFilePath("root.sg", 0, 0, 1));
+  private int prevMaxDegreeOfIndexNode;
+
+  @Before
+  public void setUp() throws Exception {
+    // a small degree makes both internal device and internal measurement nodes
+    prevMaxDegreeOfIndexNode = tsFileConfig.getMaxDegreeOfIndexNode();
+    tsFileConfig.setMaxDegreeOfIndexNode(3);
+    if (!tsFile.getParentFile().exists()) {
+      tsFile.getParentFile().mkdirs();
+    }
+    try (TsFileWriter writer = new TsFileWriter(tsFile)) {
+      for (int d = 0; d < DEVICE_NUM; d++) {
+        for (int m = 0; m < MEASUREMENT_NUM; m++) {
+          writer.registerTimeseries(
+              new Path("root.sg.d" + d), new MeasurementSchema("s" + m, TSDataType.INT64));
+        }
+      }
+      for (int d = 0; d < DEVICE_NUM; d++) {
+        for (long time = 0; time < 10; time++) {
+          TSRecord record = new TSRecord(d * 100 + time, "root.sg.d" + d);
+          for (int m = 0; m < MEASUREMENT_NUM; m++) {
+            record.addTuple(new LongDataPoint("s" + m, time));
+          }
+          writer.write(record);
+        }
+      }
+    }
+  }
+
+  @After
+  public void tearDown() {
+    tsFileConfig.setMaxDegreeOfIndexNode(prevMaxDegreeOfIndexNode);
+    tsFile.delete();
+    TsFileMetadataIndex.getMetadataIndexFile(tsFile).delete();
+  }
+
+  @Test
+  public void testWriteAndLookup() throws IOException {
+    TsFileMetadataIndex.write(tsFile);
+    TsFileMetadataIndex metadataIndex = TsFileMetadataIndex.load(tsFile);
+    assertNotNull(metadataIndex);
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(tsFile.getPath())) {
+      for (int d = 0; d < DEVICE_NUM; d++) {
+        String device = "root.sg.d" + d;
+        for (int m = 0; m < MEASUREMENT_NUM; m++) {
+          String measurement = "s" + m;
+          TimeseriesMetadata expected =
+              reader.readTimeseriesMetadata(new Path(device, measurement), false);
+          assertArrayEquals(
+              new long[] {
+                expected.getStatistics().getStartTime(), expected.getStatistics().getEndTime()
+              },
+              metadataIndex.getTimeRange(device, measurement));
+
+          long[] leafOffsets = metadataIndex.getLeafOffsets(device, measurement);
+          List<TimeseriesMetadata> leaf =
+              reader.readLeafTimeseriesMetadata(leafOffsets[0], leafOffsets[1], null, true);
+          TimeseriesMetadata actual =
+              leaf.stream()
+                  .filter(metadata -> metadata.getMeasurementId().equals(measurement))
+                  .findFirst()
+                  .orElse(null);
+          assertNotNull(actual);
+          assertEquals(expected.getStatistics().getCount(), actual.getStatistics().getCount());
+          assertEquals(
+              expected.getChunkMetadataList().size(), actual.getChunkMetadataList().size());
+        }
+      }
+    }
+
+    assertNull(metadataIndex.getTimeRange("root.sg.d0", "s100"));
+    assertNull(metadataIndex.getLeafOffsets("root.sg.d0", "s100"));
+    assertNull(metadataIndex.getTimeRange("root.sg.d100", "s0"));
+    assertNull(metadataIndex.getLeafOffsets("root.sg.a", "s0"));
+    metadataIndex.release();
+    assertTrue(metadataIndex.isUnmapped());
+  }
+
+  @Test
+  public void testLoadTimeSeriesMetadataWithIndex() throws IOException {
+    TsFileMetadataIndex.write(tsFile);
+    TsFileMetadataIndex metadataIndex = TsFileMetadataIndex.load(tsFile);
+    TimeSeriesMetadataCache cache = TimeSeriesMetadataCache.getInstance();
+    cache.clear();
+    try {
+      TimeseriesMetadata metadata =
+          cache.get(
+              new TimeSeriesMetadataCacheKey(tsFile.getPath(), "root.sg.d3", "s7"),
+              Collections.singleton("s7"),
+              false,
+              false,
+              metadataIndex);
+      assertEquals(10, metadata.getStatistics().getCount());
+      assertEquals(300, metadata.getStatistics().getStartTime());
+      assertEquals(1, metadata.getChunkMetadataList().size());
+
+      assertNull(
+          cache.get(
+              new TimeSeriesMetadataCacheKey(tsFile.getPath(), "root.sg.d3", "s100"),
+              Collections.singleton("s100"),
+              true,
+              false,
+              metadataIndex));
+    } finally {
+      metadataIndex.release();
+      cache.clear();
+      FileReaderManager.getInstance().closeAndRemoveAllOpenedReaders();
+    }
+  }
+
+  @Test
+  public void testCacheUnmapsEvictedIndex() throws IOException {
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    int prevCacheSize = config.getMetadataIndexCacheSize();
+    config.setMetadataIndexCacheSize(1);
+    TsFileMetadataIndexCache cache = TsFileMetadataIndexCache.getInstance();
+    File otherTsFile = new File(TestConstant.getTestTsFilePath("root.sg", 0, 0, 2));
+    try {
+      Files.copy(tsFile.toPath(), otherTsFile.toPath());
+      TsFileMetadataIndex.write(tsFile);
+      TsFileMetadataIndex.write(otherTsFile);
+
+      TsFileMetadataIndex metadataIndex = cache.acquire(tsFile);
+      assertSame(metadataIndex, cache.acquire(tsFile));
+      metadataIndex.release();
+
+      // the evicted index is still used by a query
+      TsFileMetadataIndex otherIndex = cache.acquire(otherTsFile);
+      assertEquals(1, cache.size());
+      assertFalse(metadataIndex.isUnmapped());
+      assertArrayEquals(new long[] {0, 9}, metadataIndex.getTimeRange("root.sg.d0", "s0"));
+      metadataIndex.release();
+      assertTrue(metadataIndex.isUnmapped());
+
+      otherIndex.release();
+      cache.remove(otherTsFile);
+      assertTrue(otherIndex.isUnmapped());
+      assertEquals(0, cache.size());
+    } finally {
+      config.setMetadataIndexCacheSize(prevCacheSize);
+      cache.clear();
+      otherTsFile.delete();
+      TsFileMetadataIndex.getMetadataIndexFile(otherTsFile).delete();
+    }
+  }
+
+  @Test
+  public void testIgnoreStaleIndex() throws IOException {
+    TsFileMetadataIndex.write(tsFile);
+    try (OutputStream output = new FileOutputStream(tsFile, true)) {
+      output.write(0);
+    }
+    assertNull(TsFileMetadataIndex.load(tsFile));
+  }
+}
@@ -23,10 +23,14 @@ import org.apache.iotdb.commons.exception.IllegalPathException;
 import org.apache.iotdb.commons.exception.MetadataException;
 import org.apache.iotdb.commons.file.SystemFileFactory;
 import org.apache.iotdb.commons.path.PartialPath;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.constant.TestConstant;
 import org.apache.iotdb.db.engine.MetadataManagerHelper;
 import org.apache.iotdb.db.engine.memtable.IMemTable;
 import org.apache.iotdb.db.engine.querycontext.ReadOnlyMemChunk;
+import org.apache.iotdb.db.engine.rollup.RollupFile;
+import org.apache.iotdb.db.engine.rollup.SeriesRollup;
 import org.apache.iotdb.db.exception.TsFileProcessorException;
 import org.apache.iotdb.db.exception.WriteProcessException;
 import org.apache.iotdb.db.metadata.mnode.IMeasurementMNode;
@@ -41,6 +45,7 @@ import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.TimeValuePair;
 import org.apache.iotdb.tsfile.read.reader.IPointReader;
 import org.apache.iotdb.tsfile.write.record.TSRecord;
@@ -416,6 +421,55 @@ public class TsFileProcessorTest {
     assertTrue(processor.getTsFileResource().isClosed());
   }
 
+  @Test
+  public void testCloseWithRollup() throws IOException, WriteProcessException, MetadataException {
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    long[] prevRollupIntervals = config.getRollupIntervals();
+    config.setRollupIntervals(new long[] {50, 10});
+    try {
+      processor =
+          new TsFileProcessor(
+              storageGroup,
+              SystemFileFactory.INSTANCE.getFile(filePath),
+              sgInfo,
+              this::closeTsFileProcessor,
+              (tsFileProcessor) -> true,
+              true);
+      TsFileProcessorInfo tsFileProcessorInfo = new TsFileProcessorInfo(sgInfo);
+      processor.setTsFileProcessorInfo(tsFileProcessorInfo);
+      this.sgInfo.initTsFileProcessorInfo(processor);
+      SystemInfo.getInstance().reportStorageGroupStatus(sgInfo, processor);
+
+      // two memtables are flushed into the file
+      for (int i = 1; i <= 100; i++) {
+        TSRecord record = new TSRecord(i, deviceId);
+        record.addTuple(DataPoint.getDataPoint(dataType, measurementId, String.valueOf(i)));
+        processor.insert(new InsertRowPlan(record));
+        if (i == 60) {
+          processor.syncFlush();
+        }
+      }
+      processor.syncClose();
+
+      RollupFile rollupFile = processor.getTsFileResource().acquireRollupFile();
+      SeriesRollup rollup = rollupFile.read(deviceId, measurementId);
+      rollupFile.release();
+      assertEquals(0, rollup.getAlignedTier(50, 99));
+      Statistics statistics = rollup.aggregate(0, 50, 99);
+      assertEquals(50, statistics.getCount());
+      assertEquals(50, statistics.getFirstValue());
+      assertEquals(99, statistics.getLastValue());
+      assertEquals(1, rollup.aggregate(1, 0, 9).getStartTime());
+
+      // the cached rollup file is unmapped once the TsFile is removed
+      assertTrue(processor.getTsFileResource().remove());
+      assertTrue(rollupFile.isUnmapped());
+      assertFalse(RollupFile.getRollupFile(processor.getTsFileResource().getTsFile()).exists());
+    } finally {
+      config.setRollupIntervals(prevRollupIntervals);
+    }
+  }
+
   private void closeTsFileProcessor(TsFileProcessor unsealedTsFileProcessor)
       throws TsFileProcessorException {
     TsFileResource resource = unsealedTsFileProcessor.getTsFileResource();
@@ -30,6 +30,7 @@ import org.apache.iotdb.db.mpp.common.PlanFragmentId;
 import org.apache.iotdb.db.mpp.common.QueryId;
 import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceContext;
 import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceStateMachine;
+import org.apache.iotdb.db.mpp.execution.memory.MemoryPool;
 import org.apache.iotdb.db.mpp.execution.operator.process.AggregationOperator;
 import org.apache.iotdb.db.mpp.execution.operator.process.DeviceMergeOperator;
 import org.apache.iotdb.db.mpp.execution.operator.process.DeviceViewOperator;
@@ -51,6 +52,7 @@ import org.apache.iotdb.db.mpp.execution.operator.process.last.LastQueryMergeOpe
 import org.apache.iotdb.db.mpp.execution.operator.process.last.LastQueryOperator;
 import org.apache.iotdb.db.mpp.execution.operator.process.last.LastQuerySortOperator;
 import org.apache.iotdb.db.mpp.execution.operator.process.last.UpdateLastCacheOperator;
+import org.apache.iotdb.db.mpp.execution.operator.process.sort.MergeSortComparator;
 import org.apache.iotdb.db.mpp.execution.operator.schema.CountMergeOperator;
 import org.apache.iotdb.db.mpp.execution.operator.schema.DevicesCountOperator;
 import org.apache.iotdb.db.mpp.execution.operator.schema.DevicesSchemaScanOperator;
@@ -443,10 +445,26 @@ public class OperatorMemoryTest {
 
   @Test
   public void sortOperatorTest() {
-    SortOperator sortOperator = new SortOperator();
-    assertEquals(0, sortOperator.calculateMaxPeekMemory());
-    assertEquals(0, sortOperator.calculateMaxReturnSize());
-    assertEquals(0, sortOperator.calculateRetainedSizeAfterCallingNext());
+    Operator child = Mockito.mock(Operator.class);
+    Mockito.when(child.calculateMaxPeekMemory()).thenReturn(2 * 1024L);
+    Mockito.when(child.calculateMaxReturnSize()).thenReturn(1024L);
+    Mockito.when(child.calculateRetainedSizeAfterCallingNext()).thenReturn(512L);
+    List<TSDataType> dataTypeList = new ArrayList<>(2);
+    dataTypeList.add(TSDataType.INT32);
+    dataTypeList.add(TSDataType.INT32);
+    SortOperator sortOperator =
+        new SortOperator(
+            Mockito.mock(OperatorContext.class),
+            child,
+            dataTypeList,
+            MergeSortComparator.getTimeComparator(Ordering.ASC),
+            Mockito.mock(MemoryPool.class),
+            "");
+    long expectedMaxReturnSize =
+        3L * TSFileDescriptor.getInstance().getConfig().getPageSizeInByte();
+    assertEquals(1024L + 512L + expectedMaxReturnSize, sortOperator.calculateMaxPeekMemory());
+    assertEquals(expectedMaxReturnSize, sortOperator.calculateMaxReturnSize());
+    assertEquals(512L, sortOperator.calculateRetainedSizeAfterCallingNext());
   }
 
   @Test
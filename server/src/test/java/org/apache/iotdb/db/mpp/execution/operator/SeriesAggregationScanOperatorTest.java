@@ -21,7 +21,9 @@ package org.apache.iotdb.db.mpp.execution.operator;
 import org.apache.iotdb.commons.concurrent.IoTDBThreadPoolFactory;
 import org.apache.iotdb.commons.exception.IllegalPathException;
 import org.apache.iotdb.commons.exception.MetadataException;
+import org.apache.iotdb.db.engine.memtable.WritableMemChunk;
 import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
+import org.apache.iotdb.db.engine.rollup.RollupWriter;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.metadata.path.MeasurementPath;
 import org.apache.iotdb.db.mpp.aggregation.AccumulatorFactory;
@@ -484,12 +486,85 @@ public class SeriesAggregationScanOperatorTest {
     assertEquals(timeColumn.length, count);
   }
 
+  @Test
+  public void testGroupByWithRollup() throws IllegalPathException, IOException {
+    // rollup values are shifted from the values in seq files, to tell which one is read
+    long rollupValueOffset = 10000;
+    for (TsFileResource seqResource : seqResources) {
+      WritableMemChunk memChunk =
+          new WritableMemChunk(new MeasurementSchema("sensor0", TSDataType.INT32));
+      for (long time = seqResource.getStartTime(SERIES_SCAN_OPERATOR_TEST_SG + ".device0");
+          time <= seqResource.getEndTime(SERIES_SCAN_OPERATOR_TEST_SG + ".device0");
+          time++) {
+        memChunk.putInt(time, (int) (time + rollupValueOffset));
+      }
+      RollupWriter rollupWriter = new RollupWriter(new long[] {100, 50});
+      rollupWriter.collect(SERIES_SCAN_OPERATOR_TEST_SG + ".device0", memChunk);
+      rollupWriter.write(seqResource.getTsFile());
+    }
+
+    for (boolean ascending : new boolean[] {true, false}) {
+      // windows of 50 are calculated from rollups, windows of 30 are not aligned to rollups
+      for (long interval : new long[] {50, 30}) {
+        GroupByTimeParameter groupByTimeParameter =
+            new GroupByTimeParameter(0, 300, interval, interval, true);
+        List<AggregationType> aggregationTypes = new ArrayList<>();
+        aggregationTypes.add(AggregationType.COUNT);
+        aggregationTypes.add(AggregationType.SUM);
+        aggregationTypes.add(AggregationType.FIRST_VALUE);
+        List<Aggregator> aggregators = new ArrayList<>();
+        AccumulatorFactory.createAccumulators(aggregationTypes, TSDataType.INT32, ascending)
+            .forEach(o -> aggregators.add(new Aggregator(o, AggregationStep.SINGLE)));
+        SeriesAggregationScanOperator seriesAggregationScanOperator =
+            initSeriesAggregationScanOperator(
+                aggregators,
+                null,
+                ascending,
+                groupByTimeParameter,
+                new QueryDataSource(seqResources, Collections.emptyList()));
+        long valueOffset = interval == 50 ? rollupValueOffset : 0;
+        int count = 0;
+        while (seriesAggregationScanOperator.hasNext()) {
+          TsBlock resultTsBlock = seriesAggregationScanOperator.next();
+          int positionCount = resultTsBlock.getPositionCount();
+          for (int pos = 0; pos < positionCount; pos++) {
+            long startTime = ascending ? interval * count : interval * (300 / interval - 1 - count);
+            assertEquals(startTime, resultTsBlock.getTimeColumn().getLong(pos));
+            assertEquals(interval, resultTsBlock.getColumn(0).getLong(pos));
+            assertEquals(
+                (startTime * 2 + interval - 1) * interval / 2 + valueOffset * interval,
+                resultTsBlock.getColumn(1).getDouble(pos),
+                0.0001);
+            assertEquals(startTime + valueOffset, resultTsBlock.getColumn(2).getInt(pos));
+            count++;
+          }
+        }
+        assertEquals(300 / interval, count);
+      }
+    }
+  }
+
   public SeriesAggregationScanOperator initSeriesAggregationScanOperator(
       List<Aggregator> aggregators,
       Filter timeFilter,
       boolean ascending,
       GroupByTimeParameter groupByTimeParameter)
       throws IllegalPathException {
+    return initSeriesAggregationScanOperator(
+        aggregators,
+        timeFilter,
+        ascending,
+        groupByTimeParameter,
+        new QueryDataSource(seqResources, unSeqResources));
+  }
+
+  public SeriesAggregationScanOperator initSeriesAggregationScanOperator(
+      List<Aggregator> aggregators,
+      Filter timeFilter,
+      boolean ascending,
+      GroupByTimeParameter groupByTimeParameter,
+      QueryDataSource dataSource)
+      throws IllegalPathException {
     MeasurementPath measurementPath =
         new MeasurementPath(SERIES_SCAN_OPERATOR_TEST_SG + ".device0.sensor0", TSDataType.INT32);
     Set<String> allSensors = Sets.newHashSet("sensor0");
@@ -522,8 +597,7 @@ public class SeriesAggregationScanOperatorTest {
             ascending,
             groupByTimeParameter,
             DEFAULT_MAX_TSBLOCK_SIZE_IN_BYTES);
-    seriesAggregationScanOperator.initQueryDataSource(
-        new QueryDataSource(seqResources, unSeqResources));
+    seriesAggregationScanOperator.initQueryDataSource(dataSource);
     return seriesAggregationScanOperator;
   }
 }
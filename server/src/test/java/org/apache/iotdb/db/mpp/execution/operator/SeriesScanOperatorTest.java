@@ -21,6 +21,10 @@ package org.apache.iotdb.db.mpp.execution.operator;
 import org.apache.iotdb.commons.concurrent.IoTDBThreadPoolFactory;
 import org.apache.iotdb.commons.exception.IllegalPathException;
 import org.apache.iotdb.commons.exception.MetadataException;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.cache.ChunkCache;
+import org.apache.iotdb.db.engine.cache.ChunkCacheHint;
 import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.metadata.path.MeasurementPath;
@@ -74,7 +78,27 @@ public class SeriesScanOperatorTest {
   }
 
   @Test
-  public void batchTest() {
+  public void batchTest() throws Exception {
+    scanAndCheck();
+  }
+
+  @Test
+  public void batchTestWithChunkPrefetch() throws Exception {
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    int prevChunkPrefetchDepth = config.getChunkPrefetchDepth();
+    config.setChunkPrefetchDepth(2);
+    ChunkCache.getInstance().clear();
+    try {
+      scanAndCheck();
+      // the scan waits for prefetched chunks instead of reading them by itself
+      assertTrue(ChunkCache.getInstance().calculateChunkHitRatio(ChunkCacheHint.QUERY) > 0);
+    } finally {
+      config.setChunkPrefetchDepth(prevChunkPrefetchDepth);
+      ChunkCache.getInstance().clear();
+    }
+  }
+
+  private void scanAndCheck() throws Exception {
     ExecutorService instanceNotificationExecutor =
         IoTDBThreadPoolFactory.newFixedThreadPool(1, "test-instance-notification");
     try {
@@ -104,7 +128,7 @@ public class SeriesScanOperatorTest {
               true);
       seriesScanOperator.initQueryDataSource(new QueryDataSource(seqResources, unSeqResources));
       int count = 0;
-      while (seriesScanOperator.hasNext()) {
+      while (waitUntilNotBlocked(seriesScanOperator) && seriesScanOperator.hasNext()) {
         TsBlock tsBlock = seriesScanOperator.next();
         assertEquals(1, tsBlock.getValueColumnCount());
         assertTrue(tsBlock.getColumn(0) instanceof IntColumn);
@@ -125,6 +149,7 @@ public class SeriesScanOperatorTest {
         count++;
       }
       assertEquals(25, count);
+      seriesScanOperator.close();
     } catch (IllegalPathException e) {
       e.printStackTrace();
       fail();
@@ -132,4 +157,9 @@ public class SeriesScanOperatorTest {
       instanceNotificationExecutor.shutdown();
     }
   }
+
+  private boolean waitUntilNotBlocked(Operator operator) throws Exception {
+    operator.isBlocked().get();
+    return true;
+  }
 }
@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.execution.operator;
+
+import org.apache.iotdb.commons.concurrent.IoTDBThreadPoolFactory;
+import org.apache.iotdb.db.mpp.common.FragmentInstanceId;
+import org.apache.iotdb.db.mpp.common.PlanFragmentId;
+import org.apache.iotdb.db.mpp.common.QueryId;
+import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceContext;
+import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceStateMachine;
+import org.apache.iotdb.db.mpp.execution.memory.MemoryPool;
+import org.apache.iotdb.db.mpp.execution.operator.process.SortOperator;
+import org.apache.iotdb.db.mpp.execution.operator.process.sort.MergeSortComparator;
+import org.apache.iotdb.db.mpp.execution.operator.process.sort.MergeSortKey;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNodeId;
+import org.apache.iotdb.db.mpp.plan.statement.component.Ordering;
+import org.apache.iotdb.db.mpp.plan.statement.component.SortItem;
+import org.apache.iotdb.db.mpp.plan.statement.component.SortKey;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.block.TsBlock;
+import org.apache.iotdb.tsfile.read.common.block.TsBlockBuilder;
+import org.apache.iotdb.tsfile.utils.Binary;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.apache.iotdb.db.mpp.common.header.ColumnHeaderConstant.COLUMN_DEVICE;
+import static org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceContext.createFragmentInstanceContext;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SortOperatorTest {
+
+  private static final String SPILL_FOLDER = "target" + File.separator + "sort-operator-test";
+  private static final int TS_BLOCK_NUM = 10;
+  private static final int ROWS_PER_TS_BLOCK = 100;
+
+  private ExecutorService instanceNotificationExecutor;
+  private FragmentInstanceContext fragmentInstanceContext;
+
+  @Before
+  public void setUp() {
+    instanceNotificationExecutor =
+        IoTDBThreadPoolFactory.newFixedThreadPool(1, "test-instance-notification");
+    QueryId queryId = new QueryId("stub_query");
+    FragmentInstanceId instanceId =
+        new FragmentInstanceId(new PlanFragmentId(queryId, 0), "stub-instance");
+    FragmentInstanceStateMachine stateMachine =
+        new FragmentInstanceStateMachine(instanceId, instanceNotificationExecutor);
+    fragmentInstanceContext = createFragmentInstanceContext(instanceId, stateMachine);
+    fragmentInstanceContext.addOperatorContext(
+        1, new PlanNodeId("1"), SortOperator.class.getSimpleName());
+    fragmentInstanceContext.addOperatorContext(
+        2, new PlanNodeId("2"), SortOperator.class.getSimpleName());
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    instanceNotificationExecutor.shutdown();
+    FileUtils.deleteDirectory(new File(SPILL_FOLDER));
+  }
+
+  @Test
+  public void sortInMemoryTest() throws Exception {
+    MemoryPool memoryPool = new MemoryPool("test", Long.MAX_VALUE, Long.MAX_VALUE);
+    SortOperator sortOperator =
+        new SortOperator(
+            fragmentInstanceContext.getOperatorContexts().get(0),
+            new ShuffledOperator(),
+            ImmutableList.of(TSDataType.INT32, TSDataType.DOUBLE),
+            MergeSortComparator.getTimeComparator(Ordering.DESC),
+            memoryPool,
+            SPILL_FOLDER);
+
+    long expectedTime = TS_BLOCK_NUM * ROWS_PER_TS_BLOCK - 1;
+    while (sortOperator.hasNext()) {
+      TsBlock tsBlock = sortOperator.next();
+      if (tsBlock == null) {
+        continue;
+      }
+      for (int i = 0; i < tsBlock.getPositionCount(); i++) {
+        assertEquals(expectedTime, tsBlock.getTimeByIndex(i));
+        assertEquals(expectedTime, tsBlock.getColumn(0).getInt(i));
+        if (expectedTime % 3 == 0) {
+          assertTrue(tsBlock.getColumn(1).isNull(i));
+        } else {
+          assertEquals(expectedTime * 0.5, tsBlock.getColumn(1).getDouble(i), 0.00001);
+        }
+        expectedTime--;
+      }
+    }
+    assertEquals(-1, expectedTime);
+    assertTrue(sortOperator.isFinished());
+    assertFalse(new File(SPILL_FOLDER).exists());
+    assertEquals(0, memoryPool.getReservedBytes());
+    sortOperator.close();
+  }
+
+  @Test
+  public void sortWithSpillTest() throws Exception {
+    // at most one TsBlock can be cached in memory together with the sort keys of its rows
+    long maxBytes = new ShuffledOperator().next().getRetainedSizeInBytes() * 2 + 1;
+    MemoryPool memoryPool = new MemoryPool("test", maxBytes, maxBytes);
+    SortOperator sortOperator =
+        new SortOperator(
+            fragmentInstanceContext.getOperatorContexts().get(0),
+            new ShuffledOperator(),
+            ImmutableList.of(TSDataType.INT32, TSDataType.DOUBLE),
+            MergeSortComparator.getTimeComparator(Ordering.ASC),
+            memoryPool,
+            SPILL_FOLDER);
+
+    long expectedTime = 0;
+    boolean spilled = false;
+    while (sortOperator.hasNext()) {
+      TsBlock tsBlock = sortOperator.next();
+      spilled |= new File(SPILL_FOLDER).exists();
+      if (tsBlock == null) {
+        continue;
+      }
+      for (int i = 0; i < tsBlock.getPositionCount(); i++) {
+        assertEquals(expectedTime, tsBlock.getTimeByIndex(i));
+        assertEquals(expectedTime, tsBlock.getColumn(0).getInt(i));
+        expectedTime++;
+      }
+    }
+    assertEquals(TS_BLOCK_NUM * ROWS_PER_TS_BLOCK, expectedTime);
+    assertTrue(spilled);
+    assertFalse(new File(SPILL_FOLDER).exists());
+    assertEquals(0, memoryPool.getReservedBytes());
+    sortOperator.close();
+  }
+
+  @Test
+  public void sortByValueTest() throws Exception {
+    long maxBytes = new ShuffledOperator().next().getRetainedSizeInBytes() * 3 + 1;
+    MemoryPool memoryPool = new MemoryPool("test", maxBytes, maxBytes);
+    Comparator<MergeSortKey> comparator =
+        MergeSortComparator.getValueComparator(1, TSDataType.DOUBLE, Ordering.DESC)
+            .thenComparing(MergeSortComparator.getTimeComparator(Ordering.ASC));
+    SortOperator sortOperator =
+        new SortOperator(
+            fragmentInstanceContext.getOperatorContexts().get(0),
+            new ShuffledOperator(),
+            ImmutableList.of(TSDataType.INT32, TSDataType.DOUBLE),
+            comparator,
+            memoryPool,
+            SPILL_FOLDER);
+
+    int count = 0;
+    double lastValue = Double.MAX_VALUE;
+    long lastNullTime = -1;
+    while (sortOperator.hasNext()) {
+      TsBlock tsBlock = sortOperator.next();
+      if (tsBlock == null) {
+        continue;
+      }
+      for (int i = 0; i < tsBlock.getPositionCount(); i++) {
+        if (tsBlock.getColumn(1).isNull(i)) {
+          // nulls are put at the end and ordered by time
+          assertTrue(tsBlock.getTimeByIndex(i) > lastNullTime);
+          lastNullTime = tsBlock.getTimeByIndex(i);
+        } else {
+          assertEquals(-1, lastNullTime);
+          assertTrue(tsBlock.getColumn(1).getDouble(i) < lastValue);
+          lastValue = tsBlock.getColumn(1).getDouble(i);
+        }
+        count++;
+      }
+    }
+    assertEquals(TS_BLOCK_NUM * ROWS_PER_TS_BLOCK, count);
+    sortOperator.close();
+  }
+
+  @Test
+  public void sortBySortItemsTest() throws Exception {
+    long maxBytes = new DeviceOperator().next().getRetainedSizeInBytes() * 3 + 1;
+    MemoryPool memoryPool = new MemoryPool("test", maxBytes, maxBytes);
+    List<TSDataType> dataTypes = ImmutableList.of(TSDataType.TEXT, TSDataType.INT32);
+    Comparator<MergeSortKey> comparator =
+        MergeSortComparator.getComparator(
+            ImmutableList.of(
+                new SortItem(SortKey.DEVICE, Ordering.DESC),
+                new SortItem(SortKey.TIME, Ordering.ASC)),
+            ImmutableList.of(COLUMN_DEVICE, "root.sg.*.s1"),
+            dataTypes);
+    SortOperator sortOperator =
+        new SortOperator(
+            fragmentInstanceContext.getOperatorContexts().get(0),
+            new DeviceOperator(),
+            dataTypes,
+            comparator,
+            memoryPool,
+            SPILL_FOLDER);
+
+    // rows of root.sg.d2 come first and rows of each device are ordered by time
+    int count = 0;
+    String lastDevice = "root.sg.d3";
+    long lastTime = -1;
+    while (sortOperator.hasNext()) {
+      TsBlock tsBlock = sortOperator.next();
+      if (tsBlock == null) {
+        continue;
+      }
+      for (int i = 0; i < tsBlock.getPositionCount(); i++) {
+        String device = tsBlock.getColumn(0).getBinary(i).getStringValue();
+        long time = tsBlock.getTimeByIndex(i);
+        assertEquals("root.sg.d" + time % 3, device);
+        assertEquals(time, tsBlock.getColumn(1).getInt(i));
+        if (device.equals(lastDevice)) {
+          assertTrue(time > lastTime);
+        } else {
+          assertTrue(device.compareTo(lastDevice) < 0);
+        }
+        lastDevice = device;
+        lastTime = time;
+        count++;
+      }
+    }
+    assertEquals(TS_BLOCK_NUM * ROWS_PER_TS_BLOCK, count);
+    assertFalse(new File(SPILL_FOLDER).exists());
+    assertEquals(0, memoryPool.getReservedBytes());
+    sortOperator.close();
+  }
+
+  @Test
+  public void siblingSortOperatorsTest() throws Exception {
+    long maxBytes = new ShuffledOperator().next().getRetainedSizeInBytes() * 2 + 1;
+    MemoryPool memoryPool = new MemoryPool("test", maxBytes, maxBytes);
+    String firstSpillFolder = SPILL_FOLDER + File.separator + "1";
+    String secondSpillFolder = SPILL_FOLDER + File.separator + "2";
+    SortOperator firstOperator =
+        new SortOperator(
+            fragmentInstanceContext.getOperatorContexts().get(0),
+            new ShuffledOperator(),
+            ImmutableList.of(TSDataType.INT32, TSDataType.DOUBLE),
+            MergeSortComparator.getTimeComparator(Ordering.ASC),
+            memoryPool,
+            firstSpillFolder);
+    SortOperator secondOperator =
+        new SortOperator(
+            fragmentInstanceContext.getOperatorContexts().get(1),
+            new ShuffledOperator(),
+            ImmutableList.of(TSDataType.INT32, TSDataType.DOUBLE),
+            MergeSortComparator.getTimeComparator(Ordering.ASC),
+            memoryPool,
+            secondSpillFolder);
+
+    // the second operator spills and starts to output
+    TsBlock tsBlock = null;
+    while (tsBlock == null) {
+      tsBlock = secondOperator.next();
+    }
+    long expectedTime = tsBlock.getPositionCount();
+    assertTrue(new File(secondSpillFolder).exists());
+
+    // the first operator finishes and only deletes its own spilled files
+    while (firstOperator.hasNext()) {
+      firstOperator.next();
+    }
+    firstOperator.close();
+    assertFalse(new File(firstSpillFolder).exists());
+    assertTrue(new File(secondSpillFolder).exists());
+
+    while (secondOperator.hasNext()) {
+      tsBlock = secondOperator.next();
+      for (int i = 0; i < tsBlock.getPositionCount(); i++) {
+        assertEquals(expectedTime, tsBlock.getTimeByIndex(i));
+        expectedTime++;
+      }
+    }
+    assertEquals(TS_BLOCK_NUM * ROWS_PER_TS_BLOCK, expectedTime);
+    assertFalse(new File(secondSpillFolder).exists());
+    secondOperator.close();
+    assertEquals(0, memoryPool.getReservedBytes());
+  }
+
+  /**
+   * Output TS_BLOCK_NUM TsBlocks, all of which contain ROWS_PER_TS_BLOCK rows. The time of the rows
+   * are shuffled across TsBlocks, value of the INT32 column equals to the time and value of the
+   * DOUBLE column is half of the time, or null if the time is a multiple of three.
+   */
+  private static class ShuffledOperator implements Operator {
+
+    private int index = 0;
+
+    @Override
+    public OperatorContext getOperatorContext() {
+      return null;
+    }
+
+    @Override
+    public TsBlock next() {
+      TsBlockBuilder builder =
+          new TsBlockBuilder(ImmutableList.of(TSDataType.INT32, TSDataType.DOUBLE));
+      for (int i = 0; i < ROWS_PER_TS_BLOCK; i++) {
+        // time in [0, TS_BLOCK_NUM * ROWS_PER_TS_BLOCK) and every time appears once
+        int time = i * TS_BLOCK_NUM + (index * 7 + i) % TS_BLOCK_NUM;
+        builder.getTimeColumnBuilder().writeLong(time);
+        builder.getColumnBuilder(0).writeInt(time);
+        if (time % 3 == 0) {
+          builder.getColumnBuilder(1).appendNull();
+        } else {
+          builder.getColumnBuilder(1).writeDouble(time * 0.5);
+        }
+        builder.declarePosition();
+      }
+      index++;
+      return builder.build();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < TS_BLOCK_NUM;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return index >= TS_BLOCK_NUM;
+    }
+
+    @Override
+    public long calculateMaxPeekMemory() {
+      return 0;
+    }
+
+    @Override
+    public long calculateMaxReturnSize() {
+      return 0;
+    }
+
+    @Override
+    public long calculateRetainedSizeAfterCallingNext() {
+      return 0;
+    }
+  }
+
+  /**
+   * Output the rows of ShuffledOperator as a device view, the device column is root.sg.d0, d1 or d2
+   * by time modulo three and the INT32 column equals to the time.
+   */
+  private static class DeviceOperator extends ShuffledOperator {
+
+    @Override
+    public TsBlock next() {
+      TsBlock tsBlock = super.next();
+      TsBlockBuilder builder =
+          new TsBlockBuilder(ImmutableList.of(TSDataType.TEXT, TSDataType.INT32));
+      for (int i = 0; i < tsBlock.getPositionCount(); i++) {
+        long time = tsBlock.getTimeByIndex(i);
+        builder.getTimeColumnBuilder().writeLong(time);
+        builder.getColumnBuilder(0).writeBinary(new Binary("root.sg.d" + time % 3));
+        builder.getColumnBuilder(1).writeInt(tsBlock.getColumn(0).getInt(i));
+        builder.declarePosition();
+      }
+      return builder.build();
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.plan.optimization;
+
+import org.apache.iotdb.commons.exception.IllegalPathException;
+import org.apache.iotdb.db.metadata.path.MeasurementPath;
+import org.apache.iotdb.db.mpp.common.MPPQueryContext;
+import org.apache.iotdb.db.mpp.common.QueryId;
+import org.apache.iotdb.db.mpp.plan.analyze.Analysis;
+import org.apache.iotdb.db.mpp.plan.analyze.Analyzer;
+import org.apache.iotdb.db.mpp.plan.analyze.FakePartitionFetcherImpl;
+import org.apache.iotdb.db.mpp.plan.analyze.FakeSchemaFetcherImpl;
+import org.apache.iotdb.db.mpp.plan.parser.StatementGenerator;
+import org.apache.iotdb.db.mpp.plan.planner.LogicalPlanner;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNodeId;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.process.FilterNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.process.LimitNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.process.OffsetNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.process.ProjectNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.process.TimeJoinNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.source.SeriesScanNode;
+import org.apache.iotdb.db.mpp.plan.statement.Statement;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.filter.ValueFilter;
+
+import org.junit.Test;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PlanOptimizerTest {
+
+  @Test
+  public void testPushDownLimitOffsetThroughTimeJoin() {
+    LimitNode limitNode =
+        (LimitNode) parseSQLToPlanNode("select s1, s2 from root.sg.d1 limit 10 offset 5");
+    OffsetNode offsetNode = (OffsetNode) limitNode.getChild();
+    TimeJoinNode timeJoinNode = (TimeJoinNode) offsetNode.getChild();
+    assertEquals(2, timeJoinNode.getChildren().size());
+    for (PlanNode child : timeJoinNode.getChildren()) {
+      assertEquals(15, ((SeriesScanNode) child).getLimit());
+      assertEquals(0, ((SeriesScanNode) child).getOffset());
+    }
+  }
+
+  @Test
+  public void testPushDownPredicateAndLimit() {
+    LimitNode limitNode =
+        (LimitNode) parseSQLToPlanNode("select s1 from root.sg.d1 where s1 > 10 limit 10");
+    SeriesScanNode scanNode = (SeriesScanNode) limitNode.getChild();
+    assertEquals(ValueFilter.gt(10), scanNode.getValueFilter());
+    assertEquals(10, scanNode.getLimit());
+
+    scanNode = (SeriesScanNode) parseSQLToPlanNode("select s2 from root.sg.d1 where 1 >= s2");
+    assertEquals(ValueFilter.ltEq(1.0), scanNode.getValueFilter());
+  }
+
+  @Test
+  public void testPredicateNotPushedDown() {
+    // the constant can not be represented as INT32
+    FilterNode filterNode =
+        (FilterNode) parseSQLToPlanNode("select s1 from root.sg.d1 where s1 > 10.5");
+    assertNull(((SeriesScanNode) filterNode.getChildren().get(0)).getValueFilter());
+
+    // the predicate refers to another series
+    LimitNode limitNode =
+        (LimitNode) parseSQLToPlanNode("select s1 from root.sg.d1 where s2 > 10 limit 10");
+    filterNode = (FilterNode) limitNode.getChild();
+    assertTrue(filterNode.getChildren().get(0) instanceof TimeJoinNode);
+    for (PlanNode child : filterNode.getChildren().get(0).getChildren()) {
+      assertNull(((SeriesScanNode) child).getValueFilter());
+      assertEquals(0, ((SeriesScanNode) child).getLimit());
+    }
+  }
+
+  @Test
+  public void testRemoveRedundantProject() throws IllegalPathException {
+    SeriesScanNode scanNode =
+        new SeriesScanNode(
+            new PlanNodeId("1"), new MeasurementPath("root.sg.d1.s1", TSDataType.INT32));
+    ProjectNode projectNode =
+        new ProjectNode(new PlanNodeId("2"), scanNode, Collections.singletonList("root.sg.d1.s1"));
+    PlanNode result =
+        new RemoveRedundantProject()
+            .optimize(projectNode, new MPPQueryContext(new QueryId("test_query")));
+    assertSame(scanNode.getClass(), result.getClass());
+    assertEquals(scanNode.getSeriesPath(), ((SeriesScanNode) result).getSeriesPath());
+
+    projectNode = new ProjectNode(new PlanNodeId("2"), scanNode, Arrays.asList("a", "b"));
+    result =
+        new RemoveRedundantProject()
+            .optimize(projectNode, new MPPQueryContext(new QueryId("test_query")));
+    assertTrue(result instanceof ProjectNode);
+  }
+
+  private PlanNode parseSQLToPlanNode(String sql) {
+    Statement statement = StatementGenerator.createStatement(sql, ZonedDateTime.now().getOffset());
+    MPPQueryContext context = new MPPQueryContext(new QueryId("test_query"));
+    Analyzer analyzer =
+        new Analyzer(context, new FakePartitionFetcherImpl(), new FakeSchemaFetcherImpl());
+    Analysis analysis = analyzer.analyze(statement);
+    LogicalPlanner planner =
+        new LogicalPlanner(
+            context,
+            Arrays.asList(
+                new RemoveRedundantProject(), new PredicatePushDown(), new LimitOffsetPushDown()));
+    return planner.plan(analysis).getRootNode();
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.transformation.dag.column;
+
+import org.apache.iotdb.db.mpp.transformation.dag.column.binary.ArithmeticAdditionColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.binary.ArithmeticMultiplicationColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.binary.ArithmeticSubtractionColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.binary.CompareGreaterThanColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.leaf.ConstantColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.leaf.IdentityColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.leaf.LeafColumnTransformer;
+import org.apache.iotdb.db.mpp.transformation.dag.column.unary.ArithmeticNegationColumnTransformer;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.block.TsBlock;
+import org.apache.iotdb.tsfile.read.common.block.column.Column;
+import org.apache.iotdb.tsfile.read.common.block.column.DoubleColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.IntColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.LongColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.TimeColumn;
+import org.apache.iotdb.tsfile.read.common.type.Type;
+import org.apache.iotdb.tsfile.read.common.type.TypeFactory;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class ArithmeticColumnTransformerTest {
+
+  private static final int POSITION_COUNT = 1000;
+
+  private static final Type INT32 = TypeFactory.getType(TSDataType.INT32);
+  private static final Type INT64 = TypeFactory.getType(TSDataType.INT64);
+  private static final Type DOUBLE = TypeFactory.getType(TSDataType.DOUBLE);
+  private static final Type BOOLEAN = TypeFactory.getType(TSDataType.BOOLEAN);
+
+  private final int[] s1 = new int[POSITION_COUNT];
+  private final boolean[] s1IsNull = new boolean[POSITION_COUNT];
+  private final long[] s2 = new long[POSITION_COUNT];
+
+  private TsBlock createTsBlock() {
+    long[] times = new long[POSITION_COUNT];
+    for (int i = 0; i < POSITION_COUNT; i++) {
+      times[i] = i;
+      s1[i] = i - 500;
+      s1IsNull[i] = i % 7 == 0;
+      s2[i] = 3L * i;
+    }
+    return new TsBlock(
+        new TimeColumn(POSITION_COUNT, times),
+        new IntColumn(POSITION_COUNT, Optional.of(s1IsNull), s1),
+        new LongColumn(POSITION_COUNT, Optional.empty(), s2));
+  }
+
+  private static <T extends ColumnTransformer> T reference(T transformer) {
+    transformer.addReferenceCount();
+    return transformer;
+  }
+
+  /** s1 * 2 + s2 > 100 */
+  @Test
+  public void testFusedFilter() {
+    LeafColumnTransformer s1Leaf = reference(new IdentityColumnTransformer(INT32, 0));
+    LeafColumnTransformer s2Leaf = reference(new IdentityColumnTransformer(INT64, 1));
+    LeafColumnTransformer two =
+        reference(
+            new ConstantColumnTransformer(
+                INT32, new IntColumn(1, Optional.of(new boolean[] {false}), new int[] {2})));
+    LeafColumnTransformer hundred =
+        reference(
+            new ConstantColumnTransformer(
+                DOUBLE,
+                new DoubleColumn(1, Optional.of(new boolean[] {false}), new double[] {100})));
+    ColumnTransformer multiplication =
+        reference(new ArithmeticMultiplicationColumnTransformer(DOUBLE, s1Leaf, two));
+    ColumnTransformer addition =
+        reference(new ArithmeticAdditionColumnTransformer(DOUBLE, multiplication, s2Leaf));
+    ColumnTransformer filter =
+        reference(new CompareGreaterThanColumnTransformer(BOOLEAN, addition, hundred));
+
+    TsBlock tsBlock = createTsBlock();
+    // evaluate several blocks with the same tree
+    for (int round = 0; round < 3; round++) {
+      for (LeafColumnTransformer leaf : Arrays.asList(s1Leaf, s2Leaf, two, hundred)) {
+        leaf.initFromTsBlock(tsBlock);
+      }
+      filter.tryEvaluate();
+      Column result = filter.getColumn();
+      Assert.assertEquals(POSITION_COUNT, result.getPositionCount());
+      for (int i = 0; i < POSITION_COUNT; i++) {
+        if (s1IsNull[i]) {
+          Assert.assertTrue(result.isNull(i));
+        } else {
+          Assert.assertFalse(result.isNull(i));
+          Assert.assertEquals(s1[i] * 2 + s2[i] > 100, result.getBoolean(i));
+        }
+      }
+    }
+  }
+
+  /** -(s1 - s2) and (s1 - s2) * s2, where s1 - s2 is evaluated once and read by both. */
+  @Test
+  public void testSharedSubExpression() {
+    LeafColumnTransformer s1Leaf = reference(new IdentityColumnTransformer(INT32, 0));
+    LeafColumnTransformer s2Leaf = reference(reference(new IdentityColumnTransformer(INT64, 1)));
+    ColumnTransformer subtraction =
+        reference(reference(new ArithmeticSubtractionColumnTransformer(DOUBLE, s1Leaf, s2Leaf)));
+    ColumnTransformer negation =
+        reference(new ArithmeticNegationColumnTransformer(DOUBLE, subtraction));
+    ColumnTransformer multiplication =
+        reference(new ArithmeticMultiplicationColumnTransformer(DOUBLE, subtraction, s2Leaf));
+
+    TsBlock tsBlock = createTsBlock();
+    for (LeafColumnTransformer leaf : Arrays.asList(s1Leaf, s2Leaf)) {
+      leaf.initFromTsBlock(tsBlock);
+    }
+    List<ColumnTransformer> outputs = Arrays.asList(negation, multiplication);
+    for (ColumnTransformer output : outputs) {
+      output.tryEvaluate();
+    }
+    Column negated = negation.getColumn();
+    Column multiplied = multiplication.getColumn();
+    // both readers have consumed the shared column
+    Assert.assertFalse(subtraction.columnCache.hasCached());
+    for (int i = 0; i < POSITION_COUNT; i++) {
+      if (s1IsNull[i]) {
+        Assert.assertTrue(negated.isNull(i));
+        Assert.assertTrue(multiplied.isNull(i));
+      } else {
+        Assert.assertEquals(-(double) (s1[i] - s2[i]), negated.getDouble(i), 0);
+        Assert.assertEquals((double) (s1[i] - s2[i]) * s2[i], multiplied.getDouble(i), 0);
+      }
+    }
+  }
+
+  /** -s1 + s1, where -s1 is an INT32 and must be narrowed before the addition. */
+  @Test
+  public void testIntNegation() {
+    LeafColumnTransformer s1Leaf = reference(reference(new IdentityColumnTransformer(INT32, 0)));
+    ColumnTransformer negation = reference(new ArithmeticNegationColumnTransformer(INT32, s1Leaf));
+    ColumnTransformer addition =
+        reference(new ArithmeticAdditionColumnTransformer(DOUBLE, negation, s1Leaf));
+
+    s1Leaf.initFromTsBlock(
+        new TsBlock(
+            new TimeColumn(3, new long[] {1, 2, 3}),
+            new IntColumn(3, Optional.empty(), new int[] {Integer.MIN_VALUE, 1, -1})));
+    addition.tryEvaluate();
+    Column result = addition.getColumn();
+    // -Integer.MIN_VALUE is written as Integer.MAX_VALUE
+    Assert.assertEquals(-1, result.getDouble(0), 0);
+    Assert.assertEquals(0, result.getDouble(1), 0);
+    Assert.assertEquals(0, result.getDouble(2), 0);
+  }
+}
@@ -22,7 +22,16 @@ import org.apache.iotdb.commons.file.SystemFileFactory;
 import org.apache.iotdb.db.conf.IoTDBConfig;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.compaction.inner.utils.MultiTsFileDeviceIterator;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.datapoint.LongDataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -31,6 +40,8 @@ import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.Assert.fail;
 
@@ -134,4 +145,126 @@ public class FileReaderManagerTest {
       }
     }
   }
+
+  @Test
+  public void testEvictIdleClosedReaders() throws IOException, WriteProcessException {
+    int maxOpenedFileReaderNum = dbConfig.getMaxOpenedFileReaderNum();
+    dbConfig.setMaxOpenedFileReaderNum(2);
+    FileReaderManager manager = FileReaderManager.getInstance();
+    manager.closeAndRemoveAllOpenedReaders();
+    TsFileResource[] tsFileResources = new TsFileResource[3];
+    try {
+      for (int i = 0; i < tsFileResources.length; i++) {
+        File file =
+            SystemFileFactory.INSTANCE.getFile(
+                TestConstant.BASE_OUTPUT_PATH.concat("evict-" + i + ".tsfile"));
+        try (TsFileWriter writer = new TsFileWriter(file)) {
+          writer.registerTimeseries(
+              new org.apache.iotdb.tsfile.read.common.Path("root.sg.d1"),
+              new MeasurementSchema("s1", TSDataType.INT64, TSEncoding.PLAIN));
+          TSRecord record = new TSRecord(i, "root.sg.d1");
+          record.addTuple(new LongDataPoint("s1", i));
+          writer.write(record);
+        }
+        tsFileResources[i] = new TsFileResource(file);
+      }
+      long evictedNum = manager.getEvictedReaderNum();
+
+      // readers are kept open after the last reference is released
+      TsFileSequenceReader[] readers = new TsFileSequenceReader[tsFileResources.length];
+      for (int i = 0; i < 2; i++) {
+        manager.increaseFileReaderReference(tsFileResources[i], true);
+        readers[i] = manager.get(tsFileResources[i].getTsFilePath(), true);
+        manager.decreaseFileReaderReference(tsFileResources[i], true);
+        Assert.assertTrue(manager.contains(tsFileResources[i], true));
+      }
+      Assert.assertEquals(2, manager.getOpenedClosedReaderNum());
+
+      // an idle reader is reused by later queries
+      manager.increaseFileReaderReference(tsFileResources[0], true);
+      Assert.assertSame(readers[0], manager.get(tsFileResources[0].getTsFilePath(), true));
+      manager.decreaseFileReaderReference(tsFileResources[0], true);
+
+      // the third reader exceeds the budget, so the least recently used idle reader is evicted
+      manager.increaseFileReaderReference(tsFileResources[2], true);
+      manager.get(tsFileResources[2].getTsFilePath(), true);
+      Assert.assertEquals(2, manager.getOpenedClosedReaderNum());
+      Assert.assertEquals(evictedNum + 1, manager.getEvictedReaderNum());
+      Assert.assertTrue(manager.contains(tsFileResources[0], true));
+      Assert.assertFalse(manager.contains(tsFileResources[1], true));
+      manager.decreaseFileReaderReference(tsFileResources[2], true);
+
+      // readers in use are never evicted
+      dbConfig.setMaxOpenedFileReaderNum(0);
+      manager.increaseFileReaderReference(tsFileResources[2], true);
+      manager.increaseFileReaderReference(tsFileResources[0], true);
+      manager.decreaseFileReaderReference(tsFileResources[0], true);
+      Assert.assertFalse(manager.contains(tsFileResources[0], true));
+      Assert.assertTrue(manager.contains(tsFileResources[2], true));
+      manager.decreaseFileReaderReference(tsFileResources[2], true);
+      Assert.assertFalse(manager.contains(tsFileResources[2], true));
+      Assert.assertEquals(0, manager.getOpenedClosedReaderNum());
+    } finally {
+      dbConfig.setMaxOpenedFileReaderNum(maxOpenedFileReaderNum);
+      manager.closeAndRemoveAllOpenedReaders();
+      for (TsFileResource tsFileResource : tsFileResources) {
+        if (tsFileResource != null) {
+          tsFileResource.remove();
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCompactionDeviceIteratorHoldsReaders() throws IOException, WriteProcessException {
+    int maxOpenedFileReaderNum = dbConfig.getMaxOpenedFileReaderNum();
+    FileReaderManager manager = FileReaderManager.getInstance();
+    manager.closeAndRemoveAllOpenedReaders();
+    List<TsFileResource> tsFileResources = new ArrayList<>();
+    try {
+      for (int i = 0; i < 2; i++) {
+        File file =
+            SystemFileFactory.INSTANCE.getFile(
+                TestConstant.BASE_OUTPUT_PATH.concat("iterator-" + i + ".tsfile"));
+        try (TsFileWriter writer = new TsFileWriter(file)) {
+          writer.registerTimeseries(
+              new org.apache.iotdb.tsfile.read.common.Path("root.sg.d" + i),
+              new MeasurementSchema("s1", TSDataType.INT64, TSEncoding.PLAIN));
+          TSRecord record = new TSRecord(i, "root.sg.d" + i);
+          record.addTuple(new LongDataPoint("s1", i));
+          writer.write(record);
+        }
+        TsFileResource tsFileResource = new TsFileResource(file);
+        tsFileResources.add(tsFileResource);
+        // an idle reader left by an earlier query
+        manager.increaseFileReaderReference(tsFileResource, true);
+        manager.get(tsFileResource.getTsFilePath(), true);
+        manager.decreaseFileReaderReference(tsFileResource, true);
+      }
+
+      try (MultiTsFileDeviceIterator deviceIterator =
+          new MultiTsFileDeviceIterator(
+              tsFileResources.subList(0, 1), tsFileResources.subList(1, 2))) {
+        // idle readers are evicted, but the ones used by the compaction are kept
+        dbConfig.setMaxOpenedFileReaderNum(0);
+        manager.increaseFileReaderReference(tsFileResources.get(0), true);
+        manager.decreaseFileReaderReference(tsFileResources.get(0), true);
+        Assert.assertTrue(manager.contains(tsFileResources.get(0), true));
+        Assert.assertTrue(manager.contains(tsFileResources.get(1), true));
+        Assert.assertTrue(deviceIterator.hasNextDevice());
+        Assert.assertEquals("root.sg.d0", deviceIterator.nextDevice().left);
+        Assert.assertEquals("root.sg.d1", deviceIterator.nextDevice().left);
+      }
+      // the readers become idle when the iterator is closed
+      manager.increaseFileReaderReference(tsFileResources.get(0), true);
+      manager.decreaseFileReaderReference(tsFileResources.get(0), true);
+      Assert.assertEquals(0, manager.getOpenedClosedReaderNum());
+    } finally {
+      dbConfig.setMaxOpenedFileReaderNum(maxOpenedFileReaderNum);
+      manager.closeAndRemoveAllOpenedReaders();
+      for (TsFileResource tsFileResource : tsFileResources) {
+        tsFileResource.remove();
+      }
+    }
+  }
 }
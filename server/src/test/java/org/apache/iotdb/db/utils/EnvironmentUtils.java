@@ -46,6 +46,7 @@ import org.apache.iotdb.db.query.control.QueryResourceManager;
 import org.apache.iotdb.db.query.control.QueryTimeManager;
 import org.apache.iotdb.db.query.executor.LastQueryExecutor;
 import org.apache.iotdb.db.rescon.MemTableManager;
+import org.apache.iotdb.db.rescon.OffHeapArrayManager;
 import org.apache.iotdb.db.rescon.PrimitiveArrayManager;
 import org.apache.iotdb.db.rescon.SystemInfo;
 import org.apache.iotdb.db.rescon.TsFileResourceManager;
@@ -176,6 +177,7 @@ public class EnvironmentUtils {
 
     // close array manager
     PrimitiveArrayManager.close();
+    OffHeapArrayManager.close();
 
     // clear system info
     SystemInfo.getInstance().close();
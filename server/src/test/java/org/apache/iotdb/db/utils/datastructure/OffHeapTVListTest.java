@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.utils.datastructure;
+
+import org.apache.iotdb.db.rescon.OffHeapArrayManager;
+import org.apache.iotdb.db.rescon.SystemInfo;
+import org.apache.iotdb.db.wal.utils.WALByteBufferForTest;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.utils.BitMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+public class OffHeapTVListTest {
+
+  private static final TSDataType[] DATA_TYPES = {
+    TSDataType.BOOLEAN, TSDataType.INT32, TSDataType.INT64, TSDataType.FLOAT, TSDataType.DOUBLE
+  };
+
+  @Test
+  public void testPutAndSort() {
+    Random random = new Random(0);
+    for (TSDataType dataType : DATA_TYPES) {
+      TVList heapList = newHeapList(dataType);
+      OffHeapTVList offHeapList = new OffHeapTVList(dataType);
+      for (int i = 0; i < 10000; i++) {
+        long time = random.nextInt(10000);
+        int value = random.nextInt() - 5000;
+        put(heapList, time, value);
+        put(offHeapList, time, value);
+      }
+      Assert.assertFalse(offHeapList.isSorted());
+      heapList.sort();
+      offHeapList.sort();
+      assertListEquals(heapList, offHeapList);
+      Assert.assertTrue(SystemInfo.getInstance().getOffHeapMemTableCost() > 0);
+      offHeapList.clear();
+      Assert.assertEquals(0, offHeapList.rowCount());
+    }
+  }
+
+  @Test
+  public void testDropFreeSlabs() {
+    long threshold = OffHeapArrayManager.getPooledArraysMemoryThreshold();
+    OffHeapArrayManager.setPooledArraysMemoryThreshold(0);
+    try {
+      long usedBytes = OffHeapArrayManager.getUsedBytes();
+      long offHeapCost = SystemInfo.getInstance().getOffHeapMemTableCost();
+      // time and value arrays of 4MB in total
+      int rowCount = 2 * 1024 * 1024 / Long.BYTES;
+      OffHeapTVList list = new OffHeapTVList(TSDataType.INT64);
+      for (int i = 0; i < rowCount; i++) {
+        list.putLong(i, i);
+      }
+      Assert.assertEquals(
+          usedBytes + 2L * rowCount * Long.BYTES, OffHeapArrayManager.getUsedBytes());
+      Assert.assertTrue(SystemInfo.getInstance().getOffHeapMemTableCost() > offHeapCost);
+      list.clear();
+      Assert.assertEquals(usedBytes, OffHeapArrayManager.getUsedBytes());
+      // only the slab that new arrays are sliced from is kept
+      Assert.assertTrue(
+          SystemInfo.getInstance().getOffHeapMemTableCost() <= offHeapCost + 1024 * 1024);
+    } finally {
+      OffHeapArrayManager.setPooledArraysMemoryThreshold(threshold);
+    }
+  }
+
+  @Test
+  public void testPutBatchWithBitMap() {
+    int size = 1001;
+    long[] times = new long[size];
+    boolean[] booleans = new boolean[size];
+    int[] ints = new int[size];
+    long[] longs = new long[size];
+    float[] floats = new float[size];
+    double[] doubles = new double[size];
+    BitMap bitMap = new BitMap(size);
+    for (int i = 0; i < size; i++) {
+      times[i] = size - i;
+      booleans[i] = i % 3 == 0;
+      ints[i] = i;
+      longs[i] = i;
+      floats[i] = i + 0.5f;
+      doubles[i] = i + 0.25;
+      if (i % 100 == 0) {
+        bitMap.mark(i);
+      }
+    }
+    for (BitMap map : new BitMap[] {null, bitMap}) {
+      for (TSDataType dataType : DATA_TYPES) {
+        TVList heapList = newHeapList(dataType);
+        OffHeapTVList offHeapList = new OffHeapTVList(dataType);
+        for (TVList list : new TVList[] {heapList, offHeapList}) {
+          // insert twice to cover a batch starting in the middle of an array
+          for (int start = 0; start < size; start += 700) {
+            int end = Math.min(start + 700, size);
+            switch (dataType) {
+              case BOOLEAN:
+                list.putBooleans(times.clone(), booleans.clone(), map, start, end);
+                break;
+              case INT32:
+                list.putInts(times.clone(), ints.clone(), map, start, end);
+                break;
+              case INT64:
+                list.putLongs(times.clone(), longs.clone(), map, start, end);
+                break;
+              case FLOAT:
+                list.putFloats(times.clone(), floats.clone(), map, start, end);
+                break;
+              default:
+                list.putDoubles(times.clone(), doubles.clone(), map, start, end);
+                break;
+            }
+          }
+        }
+        Assert.assertEquals(heapList.isSorted(), offHeapList.isSorted());
+        Assert.assertEquals(heapList.getMinTime(), offHeapList.getMinTime());
+        assertListEquals(heapList, offHeapList);
+        heapList.sort();
+        offHeapList.sort();
+        assertListEquals(heapList, offHeapList);
+      }
+    }
+  }
+
+  @Test
+  public void testCloneAndDelete() {
+    for (TSDataType dataType : DATA_TYPES) {
+      TVList heapList = newHeapList(dataType);
+      OffHeapTVList offHeapList = new OffHeapTVList(dataType);
+      for (int i = 1000; i >= 0; i--) {
+        put(heapList, i, i);
+        put(offHeapList, i, i);
+      }
+      OffHeapTVList clonedList = offHeapList.clone();
+      assertListEquals(heapList, clonedList);
+
+      Assert.assertEquals(heapList.delete(100, 900), offHeapList.delete(100, 900));
+      assertListEquals(heapList, offHeapList);
+      // the clone doesn't share arrays with the origin list
+      Assert.assertEquals(1001, clonedList.rowCount());
+      offHeapList.sort();
+      put(offHeapList, 2000, 1);
+      Assert.assertEquals(201, offHeapList.rowCount());
+      Assert.assertEquals(2000, offHeapList.getTime(200));
+      Assert.assertEquals(
+          Byte.BYTES + Integer.BYTES + 1001 * (Long.BYTES + dataType.getDataTypeSize()),
+          clonedList.serializedSize());
+    }
+  }
+
+  @Test
+  public void testSerializeToWAL() throws IOException {
+    for (TSDataType dataType : DATA_TYPES) {
+      OffHeapTVList offHeapList = new OffHeapTVList(dataType);
+      for (int i = 0; i < 100; i++) {
+        put(offHeapList, i, i);
+      }
+      ByteBuffer buffer = ByteBuffer.allocate(offHeapList.serializedSize());
+      offHeapList.serializeToWAL(new WALByteBufferForTest(buffer));
+      Assert.assertFalse(buffer.hasRemaining());
+      // deserialized as the heap TVList of the same data type
+      TVList deserializedList =
+          TVList.deserialize(new DataInputStream(new ByteArrayInputStream(buffer.array())));
+      Assert.assertEquals(dataType, deserializedList.getDataType());
+      assertListEquals(offHeapList, deserializedList);
+    }
+  }
+
+  private static TVList newHeapList(TSDataType dataType) {
+    switch (dataType) {
+      case BOOLEAN:
+        return new BooleanTVList();
+      case INT32:
+        return new IntTVList();
+      case INT64:
+        return new LongTVList();
+      case FLOAT:
+        return new FloatTVList();
+      default:
+        return new DoubleTVList();
+    }
+  }
+
+  private static void put(TVList list, long time, int value) {
+    switch (list.getDataType()) {
+      case BOOLEAN:
+        list.putBoolean(time, value % 2 == 0);
+        break;
+      case INT32:
+        list.putInt(time, value);
+        break;
+      case INT64:
+        list.putLong(time, (long) value * Integer.MAX_VALUE);
+        break;
+      case FLOAT:
+        list.putFloat(time, value / 3.0f);
+        break;
+      default:
+        list.putDouble(time, value / 7.0);
+        break;
+    }
+  }
+
+  private static void assertListEquals(TVList expected, TVList actual) {
+    Assert.assertEquals(expected.rowCount(), actual.rowCount());
+    for (int i = 0; i < expected.rowCount(); i++) {
+      Assert.assertEquals(expected.getTime(i), actual.getTime(i));
+      Assert.assertEquals(expected.getTimeValuePair(i), actual.getTimeValuePair(i));
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.utils.datastructure;
+
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Random;
+
+public class TVListSortTest {
+
+  private static final IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+
+  private int prevParallelSortThreshold;
+
+  @Before
+  public void setUp() {
+    prevParallelSortThreshold = config.getTvListParallelSortThreshold();
+    // make small lists sorted in parallel
+    config.setTvListParallelSortThreshold(64);
+  }
+
+  @After
+  public void tearDown() {
+    config.setTvListParallelSortThreshold(prevParallelSortThreshold);
+  }
+
+  @Test
+  public void testParallelSort() {
+    for (int threshold : new int[] {0, 64}) {
+      config.setTvListParallelSortThreshold(threshold);
+      Random random = new Random(threshold);
+      LongTVList tvList = new LongTVList();
+      for (long i = 0; i < 10000; i++) {
+        tvList.putLong(random.nextInt(1000), i);
+      }
+      tvList.sort();
+      assertSortedAndStable(tvList);
+    }
+  }
+
+  @Test
+  public void testMergeRuns() {
+    LongTVList tvList = new LongTVList();
+    for (long i = 0; i < 5000; i++) {
+      tvList.putLong(i * 2, i);
+    }
+    tvList.sort();
+    // several out-of-order batches, each of them is in order
+    long value = 5000;
+    for (int batch = 0; batch < 4; batch++) {
+      for (long i = 0; i < 2000; i++) {
+        tvList.putLong(i * 5 + batch, value++);
+      }
+    }
+    Assert.assertFalse(tvList.isSorted());
+    tvList.sort();
+    Assert.assertEquals(13000, tvList.rowCount());
+    assertSortedAndStable(tvList);
+
+    // append more rows, the sorted rows are kept as the first run
+    for (long i = 0; i < 1000; i++) {
+      tvList.putLong(10000 - i, value++);
+    }
+    tvList.sort();
+    Assert.assertEquals(14000, tvList.rowCount());
+    assertSortedAndStable(tvList);
+  }
+
+  @Test
+  public void testSortOtherLists() {
+    Random random = new Random(0);
+    IntTVList intTVList = new IntTVList();
+    OffHeapTVList offHeapTVList = new OffHeapTVList(TSDataType.INT32);
+    AlignedTVList alignedTVList = new AlignedTVList(Collections.singletonList(TSDataType.INT64));
+    for (int i = 0; i < 10000; i++) {
+      long time = random.nextInt(1000);
+      intTVList.putInt(time, i);
+      offHeapTVList.putInt(time, i);
+      alignedTVList.putAlignedValue(time, new Object[] {(long) i}, new int[] {0});
+    }
+    intTVList.sort();
+    offHeapTVList.sort();
+    alignedTVList.sort();
+    for (int i = 0; i < 10000; i++) {
+      Assert.assertEquals(intTVList.getTime(i), offHeapTVList.getTime(i));
+      Assert.assertEquals(intTVList.getInt(i), offHeapTVList.getInt(i));
+      Assert.assertEquals(intTVList.getTime(i), alignedTVList.getTime(i));
+      Assert.assertEquals(intTVList.getInt(i), alignedTVList.getValueIndex(i));
+      if (i > 0) {
+        Assert.assertTrue(intTVList.getTime(i - 1) <= intTVList.getTime(i));
+        if (intTVList.getTime(i - 1) == intTVList.getTime(i)) {
+          Assert.assertTrue(intTVList.getInt(i - 1) < intTVList.getInt(i));
+        }
+      }
+    }
+  }
+
+  /** values are the insertion order, so rows of the same time keep ascending values */
+  private void assertSortedAndStable(LongTVList tvList) {
+    Assert.assertTrue(tvList.isSorted());
+    for (int i = 1; i < tvList.rowCount(); i++) {
+      Assert.assertTrue(tvList.getTime(i - 1) <= tvList.getTime(i));
+      if (tvList.getTime(i - 1) == tvList.getTime(i)) {
+        Assert.assertTrue(tvList.getLong(i - 1) < tvList.getLong(i));
+      }
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.wal.buffer;
+
+import org.apache.iotdb.db.utils.EnvironmentUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WALBufferGroupCommitTest extends WALBufferCommonTest {
+  private boolean prevEnableWalGroupCommit;
+
+  @Before
+  public void setUp() throws Exception {
+    EnvironmentUtils.cleanDir(logDirectory);
+    prevEnableWalGroupCommit = config.isEnableWalGroupCommit();
+    config.setEnableWalGroupCommit(true);
+    super.setUp();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    super.tearDown();
+    config.setEnableWalGroupCommit(prevEnableWalGroupCommit);
+    EnvironmentUtils.cleanDir(logDirectory);
+  }
+
+  @Test
+  public void testGroupCommitPolicy() {
+    WALGroupCommitPolicy policy = new WALGroupCommitPolicy();
+    // no fsync cost is known yet
+    assertEquals(0, policy.getWaitTimeInNs(10, true, 10));
+
+    policy.recordFsyncCost(TimeUnit.MILLISECONDS.toNanos(1));
+    // idle node calls fsync at once
+    assertEquals(0, policy.getWaitTimeInNs(0, false, 10));
+    // wait about one fsync when others are writing
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(1), policy.getWaitTimeInNs(5, false, 10));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(1), policy.getWaitTimeInNs(0, true, 10));
+    // but never longer than the max delay
+    policy.recordFsyncCost(TimeUnit.MILLISECONDS.toNanos(100));
+    assertTrue(policy.getWaitTimeInNs(5, false, 10) <= TimeUnit.MILLISECONDS.toNanos(10));
+    assertEquals(0, policy.getWaitTimeInNs(5, false, 0));
+
+    // batch size follows recent batches and is bounded by capacity
+    for (int i = 0; i < 50; ++i) {
+      policy.recordBatchSize(20);
+    }
+    assertEquals(21, policy.getTargetBatchSize(0, 50));
+    assertEquals(31, policy.getTargetBatchSize(30, 50));
+    assertEquals(10, policy.getTargetBatchSize(0, 10));
+    // busy node waits even if the queue is empty now
+    assertTrue(policy.getWaitTimeInNs(0, false, 10) > 0);
+  }
+}
@@ -111,8 +111,15 @@ public class TSFileConfig implements Serializable {
   private double freqEncodingSNR = 40;
   /** Default block size for FREQ encoding is 1024. */
   private int freqEncodingBlockSize = 1024;
-  /** Data compression method, TsFile supports UNCOMPRESSED, SNAPPY or LZ4. */
+  /** Data compression method, TsFile supports UNCOMPRESSED, SNAPPY, GZIP, LZ4 or ZSTD. */
   private CompressionType compressor = CompressionType.SNAPPY;
+  /**
+   * Level of LZ4 compression. 0 uses the fast compressor, 1 to 17 use the high compression mode.
+   * Data written in either mode is decompressed in the same way.
+   */
+  private int lz4CompressionLevel = 0;
+  /** Level of ZSTD compression, 1 to 22. Default value is 3. */
+  private int zstdCompressionLevel = 3;
   /** Line count threshold for checking page memory occupied size. */
   private int pageCheckSizeThreshold = 100;
   /** Default endian value is BIG_ENDIAN. */
@@ -294,6 +301,22 @@ public class TSFileConfig implements Serializable {
     this.compressor = CompressionType.valueOf(compressor);
   }
 
+  public int getLz4CompressionLevel() {
+    return lz4CompressionLevel;
+  }
+
+  public void setLz4CompressionLevel(int lz4CompressionLevel) {
+    this.lz4CompressionLevel = lz4CompressionLevel;
+  }
+
+  public int getZstdCompressionLevel() {
+    return zstdCompressionLevel;
+  }
+
+  public void setZstdCompressionLevel(int zstdCompressionLevel) {
+    this.zstdCompressionLevel = zstdCompressionLevel;
+  }
+
   public int getPageCheckSizeThreshold() {
     return pageCheckSizeThreshold;
   }
@@ -80,6 +80,8 @@ public class TSFileDescriptor {
     writer.setString(conf::setTimeEncoder, "time_encoder");
     writer.setString(conf::setValueEncoder, "value_encoder");
     writer.setString(conf::setCompressor, "compressor");
+    writer.setInt(conf::setLz4CompressionLevel, "lz4_compression_level");
+    writer.setInt(conf::setZstdCompressionLevel, "zstd_compression_level");
     writer.setInt(conf::setBatchSize, "batch_size");
     writer.setInt(conf::setFreqEncodingBlockSize, "freq_block_size");
     writer.setDouble(conf::setFreqEncodingSNR, "freq_snr");
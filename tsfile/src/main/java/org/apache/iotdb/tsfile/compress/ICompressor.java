@@ -19,10 +19,13 @@
 
 package org.apache.iotdb.tsfile.compress;
 
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.exception.compress.CompressionTypeNotSupportedException;
 import org.apache.iotdb.tsfile.exception.compress.GZIPCompressOverflowException;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdException;
 import net.jpountz.lz4.LZ4Compressor;
 import net.jpountz.lz4.LZ4Factory;
 import org.xerial.snappy.Snappy;
@@ -38,6 +41,7 @@ import java.util.zip.GZIPOutputStream;
 import static org.apache.iotdb.tsfile.file.metadata.enums.CompressionType.GZIP;
 import static org.apache.iotdb.tsfile.file.metadata.enums.CompressionType.LZ4;
 import static org.apache.iotdb.tsfile.file.metadata.enums.CompressionType.SNAPPY;
+import static org.apache.iotdb.tsfile.file.metadata.enums.CompressionType.ZSTD;
 
 /** compress data according to type in schema. */
 public interface ICompressor extends Serializable {
@@ -65,6 +69,8 @@ public interface ICompressor extends Serializable {
         return new IOTDBLZ4Compressor();
       case GZIP:
         return new GZIPCompressor();
+      case ZSTD:
+        return new ZstdCompressor();
       default:
         throw new CompressionTypeNotSupportedException(name.toString());
     }
@@ -191,9 +197,17 @@ public interface ICompressor extends Serializable {
     private LZ4Compressor compressor;
 
     public IOTDBLZ4Compressor() {
+      this(TSFileDescriptor.getInstance().getConfig().getLz4CompressionLevel());
+    }
+
+    /** @param compressionLevel 0 for the fast compressor, otherwise the high compression level */
+    public IOTDBLZ4Compressor(int compressionLevel) {
       super();
       LZ4Factory factory = LZ4Factory.fastestInstance();
-      compressor = factory.fastCompressor();
+      compressor =
+          compressionLevel > 0
+              ? factory.highCompressor(compressionLevel)
+              : factory.fastCompressor();
     }
 
     @Override
@@ -311,4 +325,81 @@ public interface ICompressor extends Serializable {
       return GZIP;
     }
   }
+
+  class ZstdCompressor implements ICompressor {
+
+    private final int compressionLevel;
+
+    public ZstdCompressor() {
+      this(TSFileDescriptor.getInstance().getConfig().getZstdCompressionLevel());
+    }
+
+    public ZstdCompressor(int compressionLevel) {
+      this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) throws IOException {
+      if (data == null) {
+        return new byte[0];
+      }
+      try {
+        return Zstd.compress(data, compressionLevel);
+      } catch (ZstdException e) {
+        throw new IOException(e);
+      }
+    }
+
+    @Override
+    public byte[] compress(byte[] data, int offset, int length) throws IOException {
+      byte[] maxCompressed = new byte[getMaxBytesForCompression(length)];
+      int compressedSize = compress(data, offset, length, maxCompressed);
+      byte[] compressed;
+      if (compressedSize < maxCompressed.length) {
+        compressed = new byte[compressedSize];
+        System.arraycopy(maxCompressed, 0, compressed, 0, compressedSize);
+      } else {
+        compressed = maxCompressed;
+      }
+      return compressed;
+    }
+
+    @Override
+    public int compress(byte[] data, int offset, int length, byte[] compressed) throws IOException {
+      long compressedSize =
+          Zstd.compressByteArray(
+              compressed, 0, compressed.length, data, offset, length, compressionLevel);
+      if (Zstd.isError(compressedSize)) {
+        throw new IOException(Zstd.getErrorName(compressedSize));
+      }
+      return (int) compressedSize;
+    }
+
+    @Override
+    public int compress(ByteBuffer data, ByteBuffer compressed) throws IOException {
+      try {
+        if (data.isDirect() && compressed.isDirect()) {
+          return Zstd.compress(compressed, data, compressionLevel);
+        }
+        int length = data.remaining();
+        byte[] dataBefore = new byte[length];
+        data.get(dataBefore, 0, length);
+        byte[] res = Zstd.compress(dataBefore, compressionLevel);
+        compressed.put(res);
+        return res.length;
+      } catch (ZstdException e) {
+        throw new IOException(e);
+      }
+    }
+
+    @Override
+    public int getMaxBytesForCompression(int uncompressedDataSize) {
+      return (int) Zstd.compressBound(uncompressedDataSize);
+    }
+
+    @Override
+    public CompressionType getType() {
+      return ZSTD;
+    }
+  }
 }
@@ -22,6 +22,8 @@ package org.apache.iotdb.tsfile.compress;
 import org.apache.iotdb.tsfile.exception.compress.CompressionTypeNotSupportedException;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdException;
 import net.jpountz.lz4.LZ4Compressor;
 import net.jpountz.lz4.LZ4Factory;
 import net.jpountz.lz4.LZ4SafeDecompressor;
@@ -54,6 +56,8 @@ public interface IUnCompressor {
         return new LZ4UnCompressor();
       case GZIP:
         return new GZIPUnCompressor();
+      case ZSTD:
+        return new ZstdUnCompressor();
       default:
         throw new CompressionTypeNotSupportedException(name.toString());
     }
@@ -312,4 +316,63 @@ public interface IUnCompressor {
       return CompressionType.GZIP;
     }
   }
+
+  class ZstdUnCompressor implements IUnCompressor {
+
+    @Override
+    public int getUncompressedLength(byte[] array, int offset, int length) {
+      return (int) Zstd.decompressedSize(array, offset, length);
+    }
+
+    @Override
+    public int getUncompressedLength(ByteBuffer buffer) {
+      return (int) Zstd.decompressedSize(buffer);
+    }
+
+    @Override
+    public byte[] uncompress(byte[] byteArray) throws IOException {
+      if (null == byteArray) {
+        return new byte[0];
+      }
+      try {
+        return Zstd.decompress(byteArray, (int) Zstd.decompressedSize(byteArray));
+      } catch (ZstdException e) {
+        throw new IOException(e);
+      }
+    }
+
+    @Override
+    public int uncompress(byte[] byteArray, int offset, int length, byte[] output, int outOffset)
+        throws IOException {
+      long uncompressedSize =
+          Zstd.decompressByteArray(
+              output, outOffset, output.length - outOffset, byteArray, offset, length);
+      if (Zstd.isError(uncompressedSize)) {
+        throw new IOException(Zstd.getErrorName(uncompressedSize));
+      }
+      return (int) uncompressedSize;
+    }
+
+    @Override
+    public int uncompress(ByteBuffer compressed, ByteBuffer uncompressed) throws IOException {
+      try {
+        if (compressed.isDirect() && uncompressed.isDirect()) {
+          return Zstd.decompress(uncompressed, compressed);
+        }
+        int length = compressed.remaining();
+        byte[] dataBefore = new byte[length];
+        compressed.get(dataBefore, 0, length);
+        byte[] res = uncompress(dataBefore);
+        uncompressed.put(res);
+        return res.length;
+      } catch (ZstdException e) {
+        throw new IOException(e);
+      }
+    }
+
+    @Override
+    public CompressionType getCodecName() {
+      return CompressionType.ZSTD;
+    }
+  }
 }
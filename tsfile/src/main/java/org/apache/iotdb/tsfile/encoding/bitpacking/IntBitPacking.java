@@ -0,0 +1,1576 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.bitpacking;
+
+import java.util.Arrays;
+
+/**
+ * Unrolled kernels packing (unpacking) 8 int values of a fixed bit-width into (from) exactly {@code
+ * width} bytes, one method per width. Values are laid out one after another, most significant bit
+ * first, as described in {@link IntPacker}.
+ *
+ * <p>Every kernel works on constant shifts and masks only, so that the JIT can keep the values in
+ * registers instead of looping bit by bit. This class is generated by BitPackingGenerator in the
+ * tests, change the generator instead of this class.
+ */
+final class IntBitPacking {
+
+  private IntBitPacking() {
+    // util class
+  }
+
+  /**
+   * pack values[offset, offset + 8) into buf[bufOffset, bufOffset + width). Every value must fit in
+   * {@code width} bits.
+   */
+  static void pack8(int[] values, int offset, byte[] buf, int bufOffset, int width) {
+    switch (width) {
+      case 0:
+        return;
+      case 1:
+        pack1(values, offset, buf, bufOffset);
+        return;
+      case 2:
+        pack2(values, offset, buf, bufOffset);
+        return;
+      case 3:
+        pack3(values, offset, buf, bufOffset);
+        return;
+      case 4:
+        pack4(values, offset, buf, bufOffset);
+        return;
+      case 5:
+        pack5(values, offset, buf, bufOffset);
+        return;
+      case 6:
+        pack6(values, offset, buf, bufOffset);
+        return;
+      case 7:
+        pack7(values, offset, buf, bufOffset);
+        return;
+      case 8:
+        pack8(values, offset, buf, bufOffset);
+        return;
+      case 9:
+        pack9(values, offset, buf, bufOffset);
+        return;
+      case 10:
+        pack10(values, offset, buf, bufOffset);
+        return;
+      case 11:
+        pack11(values, offset, buf, bufOffset);
+        return;
+      case 12:
+        pack12(values, offset, buf, bufOffset);
+        return;
+      case 13:
+        pack13(values, offset, buf, bufOffset);
+        return;
+      case 14:
+        pack14(values, offset, buf, bufOffset);
+        return;
+      case 15:
+        pack15(values, offset, buf, bufOffset);
+        return;
+      case 16:
+        pack16(values, offset, buf, bufOffset);
+        return;
+      case 17:
+        pack17(values, offset, buf, bufOffset);
+        return;
+      case 18:
+        pack18(values, offset, buf, bufOffset);
+        return;
+      case 19:
+        pack19(values, offset, buf, bufOffset);
+        return;
+      case 20:
+        pack20(values, offset, buf, bufOffset);
+        return;
+      case 21:
+        pack21(values, offset, buf, bufOffset);
+        return;
+      case 22:
+        pack22(values, offset, buf, bufOffset);
+        return;
+      case 23:
+        pack23(values, offset, buf, bufOffset);
+        return;
+      case 24:
+        pack24(values, offset, buf, bufOffset);
+        return;
+      case 25:
+        pack25(values, offset, buf, bufOffset);
+        return;
+      case 26:
+        pack26(values, offset, buf, bufOffset);
+        return;
+      case 27:
+        pack27(values, offset, buf, bufOffset);
+        return;
+      case 28:
+        pack28(values, offset, buf, bufOffset);
+        return;
+      case 29:
+        pack29(values, offset, buf, bufOffset);
+        return;
+      case 30:
+        pack30(values, offset, buf, bufOffset);
+        return;
+      case 31:
+        pack31(values, offset, buf, bufOffset);
+        return;
+      case 32:
+        pack32(values, offset, buf, bufOffset);
+        return;
+      default:
+        throw new IllegalArgumentException("Unsupported bit-width " + width);
+    }
+  }
+
+  /** unpack 8 values from buf[offset, offset + width) into values[valueOffset, valueOffset + 8). */
+  static void unpack8(byte[] buf, int offset, int[] values, int valueOffset, int width) {
+    switch (width) {
+      case 0:
+        Arrays.fill(values, valueOffset, valueOffset + 8, 0);
+        return;
+      case 1:
+        unpack1(buf, offset, values, valueOffset);
+        return;
+      case 2:
+        unpack2(buf, offset, values, valueOffset);
+        return;
+      case 3:
+        unpack3(buf, offset, values, valueOffset);
+        return;
+      case 4:
+        unpack4(buf, offset, values, valueOffset);
+        return;
+      case 5:
+        unpack5(buf, offset, values, valueOffset);
+        return;
+      case 6:
+        unpack6(buf, offset, values, valueOffset);
+        return;
+      case 7:
+        unpack7(buf, offset, values, valueOffset);
+        return;
+      case 8:
+        unpack8(buf, offset, values, valueOffset);
+        return;
+      case 9:
+        unpack9(buf, offset, values, valueOffset);
+        return;
+      case 10:
+        unpack10(buf, offset, values, valueOffset);
+        return;
+      case 11:
+        unpack11(buf, offset, values, valueOffset);
+        return;
+      case 12:
+        unpack12(buf, offset, values, valueOffset);
+        return;
+      case 13:
+        unpack13(buf, offset, values, valueOffset);
+        return;
+      case 14:
+        unpack14(buf, offset, values, valueOffset);
+        return;
+      case 15:
+        unpack15(buf, offset, values, valueOffset);
+        return;
+      case 16:
+        unpack16(buf, offset, values, valueOffset);
+        return;
+      case 17:
+        unpack17(buf, offset, values, valueOffset);
+        return;
+      case 18:
+        unpack18(buf, offset, values, valueOffset);
+        return;
+      case 19:
+        unpack19(buf, offset, values, valueOffset);
+        return;
+      case 20:
+        unpack20(buf, offset, values, valueOffset);
+        return;
+      case 21:
+        unpack21(buf, offset, values, valueOffset);
+        return;
+      case 22:
+        unpack22(buf, offset, values, valueOffset);
+        return;
+      case 23:
+        unpack23(buf, offset, values, valueOffset);
+        return;
+      case 24:
+        unpack24(buf, offset, values, valueOffset);
+        return;
+      case 25:
+        unpack25(buf, offset, values, valueOffset);
+        return;
+      case 26:
+        unpack26(buf, offset, values, valueOffset);
+        return;
+      case 27:
+        unpack27(buf, offset, values, valueOffset);
+        return;
+      case 28:
+        unpack28(buf, offset, values, valueOffset);
+        return;
+      case 29:
+        unpack29(buf, offset, values, valueOffset);
+        return;
+      case 30:
+        unpack30(buf, offset, values, valueOffset);
+        return;
+      case 31:
+        unpack31(buf, offset, values, valueOffset);
+        return;
+      case 32:
+        unpack32(buf, offset, values, valueOffset);
+        return;
+      default:
+        throw new IllegalArgumentException("Unsupported bit-width " + width);
+    }
+  }
+
+  private static void pack1(int[] v, int o, byte[] b, int p) {
+    b[p] =
+        (byte)
+            ((v[o] << 7)
+                | (v[o + 1] << 6)
+                | (v[o + 2] << 5)
+                | (v[o + 3] << 4)
+                | (v[o + 4] << 3)
+                | (v[o + 5] << 2)
+                | (v[o + 6] << 1)
+                | v[o + 7]);
+  }
+
+  private static void unpack1(byte[] b, int p, int[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 7;
+    v[o + 1] = b[p] >>> 6 & 0x1;
+    v[o + 2] = b[p] >>> 5 & 0x1;
+    v[o + 3] = b[p] >>> 4 & 0x1;
+    v[o + 4] = b[p] >>> 3 & 0x1;
+    v[o + 5] = b[p] >>> 2 & 0x1;
+    v[o + 6] = b[p] >>> 1 & 0x1;
+    v[o + 7] = b[p] & 0x1;
+  }
+
+  private static void pack2(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 6) | (v[o + 1] << 4) | (v[o + 2] << 2) | v[o + 3]);
+    b[p + 1] = (byte) ((v[o + 4] << 6) | (v[o + 5] << 4) | (v[o + 6] << 2) | v[o + 7]);
+  }
+
+  private static void unpack2(byte[] b, int p, int[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 6;
+    v[o + 1] = b[p] >>> 4 & 0x3;
+    v[o + 2] = b[p] >>> 2 & 0x3;
+    v[o + 3] = b[p] & 0x3;
+    v[o + 4] = (b[p + 1] & 0xFF) >>> 6;
+    v[o + 5] = b[p + 1] >>> 4 & 0x3;
+    v[o + 6] = b[p + 1] >>> 2 & 0x3;
+    v[o + 7] = b[p + 1] & 0x3;
+  }
+
+  private static void pack3(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 5) | (v[o + 1] << 2) | (v[o + 2] >>> 1));
+    b[p + 1] =
+        (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] << 4) | (v[o + 4] << 1) | (v[o + 5] >>> 2));
+    b[p + 2] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] << 3) | v[o + 7]);
+  }
+
+  private static void unpack3(byte[] b, int p, int[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 5;
+    v[o + 1] = b[p] >>> 2 & 0x7;
+    v[o + 2] = ((b[p] & 0x3) << 1) | ((b[p + 1] & 0xFF) >>> 7);
+    v[o + 3] = b[p + 1] >>> 4 & 0x7;
+    v[o + 4] = b[p + 1] >>> 1 & 0x7;
+    v[o + 5] = ((b[p + 1] & 0x1) << 2) | ((b[p + 2] & 0xFF) >>> 6);
+    v[o + 6] = b[p + 2] >>> 3 & 0x7;
+    v[o + 7] = b[p + 2] & 0x7;
+  }
+
+  private static void pack4(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 4) | v[o + 1]);
+    b[p + 1] = (byte) ((v[o + 2] << 4) | v[o + 3]);
+    b[p + 2] = (byte) ((v[o + 4] << 4) | v[o + 5]);
+    b[p + 3] = (byte) ((v[o + 6] << 4) | v[o + 7]);
+  }
+
+  private static void unpack4(byte[] b, int p, int[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 4;
+    v[o + 1] = b[p] & 0xF;
+    v[o + 2] = (b[p + 1] & 0xFF) >>> 4;
+    v[o + 3] = b[p + 1] & 0xF;
+    v[o + 4] = (b[p + 2] & 0xFF) >>> 4;
+    v[o + 5] = b[p + 2] & 0xF;
+    v[o + 6] = (b[p + 3] & 0xFF) >>> 4;
+    v[o + 7] = b[p + 3] & 0xF;
+  }
+
+  private static void pack5(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 3) | (v[o + 1] >>> 2));
+    b[p + 1] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] << 1) | (v[o + 3] >>> 4));
+    b[p + 2] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 1));
+    b[p + 3] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] << 2) | (v[o + 6] >>> 3));
+    b[p + 4] = (byte) (((v[o + 6] & 0x7) << 5) | v[o + 7]);
+  }
+
+  private static void unpack5(byte[] b, int p, int[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 3;
+    v[o + 1] = ((b[p] & 0x7) << 2) | ((b[p + 1] & 0xFF) >>> 6);
+    v[o + 2] = b[p + 1] >>> 1 & 0x1F;
+    v[o + 3] = ((b[p + 1] & 0x1) << 4) | ((b[p + 2] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 2] & 0xF) << 1) | ((b[p + 3] & 0xFF) >>> 7);
+    v[o + 5] = b[p + 3] >>> 2 & 0x1F;
+    v[o + 6] = ((b[p + 3] & 0x3) << 3) | ((b[p + 4] & 0xFF) >>> 5);
+    v[o + 7] = b[p + 4] & 0x1F;
+  }
+
+  private static void pack6(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 2) | (v[o + 1] >>> 4));
+    b[p + 1] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 2));
+    b[p + 2] = (byte) (((v[o + 2] & 0x3) << 6) | v[o + 3]);
+    b[p + 3] = (byte) ((v[o + 4] << 2) | (v[o + 5] >>> 4));
+    b[p + 4] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 2));
+    b[p + 5] = (byte) (((v[o + 6] & 0x3) << 6) | v[o + 7]);
+  }
+
+  private static void unpack6(byte[] b, int p, int[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 2;
+    v[o + 1] = ((b[p] & 0x3) << 4) | ((b[p + 1] & 0xFF) >>> 4);
+    v[o + 2] = ((b[p + 1] & 0xF) << 2) | ((b[p + 2] & 0xFF) >>> 6);
+    v[o + 3] = b[p + 2] & 0x3F;
+    v[o + 4] = (b[p + 3] & 0xFF) >>> 2;
+    v[o + 5] = ((b[p + 3] & 0x3) << 4) | ((b[p + 4] & 0xFF) >>> 4);
+    v[o + 6] = ((b[p + 4] & 0xF) << 2) | ((b[p + 5] & 0xFF) >>> 6);
+    v[o + 7] = b[p + 5] & 0x3F;
+  }
+
+  private static void pack7(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 1) | (v[o + 1] >>> 6));
+    b[p + 1] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 5));
+    b[p + 2] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 4));
+    b[p + 3] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 3));
+    b[p + 4] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 2));
+    b[p + 5] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 1));
+    b[p + 6] = (byte) (((v[o + 6] & 0x1) << 7) | v[o + 7]);
+  }
+
+  private static void unpack7(byte[] b, int p, int[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 1;
+    v[o + 1] = ((b[p] & 0x1) << 6) | ((b[p + 1] & 0xFF) >>> 2);
+    v[o + 2] = ((b[p + 1] & 0x3) << 5) | ((b[p + 2] & 0xFF) >>> 3);
+    v[o + 3] = ((b[p + 2] & 0x7) << 4) | ((b[p + 3] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 3] & 0xF) << 3) | ((b[p + 4] & 0xFF) >>> 5);
+    v[o + 5] = ((b[p + 4] & 0x1F) << 2) | ((b[p + 5] & 0xFF) >>> 6);
+    v[o + 6] = ((b[p + 5] & 0x3F) << 1) | ((b[p + 6] & 0xFF) >>> 7);
+    v[o + 7] = b[p + 6] & 0x7F;
+  }
+
+  private static void pack8(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o]);
+    b[p + 1] = (byte) (v[o + 1]);
+    b[p + 2] = (byte) (v[o + 2]);
+    b[p + 3] = (byte) (v[o + 3]);
+    b[p + 4] = (byte) (v[o + 4]);
+    b[p + 5] = (byte) (v[o + 5]);
+    b[p + 6] = (byte) (v[o + 6]);
+    b[p + 7] = (byte) (v[o + 7]);
+  }
+
+  private static void unpack8(byte[] b, int p, int[] v, int o) {
+    v[o] = b[p] & 0xFF;
+    v[o + 1] = b[p + 1] & 0xFF;
+    v[o + 2] = b[p + 2] & 0xFF;
+    v[o + 3] = b[p + 3] & 0xFF;
+    v[o + 4] = b[p + 4] & 0xFF;
+    v[o + 5] = b[p + 5] & 0xFF;
+    v[o + 6] = b[p + 6] & 0xFF;
+    v[o + 7] = b[p + 7] & 0xFF;
+  }
+
+  private static void pack9(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 1);
+    b[p + 1] = (byte) (((v[o] & 0x1) << 7) | (v[o + 1] >>> 2));
+    b[p + 2] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 3));
+    b[p + 3] = (byte) (((v[o + 2] & 0x7) << 5) | (v[o + 3] >>> 4));
+    b[p + 4] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 5));
+    b[p + 5] = (byte) (((v[o + 4] & 0x1F) << 3) | (v[o + 5] >>> 6));
+    b[p + 6] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 7));
+    b[p + 7] = (byte) (((v[o + 6] & 0x7F) << 1) | (v[o + 7] >>> 8));
+    b[p + 8] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack9(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 1) | ((b[p + 1] & 0xFF) >>> 7);
+    v[o + 1] = ((b[p + 1] & 0x7F) << 2) | ((b[p + 2] & 0xFF) >>> 6);
+    v[o + 2] = ((b[p + 2] & 0x3F) << 3) | ((b[p + 3] & 0xFF) >>> 5);
+    v[o + 3] = ((b[p + 3] & 0x1F) << 4) | ((b[p + 4] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 4] & 0xF) << 5) | ((b[p + 5] & 0xFF) >>> 3);
+    v[o + 5] = ((b[p + 5] & 0x7) << 6) | ((b[p + 6] & 0xFF) >>> 2);
+    v[o + 6] = ((b[p + 6] & 0x3) << 7) | ((b[p + 7] & 0xFF) >>> 1);
+    v[o + 7] = ((b[p + 7] & 0x1) << 8) | (b[p + 8] & 0xFF);
+  }
+
+  private static void pack10(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 2);
+    b[p + 1] = (byte) (((v[o] & 0x3) << 6) | (v[o + 1] >>> 4));
+    b[p + 2] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 6));
+    b[p + 3] = (byte) (((v[o + 2] & 0x3F) << 2) | (v[o + 3] >>> 8));
+    b[p + 4] = (byte) (v[o + 3] & 0xFF);
+    b[p + 5] = (byte) (v[o + 4] >>> 2);
+    b[p + 6] = (byte) (((v[o + 4] & 0x3) << 6) | (v[o + 5] >>> 4));
+    b[p + 7] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 6));
+    b[p + 8] = (byte) (((v[o + 6] & 0x3F) << 2) | (v[o + 7] >>> 8));
+    b[p + 9] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack10(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 2) | ((b[p + 1] & 0xFF) >>> 6);
+    v[o + 1] = ((b[p + 1] & 0x3F) << 4) | ((b[p + 2] & 0xFF) >>> 4);
+    v[o + 2] = ((b[p + 2] & 0xF) << 6) | ((b[p + 3] & 0xFF) >>> 2);
+    v[o + 3] = ((b[p + 3] & 0x3) << 8) | (b[p + 4] & 0xFF);
+    v[o + 4] = ((b[p + 5] & 0xFF) << 2) | ((b[p + 6] & 0xFF) >>> 6);
+    v[o + 5] = ((b[p + 6] & 0x3F) << 4) | ((b[p + 7] & 0xFF) >>> 4);
+    v[o + 6] = ((b[p + 7] & 0xF) << 6) | ((b[p + 8] & 0xFF) >>> 2);
+    v[o + 7] = ((b[p + 8] & 0x3) << 8) | (b[p + 9] & 0xFF);
+  }
+
+  private static void pack11(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 3);
+    b[p + 1] = (byte) (((v[o] & 0x7) << 5) | (v[o + 1] >>> 6));
+    b[p + 2] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 9));
+    b[p + 3] = (byte) (v[o + 2] >>> 1 & 0xFF);
+    b[p + 4] = (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] >>> 4));
+    b[p + 5] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 7));
+    b[p + 6] = (byte) (((v[o + 4] & 0x7F) << 1) | (v[o + 5] >>> 10));
+    b[p + 7] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 5));
+    b[p + 9] = (byte) (((v[o + 6] & 0x1F) << 3) | (v[o + 7] >>> 8));
+    b[p + 10] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack11(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 3) | ((b[p + 1] & 0xFF) >>> 5);
+    v[o + 1] = ((b[p + 1] & 0x1F) << 6) | ((b[p + 2] & 0xFF) >>> 2);
+    v[o + 2] = ((b[p + 2] & 0x3) << 9) | ((b[p + 3] & 0xFF) << 1) | ((b[p + 4] & 0xFF) >>> 7);
+    v[o + 3] = ((b[p + 4] & 0x7F) << 4) | ((b[p + 5] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 5] & 0xF) << 7) | ((b[p + 6] & 0xFF) >>> 1);
+    v[o + 5] = ((b[p + 6] & 0x1) << 10) | ((b[p + 7] & 0xFF) << 2) | ((b[p + 8] & 0xFF) >>> 6);
+    v[o + 6] = ((b[p + 8] & 0x3F) << 5) | ((b[p + 9] & 0xFF) >>> 3);
+    v[o + 7] = ((b[p + 9] & 0x7) << 8) | (b[p + 10] & 0xFF);
+  }
+
+  private static void pack12(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 4);
+    b[p + 1] = (byte) (((v[o] & 0xF) << 4) | (v[o + 1] >>> 8));
+    b[p + 2] = (byte) (v[o + 1] & 0xFF);
+    b[p + 3] = (byte) (v[o + 2] >>> 4);
+    b[p + 4] = (byte) (((v[o + 2] & 0xF) << 4) | (v[o + 3] >>> 8));
+    b[p + 5] = (byte) (v[o + 3] & 0xFF);
+    b[p + 6] = (byte) (v[o + 4] >>> 4);
+    b[p + 7] = (byte) (((v[o + 4] & 0xF) << 4) | (v[o + 5] >>> 8));
+    b[p + 8] = (byte) (v[o + 5] & 0xFF);
+    b[p + 9] = (byte) (v[o + 6] >>> 4);
+    b[p + 10] = (byte) (((v[o + 6] & 0xF) << 4) | (v[o + 7] >>> 8));
+    b[p + 11] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack12(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 4) | ((b[p + 1] & 0xFF) >>> 4);
+    v[o + 1] = ((b[p + 1] & 0xF) << 8) | (b[p + 2] & 0xFF);
+    v[o + 2] = ((b[p + 3] & 0xFF) << 4) | ((b[p + 4] & 0xFF) >>> 4);
+    v[o + 3] = ((b[p + 4] & 0xF) << 8) | (b[p + 5] & 0xFF);
+    v[o + 4] = ((b[p + 6] & 0xFF) << 4) | ((b[p + 7] & 0xFF) >>> 4);
+    v[o + 5] = ((b[p + 7] & 0xF) << 8) | (b[p + 8] & 0xFF);
+    v[o + 6] = ((b[p + 9] & 0xFF) << 4) | ((b[p + 10] & 0xFF) >>> 4);
+    v[o + 7] = ((b[p + 10] & 0xF) << 8) | (b[p + 11] & 0xFF);
+  }
+
+  private static void pack13(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 5);
+    b[p + 1] = (byte) (((v[o] & 0x1F) << 3) | (v[o + 1] >>> 10));
+    b[p + 2] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 3] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 7));
+    b[p + 4] = (byte) (((v[o + 2] & 0x7F) << 1) | (v[o + 3] >>> 12));
+    b[p + 5] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 9));
+    b[p + 7] = (byte) (v[o + 4] >>> 1 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] >>> 6));
+    b[p + 9] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 11));
+    b[p + 10] = (byte) (v[o + 6] >>> 3 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 6] & 0x7) << 5) | (v[o + 7] >>> 8));
+    b[p + 12] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack13(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 5) | ((b[p + 1] & 0xFF) >>> 3);
+    v[o + 1] = ((b[p + 1] & 0x7) << 10) | ((b[p + 2] & 0xFF) << 2) | ((b[p + 3] & 0xFF) >>> 6);
+    v[o + 2] = ((b[p + 3] & 0x3F) << 7) | ((b[p + 4] & 0xFF) >>> 1);
+    v[o + 3] = ((b[p + 4] & 0x1) << 12) | ((b[p + 5] & 0xFF) << 4) | ((b[p + 6] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 6] & 0xF) << 9) | ((b[p + 7] & 0xFF) << 1) | ((b[p + 8] & 0xFF) >>> 7);
+    v[o + 5] = ((b[p + 8] & 0x7F) << 6) | ((b[p + 9] & 0xFF) >>> 2);
+    v[o + 6] = ((b[p + 9] & 0x3) << 11) | ((b[p + 10] & 0xFF) << 3) | ((b[p + 11] & 0xFF) >>> 5);
+    v[o + 7] = ((b[p + 11] & 0x1F) << 8) | (b[p + 12] & 0xFF);
+  }
+
+  private static void pack14(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 6);
+    b[p + 1] = (byte) (((v[o] & 0x3F) << 2) | (v[o + 1] >>> 12));
+    b[p + 2] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 3] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 10));
+    b[p + 4] = (byte) (v[o + 2] >>> 2 & 0xFF);
+    b[p + 5] = (byte) (((v[o + 2] & 0x3) << 6) | (v[o + 3] >>> 8));
+    b[p + 6] = (byte) (v[o + 3] & 0xFF);
+    b[p + 7] = (byte) (v[o + 4] >>> 6);
+    b[p + 8] = (byte) (((v[o + 4] & 0x3F) << 2) | (v[o + 5] >>> 12));
+    b[p + 9] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 10));
+    b[p + 11] = (byte) (v[o + 6] >>> 2 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 6] & 0x3) << 6) | (v[o + 7] >>> 8));
+    b[p + 13] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack14(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 6) | ((b[p + 1] & 0xFF) >>> 2);
+    v[o + 1] = ((b[p + 1] & 0x3) << 12) | ((b[p + 2] & 0xFF) << 4) | ((b[p + 3] & 0xFF) >>> 4);
+    v[o + 2] = ((b[p + 3] & 0xF) << 10) | ((b[p + 4] & 0xFF) << 2) | ((b[p + 5] & 0xFF) >>> 6);
+    v[o + 3] = ((b[p + 5] & 0x3F) << 8) | (b[p + 6] & 0xFF);
+    v[o + 4] = ((b[p + 7] & 0xFF) << 6) | ((b[p + 8] & 0xFF) >>> 2);
+    v[o + 5] = ((b[p + 8] & 0x3) << 12) | ((b[p + 9] & 0xFF) << 4) | ((b[p + 10] & 0xFF) >>> 4);
+    v[o + 6] = ((b[p + 10] & 0xF) << 10) | ((b[p + 11] & 0xFF) << 2) | ((b[p + 12] & 0xFF) >>> 6);
+    v[o + 7] = ((b[p + 12] & 0x3F) << 8) | (b[p + 13] & 0xFF);
+  }
+
+  private static void pack15(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 7);
+    b[p + 1] = (byte) (((v[o] & 0x7F) << 1) | (v[o + 1] >>> 14));
+    b[p + 2] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 3] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 13));
+    b[p + 4] = (byte) (v[o + 2] >>> 5 & 0xFF);
+    b[p + 5] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 12));
+    b[p + 6] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 11));
+    b[p + 8] = (byte) (v[o + 4] >>> 3 & 0xFF);
+    b[p + 9] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 10));
+    b[p + 10] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 9));
+    b[p + 12] = (byte) (v[o + 6] >>> 1 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 6] & 0x1) << 7) | (v[o + 7] >>> 8));
+    b[p + 14] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack15(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 7) | ((b[p + 1] & 0xFF) >>> 1);
+    v[o + 1] = ((b[p + 1] & 0x1) << 14) | ((b[p + 2] & 0xFF) << 6) | ((b[p + 3] & 0xFF) >>> 2);
+    v[o + 2] = ((b[p + 3] & 0x3) << 13) | ((b[p + 4] & 0xFF) << 5) | ((b[p + 5] & 0xFF) >>> 3);
+    v[o + 3] = ((b[p + 5] & 0x7) << 12) | ((b[p + 6] & 0xFF) << 4) | ((b[p + 7] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 7] & 0xF) << 11) | ((b[p + 8] & 0xFF) << 3) | ((b[p + 9] & 0xFF) >>> 5);
+    v[o + 5] = ((b[p + 9] & 0x1F) << 10) | ((b[p + 10] & 0xFF) << 2) | ((b[p + 11] & 0xFF) >>> 6);
+    v[o + 6] = ((b[p + 11] & 0x3F) << 9) | ((b[p + 12] & 0xFF) << 1) | ((b[p + 13] & 0xFF) >>> 7);
+    v[o + 7] = ((b[p + 13] & 0x7F) << 8) | (b[p + 14] & 0xFF);
+  }
+
+  private static void pack16(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 8);
+    b[p + 1] = (byte) (v[o] & 0xFF);
+    b[p + 2] = (byte) (v[o + 1] >>> 8);
+    b[p + 3] = (byte) (v[o + 1] & 0xFF);
+    b[p + 4] = (byte) (v[o + 2] >>> 8);
+    b[p + 5] = (byte) (v[o + 2] & 0xFF);
+    b[p + 6] = (byte) (v[o + 3] >>> 8);
+    b[p + 7] = (byte) (v[o + 3] & 0xFF);
+    b[p + 8] = (byte) (v[o + 4] >>> 8);
+    b[p + 9] = (byte) (v[o + 4] & 0xFF);
+    b[p + 10] = (byte) (v[o + 5] >>> 8);
+    b[p + 11] = (byte) (v[o + 5] & 0xFF);
+    b[p + 12] = (byte) (v[o + 6] >>> 8);
+    b[p + 13] = (byte) (v[o + 6] & 0xFF);
+    b[p + 14] = (byte) (v[o + 7] >>> 8);
+    b[p + 15] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack16(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 8) | (b[p + 1] & 0xFF);
+    v[o + 1] = ((b[p + 2] & 0xFF) << 8) | (b[p + 3] & 0xFF);
+    v[o + 2] = ((b[p + 4] & 0xFF) << 8) | (b[p + 5] & 0xFF);
+    v[o + 3] = ((b[p + 6] & 0xFF) << 8) | (b[p + 7] & 0xFF);
+    v[o + 4] = ((b[p + 8] & 0xFF) << 8) | (b[p + 9] & 0xFF);
+    v[o + 5] = ((b[p + 10] & 0xFF) << 8) | (b[p + 11] & 0xFF);
+    v[o + 6] = ((b[p + 12] & 0xFF) << 8) | (b[p + 13] & 0xFF);
+    v[o + 7] = ((b[p + 14] & 0xFF) << 8) | (b[p + 15] & 0xFF);
+  }
+
+  private static void pack17(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 9);
+    b[p + 1] = (byte) (v[o] >>> 1 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x1) << 7) | (v[o + 1] >>> 10));
+    b[p + 3] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 4] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 11));
+    b[p + 5] = (byte) (v[o + 2] >>> 3 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 2] & 0x7) << 5) | (v[o + 3] >>> 12));
+    b[p + 7] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 13));
+    b[p + 9] = (byte) (v[o + 4] >>> 5 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 4] & 0x1F) << 3) | (v[o + 5] >>> 14));
+    b[p + 11] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 15));
+    b[p + 13] = (byte) (v[o + 6] >>> 7 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 6] & 0x7F) << 1) | (v[o + 7] >>> 16));
+    b[p + 15] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 16] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack17(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 9) | ((b[p + 1] & 0xFF) << 1) | ((b[p + 2] & 0xFF) >>> 7);
+    v[o + 1] = ((b[p + 2] & 0x7F) << 10) | ((b[p + 3] & 0xFF) << 2) | ((b[p + 4] & 0xFF) >>> 6);
+    v[o + 2] = ((b[p + 4] & 0x3F) << 11) | ((b[p + 5] & 0xFF) << 3) | ((b[p + 6] & 0xFF) >>> 5);
+    v[o + 3] = ((b[p + 6] & 0x1F) << 12) | ((b[p + 7] & 0xFF) << 4) | ((b[p + 8] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 8] & 0xF) << 13) | ((b[p + 9] & 0xFF) << 5) | ((b[p + 10] & 0xFF) >>> 3);
+    v[o + 5] = ((b[p + 10] & 0x7) << 14) | ((b[p + 11] & 0xFF) << 6) | ((b[p + 12] & 0xFF) >>> 2);
+    v[o + 6] = ((b[p + 12] & 0x3) << 15) | ((b[p + 13] & 0xFF) << 7) | ((b[p + 14] & 0xFF) >>> 1);
+    v[o + 7] = ((b[p + 14] & 0x1) << 16) | ((b[p + 15] & 0xFF) << 8) | (b[p + 16] & 0xFF);
+  }
+
+  private static void pack18(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 10);
+    b[p + 1] = (byte) (v[o] >>> 2 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x3) << 6) | (v[o + 1] >>> 12));
+    b[p + 3] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 4] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 14));
+    b[p + 5] = (byte) (v[o + 2] >>> 6 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 2] & 0x3F) << 2) | (v[o + 3] >>> 16));
+    b[p + 7] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 8] = (byte) (v[o + 3] & 0xFF);
+    b[p + 9] = (byte) (v[o + 4] >>> 10);
+    b[p + 10] = (byte) (v[o + 4] >>> 2 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 4] & 0x3) << 6) | (v[o + 5] >>> 12));
+    b[p + 12] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 14));
+    b[p + 14] = (byte) (v[o + 6] >>> 6 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 6] & 0x3F) << 2) | (v[o + 7] >>> 16));
+    b[p + 16] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 17] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack18(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 10) | ((b[p + 1] & 0xFF) << 2) | ((b[p + 2] & 0xFF) >>> 6);
+    v[o + 1] = ((b[p + 2] & 0x3F) << 12) | ((b[p + 3] & 0xFF) << 4) | ((b[p + 4] & 0xFF) >>> 4);
+    v[o + 2] = ((b[p + 4] & 0xF) << 14) | ((b[p + 5] & 0xFF) << 6) | ((b[p + 6] & 0xFF) >>> 2);
+    v[o + 3] = ((b[p + 6] & 0x3) << 16) | ((b[p + 7] & 0xFF) << 8) | (b[p + 8] & 0xFF);
+    v[o + 4] = ((b[p + 9] & 0xFF) << 10) | ((b[p + 10] & 0xFF) << 2) | ((b[p + 11] & 0xFF) >>> 6);
+    v[o + 5] = ((b[p + 11] & 0x3F) << 12) | ((b[p + 12] & 0xFF) << 4) | ((b[p + 13] & 0xFF) >>> 4);
+    v[o + 6] = ((b[p + 13] & 0xF) << 14) | ((b[p + 14] & 0xFF) << 6) | ((b[p + 15] & 0xFF) >>> 2);
+    v[o + 7] = ((b[p + 15] & 0x3) << 16) | ((b[p + 16] & 0xFF) << 8) | (b[p + 17] & 0xFF);
+  }
+
+  private static void pack19(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 11);
+    b[p + 1] = (byte) (v[o] >>> 3 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x7) << 5) | (v[o + 1] >>> 14));
+    b[p + 3] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 4] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 17));
+    b[p + 5] = (byte) (v[o + 2] >>> 9 & 0xFF);
+    b[p + 6] = (byte) (v[o + 2] >>> 1 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] >>> 12));
+    b[p + 8] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 9] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 15));
+    b[p + 10] = (byte) (v[o + 4] >>> 7 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 4] & 0x7F) << 1) | (v[o + 5] >>> 18));
+    b[p + 12] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 13] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 13));
+    b[p + 15] = (byte) (v[o + 6] >>> 5 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 6] & 0x1F) << 3) | (v[o + 7] >>> 16));
+    b[p + 17] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 18] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack19(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 11) | ((b[p + 1] & 0xFF) << 3) | ((b[p + 2] & 0xFF) >>> 5);
+    v[o + 1] = ((b[p + 2] & 0x1F) << 14) | ((b[p + 3] & 0xFF) << 6) | ((b[p + 4] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((b[p + 4] & 0x3) << 17)
+            | ((b[p + 5] & 0xFF) << 9)
+            | ((b[p + 6] & 0xFF) << 1)
+            | ((b[p + 7] & 0xFF) >>> 7);
+    v[o + 3] = ((b[p + 7] & 0x7F) << 12) | ((b[p + 8] & 0xFF) << 4) | ((b[p + 9] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 9] & 0xF) << 15) | ((b[p + 10] & 0xFF) << 7) | ((b[p + 11] & 0xFF) >>> 1);
+    v[o + 5] =
+        ((b[p + 11] & 0x1) << 18)
+            | ((b[p + 12] & 0xFF) << 10)
+            | ((b[p + 13] & 0xFF) << 2)
+            | ((b[p + 14] & 0xFF) >>> 6);
+    v[o + 6] = ((b[p + 14] & 0x3F) << 13) | ((b[p + 15] & 0xFF) << 5) | ((b[p + 16] & 0xFF) >>> 3);
+    v[o + 7] = ((b[p + 16] & 0x7) << 16) | ((b[p + 17] & 0xFF) << 8) | (b[p + 18] & 0xFF);
+  }
+
+  private static void pack20(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 12);
+    b[p + 1] = (byte) (v[o] >>> 4 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0xF) << 4) | (v[o + 1] >>> 16));
+    b[p + 3] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 4] = (byte) (v[o + 1] & 0xFF);
+    b[p + 5] = (byte) (v[o + 2] >>> 12);
+    b[p + 6] = (byte) (v[o + 2] >>> 4 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 2] & 0xF) << 4) | (v[o + 3] >>> 16));
+    b[p + 8] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 9] = (byte) (v[o + 3] & 0xFF);
+    b[p + 10] = (byte) (v[o + 4] >>> 12);
+    b[p + 11] = (byte) (v[o + 4] >>> 4 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 4] & 0xF) << 4) | (v[o + 5] >>> 16));
+    b[p + 13] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 14] = (byte) (v[o + 5] & 0xFF);
+    b[p + 15] = (byte) (v[o + 6] >>> 12);
+    b[p + 16] = (byte) (v[o + 6] >>> 4 & 0xFF);
+    b[p + 17] = (byte) (((v[o + 6] & 0xF) << 4) | (v[o + 7] >>> 16));
+    b[p + 18] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 19] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack20(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 12) | ((b[p + 1] & 0xFF) << 4) | ((b[p + 2] & 0xFF) >>> 4);
+    v[o + 1] = ((b[p + 2] & 0xF) << 16) | ((b[p + 3] & 0xFF) << 8) | (b[p + 4] & 0xFF);
+    v[o + 2] = ((b[p + 5] & 0xFF) << 12) | ((b[p + 6] & 0xFF) << 4) | ((b[p + 7] & 0xFF) >>> 4);
+    v[o + 3] = ((b[p + 7] & 0xF) << 16) | ((b[p + 8] & 0xFF) << 8) | (b[p + 9] & 0xFF);
+    v[o + 4] = ((b[p + 10] & 0xFF) << 12) | ((b[p + 11] & 0xFF) << 4) | ((b[p + 12] & 0xFF) >>> 4);
+    v[o + 5] = ((b[p + 12] & 0xF) << 16) | ((b[p + 13] & 0xFF) << 8) | (b[p + 14] & 0xFF);
+    v[o + 6] = ((b[p + 15] & 0xFF) << 12) | ((b[p + 16] & 0xFF) << 4) | ((b[p + 17] & 0xFF) >>> 4);
+    v[o + 7] = ((b[p + 17] & 0xF) << 16) | ((b[p + 18] & 0xFF) << 8) | (b[p + 19] & 0xFF);
+  }
+
+  private static void pack21(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 13);
+    b[p + 1] = (byte) (v[o] >>> 5 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x1F) << 3) | (v[o + 1] >>> 18));
+    b[p + 3] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 4] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 5] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 15));
+    b[p + 6] = (byte) (v[o + 2] >>> 7 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 2] & 0x7F) << 1) | (v[o + 3] >>> 20));
+    b[p + 8] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 9] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 17));
+    b[p + 11] = (byte) (v[o + 4] >>> 9 & 0xFF);
+    b[p + 12] = (byte) (v[o + 4] >>> 1 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] >>> 14));
+    b[p + 14] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 19));
+    b[p + 16] = (byte) (v[o + 6] >>> 11 & 0xFF);
+    b[p + 17] = (byte) (v[o + 6] >>> 3 & 0xFF);
+    b[p + 18] = (byte) (((v[o + 6] & 0x7) << 5) | (v[o + 7] >>> 16));
+    b[p + 19] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 20] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack21(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 13) | ((b[p + 1] & 0xFF) << 5) | ((b[p + 2] & 0xFF) >>> 3);
+    v[o + 1] =
+        ((b[p + 2] & 0x7) << 18)
+            | ((b[p + 3] & 0xFF) << 10)
+            | ((b[p + 4] & 0xFF) << 2)
+            | ((b[p + 5] & 0xFF) >>> 6);
+    v[o + 2] = ((b[p + 5] & 0x3F) << 15) | ((b[p + 6] & 0xFF) << 7) | ((b[p + 7] & 0xFF) >>> 1);
+    v[o + 3] =
+        ((b[p + 7] & 0x1) << 20)
+            | ((b[p + 8] & 0xFF) << 12)
+            | ((b[p + 9] & 0xFF) << 4)
+            | ((b[p + 10] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 10] & 0xF) << 17)
+            | ((b[p + 11] & 0xFF) << 9)
+            | ((b[p + 12] & 0xFF) << 1)
+            | ((b[p + 13] & 0xFF) >>> 7);
+    v[o + 5] = ((b[p + 13] & 0x7F) << 14) | ((b[p + 14] & 0xFF) << 6) | ((b[p + 15] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((b[p + 15] & 0x3) << 19)
+            | ((b[p + 16] & 0xFF) << 11)
+            | ((b[p + 17] & 0xFF) << 3)
+            | ((b[p + 18] & 0xFF) >>> 5);
+    v[o + 7] = ((b[p + 18] & 0x1F) << 16) | ((b[p + 19] & 0xFF) << 8) | (b[p + 20] & 0xFF);
+  }
+
+  private static void pack22(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 14);
+    b[p + 1] = (byte) (v[o] >>> 6 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x3F) << 2) | (v[o + 1] >>> 20));
+    b[p + 3] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 4] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 5] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 18));
+    b[p + 6] = (byte) (v[o + 2] >>> 10 & 0xFF);
+    b[p + 7] = (byte) (v[o + 2] >>> 2 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 2] & 0x3) << 6) | (v[o + 3] >>> 16));
+    b[p + 9] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 10] = (byte) (v[o + 3] & 0xFF);
+    b[p + 11] = (byte) (v[o + 4] >>> 14);
+    b[p + 12] = (byte) (v[o + 4] >>> 6 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 4] & 0x3F) << 2) | (v[o + 5] >>> 20));
+    b[p + 14] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 15] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 18));
+    b[p + 17] = (byte) (v[o + 6] >>> 10 & 0xFF);
+    b[p + 18] = (byte) (v[o + 6] >>> 2 & 0xFF);
+    b[p + 19] = (byte) (((v[o + 6] & 0x3) << 6) | (v[o + 7] >>> 16));
+    b[p + 20] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 21] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack22(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 14) | ((b[p + 1] & 0xFF) << 6) | ((b[p + 2] & 0xFF) >>> 2);
+    v[o + 1] =
+        ((b[p + 2] & 0x3) << 20)
+            | ((b[p + 3] & 0xFF) << 12)
+            | ((b[p + 4] & 0xFF) << 4)
+            | ((b[p + 5] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((b[p + 5] & 0xF) << 18)
+            | ((b[p + 6] & 0xFF) << 10)
+            | ((b[p + 7] & 0xFF) << 2)
+            | ((b[p + 8] & 0xFF) >>> 6);
+    v[o + 3] = ((b[p + 8] & 0x3F) << 16) | ((b[p + 9] & 0xFF) << 8) | (b[p + 10] & 0xFF);
+    v[o + 4] = ((b[p + 11] & 0xFF) << 14) | ((b[p + 12] & 0xFF) << 6) | ((b[p + 13] & 0xFF) >>> 2);
+    v[o + 5] =
+        ((b[p + 13] & 0x3) << 20)
+            | ((b[p + 14] & 0xFF) << 12)
+            | ((b[p + 15] & 0xFF) << 4)
+            | ((b[p + 16] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((b[p + 16] & 0xF) << 18)
+            | ((b[p + 17] & 0xFF) << 10)
+            | ((b[p + 18] & 0xFF) << 2)
+            | ((b[p + 19] & 0xFF) >>> 6);
+    v[o + 7] = ((b[p + 19] & 0x3F) << 16) | ((b[p + 20] & 0xFF) << 8) | (b[p + 21] & 0xFF);
+  }
+
+  private static void pack23(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 15);
+    b[p + 1] = (byte) (v[o] >>> 7 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x7F) << 1) | (v[o + 1] >>> 22));
+    b[p + 3] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 4] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 5] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 21));
+    b[p + 6] = (byte) (v[o + 2] >>> 13 & 0xFF);
+    b[p + 7] = (byte) (v[o + 2] >>> 5 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 20));
+    b[p + 9] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 10] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 19));
+    b[p + 12] = (byte) (v[o + 4] >>> 11 & 0xFF);
+    b[p + 13] = (byte) (v[o + 4] >>> 3 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 18));
+    b[p + 15] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 16] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 17] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 17));
+    b[p + 18] = (byte) (v[o + 6] >>> 9 & 0xFF);
+    b[p + 19] = (byte) (v[o + 6] >>> 1 & 0xFF);
+    b[p + 20] = (byte) (((v[o + 6] & 0x1) << 7) | (v[o + 7] >>> 16));
+    b[p + 21] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 22] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack23(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 15) | ((b[p + 1] & 0xFF) << 7) | ((b[p + 2] & 0xFF) >>> 1);
+    v[o + 1] =
+        ((b[p + 2] & 0x1) << 22)
+            | ((b[p + 3] & 0xFF) << 14)
+            | ((b[p + 4] & 0xFF) << 6)
+            | ((b[p + 5] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((b[p + 5] & 0x3) << 21)
+            | ((b[p + 6] & 0xFF) << 13)
+            | ((b[p + 7] & 0xFF) << 5)
+            | ((b[p + 8] & 0xFF) >>> 3);
+    v[o + 3] =
+        ((b[p + 8] & 0x7) << 20)
+            | ((b[p + 9] & 0xFF) << 12)
+            | ((b[p + 10] & 0xFF) << 4)
+            | ((b[p + 11] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 11] & 0xF) << 19)
+            | ((b[p + 12] & 0xFF) << 11)
+            | ((b[p + 13] & 0xFF) << 3)
+            | ((b[p + 14] & 0xFF) >>> 5);
+    v[o + 5] =
+        ((b[p + 14] & 0x1F) << 18)
+            | ((b[p + 15] & 0xFF) << 10)
+            | ((b[p + 16] & 0xFF) << 2)
+            | ((b[p + 17] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((b[p + 17] & 0x3F) << 17)
+            | ((b[p + 18] & 0xFF) << 9)
+            | ((b[p + 19] & 0xFF) << 1)
+            | ((b[p + 20] & 0xFF) >>> 7);
+    v[o + 7] = ((b[p + 20] & 0x7F) << 16) | ((b[p + 21] & 0xFF) << 8) | (b[p + 22] & 0xFF);
+  }
+
+  private static void pack24(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 16);
+    b[p + 1] = (byte) (v[o] >>> 8 & 0xFF);
+    b[p + 2] = (byte) (v[o] & 0xFF);
+    b[p + 3] = (byte) (v[o + 1] >>> 16);
+    b[p + 4] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] & 0xFF);
+    b[p + 6] = (byte) (v[o + 2] >>> 16);
+    b[p + 7] = (byte) (v[o + 2] >>> 8 & 0xFF);
+    b[p + 8] = (byte) (v[o + 2] & 0xFF);
+    b[p + 9] = (byte) (v[o + 3] >>> 16);
+    b[p + 10] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 11] = (byte) (v[o + 3] & 0xFF);
+    b[p + 12] = (byte) (v[o + 4] >>> 16);
+    b[p + 13] = (byte) (v[o + 4] >>> 8 & 0xFF);
+    b[p + 14] = (byte) (v[o + 4] & 0xFF);
+    b[p + 15] = (byte) (v[o + 5] >>> 16);
+    b[p + 16] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 17] = (byte) (v[o + 5] & 0xFF);
+    b[p + 18] = (byte) (v[o + 6] >>> 16);
+    b[p + 19] = (byte) (v[o + 6] >>> 8 & 0xFF);
+    b[p + 20] = (byte) (v[o + 6] & 0xFF);
+    b[p + 21] = (byte) (v[o + 7] >>> 16);
+    b[p + 22] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 23] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack24(byte[] b, int p, int[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 16) | ((b[p + 1] & 0xFF) << 8) | (b[p + 2] & 0xFF);
+    v[o + 1] = ((b[p + 3] & 0xFF) << 16) | ((b[p + 4] & 0xFF) << 8) | (b[p + 5] & 0xFF);
+    v[o + 2] = ((b[p + 6] & 0xFF) << 16) | ((b[p + 7] & 0xFF) << 8) | (b[p + 8] & 0xFF);
+    v[o + 3] = ((b[p + 9] & 0xFF) << 16) | ((b[p + 10] & 0xFF) << 8) | (b[p + 11] & 0xFF);
+    v[o + 4] = ((b[p + 12] & 0xFF) << 16) | ((b[p + 13] & 0xFF) << 8) | (b[p + 14] & 0xFF);
+    v[o + 5] = ((b[p + 15] & 0xFF) << 16) | ((b[p + 16] & 0xFF) << 8) | (b[p + 17] & 0xFF);
+    v[o + 6] = ((b[p + 18] & 0xFF) << 16) | ((b[p + 19] & 0xFF) << 8) | (b[p + 20] & 0xFF);
+    v[o + 7] = ((b[p + 21] & 0xFF) << 16) | ((b[p + 22] & 0xFF) << 8) | (b[p + 23] & 0xFF);
+  }
+
+  private static void pack25(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 17);
+    b[p + 1] = (byte) (v[o] >>> 9 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 1 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x1) << 7) | (v[o + 1] >>> 18));
+    b[p + 4] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 19));
+    b[p + 7] = (byte) (v[o + 2] >>> 11 & 0xFF);
+    b[p + 8] = (byte) (v[o + 2] >>> 3 & 0xFF);
+    b[p + 9] = (byte) (((v[o + 2] & 0x7) << 5) | (v[o + 3] >>> 20));
+    b[p + 10] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 11] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 21));
+    b[p + 13] = (byte) (v[o + 4] >>> 13 & 0xFF);
+    b[p + 14] = (byte) (v[o + 4] >>> 5 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 4] & 0x1F) << 3) | (v[o + 5] >>> 22));
+    b[p + 16] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 17] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 18] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 23));
+    b[p + 19] = (byte) (v[o + 6] >>> 15 & 0xFF);
+    b[p + 20] = (byte) (v[o + 6] >>> 7 & 0xFF);
+    b[p + 21] = (byte) (((v[o + 6] & 0x7F) << 1) | (v[o + 7] >>> 24));
+    b[p + 22] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 23] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 24] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack25(byte[] b, int p, int[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 17)
+            | ((b[p + 1] & 0xFF) << 9)
+            | ((b[p + 2] & 0xFF) << 1)
+            | ((b[p + 3] & 0xFF) >>> 7);
+    v[o + 1] =
+        ((b[p + 3] & 0x7F) << 18)
+            | ((b[p + 4] & 0xFF) << 10)
+            | ((b[p + 5] & 0xFF) << 2)
+            | ((b[p + 6] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((b[p + 6] & 0x3F) << 19)
+            | ((b[p + 7] & 0xFF) << 11)
+            | ((b[p + 8] & 0xFF) << 3)
+            | ((b[p + 9] & 0xFF) >>> 5);
+    v[o + 3] =
+        ((b[p + 9] & 0x1F) << 20)
+            | ((b[p + 10] & 0xFF) << 12)
+            | ((b[p + 11] & 0xFF) << 4)
+            | ((b[p + 12] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 12] & 0xF) << 21)
+            | ((b[p + 13] & 0xFF) << 13)
+            | ((b[p + 14] & 0xFF) << 5)
+            | ((b[p + 15] & 0xFF) >>> 3);
+    v[o + 5] =
+        ((b[p + 15] & 0x7) << 22)
+            | ((b[p + 16] & 0xFF) << 14)
+            | ((b[p + 17] & 0xFF) << 6)
+            | ((b[p + 18] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((b[p + 18] & 0x3) << 23)
+            | ((b[p + 19] & 0xFF) << 15)
+            | ((b[p + 20] & 0xFF) << 7)
+            | ((b[p + 21] & 0xFF) >>> 1);
+    v[o + 7] =
+        ((b[p + 21] & 0x1) << 24)
+            | ((b[p + 22] & 0xFF) << 16)
+            | ((b[p + 23] & 0xFF) << 8)
+            | (b[p + 24] & 0xFF);
+  }
+
+  private static void pack26(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 18);
+    b[p + 1] = (byte) (v[o] >>> 10 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 2 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x3) << 6) | (v[o + 1] >>> 20));
+    b[p + 4] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 22));
+    b[p + 7] = (byte) (v[o + 2] >>> 14 & 0xFF);
+    b[p + 8] = (byte) (v[o + 2] >>> 6 & 0xFF);
+    b[p + 9] = (byte) (((v[o + 2] & 0x3F) << 2) | (v[o + 3] >>> 24));
+    b[p + 10] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 11] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 12] = (byte) (v[o + 3] & 0xFF);
+    b[p + 13] = (byte) (v[o + 4] >>> 18);
+    b[p + 14] = (byte) (v[o + 4] >>> 10 & 0xFF);
+    b[p + 15] = (byte) (v[o + 4] >>> 2 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 4] & 0x3) << 6) | (v[o + 5] >>> 20));
+    b[p + 17] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 18] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 19] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 22));
+    b[p + 20] = (byte) (v[o + 6] >>> 14 & 0xFF);
+    b[p + 21] = (byte) (v[o + 6] >>> 6 & 0xFF);
+    b[p + 22] = (byte) (((v[o + 6] & 0x3F) << 2) | (v[o + 7] >>> 24));
+    b[p + 23] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 24] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 25] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack26(byte[] b, int p, int[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 18)
+            | ((b[p + 1] & 0xFF) << 10)
+            | ((b[p + 2] & 0xFF) << 2)
+            | ((b[p + 3] & 0xFF) >>> 6);
+    v[o + 1] =
+        ((b[p + 3] & 0x3F) << 20)
+            | ((b[p + 4] & 0xFF) << 12)
+            | ((b[p + 5] & 0xFF) << 4)
+            | ((b[p + 6] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((b[p + 6] & 0xF) << 22)
+            | ((b[p + 7] & 0xFF) << 14)
+            | ((b[p + 8] & 0xFF) << 6)
+            | ((b[p + 9] & 0xFF) >>> 2);
+    v[o + 3] =
+        ((b[p + 9] & 0x3) << 24)
+            | ((b[p + 10] & 0xFF) << 16)
+            | ((b[p + 11] & 0xFF) << 8)
+            | (b[p + 12] & 0xFF);
+    v[o + 4] =
+        ((b[p + 13] & 0xFF) << 18)
+            | ((b[p + 14] & 0xFF) << 10)
+            | ((b[p + 15] & 0xFF) << 2)
+            | ((b[p + 16] & 0xFF) >>> 6);
+    v[o + 5] =
+        ((b[p + 16] & 0x3F) << 20)
+            | ((b[p + 17] & 0xFF) << 12)
+            | ((b[p + 18] & 0xFF) << 4)
+            | ((b[p + 19] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((b[p + 19] & 0xF) << 22)
+            | ((b[p + 20] & 0xFF) << 14)
+            | ((b[p + 21] & 0xFF) << 6)
+            | ((b[p + 22] & 0xFF) >>> 2);
+    v[o + 7] =
+        ((b[p + 22] & 0x3) << 24)
+            | ((b[p + 23] & 0xFF) << 16)
+            | ((b[p + 24] & 0xFF) << 8)
+            | (b[p + 25] & 0xFF);
+  }
+
+  private static void pack27(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 19);
+    b[p + 1] = (byte) (v[o] >>> 11 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 3 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x7) << 5) | (v[o + 1] >>> 22));
+    b[p + 4] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 25));
+    b[p + 7] = (byte) (v[o + 2] >>> 17 & 0xFF);
+    b[p + 8] = (byte) (v[o + 2] >>> 9 & 0xFF);
+    b[p + 9] = (byte) (v[o + 2] >>> 1 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] >>> 20));
+    b[p + 11] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 12] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 23));
+    b[p + 14] = (byte) (v[o + 4] >>> 15 & 0xFF);
+    b[p + 15] = (byte) (v[o + 4] >>> 7 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 4] & 0x7F) << 1) | (v[o + 5] >>> 26));
+    b[p + 17] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 18] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 19] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 20] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 21));
+    b[p + 21] = (byte) (v[o + 6] >>> 13 & 0xFF);
+    b[p + 22] = (byte) (v[o + 6] >>> 5 & 0xFF);
+    b[p + 23] = (byte) (((v[o + 6] & 0x1F) << 3) | (v[o + 7] >>> 24));
+    b[p + 24] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 25] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 26] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack27(byte[] b, int p, int[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 19)
+            | ((b[p + 1] & 0xFF) << 11)
+            | ((b[p + 2] & 0xFF) << 3)
+            | ((b[p + 3] & 0xFF) >>> 5);
+    v[o + 1] =
+        ((b[p + 3] & 0x1F) << 22)
+            | ((b[p + 4] & 0xFF) << 14)
+            | ((b[p + 5] & 0xFF) << 6)
+            | ((b[p + 6] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((b[p + 6] & 0x3) << 25)
+            | ((b[p + 7] & 0xFF) << 17)
+            | ((b[p + 8] & 0xFF) << 9)
+            | ((b[p + 9] & 0xFF) << 1)
+            | ((b[p + 10] & 0xFF) >>> 7);
+    v[o + 3] =
+        ((b[p + 10] & 0x7F) << 20)
+            | ((b[p + 11] & 0xFF) << 12)
+            | ((b[p + 12] & 0xFF) << 4)
+            | ((b[p + 13] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 13] & 0xF) << 23)
+            | ((b[p + 14] & 0xFF) << 15)
+            | ((b[p + 15] & 0xFF) << 7)
+            | ((b[p + 16] & 0xFF) >>> 1);
+    v[o + 5] =
+        ((b[p + 16] & 0x1) << 26)
+            | ((b[p + 17] & 0xFF) << 18)
+            | ((b[p + 18] & 0xFF) << 10)
+            | ((b[p + 19] & 0xFF) << 2)
+            | ((b[p + 20] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((b[p + 20] & 0x3F) << 21)
+            | ((b[p + 21] & 0xFF) << 13)
+            | ((b[p + 22] & 0xFF) << 5)
+            | ((b[p + 23] & 0xFF) >>> 3);
+    v[o + 7] =
+        ((b[p + 23] & 0x7) << 24)
+            | ((b[p + 24] & 0xFF) << 16)
+            | ((b[p + 25] & 0xFF) << 8)
+            | (b[p + 26] & 0xFF);
+  }
+
+  private static void pack28(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 20);
+    b[p + 1] = (byte) (v[o] >>> 12 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 4 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0xF) << 4) | (v[o + 1] >>> 24));
+    b[p + 4] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] & 0xFF);
+    b[p + 7] = (byte) (v[o + 2] >>> 20);
+    b[p + 8] = (byte) (v[o + 2] >>> 12 & 0xFF);
+    b[p + 9] = (byte) (v[o + 2] >>> 4 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 2] & 0xF) << 4) | (v[o + 3] >>> 24));
+    b[p + 11] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 12] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 13] = (byte) (v[o + 3] & 0xFF);
+    b[p + 14] = (byte) (v[o + 4] >>> 20);
+    b[p + 15] = (byte) (v[o + 4] >>> 12 & 0xFF);
+    b[p + 16] = (byte) (v[o + 4] >>> 4 & 0xFF);
+    b[p + 17] = (byte) (((v[o + 4] & 0xF) << 4) | (v[o + 5] >>> 24));
+    b[p + 18] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 19] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 20] = (byte) (v[o + 5] & 0xFF);
+    b[p + 21] = (byte) (v[o + 6] >>> 20);
+    b[p + 22] = (byte) (v[o + 6] >>> 12 & 0xFF);
+    b[p + 23] = (byte) (v[o + 6] >>> 4 & 0xFF);
+    b[p + 24] = (byte) (((v[o + 6] & 0xF) << 4) | (v[o + 7] >>> 24));
+    b[p + 25] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 26] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 27] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack28(byte[] b, int p, int[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 20)
+            | ((b[p + 1] & 0xFF) << 12)
+            | ((b[p + 2] & 0xFF) << 4)
+            | ((b[p + 3] & 0xFF) >>> 4);
+    v[o + 1] =
+        ((b[p + 3] & 0xF) << 24)
+            | ((b[p + 4] & 0xFF) << 16)
+            | ((b[p + 5] & 0xFF) << 8)
+            | (b[p + 6] & 0xFF);
+    v[o + 2] =
+        ((b[p + 7] & 0xFF) << 20)
+            | ((b[p + 8] & 0xFF) << 12)
+            | ((b[p + 9] & 0xFF) << 4)
+            | ((b[p + 10] & 0xFF) >>> 4);
+    v[o + 3] =
+        ((b[p + 10] & 0xF) << 24)
+            | ((b[p + 11] & 0xFF) << 16)
+            | ((b[p + 12] & 0xFF) << 8)
+            | (b[p + 13] & 0xFF);
+    v[o + 4] =
+        ((b[p + 14] & 0xFF) << 20)
+            | ((b[p + 15] & 0xFF) << 12)
+            | ((b[p + 16] & 0xFF) << 4)
+            | ((b[p + 17] & 0xFF) >>> 4);
+    v[o + 5] =
+        ((b[p + 17] & 0xF) << 24)
+            | ((b[p + 18] & 0xFF) << 16)
+            | ((b[p + 19] & 0xFF) << 8)
+            | (b[p + 20] & 0xFF);
+    v[o + 6] =
+        ((b[p + 21] & 0xFF) << 20)
+            | ((b[p + 22] & 0xFF) << 12)
+            | ((b[p + 23] & 0xFF) << 4)
+            | ((b[p + 24] & 0xFF) >>> 4);
+    v[o + 7] =
+        ((b[p + 24] & 0xF) << 24)
+            | ((b[p + 25] & 0xFF) << 16)
+            | ((b[p + 26] & 0xFF) << 8)
+            | (b[p + 27] & 0xFF);
+  }
+
+  private static void pack29(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 21);
+    b[p + 1] = (byte) (v[o] >>> 13 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 5 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x1F) << 3) | (v[o + 1] >>> 26));
+    b[p + 4] = (byte) (v[o + 1] >>> 18 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 23));
+    b[p + 8] = (byte) (v[o + 2] >>> 15 & 0xFF);
+    b[p + 9] = (byte) (v[o + 2] >>> 7 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 2] & 0x7F) << 1) | (v[o + 3] >>> 28));
+    b[p + 11] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 12] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 13] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 25));
+    b[p + 15] = (byte) (v[o + 4] >>> 17 & 0xFF);
+    b[p + 16] = (byte) (v[o + 4] >>> 9 & 0xFF);
+    b[p + 17] = (byte) (v[o + 4] >>> 1 & 0xFF);
+    b[p + 18] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] >>> 22));
+    b[p + 19] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 20] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 21] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 27));
+    b[p + 22] = (byte) (v[o + 6] >>> 19 & 0xFF);
+    b[p + 23] = (byte) (v[o + 6] >>> 11 & 0xFF);
+    b[p + 24] = (byte) (v[o + 6] >>> 3 & 0xFF);
+    b[p + 25] = (byte) (((v[o + 6] & 0x7) << 5) | (v[o + 7] >>> 24));
+    b[p + 26] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 27] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 28] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack29(byte[] b, int p, int[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 21)
+            | ((b[p + 1] & 0xFF) << 13)
+            | ((b[p + 2] & 0xFF) << 5)
+            | ((b[p + 3] & 0xFF) >>> 3);
+    v[o + 1] =
+        ((b[p + 3] & 0x7) << 26)
+            | ((b[p + 4] & 0xFF) << 18)
+            | ((b[p + 5] & 0xFF) << 10)
+            | ((b[p + 6] & 0xFF) << 2)
+            | ((b[p + 7] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((b[p + 7] & 0x3F) << 23)
+            | ((b[p + 8] & 0xFF) << 15)
+            | ((b[p + 9] & 0xFF) << 7)
+            | ((b[p + 10] & 0xFF) >>> 1);
+    v[o + 3] =
+        ((b[p + 10] & 0x1) << 28)
+            | ((b[p + 11] & 0xFF) << 20)
+            | ((b[p + 12] & 0xFF) << 12)
+            | ((b[p + 13] & 0xFF) << 4)
+            | ((b[p + 14] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 14] & 0xF) << 25)
+            | ((b[p + 15] & 0xFF) << 17)
+            | ((b[p + 16] & 0xFF) << 9)
+            | ((b[p + 17] & 0xFF) << 1)
+            | ((b[p + 18] & 0xFF) >>> 7);
+    v[o + 5] =
+        ((b[p + 18] & 0x7F) << 22)
+            | ((b[p + 19] & 0xFF) << 14)
+            | ((b[p + 20] & 0xFF) << 6)
+            | ((b[p + 21] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((b[p + 21] & 0x3) << 27)
+            | ((b[p + 22] & 0xFF) << 19)
+            | ((b[p + 23] & 0xFF) << 11)
+            | ((b[p + 24] & 0xFF) << 3)
+            | ((b[p + 25] & 0xFF) >>> 5);
+    v[o + 7] =
+        ((b[p + 25] & 0x1F) << 24)
+            | ((b[p + 26] & 0xFF) << 16)
+            | ((b[p + 27] & 0xFF) << 8)
+            | (b[p + 28] & 0xFF);
+  }
+
+  private static void pack30(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 22);
+    b[p + 1] = (byte) (v[o] >>> 14 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 6 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x3F) << 2) | (v[o + 1] >>> 28));
+    b[p + 4] = (byte) (v[o + 1] >>> 20 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 26));
+    b[p + 8] = (byte) (v[o + 2] >>> 18 & 0xFF);
+    b[p + 9] = (byte) (v[o + 2] >>> 10 & 0xFF);
+    b[p + 10] = (byte) (v[o + 2] >>> 2 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 2] & 0x3) << 6) | (v[o + 3] >>> 24));
+    b[p + 12] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 13] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 14] = (byte) (v[o + 3] & 0xFF);
+    b[p + 15] = (byte) (v[o + 4] >>> 22);
+    b[p + 16] = (byte) (v[o + 4] >>> 14 & 0xFF);
+    b[p + 17] = (byte) (v[o + 4] >>> 6 & 0xFF);
+    b[p + 18] = (byte) (((v[o + 4] & 0x3F) << 2) | (v[o + 5] >>> 28));
+    b[p + 19] = (byte) (v[o + 5] >>> 20 & 0xFF);
+    b[p + 20] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 21] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 22] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 26));
+    b[p + 23] = (byte) (v[o + 6] >>> 18 & 0xFF);
+    b[p + 24] = (byte) (v[o + 6] >>> 10 & 0xFF);
+    b[p + 25] = (byte) (v[o + 6] >>> 2 & 0xFF);
+    b[p + 26] = (byte) (((v[o + 6] & 0x3) << 6) | (v[o + 7] >>> 24));
+    b[p + 27] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 28] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 29] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack30(byte[] b, int p, int[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 22)
+            | ((b[p + 1] & 0xFF) << 14)
+            | ((b[p + 2] & 0xFF) << 6)
+            | ((b[p + 3] & 0xFF) >>> 2);
+    v[o + 1] =
+        ((b[p + 3] & 0x3) << 28)
+            | ((b[p + 4] & 0xFF) << 20)
+            | ((b[p + 5] & 0xFF) << 12)
+            | ((b[p + 6] & 0xFF) << 4)
+            | ((b[p + 7] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((b[p + 7] & 0xF) << 26)
+            | ((b[p + 8] & 0xFF) << 18)
+            | ((b[p + 9] & 0xFF) << 10)
+            | ((b[p + 10] & 0xFF) << 2)
+            | ((b[p + 11] & 0xFF) >>> 6);
+    v[o + 3] =
+        ((b[p + 11] & 0x3F) << 24)
+            | ((b[p + 12] & 0xFF) << 16)
+            | ((b[p + 13] & 0xFF) << 8)
+            | (b[p + 14] & 0xFF);
+    v[o + 4] =
+        ((b[p + 15] & 0xFF) << 22)
+            | ((b[p + 16] & 0xFF) << 14)
+            | ((b[p + 17] & 0xFF) << 6)
+            | ((b[p + 18] & 0xFF) >>> 2);
+    v[o + 5] =
+        ((b[p + 18] & 0x3) << 28)
+            | ((b[p + 19] & 0xFF) << 20)
+            | ((b[p + 20] & 0xFF) << 12)
+            | ((b[p + 21] & 0xFF) << 4)
+            | ((b[p + 22] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((b[p + 22] & 0xF) << 26)
+            | ((b[p + 23] & 0xFF) << 18)
+            | ((b[p + 24] & 0xFF) << 10)
+            | ((b[p + 25] & 0xFF) << 2)
+            | ((b[p + 26] & 0xFF) >>> 6);
+    v[o + 7] =
+        ((b[p + 26] & 0x3F) << 24)
+            | ((b[p + 27] & 0xFF) << 16)
+            | ((b[p + 28] & 0xFF) << 8)
+            | (b[p + 29] & 0xFF);
+  }
+
+  private static void pack31(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 23);
+    b[p + 1] = (byte) (v[o] >>> 15 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 7 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x7F) << 1) | (v[o + 1] >>> 30));
+    b[p + 4] = (byte) (v[o + 1] >>> 22 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 29));
+    b[p + 8] = (byte) (v[o + 2] >>> 21 & 0xFF);
+    b[p + 9] = (byte) (v[o + 2] >>> 13 & 0xFF);
+    b[p + 10] = (byte) (v[o + 2] >>> 5 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 28));
+    b[p + 12] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 13] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 14] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 27));
+    b[p + 16] = (byte) (v[o + 4] >>> 19 & 0xFF);
+    b[p + 17] = (byte) (v[o + 4] >>> 11 & 0xFF);
+    b[p + 18] = (byte) (v[o + 4] >>> 3 & 0xFF);
+    b[p + 19] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 26));
+    b[p + 20] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 21] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 22] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 23] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 25));
+    b[p + 24] = (byte) (v[o + 6] >>> 17 & 0xFF);
+    b[p + 25] = (byte) (v[o + 6] >>> 9 & 0xFF);
+    b[p + 26] = (byte) (v[o + 6] >>> 1 & 0xFF);
+    b[p + 27] = (byte) (((v[o + 6] & 0x1) << 7) | (v[o + 7] >>> 24));
+    b[p + 28] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 29] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 30] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack31(byte[] b, int p, int[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 23)
+            | ((b[p + 1] & 0xFF) << 15)
+            | ((b[p + 2] & 0xFF) << 7)
+            | ((b[p + 3] & 0xFF) >>> 1);
+    v[o + 1] =
+        ((b[p + 3] & 0x1) << 30)
+            | ((b[p + 4] & 0xFF) << 22)
+            | ((b[p + 5] & 0xFF) << 14)
+            | ((b[p + 6] & 0xFF) << 6)
+            | ((b[p + 7] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((b[p + 7] & 0x3) << 29)
+            | ((b[p + 8] & 0xFF) << 21)
+            | ((b[p + 9] & 0xFF) << 13)
+            | ((b[p + 10] & 0xFF) << 5)
+            | ((b[p + 11] & 0xFF) >>> 3);
+    v[o + 3] =
+        ((b[p + 11] & 0x7) << 28)
+            | ((b[p + 12] & 0xFF) << 20)
+            | ((b[p + 13] & 0xFF) << 12)
+            | ((b[p + 14] & 0xFF) << 4)
+            | ((b[p + 15] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 15] & 0xF) << 27)
+            | ((b[p + 16] & 0xFF) << 19)
+            | ((b[p + 17] & 0xFF) << 11)
+            | ((b[p + 18] & 0xFF) << 3)
+            | ((b[p + 19] & 0xFF) >>> 5);
+    v[o + 5] =
+        ((b[p + 19] & 0x1F) << 26)
+            | ((b[p + 20] & 0xFF) << 18)
+            | ((b[p + 21] & 0xFF) << 10)
+            | ((b[p + 22] & 0xFF) << 2)
+            | ((b[p + 23] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((b[p + 23] & 0x3F) << 25)
+            | ((b[p + 24] & 0xFF) << 17)
+            | ((b[p + 25] & 0xFF) << 9)
+            | ((b[p + 26] & 0xFF) << 1)
+            | ((b[p + 27] & 0xFF) >>> 7);
+    v[o + 7] =
+        ((b[p + 27] & 0x7F) << 24)
+            | ((b[p + 28] & 0xFF) << 16)
+            | ((b[p + 29] & 0xFF) << 8)
+            | (b[p + 30] & 0xFF);
+  }
+
+  private static void pack32(int[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 24);
+    b[p + 1] = (byte) (v[o] >>> 16 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 8 & 0xFF);
+    b[p + 3] = (byte) (v[o] & 0xFF);
+    b[p + 4] = (byte) (v[o + 1] >>> 24);
+    b[p + 5] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] & 0xFF);
+    b[p + 8] = (byte) (v[o + 2] >>> 24);
+    b[p + 9] = (byte) (v[o + 2] >>> 16 & 0xFF);
+    b[p + 10] = (byte) (v[o + 2] >>> 8 & 0xFF);
+    b[p + 11] = (byte) (v[o + 2] & 0xFF);
+    b[p + 12] = (byte) (v[o + 3] >>> 24);
+    b[p + 13] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 14] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 15] = (byte) (v[o + 3] & 0xFF);
+    b[p + 16] = (byte) (v[o + 4] >>> 24);
+    b[p + 17] = (byte) (v[o + 4] >>> 16 & 0xFF);
+    b[p + 18] = (byte) (v[o + 4] >>> 8 & 0xFF);
+    b[p + 19] = (byte) (v[o + 4] & 0xFF);
+    b[p + 20] = (byte) (v[o + 5] >>> 24);
+    b[p + 21] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 22] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 23] = (byte) (v[o + 5] & 0xFF);
+    b[p + 24] = (byte) (v[o + 6] >>> 24);
+    b[p + 25] = (byte) (v[o + 6] >>> 16 & 0xFF);
+    b[p + 26] = (byte) (v[o + 6] >>> 8 & 0xFF);
+    b[p + 27] = (byte) (v[o + 6] & 0xFF);
+    b[p + 28] = (byte) (v[o + 7] >>> 24);
+    b[p + 29] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 30] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 31] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack32(byte[] b, int p, int[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 24)
+            | ((b[p + 1] & 0xFF) << 16)
+            | ((b[p + 2] & 0xFF) << 8)
+            | (b[p + 3] & 0xFF);
+    v[o + 1] =
+        ((b[p + 4] & 0xFF) << 24)
+            | ((b[p + 5] & 0xFF) << 16)
+            | ((b[p + 6] & 0xFF) << 8)
+            | (b[p + 7] & 0xFF);
+    v[o + 2] =
+        ((b[p + 8] & 0xFF) << 24)
+            | ((b[p + 9] & 0xFF) << 16)
+            | ((b[p + 10] & 0xFF) << 8)
+            | (b[p + 11] & 0xFF);
+    v[o + 3] =
+        ((b[p + 12] & 0xFF) << 24)
+            | ((b[p + 13] & 0xFF) << 16)
+            | ((b[p + 14] & 0xFF) << 8)
+            | (b[p + 15] & 0xFF);
+    v[o + 4] =
+        ((b[p + 16] & 0xFF) << 24)
+            | ((b[p + 17] & 0xFF) << 16)
+            | ((b[p + 18] & 0xFF) << 8)
+            | (b[p + 19] & 0xFF);
+    v[o + 5] =
+        ((b[p + 20] & 0xFF) << 24)
+            | ((b[p + 21] & 0xFF) << 16)
+            | ((b[p + 22] & 0xFF) << 8)
+            | (b[p + 23] & 0xFF);
+    v[o + 6] =
+        ((b[p + 24] & 0xFF) << 24)
+            | ((b[p + 25] & 0xFF) << 16)
+            | ((b[p + 26] & 0xFF) << 8)
+            | (b[p + 27] & 0xFF);
+    v[o + 7] =
+        ((b[p + 28] & 0xFF) << 24)
+            | ((b[p + 29] & 0xFF) << 16)
+            | ((b[p + 30] & 0xFF) << 8)
+            | (b[p + 31] & 0xFF);
+  }
+}
@@ -0,0 +1,5496 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.bitpacking;
+
+import java.util.Arrays;
+
+/**
+ * Unrolled kernels packing (unpacking) 8 long values of a fixed bit-width into (from) exactly
+ * {@code width} bytes, one method per width. Values are laid out one after another, most
+ * significant bit first, as described in {@link LongPacker}.
+ *
+ * <p>Every kernel works on constant shifts and masks only, so that the JIT can keep the values in
+ * registers instead of looping bit by bit. This class is generated by BitPackingGenerator in the
+ * tests, change the generator instead of this class.
+ */
+final class LongBitPacking {
+
+  private LongBitPacking() {
+    // util class
+  }
+
+  /**
+   * pack values[offset, offset + 8) into buf[bufOffset, bufOffset + width). Every value must fit in
+   * {@code width} bits.
+   */
+  static void pack8(long[] values, int offset, byte[] buf, int bufOffset, int width) {
+    switch (width) {
+      case 0:
+        return;
+      case 1:
+        pack1(values, offset, buf, bufOffset);
+        return;
+      case 2:
+        pack2(values, offset, buf, bufOffset);
+        return;
+      case 3:
+        pack3(values, offset, buf, bufOffset);
+        return;
+      case 4:
+        pack4(values, offset, buf, bufOffset);
+        return;
+      case 5:
+        pack5(values, offset, buf, bufOffset);
+        return;
+      case 6:
+        pack6(values, offset, buf, bufOffset);
+        return;
+      case 7:
+        pack7(values, offset, buf, bufOffset);
+        return;
+      case 8:
+        pack8(values, offset, buf, bufOffset);
+        return;
+      case 9:
+        pack9(values, offset, buf, bufOffset);
+        return;
+      case 10:
+        pack10(values, offset, buf, bufOffset);
+        return;
+      case 11:
+        pack11(values, offset, buf, bufOffset);
+        return;
+      case 12:
+        pack12(values, offset, buf, bufOffset);
+        return;
+      case 13:
+        pack13(values, offset, buf, bufOffset);
+        return;
+      case 14:
+        pack14(values, offset, buf, bufOffset);
+        return;
+      case 15:
+        pack15(values, offset, buf, bufOffset);
+        return;
+      case 16:
+        pack16(values, offset, buf, bufOffset);
+        return;
+      case 17:
+        pack17(values, offset, buf, bufOffset);
+        return;
+      case 18:
+        pack18(values, offset, buf, bufOffset);
+        return;
+      case 19:
+        pack19(values, offset, buf, bufOffset);
+        return;
+      case 20:
+        pack20(values, offset, buf, bufOffset);
+        return;
+      case 21:
+        pack21(values, offset, buf, bufOffset);
+        return;
+      case 22:
+        pack22(values, offset, buf, bufOffset);
+        return;
+      case 23:
+        pack23(values, offset, buf, bufOffset);
+        return;
+      case 24:
+        pack24(values, offset, buf, bufOffset);
+        return;
+      case 25:
+        pack25(values, offset, buf, bufOffset);
+        return;
+      case 26:
+        pack26(values, offset, buf, bufOffset);
+        return;
+      case 27:
+        pack27(values, offset, buf, bufOffset);
+        return;
+      case 28:
+        pack28(values, offset, buf, bufOffset);
+        return;
+      case 29:
+        pack29(values, offset, buf, bufOffset);
+        return;
+      case 30:
+        pack30(values, offset, buf, bufOffset);
+        return;
+      case 31:
+        pack31(values, offset, buf, bufOffset);
+        return;
+      case 32:
+        pack32(values, offset, buf, bufOffset);
+        return;
+      case 33:
+        pack33(values, offset, buf, bufOffset);
+        return;
+      case 34:
+        pack34(values, offset, buf, bufOffset);
+        return;
+      case 35:
+        pack35(values, offset, buf, bufOffset);
+        return;
+      case 36:
+        pack36(values, offset, buf, bufOffset);
+        return;
+      case 37:
+        pack37(values, offset, buf, bufOffset);
+        return;
+      case 38:
+        pack38(values, offset, buf, bufOffset);
+        return;
+      case 39:
+        pack39(values, offset, buf, bufOffset);
+        return;
+      case 40:
+        pack40(values, offset, buf, bufOffset);
+        return;
+      case 41:
+        pack41(values, offset, buf, bufOffset);
+        return;
+      case 42:
+        pack42(values, offset, buf, bufOffset);
+        return;
+      case 43:
+        pack43(values, offset, buf, bufOffset);
+        return;
+      case 44:
+        pack44(values, offset, buf, bufOffset);
+        return;
+      case 45:
+        pack45(values, offset, buf, bufOffset);
+        return;
+      case 46:
+        pack46(values, offset, buf, bufOffset);
+        return;
+      case 47:
+        pack47(values, offset, buf, bufOffset);
+        return;
+      case 48:
+        pack48(values, offset, buf, bufOffset);
+        return;
+      case 49:
+        pack49(values, offset, buf, bufOffset);
+        return;
+      case 50:
+        pack50(values, offset, buf, bufOffset);
+        return;
+      case 51:
+        pack51(values, offset, buf, bufOffset);
+        return;
+      case 52:
+        pack52(values, offset, buf, bufOffset);
+        return;
+      case 53:
+        pack53(values, offset, buf, bufOffset);
+        return;
+      case 54:
+        pack54(values, offset, buf, bufOffset);
+        return;
+      case 55:
+        pack55(values, offset, buf, bufOffset);
+        return;
+      case 56:
+        pack56(values, offset, buf, bufOffset);
+        return;
+      case 57:
+        pack57(values, offset, buf, bufOffset);
+        return;
+      case 58:
+        pack58(values, offset, buf, bufOffset);
+        return;
+      case 59:
+        pack59(values, offset, buf, bufOffset);
+        return;
+      case 60:
+        pack60(values, offset, buf, bufOffset);
+        return;
+      case 61:
+        pack61(values, offset, buf, bufOffset);
+        return;
+      case 62:
+        pack62(values, offset, buf, bufOffset);
+        return;
+      case 63:
+        pack63(values, offset, buf, bufOffset);
+        return;
+      case 64:
+        pack64(values, offset, buf, bufOffset);
+        return;
+      default:
+        throw new IllegalArgumentException("Unsupported bit-width " + width);
+    }
+  }
+
+  /** unpack 8 values from buf[offset, offset + width) into values[valueOffset, valueOffset + 8). */
+  static void unpack8(byte[] buf, int offset, long[] values, int valueOffset, int width) {
+    switch (width) {
+      case 0:
+        Arrays.fill(values, valueOffset, valueOffset + 8, 0);
+        return;
+      case 1:
+        unpack1(buf, offset, values, valueOffset);
+        return;
+      case 2:
+        unpack2(buf, offset, values, valueOffset);
+        return;
+      case 3:
+        unpack3(buf, offset, values, valueOffset);
+        return;
+      case 4:
+        unpack4(buf, offset, values, valueOffset);
+        return;
+      case 5:
+        unpack5(buf, offset, values, valueOffset);
+        return;
+      case 6:
+        unpack6(buf, offset, values, valueOffset);
+        return;
+      case 7:
+        unpack7(buf, offset, values, valueOffset);
+        return;
+      case 8:
+        unpack8(buf, offset, values, valueOffset);
+        return;
+      case 9:
+        unpack9(buf, offset, values, valueOffset);
+        return;
+      case 10:
+        unpack10(buf, offset, values, valueOffset);
+        return;
+      case 11:
+        unpack11(buf, offset, values, valueOffset);
+        return;
+      case 12:
+        unpack12(buf, offset, values, valueOffset);
+        return;
+      case 13:
+        unpack13(buf, offset, values, valueOffset);
+        return;
+      case 14:
+        unpack14(buf, offset, values, valueOffset);
+        return;
+      case 15:
+        unpack15(buf, offset, values, valueOffset);
+        return;
+      case 16:
+        unpack16(buf, offset, values, valueOffset);
+        return;
+      case 17:
+        unpack17(buf, offset, values, valueOffset);
+        return;
+      case 18:
+        unpack18(buf, offset, values, valueOffset);
+        return;
+      case 19:
+        unpack19(buf, offset, values, valueOffset);
+        return;
+      case 20:
+        unpack20(buf, offset, values, valueOffset);
+        return;
+      case 21:
+        unpack21(buf, offset, values, valueOffset);
+        return;
+      case 22:
+        unpack22(buf, offset, values, valueOffset);
+        return;
+      case 23:
+        unpack23(buf, offset, values, valueOffset);
+        return;
+      case 24:
+        unpack24(buf, offset, values, valueOffset);
+        return;
+      case 25:
+        unpack25(buf, offset, values, valueOffset);
+        return;
+      case 26:
+        unpack26(buf, offset, values, valueOffset);
+        return;
+      case 27:
+        unpack27(buf, offset, values, valueOffset);
+        return;
+      case 28:
+        unpack28(buf, offset, values, valueOffset);
+        return;
+      case 29:
+        unpack29(buf, offset, values, valueOffset);
+        return;
+      case 30:
+        unpack30(buf, offset, values, valueOffset);
+        return;
+      case 31:
+        unpack31(buf, offset, values, valueOffset);
+        return;
+      case 32:
+        unpack32(buf, offset, values, valueOffset);
+        return;
+      case 33:
+        unpack33(buf, offset, values, valueOffset);
+        return;
+      case 34:
+        unpack34(buf, offset, values, valueOffset);
+        return;
+      case 35:
+        unpack35(buf, offset, values, valueOffset);
+        return;
+      case 36:
+        unpack36(buf, offset, values, valueOffset);
+        return;
+      case 37:
+        unpack37(buf, offset, values, valueOffset);
+        return;
+      case 38:
+        unpack38(buf, offset, values, valueOffset);
+        return;
+      case 39:
+        unpack39(buf, offset, values, valueOffset);
+        return;
+      case 40:
+        unpack40(buf, offset, values, valueOffset);
+        return;
+      case 41:
+        unpack41(buf, offset, values, valueOffset);
+        return;
+      case 42:
+        unpack42(buf, offset, values, valueOffset);
+        return;
+      case 43:
+        unpack43(buf, offset, values, valueOffset);
+        return;
+      case 44:
+        unpack44(buf, offset, values, valueOffset);
+        return;
+      case 45:
+        unpack45(buf, offset, values, valueOffset);
+        return;
+      case 46:
+        unpack46(buf, offset, values, valueOffset);
+        return;
+      case 47:
+        unpack47(buf, offset, values, valueOffset);
+        return;
+      case 48:
+        unpack48(buf, offset, values, valueOffset);
+        return;
+      case 49:
+        unpack49(buf, offset, values, valueOffset);
+        return;
+      case 50:
+        unpack50(buf, offset, values, valueOffset);
+        return;
+      case 51:
+        unpack51(buf, offset, values, valueOffset);
+        return;
+      case 52:
+        unpack52(buf, offset, values, valueOffset);
+        return;
+      case 53:
+        unpack53(buf, offset, values, valueOffset);
+        return;
+      case 54:
+        unpack54(buf, offset, values, valueOffset);
+        return;
+      case 55:
+        unpack55(buf, offset, values, valueOffset);
+        return;
+      case 56:
+        unpack56(buf, offset, values, valueOffset);
+        return;
+      case 57:
+        unpack57(buf, offset, values, valueOffset);
+        return;
+      case 58:
+        unpack58(buf, offset, values, valueOffset);
+        return;
+      case 59:
+        unpack59(buf, offset, values, valueOffset);
+        return;
+      case 60:
+        unpack60(buf, offset, values, valueOffset);
+        return;
+      case 61:
+        unpack61(buf, offset, values, valueOffset);
+        return;
+      case 62:
+        unpack62(buf, offset, values, valueOffset);
+        return;
+      case 63:
+        unpack63(buf, offset, values, valueOffset);
+        return;
+      case 64:
+        unpack64(buf, offset, values, valueOffset);
+        return;
+      default:
+        throw new IllegalArgumentException("Unsupported bit-width " + width);
+    }
+  }
+
+  private static void pack1(long[] v, int o, byte[] b, int p) {
+    b[p] =
+        (byte)
+            ((v[o] << 7)
+                | (v[o + 1] << 6)
+                | (v[o + 2] << 5)
+                | (v[o + 3] << 4)
+                | (v[o + 4] << 3)
+                | (v[o + 5] << 2)
+                | (v[o + 6] << 1)
+                | v[o + 7]);
+  }
+
+  private static void unpack1(byte[] b, int p, long[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 7;
+    v[o + 1] = b[p] >>> 6 & 0x1;
+    v[o + 2] = b[p] >>> 5 & 0x1;
+    v[o + 3] = b[p] >>> 4 & 0x1;
+    v[o + 4] = b[p] >>> 3 & 0x1;
+    v[o + 5] = b[p] >>> 2 & 0x1;
+    v[o + 6] = b[p] >>> 1 & 0x1;
+    v[o + 7] = b[p] & 0x1;
+  }
+
+  private static void pack2(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 6) | (v[o + 1] << 4) | (v[o + 2] << 2) | v[o + 3]);
+    b[p + 1] = (byte) ((v[o + 4] << 6) | (v[o + 5] << 4) | (v[o + 6] << 2) | v[o + 7]);
+  }
+
+  private static void unpack2(byte[] b, int p, long[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 6;
+    v[o + 1] = b[p] >>> 4 & 0x3;
+    v[o + 2] = b[p] >>> 2 & 0x3;
+    v[o + 3] = b[p] & 0x3;
+    v[o + 4] = (b[p + 1] & 0xFF) >>> 6;
+    v[o + 5] = b[p + 1] >>> 4 & 0x3;
+    v[o + 6] = b[p + 1] >>> 2 & 0x3;
+    v[o + 7] = b[p + 1] & 0x3;
+  }
+
+  private static void pack3(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 5) | (v[o + 1] << 2) | (v[o + 2] >>> 1));
+    b[p + 1] =
+        (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] << 4) | (v[o + 4] << 1) | (v[o + 5] >>> 2));
+    b[p + 2] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] << 3) | v[o + 7]);
+  }
+
+  private static void unpack3(byte[] b, int p, long[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 5;
+    v[o + 1] = b[p] >>> 2 & 0x7;
+    v[o + 2] = ((b[p] & 0x3) << 1) | ((b[p + 1] & 0xFF) >>> 7);
+    v[o + 3] = b[p + 1] >>> 4 & 0x7;
+    v[o + 4] = b[p + 1] >>> 1 & 0x7;
+    v[o + 5] = ((b[p + 1] & 0x1) << 2) | ((b[p + 2] & 0xFF) >>> 6);
+    v[o + 6] = b[p + 2] >>> 3 & 0x7;
+    v[o + 7] = b[p + 2] & 0x7;
+  }
+
+  private static void pack4(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 4) | v[o + 1]);
+    b[p + 1] = (byte) ((v[o + 2] << 4) | v[o + 3]);
+    b[p + 2] = (byte) ((v[o + 4] << 4) | v[o + 5]);
+    b[p + 3] = (byte) ((v[o + 6] << 4) | v[o + 7]);
+  }
+
+  private static void unpack4(byte[] b, int p, long[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 4;
+    v[o + 1] = b[p] & 0xF;
+    v[o + 2] = (b[p + 1] & 0xFF) >>> 4;
+    v[o + 3] = b[p + 1] & 0xF;
+    v[o + 4] = (b[p + 2] & 0xFF) >>> 4;
+    v[o + 5] = b[p + 2] & 0xF;
+    v[o + 6] = (b[p + 3] & 0xFF) >>> 4;
+    v[o + 7] = b[p + 3] & 0xF;
+  }
+
+  private static void pack5(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 3) | (v[o + 1] >>> 2));
+    b[p + 1] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] << 1) | (v[o + 3] >>> 4));
+    b[p + 2] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 1));
+    b[p + 3] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] << 2) | (v[o + 6] >>> 3));
+    b[p + 4] = (byte) (((v[o + 6] & 0x7) << 5) | v[o + 7]);
+  }
+
+  private static void unpack5(byte[] b, int p, long[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 3;
+    v[o + 1] = ((b[p] & 0x7) << 2) | ((b[p + 1] & 0xFF) >>> 6);
+    v[o + 2] = b[p + 1] >>> 1 & 0x1F;
+    v[o + 3] = ((b[p + 1] & 0x1) << 4) | ((b[p + 2] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 2] & 0xF) << 1) | ((b[p + 3] & 0xFF) >>> 7);
+    v[o + 5] = b[p + 3] >>> 2 & 0x1F;
+    v[o + 6] = ((b[p + 3] & 0x3) << 3) | ((b[p + 4] & 0xFF) >>> 5);
+    v[o + 7] = b[p + 4] & 0x1F;
+  }
+
+  private static void pack6(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 2) | (v[o + 1] >>> 4));
+    b[p + 1] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 2));
+    b[p + 2] = (byte) (((v[o + 2] & 0x3) << 6) | v[o + 3]);
+    b[p + 3] = (byte) ((v[o + 4] << 2) | (v[o + 5] >>> 4));
+    b[p + 4] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 2));
+    b[p + 5] = (byte) (((v[o + 6] & 0x3) << 6) | v[o + 7]);
+  }
+
+  private static void unpack6(byte[] b, int p, long[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 2;
+    v[o + 1] = ((b[p] & 0x3) << 4) | ((b[p + 1] & 0xFF) >>> 4);
+    v[o + 2] = ((b[p + 1] & 0xF) << 2) | ((b[p + 2] & 0xFF) >>> 6);
+    v[o + 3] = b[p + 2] & 0x3F;
+    v[o + 4] = (b[p + 3] & 0xFF) >>> 2;
+    v[o + 5] = ((b[p + 3] & 0x3) << 4) | ((b[p + 4] & 0xFF) >>> 4);
+    v[o + 6] = ((b[p + 4] & 0xF) << 2) | ((b[p + 5] & 0xFF) >>> 6);
+    v[o + 7] = b[p + 5] & 0x3F;
+  }
+
+  private static void pack7(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) ((v[o] << 1) | (v[o + 1] >>> 6));
+    b[p + 1] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 5));
+    b[p + 2] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 4));
+    b[p + 3] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 3));
+    b[p + 4] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 2));
+    b[p + 5] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 1));
+    b[p + 6] = (byte) (((v[o + 6] & 0x1) << 7) | v[o + 7]);
+  }
+
+  private static void unpack7(byte[] b, int p, long[] v, int o) {
+    v[o] = (b[p] & 0xFF) >>> 1;
+    v[o + 1] = ((b[p] & 0x1) << 6) | ((b[p + 1] & 0xFF) >>> 2);
+    v[o + 2] = ((b[p + 1] & 0x3) << 5) | ((b[p + 2] & 0xFF) >>> 3);
+    v[o + 3] = ((b[p + 2] & 0x7) << 4) | ((b[p + 3] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 3] & 0xF) << 3) | ((b[p + 4] & 0xFF) >>> 5);
+    v[o + 5] = ((b[p + 4] & 0x1F) << 2) | ((b[p + 5] & 0xFF) >>> 6);
+    v[o + 6] = ((b[p + 5] & 0x3F) << 1) | ((b[p + 6] & 0xFF) >>> 7);
+    v[o + 7] = b[p + 6] & 0x7F;
+  }
+
+  private static void pack8(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o]);
+    b[p + 1] = (byte) (v[o + 1]);
+    b[p + 2] = (byte) (v[o + 2]);
+    b[p + 3] = (byte) (v[o + 3]);
+    b[p + 4] = (byte) (v[o + 4]);
+    b[p + 5] = (byte) (v[o + 5]);
+    b[p + 6] = (byte) (v[o + 6]);
+    b[p + 7] = (byte) (v[o + 7]);
+  }
+
+  private static void unpack8(byte[] b, int p, long[] v, int o) {
+    v[o] = b[p] & 0xFF;
+    v[o + 1] = b[p + 1] & 0xFF;
+    v[o + 2] = b[p + 2] & 0xFF;
+    v[o + 3] = b[p + 3] & 0xFF;
+    v[o + 4] = b[p + 4] & 0xFF;
+    v[o + 5] = b[p + 5] & 0xFF;
+    v[o + 6] = b[p + 6] & 0xFF;
+    v[o + 7] = b[p + 7] & 0xFF;
+  }
+
+  private static void pack9(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 1);
+    b[p + 1] = (byte) (((v[o] & 0x1) << 7) | (v[o + 1] >>> 2));
+    b[p + 2] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 3));
+    b[p + 3] = (byte) (((v[o + 2] & 0x7) << 5) | (v[o + 3] >>> 4));
+    b[p + 4] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 5));
+    b[p + 5] = (byte) (((v[o + 4] & 0x1F) << 3) | (v[o + 5] >>> 6));
+    b[p + 6] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 7));
+    b[p + 7] = (byte) (((v[o + 6] & 0x7F) << 1) | (v[o + 7] >>> 8));
+    b[p + 8] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack9(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 1) | ((b[p + 1] & 0xFF) >>> 7);
+    v[o + 1] = ((b[p + 1] & 0x7F) << 2) | ((b[p + 2] & 0xFF) >>> 6);
+    v[o + 2] = ((b[p + 2] & 0x3F) << 3) | ((b[p + 3] & 0xFF) >>> 5);
+    v[o + 3] = ((b[p + 3] & 0x1F) << 4) | ((b[p + 4] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 4] & 0xF) << 5) | ((b[p + 5] & 0xFF) >>> 3);
+    v[o + 5] = ((b[p + 5] & 0x7) << 6) | ((b[p + 6] & 0xFF) >>> 2);
+    v[o + 6] = ((b[p + 6] & 0x3) << 7) | ((b[p + 7] & 0xFF) >>> 1);
+    v[o + 7] = ((b[p + 7] & 0x1) << 8) | (b[p + 8] & 0xFF);
+  }
+
+  private static void pack10(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 2);
+    b[p + 1] = (byte) (((v[o] & 0x3) << 6) | (v[o + 1] >>> 4));
+    b[p + 2] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 6));
+    b[p + 3] = (byte) (((v[o + 2] & 0x3F) << 2) | (v[o + 3] >>> 8));
+    b[p + 4] = (byte) (v[o + 3] & 0xFF);
+    b[p + 5] = (byte) (v[o + 4] >>> 2);
+    b[p + 6] = (byte) (((v[o + 4] & 0x3) << 6) | (v[o + 5] >>> 4));
+    b[p + 7] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 6));
+    b[p + 8] = (byte) (((v[o + 6] & 0x3F) << 2) | (v[o + 7] >>> 8));
+    b[p + 9] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack10(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 2) | ((b[p + 1] & 0xFF) >>> 6);
+    v[o + 1] = ((b[p + 1] & 0x3F) << 4) | ((b[p + 2] & 0xFF) >>> 4);
+    v[o + 2] = ((b[p + 2] & 0xF) << 6) | ((b[p + 3] & 0xFF) >>> 2);
+    v[o + 3] = ((b[p + 3] & 0x3) << 8) | (b[p + 4] & 0xFF);
+    v[o + 4] = ((b[p + 5] & 0xFF) << 2) | ((b[p + 6] & 0xFF) >>> 6);
+    v[o + 5] = ((b[p + 6] & 0x3F) << 4) | ((b[p + 7] & 0xFF) >>> 4);
+    v[o + 6] = ((b[p + 7] & 0xF) << 6) | ((b[p + 8] & 0xFF) >>> 2);
+    v[o + 7] = ((b[p + 8] & 0x3) << 8) | (b[p + 9] & 0xFF);
+  }
+
+  private static void pack11(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 3);
+    b[p + 1] = (byte) (((v[o] & 0x7) << 5) | (v[o + 1] >>> 6));
+    b[p + 2] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 9));
+    b[p + 3] = (byte) (v[o + 2] >>> 1 & 0xFF);
+    b[p + 4] = (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] >>> 4));
+    b[p + 5] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 7));
+    b[p + 6] = (byte) (((v[o + 4] & 0x7F) << 1) | (v[o + 5] >>> 10));
+    b[p + 7] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 5));
+    b[p + 9] = (byte) (((v[o + 6] & 0x1F) << 3) | (v[o + 7] >>> 8));
+    b[p + 10] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack11(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 3) | ((b[p + 1] & 0xFF) >>> 5);
+    v[o + 1] = ((b[p + 1] & 0x1F) << 6) | ((b[p + 2] & 0xFF) >>> 2);
+    v[o + 2] = ((b[p + 2] & 0x3) << 9) | ((b[p + 3] & 0xFF) << 1) | ((b[p + 4] & 0xFF) >>> 7);
+    v[o + 3] = ((b[p + 4] & 0x7F) << 4) | ((b[p + 5] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 5] & 0xF) << 7) | ((b[p + 6] & 0xFF) >>> 1);
+    v[o + 5] = ((b[p + 6] & 0x1) << 10) | ((b[p + 7] & 0xFF) << 2) | ((b[p + 8] & 0xFF) >>> 6);
+    v[o + 6] = ((b[p + 8] & 0x3F) << 5) | ((b[p + 9] & 0xFF) >>> 3);
+    v[o + 7] = ((b[p + 9] & 0x7) << 8) | (b[p + 10] & 0xFF);
+  }
+
+  private static void pack12(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 4);
+    b[p + 1] = (byte) (((v[o] & 0xF) << 4) | (v[o + 1] >>> 8));
+    b[p + 2] = (byte) (v[o + 1] & 0xFF);
+    b[p + 3] = (byte) (v[o + 2] >>> 4);
+    b[p + 4] = (byte) (((v[o + 2] & 0xF) << 4) | (v[o + 3] >>> 8));
+    b[p + 5] = (byte) (v[o + 3] & 0xFF);
+    b[p + 6] = (byte) (v[o + 4] >>> 4);
+    b[p + 7] = (byte) (((v[o + 4] & 0xF) << 4) | (v[o + 5] >>> 8));
+    b[p + 8] = (byte) (v[o + 5] & 0xFF);
+    b[p + 9] = (byte) (v[o + 6] >>> 4);
+    b[p + 10] = (byte) (((v[o + 6] & 0xF) << 4) | (v[o + 7] >>> 8));
+    b[p + 11] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack12(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 4) | ((b[p + 1] & 0xFF) >>> 4);
+    v[o + 1] = ((b[p + 1] & 0xF) << 8) | (b[p + 2] & 0xFF);
+    v[o + 2] = ((b[p + 3] & 0xFF) << 4) | ((b[p + 4] & 0xFF) >>> 4);
+    v[o + 3] = ((b[p + 4] & 0xF) << 8) | (b[p + 5] & 0xFF);
+    v[o + 4] = ((b[p + 6] & 0xFF) << 4) | ((b[p + 7] & 0xFF) >>> 4);
+    v[o + 5] = ((b[p + 7] & 0xF) << 8) | (b[p + 8] & 0xFF);
+    v[o + 6] = ((b[p + 9] & 0xFF) << 4) | ((b[p + 10] & 0xFF) >>> 4);
+    v[o + 7] = ((b[p + 10] & 0xF) << 8) | (b[p + 11] & 0xFF);
+  }
+
+  private static void pack13(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 5);
+    b[p + 1] = (byte) (((v[o] & 0x1F) << 3) | (v[o + 1] >>> 10));
+    b[p + 2] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 3] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 7));
+    b[p + 4] = (byte) (((v[o + 2] & 0x7F) << 1) | (v[o + 3] >>> 12));
+    b[p + 5] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 9));
+    b[p + 7] = (byte) (v[o + 4] >>> 1 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] >>> 6));
+    b[p + 9] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 11));
+    b[p + 10] = (byte) (v[o + 6] >>> 3 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 6] & 0x7) << 5) | (v[o + 7] >>> 8));
+    b[p + 12] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack13(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 5) | ((b[p + 1] & 0xFF) >>> 3);
+    v[o + 1] = ((b[p + 1] & 0x7) << 10) | ((b[p + 2] & 0xFF) << 2) | ((b[p + 3] & 0xFF) >>> 6);
+    v[o + 2] = ((b[p + 3] & 0x3F) << 7) | ((b[p + 4] & 0xFF) >>> 1);
+    v[o + 3] = ((b[p + 4] & 0x1) << 12) | ((b[p + 5] & 0xFF) << 4) | ((b[p + 6] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 6] & 0xF) << 9) | ((b[p + 7] & 0xFF) << 1) | ((b[p + 8] & 0xFF) >>> 7);
+    v[o + 5] = ((b[p + 8] & 0x7F) << 6) | ((b[p + 9] & 0xFF) >>> 2);
+    v[o + 6] = ((b[p + 9] & 0x3) << 11) | ((b[p + 10] & 0xFF) << 3) | ((b[p + 11] & 0xFF) >>> 5);
+    v[o + 7] = ((b[p + 11] & 0x1F) << 8) | (b[p + 12] & 0xFF);
+  }
+
+  private static void pack14(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 6);
+    b[p + 1] = (byte) (((v[o] & 0x3F) << 2) | (v[o + 1] >>> 12));
+    b[p + 2] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 3] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 10));
+    b[p + 4] = (byte) (v[o + 2] >>> 2 & 0xFF);
+    b[p + 5] = (byte) (((v[o + 2] & 0x3) << 6) | (v[o + 3] >>> 8));
+    b[p + 6] = (byte) (v[o + 3] & 0xFF);
+    b[p + 7] = (byte) (v[o + 4] >>> 6);
+    b[p + 8] = (byte) (((v[o + 4] & 0x3F) << 2) | (v[o + 5] >>> 12));
+    b[p + 9] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 10));
+    b[p + 11] = (byte) (v[o + 6] >>> 2 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 6] & 0x3) << 6) | (v[o + 7] >>> 8));
+    b[p + 13] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack14(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 6) | ((b[p + 1] & 0xFF) >>> 2);
+    v[o + 1] = ((b[p + 1] & 0x3) << 12) | ((b[p + 2] & 0xFF) << 4) | ((b[p + 3] & 0xFF) >>> 4);
+    v[o + 2] = ((b[p + 3] & 0xF) << 10) | ((b[p + 4] & 0xFF) << 2) | ((b[p + 5] & 0xFF) >>> 6);
+    v[o + 3] = ((b[p + 5] & 0x3F) << 8) | (b[p + 6] & 0xFF);
+    v[o + 4] = ((b[p + 7] & 0xFF) << 6) | ((b[p + 8] & 0xFF) >>> 2);
+    v[o + 5] = ((b[p + 8] & 0x3) << 12) | ((b[p + 9] & 0xFF) << 4) | ((b[p + 10] & 0xFF) >>> 4);
+    v[o + 6] = ((b[p + 10] & 0xF) << 10) | ((b[p + 11] & 0xFF) << 2) | ((b[p + 12] & 0xFF) >>> 6);
+    v[o + 7] = ((b[p + 12] & 0x3F) << 8) | (b[p + 13] & 0xFF);
+  }
+
+  private static void pack15(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 7);
+    b[p + 1] = (byte) (((v[o] & 0x7F) << 1) | (v[o + 1] >>> 14));
+    b[p + 2] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 3] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 13));
+    b[p + 4] = (byte) (v[o + 2] >>> 5 & 0xFF);
+    b[p + 5] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 12));
+    b[p + 6] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 11));
+    b[p + 8] = (byte) (v[o + 4] >>> 3 & 0xFF);
+    b[p + 9] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 10));
+    b[p + 10] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 9));
+    b[p + 12] = (byte) (v[o + 6] >>> 1 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 6] & 0x1) << 7) | (v[o + 7] >>> 8));
+    b[p + 14] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack15(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 7) | ((b[p + 1] & 0xFF) >>> 1);
+    v[o + 1] = ((b[p + 1] & 0x1) << 14) | ((b[p + 2] & 0xFF) << 6) | ((b[p + 3] & 0xFF) >>> 2);
+    v[o + 2] = ((b[p + 3] & 0x3) << 13) | ((b[p + 4] & 0xFF) << 5) | ((b[p + 5] & 0xFF) >>> 3);
+    v[o + 3] = ((b[p + 5] & 0x7) << 12) | ((b[p + 6] & 0xFF) << 4) | ((b[p + 7] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 7] & 0xF) << 11) | ((b[p + 8] & 0xFF) << 3) | ((b[p + 9] & 0xFF) >>> 5);
+    v[o + 5] = ((b[p + 9] & 0x1F) << 10) | ((b[p + 10] & 0xFF) << 2) | ((b[p + 11] & 0xFF) >>> 6);
+    v[o + 6] = ((b[p + 11] & 0x3F) << 9) | ((b[p + 12] & 0xFF) << 1) | ((b[p + 13] & 0xFF) >>> 7);
+    v[o + 7] = ((b[p + 13] & 0x7F) << 8) | (b[p + 14] & 0xFF);
+  }
+
+  private static void pack16(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 8);
+    b[p + 1] = (byte) (v[o] & 0xFF);
+    b[p + 2] = (byte) (v[o + 1] >>> 8);
+    b[p + 3] = (byte) (v[o + 1] & 0xFF);
+    b[p + 4] = (byte) (v[o + 2] >>> 8);
+    b[p + 5] = (byte) (v[o + 2] & 0xFF);
+    b[p + 6] = (byte) (v[o + 3] >>> 8);
+    b[p + 7] = (byte) (v[o + 3] & 0xFF);
+    b[p + 8] = (byte) (v[o + 4] >>> 8);
+    b[p + 9] = (byte) (v[o + 4] & 0xFF);
+    b[p + 10] = (byte) (v[o + 5] >>> 8);
+    b[p + 11] = (byte) (v[o + 5] & 0xFF);
+    b[p + 12] = (byte) (v[o + 6] >>> 8);
+    b[p + 13] = (byte) (v[o + 6] & 0xFF);
+    b[p + 14] = (byte) (v[o + 7] >>> 8);
+    b[p + 15] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack16(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 8) | (b[p + 1] & 0xFF);
+    v[o + 1] = ((b[p + 2] & 0xFF) << 8) | (b[p + 3] & 0xFF);
+    v[o + 2] = ((b[p + 4] & 0xFF) << 8) | (b[p + 5] & 0xFF);
+    v[o + 3] = ((b[p + 6] & 0xFF) << 8) | (b[p + 7] & 0xFF);
+    v[o + 4] = ((b[p + 8] & 0xFF) << 8) | (b[p + 9] & 0xFF);
+    v[o + 5] = ((b[p + 10] & 0xFF) << 8) | (b[p + 11] & 0xFF);
+    v[o + 6] = ((b[p + 12] & 0xFF) << 8) | (b[p + 13] & 0xFF);
+    v[o + 7] = ((b[p + 14] & 0xFF) << 8) | (b[p + 15] & 0xFF);
+  }
+
+  private static void pack17(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 9);
+    b[p + 1] = (byte) (v[o] >>> 1 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x1) << 7) | (v[o + 1] >>> 10));
+    b[p + 3] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 4] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 11));
+    b[p + 5] = (byte) (v[o + 2] >>> 3 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 2] & 0x7) << 5) | (v[o + 3] >>> 12));
+    b[p + 7] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 13));
+    b[p + 9] = (byte) (v[o + 4] >>> 5 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 4] & 0x1F) << 3) | (v[o + 5] >>> 14));
+    b[p + 11] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 15));
+    b[p + 13] = (byte) (v[o + 6] >>> 7 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 6] & 0x7F) << 1) | (v[o + 7] >>> 16));
+    b[p + 15] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 16] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack17(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 9) | ((b[p + 1] & 0xFF) << 1) | ((b[p + 2] & 0xFF) >>> 7);
+    v[o + 1] = ((b[p + 2] & 0x7F) << 10) | ((b[p + 3] & 0xFF) << 2) | ((b[p + 4] & 0xFF) >>> 6);
+    v[o + 2] = ((b[p + 4] & 0x3F) << 11) | ((b[p + 5] & 0xFF) << 3) | ((b[p + 6] & 0xFF) >>> 5);
+    v[o + 3] = ((b[p + 6] & 0x1F) << 12) | ((b[p + 7] & 0xFF) << 4) | ((b[p + 8] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 8] & 0xF) << 13) | ((b[p + 9] & 0xFF) << 5) | ((b[p + 10] & 0xFF) >>> 3);
+    v[o + 5] = ((b[p + 10] & 0x7) << 14) | ((b[p + 11] & 0xFF) << 6) | ((b[p + 12] & 0xFF) >>> 2);
+    v[o + 6] = ((b[p + 12] & 0x3) << 15) | ((b[p + 13] & 0xFF) << 7) | ((b[p + 14] & 0xFF) >>> 1);
+    v[o + 7] = ((b[p + 14] & 0x1) << 16) | ((b[p + 15] & 0xFF) << 8) | (b[p + 16] & 0xFF);
+  }
+
+  private static void pack18(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 10);
+    b[p + 1] = (byte) (v[o] >>> 2 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x3) << 6) | (v[o + 1] >>> 12));
+    b[p + 3] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 4] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 14));
+    b[p + 5] = (byte) (v[o + 2] >>> 6 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 2] & 0x3F) << 2) | (v[o + 3] >>> 16));
+    b[p + 7] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 8] = (byte) (v[o + 3] & 0xFF);
+    b[p + 9] = (byte) (v[o + 4] >>> 10);
+    b[p + 10] = (byte) (v[o + 4] >>> 2 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 4] & 0x3) << 6) | (v[o + 5] >>> 12));
+    b[p + 12] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 14));
+    b[p + 14] = (byte) (v[o + 6] >>> 6 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 6] & 0x3F) << 2) | (v[o + 7] >>> 16));
+    b[p + 16] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 17] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack18(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 10) | ((b[p + 1] & 0xFF) << 2) | ((b[p + 2] & 0xFF) >>> 6);
+    v[o + 1] = ((b[p + 2] & 0x3F) << 12) | ((b[p + 3] & 0xFF) << 4) | ((b[p + 4] & 0xFF) >>> 4);
+    v[o + 2] = ((b[p + 4] & 0xF) << 14) | ((b[p + 5] & 0xFF) << 6) | ((b[p + 6] & 0xFF) >>> 2);
+    v[o + 3] = ((b[p + 6] & 0x3) << 16) | ((b[p + 7] & 0xFF) << 8) | (b[p + 8] & 0xFF);
+    v[o + 4] = ((b[p + 9] & 0xFF) << 10) | ((b[p + 10] & 0xFF) << 2) | ((b[p + 11] & 0xFF) >>> 6);
+    v[o + 5] = ((b[p + 11] & 0x3F) << 12) | ((b[p + 12] & 0xFF) << 4) | ((b[p + 13] & 0xFF) >>> 4);
+    v[o + 6] = ((b[p + 13] & 0xF) << 14) | ((b[p + 14] & 0xFF) << 6) | ((b[p + 15] & 0xFF) >>> 2);
+    v[o + 7] = ((b[p + 15] & 0x3) << 16) | ((b[p + 16] & 0xFF) << 8) | (b[p + 17] & 0xFF);
+  }
+
+  private static void pack19(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 11);
+    b[p + 1] = (byte) (v[o] >>> 3 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x7) << 5) | (v[o + 1] >>> 14));
+    b[p + 3] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 4] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 17));
+    b[p + 5] = (byte) (v[o + 2] >>> 9 & 0xFF);
+    b[p + 6] = (byte) (v[o + 2] >>> 1 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] >>> 12));
+    b[p + 8] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 9] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 15));
+    b[p + 10] = (byte) (v[o + 4] >>> 7 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 4] & 0x7F) << 1) | (v[o + 5] >>> 18));
+    b[p + 12] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 13] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 13));
+    b[p + 15] = (byte) (v[o + 6] >>> 5 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 6] & 0x1F) << 3) | (v[o + 7] >>> 16));
+    b[p + 17] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 18] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack19(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 11) | ((b[p + 1] & 0xFF) << 3) | ((b[p + 2] & 0xFF) >>> 5);
+    v[o + 1] = ((b[p + 2] & 0x1F) << 14) | ((b[p + 3] & 0xFF) << 6) | ((b[p + 4] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((b[p + 4] & 0x3) << 17)
+            | ((b[p + 5] & 0xFF) << 9)
+            | ((b[p + 6] & 0xFF) << 1)
+            | ((b[p + 7] & 0xFF) >>> 7);
+    v[o + 3] = ((b[p + 7] & 0x7F) << 12) | ((b[p + 8] & 0xFF) << 4) | ((b[p + 9] & 0xFF) >>> 4);
+    v[o + 4] = ((b[p + 9] & 0xF) << 15) | ((b[p + 10] & 0xFF) << 7) | ((b[p + 11] & 0xFF) >>> 1);
+    v[o + 5] =
+        ((b[p + 11] & 0x1) << 18)
+            | ((b[p + 12] & 0xFF) << 10)
+            | ((b[p + 13] & 0xFF) << 2)
+            | ((b[p + 14] & 0xFF) >>> 6);
+    v[o + 6] = ((b[p + 14] & 0x3F) << 13) | ((b[p + 15] & 0xFF) << 5) | ((b[p + 16] & 0xFF) >>> 3);
+    v[o + 7] = ((b[p + 16] & 0x7) << 16) | ((b[p + 17] & 0xFF) << 8) | (b[p + 18] & 0xFF);
+  }
+
+  private static void pack20(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 12);
+    b[p + 1] = (byte) (v[o] >>> 4 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0xF) << 4) | (v[o + 1] >>> 16));
+    b[p + 3] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 4] = (byte) (v[o + 1] & 0xFF);
+    b[p + 5] = (byte) (v[o + 2] >>> 12);
+    b[p + 6] = (byte) (v[o + 2] >>> 4 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 2] & 0xF) << 4) | (v[o + 3] >>> 16));
+    b[p + 8] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 9] = (byte) (v[o + 3] & 0xFF);
+    b[p + 10] = (byte) (v[o + 4] >>> 12);
+    b[p + 11] = (byte) (v[o + 4] >>> 4 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 4] & 0xF) << 4) | (v[o + 5] >>> 16));
+    b[p + 13] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 14] = (byte) (v[o + 5] & 0xFF);
+    b[p + 15] = (byte) (v[o + 6] >>> 12);
+    b[p + 16] = (byte) (v[o + 6] >>> 4 & 0xFF);
+    b[p + 17] = (byte) (((v[o + 6] & 0xF) << 4) | (v[o + 7] >>> 16));
+    b[p + 18] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 19] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack20(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 12) | ((b[p + 1] & 0xFF) << 4) | ((b[p + 2] & 0xFF) >>> 4);
+    v[o + 1] = ((b[p + 2] & 0xF) << 16) | ((b[p + 3] & 0xFF) << 8) | (b[p + 4] & 0xFF);
+    v[o + 2] = ((b[p + 5] & 0xFF) << 12) | ((b[p + 6] & 0xFF) << 4) | ((b[p + 7] & 0xFF) >>> 4);
+    v[o + 3] = ((b[p + 7] & 0xF) << 16) | ((b[p + 8] & 0xFF) << 8) | (b[p + 9] & 0xFF);
+    v[o + 4] = ((b[p + 10] & 0xFF) << 12) | ((b[p + 11] & 0xFF) << 4) | ((b[p + 12] & 0xFF) >>> 4);
+    v[o + 5] = ((b[p + 12] & 0xF) << 16) | ((b[p + 13] & 0xFF) << 8) | (b[p + 14] & 0xFF);
+    v[o + 6] = ((b[p + 15] & 0xFF) << 12) | ((b[p + 16] & 0xFF) << 4) | ((b[p + 17] & 0xFF) >>> 4);
+    v[o + 7] = ((b[p + 17] & 0xF) << 16) | ((b[p + 18] & 0xFF) << 8) | (b[p + 19] & 0xFF);
+  }
+
+  private static void pack21(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 13);
+    b[p + 1] = (byte) (v[o] >>> 5 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x1F) << 3) | (v[o + 1] >>> 18));
+    b[p + 3] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 4] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 5] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 15));
+    b[p + 6] = (byte) (v[o + 2] >>> 7 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 2] & 0x7F) << 1) | (v[o + 3] >>> 20));
+    b[p + 8] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 9] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 17));
+    b[p + 11] = (byte) (v[o + 4] >>> 9 & 0xFF);
+    b[p + 12] = (byte) (v[o + 4] >>> 1 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] >>> 14));
+    b[p + 14] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 19));
+    b[p + 16] = (byte) (v[o + 6] >>> 11 & 0xFF);
+    b[p + 17] = (byte) (v[o + 6] >>> 3 & 0xFF);
+    b[p + 18] = (byte) (((v[o + 6] & 0x7) << 5) | (v[o + 7] >>> 16));
+    b[p + 19] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 20] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack21(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 13) | ((b[p + 1] & 0xFF) << 5) | ((b[p + 2] & 0xFF) >>> 3);
+    v[o + 1] =
+        ((b[p + 2] & 0x7) << 18)
+            | ((b[p + 3] & 0xFF) << 10)
+            | ((b[p + 4] & 0xFF) << 2)
+            | ((b[p + 5] & 0xFF) >>> 6);
+    v[o + 2] = ((b[p + 5] & 0x3F) << 15) | ((b[p + 6] & 0xFF) << 7) | ((b[p + 7] & 0xFF) >>> 1);
+    v[o + 3] =
+        ((b[p + 7] & 0x1) << 20)
+            | ((b[p + 8] & 0xFF) << 12)
+            | ((b[p + 9] & 0xFF) << 4)
+            | ((b[p + 10] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 10] & 0xF) << 17)
+            | ((b[p + 11] & 0xFF) << 9)
+            | ((b[p + 12] & 0xFF) << 1)
+            | ((b[p + 13] & 0xFF) >>> 7);
+    v[o + 5] = ((b[p + 13] & 0x7F) << 14) | ((b[p + 14] & 0xFF) << 6) | ((b[p + 15] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((b[p + 15] & 0x3) << 19)
+            | ((b[p + 16] & 0xFF) << 11)
+            | ((b[p + 17] & 0xFF) << 3)
+            | ((b[p + 18] & 0xFF) >>> 5);
+    v[o + 7] = ((b[p + 18] & 0x1F) << 16) | ((b[p + 19] & 0xFF) << 8) | (b[p + 20] & 0xFF);
+  }
+
+  private static void pack22(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 14);
+    b[p + 1] = (byte) (v[o] >>> 6 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x3F) << 2) | (v[o + 1] >>> 20));
+    b[p + 3] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 4] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 5] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 18));
+    b[p + 6] = (byte) (v[o + 2] >>> 10 & 0xFF);
+    b[p + 7] = (byte) (v[o + 2] >>> 2 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 2] & 0x3) << 6) | (v[o + 3] >>> 16));
+    b[p + 9] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 10] = (byte) (v[o + 3] & 0xFF);
+    b[p + 11] = (byte) (v[o + 4] >>> 14);
+    b[p + 12] = (byte) (v[o + 4] >>> 6 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 4] & 0x3F) << 2) | (v[o + 5] >>> 20));
+    b[p + 14] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 15] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 18));
+    b[p + 17] = (byte) (v[o + 6] >>> 10 & 0xFF);
+    b[p + 18] = (byte) (v[o + 6] >>> 2 & 0xFF);
+    b[p + 19] = (byte) (((v[o + 6] & 0x3) << 6) | (v[o + 7] >>> 16));
+    b[p + 20] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 21] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack22(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 14) | ((b[p + 1] & 0xFF) << 6) | ((b[p + 2] & 0xFF) >>> 2);
+    v[o + 1] =
+        ((b[p + 2] & 0x3) << 20)
+            | ((b[p + 3] & 0xFF) << 12)
+            | ((b[p + 4] & 0xFF) << 4)
+            | ((b[p + 5] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((b[p + 5] & 0xF) << 18)
+            | ((b[p + 6] & 0xFF) << 10)
+            | ((b[p + 7] & 0xFF) << 2)
+            | ((b[p + 8] & 0xFF) >>> 6);
+    v[o + 3] = ((b[p + 8] & 0x3F) << 16) | ((b[p + 9] & 0xFF) << 8) | (b[p + 10] & 0xFF);
+    v[o + 4] = ((b[p + 11] & 0xFF) << 14) | ((b[p + 12] & 0xFF) << 6) | ((b[p + 13] & 0xFF) >>> 2);
+    v[o + 5] =
+        ((b[p + 13] & 0x3) << 20)
+            | ((b[p + 14] & 0xFF) << 12)
+            | ((b[p + 15] & 0xFF) << 4)
+            | ((b[p + 16] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((b[p + 16] & 0xF) << 18)
+            | ((b[p + 17] & 0xFF) << 10)
+            | ((b[p + 18] & 0xFF) << 2)
+            | ((b[p + 19] & 0xFF) >>> 6);
+    v[o + 7] = ((b[p + 19] & 0x3F) << 16) | ((b[p + 20] & 0xFF) << 8) | (b[p + 21] & 0xFF);
+  }
+
+  private static void pack23(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 15);
+    b[p + 1] = (byte) (v[o] >>> 7 & 0xFF);
+    b[p + 2] = (byte) (((v[o] & 0x7F) << 1) | (v[o + 1] >>> 22));
+    b[p + 3] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 4] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 5] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 21));
+    b[p + 6] = (byte) (v[o + 2] >>> 13 & 0xFF);
+    b[p + 7] = (byte) (v[o + 2] >>> 5 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 20));
+    b[p + 9] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 10] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 19));
+    b[p + 12] = (byte) (v[o + 4] >>> 11 & 0xFF);
+    b[p + 13] = (byte) (v[o + 4] >>> 3 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 18));
+    b[p + 15] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 16] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 17] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 17));
+    b[p + 18] = (byte) (v[o + 6] >>> 9 & 0xFF);
+    b[p + 19] = (byte) (v[o + 6] >>> 1 & 0xFF);
+    b[p + 20] = (byte) (((v[o + 6] & 0x1) << 7) | (v[o + 7] >>> 16));
+    b[p + 21] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 22] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack23(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 15) | ((b[p + 1] & 0xFF) << 7) | ((b[p + 2] & 0xFF) >>> 1);
+    v[o + 1] =
+        ((b[p + 2] & 0x1) << 22)
+            | ((b[p + 3] & 0xFF) << 14)
+            | ((b[p + 4] & 0xFF) << 6)
+            | ((b[p + 5] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((b[p + 5] & 0x3) << 21)
+            | ((b[p + 6] & 0xFF) << 13)
+            | ((b[p + 7] & 0xFF) << 5)
+            | ((b[p + 8] & 0xFF) >>> 3);
+    v[o + 3] =
+        ((b[p + 8] & 0x7) << 20)
+            | ((b[p + 9] & 0xFF) << 12)
+            | ((b[p + 10] & 0xFF) << 4)
+            | ((b[p + 11] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 11] & 0xF) << 19)
+            | ((b[p + 12] & 0xFF) << 11)
+            | ((b[p + 13] & 0xFF) << 3)
+            | ((b[p + 14] & 0xFF) >>> 5);
+    v[o + 5] =
+        ((b[p + 14] & 0x1F) << 18)
+            | ((b[p + 15] & 0xFF) << 10)
+            | ((b[p + 16] & 0xFF) << 2)
+            | ((b[p + 17] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((b[p + 17] & 0x3F) << 17)
+            | ((b[p + 18] & 0xFF) << 9)
+            | ((b[p + 19] & 0xFF) << 1)
+            | ((b[p + 20] & 0xFF) >>> 7);
+    v[o + 7] = ((b[p + 20] & 0x7F) << 16) | ((b[p + 21] & 0xFF) << 8) | (b[p + 22] & 0xFF);
+  }
+
+  private static void pack24(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 16);
+    b[p + 1] = (byte) (v[o] >>> 8 & 0xFF);
+    b[p + 2] = (byte) (v[o] & 0xFF);
+    b[p + 3] = (byte) (v[o + 1] >>> 16);
+    b[p + 4] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] & 0xFF);
+    b[p + 6] = (byte) (v[o + 2] >>> 16);
+    b[p + 7] = (byte) (v[o + 2] >>> 8 & 0xFF);
+    b[p + 8] = (byte) (v[o + 2] & 0xFF);
+    b[p + 9] = (byte) (v[o + 3] >>> 16);
+    b[p + 10] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 11] = (byte) (v[o + 3] & 0xFF);
+    b[p + 12] = (byte) (v[o + 4] >>> 16);
+    b[p + 13] = (byte) (v[o + 4] >>> 8 & 0xFF);
+    b[p + 14] = (byte) (v[o + 4] & 0xFF);
+    b[p + 15] = (byte) (v[o + 5] >>> 16);
+    b[p + 16] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 17] = (byte) (v[o + 5] & 0xFF);
+    b[p + 18] = (byte) (v[o + 6] >>> 16);
+    b[p + 19] = (byte) (v[o + 6] >>> 8 & 0xFF);
+    b[p + 20] = (byte) (v[o + 6] & 0xFF);
+    b[p + 21] = (byte) (v[o + 7] >>> 16);
+    b[p + 22] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 23] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack24(byte[] b, int p, long[] v, int o) {
+    v[o] = ((b[p] & 0xFF) << 16) | ((b[p + 1] & 0xFF) << 8) | (b[p + 2] & 0xFF);
+    v[o + 1] = ((b[p + 3] & 0xFF) << 16) | ((b[p + 4] & 0xFF) << 8) | (b[p + 5] & 0xFF);
+    v[o + 2] = ((b[p + 6] & 0xFF) << 16) | ((b[p + 7] & 0xFF) << 8) | (b[p + 8] & 0xFF);
+    v[o + 3] = ((b[p + 9] & 0xFF) << 16) | ((b[p + 10] & 0xFF) << 8) | (b[p + 11] & 0xFF);
+    v[o + 4] = ((b[p + 12] & 0xFF) << 16) | ((b[p + 13] & 0xFF) << 8) | (b[p + 14] & 0xFF);
+    v[o + 5] = ((b[p + 15] & 0xFF) << 16) | ((b[p + 16] & 0xFF) << 8) | (b[p + 17] & 0xFF);
+    v[o + 6] = ((b[p + 18] & 0xFF) << 16) | ((b[p + 19] & 0xFF) << 8) | (b[p + 20] & 0xFF);
+    v[o + 7] = ((b[p + 21] & 0xFF) << 16) | ((b[p + 22] & 0xFF) << 8) | (b[p + 23] & 0xFF);
+  }
+
+  private static void pack25(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 17);
+    b[p + 1] = (byte) (v[o] >>> 9 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 1 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x1) << 7) | (v[o + 1] >>> 18));
+    b[p + 4] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 19));
+    b[p + 7] = (byte) (v[o + 2] >>> 11 & 0xFF);
+    b[p + 8] = (byte) (v[o + 2] >>> 3 & 0xFF);
+    b[p + 9] = (byte) (((v[o + 2] & 0x7) << 5) | (v[o + 3] >>> 20));
+    b[p + 10] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 11] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 21));
+    b[p + 13] = (byte) (v[o + 4] >>> 13 & 0xFF);
+    b[p + 14] = (byte) (v[o + 4] >>> 5 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 4] & 0x1F) << 3) | (v[o + 5] >>> 22));
+    b[p + 16] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 17] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 18] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 23));
+    b[p + 19] = (byte) (v[o + 6] >>> 15 & 0xFF);
+    b[p + 20] = (byte) (v[o + 6] >>> 7 & 0xFF);
+    b[p + 21] = (byte) (((v[o + 6] & 0x7F) << 1) | (v[o + 7] >>> 24));
+    b[p + 22] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 23] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 24] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack25(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 17)
+            | ((b[p + 1] & 0xFF) << 9)
+            | ((b[p + 2] & 0xFF) << 1)
+            | ((b[p + 3] & 0xFF) >>> 7);
+    v[o + 1] =
+        ((b[p + 3] & 0x7F) << 18)
+            | ((b[p + 4] & 0xFF) << 10)
+            | ((b[p + 5] & 0xFF) << 2)
+            | ((b[p + 6] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((b[p + 6] & 0x3F) << 19)
+            | ((b[p + 7] & 0xFF) << 11)
+            | ((b[p + 8] & 0xFF) << 3)
+            | ((b[p + 9] & 0xFF) >>> 5);
+    v[o + 3] =
+        ((b[p + 9] & 0x1F) << 20)
+            | ((b[p + 10] & 0xFF) << 12)
+            | ((b[p + 11] & 0xFF) << 4)
+            | ((b[p + 12] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 12] & 0xF) << 21)
+            | ((b[p + 13] & 0xFF) << 13)
+            | ((b[p + 14] & 0xFF) << 5)
+            | ((b[p + 15] & 0xFF) >>> 3);
+    v[o + 5] =
+        ((b[p + 15] & 0x7) << 22)
+            | ((b[p + 16] & 0xFF) << 14)
+            | ((b[p + 17] & 0xFF) << 6)
+            | ((b[p + 18] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((b[p + 18] & 0x3) << 23)
+            | ((b[p + 19] & 0xFF) << 15)
+            | ((b[p + 20] & 0xFF) << 7)
+            | ((b[p + 21] & 0xFF) >>> 1);
+    v[o + 7] =
+        ((b[p + 21] & 0x1) << 24)
+            | ((b[p + 22] & 0xFF) << 16)
+            | ((b[p + 23] & 0xFF) << 8)
+            | (b[p + 24] & 0xFF);
+  }
+
+  private static void pack26(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 18);
+    b[p + 1] = (byte) (v[o] >>> 10 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 2 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x3) << 6) | (v[o + 1] >>> 20));
+    b[p + 4] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 22));
+    b[p + 7] = (byte) (v[o + 2] >>> 14 & 0xFF);
+    b[p + 8] = (byte) (v[o + 2] >>> 6 & 0xFF);
+    b[p + 9] = (byte) (((v[o + 2] & 0x3F) << 2) | (v[o + 3] >>> 24));
+    b[p + 10] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 11] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 12] = (byte) (v[o + 3] & 0xFF);
+    b[p + 13] = (byte) (v[o + 4] >>> 18);
+    b[p + 14] = (byte) (v[o + 4] >>> 10 & 0xFF);
+    b[p + 15] = (byte) (v[o + 4] >>> 2 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 4] & 0x3) << 6) | (v[o + 5] >>> 20));
+    b[p + 17] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 18] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 19] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 22));
+    b[p + 20] = (byte) (v[o + 6] >>> 14 & 0xFF);
+    b[p + 21] = (byte) (v[o + 6] >>> 6 & 0xFF);
+    b[p + 22] = (byte) (((v[o + 6] & 0x3F) << 2) | (v[o + 7] >>> 24));
+    b[p + 23] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 24] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 25] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack26(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 18)
+            | ((b[p + 1] & 0xFF) << 10)
+            | ((b[p + 2] & 0xFF) << 2)
+            | ((b[p + 3] & 0xFF) >>> 6);
+    v[o + 1] =
+        ((b[p + 3] & 0x3F) << 20)
+            | ((b[p + 4] & 0xFF) << 12)
+            | ((b[p + 5] & 0xFF) << 4)
+            | ((b[p + 6] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((b[p + 6] & 0xF) << 22)
+            | ((b[p + 7] & 0xFF) << 14)
+            | ((b[p + 8] & 0xFF) << 6)
+            | ((b[p + 9] & 0xFF) >>> 2);
+    v[o + 3] =
+        ((b[p + 9] & 0x3) << 24)
+            | ((b[p + 10] & 0xFF) << 16)
+            | ((b[p + 11] & 0xFF) << 8)
+            | (b[p + 12] & 0xFF);
+    v[o + 4] =
+        ((b[p + 13] & 0xFF) << 18)
+            | ((b[p + 14] & 0xFF) << 10)
+            | ((b[p + 15] & 0xFF) << 2)
+            | ((b[p + 16] & 0xFF) >>> 6);
+    v[o + 5] =
+        ((b[p + 16] & 0x3F) << 20)
+            | ((b[p + 17] & 0xFF) << 12)
+            | ((b[p + 18] & 0xFF) << 4)
+            | ((b[p + 19] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((b[p + 19] & 0xF) << 22)
+            | ((b[p + 20] & 0xFF) << 14)
+            | ((b[p + 21] & 0xFF) << 6)
+            | ((b[p + 22] & 0xFF) >>> 2);
+    v[o + 7] =
+        ((b[p + 22] & 0x3) << 24)
+            | ((b[p + 23] & 0xFF) << 16)
+            | ((b[p + 24] & 0xFF) << 8)
+            | (b[p + 25] & 0xFF);
+  }
+
+  private static void pack27(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 19);
+    b[p + 1] = (byte) (v[o] >>> 11 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 3 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x7) << 5) | (v[o + 1] >>> 22));
+    b[p + 4] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 6] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 25));
+    b[p + 7] = (byte) (v[o + 2] >>> 17 & 0xFF);
+    b[p + 8] = (byte) (v[o + 2] >>> 9 & 0xFF);
+    b[p + 9] = (byte) (v[o + 2] >>> 1 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] >>> 20));
+    b[p + 11] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 12] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 23));
+    b[p + 14] = (byte) (v[o + 4] >>> 15 & 0xFF);
+    b[p + 15] = (byte) (v[o + 4] >>> 7 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 4] & 0x7F) << 1) | (v[o + 5] >>> 26));
+    b[p + 17] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 18] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 19] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 20] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 21));
+    b[p + 21] = (byte) (v[o + 6] >>> 13 & 0xFF);
+    b[p + 22] = (byte) (v[o + 6] >>> 5 & 0xFF);
+    b[p + 23] = (byte) (((v[o + 6] & 0x1F) << 3) | (v[o + 7] >>> 24));
+    b[p + 24] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 25] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 26] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack27(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 19)
+            | ((b[p + 1] & 0xFF) << 11)
+            | ((b[p + 2] & 0xFF) << 3)
+            | ((b[p + 3] & 0xFF) >>> 5);
+    v[o + 1] =
+        ((b[p + 3] & 0x1F) << 22)
+            | ((b[p + 4] & 0xFF) << 14)
+            | ((b[p + 5] & 0xFF) << 6)
+            | ((b[p + 6] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((b[p + 6] & 0x3) << 25)
+            | ((b[p + 7] & 0xFF) << 17)
+            | ((b[p + 8] & 0xFF) << 9)
+            | ((b[p + 9] & 0xFF) << 1)
+            | ((b[p + 10] & 0xFF) >>> 7);
+    v[o + 3] =
+        ((b[p + 10] & 0x7F) << 20)
+            | ((b[p + 11] & 0xFF) << 12)
+            | ((b[p + 12] & 0xFF) << 4)
+            | ((b[p + 13] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 13] & 0xF) << 23)
+            | ((b[p + 14] & 0xFF) << 15)
+            | ((b[p + 15] & 0xFF) << 7)
+            | ((b[p + 16] & 0xFF) >>> 1);
+    v[o + 5] =
+        ((b[p + 16] & 0x1) << 26)
+            | ((b[p + 17] & 0xFF) << 18)
+            | ((b[p + 18] & 0xFF) << 10)
+            | ((b[p + 19] & 0xFF) << 2)
+            | ((b[p + 20] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((b[p + 20] & 0x3F) << 21)
+            | ((b[p + 21] & 0xFF) << 13)
+            | ((b[p + 22] & 0xFF) << 5)
+            | ((b[p + 23] & 0xFF) >>> 3);
+    v[o + 7] =
+        ((b[p + 23] & 0x7) << 24)
+            | ((b[p + 24] & 0xFF) << 16)
+            | ((b[p + 25] & 0xFF) << 8)
+            | (b[p + 26] & 0xFF);
+  }
+
+  private static void pack28(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 20);
+    b[p + 1] = (byte) (v[o] >>> 12 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 4 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0xF) << 4) | (v[o + 1] >>> 24));
+    b[p + 4] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] & 0xFF);
+    b[p + 7] = (byte) (v[o + 2] >>> 20);
+    b[p + 8] = (byte) (v[o + 2] >>> 12 & 0xFF);
+    b[p + 9] = (byte) (v[o + 2] >>> 4 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 2] & 0xF) << 4) | (v[o + 3] >>> 24));
+    b[p + 11] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 12] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 13] = (byte) (v[o + 3] & 0xFF);
+    b[p + 14] = (byte) (v[o + 4] >>> 20);
+    b[p + 15] = (byte) (v[o + 4] >>> 12 & 0xFF);
+    b[p + 16] = (byte) (v[o + 4] >>> 4 & 0xFF);
+    b[p + 17] = (byte) (((v[o + 4] & 0xF) << 4) | (v[o + 5] >>> 24));
+    b[p + 18] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 19] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 20] = (byte) (v[o + 5] & 0xFF);
+    b[p + 21] = (byte) (v[o + 6] >>> 20);
+    b[p + 22] = (byte) (v[o + 6] >>> 12 & 0xFF);
+    b[p + 23] = (byte) (v[o + 6] >>> 4 & 0xFF);
+    b[p + 24] = (byte) (((v[o + 6] & 0xF) << 4) | (v[o + 7] >>> 24));
+    b[p + 25] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 26] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 27] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack28(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 20)
+            | ((b[p + 1] & 0xFF) << 12)
+            | ((b[p + 2] & 0xFF) << 4)
+            | ((b[p + 3] & 0xFF) >>> 4);
+    v[o + 1] =
+        ((b[p + 3] & 0xF) << 24)
+            | ((b[p + 4] & 0xFF) << 16)
+            | ((b[p + 5] & 0xFF) << 8)
+            | (b[p + 6] & 0xFF);
+    v[o + 2] =
+        ((b[p + 7] & 0xFF) << 20)
+            | ((b[p + 8] & 0xFF) << 12)
+            | ((b[p + 9] & 0xFF) << 4)
+            | ((b[p + 10] & 0xFF) >>> 4);
+    v[o + 3] =
+        ((b[p + 10] & 0xF) << 24)
+            | ((b[p + 11] & 0xFF) << 16)
+            | ((b[p + 12] & 0xFF) << 8)
+            | (b[p + 13] & 0xFF);
+    v[o + 4] =
+        ((b[p + 14] & 0xFF) << 20)
+            | ((b[p + 15] & 0xFF) << 12)
+            | ((b[p + 16] & 0xFF) << 4)
+            | ((b[p + 17] & 0xFF) >>> 4);
+    v[o + 5] =
+        ((b[p + 17] & 0xF) << 24)
+            | ((b[p + 18] & 0xFF) << 16)
+            | ((b[p + 19] & 0xFF) << 8)
+            | (b[p + 20] & 0xFF);
+    v[o + 6] =
+        ((b[p + 21] & 0xFF) << 20)
+            | ((b[p + 22] & 0xFF) << 12)
+            | ((b[p + 23] & 0xFF) << 4)
+            | ((b[p + 24] & 0xFF) >>> 4);
+    v[o + 7] =
+        ((b[p + 24] & 0xF) << 24)
+            | ((b[p + 25] & 0xFF) << 16)
+            | ((b[p + 26] & 0xFF) << 8)
+            | (b[p + 27] & 0xFF);
+  }
+
+  private static void pack29(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 21);
+    b[p + 1] = (byte) (v[o] >>> 13 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 5 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x1F) << 3) | (v[o + 1] >>> 26));
+    b[p + 4] = (byte) (v[o + 1] >>> 18 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 23));
+    b[p + 8] = (byte) (v[o + 2] >>> 15 & 0xFF);
+    b[p + 9] = (byte) (v[o + 2] >>> 7 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 2] & 0x7F) << 1) | (v[o + 3] >>> 28));
+    b[p + 11] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 12] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 13] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 25));
+    b[p + 15] = (byte) (v[o + 4] >>> 17 & 0xFF);
+    b[p + 16] = (byte) (v[o + 4] >>> 9 & 0xFF);
+    b[p + 17] = (byte) (v[o + 4] >>> 1 & 0xFF);
+    b[p + 18] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] >>> 22));
+    b[p + 19] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 20] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 21] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 27));
+    b[p + 22] = (byte) (v[o + 6] >>> 19 & 0xFF);
+    b[p + 23] = (byte) (v[o + 6] >>> 11 & 0xFF);
+    b[p + 24] = (byte) (v[o + 6] >>> 3 & 0xFF);
+    b[p + 25] = (byte) (((v[o + 6] & 0x7) << 5) | (v[o + 7] >>> 24));
+    b[p + 26] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 27] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 28] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack29(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 21)
+            | ((b[p + 1] & 0xFF) << 13)
+            | ((b[p + 2] & 0xFF) << 5)
+            | ((b[p + 3] & 0xFF) >>> 3);
+    v[o + 1] =
+        ((b[p + 3] & 0x7) << 26)
+            | ((b[p + 4] & 0xFF) << 18)
+            | ((b[p + 5] & 0xFF) << 10)
+            | ((b[p + 6] & 0xFF) << 2)
+            | ((b[p + 7] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((b[p + 7] & 0x3F) << 23)
+            | ((b[p + 8] & 0xFF) << 15)
+            | ((b[p + 9] & 0xFF) << 7)
+            | ((b[p + 10] & 0xFF) >>> 1);
+    v[o + 3] =
+        ((b[p + 10] & 0x1) << 28)
+            | ((b[p + 11] & 0xFF) << 20)
+            | ((b[p + 12] & 0xFF) << 12)
+            | ((b[p + 13] & 0xFF) << 4)
+            | ((b[p + 14] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 14] & 0xF) << 25)
+            | ((b[p + 15] & 0xFF) << 17)
+            | ((b[p + 16] & 0xFF) << 9)
+            | ((b[p + 17] & 0xFF) << 1)
+            | ((b[p + 18] & 0xFF) >>> 7);
+    v[o + 5] =
+        ((b[p + 18] & 0x7F) << 22)
+            | ((b[p + 19] & 0xFF) << 14)
+            | ((b[p + 20] & 0xFF) << 6)
+            | ((b[p + 21] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((b[p + 21] & 0x3) << 27)
+            | ((b[p + 22] & 0xFF) << 19)
+            | ((b[p + 23] & 0xFF) << 11)
+            | ((b[p + 24] & 0xFF) << 3)
+            | ((b[p + 25] & 0xFF) >>> 5);
+    v[o + 7] =
+        ((b[p + 25] & 0x1F) << 24)
+            | ((b[p + 26] & 0xFF) << 16)
+            | ((b[p + 27] & 0xFF) << 8)
+            | (b[p + 28] & 0xFF);
+  }
+
+  private static void pack30(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 22);
+    b[p + 1] = (byte) (v[o] >>> 14 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 6 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x3F) << 2) | (v[o + 1] >>> 28));
+    b[p + 4] = (byte) (v[o + 1] >>> 20 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 26));
+    b[p + 8] = (byte) (v[o + 2] >>> 18 & 0xFF);
+    b[p + 9] = (byte) (v[o + 2] >>> 10 & 0xFF);
+    b[p + 10] = (byte) (v[o + 2] >>> 2 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 2] & 0x3) << 6) | (v[o + 3] >>> 24));
+    b[p + 12] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 13] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 14] = (byte) (v[o + 3] & 0xFF);
+    b[p + 15] = (byte) (v[o + 4] >>> 22);
+    b[p + 16] = (byte) (v[o + 4] >>> 14 & 0xFF);
+    b[p + 17] = (byte) (v[o + 4] >>> 6 & 0xFF);
+    b[p + 18] = (byte) (((v[o + 4] & 0x3F) << 2) | (v[o + 5] >>> 28));
+    b[p + 19] = (byte) (v[o + 5] >>> 20 & 0xFF);
+    b[p + 20] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 21] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 22] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 26));
+    b[p + 23] = (byte) (v[o + 6] >>> 18 & 0xFF);
+    b[p + 24] = (byte) (v[o + 6] >>> 10 & 0xFF);
+    b[p + 25] = (byte) (v[o + 6] >>> 2 & 0xFF);
+    b[p + 26] = (byte) (((v[o + 6] & 0x3) << 6) | (v[o + 7] >>> 24));
+    b[p + 27] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 28] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 29] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack30(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 22)
+            | ((b[p + 1] & 0xFF) << 14)
+            | ((b[p + 2] & 0xFF) << 6)
+            | ((b[p + 3] & 0xFF) >>> 2);
+    v[o + 1] =
+        ((b[p + 3] & 0x3) << 28)
+            | ((b[p + 4] & 0xFF) << 20)
+            | ((b[p + 5] & 0xFF) << 12)
+            | ((b[p + 6] & 0xFF) << 4)
+            | ((b[p + 7] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((b[p + 7] & 0xF) << 26)
+            | ((b[p + 8] & 0xFF) << 18)
+            | ((b[p + 9] & 0xFF) << 10)
+            | ((b[p + 10] & 0xFF) << 2)
+            | ((b[p + 11] & 0xFF) >>> 6);
+    v[o + 3] =
+        ((b[p + 11] & 0x3F) << 24)
+            | ((b[p + 12] & 0xFF) << 16)
+            | ((b[p + 13] & 0xFF) << 8)
+            | (b[p + 14] & 0xFF);
+    v[o + 4] =
+        ((b[p + 15] & 0xFF) << 22)
+            | ((b[p + 16] & 0xFF) << 14)
+            | ((b[p + 17] & 0xFF) << 6)
+            | ((b[p + 18] & 0xFF) >>> 2);
+    v[o + 5] =
+        ((b[p + 18] & 0x3) << 28)
+            | ((b[p + 19] & 0xFF) << 20)
+            | ((b[p + 20] & 0xFF) << 12)
+            | ((b[p + 21] & 0xFF) << 4)
+            | ((b[p + 22] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((b[p + 22] & 0xF) << 26)
+            | ((b[p + 23] & 0xFF) << 18)
+            | ((b[p + 24] & 0xFF) << 10)
+            | ((b[p + 25] & 0xFF) << 2)
+            | ((b[p + 26] & 0xFF) >>> 6);
+    v[o + 7] =
+        ((b[p + 26] & 0x3F) << 24)
+            | ((b[p + 27] & 0xFF) << 16)
+            | ((b[p + 28] & 0xFF) << 8)
+            | (b[p + 29] & 0xFF);
+  }
+
+  private static void pack31(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 23);
+    b[p + 1] = (byte) (v[o] >>> 15 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 7 & 0xFF);
+    b[p + 3] = (byte) (((v[o] & 0x7F) << 1) | (v[o + 1] >>> 30));
+    b[p + 4] = (byte) (v[o + 1] >>> 22 & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 7] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 29));
+    b[p + 8] = (byte) (v[o + 2] >>> 21 & 0xFF);
+    b[p + 9] = (byte) (v[o + 2] >>> 13 & 0xFF);
+    b[p + 10] = (byte) (v[o + 2] >>> 5 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 28));
+    b[p + 12] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 13] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 14] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 27));
+    b[p + 16] = (byte) (v[o + 4] >>> 19 & 0xFF);
+    b[p + 17] = (byte) (v[o + 4] >>> 11 & 0xFF);
+    b[p + 18] = (byte) (v[o + 4] >>> 3 & 0xFF);
+    b[p + 19] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 26));
+    b[p + 20] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 21] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 22] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 23] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 25));
+    b[p + 24] = (byte) (v[o + 6] >>> 17 & 0xFF);
+    b[p + 25] = (byte) (v[o + 6] >>> 9 & 0xFF);
+    b[p + 26] = (byte) (v[o + 6] >>> 1 & 0xFF);
+    b[p + 27] = (byte) (((v[o + 6] & 0x1) << 7) | (v[o + 7] >>> 24));
+    b[p + 28] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 29] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 30] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack31(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((b[p] & 0xFF) << 23)
+            | ((b[p + 1] & 0xFF) << 15)
+            | ((b[p + 2] & 0xFF) << 7)
+            | ((b[p + 3] & 0xFF) >>> 1);
+    v[o + 1] =
+        ((b[p + 3] & 0x1) << 30)
+            | ((b[p + 4] & 0xFF) << 22)
+            | ((b[p + 5] & 0xFF) << 14)
+            | ((b[p + 6] & 0xFF) << 6)
+            | ((b[p + 7] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((b[p + 7] & 0x3) << 29)
+            | ((b[p + 8] & 0xFF) << 21)
+            | ((b[p + 9] & 0xFF) << 13)
+            | ((b[p + 10] & 0xFF) << 5)
+            | ((b[p + 11] & 0xFF) >>> 3);
+    v[o + 3] =
+        ((b[p + 11] & 0x7) << 28)
+            | ((b[p + 12] & 0xFF) << 20)
+            | ((b[p + 13] & 0xFF) << 12)
+            | ((b[p + 14] & 0xFF) << 4)
+            | ((b[p + 15] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((b[p + 15] & 0xF) << 27)
+            | ((b[p + 16] & 0xFF) << 19)
+            | ((b[p + 17] & 0xFF) << 11)
+            | ((b[p + 18] & 0xFF) << 3)
+            | ((b[p + 19] & 0xFF) >>> 5);
+    v[o + 5] =
+        ((b[p + 19] & 0x1F) << 26)
+            | ((b[p + 20] & 0xFF) << 18)
+            | ((b[p + 21] & 0xFF) << 10)
+            | ((b[p + 22] & 0xFF) << 2)
+            | ((b[p + 23] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((b[p + 23] & 0x3F) << 25)
+            | ((b[p + 24] & 0xFF) << 17)
+            | ((b[p + 25] & 0xFF) << 9)
+            | ((b[p + 26] & 0xFF) << 1)
+            | ((b[p + 27] & 0xFF) >>> 7);
+    v[o + 7] =
+        ((b[p + 27] & 0x7F) << 24)
+            | ((b[p + 28] & 0xFF) << 16)
+            | ((b[p + 29] & 0xFF) << 8)
+            | (b[p + 30] & 0xFF);
+  }
+
+  private static void pack32(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 24);
+    b[p + 1] = (byte) (v[o] >>> 16 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 8 & 0xFF);
+    b[p + 3] = (byte) (v[o] & 0xFF);
+    b[p + 4] = (byte) (v[o + 1] >>> 24);
+    b[p + 5] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] & 0xFF);
+    b[p + 8] = (byte) (v[o + 2] >>> 24);
+    b[p + 9] = (byte) (v[o + 2] >>> 16 & 0xFF);
+    b[p + 10] = (byte) (v[o + 2] >>> 8 & 0xFF);
+    b[p + 11] = (byte) (v[o + 2] & 0xFF);
+    b[p + 12] = (byte) (v[o + 3] >>> 24);
+    b[p + 13] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 14] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 15] = (byte) (v[o + 3] & 0xFF);
+    b[p + 16] = (byte) (v[o + 4] >>> 24);
+    b[p + 17] = (byte) (v[o + 4] >>> 16 & 0xFF);
+    b[p + 18] = (byte) (v[o + 4] >>> 8 & 0xFF);
+    b[p + 19] = (byte) (v[o + 4] & 0xFF);
+    b[p + 20] = (byte) (v[o + 5] >>> 24);
+    b[p + 21] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 22] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 23] = (byte) (v[o + 5] & 0xFF);
+    b[p + 24] = (byte) (v[o + 6] >>> 24);
+    b[p + 25] = (byte) (v[o + 6] >>> 16 & 0xFF);
+    b[p + 26] = (byte) (v[o + 6] >>> 8 & 0xFF);
+    b[p + 27] = (byte) (v[o + 6] & 0xFF);
+    b[p + 28] = (byte) (v[o + 7] >>> 24);
+    b[p + 29] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 30] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 31] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack32(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 24)
+            | ((b[p + 1] & 0xFF) << 16)
+            | ((b[p + 2] & 0xFF) << 8)
+            | (b[p + 3] & 0xFF);
+    v[o + 1] =
+        ((long) (b[p + 4] & 0xFF) << 24)
+            | ((b[p + 5] & 0xFF) << 16)
+            | ((b[p + 6] & 0xFF) << 8)
+            | (b[p + 7] & 0xFF);
+    v[o + 2] =
+        ((long) (b[p + 8] & 0xFF) << 24)
+            | ((b[p + 9] & 0xFF) << 16)
+            | ((b[p + 10] & 0xFF) << 8)
+            | (b[p + 11] & 0xFF);
+    v[o + 3] =
+        ((long) (b[p + 12] & 0xFF) << 24)
+            | ((b[p + 13] & 0xFF) << 16)
+            | ((b[p + 14] & 0xFF) << 8)
+            | (b[p + 15] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 16] & 0xFF) << 24)
+            | ((b[p + 17] & 0xFF) << 16)
+            | ((b[p + 18] & 0xFF) << 8)
+            | (b[p + 19] & 0xFF);
+    v[o + 5] =
+        ((long) (b[p + 20] & 0xFF) << 24)
+            | ((b[p + 21] & 0xFF) << 16)
+            | ((b[p + 22] & 0xFF) << 8)
+            | (b[p + 23] & 0xFF);
+    v[o + 6] =
+        ((long) (b[p + 24] & 0xFF) << 24)
+            | ((b[p + 25] & 0xFF) << 16)
+            | ((b[p + 26] & 0xFF) << 8)
+            | (b[p + 27] & 0xFF);
+    v[o + 7] =
+        ((long) (b[p + 28] & 0xFF) << 24)
+            | ((b[p + 29] & 0xFF) << 16)
+            | ((b[p + 30] & 0xFF) << 8)
+            | (b[p + 31] & 0xFF);
+  }
+
+  private static void pack33(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 25);
+    b[p + 1] = (byte) (v[o] >>> 17 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 9 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 1 & 0xFF);
+    b[p + 4] = (byte) (((v[o] & 0x1) << 7) | (v[o + 1] >>> 26));
+    b[p + 5] = (byte) (v[o + 1] >>> 18 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 27));
+    b[p + 9] = (byte) (v[o + 2] >>> 19 & 0xFF);
+    b[p + 10] = (byte) (v[o + 2] >>> 11 & 0xFF);
+    b[p + 11] = (byte) (v[o + 2] >>> 3 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 2] & 0x7) << 5) | (v[o + 3] >>> 28));
+    b[p + 13] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 14] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 15] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 29));
+    b[p + 17] = (byte) (v[o + 4] >>> 21 & 0xFF);
+    b[p + 18] = (byte) (v[o + 4] >>> 13 & 0xFF);
+    b[p + 19] = (byte) (v[o + 4] >>> 5 & 0xFF);
+    b[p + 20] = (byte) (((v[o + 4] & 0x1F) << 3) | (v[o + 5] >>> 30));
+    b[p + 21] = (byte) (v[o + 5] >>> 22 & 0xFF);
+    b[p + 22] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 23] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 24] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 31));
+    b[p + 25] = (byte) (v[o + 6] >>> 23 & 0xFF);
+    b[p + 26] = (byte) (v[o + 6] >>> 15 & 0xFF);
+    b[p + 27] = (byte) (v[o + 6] >>> 7 & 0xFF);
+    b[p + 28] = (byte) (((v[o + 6] & 0x7F) << 1) | (v[o + 7] >>> 32));
+    b[p + 29] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 30] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 31] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 32] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack33(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 25)
+            | ((b[p + 1] & 0xFF) << 17)
+            | ((b[p + 2] & 0xFF) << 9)
+            | ((b[p + 3] & 0xFF) << 1)
+            | ((b[p + 4] & 0xFF) >>> 7);
+    v[o + 1] =
+        ((long) (b[p + 4] & 0x7F) << 26)
+            | ((b[p + 5] & 0xFF) << 18)
+            | ((b[p + 6] & 0xFF) << 10)
+            | ((b[p + 7] & 0xFF) << 2)
+            | ((b[p + 8] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((long) (b[p + 8] & 0x3F) << 27)
+            | ((b[p + 9] & 0xFF) << 19)
+            | ((b[p + 10] & 0xFF) << 11)
+            | ((b[p + 11] & 0xFF) << 3)
+            | ((b[p + 12] & 0xFF) >>> 5);
+    v[o + 3] =
+        ((long) (b[p + 12] & 0x1F) << 28)
+            | ((b[p + 13] & 0xFF) << 20)
+            | ((b[p + 14] & 0xFF) << 12)
+            | ((b[p + 15] & 0xFF) << 4)
+            | ((b[p + 16] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 16] & 0xF) << 29)
+            | ((b[p + 17] & 0xFF) << 21)
+            | ((b[p + 18] & 0xFF) << 13)
+            | ((b[p + 19] & 0xFF) << 5)
+            | ((b[p + 20] & 0xFF) >>> 3);
+    v[o + 5] =
+        ((long) (b[p + 20] & 0x7) << 30)
+            | ((b[p + 21] & 0xFF) << 22)
+            | ((b[p + 22] & 0xFF) << 14)
+            | ((b[p + 23] & 0xFF) << 6)
+            | ((b[p + 24] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((long) (b[p + 24] & 0x3) << 31)
+            | ((b[p + 25] & 0xFF) << 23)
+            | ((b[p + 26] & 0xFF) << 15)
+            | ((b[p + 27] & 0xFF) << 7)
+            | ((b[p + 28] & 0xFF) >>> 1);
+    v[o + 7] =
+        ((long) (b[p + 28] & 0x1) << 32)
+            | ((long) (b[p + 29] & 0xFF) << 24)
+            | ((b[p + 30] & 0xFF) << 16)
+            | ((b[p + 31] & 0xFF) << 8)
+            | (b[p + 32] & 0xFF);
+  }
+
+  private static void pack34(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 26);
+    b[p + 1] = (byte) (v[o] >>> 18 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 10 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 2 & 0xFF);
+    b[p + 4] = (byte) (((v[o] & 0x3) << 6) | (v[o + 1] >>> 28));
+    b[p + 5] = (byte) (v[o + 1] >>> 20 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 30));
+    b[p + 9] = (byte) (v[o + 2] >>> 22 & 0xFF);
+    b[p + 10] = (byte) (v[o + 2] >>> 14 & 0xFF);
+    b[p + 11] = (byte) (v[o + 2] >>> 6 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 2] & 0x3F) << 2) | (v[o + 3] >>> 32));
+    b[p + 13] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 14] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 15] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 16] = (byte) (v[o + 3] & 0xFF);
+    b[p + 17] = (byte) (v[o + 4] >>> 26);
+    b[p + 18] = (byte) (v[o + 4] >>> 18 & 0xFF);
+    b[p + 19] = (byte) (v[o + 4] >>> 10 & 0xFF);
+    b[p + 20] = (byte) (v[o + 4] >>> 2 & 0xFF);
+    b[p + 21] = (byte) (((v[o + 4] & 0x3) << 6) | (v[o + 5] >>> 28));
+    b[p + 22] = (byte) (v[o + 5] >>> 20 & 0xFF);
+    b[p + 23] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 24] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 25] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 30));
+    b[p + 26] = (byte) (v[o + 6] >>> 22 & 0xFF);
+    b[p + 27] = (byte) (v[o + 6] >>> 14 & 0xFF);
+    b[p + 28] = (byte) (v[o + 6] >>> 6 & 0xFF);
+    b[p + 29] = (byte) (((v[o + 6] & 0x3F) << 2) | (v[o + 7] >>> 32));
+    b[p + 30] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 31] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 32] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 33] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack34(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 26)
+            | ((b[p + 1] & 0xFF) << 18)
+            | ((b[p + 2] & 0xFF) << 10)
+            | ((b[p + 3] & 0xFF) << 2)
+            | ((b[p + 4] & 0xFF) >>> 6);
+    v[o + 1] =
+        ((long) (b[p + 4] & 0x3F) << 28)
+            | ((b[p + 5] & 0xFF) << 20)
+            | ((b[p + 6] & 0xFF) << 12)
+            | ((b[p + 7] & 0xFF) << 4)
+            | ((b[p + 8] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((long) (b[p + 8] & 0xF) << 30)
+            | ((b[p + 9] & 0xFF) << 22)
+            | ((b[p + 10] & 0xFF) << 14)
+            | ((b[p + 11] & 0xFF) << 6)
+            | ((b[p + 12] & 0xFF) >>> 2);
+    v[o + 3] =
+        ((long) (b[p + 12] & 0x3) << 32)
+            | ((long) (b[p + 13] & 0xFF) << 24)
+            | ((b[p + 14] & 0xFF) << 16)
+            | ((b[p + 15] & 0xFF) << 8)
+            | (b[p + 16] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 17] & 0xFF) << 26)
+            | ((b[p + 18] & 0xFF) << 18)
+            | ((b[p + 19] & 0xFF) << 10)
+            | ((b[p + 20] & 0xFF) << 2)
+            | ((b[p + 21] & 0xFF) >>> 6);
+    v[o + 5] =
+        ((long) (b[p + 21] & 0x3F) << 28)
+            | ((b[p + 22] & 0xFF) << 20)
+            | ((b[p + 23] & 0xFF) << 12)
+            | ((b[p + 24] & 0xFF) << 4)
+            | ((b[p + 25] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((long) (b[p + 25] & 0xF) << 30)
+            | ((b[p + 26] & 0xFF) << 22)
+            | ((b[p + 27] & 0xFF) << 14)
+            | ((b[p + 28] & 0xFF) << 6)
+            | ((b[p + 29] & 0xFF) >>> 2);
+    v[o + 7] =
+        ((long) (b[p + 29] & 0x3) << 32)
+            | ((long) (b[p + 30] & 0xFF) << 24)
+            | ((b[p + 31] & 0xFF) << 16)
+            | ((b[p + 32] & 0xFF) << 8)
+            | (b[p + 33] & 0xFF);
+  }
+
+  private static void pack35(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 27);
+    b[p + 1] = (byte) (v[o] >>> 19 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 11 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 3 & 0xFF);
+    b[p + 4] = (byte) (((v[o] & 0x7) << 5) | (v[o + 1] >>> 30));
+    b[p + 5] = (byte) (v[o + 1] >>> 22 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 8] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 33));
+    b[p + 9] = (byte) (v[o + 2] >>> 25 & 0xFF);
+    b[p + 10] = (byte) (v[o + 2] >>> 17 & 0xFF);
+    b[p + 11] = (byte) (v[o + 2] >>> 9 & 0xFF);
+    b[p + 12] = (byte) (v[o + 2] >>> 1 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] >>> 28));
+    b[p + 14] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 15] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 16] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 17] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 31));
+    b[p + 18] = (byte) (v[o + 4] >>> 23 & 0xFF);
+    b[p + 19] = (byte) (v[o + 4] >>> 15 & 0xFF);
+    b[p + 20] = (byte) (v[o + 4] >>> 7 & 0xFF);
+    b[p + 21] = (byte) (((v[o + 4] & 0x7F) << 1) | (v[o + 5] >>> 34));
+    b[p + 22] = (byte) (v[o + 5] >>> 26 & 0xFF);
+    b[p + 23] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 24] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 25] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 26] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 29));
+    b[p + 27] = (byte) (v[o + 6] >>> 21 & 0xFF);
+    b[p + 28] = (byte) (v[o + 6] >>> 13 & 0xFF);
+    b[p + 29] = (byte) (v[o + 6] >>> 5 & 0xFF);
+    b[p + 30] = (byte) (((v[o + 6] & 0x1F) << 3) | (v[o + 7] >>> 32));
+    b[p + 31] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 32] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 33] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 34] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack35(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 27)
+            | ((b[p + 1] & 0xFF) << 19)
+            | ((b[p + 2] & 0xFF) << 11)
+            | ((b[p + 3] & 0xFF) << 3)
+            | ((b[p + 4] & 0xFF) >>> 5);
+    v[o + 1] =
+        ((long) (b[p + 4] & 0x1F) << 30)
+            | ((b[p + 5] & 0xFF) << 22)
+            | ((b[p + 6] & 0xFF) << 14)
+            | ((b[p + 7] & 0xFF) << 6)
+            | ((b[p + 8] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((long) (b[p + 8] & 0x3) << 33)
+            | ((long) (b[p + 9] & 0xFF) << 25)
+            | ((b[p + 10] & 0xFF) << 17)
+            | ((b[p + 11] & 0xFF) << 9)
+            | ((b[p + 12] & 0xFF) << 1)
+            | ((b[p + 13] & 0xFF) >>> 7);
+    v[o + 3] =
+        ((long) (b[p + 13] & 0x7F) << 28)
+            | ((b[p + 14] & 0xFF) << 20)
+            | ((b[p + 15] & 0xFF) << 12)
+            | ((b[p + 16] & 0xFF) << 4)
+            | ((b[p + 17] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 17] & 0xF) << 31)
+            | ((b[p + 18] & 0xFF) << 23)
+            | ((b[p + 19] & 0xFF) << 15)
+            | ((b[p + 20] & 0xFF) << 7)
+            | ((b[p + 21] & 0xFF) >>> 1);
+    v[o + 5] =
+        ((long) (b[p + 21] & 0x1) << 34)
+            | ((long) (b[p + 22] & 0xFF) << 26)
+            | ((b[p + 23] & 0xFF) << 18)
+            | ((b[p + 24] & 0xFF) << 10)
+            | ((b[p + 25] & 0xFF) << 2)
+            | ((b[p + 26] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((long) (b[p + 26] & 0x3F) << 29)
+            | ((b[p + 27] & 0xFF) << 21)
+            | ((b[p + 28] & 0xFF) << 13)
+            | ((b[p + 29] & 0xFF) << 5)
+            | ((b[p + 30] & 0xFF) >>> 3);
+    v[o + 7] =
+        ((long) (b[p + 30] & 0x7) << 32)
+            | ((long) (b[p + 31] & 0xFF) << 24)
+            | ((b[p + 32] & 0xFF) << 16)
+            | ((b[p + 33] & 0xFF) << 8)
+            | (b[p + 34] & 0xFF);
+  }
+
+  private static void pack36(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 28);
+    b[p + 1] = (byte) (v[o] >>> 20 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 12 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 4 & 0xFF);
+    b[p + 4] = (byte) (((v[o] & 0xF) << 4) | (v[o + 1] >>> 32));
+    b[p + 5] = (byte) (v[o + 1] >>> 24 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] & 0xFF);
+    b[p + 9] = (byte) (v[o + 2] >>> 28);
+    b[p + 10] = (byte) (v[o + 2] >>> 20 & 0xFF);
+    b[p + 11] = (byte) (v[o + 2] >>> 12 & 0xFF);
+    b[p + 12] = (byte) (v[o + 2] >>> 4 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 2] & 0xF) << 4) | (v[o + 3] >>> 32));
+    b[p + 14] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 15] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 16] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 17] = (byte) (v[o + 3] & 0xFF);
+    b[p + 18] = (byte) (v[o + 4] >>> 28);
+    b[p + 19] = (byte) (v[o + 4] >>> 20 & 0xFF);
+    b[p + 20] = (byte) (v[o + 4] >>> 12 & 0xFF);
+    b[p + 21] = (byte) (v[o + 4] >>> 4 & 0xFF);
+    b[p + 22] = (byte) (((v[o + 4] & 0xF) << 4) | (v[o + 5] >>> 32));
+    b[p + 23] = (byte) (v[o + 5] >>> 24 & 0xFF);
+    b[p + 24] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 25] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 26] = (byte) (v[o + 5] & 0xFF);
+    b[p + 27] = (byte) (v[o + 6] >>> 28);
+    b[p + 28] = (byte) (v[o + 6] >>> 20 & 0xFF);
+    b[p + 29] = (byte) (v[o + 6] >>> 12 & 0xFF);
+    b[p + 30] = (byte) (v[o + 6] >>> 4 & 0xFF);
+    b[p + 31] = (byte) (((v[o + 6] & 0xF) << 4) | (v[o + 7] >>> 32));
+    b[p + 32] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 33] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 34] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 35] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack36(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 28)
+            | ((b[p + 1] & 0xFF) << 20)
+            | ((b[p + 2] & 0xFF) << 12)
+            | ((b[p + 3] & 0xFF) << 4)
+            | ((b[p + 4] & 0xFF) >>> 4);
+    v[o + 1] =
+        ((long) (b[p + 4] & 0xF) << 32)
+            | ((long) (b[p + 5] & 0xFF) << 24)
+            | ((b[p + 6] & 0xFF) << 16)
+            | ((b[p + 7] & 0xFF) << 8)
+            | (b[p + 8] & 0xFF);
+    v[o + 2] =
+        ((long) (b[p + 9] & 0xFF) << 28)
+            | ((b[p + 10] & 0xFF) << 20)
+            | ((b[p + 11] & 0xFF) << 12)
+            | ((b[p + 12] & 0xFF) << 4)
+            | ((b[p + 13] & 0xFF) >>> 4);
+    v[o + 3] =
+        ((long) (b[p + 13] & 0xF) << 32)
+            | ((long) (b[p + 14] & 0xFF) << 24)
+            | ((b[p + 15] & 0xFF) << 16)
+            | ((b[p + 16] & 0xFF) << 8)
+            | (b[p + 17] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 18] & 0xFF) << 28)
+            | ((b[p + 19] & 0xFF) << 20)
+            | ((b[p + 20] & 0xFF) << 12)
+            | ((b[p + 21] & 0xFF) << 4)
+            | ((b[p + 22] & 0xFF) >>> 4);
+    v[o + 5] =
+        ((long) (b[p + 22] & 0xF) << 32)
+            | ((long) (b[p + 23] & 0xFF) << 24)
+            | ((b[p + 24] & 0xFF) << 16)
+            | ((b[p + 25] & 0xFF) << 8)
+            | (b[p + 26] & 0xFF);
+    v[o + 6] =
+        ((long) (b[p + 27] & 0xFF) << 28)
+            | ((b[p + 28] & 0xFF) << 20)
+            | ((b[p + 29] & 0xFF) << 12)
+            | ((b[p + 30] & 0xFF) << 4)
+            | ((b[p + 31] & 0xFF) >>> 4);
+    v[o + 7] =
+        ((long) (b[p + 31] & 0xF) << 32)
+            | ((long) (b[p + 32] & 0xFF) << 24)
+            | ((b[p + 33] & 0xFF) << 16)
+            | ((b[p + 34] & 0xFF) << 8)
+            | (b[p + 35] & 0xFF);
+  }
+
+  private static void pack37(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 29);
+    b[p + 1] = (byte) (v[o] >>> 21 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 13 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 5 & 0xFF);
+    b[p + 4] = (byte) (((v[o] & 0x1F) << 3) | (v[o + 1] >>> 34));
+    b[p + 5] = (byte) (v[o + 1] >>> 26 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 18 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 9] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 31));
+    b[p + 10] = (byte) (v[o + 2] >>> 23 & 0xFF);
+    b[p + 11] = (byte) (v[o + 2] >>> 15 & 0xFF);
+    b[p + 12] = (byte) (v[o + 2] >>> 7 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 2] & 0x7F) << 1) | (v[o + 3] >>> 36));
+    b[p + 14] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 15] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 16] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 17] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 18] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 33));
+    b[p + 19] = (byte) (v[o + 4] >>> 25 & 0xFF);
+    b[p + 20] = (byte) (v[o + 4] >>> 17 & 0xFF);
+    b[p + 21] = (byte) (v[o + 4] >>> 9 & 0xFF);
+    b[p + 22] = (byte) (v[o + 4] >>> 1 & 0xFF);
+    b[p + 23] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] >>> 30));
+    b[p + 24] = (byte) (v[o + 5] >>> 22 & 0xFF);
+    b[p + 25] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 26] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 27] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 35));
+    b[p + 28] = (byte) (v[o + 6] >>> 27 & 0xFF);
+    b[p + 29] = (byte) (v[o + 6] >>> 19 & 0xFF);
+    b[p + 30] = (byte) (v[o + 6] >>> 11 & 0xFF);
+    b[p + 31] = (byte) (v[o + 6] >>> 3 & 0xFF);
+    b[p + 32] = (byte) (((v[o + 6] & 0x7) << 5) | (v[o + 7] >>> 32));
+    b[p + 33] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 34] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 35] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 36] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack37(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 29)
+            | ((b[p + 1] & 0xFF) << 21)
+            | ((b[p + 2] & 0xFF) << 13)
+            | ((b[p + 3] & 0xFF) << 5)
+            | ((b[p + 4] & 0xFF) >>> 3);
+    v[o + 1] =
+        ((long) (b[p + 4] & 0x7) << 34)
+            | ((long) (b[p + 5] & 0xFF) << 26)
+            | ((b[p + 6] & 0xFF) << 18)
+            | ((b[p + 7] & 0xFF) << 10)
+            | ((b[p + 8] & 0xFF) << 2)
+            | ((b[p + 9] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((long) (b[p + 9] & 0x3F) << 31)
+            | ((b[p + 10] & 0xFF) << 23)
+            | ((b[p + 11] & 0xFF) << 15)
+            | ((b[p + 12] & 0xFF) << 7)
+            | ((b[p + 13] & 0xFF) >>> 1);
+    v[o + 3] =
+        ((long) (b[p + 13] & 0x1) << 36)
+            | ((long) (b[p + 14] & 0xFF) << 28)
+            | ((b[p + 15] & 0xFF) << 20)
+            | ((b[p + 16] & 0xFF) << 12)
+            | ((b[p + 17] & 0xFF) << 4)
+            | ((b[p + 18] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 18] & 0xF) << 33)
+            | ((long) (b[p + 19] & 0xFF) << 25)
+            | ((b[p + 20] & 0xFF) << 17)
+            | ((b[p + 21] & 0xFF) << 9)
+            | ((b[p + 22] & 0xFF) << 1)
+            | ((b[p + 23] & 0xFF) >>> 7);
+    v[o + 5] =
+        ((long) (b[p + 23] & 0x7F) << 30)
+            | ((b[p + 24] & 0xFF) << 22)
+            | ((b[p + 25] & 0xFF) << 14)
+            | ((b[p + 26] & 0xFF) << 6)
+            | ((b[p + 27] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((long) (b[p + 27] & 0x3) << 35)
+            | ((long) (b[p + 28] & 0xFF) << 27)
+            | ((b[p + 29] & 0xFF) << 19)
+            | ((b[p + 30] & 0xFF) << 11)
+            | ((b[p + 31] & 0xFF) << 3)
+            | ((b[p + 32] & 0xFF) >>> 5);
+    v[o + 7] =
+        ((long) (b[p + 32] & 0x1F) << 32)
+            | ((long) (b[p + 33] & 0xFF) << 24)
+            | ((b[p + 34] & 0xFF) << 16)
+            | ((b[p + 35] & 0xFF) << 8)
+            | (b[p + 36] & 0xFF);
+  }
+
+  private static void pack38(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 30);
+    b[p + 1] = (byte) (v[o] >>> 22 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 14 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 6 & 0xFF);
+    b[p + 4] = (byte) (((v[o] & 0x3F) << 2) | (v[o + 1] >>> 36));
+    b[p + 5] = (byte) (v[o + 1] >>> 28 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 20 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 9] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 34));
+    b[p + 10] = (byte) (v[o + 2] >>> 26 & 0xFF);
+    b[p + 11] = (byte) (v[o + 2] >>> 18 & 0xFF);
+    b[p + 12] = (byte) (v[o + 2] >>> 10 & 0xFF);
+    b[p + 13] = (byte) (v[o + 2] >>> 2 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 2] & 0x3) << 6) | (v[o + 3] >>> 32));
+    b[p + 15] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 16] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 17] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 18] = (byte) (v[o + 3] & 0xFF);
+    b[p + 19] = (byte) (v[o + 4] >>> 30);
+    b[p + 20] = (byte) (v[o + 4] >>> 22 & 0xFF);
+    b[p + 21] = (byte) (v[o + 4] >>> 14 & 0xFF);
+    b[p + 22] = (byte) (v[o + 4] >>> 6 & 0xFF);
+    b[p + 23] = (byte) (((v[o + 4] & 0x3F) << 2) | (v[o + 5] >>> 36));
+    b[p + 24] = (byte) (v[o + 5] >>> 28 & 0xFF);
+    b[p + 25] = (byte) (v[o + 5] >>> 20 & 0xFF);
+    b[p + 26] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 27] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 28] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 34));
+    b[p + 29] = (byte) (v[o + 6] >>> 26 & 0xFF);
+    b[p + 30] = (byte) (v[o + 6] >>> 18 & 0xFF);
+    b[p + 31] = (byte) (v[o + 6] >>> 10 & 0xFF);
+    b[p + 32] = (byte) (v[o + 6] >>> 2 & 0xFF);
+    b[p + 33] = (byte) (((v[o + 6] & 0x3) << 6) | (v[o + 7] >>> 32));
+    b[p + 34] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 35] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 36] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 37] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack38(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 30)
+            | ((b[p + 1] & 0xFF) << 22)
+            | ((b[p + 2] & 0xFF) << 14)
+            | ((b[p + 3] & 0xFF) << 6)
+            | ((b[p + 4] & 0xFF) >>> 2);
+    v[o + 1] =
+        ((long) (b[p + 4] & 0x3) << 36)
+            | ((long) (b[p + 5] & 0xFF) << 28)
+            | ((b[p + 6] & 0xFF) << 20)
+            | ((b[p + 7] & 0xFF) << 12)
+            | ((b[p + 8] & 0xFF) << 4)
+            | ((b[p + 9] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((long) (b[p + 9] & 0xF) << 34)
+            | ((long) (b[p + 10] & 0xFF) << 26)
+            | ((b[p + 11] & 0xFF) << 18)
+            | ((b[p + 12] & 0xFF) << 10)
+            | ((b[p + 13] & 0xFF) << 2)
+            | ((b[p + 14] & 0xFF) >>> 6);
+    v[o + 3] =
+        ((long) (b[p + 14] & 0x3F) << 32)
+            | ((long) (b[p + 15] & 0xFF) << 24)
+            | ((b[p + 16] & 0xFF) << 16)
+            | ((b[p + 17] & 0xFF) << 8)
+            | (b[p + 18] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 19] & 0xFF) << 30)
+            | ((b[p + 20] & 0xFF) << 22)
+            | ((b[p + 21] & 0xFF) << 14)
+            | ((b[p + 22] & 0xFF) << 6)
+            | ((b[p + 23] & 0xFF) >>> 2);
+    v[o + 5] =
+        ((long) (b[p + 23] & 0x3) << 36)
+            | ((long) (b[p + 24] & 0xFF) << 28)
+            | ((b[p + 25] & 0xFF) << 20)
+            | ((b[p + 26] & 0xFF) << 12)
+            | ((b[p + 27] & 0xFF) << 4)
+            | ((b[p + 28] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((long) (b[p + 28] & 0xF) << 34)
+            | ((long) (b[p + 29] & 0xFF) << 26)
+            | ((b[p + 30] & 0xFF) << 18)
+            | ((b[p + 31] & 0xFF) << 10)
+            | ((b[p + 32] & 0xFF) << 2)
+            | ((b[p + 33] & 0xFF) >>> 6);
+    v[o + 7] =
+        ((long) (b[p + 33] & 0x3F) << 32)
+            | ((long) (b[p + 34] & 0xFF) << 24)
+            | ((b[p + 35] & 0xFF) << 16)
+            | ((b[p + 36] & 0xFF) << 8)
+            | (b[p + 37] & 0xFF);
+  }
+
+  private static void pack39(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 31);
+    b[p + 1] = (byte) (v[o] >>> 23 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 15 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 7 & 0xFF);
+    b[p + 4] = (byte) (((v[o] & 0x7F) << 1) | (v[o + 1] >>> 38));
+    b[p + 5] = (byte) (v[o + 1] >>> 30 & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 22 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 9] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 37));
+    b[p + 10] = (byte) (v[o + 2] >>> 29 & 0xFF);
+    b[p + 11] = (byte) (v[o + 2] >>> 21 & 0xFF);
+    b[p + 12] = (byte) (v[o + 2] >>> 13 & 0xFF);
+    b[p + 13] = (byte) (v[o + 2] >>> 5 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 36));
+    b[p + 15] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 16] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 17] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 18] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 19] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 35));
+    b[p + 20] = (byte) (v[o + 4] >>> 27 & 0xFF);
+    b[p + 21] = (byte) (v[o + 4] >>> 19 & 0xFF);
+    b[p + 22] = (byte) (v[o + 4] >>> 11 & 0xFF);
+    b[p + 23] = (byte) (v[o + 4] >>> 3 & 0xFF);
+    b[p + 24] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 34));
+    b[p + 25] = (byte) (v[o + 5] >>> 26 & 0xFF);
+    b[p + 26] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 27] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 28] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 29] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 33));
+    b[p + 30] = (byte) (v[o + 6] >>> 25 & 0xFF);
+    b[p + 31] = (byte) (v[o + 6] >>> 17 & 0xFF);
+    b[p + 32] = (byte) (v[o + 6] >>> 9 & 0xFF);
+    b[p + 33] = (byte) (v[o + 6] >>> 1 & 0xFF);
+    b[p + 34] = (byte) (((v[o + 6] & 0x1) << 7) | (v[o + 7] >>> 32));
+    b[p + 35] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 36] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 37] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 38] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack39(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 31)
+            | ((b[p + 1] & 0xFF) << 23)
+            | ((b[p + 2] & 0xFF) << 15)
+            | ((b[p + 3] & 0xFF) << 7)
+            | ((b[p + 4] & 0xFF) >>> 1);
+    v[o + 1] =
+        ((long) (b[p + 4] & 0x1) << 38)
+            | ((long) (b[p + 5] & 0xFF) << 30)
+            | ((b[p + 6] & 0xFF) << 22)
+            | ((b[p + 7] & 0xFF) << 14)
+            | ((b[p + 8] & 0xFF) << 6)
+            | ((b[p + 9] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((long) (b[p + 9] & 0x3) << 37)
+            | ((long) (b[p + 10] & 0xFF) << 29)
+            | ((b[p + 11] & 0xFF) << 21)
+            | ((b[p + 12] & 0xFF) << 13)
+            | ((b[p + 13] & 0xFF) << 5)
+            | ((b[p + 14] & 0xFF) >>> 3);
+    v[o + 3] =
+        ((long) (b[p + 14] & 0x7) << 36)
+            | ((long) (b[p + 15] & 0xFF) << 28)
+            | ((b[p + 16] & 0xFF) << 20)
+            | ((b[p + 17] & 0xFF) << 12)
+            | ((b[p + 18] & 0xFF) << 4)
+            | ((b[p + 19] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 19] & 0xF) << 35)
+            | ((long) (b[p + 20] & 0xFF) << 27)
+            | ((b[p + 21] & 0xFF) << 19)
+            | ((b[p + 22] & 0xFF) << 11)
+            | ((b[p + 23] & 0xFF) << 3)
+            | ((b[p + 24] & 0xFF) >>> 5);
+    v[o + 5] =
+        ((long) (b[p + 24] & 0x1F) << 34)
+            | ((long) (b[p + 25] & 0xFF) << 26)
+            | ((b[p + 26] & 0xFF) << 18)
+            | ((b[p + 27] & 0xFF) << 10)
+            | ((b[p + 28] & 0xFF) << 2)
+            | ((b[p + 29] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((long) (b[p + 29] & 0x3F) << 33)
+            | ((long) (b[p + 30] & 0xFF) << 25)
+            | ((b[p + 31] & 0xFF) << 17)
+            | ((b[p + 32] & 0xFF) << 9)
+            | ((b[p + 33] & 0xFF) << 1)
+            | ((b[p + 34] & 0xFF) >>> 7);
+    v[o + 7] =
+        ((long) (b[p + 34] & 0x7F) << 32)
+            | ((long) (b[p + 35] & 0xFF) << 24)
+            | ((b[p + 36] & 0xFF) << 16)
+            | ((b[p + 37] & 0xFF) << 8)
+            | (b[p + 38] & 0xFF);
+  }
+
+  private static void pack40(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 32);
+    b[p + 1] = (byte) (v[o] >>> 24 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 16 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 8 & 0xFF);
+    b[p + 4] = (byte) (v[o] & 0xFF);
+    b[p + 5] = (byte) (v[o + 1] >>> 32);
+    b[p + 6] = (byte) (v[o + 1] >>> 24 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] & 0xFF);
+    b[p + 10] = (byte) (v[o + 2] >>> 32);
+    b[p + 11] = (byte) (v[o + 2] >>> 24 & 0xFF);
+    b[p + 12] = (byte) (v[o + 2] >>> 16 & 0xFF);
+    b[p + 13] = (byte) (v[o + 2] >>> 8 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] & 0xFF);
+    b[p + 15] = (byte) (v[o + 3] >>> 32);
+    b[p + 16] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 17] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 18] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 19] = (byte) (v[o + 3] & 0xFF);
+    b[p + 20] = (byte) (v[o + 4] >>> 32);
+    b[p + 21] = (byte) (v[o + 4] >>> 24 & 0xFF);
+    b[p + 22] = (byte) (v[o + 4] >>> 16 & 0xFF);
+    b[p + 23] = (byte) (v[o + 4] >>> 8 & 0xFF);
+    b[p + 24] = (byte) (v[o + 4] & 0xFF);
+    b[p + 25] = (byte) (v[o + 5] >>> 32);
+    b[p + 26] = (byte) (v[o + 5] >>> 24 & 0xFF);
+    b[p + 27] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 28] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 29] = (byte) (v[o + 5] & 0xFF);
+    b[p + 30] = (byte) (v[o + 6] >>> 32);
+    b[p + 31] = (byte) (v[o + 6] >>> 24 & 0xFF);
+    b[p + 32] = (byte) (v[o + 6] >>> 16 & 0xFF);
+    b[p + 33] = (byte) (v[o + 6] >>> 8 & 0xFF);
+    b[p + 34] = (byte) (v[o + 6] & 0xFF);
+    b[p + 35] = (byte) (v[o + 7] >>> 32);
+    b[p + 36] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 37] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 38] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 39] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack40(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 32)
+            | ((long) (b[p + 1] & 0xFF) << 24)
+            | ((b[p + 2] & 0xFF) << 16)
+            | ((b[p + 3] & 0xFF) << 8)
+            | (b[p + 4] & 0xFF);
+    v[o + 1] =
+        ((long) (b[p + 5] & 0xFF) << 32)
+            | ((long) (b[p + 6] & 0xFF) << 24)
+            | ((b[p + 7] & 0xFF) << 16)
+            | ((b[p + 8] & 0xFF) << 8)
+            | (b[p + 9] & 0xFF);
+    v[o + 2] =
+        ((long) (b[p + 10] & 0xFF) << 32)
+            | ((long) (b[p + 11] & 0xFF) << 24)
+            | ((b[p + 12] & 0xFF) << 16)
+            | ((b[p + 13] & 0xFF) << 8)
+            | (b[p + 14] & 0xFF);
+    v[o + 3] =
+        ((long) (b[p + 15] & 0xFF) << 32)
+            | ((long) (b[p + 16] & 0xFF) << 24)
+            | ((b[p + 17] & 0xFF) << 16)
+            | ((b[p + 18] & 0xFF) << 8)
+            | (b[p + 19] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 20] & 0xFF) << 32)
+            | ((long) (b[p + 21] & 0xFF) << 24)
+            | ((b[p + 22] & 0xFF) << 16)
+            | ((b[p + 23] & 0xFF) << 8)
+            | (b[p + 24] & 0xFF);
+    v[o + 5] =
+        ((long) (b[p + 25] & 0xFF) << 32)
+            | ((long) (b[p + 26] & 0xFF) << 24)
+            | ((b[p + 27] & 0xFF) << 16)
+            | ((b[p + 28] & 0xFF) << 8)
+            | (b[p + 29] & 0xFF);
+    v[o + 6] =
+        ((long) (b[p + 30] & 0xFF) << 32)
+            | ((long) (b[p + 31] & 0xFF) << 24)
+            | ((b[p + 32] & 0xFF) << 16)
+            | ((b[p + 33] & 0xFF) << 8)
+            | (b[p + 34] & 0xFF);
+    v[o + 7] =
+        ((long) (b[p + 35] & 0xFF) << 32)
+            | ((long) (b[p + 36] & 0xFF) << 24)
+            | ((b[p + 37] & 0xFF) << 16)
+            | ((b[p + 38] & 0xFF) << 8)
+            | (b[p + 39] & 0xFF);
+  }
+
+  private static void pack41(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 33);
+    b[p + 1] = (byte) (v[o] >>> 25 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 17 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 9 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 1 & 0xFF);
+    b[p + 5] = (byte) (((v[o] & 0x1) << 7) | (v[o + 1] >>> 34));
+    b[p + 6] = (byte) (v[o + 1] >>> 26 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 18 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 35));
+    b[p + 11] = (byte) (v[o + 2] >>> 27 & 0xFF);
+    b[p + 12] = (byte) (v[o + 2] >>> 19 & 0xFF);
+    b[p + 13] = (byte) (v[o + 2] >>> 11 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 3 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 2] & 0x7) << 5) | (v[o + 3] >>> 36));
+    b[p + 16] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 17] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 18] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 19] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 20] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 37));
+    b[p + 21] = (byte) (v[o + 4] >>> 29 & 0xFF);
+    b[p + 22] = (byte) (v[o + 4] >>> 21 & 0xFF);
+    b[p + 23] = (byte) (v[o + 4] >>> 13 & 0xFF);
+    b[p + 24] = (byte) (v[o + 4] >>> 5 & 0xFF);
+    b[p + 25] = (byte) (((v[o + 4] & 0x1F) << 3) | (v[o + 5] >>> 38));
+    b[p + 26] = (byte) (v[o + 5] >>> 30 & 0xFF);
+    b[p + 27] = (byte) (v[o + 5] >>> 22 & 0xFF);
+    b[p + 28] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 29] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 30] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 39));
+    b[p + 31] = (byte) (v[o + 6] >>> 31 & 0xFF);
+    b[p + 32] = (byte) (v[o + 6] >>> 23 & 0xFF);
+    b[p + 33] = (byte) (v[o + 6] >>> 15 & 0xFF);
+    b[p + 34] = (byte) (v[o + 6] >>> 7 & 0xFF);
+    b[p + 35] = (byte) (((v[o + 6] & 0x7F) << 1) | (v[o + 7] >>> 40));
+    b[p + 36] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 37] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 38] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 39] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 40] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack41(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 33)
+            | ((long) (b[p + 1] & 0xFF) << 25)
+            | ((b[p + 2] & 0xFF) << 17)
+            | ((b[p + 3] & 0xFF) << 9)
+            | ((b[p + 4] & 0xFF) << 1)
+            | ((b[p + 5] & 0xFF) >>> 7);
+    v[o + 1] =
+        ((long) (b[p + 5] & 0x7F) << 34)
+            | ((long) (b[p + 6] & 0xFF) << 26)
+            | ((b[p + 7] & 0xFF) << 18)
+            | ((b[p + 8] & 0xFF) << 10)
+            | ((b[p + 9] & 0xFF) << 2)
+            | ((b[p + 10] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((long) (b[p + 10] & 0x3F) << 35)
+            | ((long) (b[p + 11] & 0xFF) << 27)
+            | ((b[p + 12] & 0xFF) << 19)
+            | ((b[p + 13] & 0xFF) << 11)
+            | ((b[p + 14] & 0xFF) << 3)
+            | ((b[p + 15] & 0xFF) >>> 5);
+    v[o + 3] =
+        ((long) (b[p + 15] & 0x1F) << 36)
+            | ((long) (b[p + 16] & 0xFF) << 28)
+            | ((b[p + 17] & 0xFF) << 20)
+            | ((b[p + 18] & 0xFF) << 12)
+            | ((b[p + 19] & 0xFF) << 4)
+            | ((b[p + 20] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 20] & 0xF) << 37)
+            | ((long) (b[p + 21] & 0xFF) << 29)
+            | ((b[p + 22] & 0xFF) << 21)
+            | ((b[p + 23] & 0xFF) << 13)
+            | ((b[p + 24] & 0xFF) << 5)
+            | ((b[p + 25] & 0xFF) >>> 3);
+    v[o + 5] =
+        ((long) (b[p + 25] & 0x7) << 38)
+            | ((long) (b[p + 26] & 0xFF) << 30)
+            | ((b[p + 27] & 0xFF) << 22)
+            | ((b[p + 28] & 0xFF) << 14)
+            | ((b[p + 29] & 0xFF) << 6)
+            | ((b[p + 30] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((long) (b[p + 30] & 0x3) << 39)
+            | ((long) (b[p + 31] & 0xFF) << 31)
+            | ((b[p + 32] & 0xFF) << 23)
+            | ((b[p + 33] & 0xFF) << 15)
+            | ((b[p + 34] & 0xFF) << 7)
+            | ((b[p + 35] & 0xFF) >>> 1);
+    v[o + 7] =
+        ((long) (b[p + 35] & 0x1) << 40)
+            | ((long) (b[p + 36] & 0xFF) << 32)
+            | ((long) (b[p + 37] & 0xFF) << 24)
+            | ((b[p + 38] & 0xFF) << 16)
+            | ((b[p + 39] & 0xFF) << 8)
+            | (b[p + 40] & 0xFF);
+  }
+
+  private static void pack42(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 34);
+    b[p + 1] = (byte) (v[o] >>> 26 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 18 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 10 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 2 & 0xFF);
+    b[p + 5] = (byte) (((v[o] & 0x3) << 6) | (v[o + 1] >>> 36));
+    b[p + 6] = (byte) (v[o + 1] >>> 28 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 20 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 38));
+    b[p + 11] = (byte) (v[o + 2] >>> 30 & 0xFF);
+    b[p + 12] = (byte) (v[o + 2] >>> 22 & 0xFF);
+    b[p + 13] = (byte) (v[o + 2] >>> 14 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 6 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 2] & 0x3F) << 2) | (v[o + 3] >>> 40));
+    b[p + 16] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 17] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 18] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 19] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 20] = (byte) (v[o + 3] & 0xFF);
+    b[p + 21] = (byte) (v[o + 4] >>> 34);
+    b[p + 22] = (byte) (v[o + 4] >>> 26 & 0xFF);
+    b[p + 23] = (byte) (v[o + 4] >>> 18 & 0xFF);
+    b[p + 24] = (byte) (v[o + 4] >>> 10 & 0xFF);
+    b[p + 25] = (byte) (v[o + 4] >>> 2 & 0xFF);
+    b[p + 26] = (byte) (((v[o + 4] & 0x3) << 6) | (v[o + 5] >>> 36));
+    b[p + 27] = (byte) (v[o + 5] >>> 28 & 0xFF);
+    b[p + 28] = (byte) (v[o + 5] >>> 20 & 0xFF);
+    b[p + 29] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 30] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 31] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 38));
+    b[p + 32] = (byte) (v[o + 6] >>> 30 & 0xFF);
+    b[p + 33] = (byte) (v[o + 6] >>> 22 & 0xFF);
+    b[p + 34] = (byte) (v[o + 6] >>> 14 & 0xFF);
+    b[p + 35] = (byte) (v[o + 6] >>> 6 & 0xFF);
+    b[p + 36] = (byte) (((v[o + 6] & 0x3F) << 2) | (v[o + 7] >>> 40));
+    b[p + 37] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 38] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 39] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 40] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 41] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack42(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 34)
+            | ((long) (b[p + 1] & 0xFF) << 26)
+            | ((b[p + 2] & 0xFF) << 18)
+            | ((b[p + 3] & 0xFF) << 10)
+            | ((b[p + 4] & 0xFF) << 2)
+            | ((b[p + 5] & 0xFF) >>> 6);
+    v[o + 1] =
+        ((long) (b[p + 5] & 0x3F) << 36)
+            | ((long) (b[p + 6] & 0xFF) << 28)
+            | ((b[p + 7] & 0xFF) << 20)
+            | ((b[p + 8] & 0xFF) << 12)
+            | ((b[p + 9] & 0xFF) << 4)
+            | ((b[p + 10] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((long) (b[p + 10] & 0xF) << 38)
+            | ((long) (b[p + 11] & 0xFF) << 30)
+            | ((b[p + 12] & 0xFF) << 22)
+            | ((b[p + 13] & 0xFF) << 14)
+            | ((b[p + 14] & 0xFF) << 6)
+            | ((b[p + 15] & 0xFF) >>> 2);
+    v[o + 3] =
+        ((long) (b[p + 15] & 0x3) << 40)
+            | ((long) (b[p + 16] & 0xFF) << 32)
+            | ((long) (b[p + 17] & 0xFF) << 24)
+            | ((b[p + 18] & 0xFF) << 16)
+            | ((b[p + 19] & 0xFF) << 8)
+            | (b[p + 20] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 21] & 0xFF) << 34)
+            | ((long) (b[p + 22] & 0xFF) << 26)
+            | ((b[p + 23] & 0xFF) << 18)
+            | ((b[p + 24] & 0xFF) << 10)
+            | ((b[p + 25] & 0xFF) << 2)
+            | ((b[p + 26] & 0xFF) >>> 6);
+    v[o + 5] =
+        ((long) (b[p + 26] & 0x3F) << 36)
+            | ((long) (b[p + 27] & 0xFF) << 28)
+            | ((b[p + 28] & 0xFF) << 20)
+            | ((b[p + 29] & 0xFF) << 12)
+            | ((b[p + 30] & 0xFF) << 4)
+            | ((b[p + 31] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((long) (b[p + 31] & 0xF) << 38)
+            | ((long) (b[p + 32] & 0xFF) << 30)
+            | ((b[p + 33] & 0xFF) << 22)
+            | ((b[p + 34] & 0xFF) << 14)
+            | ((b[p + 35] & 0xFF) << 6)
+            | ((b[p + 36] & 0xFF) >>> 2);
+    v[o + 7] =
+        ((long) (b[p + 36] & 0x3) << 40)
+            | ((long) (b[p + 37] & 0xFF) << 32)
+            | ((long) (b[p + 38] & 0xFF) << 24)
+            | ((b[p + 39] & 0xFF) << 16)
+            | ((b[p + 40] & 0xFF) << 8)
+            | (b[p + 41] & 0xFF);
+  }
+
+  private static void pack43(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 35);
+    b[p + 1] = (byte) (v[o] >>> 27 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 19 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 11 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 3 & 0xFF);
+    b[p + 5] = (byte) (((v[o] & 0x7) << 5) | (v[o + 1] >>> 38));
+    b[p + 6] = (byte) (v[o + 1] >>> 30 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 22 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 10] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 41));
+    b[p + 11] = (byte) (v[o + 2] >>> 33 & 0xFF);
+    b[p + 12] = (byte) (v[o + 2] >>> 25 & 0xFF);
+    b[p + 13] = (byte) (v[o + 2] >>> 17 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 9 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 1 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] >>> 36));
+    b[p + 17] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 18] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 19] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 20] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 21] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 39));
+    b[p + 22] = (byte) (v[o + 4] >>> 31 & 0xFF);
+    b[p + 23] = (byte) (v[o + 4] >>> 23 & 0xFF);
+    b[p + 24] = (byte) (v[o + 4] >>> 15 & 0xFF);
+    b[p + 25] = (byte) (v[o + 4] >>> 7 & 0xFF);
+    b[p + 26] = (byte) (((v[o + 4] & 0x7F) << 1) | (v[o + 5] >>> 42));
+    b[p + 27] = (byte) (v[o + 5] >>> 34 & 0xFF);
+    b[p + 28] = (byte) (v[o + 5] >>> 26 & 0xFF);
+    b[p + 29] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 30] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 31] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 32] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 37));
+    b[p + 33] = (byte) (v[o + 6] >>> 29 & 0xFF);
+    b[p + 34] = (byte) (v[o + 6] >>> 21 & 0xFF);
+    b[p + 35] = (byte) (v[o + 6] >>> 13 & 0xFF);
+    b[p + 36] = (byte) (v[o + 6] >>> 5 & 0xFF);
+    b[p + 37] = (byte) (((v[o + 6] & 0x1F) << 3) | (v[o + 7] >>> 40));
+    b[p + 38] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 39] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 40] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 41] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 42] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack43(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 35)
+            | ((long) (b[p + 1] & 0xFF) << 27)
+            | ((b[p + 2] & 0xFF) << 19)
+            | ((b[p + 3] & 0xFF) << 11)
+            | ((b[p + 4] & 0xFF) << 3)
+            | ((b[p + 5] & 0xFF) >>> 5);
+    v[o + 1] =
+        ((long) (b[p + 5] & 0x1F) << 38)
+            | ((long) (b[p + 6] & 0xFF) << 30)
+            | ((b[p + 7] & 0xFF) << 22)
+            | ((b[p + 8] & 0xFF) << 14)
+            | ((b[p + 9] & 0xFF) << 6)
+            | ((b[p + 10] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((long) (b[p + 10] & 0x3) << 41)
+            | ((long) (b[p + 11] & 0xFF) << 33)
+            | ((long) (b[p + 12] & 0xFF) << 25)
+            | ((b[p + 13] & 0xFF) << 17)
+            | ((b[p + 14] & 0xFF) << 9)
+            | ((b[p + 15] & 0xFF) << 1)
+            | ((b[p + 16] & 0xFF) >>> 7);
+    v[o + 3] =
+        ((long) (b[p + 16] & 0x7F) << 36)
+            | ((long) (b[p + 17] & 0xFF) << 28)
+            | ((b[p + 18] & 0xFF) << 20)
+            | ((b[p + 19] & 0xFF) << 12)
+            | ((b[p + 20] & 0xFF) << 4)
+            | ((b[p + 21] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 21] & 0xF) << 39)
+            | ((long) (b[p + 22] & 0xFF) << 31)
+            | ((b[p + 23] & 0xFF) << 23)
+            | ((b[p + 24] & 0xFF) << 15)
+            | ((b[p + 25] & 0xFF) << 7)
+            | ((b[p + 26] & 0xFF) >>> 1);
+    v[o + 5] =
+        ((long) (b[p + 26] & 0x1) << 42)
+            | ((long) (b[p + 27] & 0xFF) << 34)
+            | ((long) (b[p + 28] & 0xFF) << 26)
+            | ((b[p + 29] & 0xFF) << 18)
+            | ((b[p + 30] & 0xFF) << 10)
+            | ((b[p + 31] & 0xFF) << 2)
+            | ((b[p + 32] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((long) (b[p + 32] & 0x3F) << 37)
+            | ((long) (b[p + 33] & 0xFF) << 29)
+            | ((b[p + 34] & 0xFF) << 21)
+            | ((b[p + 35] & 0xFF) << 13)
+            | ((b[p + 36] & 0xFF) << 5)
+            | ((b[p + 37] & 0xFF) >>> 3);
+    v[o + 7] =
+        ((long) (b[p + 37] & 0x7) << 40)
+            | ((long) (b[p + 38] & 0xFF) << 32)
+            | ((long) (b[p + 39] & 0xFF) << 24)
+            | ((b[p + 40] & 0xFF) << 16)
+            | ((b[p + 41] & 0xFF) << 8)
+            | (b[p + 42] & 0xFF);
+  }
+
+  private static void pack44(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 36);
+    b[p + 1] = (byte) (v[o] >>> 28 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 20 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 12 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 4 & 0xFF);
+    b[p + 5] = (byte) (((v[o] & 0xF) << 4) | (v[o + 1] >>> 40));
+    b[p + 6] = (byte) (v[o + 1] >>> 32 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 24 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] & 0xFF);
+    b[p + 11] = (byte) (v[o + 2] >>> 36);
+    b[p + 12] = (byte) (v[o + 2] >>> 28 & 0xFF);
+    b[p + 13] = (byte) (v[o + 2] >>> 20 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 12 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 4 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 2] & 0xF) << 4) | (v[o + 3] >>> 40));
+    b[p + 17] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 18] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 19] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 20] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 21] = (byte) (v[o + 3] & 0xFF);
+    b[p + 22] = (byte) (v[o + 4] >>> 36);
+    b[p + 23] = (byte) (v[o + 4] >>> 28 & 0xFF);
+    b[p + 24] = (byte) (v[o + 4] >>> 20 & 0xFF);
+    b[p + 25] = (byte) (v[o + 4] >>> 12 & 0xFF);
+    b[p + 26] = (byte) (v[o + 4] >>> 4 & 0xFF);
+    b[p + 27] = (byte) (((v[o + 4] & 0xF) << 4) | (v[o + 5] >>> 40));
+    b[p + 28] = (byte) (v[o + 5] >>> 32 & 0xFF);
+    b[p + 29] = (byte) (v[o + 5] >>> 24 & 0xFF);
+    b[p + 30] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 31] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 32] = (byte) (v[o + 5] & 0xFF);
+    b[p + 33] = (byte) (v[o + 6] >>> 36);
+    b[p + 34] = (byte) (v[o + 6] >>> 28 & 0xFF);
+    b[p + 35] = (byte) (v[o + 6] >>> 20 & 0xFF);
+    b[p + 36] = (byte) (v[o + 6] >>> 12 & 0xFF);
+    b[p + 37] = (byte) (v[o + 6] >>> 4 & 0xFF);
+    b[p + 38] = (byte) (((v[o + 6] & 0xF) << 4) | (v[o + 7] >>> 40));
+    b[p + 39] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 40] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 41] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 42] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 43] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack44(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 36)
+            | ((long) (b[p + 1] & 0xFF) << 28)
+            | ((b[p + 2] & 0xFF) << 20)
+            | ((b[p + 3] & 0xFF) << 12)
+            | ((b[p + 4] & 0xFF) << 4)
+            | ((b[p + 5] & 0xFF) >>> 4);
+    v[o + 1] =
+        ((long) (b[p + 5] & 0xF) << 40)
+            | ((long) (b[p + 6] & 0xFF) << 32)
+            | ((long) (b[p + 7] & 0xFF) << 24)
+            | ((b[p + 8] & 0xFF) << 16)
+            | ((b[p + 9] & 0xFF) << 8)
+            | (b[p + 10] & 0xFF);
+    v[o + 2] =
+        ((long) (b[p + 11] & 0xFF) << 36)
+            | ((long) (b[p + 12] & 0xFF) << 28)
+            | ((b[p + 13] & 0xFF) << 20)
+            | ((b[p + 14] & 0xFF) << 12)
+            | ((b[p + 15] & 0xFF) << 4)
+            | ((b[p + 16] & 0xFF) >>> 4);
+    v[o + 3] =
+        ((long) (b[p + 16] & 0xF) << 40)
+            | ((long) (b[p + 17] & 0xFF) << 32)
+            | ((long) (b[p + 18] & 0xFF) << 24)
+            | ((b[p + 19] & 0xFF) << 16)
+            | ((b[p + 20] & 0xFF) << 8)
+            | (b[p + 21] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 22] & 0xFF) << 36)
+            | ((long) (b[p + 23] & 0xFF) << 28)
+            | ((b[p + 24] & 0xFF) << 20)
+            | ((b[p + 25] & 0xFF) << 12)
+            | ((b[p + 26] & 0xFF) << 4)
+            | ((b[p + 27] & 0xFF) >>> 4);
+    v[o + 5] =
+        ((long) (b[p + 27] & 0xF) << 40)
+            | ((long) (b[p + 28] & 0xFF) << 32)
+            | ((long) (b[p + 29] & 0xFF) << 24)
+            | ((b[p + 30] & 0xFF) << 16)
+            | ((b[p + 31] & 0xFF) << 8)
+            | (b[p + 32] & 0xFF);
+    v[o + 6] =
+        ((long) (b[p + 33] & 0xFF) << 36)
+            | ((long) (b[p + 34] & 0xFF) << 28)
+            | ((b[p + 35] & 0xFF) << 20)
+            | ((b[p + 36] & 0xFF) << 12)
+            | ((b[p + 37] & 0xFF) << 4)
+            | ((b[p + 38] & 0xFF) >>> 4);
+    v[o + 7] =
+        ((long) (b[p + 38] & 0xF) << 40)
+            | ((long) (b[p + 39] & 0xFF) << 32)
+            | ((long) (b[p + 40] & 0xFF) << 24)
+            | ((b[p + 41] & 0xFF) << 16)
+            | ((b[p + 42] & 0xFF) << 8)
+            | (b[p + 43] & 0xFF);
+  }
+
+  private static void pack45(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 37);
+    b[p + 1] = (byte) (v[o] >>> 29 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 21 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 13 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 5 & 0xFF);
+    b[p + 5] = (byte) (((v[o] & 0x1F) << 3) | (v[o + 1] >>> 42));
+    b[p + 6] = (byte) (v[o + 1] >>> 34 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 26 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 18 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 39));
+    b[p + 12] = (byte) (v[o + 2] >>> 31 & 0xFF);
+    b[p + 13] = (byte) (v[o + 2] >>> 23 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 15 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 7 & 0xFF);
+    b[p + 16] = (byte) (((v[o + 2] & 0x7F) << 1) | (v[o + 3] >>> 44));
+    b[p + 17] = (byte) (v[o + 3] >>> 36 & 0xFF);
+    b[p + 18] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 19] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 20] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 21] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 22] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 41));
+    b[p + 23] = (byte) (v[o + 4] >>> 33 & 0xFF);
+    b[p + 24] = (byte) (v[o + 4] >>> 25 & 0xFF);
+    b[p + 25] = (byte) (v[o + 4] >>> 17 & 0xFF);
+    b[p + 26] = (byte) (v[o + 4] >>> 9 & 0xFF);
+    b[p + 27] = (byte) (v[o + 4] >>> 1 & 0xFF);
+    b[p + 28] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] >>> 38));
+    b[p + 29] = (byte) (v[o + 5] >>> 30 & 0xFF);
+    b[p + 30] = (byte) (v[o + 5] >>> 22 & 0xFF);
+    b[p + 31] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 32] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 33] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 43));
+    b[p + 34] = (byte) (v[o + 6] >>> 35 & 0xFF);
+    b[p + 35] = (byte) (v[o + 6] >>> 27 & 0xFF);
+    b[p + 36] = (byte) (v[o + 6] >>> 19 & 0xFF);
+    b[p + 37] = (byte) (v[o + 6] >>> 11 & 0xFF);
+    b[p + 38] = (byte) (v[o + 6] >>> 3 & 0xFF);
+    b[p + 39] = (byte) (((v[o + 6] & 0x7) << 5) | (v[o + 7] >>> 40));
+    b[p + 40] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 41] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 42] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 43] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 44] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack45(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 37)
+            | ((long) (b[p + 1] & 0xFF) << 29)
+            | ((b[p + 2] & 0xFF) << 21)
+            | ((b[p + 3] & 0xFF) << 13)
+            | ((b[p + 4] & 0xFF) << 5)
+            | ((b[p + 5] & 0xFF) >>> 3);
+    v[o + 1] =
+        ((long) (b[p + 5] & 0x7) << 42)
+            | ((long) (b[p + 6] & 0xFF) << 34)
+            | ((long) (b[p + 7] & 0xFF) << 26)
+            | ((b[p + 8] & 0xFF) << 18)
+            | ((b[p + 9] & 0xFF) << 10)
+            | ((b[p + 10] & 0xFF) << 2)
+            | ((b[p + 11] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((long) (b[p + 11] & 0x3F) << 39)
+            | ((long) (b[p + 12] & 0xFF) << 31)
+            | ((b[p + 13] & 0xFF) << 23)
+            | ((b[p + 14] & 0xFF) << 15)
+            | ((b[p + 15] & 0xFF) << 7)
+            | ((b[p + 16] & 0xFF) >>> 1);
+    v[o + 3] =
+        ((long) (b[p + 16] & 0x1) << 44)
+            | ((long) (b[p + 17] & 0xFF) << 36)
+            | ((long) (b[p + 18] & 0xFF) << 28)
+            | ((b[p + 19] & 0xFF) << 20)
+            | ((b[p + 20] & 0xFF) << 12)
+            | ((b[p + 21] & 0xFF) << 4)
+            | ((b[p + 22] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 22] & 0xF) << 41)
+            | ((long) (b[p + 23] & 0xFF) << 33)
+            | ((long) (b[p + 24] & 0xFF) << 25)
+            | ((b[p + 25] & 0xFF) << 17)
+            | ((b[p + 26] & 0xFF) << 9)
+            | ((b[p + 27] & 0xFF) << 1)
+            | ((b[p + 28] & 0xFF) >>> 7);
+    v[o + 5] =
+        ((long) (b[p + 28] & 0x7F) << 38)
+            | ((long) (b[p + 29] & 0xFF) << 30)
+            | ((b[p + 30] & 0xFF) << 22)
+            | ((b[p + 31] & 0xFF) << 14)
+            | ((b[p + 32] & 0xFF) << 6)
+            | ((b[p + 33] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((long) (b[p + 33] & 0x3) << 43)
+            | ((long) (b[p + 34] & 0xFF) << 35)
+            | ((long) (b[p + 35] & 0xFF) << 27)
+            | ((b[p + 36] & 0xFF) << 19)
+            | ((b[p + 37] & 0xFF) << 11)
+            | ((b[p + 38] & 0xFF) << 3)
+            | ((b[p + 39] & 0xFF) >>> 5);
+    v[o + 7] =
+        ((long) (b[p + 39] & 0x1F) << 40)
+            | ((long) (b[p + 40] & 0xFF) << 32)
+            | ((long) (b[p + 41] & 0xFF) << 24)
+            | ((b[p + 42] & 0xFF) << 16)
+            | ((b[p + 43] & 0xFF) << 8)
+            | (b[p + 44] & 0xFF);
+  }
+
+  private static void pack46(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 38);
+    b[p + 1] = (byte) (v[o] >>> 30 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 22 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 14 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 6 & 0xFF);
+    b[p + 5] = (byte) (((v[o] & 0x3F) << 2) | (v[o + 1] >>> 44));
+    b[p + 6] = (byte) (v[o + 1] >>> 36 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 28 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 20 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 42));
+    b[p + 12] = (byte) (v[o + 2] >>> 34 & 0xFF);
+    b[p + 13] = (byte) (v[o + 2] >>> 26 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 18 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 10 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 2 & 0xFF);
+    b[p + 17] = (byte) (((v[o + 2] & 0x3) << 6) | (v[o + 3] >>> 40));
+    b[p + 18] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 19] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 20] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 21] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 22] = (byte) (v[o + 3] & 0xFF);
+    b[p + 23] = (byte) (v[o + 4] >>> 38);
+    b[p + 24] = (byte) (v[o + 4] >>> 30 & 0xFF);
+    b[p + 25] = (byte) (v[o + 4] >>> 22 & 0xFF);
+    b[p + 26] = (byte) (v[o + 4] >>> 14 & 0xFF);
+    b[p + 27] = (byte) (v[o + 4] >>> 6 & 0xFF);
+    b[p + 28] = (byte) (((v[o + 4] & 0x3F) << 2) | (v[o + 5] >>> 44));
+    b[p + 29] = (byte) (v[o + 5] >>> 36 & 0xFF);
+    b[p + 30] = (byte) (v[o + 5] >>> 28 & 0xFF);
+    b[p + 31] = (byte) (v[o + 5] >>> 20 & 0xFF);
+    b[p + 32] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 33] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 34] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 42));
+    b[p + 35] = (byte) (v[o + 6] >>> 34 & 0xFF);
+    b[p + 36] = (byte) (v[o + 6] >>> 26 & 0xFF);
+    b[p + 37] = (byte) (v[o + 6] >>> 18 & 0xFF);
+    b[p + 38] = (byte) (v[o + 6] >>> 10 & 0xFF);
+    b[p + 39] = (byte) (v[o + 6] >>> 2 & 0xFF);
+    b[p + 40] = (byte) (((v[o + 6] & 0x3) << 6) | (v[o + 7] >>> 40));
+    b[p + 41] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 42] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 43] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 44] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 45] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack46(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 38)
+            | ((long) (b[p + 1] & 0xFF) << 30)
+            | ((b[p + 2] & 0xFF) << 22)
+            | ((b[p + 3] & 0xFF) << 14)
+            | ((b[p + 4] & 0xFF) << 6)
+            | ((b[p + 5] & 0xFF) >>> 2);
+    v[o + 1] =
+        ((long) (b[p + 5] & 0x3) << 44)
+            | ((long) (b[p + 6] & 0xFF) << 36)
+            | ((long) (b[p + 7] & 0xFF) << 28)
+            | ((b[p + 8] & 0xFF) << 20)
+            | ((b[p + 9] & 0xFF) << 12)
+            | ((b[p + 10] & 0xFF) << 4)
+            | ((b[p + 11] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((long) (b[p + 11] & 0xF) << 42)
+            | ((long) (b[p + 12] & 0xFF) << 34)
+            | ((long) (b[p + 13] & 0xFF) << 26)
+            | ((b[p + 14] & 0xFF) << 18)
+            | ((b[p + 15] & 0xFF) << 10)
+            | ((b[p + 16] & 0xFF) << 2)
+            | ((b[p + 17] & 0xFF) >>> 6);
+    v[o + 3] =
+        ((long) (b[p + 17] & 0x3F) << 40)
+            | ((long) (b[p + 18] & 0xFF) << 32)
+            | ((long) (b[p + 19] & 0xFF) << 24)
+            | ((b[p + 20] & 0xFF) << 16)
+            | ((b[p + 21] & 0xFF) << 8)
+            | (b[p + 22] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 23] & 0xFF) << 38)
+            | ((long) (b[p + 24] & 0xFF) << 30)
+            | ((b[p + 25] & 0xFF) << 22)
+            | ((b[p + 26] & 0xFF) << 14)
+            | ((b[p + 27] & 0xFF) << 6)
+            | ((b[p + 28] & 0xFF) >>> 2);
+    v[o + 5] =
+        ((long) (b[p + 28] & 0x3) << 44)
+            | ((long) (b[p + 29] & 0xFF) << 36)
+            | ((long) (b[p + 30] & 0xFF) << 28)
+            | ((b[p + 31] & 0xFF) << 20)
+            | ((b[p + 32] & 0xFF) << 12)
+            | ((b[p + 33] & 0xFF) << 4)
+            | ((b[p + 34] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((long) (b[p + 34] & 0xF) << 42)
+            | ((long) (b[p + 35] & 0xFF) << 34)
+            | ((long) (b[p + 36] & 0xFF) << 26)
+            | ((b[p + 37] & 0xFF) << 18)
+            | ((b[p + 38] & 0xFF) << 10)
+            | ((b[p + 39] & 0xFF) << 2)
+            | ((b[p + 40] & 0xFF) >>> 6);
+    v[o + 7] =
+        ((long) (b[p + 40] & 0x3F) << 40)
+            | ((long) (b[p + 41] & 0xFF) << 32)
+            | ((long) (b[p + 42] & 0xFF) << 24)
+            | ((b[p + 43] & 0xFF) << 16)
+            | ((b[p + 44] & 0xFF) << 8)
+            | (b[p + 45] & 0xFF);
+  }
+
+  private static void pack47(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 39);
+    b[p + 1] = (byte) (v[o] >>> 31 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 23 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 15 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 7 & 0xFF);
+    b[p + 5] = (byte) (((v[o] & 0x7F) << 1) | (v[o + 1] >>> 46));
+    b[p + 6] = (byte) (v[o + 1] >>> 38 & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 30 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 22 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 11] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 45));
+    b[p + 12] = (byte) (v[o + 2] >>> 37 & 0xFF);
+    b[p + 13] = (byte) (v[o + 2] >>> 29 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 21 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 13 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 5 & 0xFF);
+    b[p + 17] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 44));
+    b[p + 18] = (byte) (v[o + 3] >>> 36 & 0xFF);
+    b[p + 19] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 20] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 21] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 22] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 23] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 43));
+    b[p + 24] = (byte) (v[o + 4] >>> 35 & 0xFF);
+    b[p + 25] = (byte) (v[o + 4] >>> 27 & 0xFF);
+    b[p + 26] = (byte) (v[o + 4] >>> 19 & 0xFF);
+    b[p + 27] = (byte) (v[o + 4] >>> 11 & 0xFF);
+    b[p + 28] = (byte) (v[o + 4] >>> 3 & 0xFF);
+    b[p + 29] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 42));
+    b[p + 30] = (byte) (v[o + 5] >>> 34 & 0xFF);
+    b[p + 31] = (byte) (v[o + 5] >>> 26 & 0xFF);
+    b[p + 32] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 33] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 34] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 35] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 41));
+    b[p + 36] = (byte) (v[o + 6] >>> 33 & 0xFF);
+    b[p + 37] = (byte) (v[o + 6] >>> 25 & 0xFF);
+    b[p + 38] = (byte) (v[o + 6] >>> 17 & 0xFF);
+    b[p + 39] = (byte) (v[o + 6] >>> 9 & 0xFF);
+    b[p + 40] = (byte) (v[o + 6] >>> 1 & 0xFF);
+    b[p + 41] = (byte) (((v[o + 6] & 0x1) << 7) | (v[o + 7] >>> 40));
+    b[p + 42] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 43] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 44] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 45] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 46] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack47(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 39)
+            | ((long) (b[p + 1] & 0xFF) << 31)
+            | ((b[p + 2] & 0xFF) << 23)
+            | ((b[p + 3] & 0xFF) << 15)
+            | ((b[p + 4] & 0xFF) << 7)
+            | ((b[p + 5] & 0xFF) >>> 1);
+    v[o + 1] =
+        ((long) (b[p + 5] & 0x1) << 46)
+            | ((long) (b[p + 6] & 0xFF) << 38)
+            | ((long) (b[p + 7] & 0xFF) << 30)
+            | ((b[p + 8] & 0xFF) << 22)
+            | ((b[p + 9] & 0xFF) << 14)
+            | ((b[p + 10] & 0xFF) << 6)
+            | ((b[p + 11] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((long) (b[p + 11] & 0x3) << 45)
+            | ((long) (b[p + 12] & 0xFF) << 37)
+            | ((long) (b[p + 13] & 0xFF) << 29)
+            | ((b[p + 14] & 0xFF) << 21)
+            | ((b[p + 15] & 0xFF) << 13)
+            | ((b[p + 16] & 0xFF) << 5)
+            | ((b[p + 17] & 0xFF) >>> 3);
+    v[o + 3] =
+        ((long) (b[p + 17] & 0x7) << 44)
+            | ((long) (b[p + 18] & 0xFF) << 36)
+            | ((long) (b[p + 19] & 0xFF) << 28)
+            | ((b[p + 20] & 0xFF) << 20)
+            | ((b[p + 21] & 0xFF) << 12)
+            | ((b[p + 22] & 0xFF) << 4)
+            | ((b[p + 23] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 23] & 0xF) << 43)
+            | ((long) (b[p + 24] & 0xFF) << 35)
+            | ((long) (b[p + 25] & 0xFF) << 27)
+            | ((b[p + 26] & 0xFF) << 19)
+            | ((b[p + 27] & 0xFF) << 11)
+            | ((b[p + 28] & 0xFF) << 3)
+            | ((b[p + 29] & 0xFF) >>> 5);
+    v[o + 5] =
+        ((long) (b[p + 29] & 0x1F) << 42)
+            | ((long) (b[p + 30] & 0xFF) << 34)
+            | ((long) (b[p + 31] & 0xFF) << 26)
+            | ((b[p + 32] & 0xFF) << 18)
+            | ((b[p + 33] & 0xFF) << 10)
+            | ((b[p + 34] & 0xFF) << 2)
+            | ((b[p + 35] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((long) (b[p + 35] & 0x3F) << 41)
+            | ((long) (b[p + 36] & 0xFF) << 33)
+            | ((long) (b[p + 37] & 0xFF) << 25)
+            | ((b[p + 38] & 0xFF) << 17)
+            | ((b[p + 39] & 0xFF) << 9)
+            | ((b[p + 40] & 0xFF) << 1)
+            | ((b[p + 41] & 0xFF) >>> 7);
+    v[o + 7] =
+        ((long) (b[p + 41] & 0x7F) << 40)
+            | ((long) (b[p + 42] & 0xFF) << 32)
+            | ((long) (b[p + 43] & 0xFF) << 24)
+            | ((b[p + 44] & 0xFF) << 16)
+            | ((b[p + 45] & 0xFF) << 8)
+            | (b[p + 46] & 0xFF);
+  }
+
+  private static void pack48(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 40);
+    b[p + 1] = (byte) (v[o] >>> 32 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 24 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 16 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 8 & 0xFF);
+    b[p + 5] = (byte) (v[o] & 0xFF);
+    b[p + 6] = (byte) (v[o + 1] >>> 40);
+    b[p + 7] = (byte) (v[o + 1] >>> 32 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 24 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] & 0xFF);
+    b[p + 12] = (byte) (v[o + 2] >>> 40);
+    b[p + 13] = (byte) (v[o + 2] >>> 32 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 24 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 16 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 8 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] & 0xFF);
+    b[p + 18] = (byte) (v[o + 3] >>> 40);
+    b[p + 19] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 20] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 21] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 22] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 23] = (byte) (v[o + 3] & 0xFF);
+    b[p + 24] = (byte) (v[o + 4] >>> 40);
+    b[p + 25] = (byte) (v[o + 4] >>> 32 & 0xFF);
+    b[p + 26] = (byte) (v[o + 4] >>> 24 & 0xFF);
+    b[p + 27] = (byte) (v[o + 4] >>> 16 & 0xFF);
+    b[p + 28] = (byte) (v[o + 4] >>> 8 & 0xFF);
+    b[p + 29] = (byte) (v[o + 4] & 0xFF);
+    b[p + 30] = (byte) (v[o + 5] >>> 40);
+    b[p + 31] = (byte) (v[o + 5] >>> 32 & 0xFF);
+    b[p + 32] = (byte) (v[o + 5] >>> 24 & 0xFF);
+    b[p + 33] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 34] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 35] = (byte) (v[o + 5] & 0xFF);
+    b[p + 36] = (byte) (v[o + 6] >>> 40);
+    b[p + 37] = (byte) (v[o + 6] >>> 32 & 0xFF);
+    b[p + 38] = (byte) (v[o + 6] >>> 24 & 0xFF);
+    b[p + 39] = (byte) (v[o + 6] >>> 16 & 0xFF);
+    b[p + 40] = (byte) (v[o + 6] >>> 8 & 0xFF);
+    b[p + 41] = (byte) (v[o + 6] & 0xFF);
+    b[p + 42] = (byte) (v[o + 7] >>> 40);
+    b[p + 43] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 44] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 45] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 46] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 47] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack48(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 40)
+            | ((long) (b[p + 1] & 0xFF) << 32)
+            | ((long) (b[p + 2] & 0xFF) << 24)
+            | ((b[p + 3] & 0xFF) << 16)
+            | ((b[p + 4] & 0xFF) << 8)
+            | (b[p + 5] & 0xFF);
+    v[o + 1] =
+        ((long) (b[p + 6] & 0xFF) << 40)
+            | ((long) (b[p + 7] & 0xFF) << 32)
+            | ((long) (b[p + 8] & 0xFF) << 24)
+            | ((b[p + 9] & 0xFF) << 16)
+            | ((b[p + 10] & 0xFF) << 8)
+            | (b[p + 11] & 0xFF);
+    v[o + 2] =
+        ((long) (b[p + 12] & 0xFF) << 40)
+            | ((long) (b[p + 13] & 0xFF) << 32)
+            | ((long) (b[p + 14] & 0xFF) << 24)
+            | ((b[p + 15] & 0xFF) << 16)
+            | ((b[p + 16] & 0xFF) << 8)
+            | (b[p + 17] & 0xFF);
+    v[o + 3] =
+        ((long) (b[p + 18] & 0xFF) << 40)
+            | ((long) (b[p + 19] & 0xFF) << 32)
+            | ((long) (b[p + 20] & 0xFF) << 24)
+            | ((b[p + 21] & 0xFF) << 16)
+            | ((b[p + 22] & 0xFF) << 8)
+            | (b[p + 23] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 24] & 0xFF) << 40)
+            | ((long) (b[p + 25] & 0xFF) << 32)
+            | ((long) (b[p + 26] & 0xFF) << 24)
+            | ((b[p + 27] & 0xFF) << 16)
+            | ((b[p + 28] & 0xFF) << 8)
+            | (b[p + 29] & 0xFF);
+    v[o + 5] =
+        ((long) (b[p + 30] & 0xFF) << 40)
+            | ((long) (b[p + 31] & 0xFF) << 32)
+            | ((long) (b[p + 32] & 0xFF) << 24)
+            | ((b[p + 33] & 0xFF) << 16)
+            | ((b[p + 34] & 0xFF) << 8)
+            | (b[p + 35] & 0xFF);
+    v[o + 6] =
+        ((long) (b[p + 36] & 0xFF) << 40)
+            | ((long) (b[p + 37] & 0xFF) << 32)
+            | ((long) (b[p + 38] & 0xFF) << 24)
+            | ((b[p + 39] & 0xFF) << 16)
+            | ((b[p + 40] & 0xFF) << 8)
+            | (b[p + 41] & 0xFF);
+    v[o + 7] =
+        ((long) (b[p + 42] & 0xFF) << 40)
+            | ((long) (b[p + 43] & 0xFF) << 32)
+            | ((long) (b[p + 44] & 0xFF) << 24)
+            | ((b[p + 45] & 0xFF) << 16)
+            | ((b[p + 46] & 0xFF) << 8)
+            | (b[p + 47] & 0xFF);
+  }
+
+  private static void pack49(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 41);
+    b[p + 1] = (byte) (v[o] >>> 33 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 25 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 17 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 9 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 1 & 0xFF);
+    b[p + 6] = (byte) (((v[o] & 0x1) << 7) | (v[o + 1] >>> 42));
+    b[p + 7] = (byte) (v[o + 1] >>> 34 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 26 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 18 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 43));
+    b[p + 13] = (byte) (v[o + 2] >>> 35 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 27 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 19 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 11 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 3 & 0xFF);
+    b[p + 18] = (byte) (((v[o + 2] & 0x7) << 5) | (v[o + 3] >>> 44));
+    b[p + 19] = (byte) (v[o + 3] >>> 36 & 0xFF);
+    b[p + 20] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 21] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 22] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 23] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 24] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 45));
+    b[p + 25] = (byte) (v[o + 4] >>> 37 & 0xFF);
+    b[p + 26] = (byte) (v[o + 4] >>> 29 & 0xFF);
+    b[p + 27] = (byte) (v[o + 4] >>> 21 & 0xFF);
+    b[p + 28] = (byte) (v[o + 4] >>> 13 & 0xFF);
+    b[p + 29] = (byte) (v[o + 4] >>> 5 & 0xFF);
+    b[p + 30] = (byte) (((v[o + 4] & 0x1F) << 3) | (v[o + 5] >>> 46));
+    b[p + 31] = (byte) (v[o + 5] >>> 38 & 0xFF);
+    b[p + 32] = (byte) (v[o + 5] >>> 30 & 0xFF);
+    b[p + 33] = (byte) (v[o + 5] >>> 22 & 0xFF);
+    b[p + 34] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 35] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 36] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 47));
+    b[p + 37] = (byte) (v[o + 6] >>> 39 & 0xFF);
+    b[p + 38] = (byte) (v[o + 6] >>> 31 & 0xFF);
+    b[p + 39] = (byte) (v[o + 6] >>> 23 & 0xFF);
+    b[p + 40] = (byte) (v[o + 6] >>> 15 & 0xFF);
+    b[p + 41] = (byte) (v[o + 6] >>> 7 & 0xFF);
+    b[p + 42] = (byte) (((v[o + 6] & 0x7F) << 1) | (v[o + 7] >>> 48));
+    b[p + 43] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 44] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 45] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 46] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 47] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 48] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack49(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 41)
+            | ((long) (b[p + 1] & 0xFF) << 33)
+            | ((long) (b[p + 2] & 0xFF) << 25)
+            | ((b[p + 3] & 0xFF) << 17)
+            | ((b[p + 4] & 0xFF) << 9)
+            | ((b[p + 5] & 0xFF) << 1)
+            | ((b[p + 6] & 0xFF) >>> 7);
+    v[o + 1] =
+        ((long) (b[p + 6] & 0x7F) << 42)
+            | ((long) (b[p + 7] & 0xFF) << 34)
+            | ((long) (b[p + 8] & 0xFF) << 26)
+            | ((b[p + 9] & 0xFF) << 18)
+            | ((b[p + 10] & 0xFF) << 10)
+            | ((b[p + 11] & 0xFF) << 2)
+            | ((b[p + 12] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((long) (b[p + 12] & 0x3F) << 43)
+            | ((long) (b[p + 13] & 0xFF) << 35)
+            | ((long) (b[p + 14] & 0xFF) << 27)
+            | ((b[p + 15] & 0xFF) << 19)
+            | ((b[p + 16] & 0xFF) << 11)
+            | ((b[p + 17] & 0xFF) << 3)
+            | ((b[p + 18] & 0xFF) >>> 5);
+    v[o + 3] =
+        ((long) (b[p + 18] & 0x1F) << 44)
+            | ((long) (b[p + 19] & 0xFF) << 36)
+            | ((long) (b[p + 20] & 0xFF) << 28)
+            | ((b[p + 21] & 0xFF) << 20)
+            | ((b[p + 22] & 0xFF) << 12)
+            | ((b[p + 23] & 0xFF) << 4)
+            | ((b[p + 24] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 24] & 0xF) << 45)
+            | ((long) (b[p + 25] & 0xFF) << 37)
+            | ((long) (b[p + 26] & 0xFF) << 29)
+            | ((b[p + 27] & 0xFF) << 21)
+            | ((b[p + 28] & 0xFF) << 13)
+            | ((b[p + 29] & 0xFF) << 5)
+            | ((b[p + 30] & 0xFF) >>> 3);
+    v[o + 5] =
+        ((long) (b[p + 30] & 0x7) << 46)
+            | ((long) (b[p + 31] & 0xFF) << 38)
+            | ((long) (b[p + 32] & 0xFF) << 30)
+            | ((b[p + 33] & 0xFF) << 22)
+            | ((b[p + 34] & 0xFF) << 14)
+            | ((b[p + 35] & 0xFF) << 6)
+            | ((b[p + 36] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((long) (b[p + 36] & 0x3) << 47)
+            | ((long) (b[p + 37] & 0xFF) << 39)
+            | ((long) (b[p + 38] & 0xFF) << 31)
+            | ((b[p + 39] & 0xFF) << 23)
+            | ((b[p + 40] & 0xFF) << 15)
+            | ((b[p + 41] & 0xFF) << 7)
+            | ((b[p + 42] & 0xFF) >>> 1);
+    v[o + 7] =
+        ((long) (b[p + 42] & 0x1) << 48)
+            | ((long) (b[p + 43] & 0xFF) << 40)
+            | ((long) (b[p + 44] & 0xFF) << 32)
+            | ((long) (b[p + 45] & 0xFF) << 24)
+            | ((b[p + 46] & 0xFF) << 16)
+            | ((b[p + 47] & 0xFF) << 8)
+            | (b[p + 48] & 0xFF);
+  }
+
+  private static void pack50(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 42);
+    b[p + 1] = (byte) (v[o] >>> 34 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 26 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 18 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 10 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 2 & 0xFF);
+    b[p + 6] = (byte) (((v[o] & 0x3) << 6) | (v[o + 1] >>> 44));
+    b[p + 7] = (byte) (v[o + 1] >>> 36 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 28 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 20 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 46));
+    b[p + 13] = (byte) (v[o + 2] >>> 38 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 30 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 22 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 14 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 6 & 0xFF);
+    b[p + 18] = (byte) (((v[o + 2] & 0x3F) << 2) | (v[o + 3] >>> 48));
+    b[p + 19] = (byte) (v[o + 3] >>> 40 & 0xFF);
+    b[p + 20] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 21] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 22] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 23] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] & 0xFF);
+    b[p + 25] = (byte) (v[o + 4] >>> 42);
+    b[p + 26] = (byte) (v[o + 4] >>> 34 & 0xFF);
+    b[p + 27] = (byte) (v[o + 4] >>> 26 & 0xFF);
+    b[p + 28] = (byte) (v[o + 4] >>> 18 & 0xFF);
+    b[p + 29] = (byte) (v[o + 4] >>> 10 & 0xFF);
+    b[p + 30] = (byte) (v[o + 4] >>> 2 & 0xFF);
+    b[p + 31] = (byte) (((v[o + 4] & 0x3) << 6) | (v[o + 5] >>> 44));
+    b[p + 32] = (byte) (v[o + 5] >>> 36 & 0xFF);
+    b[p + 33] = (byte) (v[o + 5] >>> 28 & 0xFF);
+    b[p + 34] = (byte) (v[o + 5] >>> 20 & 0xFF);
+    b[p + 35] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 36] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 37] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 46));
+    b[p + 38] = (byte) (v[o + 6] >>> 38 & 0xFF);
+    b[p + 39] = (byte) (v[o + 6] >>> 30 & 0xFF);
+    b[p + 40] = (byte) (v[o + 6] >>> 22 & 0xFF);
+    b[p + 41] = (byte) (v[o + 6] >>> 14 & 0xFF);
+    b[p + 42] = (byte) (v[o + 6] >>> 6 & 0xFF);
+    b[p + 43] = (byte) (((v[o + 6] & 0x3F) << 2) | (v[o + 7] >>> 48));
+    b[p + 44] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 45] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 46] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 47] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 48] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 49] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack50(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 42)
+            | ((long) (b[p + 1] & 0xFF) << 34)
+            | ((long) (b[p + 2] & 0xFF) << 26)
+            | ((b[p + 3] & 0xFF) << 18)
+            | ((b[p + 4] & 0xFF) << 10)
+            | ((b[p + 5] & 0xFF) << 2)
+            | ((b[p + 6] & 0xFF) >>> 6);
+    v[o + 1] =
+        ((long) (b[p + 6] & 0x3F) << 44)
+            | ((long) (b[p + 7] & 0xFF) << 36)
+            | ((long) (b[p + 8] & 0xFF) << 28)
+            | ((b[p + 9] & 0xFF) << 20)
+            | ((b[p + 10] & 0xFF) << 12)
+            | ((b[p + 11] & 0xFF) << 4)
+            | ((b[p + 12] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((long) (b[p + 12] & 0xF) << 46)
+            | ((long) (b[p + 13] & 0xFF) << 38)
+            | ((long) (b[p + 14] & 0xFF) << 30)
+            | ((b[p + 15] & 0xFF) << 22)
+            | ((b[p + 16] & 0xFF) << 14)
+            | ((b[p + 17] & 0xFF) << 6)
+            | ((b[p + 18] & 0xFF) >>> 2);
+    v[o + 3] =
+        ((long) (b[p + 18] & 0x3) << 48)
+            | ((long) (b[p + 19] & 0xFF) << 40)
+            | ((long) (b[p + 20] & 0xFF) << 32)
+            | ((long) (b[p + 21] & 0xFF) << 24)
+            | ((b[p + 22] & 0xFF) << 16)
+            | ((b[p + 23] & 0xFF) << 8)
+            | (b[p + 24] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 25] & 0xFF) << 42)
+            | ((long) (b[p + 26] & 0xFF) << 34)
+            | ((long) (b[p + 27] & 0xFF) << 26)
+            | ((b[p + 28] & 0xFF) << 18)
+            | ((b[p + 29] & 0xFF) << 10)
+            | ((b[p + 30] & 0xFF) << 2)
+            | ((b[p + 31] & 0xFF) >>> 6);
+    v[o + 5] =
+        ((long) (b[p + 31] & 0x3F) << 44)
+            | ((long) (b[p + 32] & 0xFF) << 36)
+            | ((long) (b[p + 33] & 0xFF) << 28)
+            | ((b[p + 34] & 0xFF) << 20)
+            | ((b[p + 35] & 0xFF) << 12)
+            | ((b[p + 36] & 0xFF) << 4)
+            | ((b[p + 37] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((long) (b[p + 37] & 0xF) << 46)
+            | ((long) (b[p + 38] & 0xFF) << 38)
+            | ((long) (b[p + 39] & 0xFF) << 30)
+            | ((b[p + 40] & 0xFF) << 22)
+            | ((b[p + 41] & 0xFF) << 14)
+            | ((b[p + 42] & 0xFF) << 6)
+            | ((b[p + 43] & 0xFF) >>> 2);
+    v[o + 7] =
+        ((long) (b[p + 43] & 0x3) << 48)
+            | ((long) (b[p + 44] & 0xFF) << 40)
+            | ((long) (b[p + 45] & 0xFF) << 32)
+            | ((long) (b[p + 46] & 0xFF) << 24)
+            | ((b[p + 47] & 0xFF) << 16)
+            | ((b[p + 48] & 0xFF) << 8)
+            | (b[p + 49] & 0xFF);
+  }
+
+  private static void pack51(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 43);
+    b[p + 1] = (byte) (v[o] >>> 35 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 27 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 19 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 11 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 3 & 0xFF);
+    b[p + 6] = (byte) (((v[o] & 0x7) << 5) | (v[o + 1] >>> 46));
+    b[p + 7] = (byte) (v[o + 1] >>> 38 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 30 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 22 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 12] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 49));
+    b[p + 13] = (byte) (v[o + 2] >>> 41 & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 33 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 25 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 17 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 9 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 1 & 0xFF);
+    b[p + 19] = (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] >>> 44));
+    b[p + 20] = (byte) (v[o + 3] >>> 36 & 0xFF);
+    b[p + 21] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 22] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 23] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 25] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 47));
+    b[p + 26] = (byte) (v[o + 4] >>> 39 & 0xFF);
+    b[p + 27] = (byte) (v[o + 4] >>> 31 & 0xFF);
+    b[p + 28] = (byte) (v[o + 4] >>> 23 & 0xFF);
+    b[p + 29] = (byte) (v[o + 4] >>> 15 & 0xFF);
+    b[p + 30] = (byte) (v[o + 4] >>> 7 & 0xFF);
+    b[p + 31] = (byte) (((v[o + 4] & 0x7F) << 1) | (v[o + 5] >>> 50));
+    b[p + 32] = (byte) (v[o + 5] >>> 42 & 0xFF);
+    b[p + 33] = (byte) (v[o + 5] >>> 34 & 0xFF);
+    b[p + 34] = (byte) (v[o + 5] >>> 26 & 0xFF);
+    b[p + 35] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 36] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 37] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 38] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 45));
+    b[p + 39] = (byte) (v[o + 6] >>> 37 & 0xFF);
+    b[p + 40] = (byte) (v[o + 6] >>> 29 & 0xFF);
+    b[p + 41] = (byte) (v[o + 6] >>> 21 & 0xFF);
+    b[p + 42] = (byte) (v[o + 6] >>> 13 & 0xFF);
+    b[p + 43] = (byte) (v[o + 6] >>> 5 & 0xFF);
+    b[p + 44] = (byte) (((v[o + 6] & 0x1F) << 3) | (v[o + 7] >>> 48));
+    b[p + 45] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 46] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 47] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 48] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 49] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 50] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack51(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 43)
+            | ((long) (b[p + 1] & 0xFF) << 35)
+            | ((long) (b[p + 2] & 0xFF) << 27)
+            | ((b[p + 3] & 0xFF) << 19)
+            | ((b[p + 4] & 0xFF) << 11)
+            | ((b[p + 5] & 0xFF) << 3)
+            | ((b[p + 6] & 0xFF) >>> 5);
+    v[o + 1] =
+        ((long) (b[p + 6] & 0x1F) << 46)
+            | ((long) (b[p + 7] & 0xFF) << 38)
+            | ((long) (b[p + 8] & 0xFF) << 30)
+            | ((b[p + 9] & 0xFF) << 22)
+            | ((b[p + 10] & 0xFF) << 14)
+            | ((b[p + 11] & 0xFF) << 6)
+            | ((b[p + 12] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((long) (b[p + 12] & 0x3) << 49)
+            | ((long) (b[p + 13] & 0xFF) << 41)
+            | ((long) (b[p + 14] & 0xFF) << 33)
+            | ((long) (b[p + 15] & 0xFF) << 25)
+            | ((b[p + 16] & 0xFF) << 17)
+            | ((b[p + 17] & 0xFF) << 9)
+            | ((b[p + 18] & 0xFF) << 1)
+            | ((b[p + 19] & 0xFF) >>> 7);
+    v[o + 3] =
+        ((long) (b[p + 19] & 0x7F) << 44)
+            | ((long) (b[p + 20] & 0xFF) << 36)
+            | ((long) (b[p + 21] & 0xFF) << 28)
+            | ((b[p + 22] & 0xFF) << 20)
+            | ((b[p + 23] & 0xFF) << 12)
+            | ((b[p + 24] & 0xFF) << 4)
+            | ((b[p + 25] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 25] & 0xF) << 47)
+            | ((long) (b[p + 26] & 0xFF) << 39)
+            | ((long) (b[p + 27] & 0xFF) << 31)
+            | ((b[p + 28] & 0xFF) << 23)
+            | ((b[p + 29] & 0xFF) << 15)
+            | ((b[p + 30] & 0xFF) << 7)
+            | ((b[p + 31] & 0xFF) >>> 1);
+    v[o + 5] =
+        ((long) (b[p + 31] & 0x1) << 50)
+            | ((long) (b[p + 32] & 0xFF) << 42)
+            | ((long) (b[p + 33] & 0xFF) << 34)
+            | ((long) (b[p + 34] & 0xFF) << 26)
+            | ((b[p + 35] & 0xFF) << 18)
+            | ((b[p + 36] & 0xFF) << 10)
+            | ((b[p + 37] & 0xFF) << 2)
+            | ((b[p + 38] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((long) (b[p + 38] & 0x3F) << 45)
+            | ((long) (b[p + 39] & 0xFF) << 37)
+            | ((long) (b[p + 40] & 0xFF) << 29)
+            | ((b[p + 41] & 0xFF) << 21)
+            | ((b[p + 42] & 0xFF) << 13)
+            | ((b[p + 43] & 0xFF) << 5)
+            | ((b[p + 44] & 0xFF) >>> 3);
+    v[o + 7] =
+        ((long) (b[p + 44] & 0x7) << 48)
+            | ((long) (b[p + 45] & 0xFF) << 40)
+            | ((long) (b[p + 46] & 0xFF) << 32)
+            | ((long) (b[p + 47] & 0xFF) << 24)
+            | ((b[p + 48] & 0xFF) << 16)
+            | ((b[p + 49] & 0xFF) << 8)
+            | (b[p + 50] & 0xFF);
+  }
+
+  private static void pack52(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 44);
+    b[p + 1] = (byte) (v[o] >>> 36 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 28 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 20 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 12 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 4 & 0xFF);
+    b[p + 6] = (byte) (((v[o] & 0xF) << 4) | (v[o + 1] >>> 48));
+    b[p + 7] = (byte) (v[o + 1] >>> 40 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 32 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 24 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] & 0xFF);
+    b[p + 13] = (byte) (v[o + 2] >>> 44);
+    b[p + 14] = (byte) (v[o + 2] >>> 36 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 28 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 20 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 12 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 4 & 0xFF);
+    b[p + 19] = (byte) (((v[o + 2] & 0xF) << 4) | (v[o + 3] >>> 48));
+    b[p + 20] = (byte) (v[o + 3] >>> 40 & 0xFF);
+    b[p + 21] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 22] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 23] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] & 0xFF);
+    b[p + 26] = (byte) (v[o + 4] >>> 44);
+    b[p + 27] = (byte) (v[o + 4] >>> 36 & 0xFF);
+    b[p + 28] = (byte) (v[o + 4] >>> 28 & 0xFF);
+    b[p + 29] = (byte) (v[o + 4] >>> 20 & 0xFF);
+    b[p + 30] = (byte) (v[o + 4] >>> 12 & 0xFF);
+    b[p + 31] = (byte) (v[o + 4] >>> 4 & 0xFF);
+    b[p + 32] = (byte) (((v[o + 4] & 0xF) << 4) | (v[o + 5] >>> 48));
+    b[p + 33] = (byte) (v[o + 5] >>> 40 & 0xFF);
+    b[p + 34] = (byte) (v[o + 5] >>> 32 & 0xFF);
+    b[p + 35] = (byte) (v[o + 5] >>> 24 & 0xFF);
+    b[p + 36] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 37] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 38] = (byte) (v[o + 5] & 0xFF);
+    b[p + 39] = (byte) (v[o + 6] >>> 44);
+    b[p + 40] = (byte) (v[o + 6] >>> 36 & 0xFF);
+    b[p + 41] = (byte) (v[o + 6] >>> 28 & 0xFF);
+    b[p + 42] = (byte) (v[o + 6] >>> 20 & 0xFF);
+    b[p + 43] = (byte) (v[o + 6] >>> 12 & 0xFF);
+    b[p + 44] = (byte) (v[o + 6] >>> 4 & 0xFF);
+    b[p + 45] = (byte) (((v[o + 6] & 0xF) << 4) | (v[o + 7] >>> 48));
+    b[p + 46] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 47] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 48] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 49] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 50] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 51] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack52(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 44)
+            | ((long) (b[p + 1] & 0xFF) << 36)
+            | ((long) (b[p + 2] & 0xFF) << 28)
+            | ((b[p + 3] & 0xFF) << 20)
+            | ((b[p + 4] & 0xFF) << 12)
+            | ((b[p + 5] & 0xFF) << 4)
+            | ((b[p + 6] & 0xFF) >>> 4);
+    v[o + 1] =
+        ((long) (b[p + 6] & 0xF) << 48)
+            | ((long) (b[p + 7] & 0xFF) << 40)
+            | ((long) (b[p + 8] & 0xFF) << 32)
+            | ((long) (b[p + 9] & 0xFF) << 24)
+            | ((b[p + 10] & 0xFF) << 16)
+            | ((b[p + 11] & 0xFF) << 8)
+            | (b[p + 12] & 0xFF);
+    v[o + 2] =
+        ((long) (b[p + 13] & 0xFF) << 44)
+            | ((long) (b[p + 14] & 0xFF) << 36)
+            | ((long) (b[p + 15] & 0xFF) << 28)
+            | ((b[p + 16] & 0xFF) << 20)
+            | ((b[p + 17] & 0xFF) << 12)
+            | ((b[p + 18] & 0xFF) << 4)
+            | ((b[p + 19] & 0xFF) >>> 4);
+    v[o + 3] =
+        ((long) (b[p + 19] & 0xF) << 48)
+            | ((long) (b[p + 20] & 0xFF) << 40)
+            | ((long) (b[p + 21] & 0xFF) << 32)
+            | ((long) (b[p + 22] & 0xFF) << 24)
+            | ((b[p + 23] & 0xFF) << 16)
+            | ((b[p + 24] & 0xFF) << 8)
+            | (b[p + 25] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 26] & 0xFF) << 44)
+            | ((long) (b[p + 27] & 0xFF) << 36)
+            | ((long) (b[p + 28] & 0xFF) << 28)
+            | ((b[p + 29] & 0xFF) << 20)
+            | ((b[p + 30] & 0xFF) << 12)
+            | ((b[p + 31] & 0xFF) << 4)
+            | ((b[p + 32] & 0xFF) >>> 4);
+    v[o + 5] =
+        ((long) (b[p + 32] & 0xF) << 48)
+            | ((long) (b[p + 33] & 0xFF) << 40)
+            | ((long) (b[p + 34] & 0xFF) << 32)
+            | ((long) (b[p + 35] & 0xFF) << 24)
+            | ((b[p + 36] & 0xFF) << 16)
+            | ((b[p + 37] & 0xFF) << 8)
+            | (b[p + 38] & 0xFF);
+    v[o + 6] =
+        ((long) (b[p + 39] & 0xFF) << 44)
+            | ((long) (b[p + 40] & 0xFF) << 36)
+            | ((long) (b[p + 41] & 0xFF) << 28)
+            | ((b[p + 42] & 0xFF) << 20)
+            | ((b[p + 43] & 0xFF) << 12)
+            | ((b[p + 44] & 0xFF) << 4)
+            | ((b[p + 45] & 0xFF) >>> 4);
+    v[o + 7] =
+        ((long) (b[p + 45] & 0xF) << 48)
+            | ((long) (b[p + 46] & 0xFF) << 40)
+            | ((long) (b[p + 47] & 0xFF) << 32)
+            | ((long) (b[p + 48] & 0xFF) << 24)
+            | ((b[p + 49] & 0xFF) << 16)
+            | ((b[p + 50] & 0xFF) << 8)
+            | (b[p + 51] & 0xFF);
+  }
+
+  private static void pack53(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 45);
+    b[p + 1] = (byte) (v[o] >>> 37 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 29 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 21 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 13 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 5 & 0xFF);
+    b[p + 6] = (byte) (((v[o] & 0x1F) << 3) | (v[o + 1] >>> 50));
+    b[p + 7] = (byte) (v[o + 1] >>> 42 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 34 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 26 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 18 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 47));
+    b[p + 14] = (byte) (v[o + 2] >>> 39 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 31 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 23 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 15 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 7 & 0xFF);
+    b[p + 19] = (byte) (((v[o + 2] & 0x7F) << 1) | (v[o + 3] >>> 52));
+    b[p + 20] = (byte) (v[o + 3] >>> 44 & 0xFF);
+    b[p + 21] = (byte) (v[o + 3] >>> 36 & 0xFF);
+    b[p + 22] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 23] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 26] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 49));
+    b[p + 27] = (byte) (v[o + 4] >>> 41 & 0xFF);
+    b[p + 28] = (byte) (v[o + 4] >>> 33 & 0xFF);
+    b[p + 29] = (byte) (v[o + 4] >>> 25 & 0xFF);
+    b[p + 30] = (byte) (v[o + 4] >>> 17 & 0xFF);
+    b[p + 31] = (byte) (v[o + 4] >>> 9 & 0xFF);
+    b[p + 32] = (byte) (v[o + 4] >>> 1 & 0xFF);
+    b[p + 33] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] >>> 46));
+    b[p + 34] = (byte) (v[o + 5] >>> 38 & 0xFF);
+    b[p + 35] = (byte) (v[o + 5] >>> 30 & 0xFF);
+    b[p + 36] = (byte) (v[o + 5] >>> 22 & 0xFF);
+    b[p + 37] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 38] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 39] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 51));
+    b[p + 40] = (byte) (v[o + 6] >>> 43 & 0xFF);
+    b[p + 41] = (byte) (v[o + 6] >>> 35 & 0xFF);
+    b[p + 42] = (byte) (v[o + 6] >>> 27 & 0xFF);
+    b[p + 43] = (byte) (v[o + 6] >>> 19 & 0xFF);
+    b[p + 44] = (byte) (v[o + 6] >>> 11 & 0xFF);
+    b[p + 45] = (byte) (v[o + 6] >>> 3 & 0xFF);
+    b[p + 46] = (byte) (((v[o + 6] & 0x7) << 5) | (v[o + 7] >>> 48));
+    b[p + 47] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 48] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 49] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 50] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 51] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 52] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack53(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 45)
+            | ((long) (b[p + 1] & 0xFF) << 37)
+            | ((long) (b[p + 2] & 0xFF) << 29)
+            | ((b[p + 3] & 0xFF) << 21)
+            | ((b[p + 4] & 0xFF) << 13)
+            | ((b[p + 5] & 0xFF) << 5)
+            | ((b[p + 6] & 0xFF) >>> 3);
+    v[o + 1] =
+        ((long) (b[p + 6] & 0x7) << 50)
+            | ((long) (b[p + 7] & 0xFF) << 42)
+            | ((long) (b[p + 8] & 0xFF) << 34)
+            | ((long) (b[p + 9] & 0xFF) << 26)
+            | ((b[p + 10] & 0xFF) << 18)
+            | ((b[p + 11] & 0xFF) << 10)
+            | ((b[p + 12] & 0xFF) << 2)
+            | ((b[p + 13] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((long) (b[p + 13] & 0x3F) << 47)
+            | ((long) (b[p + 14] & 0xFF) << 39)
+            | ((long) (b[p + 15] & 0xFF) << 31)
+            | ((b[p + 16] & 0xFF) << 23)
+            | ((b[p + 17] & 0xFF) << 15)
+            | ((b[p + 18] & 0xFF) << 7)
+            | ((b[p + 19] & 0xFF) >>> 1);
+    v[o + 3] =
+        ((long) (b[p + 19] & 0x1) << 52)
+            | ((long) (b[p + 20] & 0xFF) << 44)
+            | ((long) (b[p + 21] & 0xFF) << 36)
+            | ((long) (b[p + 22] & 0xFF) << 28)
+            | ((b[p + 23] & 0xFF) << 20)
+            | ((b[p + 24] & 0xFF) << 12)
+            | ((b[p + 25] & 0xFF) << 4)
+            | ((b[p + 26] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 26] & 0xF) << 49)
+            | ((long) (b[p + 27] & 0xFF) << 41)
+            | ((long) (b[p + 28] & 0xFF) << 33)
+            | ((long) (b[p + 29] & 0xFF) << 25)
+            | ((b[p + 30] & 0xFF) << 17)
+            | ((b[p + 31] & 0xFF) << 9)
+            | ((b[p + 32] & 0xFF) << 1)
+            | ((b[p + 33] & 0xFF) >>> 7);
+    v[o + 5] =
+        ((long) (b[p + 33] & 0x7F) << 46)
+            | ((long) (b[p + 34] & 0xFF) << 38)
+            | ((long) (b[p + 35] & 0xFF) << 30)
+            | ((b[p + 36] & 0xFF) << 22)
+            | ((b[p + 37] & 0xFF) << 14)
+            | ((b[p + 38] & 0xFF) << 6)
+            | ((b[p + 39] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((long) (b[p + 39] & 0x3) << 51)
+            | ((long) (b[p + 40] & 0xFF) << 43)
+            | ((long) (b[p + 41] & 0xFF) << 35)
+            | ((long) (b[p + 42] & 0xFF) << 27)
+            | ((b[p + 43] & 0xFF) << 19)
+            | ((b[p + 44] & 0xFF) << 11)
+            | ((b[p + 45] & 0xFF) << 3)
+            | ((b[p + 46] & 0xFF) >>> 5);
+    v[o + 7] =
+        ((long) (b[p + 46] & 0x1F) << 48)
+            | ((long) (b[p + 47] & 0xFF) << 40)
+            | ((long) (b[p + 48] & 0xFF) << 32)
+            | ((long) (b[p + 49] & 0xFF) << 24)
+            | ((b[p + 50] & 0xFF) << 16)
+            | ((b[p + 51] & 0xFF) << 8)
+            | (b[p + 52] & 0xFF);
+  }
+
+  private static void pack54(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 46);
+    b[p + 1] = (byte) (v[o] >>> 38 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 30 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 22 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 14 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 6 & 0xFF);
+    b[p + 6] = (byte) (((v[o] & 0x3F) << 2) | (v[o + 1] >>> 52));
+    b[p + 7] = (byte) (v[o + 1] >>> 44 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 36 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 28 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 20 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 50));
+    b[p + 14] = (byte) (v[o + 2] >>> 42 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 34 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 26 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 18 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 10 & 0xFF);
+    b[p + 19] = (byte) (v[o + 2] >>> 2 & 0xFF);
+    b[p + 20] = (byte) (((v[o + 2] & 0x3) << 6) | (v[o + 3] >>> 48));
+    b[p + 21] = (byte) (v[o + 3] >>> 40 & 0xFF);
+    b[p + 22] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 23] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 26] = (byte) (v[o + 3] & 0xFF);
+    b[p + 27] = (byte) (v[o + 4] >>> 46);
+    b[p + 28] = (byte) (v[o + 4] >>> 38 & 0xFF);
+    b[p + 29] = (byte) (v[o + 4] >>> 30 & 0xFF);
+    b[p + 30] = (byte) (v[o + 4] >>> 22 & 0xFF);
+    b[p + 31] = (byte) (v[o + 4] >>> 14 & 0xFF);
+    b[p + 32] = (byte) (v[o + 4] >>> 6 & 0xFF);
+    b[p + 33] = (byte) (((v[o + 4] & 0x3F) << 2) | (v[o + 5] >>> 52));
+    b[p + 34] = (byte) (v[o + 5] >>> 44 & 0xFF);
+    b[p + 35] = (byte) (v[o + 5] >>> 36 & 0xFF);
+    b[p + 36] = (byte) (v[o + 5] >>> 28 & 0xFF);
+    b[p + 37] = (byte) (v[o + 5] >>> 20 & 0xFF);
+    b[p + 38] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 39] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 40] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 50));
+    b[p + 41] = (byte) (v[o + 6] >>> 42 & 0xFF);
+    b[p + 42] = (byte) (v[o + 6] >>> 34 & 0xFF);
+    b[p + 43] = (byte) (v[o + 6] >>> 26 & 0xFF);
+    b[p + 44] = (byte) (v[o + 6] >>> 18 & 0xFF);
+    b[p + 45] = (byte) (v[o + 6] >>> 10 & 0xFF);
+    b[p + 46] = (byte) (v[o + 6] >>> 2 & 0xFF);
+    b[p + 47] = (byte) (((v[o + 6] & 0x3) << 6) | (v[o + 7] >>> 48));
+    b[p + 48] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 49] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 50] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 51] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 52] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 53] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack54(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 46)
+            | ((long) (b[p + 1] & 0xFF) << 38)
+            | ((long) (b[p + 2] & 0xFF) << 30)
+            | ((b[p + 3] & 0xFF) << 22)
+            | ((b[p + 4] & 0xFF) << 14)
+            | ((b[p + 5] & 0xFF) << 6)
+            | ((b[p + 6] & 0xFF) >>> 2);
+    v[o + 1] =
+        ((long) (b[p + 6] & 0x3) << 52)
+            | ((long) (b[p + 7] & 0xFF) << 44)
+            | ((long) (b[p + 8] & 0xFF) << 36)
+            | ((long) (b[p + 9] & 0xFF) << 28)
+            | ((b[p + 10] & 0xFF) << 20)
+            | ((b[p + 11] & 0xFF) << 12)
+            | ((b[p + 12] & 0xFF) << 4)
+            | ((b[p + 13] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((long) (b[p + 13] & 0xF) << 50)
+            | ((long) (b[p + 14] & 0xFF) << 42)
+            | ((long) (b[p + 15] & 0xFF) << 34)
+            | ((long) (b[p + 16] & 0xFF) << 26)
+            | ((b[p + 17] & 0xFF) << 18)
+            | ((b[p + 18] & 0xFF) << 10)
+            | ((b[p + 19] & 0xFF) << 2)
+            | ((b[p + 20] & 0xFF) >>> 6);
+    v[o + 3] =
+        ((long) (b[p + 20] & 0x3F) << 48)
+            | ((long) (b[p + 21] & 0xFF) << 40)
+            | ((long) (b[p + 22] & 0xFF) << 32)
+            | ((long) (b[p + 23] & 0xFF) << 24)
+            | ((b[p + 24] & 0xFF) << 16)
+            | ((b[p + 25] & 0xFF) << 8)
+            | (b[p + 26] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 27] & 0xFF) << 46)
+            | ((long) (b[p + 28] & 0xFF) << 38)
+            | ((long) (b[p + 29] & 0xFF) << 30)
+            | ((b[p + 30] & 0xFF) << 22)
+            | ((b[p + 31] & 0xFF) << 14)
+            | ((b[p + 32] & 0xFF) << 6)
+            | ((b[p + 33] & 0xFF) >>> 2);
+    v[o + 5] =
+        ((long) (b[p + 33] & 0x3) << 52)
+            | ((long) (b[p + 34] & 0xFF) << 44)
+            | ((long) (b[p + 35] & 0xFF) << 36)
+            | ((long) (b[p + 36] & 0xFF) << 28)
+            | ((b[p + 37] & 0xFF) << 20)
+            | ((b[p + 38] & 0xFF) << 12)
+            | ((b[p + 39] & 0xFF) << 4)
+            | ((b[p + 40] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((long) (b[p + 40] & 0xF) << 50)
+            | ((long) (b[p + 41] & 0xFF) << 42)
+            | ((long) (b[p + 42] & 0xFF) << 34)
+            | ((long) (b[p + 43] & 0xFF) << 26)
+            | ((b[p + 44] & 0xFF) << 18)
+            | ((b[p + 45] & 0xFF) << 10)
+            | ((b[p + 46] & 0xFF) << 2)
+            | ((b[p + 47] & 0xFF) >>> 6);
+    v[o + 7] =
+        ((long) (b[p + 47] & 0x3F) << 48)
+            | ((long) (b[p + 48] & 0xFF) << 40)
+            | ((long) (b[p + 49] & 0xFF) << 32)
+            | ((long) (b[p + 50] & 0xFF) << 24)
+            | ((b[p + 51] & 0xFF) << 16)
+            | ((b[p + 52] & 0xFF) << 8)
+            | (b[p + 53] & 0xFF);
+  }
+
+  private static void pack55(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 47);
+    b[p + 1] = (byte) (v[o] >>> 39 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 31 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 23 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 15 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 7 & 0xFF);
+    b[p + 6] = (byte) (((v[o] & 0x7F) << 1) | (v[o + 1] >>> 54));
+    b[p + 7] = (byte) (v[o + 1] >>> 46 & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 38 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 30 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 22 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 13] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 53));
+    b[p + 14] = (byte) (v[o + 2] >>> 45 & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 37 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 29 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 21 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 13 & 0xFF);
+    b[p + 19] = (byte) (v[o + 2] >>> 5 & 0xFF);
+    b[p + 20] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 52));
+    b[p + 21] = (byte) (v[o + 3] >>> 44 & 0xFF);
+    b[p + 22] = (byte) (v[o + 3] >>> 36 & 0xFF);
+    b[p + 23] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 26] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 27] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 51));
+    b[p + 28] = (byte) (v[o + 4] >>> 43 & 0xFF);
+    b[p + 29] = (byte) (v[o + 4] >>> 35 & 0xFF);
+    b[p + 30] = (byte) (v[o + 4] >>> 27 & 0xFF);
+    b[p + 31] = (byte) (v[o + 4] >>> 19 & 0xFF);
+    b[p + 32] = (byte) (v[o + 4] >>> 11 & 0xFF);
+    b[p + 33] = (byte) (v[o + 4] >>> 3 & 0xFF);
+    b[p + 34] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 50));
+    b[p + 35] = (byte) (v[o + 5] >>> 42 & 0xFF);
+    b[p + 36] = (byte) (v[o + 5] >>> 34 & 0xFF);
+    b[p + 37] = (byte) (v[o + 5] >>> 26 & 0xFF);
+    b[p + 38] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 39] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 40] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 41] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 49));
+    b[p + 42] = (byte) (v[o + 6] >>> 41 & 0xFF);
+    b[p + 43] = (byte) (v[o + 6] >>> 33 & 0xFF);
+    b[p + 44] = (byte) (v[o + 6] >>> 25 & 0xFF);
+    b[p + 45] = (byte) (v[o + 6] >>> 17 & 0xFF);
+    b[p + 46] = (byte) (v[o + 6] >>> 9 & 0xFF);
+    b[p + 47] = (byte) (v[o + 6] >>> 1 & 0xFF);
+    b[p + 48] = (byte) (((v[o + 6] & 0x1) << 7) | (v[o + 7] >>> 48));
+    b[p + 49] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 50] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 51] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 52] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 53] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 54] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack55(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 47)
+            | ((long) (b[p + 1] & 0xFF) << 39)
+            | ((long) (b[p + 2] & 0xFF) << 31)
+            | ((b[p + 3] & 0xFF) << 23)
+            | ((b[p + 4] & 0xFF) << 15)
+            | ((b[p + 5] & 0xFF) << 7)
+            | ((b[p + 6] & 0xFF) >>> 1);
+    v[o + 1] =
+        ((long) (b[p + 6] & 0x1) << 54)
+            | ((long) (b[p + 7] & 0xFF) << 46)
+            | ((long) (b[p + 8] & 0xFF) << 38)
+            | ((long) (b[p + 9] & 0xFF) << 30)
+            | ((b[p + 10] & 0xFF) << 22)
+            | ((b[p + 11] & 0xFF) << 14)
+            | ((b[p + 12] & 0xFF) << 6)
+            | ((b[p + 13] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((long) (b[p + 13] & 0x3) << 53)
+            | ((long) (b[p + 14] & 0xFF) << 45)
+            | ((long) (b[p + 15] & 0xFF) << 37)
+            | ((long) (b[p + 16] & 0xFF) << 29)
+            | ((b[p + 17] & 0xFF) << 21)
+            | ((b[p + 18] & 0xFF) << 13)
+            | ((b[p + 19] & 0xFF) << 5)
+            | ((b[p + 20] & 0xFF) >>> 3);
+    v[o + 3] =
+        ((long) (b[p + 20] & 0x7) << 52)
+            | ((long) (b[p + 21] & 0xFF) << 44)
+            | ((long) (b[p + 22] & 0xFF) << 36)
+            | ((long) (b[p + 23] & 0xFF) << 28)
+            | ((b[p + 24] & 0xFF) << 20)
+            | ((b[p + 25] & 0xFF) << 12)
+            | ((b[p + 26] & 0xFF) << 4)
+            | ((b[p + 27] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 27] & 0xF) << 51)
+            | ((long) (b[p + 28] & 0xFF) << 43)
+            | ((long) (b[p + 29] & 0xFF) << 35)
+            | ((long) (b[p + 30] & 0xFF) << 27)
+            | ((b[p + 31] & 0xFF) << 19)
+            | ((b[p + 32] & 0xFF) << 11)
+            | ((b[p + 33] & 0xFF) << 3)
+            | ((b[p + 34] & 0xFF) >>> 5);
+    v[o + 5] =
+        ((long) (b[p + 34] & 0x1F) << 50)
+            | ((long) (b[p + 35] & 0xFF) << 42)
+            | ((long) (b[p + 36] & 0xFF) << 34)
+            | ((long) (b[p + 37] & 0xFF) << 26)
+            | ((b[p + 38] & 0xFF) << 18)
+            | ((b[p + 39] & 0xFF) << 10)
+            | ((b[p + 40] & 0xFF) << 2)
+            | ((b[p + 41] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((long) (b[p + 41] & 0x3F) << 49)
+            | ((long) (b[p + 42] & 0xFF) << 41)
+            | ((long) (b[p + 43] & 0xFF) << 33)
+            | ((long) (b[p + 44] & 0xFF) << 25)
+            | ((b[p + 45] & 0xFF) << 17)
+            | ((b[p + 46] & 0xFF) << 9)
+            | ((b[p + 47] & 0xFF) << 1)
+            | ((b[p + 48] & 0xFF) >>> 7);
+    v[o + 7] =
+        ((long) (b[p + 48] & 0x7F) << 48)
+            | ((long) (b[p + 49] & 0xFF) << 40)
+            | ((long) (b[p + 50] & 0xFF) << 32)
+            | ((long) (b[p + 51] & 0xFF) << 24)
+            | ((b[p + 52] & 0xFF) << 16)
+            | ((b[p + 53] & 0xFF) << 8)
+            | (b[p + 54] & 0xFF);
+  }
+
+  private static void pack56(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 48);
+    b[p + 1] = (byte) (v[o] >>> 40 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 32 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 24 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 16 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 8 & 0xFF);
+    b[p + 6] = (byte) (v[o] & 0xFF);
+    b[p + 7] = (byte) (v[o + 1] >>> 48);
+    b[p + 8] = (byte) (v[o + 1] >>> 40 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 32 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 24 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 13] = (byte) (v[o + 1] & 0xFF);
+    b[p + 14] = (byte) (v[o + 2] >>> 48);
+    b[p + 15] = (byte) (v[o + 2] >>> 40 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 32 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 24 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 16 & 0xFF);
+    b[p + 19] = (byte) (v[o + 2] >>> 8 & 0xFF);
+    b[p + 20] = (byte) (v[o + 2] & 0xFF);
+    b[p + 21] = (byte) (v[o + 3] >>> 48);
+    b[p + 22] = (byte) (v[o + 3] >>> 40 & 0xFF);
+    b[p + 23] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 26] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 27] = (byte) (v[o + 3] & 0xFF);
+    b[p + 28] = (byte) (v[o + 4] >>> 48);
+    b[p + 29] = (byte) (v[o + 4] >>> 40 & 0xFF);
+    b[p + 30] = (byte) (v[o + 4] >>> 32 & 0xFF);
+    b[p + 31] = (byte) (v[o + 4] >>> 24 & 0xFF);
+    b[p + 32] = (byte) (v[o + 4] >>> 16 & 0xFF);
+    b[p + 33] = (byte) (v[o + 4] >>> 8 & 0xFF);
+    b[p + 34] = (byte) (v[o + 4] & 0xFF);
+    b[p + 35] = (byte) (v[o + 5] >>> 48);
+    b[p + 36] = (byte) (v[o + 5] >>> 40 & 0xFF);
+    b[p + 37] = (byte) (v[o + 5] >>> 32 & 0xFF);
+    b[p + 38] = (byte) (v[o + 5] >>> 24 & 0xFF);
+    b[p + 39] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 40] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 41] = (byte) (v[o + 5] & 0xFF);
+    b[p + 42] = (byte) (v[o + 6] >>> 48);
+    b[p + 43] = (byte) (v[o + 6] >>> 40 & 0xFF);
+    b[p + 44] = (byte) (v[o + 6] >>> 32 & 0xFF);
+    b[p + 45] = (byte) (v[o + 6] >>> 24 & 0xFF);
+    b[p + 46] = (byte) (v[o + 6] >>> 16 & 0xFF);
+    b[p + 47] = (byte) (v[o + 6] >>> 8 & 0xFF);
+    b[p + 48] = (byte) (v[o + 6] & 0xFF);
+    b[p + 49] = (byte) (v[o + 7] >>> 48);
+    b[p + 50] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 51] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 52] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 53] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 54] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 55] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack56(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 48)
+            | ((long) (b[p + 1] & 0xFF) << 40)
+            | ((long) (b[p + 2] & 0xFF) << 32)
+            | ((long) (b[p + 3] & 0xFF) << 24)
+            | ((b[p + 4] & 0xFF) << 16)
+            | ((b[p + 5] & 0xFF) << 8)
+            | (b[p + 6] & 0xFF);
+    v[o + 1] =
+        ((long) (b[p + 7] & 0xFF) << 48)
+            | ((long) (b[p + 8] & 0xFF) << 40)
+            | ((long) (b[p + 9] & 0xFF) << 32)
+            | ((long) (b[p + 10] & 0xFF) << 24)
+            | ((b[p + 11] & 0xFF) << 16)
+            | ((b[p + 12] & 0xFF) << 8)
+            | (b[p + 13] & 0xFF);
+    v[o + 2] =
+        ((long) (b[p + 14] & 0xFF) << 48)
+            | ((long) (b[p + 15] & 0xFF) << 40)
+            | ((long) (b[p + 16] & 0xFF) << 32)
+            | ((long) (b[p + 17] & 0xFF) << 24)
+            | ((b[p + 18] & 0xFF) << 16)
+            | ((b[p + 19] & 0xFF) << 8)
+            | (b[p + 20] & 0xFF);
+    v[o + 3] =
+        ((long) (b[p + 21] & 0xFF) << 48)
+            | ((long) (b[p + 22] & 0xFF) << 40)
+            | ((long) (b[p + 23] & 0xFF) << 32)
+            | ((long) (b[p + 24] & 0xFF) << 24)
+            | ((b[p + 25] & 0xFF) << 16)
+            | ((b[p + 26] & 0xFF) << 8)
+            | (b[p + 27] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 28] & 0xFF) << 48)
+            | ((long) (b[p + 29] & 0xFF) << 40)
+            | ((long) (b[p + 30] & 0xFF) << 32)
+            | ((long) (b[p + 31] & 0xFF) << 24)
+            | ((b[p + 32] & 0xFF) << 16)
+            | ((b[p + 33] & 0xFF) << 8)
+            | (b[p + 34] & 0xFF);
+    v[o + 5] =
+        ((long) (b[p + 35] & 0xFF) << 48)
+            | ((long) (b[p + 36] & 0xFF) << 40)
+            | ((long) (b[p + 37] & 0xFF) << 32)
+            | ((long) (b[p + 38] & 0xFF) << 24)
+            | ((b[p + 39] & 0xFF) << 16)
+            | ((b[p + 40] & 0xFF) << 8)
+            | (b[p + 41] & 0xFF);
+    v[o + 6] =
+        ((long) (b[p + 42] & 0xFF) << 48)
+            | ((long) (b[p + 43] & 0xFF) << 40)
+            | ((long) (b[p + 44] & 0xFF) << 32)
+            | ((long) (b[p + 45] & 0xFF) << 24)
+            | ((b[p + 46] & 0xFF) << 16)
+            | ((b[p + 47] & 0xFF) << 8)
+            | (b[p + 48] & 0xFF);
+    v[o + 7] =
+        ((long) (b[p + 49] & 0xFF) << 48)
+            | ((long) (b[p + 50] & 0xFF) << 40)
+            | ((long) (b[p + 51] & 0xFF) << 32)
+            | ((long) (b[p + 52] & 0xFF) << 24)
+            | ((b[p + 53] & 0xFF) << 16)
+            | ((b[p + 54] & 0xFF) << 8)
+            | (b[p + 55] & 0xFF);
+  }
+
+  private static void pack57(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 49);
+    b[p + 1] = (byte) (v[o] >>> 41 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 33 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 25 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 17 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 9 & 0xFF);
+    b[p + 6] = (byte) (v[o] >>> 1 & 0xFF);
+    b[p + 7] = (byte) (((v[o] & 0x1) << 7) | (v[o + 1] >>> 50));
+    b[p + 8] = (byte) (v[o + 1] >>> 42 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 34 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 26 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 18 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 13] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 51));
+    b[p + 15] = (byte) (v[o + 2] >>> 43 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 35 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 27 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 19 & 0xFF);
+    b[p + 19] = (byte) (v[o + 2] >>> 11 & 0xFF);
+    b[p + 20] = (byte) (v[o + 2] >>> 3 & 0xFF);
+    b[p + 21] = (byte) (((v[o + 2] & 0x7) << 5) | (v[o + 3] >>> 52));
+    b[p + 22] = (byte) (v[o + 3] >>> 44 & 0xFF);
+    b[p + 23] = (byte) (v[o + 3] >>> 36 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 26] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 27] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 28] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 53));
+    b[p + 29] = (byte) (v[o + 4] >>> 45 & 0xFF);
+    b[p + 30] = (byte) (v[o + 4] >>> 37 & 0xFF);
+    b[p + 31] = (byte) (v[o + 4] >>> 29 & 0xFF);
+    b[p + 32] = (byte) (v[o + 4] >>> 21 & 0xFF);
+    b[p + 33] = (byte) (v[o + 4] >>> 13 & 0xFF);
+    b[p + 34] = (byte) (v[o + 4] >>> 5 & 0xFF);
+    b[p + 35] = (byte) (((v[o + 4] & 0x1F) << 3) | (v[o + 5] >>> 54));
+    b[p + 36] = (byte) (v[o + 5] >>> 46 & 0xFF);
+    b[p + 37] = (byte) (v[o + 5] >>> 38 & 0xFF);
+    b[p + 38] = (byte) (v[o + 5] >>> 30 & 0xFF);
+    b[p + 39] = (byte) (v[o + 5] >>> 22 & 0xFF);
+    b[p + 40] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 41] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 42] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 55));
+    b[p + 43] = (byte) (v[o + 6] >>> 47 & 0xFF);
+    b[p + 44] = (byte) (v[o + 6] >>> 39 & 0xFF);
+    b[p + 45] = (byte) (v[o + 6] >>> 31 & 0xFF);
+    b[p + 46] = (byte) (v[o + 6] >>> 23 & 0xFF);
+    b[p + 47] = (byte) (v[o + 6] >>> 15 & 0xFF);
+    b[p + 48] = (byte) (v[o + 6] >>> 7 & 0xFF);
+    b[p + 49] = (byte) (((v[o + 6] & 0x7F) << 1) | (v[o + 7] >>> 56));
+    b[p + 50] = (byte) (v[o + 7] >>> 48 & 0xFF);
+    b[p + 51] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 52] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 53] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 54] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 55] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 56] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack57(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 49)
+            | ((long) (b[p + 1] & 0xFF) << 41)
+            | ((long) (b[p + 2] & 0xFF) << 33)
+            | ((long) (b[p + 3] & 0xFF) << 25)
+            | ((b[p + 4] & 0xFF) << 17)
+            | ((b[p + 5] & 0xFF) << 9)
+            | ((b[p + 6] & 0xFF) << 1)
+            | ((b[p + 7] & 0xFF) >>> 7);
+    v[o + 1] =
+        ((long) (b[p + 7] & 0x7F) << 50)
+            | ((long) (b[p + 8] & 0xFF) << 42)
+            | ((long) (b[p + 9] & 0xFF) << 34)
+            | ((long) (b[p + 10] & 0xFF) << 26)
+            | ((b[p + 11] & 0xFF) << 18)
+            | ((b[p + 12] & 0xFF) << 10)
+            | ((b[p + 13] & 0xFF) << 2)
+            | ((b[p + 14] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((long) (b[p + 14] & 0x3F) << 51)
+            | ((long) (b[p + 15] & 0xFF) << 43)
+            | ((long) (b[p + 16] & 0xFF) << 35)
+            | ((long) (b[p + 17] & 0xFF) << 27)
+            | ((b[p + 18] & 0xFF) << 19)
+            | ((b[p + 19] & 0xFF) << 11)
+            | ((b[p + 20] & 0xFF) << 3)
+            | ((b[p + 21] & 0xFF) >>> 5);
+    v[o + 3] =
+        ((long) (b[p + 21] & 0x1F) << 52)
+            | ((long) (b[p + 22] & 0xFF) << 44)
+            | ((long) (b[p + 23] & 0xFF) << 36)
+            | ((long) (b[p + 24] & 0xFF) << 28)
+            | ((b[p + 25] & 0xFF) << 20)
+            | ((b[p + 26] & 0xFF) << 12)
+            | ((b[p + 27] & 0xFF) << 4)
+            | ((b[p + 28] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 28] & 0xF) << 53)
+            | ((long) (b[p + 29] & 0xFF) << 45)
+            | ((long) (b[p + 30] & 0xFF) << 37)
+            | ((long) (b[p + 31] & 0xFF) << 29)
+            | ((b[p + 32] & 0xFF) << 21)
+            | ((b[p + 33] & 0xFF) << 13)
+            | ((b[p + 34] & 0xFF) << 5)
+            | ((b[p + 35] & 0xFF) >>> 3);
+    v[o + 5] =
+        ((long) (b[p + 35] & 0x7) << 54)
+            | ((long) (b[p + 36] & 0xFF) << 46)
+            | ((long) (b[p + 37] & 0xFF) << 38)
+            | ((long) (b[p + 38] & 0xFF) << 30)
+            | ((b[p + 39] & 0xFF) << 22)
+            | ((b[p + 40] & 0xFF) << 14)
+            | ((b[p + 41] & 0xFF) << 6)
+            | ((b[p + 42] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((long) (b[p + 42] & 0x3) << 55)
+            | ((long) (b[p + 43] & 0xFF) << 47)
+            | ((long) (b[p + 44] & 0xFF) << 39)
+            | ((long) (b[p + 45] & 0xFF) << 31)
+            | ((b[p + 46] & 0xFF) << 23)
+            | ((b[p + 47] & 0xFF) << 15)
+            | ((b[p + 48] & 0xFF) << 7)
+            | ((b[p + 49] & 0xFF) >>> 1);
+    v[o + 7] =
+        ((long) (b[p + 49] & 0x1) << 56)
+            | ((long) (b[p + 50] & 0xFF) << 48)
+            | ((long) (b[p + 51] & 0xFF) << 40)
+            | ((long) (b[p + 52] & 0xFF) << 32)
+            | ((long) (b[p + 53] & 0xFF) << 24)
+            | ((b[p + 54] & 0xFF) << 16)
+            | ((b[p + 55] & 0xFF) << 8)
+            | (b[p + 56] & 0xFF);
+  }
+
+  private static void pack58(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 50);
+    b[p + 1] = (byte) (v[o] >>> 42 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 34 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 26 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 18 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 10 & 0xFF);
+    b[p + 6] = (byte) (v[o] >>> 2 & 0xFF);
+    b[p + 7] = (byte) (((v[o] & 0x3) << 6) | (v[o + 1] >>> 52));
+    b[p + 8] = (byte) (v[o + 1] >>> 44 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 36 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 28 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 20 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 13] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 54));
+    b[p + 15] = (byte) (v[o + 2] >>> 46 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 38 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 30 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 22 & 0xFF);
+    b[p + 19] = (byte) (v[o + 2] >>> 14 & 0xFF);
+    b[p + 20] = (byte) (v[o + 2] >>> 6 & 0xFF);
+    b[p + 21] = (byte) (((v[o + 2] & 0x3F) << 2) | (v[o + 3] >>> 56));
+    b[p + 22] = (byte) (v[o + 3] >>> 48 & 0xFF);
+    b[p + 23] = (byte) (v[o + 3] >>> 40 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 26] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 27] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 28] = (byte) (v[o + 3] & 0xFF);
+    b[p + 29] = (byte) (v[o + 4] >>> 50);
+    b[p + 30] = (byte) (v[o + 4] >>> 42 & 0xFF);
+    b[p + 31] = (byte) (v[o + 4] >>> 34 & 0xFF);
+    b[p + 32] = (byte) (v[o + 4] >>> 26 & 0xFF);
+    b[p + 33] = (byte) (v[o + 4] >>> 18 & 0xFF);
+    b[p + 34] = (byte) (v[o + 4] >>> 10 & 0xFF);
+    b[p + 35] = (byte) (v[o + 4] >>> 2 & 0xFF);
+    b[p + 36] = (byte) (((v[o + 4] & 0x3) << 6) | (v[o + 5] >>> 52));
+    b[p + 37] = (byte) (v[o + 5] >>> 44 & 0xFF);
+    b[p + 38] = (byte) (v[o + 5] >>> 36 & 0xFF);
+    b[p + 39] = (byte) (v[o + 5] >>> 28 & 0xFF);
+    b[p + 40] = (byte) (v[o + 5] >>> 20 & 0xFF);
+    b[p + 41] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 42] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 43] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 54));
+    b[p + 44] = (byte) (v[o + 6] >>> 46 & 0xFF);
+    b[p + 45] = (byte) (v[o + 6] >>> 38 & 0xFF);
+    b[p + 46] = (byte) (v[o + 6] >>> 30 & 0xFF);
+    b[p + 47] = (byte) (v[o + 6] >>> 22 & 0xFF);
+    b[p + 48] = (byte) (v[o + 6] >>> 14 & 0xFF);
+    b[p + 49] = (byte) (v[o + 6] >>> 6 & 0xFF);
+    b[p + 50] = (byte) (((v[o + 6] & 0x3F) << 2) | (v[o + 7] >>> 56));
+    b[p + 51] = (byte) (v[o + 7] >>> 48 & 0xFF);
+    b[p + 52] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 53] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 54] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 55] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 56] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 57] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack58(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 50)
+            | ((long) (b[p + 1] & 0xFF) << 42)
+            | ((long) (b[p + 2] & 0xFF) << 34)
+            | ((long) (b[p + 3] & 0xFF) << 26)
+            | ((b[p + 4] & 0xFF) << 18)
+            | ((b[p + 5] & 0xFF) << 10)
+            | ((b[p + 6] & 0xFF) << 2)
+            | ((b[p + 7] & 0xFF) >>> 6);
+    v[o + 1] =
+        ((long) (b[p + 7] & 0x3F) << 52)
+            | ((long) (b[p + 8] & 0xFF) << 44)
+            | ((long) (b[p + 9] & 0xFF) << 36)
+            | ((long) (b[p + 10] & 0xFF) << 28)
+            | ((b[p + 11] & 0xFF) << 20)
+            | ((b[p + 12] & 0xFF) << 12)
+            | ((b[p + 13] & 0xFF) << 4)
+            | ((b[p + 14] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((long) (b[p + 14] & 0xF) << 54)
+            | ((long) (b[p + 15] & 0xFF) << 46)
+            | ((long) (b[p + 16] & 0xFF) << 38)
+            | ((long) (b[p + 17] & 0xFF) << 30)
+            | ((b[p + 18] & 0xFF) << 22)
+            | ((b[p + 19] & 0xFF) << 14)
+            | ((b[p + 20] & 0xFF) << 6)
+            | ((b[p + 21] & 0xFF) >>> 2);
+    v[o + 3] =
+        ((long) (b[p + 21] & 0x3) << 56)
+            | ((long) (b[p + 22] & 0xFF) << 48)
+            | ((long) (b[p + 23] & 0xFF) << 40)
+            | ((long) (b[p + 24] & 0xFF) << 32)
+            | ((long) (b[p + 25] & 0xFF) << 24)
+            | ((b[p + 26] & 0xFF) << 16)
+            | ((b[p + 27] & 0xFF) << 8)
+            | (b[p + 28] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 29] & 0xFF) << 50)
+            | ((long) (b[p + 30] & 0xFF) << 42)
+            | ((long) (b[p + 31] & 0xFF) << 34)
+            | ((long) (b[p + 32] & 0xFF) << 26)
+            | ((b[p + 33] & 0xFF) << 18)
+            | ((b[p + 34] & 0xFF) << 10)
+            | ((b[p + 35] & 0xFF) << 2)
+            | ((b[p + 36] & 0xFF) >>> 6);
+    v[o + 5] =
+        ((long) (b[p + 36] & 0x3F) << 52)
+            | ((long) (b[p + 37] & 0xFF) << 44)
+            | ((long) (b[p + 38] & 0xFF) << 36)
+            | ((long) (b[p + 39] & 0xFF) << 28)
+            | ((b[p + 40] & 0xFF) << 20)
+            | ((b[p + 41] & 0xFF) << 12)
+            | ((b[p + 42] & 0xFF) << 4)
+            | ((b[p + 43] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((long) (b[p + 43] & 0xF) << 54)
+            | ((long) (b[p + 44] & 0xFF) << 46)
+            | ((long) (b[p + 45] & 0xFF) << 38)
+            | ((long) (b[p + 46] & 0xFF) << 30)
+            | ((b[p + 47] & 0xFF) << 22)
+            | ((b[p + 48] & 0xFF) << 14)
+            | ((b[p + 49] & 0xFF) << 6)
+            | ((b[p + 50] & 0xFF) >>> 2);
+    v[o + 7] =
+        ((long) (b[p + 50] & 0x3) << 56)
+            | ((long) (b[p + 51] & 0xFF) << 48)
+            | ((long) (b[p + 52] & 0xFF) << 40)
+            | ((long) (b[p + 53] & 0xFF) << 32)
+            | ((long) (b[p + 54] & 0xFF) << 24)
+            | ((b[p + 55] & 0xFF) << 16)
+            | ((b[p + 56] & 0xFF) << 8)
+            | (b[p + 57] & 0xFF);
+  }
+
+  private static void pack59(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 51);
+    b[p + 1] = (byte) (v[o] >>> 43 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 35 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 27 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 19 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 11 & 0xFF);
+    b[p + 6] = (byte) (v[o] >>> 3 & 0xFF);
+    b[p + 7] = (byte) (((v[o] & 0x7) << 5) | (v[o + 1] >>> 54));
+    b[p + 8] = (byte) (v[o + 1] >>> 46 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 38 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 30 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 22 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 13] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 14] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 57));
+    b[p + 15] = (byte) (v[o + 2] >>> 49 & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 41 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 33 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 25 & 0xFF);
+    b[p + 19] = (byte) (v[o + 2] >>> 17 & 0xFF);
+    b[p + 20] = (byte) (v[o + 2] >>> 9 & 0xFF);
+    b[p + 21] = (byte) (v[o + 2] >>> 1 & 0xFF);
+    b[p + 22] = (byte) (((v[o + 2] & 0x1) << 7) | (v[o + 3] >>> 52));
+    b[p + 23] = (byte) (v[o + 3] >>> 44 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 36 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 26] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 27] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 28] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 29] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 55));
+    b[p + 30] = (byte) (v[o + 4] >>> 47 & 0xFF);
+    b[p + 31] = (byte) (v[o + 4] >>> 39 & 0xFF);
+    b[p + 32] = (byte) (v[o + 4] >>> 31 & 0xFF);
+    b[p + 33] = (byte) (v[o + 4] >>> 23 & 0xFF);
+    b[p + 34] = (byte) (v[o + 4] >>> 15 & 0xFF);
+    b[p + 35] = (byte) (v[o + 4] >>> 7 & 0xFF);
+    b[p + 36] = (byte) (((v[o + 4] & 0x7F) << 1) | (v[o + 5] >>> 58));
+    b[p + 37] = (byte) (v[o + 5] >>> 50 & 0xFF);
+    b[p + 38] = (byte) (v[o + 5] >>> 42 & 0xFF);
+    b[p + 39] = (byte) (v[o + 5] >>> 34 & 0xFF);
+    b[p + 40] = (byte) (v[o + 5] >>> 26 & 0xFF);
+    b[p + 41] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 42] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 43] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 44] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 53));
+    b[p + 45] = (byte) (v[o + 6] >>> 45 & 0xFF);
+    b[p + 46] = (byte) (v[o + 6] >>> 37 & 0xFF);
+    b[p + 47] = (byte) (v[o + 6] >>> 29 & 0xFF);
+    b[p + 48] = (byte) (v[o + 6] >>> 21 & 0xFF);
+    b[p + 49] = (byte) (v[o + 6] >>> 13 & 0xFF);
+    b[p + 50] = (byte) (v[o + 6] >>> 5 & 0xFF);
+    b[p + 51] = (byte) (((v[o + 6] & 0x1F) << 3) | (v[o + 7] >>> 56));
+    b[p + 52] = (byte) (v[o + 7] >>> 48 & 0xFF);
+    b[p + 53] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 54] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 55] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 56] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 57] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 58] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack59(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 51)
+            | ((long) (b[p + 1] & 0xFF) << 43)
+            | ((long) (b[p + 2] & 0xFF) << 35)
+            | ((long) (b[p + 3] & 0xFF) << 27)
+            | ((b[p + 4] & 0xFF) << 19)
+            | ((b[p + 5] & 0xFF) << 11)
+            | ((b[p + 6] & 0xFF) << 3)
+            | ((b[p + 7] & 0xFF) >>> 5);
+    v[o + 1] =
+        ((long) (b[p + 7] & 0x1F) << 54)
+            | ((long) (b[p + 8] & 0xFF) << 46)
+            | ((long) (b[p + 9] & 0xFF) << 38)
+            | ((long) (b[p + 10] & 0xFF) << 30)
+            | ((b[p + 11] & 0xFF) << 22)
+            | ((b[p + 12] & 0xFF) << 14)
+            | ((b[p + 13] & 0xFF) << 6)
+            | ((b[p + 14] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((long) (b[p + 14] & 0x3) << 57)
+            | ((long) (b[p + 15] & 0xFF) << 49)
+            | ((long) (b[p + 16] & 0xFF) << 41)
+            | ((long) (b[p + 17] & 0xFF) << 33)
+            | ((long) (b[p + 18] & 0xFF) << 25)
+            | ((b[p + 19] & 0xFF) << 17)
+            | ((b[p + 20] & 0xFF) << 9)
+            | ((b[p + 21] & 0xFF) << 1)
+            | ((b[p + 22] & 0xFF) >>> 7);
+    v[o + 3] =
+        ((long) (b[p + 22] & 0x7F) << 52)
+            | ((long) (b[p + 23] & 0xFF) << 44)
+            | ((long) (b[p + 24] & 0xFF) << 36)
+            | ((long) (b[p + 25] & 0xFF) << 28)
+            | ((b[p + 26] & 0xFF) << 20)
+            | ((b[p + 27] & 0xFF) << 12)
+            | ((b[p + 28] & 0xFF) << 4)
+            | ((b[p + 29] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 29] & 0xF) << 55)
+            | ((long) (b[p + 30] & 0xFF) << 47)
+            | ((long) (b[p + 31] & 0xFF) << 39)
+            | ((long) (b[p + 32] & 0xFF) << 31)
+            | ((b[p + 33] & 0xFF) << 23)
+            | ((b[p + 34] & 0xFF) << 15)
+            | ((b[p + 35] & 0xFF) << 7)
+            | ((b[p + 36] & 0xFF) >>> 1);
+    v[o + 5] =
+        ((long) (b[p + 36] & 0x1) << 58)
+            | ((long) (b[p + 37] & 0xFF) << 50)
+            | ((long) (b[p + 38] & 0xFF) << 42)
+            | ((long) (b[p + 39] & 0xFF) << 34)
+            | ((long) (b[p + 40] & 0xFF) << 26)
+            | ((b[p + 41] & 0xFF) << 18)
+            | ((b[p + 42] & 0xFF) << 10)
+            | ((b[p + 43] & 0xFF) << 2)
+            | ((b[p + 44] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((long) (b[p + 44] & 0x3F) << 53)
+            | ((long) (b[p + 45] & 0xFF) << 45)
+            | ((long) (b[p + 46] & 0xFF) << 37)
+            | ((long) (b[p + 47] & 0xFF) << 29)
+            | ((b[p + 48] & 0xFF) << 21)
+            | ((b[p + 49] & 0xFF) << 13)
+            | ((b[p + 50] & 0xFF) << 5)
+            | ((b[p + 51] & 0xFF) >>> 3);
+    v[o + 7] =
+        ((long) (b[p + 51] & 0x7) << 56)
+            | ((long) (b[p + 52] & 0xFF) << 48)
+            | ((long) (b[p + 53] & 0xFF) << 40)
+            | ((long) (b[p + 54] & 0xFF) << 32)
+            | ((long) (b[p + 55] & 0xFF) << 24)
+            | ((b[p + 56] & 0xFF) << 16)
+            | ((b[p + 57] & 0xFF) << 8)
+            | (b[p + 58] & 0xFF);
+  }
+
+  private static void pack60(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 52);
+    b[p + 1] = (byte) (v[o] >>> 44 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 36 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 28 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 20 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 12 & 0xFF);
+    b[p + 6] = (byte) (v[o] >>> 4 & 0xFF);
+    b[p + 7] = (byte) (((v[o] & 0xF) << 4) | (v[o + 1] >>> 56));
+    b[p + 8] = (byte) (v[o + 1] >>> 48 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 40 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 32 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 24 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 13] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 14] = (byte) (v[o + 1] & 0xFF);
+    b[p + 15] = (byte) (v[o + 2] >>> 52);
+    b[p + 16] = (byte) (v[o + 2] >>> 44 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 36 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 28 & 0xFF);
+    b[p + 19] = (byte) (v[o + 2] >>> 20 & 0xFF);
+    b[p + 20] = (byte) (v[o + 2] >>> 12 & 0xFF);
+    b[p + 21] = (byte) (v[o + 2] >>> 4 & 0xFF);
+    b[p + 22] = (byte) (((v[o + 2] & 0xF) << 4) | (v[o + 3] >>> 56));
+    b[p + 23] = (byte) (v[o + 3] >>> 48 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 40 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 26] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 27] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 28] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 29] = (byte) (v[o + 3] & 0xFF);
+    b[p + 30] = (byte) (v[o + 4] >>> 52);
+    b[p + 31] = (byte) (v[o + 4] >>> 44 & 0xFF);
+    b[p + 32] = (byte) (v[o + 4] >>> 36 & 0xFF);
+    b[p + 33] = (byte) (v[o + 4] >>> 28 & 0xFF);
+    b[p + 34] = (byte) (v[o + 4] >>> 20 & 0xFF);
+    b[p + 35] = (byte) (v[o + 4] >>> 12 & 0xFF);
+    b[p + 36] = (byte) (v[o + 4] >>> 4 & 0xFF);
+    b[p + 37] = (byte) (((v[o + 4] & 0xF) << 4) | (v[o + 5] >>> 56));
+    b[p + 38] = (byte) (v[o + 5] >>> 48 & 0xFF);
+    b[p + 39] = (byte) (v[o + 5] >>> 40 & 0xFF);
+    b[p + 40] = (byte) (v[o + 5] >>> 32 & 0xFF);
+    b[p + 41] = (byte) (v[o + 5] >>> 24 & 0xFF);
+    b[p + 42] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 43] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 44] = (byte) (v[o + 5] & 0xFF);
+    b[p + 45] = (byte) (v[o + 6] >>> 52);
+    b[p + 46] = (byte) (v[o + 6] >>> 44 & 0xFF);
+    b[p + 47] = (byte) (v[o + 6] >>> 36 & 0xFF);
+    b[p + 48] = (byte) (v[o + 6] >>> 28 & 0xFF);
+    b[p + 49] = (byte) (v[o + 6] >>> 20 & 0xFF);
+    b[p + 50] = (byte) (v[o + 6] >>> 12 & 0xFF);
+    b[p + 51] = (byte) (v[o + 6] >>> 4 & 0xFF);
+    b[p + 52] = (byte) (((v[o + 6] & 0xF) << 4) | (v[o + 7] >>> 56));
+    b[p + 53] = (byte) (v[o + 7] >>> 48 & 0xFF);
+    b[p + 54] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 55] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 56] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 57] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 58] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 59] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack60(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 52)
+            | ((long) (b[p + 1] & 0xFF) << 44)
+            | ((long) (b[p + 2] & 0xFF) << 36)
+            | ((long) (b[p + 3] & 0xFF) << 28)
+            | ((b[p + 4] & 0xFF) << 20)
+            | ((b[p + 5] & 0xFF) << 12)
+            | ((b[p + 6] & 0xFF) << 4)
+            | ((b[p + 7] & 0xFF) >>> 4);
+    v[o + 1] =
+        ((long) (b[p + 7] & 0xF) << 56)
+            | ((long) (b[p + 8] & 0xFF) << 48)
+            | ((long) (b[p + 9] & 0xFF) << 40)
+            | ((long) (b[p + 10] & 0xFF) << 32)
+            | ((long) (b[p + 11] & 0xFF) << 24)
+            | ((b[p + 12] & 0xFF) << 16)
+            | ((b[p + 13] & 0xFF) << 8)
+            | (b[p + 14] & 0xFF);
+    v[o + 2] =
+        ((long) (b[p + 15] & 0xFF) << 52)
+            | ((long) (b[p + 16] & 0xFF) << 44)
+            | ((long) (b[p + 17] & 0xFF) << 36)
+            | ((long) (b[p + 18] & 0xFF) << 28)
+            | ((b[p + 19] & 0xFF) << 20)
+            | ((b[p + 20] & 0xFF) << 12)
+            | ((b[p + 21] & 0xFF) << 4)
+            | ((b[p + 22] & 0xFF) >>> 4);
+    v[o + 3] =
+        ((long) (b[p + 22] & 0xF) << 56)
+            | ((long) (b[p + 23] & 0xFF) << 48)
+            | ((long) (b[p + 24] & 0xFF) << 40)
+            | ((long) (b[p + 25] & 0xFF) << 32)
+            | ((long) (b[p + 26] & 0xFF) << 24)
+            | ((b[p + 27] & 0xFF) << 16)
+            | ((b[p + 28] & 0xFF) << 8)
+            | (b[p + 29] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 30] & 0xFF) << 52)
+            | ((long) (b[p + 31] & 0xFF) << 44)
+            | ((long) (b[p + 32] & 0xFF) << 36)
+            | ((long) (b[p + 33] & 0xFF) << 28)
+            | ((b[p + 34] & 0xFF) << 20)
+            | ((b[p + 35] & 0xFF) << 12)
+            | ((b[p + 36] & 0xFF) << 4)
+            | ((b[p + 37] & 0xFF) >>> 4);
+    v[o + 5] =
+        ((long) (b[p + 37] & 0xF) << 56)
+            | ((long) (b[p + 38] & 0xFF) << 48)
+            | ((long) (b[p + 39] & 0xFF) << 40)
+            | ((long) (b[p + 40] & 0xFF) << 32)
+            | ((long) (b[p + 41] & 0xFF) << 24)
+            | ((b[p + 42] & 0xFF) << 16)
+            | ((b[p + 43] & 0xFF) << 8)
+            | (b[p + 44] & 0xFF);
+    v[o + 6] =
+        ((long) (b[p + 45] & 0xFF) << 52)
+            | ((long) (b[p + 46] & 0xFF) << 44)
+            | ((long) (b[p + 47] & 0xFF) << 36)
+            | ((long) (b[p + 48] & 0xFF) << 28)
+            | ((b[p + 49] & 0xFF) << 20)
+            | ((b[p + 50] & 0xFF) << 12)
+            | ((b[p + 51] & 0xFF) << 4)
+            | ((b[p + 52] & 0xFF) >>> 4);
+    v[o + 7] =
+        ((long) (b[p + 52] & 0xF) << 56)
+            | ((long) (b[p + 53] & 0xFF) << 48)
+            | ((long) (b[p + 54] & 0xFF) << 40)
+            | ((long) (b[p + 55] & 0xFF) << 32)
+            | ((long) (b[p + 56] & 0xFF) << 24)
+            | ((b[p + 57] & 0xFF) << 16)
+            | ((b[p + 58] & 0xFF) << 8)
+            | (b[p + 59] & 0xFF);
+  }
+
+  private static void pack61(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 53);
+    b[p + 1] = (byte) (v[o] >>> 45 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 37 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 29 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 21 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 13 & 0xFF);
+    b[p + 6] = (byte) (v[o] >>> 5 & 0xFF);
+    b[p + 7] = (byte) (((v[o] & 0x1F) << 3) | (v[o + 1] >>> 58));
+    b[p + 8] = (byte) (v[o + 1] >>> 50 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 42 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 34 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 26 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 18 & 0xFF);
+    b[p + 13] = (byte) (v[o + 1] >>> 10 & 0xFF);
+    b[p + 14] = (byte) (v[o + 1] >>> 2 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 1] & 0x3) << 6) | (v[o + 2] >>> 55));
+    b[p + 16] = (byte) (v[o + 2] >>> 47 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 39 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 31 & 0xFF);
+    b[p + 19] = (byte) (v[o + 2] >>> 23 & 0xFF);
+    b[p + 20] = (byte) (v[o + 2] >>> 15 & 0xFF);
+    b[p + 21] = (byte) (v[o + 2] >>> 7 & 0xFF);
+    b[p + 22] = (byte) (((v[o + 2] & 0x7F) << 1) | (v[o + 3] >>> 60));
+    b[p + 23] = (byte) (v[o + 3] >>> 52 & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 44 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] >>> 36 & 0xFF);
+    b[p + 26] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 27] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 28] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 29] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 30] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 57));
+    b[p + 31] = (byte) (v[o + 4] >>> 49 & 0xFF);
+    b[p + 32] = (byte) (v[o + 4] >>> 41 & 0xFF);
+    b[p + 33] = (byte) (v[o + 4] >>> 33 & 0xFF);
+    b[p + 34] = (byte) (v[o + 4] >>> 25 & 0xFF);
+    b[p + 35] = (byte) (v[o + 4] >>> 17 & 0xFF);
+    b[p + 36] = (byte) (v[o + 4] >>> 9 & 0xFF);
+    b[p + 37] = (byte) (v[o + 4] >>> 1 & 0xFF);
+    b[p + 38] = (byte) (((v[o + 4] & 0x1) << 7) | (v[o + 5] >>> 54));
+    b[p + 39] = (byte) (v[o + 5] >>> 46 & 0xFF);
+    b[p + 40] = (byte) (v[o + 5] >>> 38 & 0xFF);
+    b[p + 41] = (byte) (v[o + 5] >>> 30 & 0xFF);
+    b[p + 42] = (byte) (v[o + 5] >>> 22 & 0xFF);
+    b[p + 43] = (byte) (v[o + 5] >>> 14 & 0xFF);
+    b[p + 44] = (byte) (v[o + 5] >>> 6 & 0xFF);
+    b[p + 45] = (byte) (((v[o + 5] & 0x3F) << 2) | (v[o + 6] >>> 59));
+    b[p + 46] = (byte) (v[o + 6] >>> 51 & 0xFF);
+    b[p + 47] = (byte) (v[o + 6] >>> 43 & 0xFF);
+    b[p + 48] = (byte) (v[o + 6] >>> 35 & 0xFF);
+    b[p + 49] = (byte) (v[o + 6] >>> 27 & 0xFF);
+    b[p + 50] = (byte) (v[o + 6] >>> 19 & 0xFF);
+    b[p + 51] = (byte) (v[o + 6] >>> 11 & 0xFF);
+    b[p + 52] = (byte) (v[o + 6] >>> 3 & 0xFF);
+    b[p + 53] = (byte) (((v[o + 6] & 0x7) << 5) | (v[o + 7] >>> 56));
+    b[p + 54] = (byte) (v[o + 7] >>> 48 & 0xFF);
+    b[p + 55] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 56] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 57] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 58] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 59] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 60] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack61(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 53)
+            | ((long) (b[p + 1] & 0xFF) << 45)
+            | ((long) (b[p + 2] & 0xFF) << 37)
+            | ((long) (b[p + 3] & 0xFF) << 29)
+            | ((b[p + 4] & 0xFF) << 21)
+            | ((b[p + 5] & 0xFF) << 13)
+            | ((b[p + 6] & 0xFF) << 5)
+            | ((b[p + 7] & 0xFF) >>> 3);
+    v[o + 1] =
+        ((long) (b[p + 7] & 0x7) << 58)
+            | ((long) (b[p + 8] & 0xFF) << 50)
+            | ((long) (b[p + 9] & 0xFF) << 42)
+            | ((long) (b[p + 10] & 0xFF) << 34)
+            | ((long) (b[p + 11] & 0xFF) << 26)
+            | ((b[p + 12] & 0xFF) << 18)
+            | ((b[p + 13] & 0xFF) << 10)
+            | ((b[p + 14] & 0xFF) << 2)
+            | ((b[p + 15] & 0xFF) >>> 6);
+    v[o + 2] =
+        ((long) (b[p + 15] & 0x3F) << 55)
+            | ((long) (b[p + 16] & 0xFF) << 47)
+            | ((long) (b[p + 17] & 0xFF) << 39)
+            | ((long) (b[p + 18] & 0xFF) << 31)
+            | ((b[p + 19] & 0xFF) << 23)
+            | ((b[p + 20] & 0xFF) << 15)
+            | ((b[p + 21] & 0xFF) << 7)
+            | ((b[p + 22] & 0xFF) >>> 1);
+    v[o + 3] =
+        ((long) (b[p + 22] & 0x1) << 60)
+            | ((long) (b[p + 23] & 0xFF) << 52)
+            | ((long) (b[p + 24] & 0xFF) << 44)
+            | ((long) (b[p + 25] & 0xFF) << 36)
+            | ((long) (b[p + 26] & 0xFF) << 28)
+            | ((b[p + 27] & 0xFF) << 20)
+            | ((b[p + 28] & 0xFF) << 12)
+            | ((b[p + 29] & 0xFF) << 4)
+            | ((b[p + 30] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 30] & 0xF) << 57)
+            | ((long) (b[p + 31] & 0xFF) << 49)
+            | ((long) (b[p + 32] & 0xFF) << 41)
+            | ((long) (b[p + 33] & 0xFF) << 33)
+            | ((long) (b[p + 34] & 0xFF) << 25)
+            | ((b[p + 35] & 0xFF) << 17)
+            | ((b[p + 36] & 0xFF) << 9)
+            | ((b[p + 37] & 0xFF) << 1)
+            | ((b[p + 38] & 0xFF) >>> 7);
+    v[o + 5] =
+        ((long) (b[p + 38] & 0x7F) << 54)
+            | ((long) (b[p + 39] & 0xFF) << 46)
+            | ((long) (b[p + 40] & 0xFF) << 38)
+            | ((long) (b[p + 41] & 0xFF) << 30)
+            | ((b[p + 42] & 0xFF) << 22)
+            | ((b[p + 43] & 0xFF) << 14)
+            | ((b[p + 44] & 0xFF) << 6)
+            | ((b[p + 45] & 0xFF) >>> 2);
+    v[o + 6] =
+        ((long) (b[p + 45] & 0x3) << 59)
+            | ((long) (b[p + 46] & 0xFF) << 51)
+            | ((long) (b[p + 47] & 0xFF) << 43)
+            | ((long) (b[p + 48] & 0xFF) << 35)
+            | ((long) (b[p + 49] & 0xFF) << 27)
+            | ((b[p + 50] & 0xFF) << 19)
+            | ((b[p + 51] & 0xFF) << 11)
+            | ((b[p + 52] & 0xFF) << 3)
+            | ((b[p + 53] & 0xFF) >>> 5);
+    v[o + 7] =
+        ((long) (b[p + 53] & 0x1F) << 56)
+            | ((long) (b[p + 54] & 0xFF) << 48)
+            | ((long) (b[p + 55] & 0xFF) << 40)
+            | ((long) (b[p + 56] & 0xFF) << 32)
+            | ((long) (b[p + 57] & 0xFF) << 24)
+            | ((b[p + 58] & 0xFF) << 16)
+            | ((b[p + 59] & 0xFF) << 8)
+            | (b[p + 60] & 0xFF);
+  }
+
+  private static void pack62(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 54);
+    b[p + 1] = (byte) (v[o] >>> 46 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 38 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 30 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 22 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 14 & 0xFF);
+    b[p + 6] = (byte) (v[o] >>> 6 & 0xFF);
+    b[p + 7] = (byte) (((v[o] & 0x3F) << 2) | (v[o + 1] >>> 60));
+    b[p + 8] = (byte) (v[o + 1] >>> 52 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 44 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 36 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 28 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 20 & 0xFF);
+    b[p + 13] = (byte) (v[o + 1] >>> 12 & 0xFF);
+    b[p + 14] = (byte) (v[o + 1] >>> 4 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 1] & 0xF) << 4) | (v[o + 2] >>> 58));
+    b[p + 16] = (byte) (v[o + 2] >>> 50 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 42 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 34 & 0xFF);
+    b[p + 19] = (byte) (v[o + 2] >>> 26 & 0xFF);
+    b[p + 20] = (byte) (v[o + 2] >>> 18 & 0xFF);
+    b[p + 21] = (byte) (v[o + 2] >>> 10 & 0xFF);
+    b[p + 22] = (byte) (v[o + 2] >>> 2 & 0xFF);
+    b[p + 23] = (byte) (((v[o + 2] & 0x3) << 6) | (v[o + 3] >>> 56));
+    b[p + 24] = (byte) (v[o + 3] >>> 48 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] >>> 40 & 0xFF);
+    b[p + 26] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 27] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 28] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 29] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 30] = (byte) (v[o + 3] & 0xFF);
+    b[p + 31] = (byte) (v[o + 4] >>> 54);
+    b[p + 32] = (byte) (v[o + 4] >>> 46 & 0xFF);
+    b[p + 33] = (byte) (v[o + 4] >>> 38 & 0xFF);
+    b[p + 34] = (byte) (v[o + 4] >>> 30 & 0xFF);
+    b[p + 35] = (byte) (v[o + 4] >>> 22 & 0xFF);
+    b[p + 36] = (byte) (v[o + 4] >>> 14 & 0xFF);
+    b[p + 37] = (byte) (v[o + 4] >>> 6 & 0xFF);
+    b[p + 38] = (byte) (((v[o + 4] & 0x3F) << 2) | (v[o + 5] >>> 60));
+    b[p + 39] = (byte) (v[o + 5] >>> 52 & 0xFF);
+    b[p + 40] = (byte) (v[o + 5] >>> 44 & 0xFF);
+    b[p + 41] = (byte) (v[o + 5] >>> 36 & 0xFF);
+    b[p + 42] = (byte) (v[o + 5] >>> 28 & 0xFF);
+    b[p + 43] = (byte) (v[o + 5] >>> 20 & 0xFF);
+    b[p + 44] = (byte) (v[o + 5] >>> 12 & 0xFF);
+    b[p + 45] = (byte) (v[o + 5] >>> 4 & 0xFF);
+    b[p + 46] = (byte) (((v[o + 5] & 0xF) << 4) | (v[o + 6] >>> 58));
+    b[p + 47] = (byte) (v[o + 6] >>> 50 & 0xFF);
+    b[p + 48] = (byte) (v[o + 6] >>> 42 & 0xFF);
+    b[p + 49] = (byte) (v[o + 6] >>> 34 & 0xFF);
+    b[p + 50] = (byte) (v[o + 6] >>> 26 & 0xFF);
+    b[p + 51] = (byte) (v[o + 6] >>> 18 & 0xFF);
+    b[p + 52] = (byte) (v[o + 6] >>> 10 & 0xFF);
+    b[p + 53] = (byte) (v[o + 6] >>> 2 & 0xFF);
+    b[p + 54] = (byte) (((v[o + 6] & 0x3) << 6) | (v[o + 7] >>> 56));
+    b[p + 55] = (byte) (v[o + 7] >>> 48 & 0xFF);
+    b[p + 56] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 57] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 58] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 59] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 60] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 61] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack62(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 54)
+            | ((long) (b[p + 1] & 0xFF) << 46)
+            | ((long) (b[p + 2] & 0xFF) << 38)
+            | ((long) (b[p + 3] & 0xFF) << 30)
+            | ((b[p + 4] & 0xFF) << 22)
+            | ((b[p + 5] & 0xFF) << 14)
+            | ((b[p + 6] & 0xFF) << 6)
+            | ((b[p + 7] & 0xFF) >>> 2);
+    v[o + 1] =
+        ((long) (b[p + 7] & 0x3) << 60)
+            | ((long) (b[p + 8] & 0xFF) << 52)
+            | ((long) (b[p + 9] & 0xFF) << 44)
+            | ((long) (b[p + 10] & 0xFF) << 36)
+            | ((long) (b[p + 11] & 0xFF) << 28)
+            | ((b[p + 12] & 0xFF) << 20)
+            | ((b[p + 13] & 0xFF) << 12)
+            | ((b[p + 14] & 0xFF) << 4)
+            | ((b[p + 15] & 0xFF) >>> 4);
+    v[o + 2] =
+        ((long) (b[p + 15] & 0xF) << 58)
+            | ((long) (b[p + 16] & 0xFF) << 50)
+            | ((long) (b[p + 17] & 0xFF) << 42)
+            | ((long) (b[p + 18] & 0xFF) << 34)
+            | ((long) (b[p + 19] & 0xFF) << 26)
+            | ((b[p + 20] & 0xFF) << 18)
+            | ((b[p + 21] & 0xFF) << 10)
+            | ((b[p + 22] & 0xFF) << 2)
+            | ((b[p + 23] & 0xFF) >>> 6);
+    v[o + 3] =
+        ((long) (b[p + 23] & 0x3F) << 56)
+            | ((long) (b[p + 24] & 0xFF) << 48)
+            | ((long) (b[p + 25] & 0xFF) << 40)
+            | ((long) (b[p + 26] & 0xFF) << 32)
+            | ((long) (b[p + 27] & 0xFF) << 24)
+            | ((b[p + 28] & 0xFF) << 16)
+            | ((b[p + 29] & 0xFF) << 8)
+            | (b[p + 30] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 31] & 0xFF) << 54)
+            | ((long) (b[p + 32] & 0xFF) << 46)
+            | ((long) (b[p + 33] & 0xFF) << 38)
+            | ((long) (b[p + 34] & 0xFF) << 30)
+            | ((b[p + 35] & 0xFF) << 22)
+            | ((b[p + 36] & 0xFF) << 14)
+            | ((b[p + 37] & 0xFF) << 6)
+            | ((b[p + 38] & 0xFF) >>> 2);
+    v[o + 5] =
+        ((long) (b[p + 38] & 0x3) << 60)
+            | ((long) (b[p + 39] & 0xFF) << 52)
+            | ((long) (b[p + 40] & 0xFF) << 44)
+            | ((long) (b[p + 41] & 0xFF) << 36)
+            | ((long) (b[p + 42] & 0xFF) << 28)
+            | ((b[p + 43] & 0xFF) << 20)
+            | ((b[p + 44] & 0xFF) << 12)
+            | ((b[p + 45] & 0xFF) << 4)
+            | ((b[p + 46] & 0xFF) >>> 4);
+    v[o + 6] =
+        ((long) (b[p + 46] & 0xF) << 58)
+            | ((long) (b[p + 47] & 0xFF) << 50)
+            | ((long) (b[p + 48] & 0xFF) << 42)
+            | ((long) (b[p + 49] & 0xFF) << 34)
+            | ((long) (b[p + 50] & 0xFF) << 26)
+            | ((b[p + 51] & 0xFF) << 18)
+            | ((b[p + 52] & 0xFF) << 10)
+            | ((b[p + 53] & 0xFF) << 2)
+            | ((b[p + 54] & 0xFF) >>> 6);
+    v[o + 7] =
+        ((long) (b[p + 54] & 0x3F) << 56)
+            | ((long) (b[p + 55] & 0xFF) << 48)
+            | ((long) (b[p + 56] & 0xFF) << 40)
+            | ((long) (b[p + 57] & 0xFF) << 32)
+            | ((long) (b[p + 58] & 0xFF) << 24)
+            | ((b[p + 59] & 0xFF) << 16)
+            | ((b[p + 60] & 0xFF) << 8)
+            | (b[p + 61] & 0xFF);
+  }
+
+  private static void pack63(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 55);
+    b[p + 1] = (byte) (v[o] >>> 47 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 39 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 31 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 23 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 15 & 0xFF);
+    b[p + 6] = (byte) (v[o] >>> 7 & 0xFF);
+    b[p + 7] = (byte) (((v[o] & 0x7F) << 1) | (v[o + 1] >>> 62));
+    b[p + 8] = (byte) (v[o + 1] >>> 54 & 0xFF);
+    b[p + 9] = (byte) (v[o + 1] >>> 46 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 38 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 30 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 22 & 0xFF);
+    b[p + 13] = (byte) (v[o + 1] >>> 14 & 0xFF);
+    b[p + 14] = (byte) (v[o + 1] >>> 6 & 0xFF);
+    b[p + 15] = (byte) (((v[o + 1] & 0x3F) << 2) | (v[o + 2] >>> 61));
+    b[p + 16] = (byte) (v[o + 2] >>> 53 & 0xFF);
+    b[p + 17] = (byte) (v[o + 2] >>> 45 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 37 & 0xFF);
+    b[p + 19] = (byte) (v[o + 2] >>> 29 & 0xFF);
+    b[p + 20] = (byte) (v[o + 2] >>> 21 & 0xFF);
+    b[p + 21] = (byte) (v[o + 2] >>> 13 & 0xFF);
+    b[p + 22] = (byte) (v[o + 2] >>> 5 & 0xFF);
+    b[p + 23] = (byte) (((v[o + 2] & 0x1F) << 3) | (v[o + 3] >>> 60));
+    b[p + 24] = (byte) (v[o + 3] >>> 52 & 0xFF);
+    b[p + 25] = (byte) (v[o + 3] >>> 44 & 0xFF);
+    b[p + 26] = (byte) (v[o + 3] >>> 36 & 0xFF);
+    b[p + 27] = (byte) (v[o + 3] >>> 28 & 0xFF);
+    b[p + 28] = (byte) (v[o + 3] >>> 20 & 0xFF);
+    b[p + 29] = (byte) (v[o + 3] >>> 12 & 0xFF);
+    b[p + 30] = (byte) (v[o + 3] >>> 4 & 0xFF);
+    b[p + 31] = (byte) (((v[o + 3] & 0xF) << 4) | (v[o + 4] >>> 59));
+    b[p + 32] = (byte) (v[o + 4] >>> 51 & 0xFF);
+    b[p + 33] = (byte) (v[o + 4] >>> 43 & 0xFF);
+    b[p + 34] = (byte) (v[o + 4] >>> 35 & 0xFF);
+    b[p + 35] = (byte) (v[o + 4] >>> 27 & 0xFF);
+    b[p + 36] = (byte) (v[o + 4] >>> 19 & 0xFF);
+    b[p + 37] = (byte) (v[o + 4] >>> 11 & 0xFF);
+    b[p + 38] = (byte) (v[o + 4] >>> 3 & 0xFF);
+    b[p + 39] = (byte) (((v[o + 4] & 0x7) << 5) | (v[o + 5] >>> 58));
+    b[p + 40] = (byte) (v[o + 5] >>> 50 & 0xFF);
+    b[p + 41] = (byte) (v[o + 5] >>> 42 & 0xFF);
+    b[p + 42] = (byte) (v[o + 5] >>> 34 & 0xFF);
+    b[p + 43] = (byte) (v[o + 5] >>> 26 & 0xFF);
+    b[p + 44] = (byte) (v[o + 5] >>> 18 & 0xFF);
+    b[p + 45] = (byte) (v[o + 5] >>> 10 & 0xFF);
+    b[p + 46] = (byte) (v[o + 5] >>> 2 & 0xFF);
+    b[p + 47] = (byte) (((v[o + 5] & 0x3) << 6) | (v[o + 6] >>> 57));
+    b[p + 48] = (byte) (v[o + 6] >>> 49 & 0xFF);
+    b[p + 49] = (byte) (v[o + 6] >>> 41 & 0xFF);
+    b[p + 50] = (byte) (v[o + 6] >>> 33 & 0xFF);
+    b[p + 51] = (byte) (v[o + 6] >>> 25 & 0xFF);
+    b[p + 52] = (byte) (v[o + 6] >>> 17 & 0xFF);
+    b[p + 53] = (byte) (v[o + 6] >>> 9 & 0xFF);
+    b[p + 54] = (byte) (v[o + 6] >>> 1 & 0xFF);
+    b[p + 55] = (byte) (((v[o + 6] & 0x1) << 7) | (v[o + 7] >>> 56));
+    b[p + 56] = (byte) (v[o + 7] >>> 48 & 0xFF);
+    b[p + 57] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 58] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 59] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 60] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 61] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 62] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack63(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 55)
+            | ((long) (b[p + 1] & 0xFF) << 47)
+            | ((long) (b[p + 2] & 0xFF) << 39)
+            | ((long) (b[p + 3] & 0xFF) << 31)
+            | ((b[p + 4] & 0xFF) << 23)
+            | ((b[p + 5] & 0xFF) << 15)
+            | ((b[p + 6] & 0xFF) << 7)
+            | ((b[p + 7] & 0xFF) >>> 1);
+    v[o + 1] =
+        ((long) (b[p + 7] & 0x1) << 62)
+            | ((long) (b[p + 8] & 0xFF) << 54)
+            | ((long) (b[p + 9] & 0xFF) << 46)
+            | ((long) (b[p + 10] & 0xFF) << 38)
+            | ((long) (b[p + 11] & 0xFF) << 30)
+            | ((b[p + 12] & 0xFF) << 22)
+            | ((b[p + 13] & 0xFF) << 14)
+            | ((b[p + 14] & 0xFF) << 6)
+            | ((b[p + 15] & 0xFF) >>> 2);
+    v[o + 2] =
+        ((long) (b[p + 15] & 0x3) << 61)
+            | ((long) (b[p + 16] & 0xFF) << 53)
+            | ((long) (b[p + 17] & 0xFF) << 45)
+            | ((long) (b[p + 18] & 0xFF) << 37)
+            | ((long) (b[p + 19] & 0xFF) << 29)
+            | ((b[p + 20] & 0xFF) << 21)
+            | ((b[p + 21] & 0xFF) << 13)
+            | ((b[p + 22] & 0xFF) << 5)
+            | ((b[p + 23] & 0xFF) >>> 3);
+    v[o + 3] =
+        ((long) (b[p + 23] & 0x7) << 60)
+            | ((long) (b[p + 24] & 0xFF) << 52)
+            | ((long) (b[p + 25] & 0xFF) << 44)
+            | ((long) (b[p + 26] & 0xFF) << 36)
+            | ((long) (b[p + 27] & 0xFF) << 28)
+            | ((b[p + 28] & 0xFF) << 20)
+            | ((b[p + 29] & 0xFF) << 12)
+            | ((b[p + 30] & 0xFF) << 4)
+            | ((b[p + 31] & 0xFF) >>> 4);
+    v[o + 4] =
+        ((long) (b[p + 31] & 0xF) << 59)
+            | ((long) (b[p + 32] & 0xFF) << 51)
+            | ((long) (b[p + 33] & 0xFF) << 43)
+            | ((long) (b[p + 34] & 0xFF) << 35)
+            | ((long) (b[p + 35] & 0xFF) << 27)
+            | ((b[p + 36] & 0xFF) << 19)
+            | ((b[p + 37] & 0xFF) << 11)
+            | ((b[p + 38] & 0xFF) << 3)
+            | ((b[p + 39] & 0xFF) >>> 5);
+    v[o + 5] =
+        ((long) (b[p + 39] & 0x1F) << 58)
+            | ((long) (b[p + 40] & 0xFF) << 50)
+            | ((long) (b[p + 41] & 0xFF) << 42)
+            | ((long) (b[p + 42] & 0xFF) << 34)
+            | ((long) (b[p + 43] & 0xFF) << 26)
+            | ((b[p + 44] & 0xFF) << 18)
+            | ((b[p + 45] & 0xFF) << 10)
+            | ((b[p + 46] & 0xFF) << 2)
+            | ((b[p + 47] & 0xFF) >>> 6);
+    v[o + 6] =
+        ((long) (b[p + 47] & 0x3F) << 57)
+            | ((long) (b[p + 48] & 0xFF) << 49)
+            | ((long) (b[p + 49] & 0xFF) << 41)
+            | ((long) (b[p + 50] & 0xFF) << 33)
+            | ((long) (b[p + 51] & 0xFF) << 25)
+            | ((b[p + 52] & 0xFF) << 17)
+            | ((b[p + 53] & 0xFF) << 9)
+            | ((b[p + 54] & 0xFF) << 1)
+            | ((b[p + 55] & 0xFF) >>> 7);
+    v[o + 7] =
+        ((long) (b[p + 55] & 0x7F) << 56)
+            | ((long) (b[p + 56] & 0xFF) << 48)
+            | ((long) (b[p + 57] & 0xFF) << 40)
+            | ((long) (b[p + 58] & 0xFF) << 32)
+            | ((long) (b[p + 59] & 0xFF) << 24)
+            | ((b[p + 60] & 0xFF) << 16)
+            | ((b[p + 61] & 0xFF) << 8)
+            | (b[p + 62] & 0xFF);
+  }
+
+  private static void pack64(long[] v, int o, byte[] b, int p) {
+    b[p] = (byte) (v[o] >>> 56);
+    b[p + 1] = (byte) (v[o] >>> 48 & 0xFF);
+    b[p + 2] = (byte) (v[o] >>> 40 & 0xFF);
+    b[p + 3] = (byte) (v[o] >>> 32 & 0xFF);
+    b[p + 4] = (byte) (v[o] >>> 24 & 0xFF);
+    b[p + 5] = (byte) (v[o] >>> 16 & 0xFF);
+    b[p + 6] = (byte) (v[o] >>> 8 & 0xFF);
+    b[p + 7] = (byte) (v[o] & 0xFF);
+    b[p + 8] = (byte) (v[o + 1] >>> 56);
+    b[p + 9] = (byte) (v[o + 1] >>> 48 & 0xFF);
+    b[p + 10] = (byte) (v[o + 1] >>> 40 & 0xFF);
+    b[p + 11] = (byte) (v[o + 1] >>> 32 & 0xFF);
+    b[p + 12] = (byte) (v[o + 1] >>> 24 & 0xFF);
+    b[p + 13] = (byte) (v[o + 1] >>> 16 & 0xFF);
+    b[p + 14] = (byte) (v[o + 1] >>> 8 & 0xFF);
+    b[p + 15] = (byte) (v[o + 1] & 0xFF);
+    b[p + 16] = (byte) (v[o + 2] >>> 56);
+    b[p + 17] = (byte) (v[o + 2] >>> 48 & 0xFF);
+    b[p + 18] = (byte) (v[o + 2] >>> 40 & 0xFF);
+    b[p + 19] = (byte) (v[o + 2] >>> 32 & 0xFF);
+    b[p + 20] = (byte) (v[o + 2] >>> 24 & 0xFF);
+    b[p + 21] = (byte) (v[o + 2] >>> 16 & 0xFF);
+    b[p + 22] = (byte) (v[o + 2] >>> 8 & 0xFF);
+    b[p + 23] = (byte) (v[o + 2] & 0xFF);
+    b[p + 24] = (byte) (v[o + 3] >>> 56);
+    b[p + 25] = (byte) (v[o + 3] >>> 48 & 0xFF);
+    b[p + 26] = (byte) (v[o + 3] >>> 40 & 0xFF);
+    b[p + 27] = (byte) (v[o + 3] >>> 32 & 0xFF);
+    b[p + 28] = (byte) (v[o + 3] >>> 24 & 0xFF);
+    b[p + 29] = (byte) (v[o + 3] >>> 16 & 0xFF);
+    b[p + 30] = (byte) (v[o + 3] >>> 8 & 0xFF);
+    b[p + 31] = (byte) (v[o + 3] & 0xFF);
+    b[p + 32] = (byte) (v[o + 4] >>> 56);
+    b[p + 33] = (byte) (v[o + 4] >>> 48 & 0xFF);
+    b[p + 34] = (byte) (v[o + 4] >>> 40 & 0xFF);
+    b[p + 35] = (byte) (v[o + 4] >>> 32 & 0xFF);
+    b[p + 36] = (byte) (v[o + 4] >>> 24 & 0xFF);
+    b[p + 37] = (byte) (v[o + 4] >>> 16 & 0xFF);
+    b[p + 38] = (byte) (v[o + 4] >>> 8 & 0xFF);
+    b[p + 39] = (byte) (v[o + 4] & 0xFF);
+    b[p + 40] = (byte) (v[o + 5] >>> 56);
+    b[p + 41] = (byte) (v[o + 5] >>> 48 & 0xFF);
+    b[p + 42] = (byte) (v[o + 5] >>> 40 & 0xFF);
+    b[p + 43] = (byte) (v[o + 5] >>> 32 & 0xFF);
+    b[p + 44] = (byte) (v[o + 5] >>> 24 & 0xFF);
+    b[p + 45] = (byte) (v[o + 5] >>> 16 & 0xFF);
+    b[p + 46] = (byte) (v[o + 5] >>> 8 & 0xFF);
+    b[p + 47] = (byte) (v[o + 5] & 0xFF);
+    b[p + 48] = (byte) (v[o + 6] >>> 56);
+    b[p + 49] = (byte) (v[o + 6] >>> 48 & 0xFF);
+    b[p + 50] = (byte) (v[o + 6] >>> 40 & 0xFF);
+    b[p + 51] = (byte) (v[o + 6] >>> 32 & 0xFF);
+    b[p + 52] = (byte) (v[o + 6] >>> 24 & 0xFF);
+    b[p + 53] = (byte) (v[o + 6] >>> 16 & 0xFF);
+    b[p + 54] = (byte) (v[o + 6] >>> 8 & 0xFF);
+    b[p + 55] = (byte) (v[o + 6] & 0xFF);
+    b[p + 56] = (byte) (v[o + 7] >>> 56);
+    b[p + 57] = (byte) (v[o + 7] >>> 48 & 0xFF);
+    b[p + 58] = (byte) (v[o + 7] >>> 40 & 0xFF);
+    b[p + 59] = (byte) (v[o + 7] >>> 32 & 0xFF);
+    b[p + 60] = (byte) (v[o + 7] >>> 24 & 0xFF);
+    b[p + 61] = (byte) (v[o + 7] >>> 16 & 0xFF);
+    b[p + 62] = (byte) (v[o + 7] >>> 8 & 0xFF);
+    b[p + 63] = (byte) (v[o + 7] & 0xFF);
+  }
+
+  private static void unpack64(byte[] b, int p, long[] v, int o) {
+    v[o] =
+        ((long) (b[p] & 0xFF) << 56)
+            | ((long) (b[p + 1] & 0xFF) << 48)
+            | ((long) (b[p + 2] & 0xFF) << 40)
+            | ((long) (b[p + 3] & 0xFF) << 32)
+            | ((long) (b[p + 4] & 0xFF) << 24)
+            | ((b[p + 5] & 0xFF) << 16)
+            | ((b[p + 6] & 0xFF) << 8)
+            | (b[p + 7] & 0xFF);
+    v[o + 1] =
+        ((long) (b[p + 8] & 0xFF) << 56)
+            | ((long) (b[p + 9] & 0xFF) << 48)
+            | ((long) (b[p + 10] & 0xFF) << 40)
+            | ((long) (b[p + 11] & 0xFF) << 32)
+            | ((long) (b[p + 12] & 0xFF) << 24)
+            | ((b[p + 13] & 0xFF) << 16)
+            | ((b[p + 14] & 0xFF) << 8)
+            | (b[p + 15] & 0xFF);
+    v[o + 2] =
+        ((long) (b[p + 16] & 0xFF) << 56)
+            | ((long) (b[p + 17] & 0xFF) << 48)
+            | ((long) (b[p + 18] & 0xFF) << 40)
+            | ((long) (b[p + 19] & 0xFF) << 32)
+            | ((long) (b[p + 20] & 0xFF) << 24)
+            | ((b[p + 21] & 0xFF) << 16)
+            | ((b[p + 22] & 0xFF) << 8)
+            | (b[p + 23] & 0xFF);
+    v[o + 3] =
+        ((long) (b[p + 24] & 0xFF) << 56)
+            | ((long) (b[p + 25] & 0xFF) << 48)
+            | ((long) (b[p + 26] & 0xFF) << 40)
+            | ((long) (b[p + 27] & 0xFF) << 32)
+            | ((long) (b[p + 28] & 0xFF) << 24)
+            | ((b[p + 29] & 0xFF) << 16)
+            | ((b[p + 30] & 0xFF) << 8)
+            | (b[p + 31] & 0xFF);
+    v[o + 4] =
+        ((long) (b[p + 32] & 0xFF) << 56)
+            | ((long) (b[p + 33] & 0xFF) << 48)
+            | ((long) (b[p + 34] & 0xFF) << 40)
+            | ((long) (b[p + 35] & 0xFF) << 32)
+            | ((long) (b[p + 36] & 0xFF) << 24)
+            | ((b[p + 37] & 0xFF) << 16)
+            | ((b[p + 38] & 0xFF) << 8)
+            | (b[p + 39] & 0xFF);
+    v[o + 5] =
+        ((long) (b[p + 40] & 0xFF) << 56)
+            | ((long) (b[p + 41] & 0xFF) << 48)
+            | ((long) (b[p + 42] & 0xFF) << 40)
+            | ((long) (b[p + 43] & 0xFF) << 32)
+            | ((long) (b[p + 44] & 0xFF) << 24)
+            | ((b[p + 45] & 0xFF) << 16)
+            | ((b[p + 46] & 0xFF) << 8)
+            | (b[p + 47] & 0xFF);
+    v[o + 6] =
+        ((long) (b[p + 48] & 0xFF) << 56)
+            | ((long) (b[p + 49] & 0xFF) << 48)
+            | ((long) (b[p + 50] & 0xFF) << 40)
+            | ((long) (b[p + 51] & 0xFF) << 32)
+            | ((long) (b[p + 52] & 0xFF) << 24)
+            | ((b[p + 53] & 0xFF) << 16)
+            | ((b[p + 54] & 0xFF) << 8)
+            | (b[p + 55] & 0xFF);
+    v[o + 7] =
+        ((long) (b[p + 56] & 0xFF) << 56)
+            | ((long) (b[p + 57] & 0xFF) << 48)
+            | ((long) (b[p + 58] & 0xFF) << 40)
+            | ((long) (b[p + 59] & 0xFF) << 32)
+            | ((long) (b[p + 60] & 0xFF) << 24)
+            | ((b[p + 61] & 0xFF) << 16)
+            | ((b[p + 62] & 0xFF) << 8)
+            | (b[p + 63] & 0xFF);
+  }
+}
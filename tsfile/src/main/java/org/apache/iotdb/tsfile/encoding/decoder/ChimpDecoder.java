@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+
+import java.nio.ByteBuffer;
+
+/** Base of the Chimp128 decoders, see {@code ChimpEncoder} for the encoding. */
+public abstract class ChimpDecoder extends Decoder {
+
+  /** number of previous values a value can be XORed with. */
+  protected static final int PREVIOUS_VALUES = 128;
+
+  protected static final int PREVIOUS_VALUES_LOG2 = 7;
+
+  protected boolean firstValueWasRead = false;
+  protected int storedLeadingZeros = Integer.MAX_VALUE;
+  protected boolean hasNext = true;
+
+  private byte buffer = 0;
+  private int bitsLeft = 0;
+
+  protected ChimpDecoder() {
+    super(TSEncoding.CHIMP);
+  }
+
+  @Override
+  public final boolean hasNext(ByteBuffer in) {
+    return hasNext;
+  }
+
+  @Override
+  public void reset() {
+    firstValueWasRead = false;
+    storedLeadingZeros = Integer.MAX_VALUE;
+    hasNext = true;
+
+    buffer = 0;
+    bitsLeft = 0;
+  }
+
+  /**
+   * Reads a long from the next X bits that represent the least significant bits in the long value.
+   *
+   * @param bits How many next bits are read from the stream
+   * @return long value that was read from the stream
+   */
+  protected long readLong(int bits, ByteBuffer in) {
+    long value = 0;
+    while (bits > 0) {
+      if (bits > bitsLeft || bits == Byte.SIZE) {
+        // Take only the bitsLeft "least significant" bits
+        byte d = (byte) (buffer & ((1 << bitsLeft) - 1));
+        value = (value << bitsLeft) + (d & 0xFF);
+        bits -= bitsLeft;
+        bitsLeft = 0;
+      } else {
+        // Shift to correct position and take only least significant bits
+        byte d = (byte) ((buffer >>> (bitsLeft - bits)) & ((1 << bits) - 1));
+        value = (value << bits) + (d & 0xFF);
+        bitsLeft -= bits;
+        bits = 0;
+      }
+      flipByte(in);
+    }
+    return value;
+  }
+
+  protected void flipByte(ByteBuffer in) {
+    if (bitsLeft == 0) {
+      buffer = in.get();
+      bitsLeft = Byte.SIZE;
+    }
+  }
+}
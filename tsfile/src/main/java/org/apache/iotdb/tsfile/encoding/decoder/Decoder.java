@@ -123,6 +123,29 @@ public abstract class Decoder {
         }
       case FREQ:
         return new FreqDecoder();
+      case CHIMP:
+        switch (dataType) {
+          case FLOAT:
+            return new SinglePrecisionChimpDecoder();
+          case DOUBLE:
+            return new DoublePrecisionChimpDecoder();
+          case INT32:
+            return new IntChimpDecoder();
+          case INT64:
+          case VECTOR:
+            return new LongChimpDecoder();
+          default:
+            throw new TsFileDecodingException(String.format(ERROR_MSG, encoding, dataType));
+        }
+      case ELF:
+        switch (dataType) {
+          case FLOAT:
+            return new SinglePrecisionElfDecoder();
+          case DOUBLE:
+            return new DoublePrecisionElfDecoder();
+          default:
+            throw new TsFileDecodingException(String.format(ERROR_MSG, encoding, dataType));
+        }
       default:
         throw new TsFileDecodingException(String.format(ERROR_MSG, encoding, dataType));
     }
@@ -160,6 +183,55 @@ public abstract class Decoder {
     throw new TsFileDecodingException("Method readBigDecimal is not supported by Decoder");
   }
 
+  /**
+   * Decode at most {@code len} values into {@code dst} starting at {@code off}.
+   *
+   * @return the number of values decoded, less than {@code len} only if the buffer runs out
+   */
+  public int readBooleans(ByteBuffer buffer, boolean[] dst, int off, int len) throws IOException {
+    int read = 0;
+    while (read < len && hasNext(buffer)) {
+      dst[off + read++] = readBoolean(buffer);
+    }
+    return read;
+  }
+
+  /** @see #readBooleans(ByteBuffer, boolean[], int, int) */
+  public int readInts(ByteBuffer buffer, int[] dst, int off, int len) throws IOException {
+    int read = 0;
+    while (read < len && hasNext(buffer)) {
+      dst[off + read++] = readInt(buffer);
+    }
+    return read;
+  }
+
+  /** @see #readBooleans(ByteBuffer, boolean[], int, int) */
+  public int readLongs(ByteBuffer buffer, long[] dst, int off, int len) throws IOException {
+    int read = 0;
+    while (read < len && hasNext(buffer)) {
+      dst[off + read++] = readLong(buffer);
+    }
+    return read;
+  }
+
+  /** @see #readBooleans(ByteBuffer, boolean[], int, int) */
+  public int readFloats(ByteBuffer buffer, float[] dst, int off, int len) throws IOException {
+    int read = 0;
+    while (read < len && hasNext(buffer)) {
+      dst[off + read++] = readFloat(buffer);
+    }
+    return read;
+  }
+
+  /** @see #readBooleans(ByteBuffer, boolean[], int, int) */
+  public int readDoubles(ByteBuffer buffer, double[] dst, int off, int len) throws IOException {
+    int read = 0;
+    while (read < len && hasNext(buffer)) {
+      dst[off + read++] = readDouble(buffer);
+    }
+    return read;
+  }
+
   public abstract boolean hasNext(ByteBuffer buffer) throws IOException;
 
   public abstract void reset();
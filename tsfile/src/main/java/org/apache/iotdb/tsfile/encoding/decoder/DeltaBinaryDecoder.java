@@ -19,6 +19,8 @@
 
 package org.apache.iotdb.tsfile.encoding.decoder;
 
+import org.apache.iotdb.tsfile.encoding.bitpacking.IntPacker;
+import org.apache.iotdb.tsfile.encoding.bitpacking.LongPacker;
 import org.apache.iotdb.tsfile.encoding.encoder.DeltaBinaryEncoder;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.utils.BytesUtils;
@@ -80,6 +82,7 @@ public abstract class DeltaBinaryDecoder extends Decoder {
 
     private int firstValue;
     private int[] data;
+    private final IntPacker packer = new IntPacker(0);
     private int previous;
     /** minimum value for all difference. */
     private int minDeltaBase;
@@ -106,6 +109,25 @@ public abstract class DeltaBinaryDecoder extends Decoder {
       return readT(buffer);
     }
 
+    @Override
+    public int readInts(ByteBuffer buffer, int[] dst, int off, int len) {
+      int read = 0;
+      while (read < len) {
+        if (nextReadIndex < readIntTotalCount) {
+          // copy the rest of the decoded pack in one go
+          int n = Math.min(len - read, readIntTotalCount - nextReadIndex);
+          System.arraycopy(data, nextReadIndex, dst, off + read, n);
+          nextReadIndex += n;
+          read += n;
+        } else if (buffer.remaining() > 0) {
+          dst[off + read++] = loadIntBatch(buffer);
+        } else {
+          break;
+        }
+      }
+      return read;
+    }
+
     /**
      * if remaining data has been run out, load next pack from InputStream.
      *
@@ -131,7 +153,17 @@ public abstract class DeltaBinaryDecoder extends Decoder {
     }
 
     private void readPack() {
-      for (int i = 0; i < packNum; i++) {
+      // unpack the leading groups of 8 deltas at once, then the rest one by one
+      packer.setWidth(packWidth);
+      int unpacked = packNum - packNum % IntPacker.NUM_OF_INTS;
+      for (int i = 0; i < unpacked; i += IntPacker.NUM_OF_INTS) {
+        packer.unpack8Values(deltaBuf, i / IntPacker.NUM_OF_INTS * packWidth, data, i);
+      }
+      for (int i = 0; i < unpacked; i++) {
+        previous += minDeltaBase + data[i];
+        data[i] = previous;
+      }
+      for (int i = unpacked; i < packNum; i++) {
         readValue(i);
         previous = data[i];
       }
@@ -164,6 +196,7 @@ public abstract class DeltaBinaryDecoder extends Decoder {
 
     private long firstValue;
     private long[] data;
+    private final LongPacker packer = new LongPacker(0);
     private long previous;
     /** minimum value for all difference. */
     private long minDeltaBase;
@@ -210,7 +243,17 @@ public abstract class DeltaBinaryDecoder extends Decoder {
     }
 
     private void readPack() {
-      for (int i = 0; i < packNum; i++) {
+      // unpack the leading groups of 8 deltas at once, then the rest one by one
+      packer.setWidth(packWidth);
+      int unpacked = packNum - packNum % LongPacker.NUM_OF_LONGS;
+      for (int i = 0; i < unpacked; i += LongPacker.NUM_OF_LONGS) {
+        packer.unpack8Values(deltaBuf, i / LongPacker.NUM_OF_LONGS * packWidth, data, i);
+      }
+      for (int i = 0; i < unpacked; i++) {
+        previous += minDeltaBase + data[i];
+        data[i] = previous;
+      }
+      for (int i = unpacked; i < packNum; i++) {
         readValue(i);
         previous = data[i];
       }
@@ -222,6 +265,25 @@ public abstract class DeltaBinaryDecoder extends Decoder {
       return readT(buffer);
     }
 
+    @Override
+    public int readLongs(ByteBuffer buffer, long[] dst, int off, int len) {
+      int read = 0;
+      while (read < len) {
+        if (nextReadIndex < readIntTotalCount) {
+          // copy the rest of the decoded pack in one go
+          int n = Math.min(len - read, readIntTotalCount - nextReadIndex);
+          System.arraycopy(data, nextReadIndex, dst, off + read, n);
+          nextReadIndex += n;
+          read += n;
+        } else if (buffer.remaining() > 0) {
+          dst[off + read++] = loadIntBatch(buffer);
+        } else {
+          break;
+        }
+      }
+      return read;
+    }
+
     @Override
     protected void readHeader(ByteBuffer buffer) {
       minDeltaBase = ReadWriteIOUtils.readLong(buffer);
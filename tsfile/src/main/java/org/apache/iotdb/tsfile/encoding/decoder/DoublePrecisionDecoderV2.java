@@ -42,6 +42,19 @@ public class DoublePrecisionDecoderV2 extends LongGorillaDecoder {
     return Double.longBitsToDouble(readLong(in));
   }
 
+  @Override
+  public int readDoubles(ByteBuffer in, double[] dst, int off, int len) {
+    int read = 0;
+    if (len > 0 && hasNext && !firstValueWasRead) {
+      dst[off + read++] = readDouble(in);
+    }
+    while (read < len && hasNext) {
+      dst[off + read++] = Double.longBitsToDouble(storedValue);
+      cacheNext(in);
+    }
+    return read;
+  }
+
   @Override
   protected long cacheNext(ByteBuffer in) {
     readNext(in);
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import org.apache.iotdb.tsfile.encoding.encoder.DoublePrecisionElfEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.ElfEncoder;
+
+import java.nio.ByteBuffer;
+
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.GORILLA_ENCODING_ENDING_DOUBLE;
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.VALUE_BITS_LENGTH_64BIT;
+
+/** Decoder of {@link DoublePrecisionElfEncoder}. */
+public class DoublePrecisionElfDecoder extends ElfDecoder {
+
+  private static final long ELF_ENCODING_ENDING =
+      Double.doubleToRawLongBits(GORILLA_ENCODING_ENDING_DOUBLE);
+
+  /** numbers of leading zeros indexed by their 3-bit representation, as in the encoder. */
+  private static final int[] LEADING_ZEROS = {0, 8, 12, 16, 18, 20, 22, 24};
+
+  /** raw bits of the last value, erased or not. */
+  private long storedValue = 0;
+
+  /** the last value restored from {@link #storedValue}. */
+  private double storedDouble = 0;
+
+  @Override
+  public void reset() {
+    super.reset();
+    storedValue = 0;
+    storedDouble = 0;
+  }
+
+  @Override
+  public final double readDouble(ByteBuffer in) {
+    if (!firstValueWasRead) {
+      flipByte(in);
+      readNext(in);
+    }
+    double returnValue = storedDouble;
+    if (!readNext(in) && storedValue == ELF_ENCODING_ENDING) {
+      hasNext = false;
+    }
+    return returnValue;
+  }
+
+  /** @return whether the value read was erased */
+  private boolean readNext(ByteBuffer in) {
+    int alpha = readAlpha(in);
+    if (!firstValueWasRead) {
+      int trailingZeros = (int) readLong(7, in);
+      storedValue =
+          readLong(VALUE_BITS_LENGTH_64BIT - trailingZeros, in) << (trailingZeros & 0x3F);
+      firstValueWasRead = true;
+    } else {
+      readXor(in);
+    }
+    storedDouble =
+        alpha < 0
+            ? Double.longBitsToDouble(storedValue)
+            : ElfEncoder.restore(Double.longBitsToDouble(storedValue), alpha);
+    return alpha >= 0;
+  }
+
+  private void readXor(ByteBuffer in) {
+    int centerBits;
+    switch ((int) readLong(2, in)) {
+      case 1: // case '01': equal to the previous value
+        return;
+      case 0: // case '00': stored leading and trailing zeros
+        centerBits = VALUE_BITS_LENGTH_64BIT - storedLeadingZeros - storedTrailingZeros;
+        storedValue ^= readLong(centerBits, in) << storedTrailingZeros;
+        return;
+      case 2: // case '10': new leading and trailing zeros, short length
+        storedLeadingZeros = LEADING_ZEROS[(int) readLong(3, in)];
+        centerBits = (int) readLong(4, in);
+        centerBits = centerBits == 0 ? 16 : centerBits;
+        break;
+      default: // case '11': new leading and trailing zeros, long length
+        storedLeadingZeros = LEADING_ZEROS[(int) readLong(3, in)];
+        centerBits = (int) readLong(6, in);
+        centerBits = centerBits == 0 ? VALUE_BITS_LENGTH_64BIT : centerBits;
+        break;
+    }
+    storedTrailingZeros = VALUE_BITS_LENGTH_64BIT - storedLeadingZeros - centerBits;
+    // the last center bit is always 1
+    storedValue ^= ((readLong(centerBits - 1, in) << 1) | 1) << storedTrailingZeros;
+  }
+}
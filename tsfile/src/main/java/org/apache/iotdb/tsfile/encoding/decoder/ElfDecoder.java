@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+
+import java.nio.ByteBuffer;
+
+/** Base of the Elf decoders, see {@code ElfEncoder} for the encoding. */
+public abstract class ElfDecoder extends Decoder {
+
+  protected boolean firstValueWasRead = false;
+  protected int storedLeadingZeros = Integer.MAX_VALUE;
+  protected int storedTrailingZeros = Integer.MAX_VALUE;
+  protected boolean hasNext = true;
+
+  /** decimal places of the last erased value. */
+  private int lastAlpha = 0;
+
+  private byte buffer = 0;
+  private int bitsLeft = 0;
+
+  protected ElfDecoder() {
+    super(TSEncoding.ELF);
+  }
+
+  @Override
+  public final boolean hasNext(ByteBuffer in) {
+    return hasNext;
+  }
+
+  @Override
+  public void reset() {
+    firstValueWasRead = false;
+    storedLeadingZeros = Integer.MAX_VALUE;
+    storedTrailingZeros = Integer.MAX_VALUE;
+    hasNext = true;
+    lastAlpha = 0;
+
+    buffer = 0;
+    bitsLeft = 0;
+  }
+
+  /**
+   * Reads the erasing flag of a value.
+   *
+   * @return decimal places the value was erased for, or -1 if it was not erased
+   */
+  protected int readAlpha(ByteBuffer in) {
+    if (readLong(1, in) == 0) {
+      // case '0': erased with the last alpha
+      return lastAlpha;
+    } else if (readLong(1, in) == 0) {
+      // case '10': not erased
+      return -1;
+    }
+    // case '11': erased with a new alpha
+    lastAlpha = (int) readLong(4, in);
+    return lastAlpha;
+  }
+
+  /**
+   * Reads a long from the next X bits that represent the least significant bits in the long value.
+   *
+   * @param bits How many next bits are read from the stream
+   * @return long value that was read from the stream
+   */
+  protected long readLong(int bits, ByteBuffer in) {
+    long value = 0;
+    while (bits > 0) {
+      if (bits > bitsLeft || bits == Byte.SIZE) {
+        // Take only the bitsLeft "least significant" bits
+        byte d = (byte) (buffer & ((1 << bitsLeft) - 1));
+        value = (value << bitsLeft) + (d & 0xFF);
+        bits -= bitsLeft;
+        bitsLeft = 0;
+      } else {
+        // Shift to correct position and take only least significant bits
+        byte d = (byte) ((buffer >>> (bitsLeft - bits)) & ((1 << bits) - 1));
+        value = (value << bits) + (d & 0xFF);
+        bitsLeft -= bits;
+        bits = 0;
+      }
+      flipByte(in);
+    }
+    return value;
+  }
+
+  protected void flipByte(ByteBuffer in) {
+    if (bitsLeft == 0) {
+      buffer = in.get();
+      bitsLeft = Byte.SIZE;
+    }
+  }
+}
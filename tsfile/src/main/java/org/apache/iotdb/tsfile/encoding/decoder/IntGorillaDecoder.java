@@ -58,6 +58,19 @@ public class IntGorillaDecoder extends GorillaDecoderV2 {
     return returnValue;
   }
 
+  @Override
+  public int readInts(ByteBuffer in, int[] dst, int off, int len) {
+    int read = 0;
+    if (len > 0 && hasNext && !firstValueWasRead) {
+      dst[off + read++] = readInt(in);
+    }
+    while (read < len && hasNext) {
+      dst[off + read++] = storedValue;
+      cacheNext(in);
+    }
+    return read;
+  }
+
   protected int cacheNext(ByteBuffer in) {
     readNext(in);
     if (storedValue == GORILLA_ENCODING_ENDING_INTEGER) {
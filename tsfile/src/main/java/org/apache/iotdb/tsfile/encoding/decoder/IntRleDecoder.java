@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /** Decoder for int value using rle or bit-packing. */
 public class IntRleDecoder extends RleDecoder {
@@ -99,6 +100,32 @@ public class IntRleDecoder extends RleDecoder {
     return result;
   }
 
+  @Override
+  public int readInts(ByteBuffer buffer, int[] dst, int off, int len) throws IOException {
+    int read = 0;
+    while (read < len && hasNext(buffer)) {
+      loadNextGroupIfNeeded(buffer);
+      int n = Math.min(len - read, currentCount);
+      switch (mode) {
+        case RLE:
+          Arrays.fill(dst, off + read, off + read + n, currentValue);
+          break;
+        case BIT_PACKED:
+          System.arraycopy(currentBuffer, bitPackingNum - currentCount, dst, off + read, n);
+          break;
+        default:
+          throw new TsFileDecodingException(
+              String.format("tsfile-encoding IntRleDecoder: not a valid mode %s", mode));
+      }
+      currentCount -= n;
+      read += n;
+      if (!hasNextPackage()) {
+        isLengthAndBitWidthReaded = false;
+      }
+    }
+    return read;
+  }
+
   @Override
   protected void initPacker() {
     packer = new IntPacker(bitWidth);
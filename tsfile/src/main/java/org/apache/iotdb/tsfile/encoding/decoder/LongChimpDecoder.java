@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import java.nio.ByteBuffer;
+
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.GORILLA_ENCODING_ENDING_LONG;
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.VALUE_BITS_LENGTH_64BIT;
+
+/** Decoder of {@code LongChimpEncoder}. */
+public class LongChimpDecoder extends ChimpDecoder {
+
+  /** numbers of leading zeros indexed by their 3-bit representation, as in the encoder. */
+  private static final int[] LEADING_ZEROS = {0, 8, 12, 16, 18, 20, 22, 24};
+
+  private static final int FLAG_ONE_SIZE = PREVIOUS_VALUES_LOG2 + 3 + 6;
+
+  protected long storedValue = 0;
+
+  private final long[] storedValues = new long[PREVIOUS_VALUES];
+
+  /** index of the latest value, its position in the ring buffer is index % PREVIOUS_VALUES. */
+  private int index = 0;
+
+  @Override
+  public void reset() {
+    super.reset();
+    storedValue = 0;
+    index = 0;
+  }
+
+  @Override
+  public final long readLong(ByteBuffer in) {
+    if (!firstValueWasRead) {
+      flipByte(in);
+      readNext(in);
+    }
+    long returnValue = storedValue;
+    cacheNext(in);
+    return returnValue;
+  }
+
+  protected long cacheNext(ByteBuffer in) {
+    readNext(in);
+    if (storedValue == GORILLA_ENCODING_ENDING_LONG) {
+      hasNext = false;
+    }
+    return storedValue;
+  }
+
+  protected long readNext(ByteBuffer in) {
+    if (!firstValueWasRead) {
+      storedValue = readLong(VALUE_BITS_LENGTH_64BIT, in);
+      storedValues[0] = storedValue;
+      firstValueWasRead = true;
+      return storedValue;
+    }
+
+    switch ((int) readLong(2, in)) {
+      case 3: // case '11': XOR with the last value, new leading zeros
+        storedLeadingZeros = LEADING_ZEROS[(int) readLong(3, in)];
+        storedValue ^= readLong(VALUE_BITS_LENGTH_64BIT - storedLeadingZeros, in);
+        break;
+      case 2: // case '10': XOR with the last value, stored leading zeros
+        storedValue ^= readLong(VALUE_BITS_LENGTH_64BIT - storedLeadingZeros, in);
+        break;
+      case 1: // case '01': XOR with an earlier value, with trailing zeros
+        int fill = (int) readLong(FLAG_ONE_SIZE, in);
+        int previousIndex = fill >>> 9;
+        int leadingZeros = LEADING_ZEROS[(fill >>> 6) & 0x7];
+        int significantBits = fill & 0x3F;
+        int trailingZeros = VALUE_BITS_LENGTH_64BIT - leadingZeros - significantBits;
+        storedValue =
+            storedValues[previousIndex] ^ (readLong(significantBits, in) << trailingZeros);
+        break;
+      default: // case '00': equal to an earlier value
+        storedValue = storedValues[(int) readLong(PREVIOUS_VALUES_LOG2, in)];
+        break;
+    }
+
+    index++;
+    storedValues[index % PREVIOUS_VALUES] = storedValue;
+    return storedValue;
+  }
+}
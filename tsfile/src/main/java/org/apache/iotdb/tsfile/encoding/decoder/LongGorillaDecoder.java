@@ -58,6 +58,19 @@ public class LongGorillaDecoder extends GorillaDecoderV2 {
     return returnValue;
   }
 
+  @Override
+  public int readLongs(ByteBuffer in, long[] dst, int off, int len) {
+    int read = 0;
+    if (len > 0 && hasNext && !firstValueWasRead) {
+      dst[off + read++] = readLong(in);
+    }
+    while (read < len && hasNext) {
+      dst[off + read++] = storedValue;
+      cacheNext(in);
+    }
+    return read;
+  }
+
   protected long cacheNext(ByteBuffer in) {
     readNext(in);
     if (storedValue == GORILLA_ENCODING_ENDING_LONG) {
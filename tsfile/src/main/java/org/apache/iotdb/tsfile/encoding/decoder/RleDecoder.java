@@ -106,6 +106,23 @@ public abstract class RleDecoder extends Decoder {
     }
   }
 
+  /**
+   * make sure there are values left in current rle run or bit-packing group, reading the next
+   * pattern or group from the stream if needed. Used by the bulk read methods.
+   *
+   * @param buffer ByteBuffer
+   * @throws IOException cannot read next value
+   */
+  protected void loadNextGroupIfNeeded(ByteBuffer buffer) throws IOException {
+    if (!isLengthAndBitWidthReaded) {
+      // start to read a new rle+bit-packing pattern
+      readLengthAndBitWidth(buffer);
+    }
+    if (currentCount == 0) {
+      readNext();
+    }
+  }
+
   protected void callReadBitPackingBuffer(int header) throws IOException {
     int bitPackedGroupCount = header >> 1;
     // in last bit-packing group, there may be some useless value,
@@ -42,6 +42,19 @@ public class SinglePrecisionDecoderV2 extends IntGorillaDecoder {
     return Float.intBitsToFloat(readInt(in));
   }
 
+  @Override
+  public int readFloats(ByteBuffer in, float[] dst, int off, int len) {
+    int read = 0;
+    if (len > 0 && hasNext && !firstValueWasRead) {
+      dst[off + read++] = readFloat(in);
+    }
+    while (read < len && hasNext) {
+      dst[off + read++] = Float.intBitsToFloat(storedValue);
+      cacheNext(in);
+    }
+    return read;
+  }
+
   @Override
   protected int cacheNext(ByteBuffer in) {
     readNext(in);
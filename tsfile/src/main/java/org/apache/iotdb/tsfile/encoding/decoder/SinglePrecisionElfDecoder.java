@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import org.apache.iotdb.tsfile.encoding.encoder.SinglePrecisionElfEncoder;
+
+import java.nio.ByteBuffer;
+
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.GORILLA_ENCODING_ENDING_FLOAT;
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.VALUE_BITS_LENGTH_32BIT;
+
+/** Decoder of {@link SinglePrecisionElfEncoder}. */
+public class SinglePrecisionElfDecoder extends ElfDecoder {
+
+  private static final int ELF_ENCODING_ENDING =
+      Float.floatToRawIntBits(GORILLA_ENCODING_ENDING_FLOAT);
+
+  /** numbers of leading zeros indexed by their 3-bit representation, as in the encoder. */
+  private static final int[] LEADING_ZEROS = {0, 8, 12, 14, 16, 18, 20, 22};
+
+  /** raw bits of the last value, erased or not. */
+  private int storedValue = 0;
+
+  /** the last value restored from {@link #storedValue}. */
+  private float storedFloat = 0;
+
+  @Override
+  public void reset() {
+    super.reset();
+    storedValue = 0;
+    storedFloat = 0;
+  }
+
+  @Override
+  public final float readFloat(ByteBuffer in) {
+    if (!firstValueWasRead) {
+      flipByte(in);
+      readNext(in);
+    }
+    float returnValue = storedFloat;
+    if (!readNext(in) && storedValue == ELF_ENCODING_ENDING) {
+      hasNext = false;
+    }
+    return returnValue;
+  }
+
+  /** @return whether the value read was erased */
+  private boolean readNext(ByteBuffer in) {
+    int alpha = readAlpha(in);
+    if (!firstValueWasRead) {
+      int trailingZeros = (int) readLong(6, in);
+      storedValue =
+          (int) readLong(VALUE_BITS_LENGTH_32BIT - trailingZeros, in) << (trailingZeros & 0x1F);
+      firstValueWasRead = true;
+    } else {
+      readXor(in);
+    }
+    storedFloat =
+        alpha < 0
+            ? Float.intBitsToFloat(storedValue)
+            : SinglePrecisionElfEncoder.restore(Float.intBitsToFloat(storedValue), alpha);
+    return alpha >= 0;
+  }
+
+  private void readXor(ByteBuffer in) {
+    int centerBits;
+    switch ((int) readLong(2, in)) {
+      case 1: // case '01': equal to the previous value
+        return;
+      case 0: // case '00': stored leading and trailing zeros
+        centerBits = VALUE_BITS_LENGTH_32BIT - storedLeadingZeros - storedTrailingZeros;
+        storedValue ^= (int) readLong(centerBits, in) << storedTrailingZeros;
+        return;
+      case 2: // case '10': new leading and trailing zeros, short length
+        storedLeadingZeros = LEADING_ZEROS[(int) readLong(3, in)];
+        centerBits = (int) readLong(3, in);
+        centerBits = centerBits == 0 ? 8 : centerBits;
+        break;
+      default: // case '11': new leading and trailing zeros, long length
+        storedLeadingZeros = LEADING_ZEROS[(int) readLong(3, in)];
+        centerBits = (int) readLong(5, in);
+        centerBits = centerBits == 0 ? VALUE_BITS_LENGTH_32BIT : centerBits;
+        break;
+    }
+    storedTrailingZeros = VALUE_BITS_LENGTH_32BIT - storedLeadingZeros - centerBits;
+    // the last center bit is always 1
+    storedValue ^= (((int) readLong(centerBits - 1, in) << 1) | 1) << storedTrailingZeros;
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Base of the Chimp128 encoders, see "Chimp: Efficient Lossless Floating Point Compression for Time
+ * Series Databases" (VLDB 2022).
+ *
+ * <p>Like Gorilla, every value is XORed with a previous value and only the meaningful bits of the
+ * XOR are stored. Unlike Gorilla, the reference value can be any of the last {@link
+ * #PREVIOUS_VALUES} values, chosen so that the XOR has as many trailing zeros as possible, and the
+ * number of leading zeros is rounded to one of 8 representatives stored in 3 bits.
+ */
+public abstract class ChimpEncoder extends Encoder {
+
+  /** number of previous values a value can be XORed with. */
+  protected static final int PREVIOUS_VALUES = 128;
+
+  protected static final int PREVIOUS_VALUES_LOG2 = 7;
+
+  /** leading zeros of the last XOR stored with flag '11', or more than the value width if none. */
+  protected int storedLeadingZeros = Integer.MAX_VALUE;
+
+  protected boolean firstValueWasWritten = false;
+
+  private byte buffer = 0;
+  protected int bitsLeft = Byte.SIZE;
+
+  protected ChimpEncoder() {
+    super(TSEncoding.CHIMP);
+  }
+
+  protected void reset() {
+    firstValueWasWritten = false;
+    storedLeadingZeros = Integer.MAX_VALUE;
+
+    buffer = 0;
+    bitsLeft = Byte.SIZE;
+  }
+
+  /**
+   * Writes the given long value using the defined amount of least significant bits.
+   *
+   * @param value The long value to be written
+   * @param bits How many bits are stored to the stream
+   */
+  protected void writeBits(long value, int bits, ByteArrayOutputStream out) {
+    while (bits > 0) {
+      int shift = bits - bitsLeft;
+      if (shift >= 0) {
+        buffer |= (byte) ((value >> shift) & ((1 << bitsLeft) - 1));
+        bits -= bitsLeft;
+        bitsLeft = 0;
+      } else {
+        shift = bitsLeft - bits;
+        buffer |= (byte) (value << shift);
+        bitsLeft -= bits;
+        bits = 0;
+      }
+      flipByte(out);
+    }
+  }
+
+  protected void flipByte(ByteArrayOutputStream out) {
+    if (bitsLeft == 0) {
+      out.write(buffer);
+      buffer = 0;
+      bitsLeft = Byte.SIZE;
+    }
+  }
+
+  /**
+   * round every possible number of leading zeros down to the closest of {@code representatives}.
+   *
+   * @param representatives ascending numbers of leading zeros that can be stored, starting with 0
+   * @param width bit width of the values
+   * @return for every number of leading zeros in [0, width], the index of its representative
+   */
+  protected static int[] leadingRepresentations(int[] representatives, int width) {
+    int[] representations = new int[width + 1];
+    int representation = 0;
+    for (int leadingZeros = 0; leadingZeros <= width; leadingZeros++) {
+      while (representation + 1 < representatives.length
+          && representatives[representation + 1] <= leadingZeros) {
+        representation++;
+      }
+      representations[leadingZeros] = representation;
+    }
+    return representations;
+  }
+}
@@ -19,6 +19,8 @@
 
 package org.apache.iotdb.tsfile.encoding.encoder;
 
+import org.apache.iotdb.tsfile.encoding.bitpacking.IntPacker;
+import org.apache.iotdb.tsfile.encoding.bitpacking.LongPacker;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.utils.BytesUtils;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
@@ -69,6 +71,14 @@ public abstract class DeltaBinaryEncoder extends Encoder {
 
   protected abstract void writeValueToBytes(int i);
 
+  /**
+   * bit-pack the leading groups of 8 values of {@code deltaBlockBuffer} into {@code
+   * encodingBlockBuffer} at once.
+   *
+   * @return number of values packed, the rest is written by {@link #writeValueToBytes(int)}
+   */
+  protected abstract int packValuesToBytes();
+
   protected abstract void calcTwoDiff(int i);
 
   protected abstract void reset();
@@ -77,7 +87,7 @@ public abstract class DeltaBinaryEncoder extends Encoder {
 
   /** write all data into {@code encodingBlockBuffer}. */
   private void writeDataWithMinWidth() {
-    for (int i = 0; i < writeIndex; i++) {
+    for (int i = packValuesToBytes(); i < writeIndex; i++) {
       writeValueToBytes(i);
     }
     int encodingLength = (int) Math.ceil((double) (writeIndex * writeWidth) / 8.0);
@@ -121,6 +131,7 @@ public abstract class DeltaBinaryEncoder extends Encoder {
   public static class IntDeltaEncoder extends DeltaBinaryEncoder {
 
     private int[] deltaBlockBuffer;
+    private final IntPacker packer = new IntPacker(0);
     private int firstValue;
     private int previousValue;
     private int minDeltaBase;
@@ -193,6 +204,17 @@ public abstract class DeltaBinaryEncoder extends Encoder {
       return 32 - Integer.numberOfLeadingZeros(v);
     }
 
+    @Override
+    protected int packValuesToBytes() {
+      packer.setWidth(writeWidth);
+      int packed = writeIndex - writeIndex % IntPacker.NUM_OF_INTS;
+      for (int i = 0; i < packed; i += IntPacker.NUM_OF_INTS) {
+        packer.pack8Values(
+            deltaBlockBuffer, i, encodingBlockBuffer, i / IntPacker.NUM_OF_INTS * writeWidth);
+      }
+      return packed;
+    }
+
     @Override
     protected void writeValueToBytes(int i) {
       BytesUtils.intToBytes(deltaBlockBuffer[i], encodingBlockBuffer, writeWidth * i, writeWidth);
@@ -229,6 +251,7 @@ public abstract class DeltaBinaryEncoder extends Encoder {
   public static class LongDeltaEncoder extends DeltaBinaryEncoder {
 
     private long[] deltaBlockBuffer;
+    private final LongPacker packer = new LongPacker(0);
     private long firstValue;
     private long previousValue;
     private long minDeltaBase;
@@ -272,6 +295,17 @@ public abstract class DeltaBinaryEncoder extends Encoder {
       return 64 - Long.numberOfLeadingZeros(v);
     }
 
+    @Override
+    protected int packValuesToBytes() {
+      packer.setWidth(writeWidth);
+      int packed = writeIndex - writeIndex % LongPacker.NUM_OF_LONGS;
+      for (int i = 0; i < packed; i += LongPacker.NUM_OF_LONGS) {
+        packer.pack8Values(
+            deltaBlockBuffer, i, encodingBlockBuffer, i / LongPacker.NUM_OF_LONGS * writeWidth);
+      }
+      return packed;
+    }
+
     @Override
     protected void writeValueToBytes(int i) {
       BytesUtils.longToBytes(deltaBlockBuffer[i], encodingBlockBuffer, writeWidth * i, writeWidth);
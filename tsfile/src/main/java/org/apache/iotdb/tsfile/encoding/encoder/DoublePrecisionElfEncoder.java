@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.GORILLA_ENCODING_ENDING_DOUBLE;
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.VALUE_BITS_LENGTH_64BIT;
+
+/**
+ * Elf encoder for double values. The number of trailing zeros of the first value takes 7 bits, the
+ * short length of center bits 4 bits (up to 16) and the long length 6 bits.
+ */
+public class DoublePrecisionElfEncoder extends ElfEncoder {
+
+  private static final int MANTISSA_BITS = 52;
+  private static final int EXPONENT_MASK = 0x7FF;
+  private static final int EXPONENT_BIAS = 1023;
+
+  /** numbers of leading zeros that can be stored, indexed by their 3-bit representation. */
+  private static final int[] LEADING_ZEROS = {0, 8, 12, 16, 18, 20, 22, 24};
+
+  private static final int[] LEADING_REPRESENTATION =
+      ChimpEncoder.leadingRepresentations(LEADING_ZEROS, VALUE_BITS_LENGTH_64BIT);
+
+  private static final int ONE_ITEM_MAX_SIZE =
+      (6 + 2 + 3 + 6 + VALUE_BITS_LENGTH_64BIT) / Byte.SIZE + 1;
+
+  private long storedValue = 0;
+
+  @Override
+  public int getOneItemMaxSize() {
+    return ONE_ITEM_MAX_SIZE;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // the ending value and the last unfinished byte
+    return (long) ONE_ITEM_MAX_SIZE + 1;
+  }
+
+  @Override
+  public final void encode(double value, ByteArrayOutputStream out) {
+    long bits = Double.doubleToRawLongBits(value);
+    int exponent = (int) (bits >>> MANTISSA_BITS) & EXPONENT_MASK;
+    int alpha = -1;
+    long erased = bits;
+    // zero, subnormal, infinite and NaN values are never erased
+    if (exponent != 0 && exponent != EXPONENT_MASK) {
+      if (getLastAlpha() >= 0) {
+        erased = erase(value, bits, exponent, getLastAlpha());
+        alpha = erased != bits ? getLastAlpha() : -1;
+      }
+      // more decimal places only keep more bits, so the first alpha that works is the best
+      for (int i = 0;
+          alpha < 0 && i <= MAX_ALPHA && erasedBits(exponent, i) >= MIN_ERASED_BITS;
+          i++) {
+        erased = erase(value, bits, exponent, i);
+        alpha = erased != bits ? i : -1;
+      }
+    }
+    writeAlpha(alpha, out);
+    compressValue(erased, out);
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) {
+    // ending stream
+    writeAlpha(-1, out);
+    compressValue(Double.doubleToRawLongBits(GORILLA_ENCODING_ENDING_DOUBLE), out);
+
+    // flip the byte no matter it is empty or not
+    // the empty ending byte is necessary when decoding
+    bitsLeft = 0;
+    flipByte(out);
+
+    // the encoder may be reused, so let us reset it
+    reset();
+  }
+
+  @Override
+  protected void reset() {
+    super.reset();
+    storedValue = 0;
+  }
+
+  /** number of mantissa bits not needed to restore a value of alpha decimal places. */
+  private static int erasedBits(int exponent, int alpha) {
+    return MANTISSA_BITS - FRACTION_BITS[alpha] - (exponent - EXPONENT_BIAS);
+  }
+
+  /**
+   * @return the raw bits of value with the mantissa bits not needed for alpha decimal places set to
+   *     0, or the raw bits themselves if value cannot be restored from fewer bits
+   */
+  private static long erase(double value, long bits, int exponent, int alpha) {
+    int erasedBits = erasedBits(exponent, alpha);
+    if (erasedBits < MIN_ERASED_BITS || erasedBits > MANTISSA_BITS) {
+      return bits;
+    }
+    long erased = bits & (-1L << erasedBits);
+    if (erased == bits
+        || Double.doubleToRawLongBits(restore(Double.longBitsToDouble(erased), alpha))
+            != bits) {
+      return bits;
+    }
+    return erased;
+  }
+
+  private void compressValue(long value, ByteArrayOutputStream out) {
+    if (!firstValueWasWritten) {
+      int trailingZeros = Long.numberOfTrailingZeros(value);
+      writeBits(trailingZeros, 7, out);
+      writeBits(value >>> trailingZeros, VALUE_BITS_LENGTH_64BIT - trailingZeros, out);
+      storedValue = value;
+      firstValueWasWritten = true;
+      return;
+    }
+
+    long xor = storedValue ^ value;
+    storedValue = value;
+    if (xor == 0) {
+      // case '01'
+      writeBits(1, 2, out);
+      return;
+    }
+
+    int leadingZeros = LEADING_ZEROS[LEADING_REPRESENTATION[Long.numberOfLeadingZeros(xor)]];
+    int trailingZeros = Long.numberOfTrailingZeros(xor);
+    if (leadingZeros == storedLeadingZeros && trailingZeros >= storedTrailingZeros) {
+      // case '00'
+      writeBits(0, 2, out);
+      writeBits(
+          xor >>> storedTrailingZeros,
+          VALUE_BITS_LENGTH_64BIT - storedLeadingZeros - storedTrailingZeros,
+          out);
+      return;
+    }
+
+    storedLeadingZeros = leadingZeros;
+    storedTrailingZeros = trailingZeros;
+    int centerBits = VALUE_BITS_LENGTH_64BIT - leadingZeros - trailingZeros;
+    if (centerBits <= 16) {
+      // case '10', 16 center bits are stored as 0
+      writeBits(
+          (2L << 7) | (LEADING_REPRESENTATION[leadingZeros] << 4) | (centerBits & 0xF), 9, out);
+    } else {
+      // case '11', 64 center bits are stored as 0
+      writeBits(
+          (3L << 9) | (LEADING_REPRESENTATION[leadingZeros] << 6) | (centerBits & 0x3F), 11, out);
+    }
+    writeBits(xor >>> (trailingZeros + 1), centerBits - 1, out);
+  }
+}
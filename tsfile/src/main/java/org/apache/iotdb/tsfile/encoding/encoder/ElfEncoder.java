@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Base of the Elf encoders, see "Elf: Erasing-based Lossless Floating-Point Compression" (VLDB
+ * 2023).
+ *
+ * <p>A value v with alpha decimal places is restored exactly from any v' in (v - 10^-alpha, v] by
+ * rounding v' up to alpha decimal places. Sensor readings usually have few decimal places, so the
+ * encoder erases the mantissa bits of v that are not needed to stay in that range. The erased value
+ * ends with a long run of zeros, which the XOR with the previous value keeps and which is not
+ * stored.
+ *
+ * <p>Every value starts with an erasing flag: '0' erased with the last alpha, '11' + 4-bit alpha
+ * erased with a new alpha, '10' not erased. Different from the paper, which stores the number of
+ * significant digits, alpha itself is stored, as it keeps constant for a series of fixed decimal
+ * places whatever the magnitude of its values.
+ *
+ * <p>The first value is then stored as its number of trailing zeros followed by the other bits,
+ * every following value as its XOR with the previous value:
+ *
+ * <ul>
+ *   <li>'01': equal to the previous value
+ *   <li>'00' + center bits: same leading zeros and at least as many trailing zeros as the last XOR
+ *       stored with '10' or '11'
+ *   <li>'10' + 3-bit leading zeros + short length + center bits except the last one, which is
+ *       always 1
+ *   <li>'11' + 3-bit leading zeros + long length + center bits except the last one
+ * </ul>
+ */
+public abstract class ElfEncoder extends Encoder {
+
+  protected static final int MAX_ALPHA = 15;
+
+  /** erasing fewer bits does not make up for the flag. */
+  protected static final int MIN_ERASED_BITS = 5;
+
+  private static final double[] POWERS_OF_TEN = new double[MAX_ALPHA + 1];
+
+  /** fraction bits needed to tell apart two numbers of alpha decimal places. */
+  protected static final int[] FRACTION_BITS = new int[MAX_ALPHA + 1];
+
+  static {
+    double power = 1;
+    for (int alpha = 0; alpha <= MAX_ALPHA; alpha++) {
+      POWERS_OF_TEN[alpha] = power;
+      power *= 10;
+      FRACTION_BITS[alpha] = (int) Math.ceil(alpha * Math.log(10) / Math.log(2));
+    }
+  }
+
+  protected boolean firstValueWasWritten = false;
+  protected int storedLeadingZeros = Integer.MAX_VALUE;
+  protected int storedTrailingZeros = Integer.MAX_VALUE;
+
+  /** decimal places of the last erased value, or -1 if none. */
+  private int lastAlpha = -1;
+
+  private byte buffer = 0;
+  protected int bitsLeft = Byte.SIZE;
+
+  protected ElfEncoder() {
+    super(TSEncoding.ELF);
+  }
+
+  protected void reset() {
+    firstValueWasWritten = false;
+    storedLeadingZeros = Integer.MAX_VALUE;
+    storedTrailingZeros = Integer.MAX_VALUE;
+    lastAlpha = -1;
+
+    buffer = 0;
+    bitsLeft = Byte.SIZE;
+  }
+
+  protected int getLastAlpha() {
+    return lastAlpha;
+  }
+
+  /**
+   * Writes the erasing flag of a value.
+   *
+   * @param alpha decimal places the value was erased for, or -1 if it was not erased
+   */
+  protected void writeAlpha(int alpha, ByteArrayOutputStream out) {
+    if (alpha < 0) {
+      writeBits(2, 2, out);
+    } else if (alpha == lastAlpha) {
+      writeBits(0, 1, out);
+    } else {
+      writeBits(0x30L | alpha, 6, out);
+      lastAlpha = alpha;
+    }
+  }
+
+  /** round the erased value up (in magnitude) to alpha decimal places. */
+  public static double restore(double erased, int alpha) {
+    double scale = POWERS_OF_TEN[alpha];
+    return erased < 0 ? Math.floor(erased * scale) / scale : Math.ceil(erased * scale) / scale;
+  }
+
+  /**
+   * Writes the given long value using the defined amount of least significant bits.
+   *
+   * @param value The long value to be written
+   * @param bits How many bits are stored to the stream
+   */
+  protected void writeBits(long value, int bits, ByteArrayOutputStream out) {
+    while (bits > 0) {
+      int shift = bits - bitsLeft;
+      if (shift >= 0) {
+        buffer |= (byte) ((value >> shift) & ((1 << bitsLeft) - 1));
+        bits -= bitsLeft;
+        bitsLeft = 0;
+      } else {
+        shift = bitsLeft - bits;
+        buffer |= (byte) (value << shift);
+        bitsLeft -= bits;
+        bits = 0;
+      }
+      flipByte(out);
+    }
+  }
+
+  protected void flipByte(ByteArrayOutputStream out) {
+    if (bitsLeft == 0) {
+      out.write(buffer);
+      buffer = 0;
+      bitsLeft = Byte.SIZE;
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.GORILLA_ENCODING_ENDING_INTEGER;
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.VALUE_BITS_LENGTH_32BIT;
+
+/**
+ * Chimp128 encoder for 32-bit values, the layout is the one of {@link LongChimpEncoder} except that
+ * the length of meaningful bits in case '01' takes 5 bits.
+ */
+public class IntChimpEncoder extends ChimpEncoder {
+
+  /** numbers of leading zeros that can be stored, indexed by their 3-bit representation. */
+  private static final int[] LEADING_ZEROS = {0, 8, 12, 14, 16, 18, 20, 22};
+
+  private static final int[] LEADING_REPRESENTATION =
+      leadingRepresentations(LEADING_ZEROS, VALUE_BITS_LENGTH_32BIT);
+
+  /** an earlier value is only worth referencing if the XOR has more trailing zeros than this. */
+  private static final int THRESHOLD = 5 + PREVIOUS_VALUES_LOG2;
+
+  /** the lowest (THRESHOLD + 1) bits of a value are the key to find earlier values sharing them. */
+  private static final int SET_LSB = (1 << (THRESHOLD + 1)) - 1;
+
+  private static final int FLAG_ZERO_SIZE = 2 + PREVIOUS_VALUES_LOG2;
+  private static final int FLAG_ONE_SIZE = 2 + PREVIOUS_VALUES_LOG2 + 3 + 5;
+
+  private static final int ONE_ITEM_MAX_SIZE = (2 + 3 + VALUE_BITS_LENGTH_32BIT) / Byte.SIZE + 1;
+
+  private final int[] storedValues = new int[PREVIOUS_VALUES];
+
+  /** the index of the latest value having the given lowest bits. */
+  private final int[] indices = new int[SET_LSB + 1];
+
+  /** index of the latest value, its position in the ring buffer is index % PREVIOUS_VALUES. */
+  private int index = 0;
+
+  @Override
+  public int getOneItemMaxSize() {
+    return ONE_ITEM_MAX_SIZE;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // the ending value and the last unfinished byte
+    return (long) ONE_ITEM_MAX_SIZE + 1;
+  }
+
+  @Override
+  public final void encode(int value, ByteArrayOutputStream out) {
+    if (firstValueWasWritten) {
+      compressValue(value, out);
+    } else {
+      writeFirst(value, out);
+      firstValueWasWritten = true;
+    }
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) {
+    // ending stream
+    encode(GORILLA_ENCODING_ENDING_INTEGER, out);
+
+    // flip the byte no matter it is empty or not
+    // the empty ending byte is necessary when decoding
+    bitsLeft = 0;
+    flipByte(out);
+
+    // the encoder may be reused, so let us reset it
+    reset();
+  }
+
+  @Override
+  protected void reset() {
+    super.reset();
+    index = 0;
+    Arrays.fill(indices, 0);
+  }
+
+  private void writeFirst(int value, ByteArrayOutputStream out) {
+    storedValues[0] = value;
+    writeBits(value, VALUE_BITS_LENGTH_32BIT, out);
+    indices[value & SET_LSB] = index;
+  }
+
+  private void compressValue(int value, ByteArrayOutputStream out) {
+    int key = value & SET_LSB;
+    int previousIndex = index % PREVIOUS_VALUES;
+    int xor = storedValues[previousIndex] ^ value;
+    int trailingZeros = 0;
+
+    int candidateIndex = indices[key];
+    if (index - candidateIndex < PREVIOUS_VALUES) {
+      int candidateXor = value ^ storedValues[candidateIndex % PREVIOUS_VALUES];
+      trailingZeros = Integer.numberOfTrailingZeros(candidateXor);
+      if (trailingZeros > THRESHOLD) {
+        previousIndex = candidateIndex % PREVIOUS_VALUES;
+        xor = candidateXor;
+      }
+    }
+
+    if (xor == 0) {
+      // case '00'
+      writeBits(previousIndex, FLAG_ZERO_SIZE, out);
+      storedLeadingZeros = Integer.MAX_VALUE;
+    } else {
+      int leadingZeros = LEADING_ZEROS[LEADING_REPRESENTATION[Integer.numberOfLeadingZeros(xor)]];
+      if (trailingZeros > THRESHOLD) {
+        // case '01'
+        int significantBits = VALUE_BITS_LENGTH_32BIT - leadingZeros - trailingZeros;
+        writeBits(
+            ((PREVIOUS_VALUES + previousIndex) << 8)
+                | (LEADING_REPRESENTATION[leadingZeros] << 5)
+                | significantBits,
+            FLAG_ONE_SIZE,
+            out);
+        writeBits(xor >>> trailingZeros, significantBits, out);
+        storedLeadingZeros = Integer.MAX_VALUE;
+      } else if (leadingZeros == storedLeadingZeros) {
+        // case '10'
+        writeBits(2, 2, out);
+        writeBits(xor & 0xFFFFFFFFL, VALUE_BITS_LENGTH_32BIT - leadingZeros, out);
+      } else {
+        // case '11'
+        storedLeadingZeros = leadingZeros;
+        writeBits(24L | LEADING_REPRESENTATION[leadingZeros], 5, out);
+        writeBits(xor & 0xFFFFFFFFL, VALUE_BITS_LENGTH_32BIT - leadingZeros, out);
+      }
+    }
+
+    index++;
+    storedValues[index % PREVIOUS_VALUES] = value;
+    indices[key] = index;
+  }
+}
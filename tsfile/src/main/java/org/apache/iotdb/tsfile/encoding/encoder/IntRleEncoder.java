@@ -33,6 +33,9 @@ public class IntRleEncoder extends RleEncoder<Integer> {
   /** Packer for packing int values. */
   private IntPacker packer;
 
+  /** unboxed copy of the buffered values handed to the packer, reused for every group. */
+  private final int[] packBuffer = new int[TSFileConfig.RLE_MIN_REPEATED_NUM];
+
   public IntRleEncoder() {
     super();
     bufferedValues = new Integer[TSFileConfig.RLE_MIN_REPEATED_NUM];
@@ -98,12 +101,10 @@ public class IntRleEncoder extends RleEncoder<Integer> {
   @Override
   protected void convertBuffer() {
     byte[] bytes = new byte[bitWidth];
-
-    int[] tmpBuffer = new int[TSFileConfig.RLE_MIN_REPEATED_NUM];
     for (int i = 0; i < TSFileConfig.RLE_MIN_REPEATED_NUM; i++) {
-      tmpBuffer[i] = (int) bufferedValues[i];
+      packBuffer[i] = (int) bufferedValues[i];
     }
-    packer.pack8Values(tmpBuffer, 0, bytes);
+    packer.pack8Values(packBuffer, 0, bytes);
     // we'll not write bit-packing group to OutputStream immediately
     // we buffer them in list
     bytesBuffer.add(bytes);
@@ -33,6 +33,9 @@ public class LongRleEncoder extends RleEncoder<Long> {
   /** Packer for packing long value. */
   private LongPacker packer;
 
+  /** unboxed copy of the buffered values handed to the packer, reused for every group. */
+  private final long[] packBuffer = new long[TSFileConfig.RLE_MIN_REPEATED_NUM];
+
   /** Constructor of LongRleEncoder. */
   public LongRleEncoder() {
     super();
@@ -93,11 +96,10 @@ public class LongRleEncoder extends RleEncoder<Long> {
   @Override
   protected void convertBuffer() {
     byte[] bytes = new byte[bitWidth];
-    long[] tmpBuffer = new long[TSFileConfig.RLE_MIN_REPEATED_NUM];
     for (int i = 0; i < TSFileConfig.RLE_MIN_REPEATED_NUM; i++) {
-      tmpBuffer[i] = (long) bufferedValues[i];
+      packBuffer[i] = (long) bufferedValues[i];
     }
-    packer.pack8Values(tmpBuffer, 0, bytes);
+    packer.pack8Values(packBuffer, 0, bytes);
     // we'll not write bit-packing group to OutputStream immediately
     // we buffer them in list
     bytesBuffer.add(bytes);
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.GORILLA_ENCODING_ENDING_FLOAT;
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.VALUE_BITS_LENGTH_32BIT;
+
+/**
+ * Elf encoder for float values. The number of trailing zeros of the first value takes 6 bits, the
+ * short length of center bits 3 bits (up to 8) and the long length 5 bits.
+ */
+public class SinglePrecisionElfEncoder extends ElfEncoder {
+
+  private static final int MANTISSA_BITS = 23;
+  private static final int EXPONENT_MASK = 0xFF;
+  private static final int EXPONENT_BIAS = 127;
+
+  /** numbers of leading zeros that can be stored, indexed by their 3-bit representation. */
+  private static final int[] LEADING_ZEROS = {0, 8, 12, 14, 16, 18, 20, 22};
+
+  private static final int[] LEADING_REPRESENTATION =
+      ChimpEncoder.leadingRepresentations(LEADING_ZEROS, VALUE_BITS_LENGTH_32BIT);
+
+  private static final int ONE_ITEM_MAX_SIZE =
+      (6 + 2 + 3 + 5 + VALUE_BITS_LENGTH_32BIT) / Byte.SIZE + 1;
+
+  private int storedValue = 0;
+
+  @Override
+  public int getOneItemMaxSize() {
+    return ONE_ITEM_MAX_SIZE;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // the ending value and the last unfinished byte
+    return (long) ONE_ITEM_MAX_SIZE + 1;
+  }
+
+  @Override
+  public final void encode(float value, ByteArrayOutputStream out) {
+    int bits = Float.floatToRawIntBits(value);
+    int exponent = (bits >>> MANTISSA_BITS) & EXPONENT_MASK;
+    int alpha = -1;
+    int erased = bits;
+    // zero, subnormal, infinite and NaN values are never erased
+    if (exponent != 0 && exponent != EXPONENT_MASK) {
+      if (getLastAlpha() >= 0) {
+        erased = erase(bits, exponent, getLastAlpha());
+        alpha = erased != bits ? getLastAlpha() : -1;
+      }
+      // more decimal places only keep more bits, so the first alpha that works is the best
+      for (int i = 0;
+          alpha < 0 && i <= MAX_ALPHA && erasedBits(exponent, i) >= MIN_ERASED_BITS;
+          i++) {
+        erased = erase(bits, exponent, i);
+        alpha = erased != bits ? i : -1;
+      }
+    }
+    writeAlpha(alpha, out);
+    compressValue(erased, out);
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) {
+    // ending stream
+    writeAlpha(-1, out);
+    compressValue(Float.floatToRawIntBits(GORILLA_ENCODING_ENDING_FLOAT), out);
+
+    // flip the byte no matter it is empty or not
+    // the empty ending byte is necessary when decoding
+    bitsLeft = 0;
+    flipByte(out);
+
+    // the encoder may be reused, so let us reset it
+    reset();
+  }
+
+  @Override
+  protected void reset() {
+    super.reset();
+    storedValue = 0;
+  }
+
+  /** round the erased value up (in magnitude) to alpha decimal places. */
+  public static float restore(float erased, int alpha) {
+    return (float) restore((double) erased, alpha);
+  }
+
+  /** number of mantissa bits not needed to restore a value of alpha decimal places. */
+  private static int erasedBits(int exponent, int alpha) {
+    return MANTISSA_BITS - FRACTION_BITS[alpha] - (exponent - EXPONENT_BIAS);
+  }
+
+  /**
+   * @return the raw bits of value with the mantissa bits not needed for alpha decimal places set to
+   *     0, or the raw bits themselves if value cannot be restored from fewer bits
+   */
+  private static int erase(int bits, int exponent, int alpha) {
+    int erasedBits = erasedBits(exponent, alpha);
+    if (erasedBits < MIN_ERASED_BITS || erasedBits > MANTISSA_BITS) {
+      return bits;
+    }
+    int erased = bits & (-1 << erasedBits);
+    if (erased == bits
+        || Float.floatToRawIntBits(restore(Float.intBitsToFloat(erased), alpha)) != bits) {
+      return bits;
+    }
+    return erased;
+  }
+
+  private void compressValue(int value, ByteArrayOutputStream out) {
+    if (!firstValueWasWritten) {
+      int trailingZeros = Integer.numberOfTrailingZeros(value);
+      writeBits(trailingZeros, 6, out);
+      writeBits(value >>> trailingZeros, VALUE_BITS_LENGTH_32BIT - trailingZeros, out);
+      storedValue = value;
+      firstValueWasWritten = true;
+      return;
+    }
+
+    int xor = storedValue ^ value;
+    storedValue = value;
+    if (xor == 0) {
+      // case '01'
+      writeBits(1, 2, out);
+      return;
+    }
+
+    int leadingZeros = LEADING_ZEROS[LEADING_REPRESENTATION[Integer.numberOfLeadingZeros(xor)]];
+    int trailingZeros = Integer.numberOfTrailingZeros(xor);
+    if (leadingZeros == storedLeadingZeros && trailingZeros >= storedTrailingZeros) {
+      // case '00'
+      writeBits(0, 2, out);
+      writeBits(
+          xor >>> storedTrailingZeros,
+          VALUE_BITS_LENGTH_32BIT - storedLeadingZeros - storedTrailingZeros,
+          out);
+      return;
+    }
+
+    storedLeadingZeros = leadingZeros;
+    storedTrailingZeros = trailingZeros;
+    int centerBits = VALUE_BITS_LENGTH_32BIT - leadingZeros - trailingZeros;
+    if (centerBits <= 8) {
+      // case '10', 8 center bits are stored as 0
+      writeBits(
+          (2 << 6) | (LEADING_REPRESENTATION[leadingZeros] << 3) | (centerBits & 0x7), 8, out);
+    } else {
+      // case '11', 32 center bits are stored as 0
+      writeBits(
+          (3 << 8) | (LEADING_REPRESENTATION[leadingZeros] << 5) | (centerBits & 0x1F), 10, out);
+    }
+    writeBits(xor >>> (trailingZeros + 1), centerBits - 1, out);
+  }
+}
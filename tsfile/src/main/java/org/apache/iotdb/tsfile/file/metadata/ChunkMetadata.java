@@ -124,6 +124,10 @@ public class ChunkMetadata implements IChunkMetadata {
     return offsetOfChunkHeader;
   }
 
+  public void setOffsetOfChunkHeader(long offsetOfChunkHeader) {
+    this.offsetOfChunkHeader = offsetOfChunkHeader;
+  }
+
   public String getMeasurementUid() {
     return measurementUid;
   }
@@ -449,26 +449,40 @@ public class TsFileSequenceReader implements AutoCloseable {
     }
   }
 
-  /* Find the leaf node that contains path, return all the sensors in that leaf node which are also in allSensors set */
+  /* Find the leaf node that contains path, return all the sensors in that leaf node which are also in allSensors set, or all of them if allSensors is null */
   public List<TimeseriesMetadata> readTimeseriesMetadata(Path path, Set<String> allSensors)
       throws IOException {
     Pair<MetadataIndexEntry, Long> metadataIndexPair = getLeafMetadataIndexPair(path);
     if (metadataIndexPair == null) {
       return Collections.emptyList();
     }
+    return readLeafTimeseriesMetadata(
+        metadataIndexPair.left.getOffset(), metadataIndexPair.right, allSensors, true);
+  }
+
+  /**
+   * Read the TimeseriesMetadata in the leaf measurement node [startOffset, endOffset), e.g. one
+   * returned by {@link #getAllLeafMeasurementNodeOffsets()}.
+   *
+   * @param allSensors only return the sensors in it, or all sensors if it is null
+   * @param needChunkMetadata deserialize chunk metadata list or not
+   */
+  public List<TimeseriesMetadata> readLeafTimeseriesMetadata(
+      long startOffset, long endOffset, Set<String> allSensors, boolean needChunkMetadata)
+      throws IOException {
     List<TimeseriesMetadata> timeseriesMetadataList = new ArrayList<>();
 
-    ByteBuffer buffer = readData(metadataIndexPair.left.getOffset(), metadataIndexPair.right);
+    ByteBuffer buffer = readData(startOffset, endOffset);
     while (buffer.hasRemaining()) {
       TimeseriesMetadata timeseriesMetadata;
       try {
-        timeseriesMetadata = TimeseriesMetadata.deserializeFrom(buffer, true);
+        timeseriesMetadata = TimeseriesMetadata.deserializeFrom(buffer, needChunkMetadata);
       } catch (Exception e) {
         logger.error(
             "Something error happened while deserializing TimeseriesMetadata of file {}", file);
         throw e;
       }
-      if (allSensors.contains(timeseriesMetadata.getMeasurementId())) {
+      if (allSensors == null || allSensors.contains(timeseriesMetadata.getMeasurementId())) {
         timeseriesMetadataList.add(timeseriesMetadata);
       }
     }
@@ -888,6 +902,55 @@ public class TsFileSequenceReader implements AutoCloseable {
     }
   }
 
+  /**
+   * Get the offsets of all leaf measurement nodes, i.e. where the TimeseriesMetadata are
+   * serialized, by walking the whole metadata index tree.
+   *
+   * @return device -> [start offset, end offset) of its leaf measurement nodes, devices and leaves
+   *     in the order of the index
+   */
+  public Map<String, List<Pair<Long, Long>>> getAllLeafMeasurementNodeOffsets() throws IOException {
+    readFileMetadata();
+    Map<String, List<Pair<Long, Long>>> leafOffsets = new LinkedHashMap<>();
+    collectLeafMeasurementNodeOffsets(tsFileMetaData.getMetadataIndex(), null, leafOffsets);
+    return leafOffsets;
+  }
+
+  private void collectLeafMeasurementNodeOffsets(
+      MetadataIndexNode metadataIndexNode,
+      String deviceId,
+      Map<String, List<Pair<Long, Long>>> leafOffsets)
+      throws IOException {
+    List<MetadataIndexEntry> children = metadataIndexNode.getChildren();
+    for (int i = 0; i < children.size(); i++) {
+      long startOffset = children.get(i).getOffset();
+      long endOffset =
+          i == children.size() - 1
+              ? metadataIndexNode.getEndOffset()
+              : children.get(i + 1).getOffset();
+      if (metadataIndexNode.getNodeType().equals(MetadataIndexNodeType.LEAF_MEASUREMENT)) {
+        leafOffsets
+            .computeIfAbsent(deviceId, k -> new ArrayList<>())
+            .add(new Pair<>(startOffset, endOffset));
+        continue;
+      }
+      MetadataIndexNode child;
+      try {
+        child = MetadataIndexNode.deserializeFrom(readData(startOffset, endOffset));
+      } catch (Exception e) {
+        logger.error(METADATA_INDEX_NODE_DESERIALIZE_ERROR, file);
+        throw e;
+      }
+      // deviceId should be determined by LEAF_DEVICE node
+      collectLeafMeasurementNodeOffsets(
+          child,
+          metadataIndexNode.getNodeType().equals(MetadataIndexNodeType.LEAF_DEVICE)
+              ? children.get(i).getName()
+              : deviceId,
+          leafOffsets);
+    }
+  }
+
   /* TimeseriesMetadata don't need deserialize chunk metadata list */
   public Map<String, List<TimeseriesMetadata>> getAllTimeseriesMetadata(boolean needChunkMetadata)
       throws IOException {
@@ -1155,7 +1218,9 @@ public class TsFileSequenceReader implements AutoCloseable {
     ByteBuffer buffer = readData(-1, header.getCompressedSize());
     if (header.getUncompressedSize() == 0 || type == CompressionType.UNCOMPRESSED) {
       return buffer;
-    } // FIXME if the buffer is not array-implemented.
+    }
+    // the buffer may be sliced from a mapped file
+    buffer = ReadWriteIOUtils.toHeapBuffer(buffer);
     IUnCompressor unCompressor = IUnCompressor.getUnCompressor(type);
     ByteBuffer uncompressedBuffer = ByteBuffer.allocate(header.getUncompressedSize());
     unCompressor.uncompress(
@@ -1204,6 +1269,10 @@ public class TsFileSequenceReader implements AutoCloseable {
    * @return data that been read.
    */
   protected ByteBuffer readData(long position, int totalSize) throws IOException {
+    ByteBuffer slice = tsFileInput.slice(position < 0 ? -1 : position, totalSize);
+    if (slice != null) {
+      return slice;
+    }
     int allocateSize = Math.min(MAX_READ_BUFFER_SIZE, totalSize);
     int allocateNum = (int) Math.ceil((double) totalSize / allocateSize);
     ByteBuffer buffer = ByteBuffer.allocate(totalSize);
@@ -23,6 +23,7 @@ import org.apache.iotdb.tsfile.file.header.ChunkHeader;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.utils.PublicBAOS;
 import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -68,6 +69,9 @@ public class Chunk {
   }
 
   public void mergeChunkByAppendPage(Chunk chunk) throws IOException {
+    // the merge below works on the backing arrays, so chunks sliced from mapped files are copied
+    chunkData = ReadWriteIOUtils.toHeapBuffer(chunkData);
+    chunk.chunkData = ReadWriteIOUtils.toHeapBuffer(chunk.chunkData);
     int dataSize = 0;
     // from where the page data of the merged chunk starts, if -1, it means the merged chunk has
     // more than one page
@@ -59,4 +59,23 @@ public class ByteArrayColumnEncoder implements ColumnEncoder {
       throw new IllegalArgumentException("Invalid data type: " + dataType);
     }
   }
+
+  @Override
+  public int getSerializedSize(Column column) {
+    return ColumnEncoder.getNullIndicatorsSerializedSize(column)
+        + ColumnEncoder.getPackedBooleanArraySize(column.getPositionCount());
+  }
+
+  @Override
+  public void writeColumn(ByteBuffer output, Column column) {
+
+    ColumnEncoder.serializeNullIndicators(output, column);
+
+    TSDataType dataType = column.getDataType();
+    if (TSDataType.BOOLEAN.equals(dataType)) {
+      output.put(ColumnEncoder.packBooleanArray(column, Column::getBoolean));
+    } else {
+      throw new IllegalArgumentException("Invalid data type: " + dataType);
+    }
+  }
 }
@@ -38,6 +38,15 @@ public interface ColumnEncoder {
   /** Write the specified column to the specified output */
   void writeColumn(DataOutputStream output, Column column) throws IOException;
 
+  /** Returns the number of bytes {@link #writeColumn(ByteBuffer, Column)} writes for the column. */
+  int getSerializedSize(Column column);
+
+  /**
+   * Write the specified column to the specified output, which must have at least {@link
+   * #getSerializedSize(Column)} bytes remaining.
+   */
+  void writeColumn(ByteBuffer output, Column column);
+
   static void serializeNullIndicators(DataOutputStream output, Column column) throws IOException {
     boolean mayHaveNull = column.mayHaveNull();
     output.writeBoolean(mayHaveNull);
@@ -47,6 +56,33 @@ public interface ColumnEncoder {
     serializeBooleanArray(output, column, Column::isNull);
   }
 
+  static void serializeNullIndicators(ByteBuffer output, Column column) {
+    boolean mayHaveNull = column.mayHaveNull();
+    output.put(mayHaveNull ? (byte) 1 : (byte) 0);
+    if (!mayHaveNull) {
+      return;
+    }
+    output.put(packBooleanArray(column, Column::isNull));
+  }
+
+  static int getNullIndicatorsSerializedSize(Column column) {
+    return column.mayHaveNull() ? 1 + getPackedBooleanArraySize(column.getPositionCount()) : 1;
+  }
+
+  static int getNonNullCount(Column column) {
+    int positionCount = column.getPositionCount();
+    if (!column.mayHaveNull()) {
+      return positionCount;
+    }
+    int nonNullCount = 0;
+    for (int i = 0; i < positionCount; i++) {
+      if (!column.isNull(i)) {
+        nonNullCount++;
+      }
+    }
+    return nonNullCount;
+  }
+
   static boolean[] deserializeNullIndicators(ByteBuffer input, int positionCount) {
     boolean mayHaveNull = input.get() != 0;
     if (!mayHaveNull) {
@@ -62,8 +98,16 @@ public interface ColumnEncoder {
   static void serializeBooleanArray(
       DataOutputStream output, Column column, ColumnToBooleanFunction toBooleanFunction)
       throws IOException {
+    output.write(packBooleanArray(column, toBooleanFunction));
+  }
+
+  static int getPackedBooleanArraySize(int size) {
+    return (size + 7) / 8;
+  }
+
+  static byte[] packBooleanArray(Column column, ColumnToBooleanFunction toBooleanFunction) {
     int positionCount = column.getPositionCount();
-    byte[] packedIsNull = new byte[((positionCount & ~0b111) + 1) / 8];
+    byte[] packedBooleanArray = new byte[getPackedBooleanArraySize(positionCount)];
     int currentByte = 0;
 
     for (int position = 0; position < (positionCount & ~0b111); position += 8, currentByte++) {
@@ -76,12 +120,10 @@ public interface ColumnEncoder {
       value |= toBooleanFunction.apply(column, position + 5) ? 0b0000_0100 : 0;
       value |= toBooleanFunction.apply(column, position + 6) ? 0b0000_0010 : 0;
       value |= toBooleanFunction.apply(column, position + 7) ? 0b0000_0001 : 0;
-      packedIsNull[currentByte] = value;
+      packedBooleanArray[currentByte] = value;
     }
 
-    output.write(packedIsNull);
-
-    // write last null bits
+    // pack last bits
     if ((positionCount & 0b111) > 0) {
       byte value = 0;
       int mask = 0b1000_0000;
@@ -89,12 +131,13 @@ public interface ColumnEncoder {
         value |= toBooleanFunction.apply(column, position) ? mask : 0;
         mask >>>= 1;
       }
-      output.write(value);
+      packedBooleanArray[currentByte] = value;
     }
+    return packedBooleanArray;
   }
 
   static boolean[] deserializeBooleanArray(ByteBuffer input, int size) {
-    byte[] packedBooleanArray = new byte[(size + 7) / 8];
+    byte[] packedBooleanArray = new byte[getPackedBooleanArraySize(size)];
     input.get(packedBooleanArray);
 
     // read null bits 8 at a time
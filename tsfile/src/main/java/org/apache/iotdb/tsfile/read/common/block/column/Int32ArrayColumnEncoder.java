@@ -42,9 +42,8 @@ public class Int32ArrayColumnEncoder implements ColumnEncoder {
     if (TSDataType.INT32.equals(dataType)) {
       int[] values = new int[positionCount];
       if (nullIndicators == null) {
-        for (int i = 0; i < positionCount; i++) {
-          values[i] = input.getInt();
-        }
+        input.asIntBuffer().get(values);
+        input.position(input.position() + positionCount * Integer.BYTES);
       } else {
         for (int i = 0; i < positionCount; i++) {
           if (!nullIndicators[i]) {
@@ -56,9 +55,8 @@ public class Int32ArrayColumnEncoder implements ColumnEncoder {
     } else if (TSDataType.FLOAT.equals(dataType)) {
       float[] values = new float[positionCount];
       if (nullIndicators == null) {
-        for (int i = 0; i < positionCount; i++) {
-          values[i] = Float.intBitsToFloat(input.getInt());
-        }
+        input.asFloatBuffer().get(values);
+        input.position(input.position() + positionCount * Float.BYTES);
       } else {
         for (int i = 0; i < positionCount; i++) {
           if (!nullIndicators[i]) {
@@ -95,4 +93,35 @@ public class Int32ArrayColumnEncoder implements ColumnEncoder {
       throw new IllegalArgumentException("Invalid data type: " + dataType);
     }
   }
+
+  @Override
+  public int getSerializedSize(Column column) {
+    return ColumnEncoder.getNullIndicatorsSerializedSize(column)
+        + ColumnEncoder.getNonNullCount(column) * Integer.BYTES;
+  }
+
+  @Override
+  public void writeColumn(ByteBuffer output, Column column) {
+
+    ColumnEncoder.serializeNullIndicators(output, column);
+
+    TSDataType dataType = column.getDataType();
+    int positionCount = column.getPositionCount();
+    boolean mayHaveNull = column.mayHaveNull();
+    if (TSDataType.INT32.equals(dataType)) {
+      for (int i = 0; i < positionCount; i++) {
+        if (!mayHaveNull || !column.isNull(i)) {
+          output.putInt(column.getInt(i));
+        }
+      }
+    } else if (TSDataType.FLOAT.equals(dataType)) {
+      for (int i = 0; i < positionCount; i++) {
+        if (!mayHaveNull || !column.isNull(i)) {
+          output.putInt(Float.floatToIntBits(column.getFloat(i)));
+        }
+      }
+    } else {
+      throw new IllegalArgumentException("Invalid data type: " + dataType);
+    }
+  }
 }
@@ -40,9 +40,8 @@ public class Int64ArrayColumnEncoder implements ColumnEncoder {
     boolean[] nullIndicators = ColumnEncoder.deserializeNullIndicators(input, positionCount);
     long[] values = new long[positionCount];
     if (nullIndicators == null) {
-      for (int i = 0; i < positionCount; i++) {
-        values[i] = input.getLong();
-      }
+      input.asLongBuffer().get(values);
+      input.position(input.position() + positionCount * Long.BYTES);
       return new TimeColumn(0, positionCount, values);
     } else {
       throw new IllegalArgumentException("TimeColumn should not contain null values.");
@@ -64,9 +63,8 @@ public class Int64ArrayColumnEncoder implements ColumnEncoder {
     if (TSDataType.INT64.equals(dataType)) {
       long[] values = new long[positionCount];
       if (nullIndicators == null) {
-        for (int i = 0; i < positionCount; i++) {
-          values[i] = input.getLong();
-        }
+        input.asLongBuffer().get(values);
+        input.position(input.position() + positionCount * Long.BYTES);
       } else {
         for (int i = 0; i < positionCount; i++) {
           if (!nullIndicators[i]) {
@@ -78,9 +76,8 @@ public class Int64ArrayColumnEncoder implements ColumnEncoder {
     } else if (TSDataType.DOUBLE.equals(dataType)) {
       double[] values = new double[positionCount];
       if (nullIndicators == null) {
-        for (int i = 0; i < positionCount; i++) {
-          values[i] = Double.longBitsToDouble(input.getLong());
-        }
+        input.asDoubleBuffer().get(values);
+        input.position(input.position() + positionCount * Double.BYTES);
       } else {
         for (int i = 0; i < positionCount; i++) {
           if (!nullIndicators[i]) {
@@ -117,4 +114,35 @@ public class Int64ArrayColumnEncoder implements ColumnEncoder {
       throw new IllegalArgumentException("Invalid data type: " + dataType);
     }
   }
+
+  @Override
+  public int getSerializedSize(Column column) {
+    return ColumnEncoder.getNullIndicatorsSerializedSize(column)
+        + ColumnEncoder.getNonNullCount(column) * Long.BYTES;
+  }
+
+  @Override
+  public void writeColumn(ByteBuffer output, Column column) {
+
+    ColumnEncoder.serializeNullIndicators(output, column);
+
+    TSDataType dataType = column.getDataType();
+    int positionCount = column.getPositionCount();
+    boolean mayHaveNull = column.mayHaveNull();
+    if (TSDataType.INT64.equals(dataType)) {
+      for (int i = 0; i < positionCount; i++) {
+        if (!mayHaveNull || !column.isNull(i)) {
+          output.putLong(column.getLong(i));
+        }
+      }
+    } else if (TSDataType.DOUBLE.equals(dataType)) {
+      for (int i = 0; i < positionCount; i++) {
+        if (!mayHaveNull || !column.isNull(i)) {
+          output.putLong(Double.doubleToLongBits(column.getDouble(i)));
+        }
+      }
+    } else {
+      throw new IllegalArgumentException("Invalid data type: " + dataType);
+    }
+  }
 }
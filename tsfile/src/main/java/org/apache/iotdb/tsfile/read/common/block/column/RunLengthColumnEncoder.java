@@ -51,4 +51,26 @@ public class RunLengthColumnEncoder implements ColumnEncoder {
     ColumnEncoder columnEncoder = ColumnEncoderFactory.get(innerColumn.getEncoding());
     columnEncoder.writeColumn(output, innerColumn);
   }
+
+  @Override
+  public int getSerializedSize(Column column) {
+    Column innerColumn = getInnerColumn(column);
+    return Byte.BYTES
+        + ColumnEncoderFactory.get(innerColumn.getEncoding()).getSerializedSize(innerColumn);
+  }
+
+  @Override
+  public void writeColumn(ByteBuffer output, Column column) {
+    Column innerColumn = getInnerColumn(column);
+    innerColumn.getEncoding().serializeTo(output);
+    ColumnEncoderFactory.get(innerColumn.getEncoding()).writeColumn(output, innerColumn);
+  }
+
+  private static Column getInnerColumn(Column column) {
+    Column innerColumn = ((RunLengthEncodedColumn) column).getValue();
+    if (innerColumn instanceof RunLengthEncodedColumn) {
+      throw new IllegalArgumentException("Unable to encode a nested RLE column.");
+    }
+    return innerColumn;
+  }
 }
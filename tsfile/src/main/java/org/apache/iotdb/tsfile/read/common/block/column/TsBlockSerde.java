@@ -22,8 +22,6 @@ package org.apache.iotdb.tsfile.read.common.block.column;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.read.common.block.TsBlock;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -83,40 +81,61 @@ public class TsBlockSerde {
   /**
    * Serialize a tsblock.
    *
+   * <p>The size of the tsblock is computed first, so that the columns are written straight into one
+   * buffer of the exact size instead of a growing stream that is copied at the end.
+   *
    * @param tsBlock The tsblock to serialize.
    * @return Serialized tsblock.
    */
   public ByteBuffer serialize(TsBlock tsBlock) throws IOException {
-    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-    DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+    int valueColumnCount = tsBlock.getValueColumnCount();
+    ColumnEncoder[] columnEncoders = new ColumnEncoder[valueColumnCount + 1];
+    columnEncoders[0] = ColumnEncoderFactory.get(tsBlock.getTimeColumn().getEncoding());
+    for (int i = 0; i < valueColumnCount; i++) {
+      columnEncoders[i + 1] = ColumnEncoderFactory.get(tsBlock.getColumn(i).getEncoding());
+    }
+
+    int serializedSize =
+        Integer.BYTES
+            + valueColumnCount * TSDataType.getSerializedSize()
+            + Integer.BYTES
+            + (valueColumnCount + 1) * Byte.BYTES;
+    try {
+      serializedSize += columnEncoders[0].getSerializedSize(tsBlock.getTimeColumn());
+      for (int i = 0; i < valueColumnCount; i++) {
+        serializedSize += columnEncoders[i + 1].getSerializedSize(tsBlock.getColumn(i));
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IOException(e);
+    }
+    ByteBuffer byteBuffer = ByteBuffer.allocate(serializedSize);
 
     // Value column count.
-    dataOutputStream.writeInt(tsBlock.getValueColumnCount());
+    byteBuffer.putInt(valueColumnCount);
 
     // Value column data types.
-    for (int i = 0; i < tsBlock.getValueColumnCount(); i++) {
-      tsBlock.getColumn(i).getDataType().serializeTo(dataOutputStream);
+    for (int i = 0; i < valueColumnCount; i++) {
+      tsBlock.getColumn(i).getDataType().serializeTo(byteBuffer);
     }
 
     // Position count.
-    dataOutputStream.writeInt(tsBlock.getPositionCount());
+    byteBuffer.putInt(tsBlock.getPositionCount());
 
     // Column encodings.
-    tsBlock.getTimeColumn().getEncoding().serializeTo(dataOutputStream);
-    for (int i = 0; i < tsBlock.getValueColumnCount(); i++) {
-      tsBlock.getColumn(i).getEncoding().serializeTo(dataOutputStream);
+    tsBlock.getTimeColumn().getEncoding().serializeTo(byteBuffer);
+    for (int i = 0; i < valueColumnCount; i++) {
+      tsBlock.getColumn(i).getEncoding().serializeTo(byteBuffer);
     }
 
     // Time column.
-    ColumnEncoder columnEncoder = ColumnEncoderFactory.get(tsBlock.getTimeColumn().getEncoding());
-    columnEncoder.writeColumn(dataOutputStream, tsBlock.getTimeColumn());
+    columnEncoders[0].writeColumn(byteBuffer, tsBlock.getTimeColumn());
 
-    for (int i = 0; i < tsBlock.getValueColumnCount(); i++) {
+    for (int i = 0; i < valueColumnCount; i++) {
       // Value column.
-      columnEncoder = ColumnEncoderFactory.get(tsBlock.getColumn(i).getEncoding());
-      columnEncoder.writeColumn(dataOutputStream, tsBlock.getColumn(i));
+      columnEncoders[i + 1].writeColumn(byteBuffer, tsBlock.getColumn(i));
     }
 
-    return ByteBuffer.wrap(byteArrayOutputStream.toByteArray());
+    byteBuffer.flip();
+    return byteBuffer;
   }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.reader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A TsFileInput for sealed TsFiles that serves {@link #slice(long, int)} from memory-mapped
+ * windows, so that chunks, pages and metadata index nodes can be read without a syscall or a copy.
+ *
+ * <p>The file is divided into aligned windows of {@code windowSize} bytes, which are mapped lazily
+ * on first access. The total size of windows mapped by all instances is bounded by {@code
+ * maxMappedBytes}; when the bound is reached, or when the requested range crosses a window
+ * boundary, slice returns null and the caller falls back to an ordinary read.
+ *
+ * <p>{@link #close()} unmaps the windows with the given unmapper and returns their size to the
+ * bound, so slices must not be used after the input is closed. Callers that keep data longer than
+ * the input, e.g., a cache, should copy it to the heap.
+ */
+public class MappedTsFileInput extends LocalTsFileInput {
+
+  private static final Logger logger = LoggerFactory.getLogger(MappedTsFileInput.class);
+
+  /** the size of windows mapped by all opened instances */
+  private static final AtomicLong MAPPED_BYTES = new AtomicLong(0);
+
+  private final int windowSize;
+  private final long maxMappedBytes;
+  /** a sealed TsFile never grows, so its size is read only once */
+  private final long fileSize;
+  /** releases a window when the input is closed */
+  private final Consumer<MappedByteBuffer> unmapper;
+
+  private final AtomicReferenceArray<MappedByteBuffer> windows;
+
+  private volatile boolean closed = false;
+
+  /** The windows are released by the GC once the input is closed. */
+  public MappedTsFileInput(Path file, int windowSize, long maxMappedBytes) throws IOException {
+    this(file, windowSize, maxMappedBytes, window -> {});
+  }
+
+  public MappedTsFileInput(
+      Path file, int windowSize, long maxMappedBytes, Consumer<MappedByteBuffer> unmapper)
+      throws IOException {
+    super(file);
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("The mapping window size must be positive: " + windowSize);
+    }
+    this.windowSize = windowSize;
+    this.maxMappedBytes = maxMappedBytes;
+    this.unmapper = unmapper;
+    this.fileSize = super.size();
+    this.windows = new AtomicReferenceArray<>((int) ((fileSize + windowSize - 1) / windowSize));
+  }
+
+  @Override
+  public long size() {
+    return fileSize;
+  }
+
+  @Override
+  public ByteBuffer slice(long position, int size) throws IOException {
+    long start = position < 0 ? position() : position;
+    if (size <= 0 || start + size > fileSize) {
+      return null;
+    }
+    int index = (int) (start / windowSize);
+    long windowStart = (long) index * windowSize;
+    if (start + size > windowStart + windowSize) {
+      return null;
+    }
+    MappedByteBuffer window = getWindow(index, windowStart);
+    if (window == null) {
+      return null;
+    }
+    ByteBuffer slice = window.duplicate();
+    int offset = (int) (start - windowStart);
+    slice.position(offset);
+    slice.limit(offset + size);
+    if (position < 0) {
+      position(start + size);
+    }
+    return slice.slice();
+  }
+
+  private MappedByteBuffer getWindow(int index, long windowStart) throws IOException {
+    MappedByteBuffer window = windows.get(index);
+    if (window != null) {
+      return window;
+    }
+    synchronized (this) {
+      window = windows.get(index);
+      if (window != null || closed) {
+        return window;
+      }
+      long length = Math.min(windowSize, fileSize - windowStart);
+      if (MAPPED_BYTES.addAndGet(length) > maxMappedBytes) {
+        MAPPED_BYTES.addAndGet(-length);
+        return null;
+      }
+      try {
+        window = wrapAsFileChannel().map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+      } catch (IOException e) {
+        MAPPED_BYTES.addAndGet(-length);
+        logger.warn(
+            "Failed to map {} bytes from {} of {}, fall back to reading",
+            length,
+            windowStart,
+            getFilePath(),
+            e);
+        return null;
+      }
+      windows.set(index, window);
+      return window;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      if (!closed) {
+        closed = true;
+        for (int i = 0; i < windows.length(); i++) {
+          MappedByteBuffer window = windows.getAndSet(i, null);
+          if (window != null) {
+            MAPPED_BYTES.addAndGet(-window.capacity());
+            unmapper.accept(window);
+          }
+        }
+      }
+    }
+    super.close();
+  }
+
+  /** @return the size of windows mapped by all opened instances */
+  public static long getMappedBytes() {
+    return MAPPED_BYTES.get();
+  }
+}
@@ -129,4 +129,19 @@ public interface TsFileInput {
   String readVarIntString(long offset) throws IOException;
 
   String getFilePath();
+
+  /**
+   * Returns a view of {@code size} bytes starting at {@code position} without copying them, or null
+   * if this input cannot provide such a view, in which case callers read the bytes as usual. If
+   * position is -1, the view starts at the current position and the position of this input is
+   * advanced by {@code size}; otherwise the position of this input is not changed.
+   *
+   * @param position The file position at which the view starts, or -1 for the current position
+   * @param size The number of bytes of the view
+   * @return a buffer whose position is 0 and limit is {@code size}, or null
+   * @throws IOException If some I/O error occurs
+   */
+  default ByteBuffer slice(long position, int size) throws IOException {
+    return null;
+  }
 }
@@ -28,7 +28,14 @@ import org.apache.iotdb.tsfile.read.common.BatchDataFactory;
 import org.apache.iotdb.tsfile.read.common.TimeRange;
 import org.apache.iotdb.tsfile.read.common.block.TsBlock;
 import org.apache.iotdb.tsfile.read.common.block.TsBlockBuilder;
+import org.apache.iotdb.tsfile.read.common.block.column.BooleanColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.Column;
 import org.apache.iotdb.tsfile.read.common.block.column.ColumnBuilder;
+import org.apache.iotdb.tsfile.read.common.block.column.DoubleColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.FloatColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.IntColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.LongColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.TimeColumn;
 import org.apache.iotdb.tsfile.read.common.block.column.TimeColumnBuilder;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.read.filter.operator.AndFilter;
@@ -38,8 +45,10 @@ import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public class PageReader implements IPageReader {
 
@@ -66,6 +75,12 @@ public class PageReader implements IPageReader {
 
   private int deleteCursor = 0;
 
+  /** initial capacity of the decoded arrays when the page has no statistics */
+  private static final int DEFAULT_BATCH_SIZE = 1024;
+
+  /** number of timestamps decoded by the last call of {@link #decodeTimes()} */
+  private int decodedCount;
+
   public PageReader(
       ByteBuffer pageData,
       TSDataType dataType,
@@ -158,86 +173,155 @@ public class PageReader implements IPageReader {
     return pageData.flip();
   }
 
+  /**
+   * Decode the whole page into column arrays with the bulk decoder methods, then drop deleted and
+   * unsatisfied rows in a separate pass over the arrays. The surviving rows are compacted in place
+   * and the arrays are wrapped as columns without copying.
+   */
   @Override
   public TsBlock getAllSatisfiedData() throws IOException {
-    TsBlockBuilder builder = new TsBlockBuilder(Collections.singletonList(dataType));
-    TimeColumnBuilder timeBuilder = builder.getTimeColumnBuilder();
-    ColumnBuilder valueBuilder = builder.getColumnBuilder(0);
-    if (filter == null || filter.satisfy(getStatistics())) {
-      switch (dataType) {
-        case BOOLEAN:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            boolean aBoolean = valueDecoder.readBoolean(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aBoolean))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeBoolean(aBoolean);
-              builder.declarePosition();
-            }
-          }
-          break;
-        case INT32:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            int anInt = valueDecoder.readInt(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, anInt))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeInt(anInt);
-              builder.declarePosition();
+    if (filter != null && !filter.satisfy(getStatistics())) {
+      return new TsBlockBuilder(Collections.singletonList(dataType)).build();
+    }
+    if (dataType == TSDataType.TEXT) {
+      return getAllSatisfiedBinaryData();
+    }
+
+    long[] times = decodeTimes();
+    int count = decodedCount;
+    boolean needFilter =
+        filter != null || (deleteIntervalList != null && !deleteIntervalList.isEmpty());
+    int size = 0;
+    Column valueColumn;
+    switch (dataType) {
+      case BOOLEAN:
+        boolean[] booleans = new boolean[count];
+        checkValueCount(valueDecoder.readBooleans(valueBuffer, booleans, 0, count), count);
+        if (!needFilter) {
+          size = count;
+        } else {
+          for (int i = 0; i < count; i++) {
+            if (!isDeleted(times[i]) && (filter == null || filter.satisfy(times[i], booleans[i]))) {
+              times[size] = times[i];
+              booleans[size++] = booleans[i];
             }
           }
-          break;
-        case INT64:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            long aLong = valueDecoder.readLong(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aLong))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeLong(aLong);
-              builder.declarePosition();
+        }
+        valueColumn = new BooleanColumn(size, Optional.empty(), booleans);
+        break;
+      case INT32:
+        int[] ints = new int[count];
+        checkValueCount(valueDecoder.readInts(valueBuffer, ints, 0, count), count);
+        if (!needFilter) {
+          size = count;
+        } else {
+          for (int i = 0; i < count; i++) {
+            if (!isDeleted(times[i]) && (filter == null || filter.satisfy(times[i], ints[i]))) {
+              times[size] = times[i];
+              ints[size++] = ints[i];
             }
           }
-          break;
-        case FLOAT:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            float aFloat = valueDecoder.readFloat(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aFloat))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeFloat(aFloat);
-              builder.declarePosition();
+        }
+        valueColumn = new IntColumn(size, Optional.empty(), ints);
+        break;
+      case INT64:
+        long[] longs = new long[count];
+        checkValueCount(valueDecoder.readLongs(valueBuffer, longs, 0, count), count);
+        if (!needFilter) {
+          size = count;
+        } else {
+          for (int i = 0; i < count; i++) {
+            if (!isDeleted(times[i]) && (filter == null || filter.satisfy(times[i], longs[i]))) {
+              times[size] = times[i];
+              longs[size++] = longs[i];
             }
           }
-          break;
-        case DOUBLE:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            double aDouble = valueDecoder.readDouble(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aDouble))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeDouble(aDouble);
-              builder.declarePosition();
+        }
+        valueColumn = new LongColumn(size, Optional.empty(), longs);
+        break;
+      case FLOAT:
+        float[] floats = new float[count];
+        checkValueCount(valueDecoder.readFloats(valueBuffer, floats, 0, count), count);
+        if (!needFilter) {
+          size = count;
+        } else {
+          for (int i = 0; i < count; i++) {
+            if (!isDeleted(times[i]) && (filter == null || filter.satisfy(times[i], floats[i]))) {
+              times[size] = times[i];
+              floats[size++] = floats[i];
             }
           }
-          break;
-        case TEXT:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            Binary aBinary = valueDecoder.readBinary(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aBinary))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeBinary(aBinary);
-              builder.declarePosition();
+        }
+        valueColumn = new FloatColumn(size, Optional.empty(), floats);
+        break;
+      case DOUBLE:
+        double[] doubles = new double[count];
+        checkValueCount(valueDecoder.readDoubles(valueBuffer, doubles, 0, count), count);
+        if (!needFilter) {
+          size = count;
+        } else {
+          for (int i = 0; i < count; i++) {
+            if (!isDeleted(times[i]) && (filter == null || filter.satisfy(times[i], doubles[i]))) {
+              times[size] = times[i];
+              doubles[size++] = doubles[i];
             }
           }
-          break;
-        default:
-          throw new UnSupportedDataTypeException(String.valueOf(dataType));
+        }
+        valueColumn = new DoubleColumn(size, Optional.empty(), doubles);
+        break;
+      default:
+        throw new UnSupportedDataTypeException(String.valueOf(dataType));
+    }
+    return new TsBlock(size, new TimeColumn(size, times), valueColumn);
+  }
+
+  private TsBlock getAllSatisfiedBinaryData() throws IOException {
+    TsBlockBuilder builder = new TsBlockBuilder(Collections.singletonList(dataType));
+    TimeColumnBuilder timeBuilder = builder.getTimeColumnBuilder();
+    ColumnBuilder valueBuilder = builder.getColumnBuilder(0);
+    while (timeDecoder.hasNext(timeBuffer)) {
+      long timestamp = timeDecoder.readLong(timeBuffer);
+      Binary aBinary = valueDecoder.readBinary(valueBuffer);
+      if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aBinary))) {
+        timeBuilder.writeLong(timestamp);
+        valueBuilder.writeBinary(aBinary);
+        builder.declarePosition();
       }
     }
     return builder.build();
   }
 
+  /**
+   * Decode all timestamps of this page, the number of decoded timestamps is saved in {@link
+   * #decodedCount}. The array is sized by the page statistics if there are any, otherwise it grows
+   * as needed.
+   */
+  private long[] decodeTimes() throws IOException {
+    int capacity =
+        pageHeader != null && pageHeader.getStatistics() != null
+            ? (int) pageHeader.getStatistics().getCount()
+            : DEFAULT_BATCH_SIZE;
+    long[] times = new long[Math.max(capacity, 1)];
+    int count = 0;
+    while (true) {
+      count += timeDecoder.readLongs(timeBuffer, times, count, times.length - count);
+      if (count < times.length || !timeDecoder.hasNext(timeBuffer)) {
+        break;
+      }
+      times = Arrays.copyOf(times, times.length << 1);
+    }
+    decodedCount = count;
+    return times;
+  }
+
+  private void checkValueCount(int valueCount, int timeCount) throws IOException {
+    if (valueCount != timeCount) {
+      throw new IOException(
+          String.format(
+              "Page has %d timestamps but %d values could be decoded", timeCount, valueCount));
+    }
+  }
+
   @Override
   public Statistics getStatistics() {
     return pageHeader.getStatistics();
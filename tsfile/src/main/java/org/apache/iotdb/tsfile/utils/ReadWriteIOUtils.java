@@ -1015,4 +1015,22 @@ public class ReadWriteIOUtils {
     clone.flip();
     return clone;
   }
+
+  /**
+   * return the given buffer if it is backed by an accessible array, otherwise copy its whole
+   * content (from 0 to capacity) into a heap buffer with the same position and limit. Used by
+   * callers that need {@link ByteBuffer#array()} on buffers that may be sliced from a mapped file.
+   */
+  public static ByteBuffer toHeapBuffer(ByteBuffer buffer) {
+    if (buffer.hasArray() && buffer.arrayOffset() == 0) {
+      return buffer;
+    }
+    ByteBuffer source = buffer.duplicate();
+    source.clear();
+    ByteBuffer heapBuffer = ByteBuffer.allocate(source.capacity());
+    heapBuffer.put(source);
+    heapBuffer.limit(buffer.limit());
+    heapBuffer.position(buffer.position());
+    return heapBuffer;
+  }
 }
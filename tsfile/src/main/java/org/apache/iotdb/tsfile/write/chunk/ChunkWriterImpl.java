@@ -348,13 +348,20 @@ public class ChunkWriterImpl implements IChunkWriter {
     pageWriter = null;
   }
 
+  /** @return the number of points written into the page that is not sealed yet */
+  public long getPointNumOfUnsealedPage() {
+    return pageWriter == null ? 0 : pageWriter.getPointNumber();
+  }
+
   public TSDataType getDataType() {
     return measurementSchema.getType();
   }
 
   /**
-   * write the page header and data into the PageWriter's output stream. @NOTE: for upgrading
-   * 0.11/v2 to 0.12/v3 TsFile
+   * write the page header and data into the PageWriter's output stream. The data is the compressed
+   * page body and is appended as it is, so the page must be encoded and compressed in the way of
+   * this chunk. The points not sealed into a page should be sealed before. @NOTE: used for
+   * upgrading 0.11/v2 to 0.12/v3 TsFile and copying pages in compaction
    */
   public void writePageHeaderAndDataIntoBuff(ByteBuffer data, PageHeader header)
       throws PageException {
@@ -365,7 +372,7 @@ public class ChunkWriterImpl implements IChunkWriter {
       // serialize pageHeader  see writePageToPageBuffer method
       if (numOfPages == 0) { // record the firstPageStatistics
         this.firstPageStatistics = header.getStatistics();
-        this.sizeWithoutStatistic +=
+        this.sizeWithoutStatistic =
             ReadWriteForEncodingUtils.writeUnsignedVarInt(header.getUncompressedSize(), pageBuffer);
         this.sizeWithoutStatistic +=
             ReadWriteForEncodingUtils.writeUnsignedVarInt(header.getCompressedSize(), pageBuffer);
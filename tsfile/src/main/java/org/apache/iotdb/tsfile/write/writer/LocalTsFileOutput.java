@@ -18,6 +18,8 @@
  */
 package org.apache.iotdb.tsfile.write.writer;
 
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
 import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -66,8 +68,9 @@ public class LocalTsFileOutput extends OutputStream implements TsFileOutput {
 
   @Override
   public synchronized void write(ByteBuffer b) throws IOException {
-    bufferedStream.write(b.array());
-    position += b.array().length;
+    byte[] bytes = ReadWriteIOUtils.toHeapBuffer(b).array();
+    bufferedStream.write(bytes);
+    position += bytes.length;
   }
 
   @Override
@@ -46,6 +46,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -240,6 +242,54 @@ public class TsFileIOWriter implements AutoCloseable {
     currentChunkMetadata = null;
   }
 
+  /**
+   * Append the chunk groups written by another writer, which has not ended its file, to this file.
+   * The chunk metadata of the appended chunk groups are moved to their positions in this file, so
+   * that they are indexed by {@link #endFile()} like the chunk groups written by this writer. Both
+   * writers must not be writing a chunk group.
+   *
+   * @param writer the writer whose chunk groups are appended
+   * @return the number of bytes appended to this file
+   * @throws IOException if I/O error occurs
+   */
+  public long appendChunkGroups(TsFileIOWriter writer) throws IOException {
+    writer.out.flush();
+    long dataStartOffset = (long) MAGIC_STRING_BYTES.length + Byte.BYTES;
+    long dataSize = writer.getPos() - dataStartOffset;
+    long offsetDelta = out.getPosition() - dataStartOffset;
+    try (InputStream inputStream =
+        FSFactoryProducer.getFSFactory().getBufferedInputStream(writer.file.getPath())) {
+      long skipped = 0;
+      while (skipped < dataStartOffset) {
+        long skipSize = inputStream.skip(dataStartOffset - skipped);
+        if (skipSize <= 0) {
+          throw new IOException("Unexpected end of file " + writer.file);
+        }
+        skipped += skipSize;
+      }
+      OutputStream outputStream = out.wrapAsStream();
+      byte[] buffer = new byte[64 * 1024];
+      long copied = 0;
+      while (copied < dataSize) {
+        int readSize =
+            inputStream.read(buffer, 0, (int) Math.min(buffer.length, dataSize - copied));
+        if (readSize < 0) {
+          throw new IOException("Unexpected end of file " + writer.file);
+        }
+        outputStream.write(buffer, 0, readSize);
+        copied += readSize;
+      }
+    }
+    for (ChunkGroupMetadata chunkGroupMetadata : writer.chunkGroupMetadataList) {
+      for (ChunkMetadata chunkMetadata : chunkGroupMetadata.getChunkMetadataList()) {
+        chunkMetadata.setOffsetOfChunkHeader(chunkMetadata.getOffsetOfChunkHeader() + offsetDelta);
+      }
+      chunkGroupMetadataList.add(chunkGroupMetadata);
+    }
+    out.flush();
+    return dataSize;
+  }
+
   /**
    * write {@linkplain TsFileMetadata TSFileMetaData} to output stream and close it.
    *
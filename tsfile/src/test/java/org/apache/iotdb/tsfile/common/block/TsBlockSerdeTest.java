@@ -23,8 +23,12 @@ import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.read.common.block.TsBlock;
 import org.apache.iotdb.tsfile.read.common.block.TsBlockBuilder;
 import org.apache.iotdb.tsfile.read.common.block.column.BinaryColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.Column;
 import org.apache.iotdb.tsfile.read.common.block.column.ColumnBuilder;
+import org.apache.iotdb.tsfile.read.common.block.column.ColumnEncoderFactory;
 import org.apache.iotdb.tsfile.read.common.block.column.ColumnEncoding;
+import org.apache.iotdb.tsfile.read.common.block.column.IntColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.RunLengthEncodedColumn;
 import org.apache.iotdb.tsfile.read.common.block.column.TimeColumn;
 import org.apache.iotdb.tsfile.read.common.block.column.TsBlockSerde;
 import org.apache.iotdb.tsfile.utils.Binary;
@@ -33,12 +37,15 @@ import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
@@ -186,4 +193,91 @@ public class TsBlockSerdeTest {
       fail();
     }
   }
+
+  @Test
+  public void testSerializeWithNulls() throws IOException {
+    final int positionCount = 37;
+
+    List<TSDataType> dataTypes =
+        Arrays.asList(
+            TSDataType.INT32,
+            TSDataType.FLOAT,
+            TSDataType.INT64,
+            TSDataType.DOUBLE,
+            TSDataType.BOOLEAN,
+            TSDataType.TEXT);
+    TsBlockBuilder tsBlockBuilder = new TsBlockBuilder(dataTypes);
+    for (int i = 0; i < positionCount; i++) {
+      tsBlockBuilder.getTimeColumnBuilder().writeLong(i);
+      for (int j = 0; j < dataTypes.size(); j++) {
+        ColumnBuilder columnBuilder = tsBlockBuilder.getColumnBuilder(j);
+        if ((i + j) % 3 == 0) {
+          columnBuilder.appendNull();
+          continue;
+        }
+        switch (dataTypes.get(j)) {
+          case INT32:
+            columnBuilder.writeInt(i);
+            break;
+          case FLOAT:
+            columnBuilder.writeFloat(i / 10F);
+            break;
+          case INT64:
+            columnBuilder.writeLong(i * 10000000000L);
+            break;
+          case DOUBLE:
+            columnBuilder.writeDouble(i / 10D);
+            break;
+          case BOOLEAN:
+            columnBuilder.writeBoolean(i % 2 == 0);
+            break;
+          default:
+            columnBuilder.writeBinary(new Binary("foo" + i));
+        }
+      }
+      tsBlockBuilder.declarePosition();
+    }
+    TsBlock tsBlock = tsBlockBuilder.build();
+    Column constant =
+        new RunLengthEncodedColumn(
+            new IntColumn(1, Optional.empty(), new int[] {42}), positionCount);
+    tsBlock = tsBlock.appendValueColumn(constant);
+
+    TsBlockSerde tsBlockSerde = new TsBlockSerde();
+    ByteBuffer output = tsBlockSerde.serialize(tsBlock);
+    // the buffer is allocated with the exact size
+    assertEquals(output.capacity(), output.remaining());
+
+    // the columns are encoded the same way as through a stream
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+    ColumnEncoderFactory.get(ColumnEncoding.INT64_ARRAY)
+        .writeColumn(dataOutputStream, tsBlock.getTimeColumn());
+    for (int i = 0; i < tsBlock.getValueColumnCount(); i++) {
+      ColumnEncoderFactory.get(tsBlock.getColumn(i).getEncoding())
+          .writeColumn(dataOutputStream, tsBlock.getColumn(i));
+    }
+    byte[] columns = byteArrayOutputStream.toByteArray();
+    byte[] serializedColumns = new byte[columns.length];
+    output.position(output.limit() - columns.length);
+    output.get(serializedColumns);
+    assertArrayEquals(columns, serializedColumns);
+
+    output.rewind();
+    TsBlock deserializedTsBlock = tsBlockSerde.deserialize(output);
+    assertEquals(0, output.remaining());
+    assertEquals(positionCount, deserializedTsBlock.getPositionCount());
+    assertEquals(tsBlock.getValueColumnCount(), deserializedTsBlock.getValueColumnCount());
+    for (int i = 0; i < positionCount; i++) {
+      assertEquals(i, deserializedTsBlock.getTimeByIndex(i));
+      for (int j = 0; j < tsBlock.getValueColumnCount(); j++) {
+        Column expected = tsBlock.getColumn(j);
+        Column actual = deserializedTsBlock.getColumn(j);
+        assertEquals(expected.isNull(i), actual.isNull(i));
+        if (!expected.isNull(i)) {
+          assertEquals(expected.getObject(i), actual.getObject(i));
+        }
+      }
+    }
+  }
 }
@@ -80,4 +80,17 @@ public class LZ4Test {
     byte[] uncompressed = unCompressor.uncompress(compressed);
     Assert.assertArrayEquals(uncom, uncompressed);
   }
+
+  @Test
+  public void testHighCompression() throws IOException {
+    ICompressor compressor = new ICompressor.IOTDBLZ4Compressor(9);
+    IUnCompressor unCompressor = new IUnCompressor.LZ4UnCompressor();
+
+    byte[] uncom = randomString(500000).getBytes(StandardCharsets.UTF_8);
+    byte[] compressed = compressor.compress(uncom);
+    // data compressed in high compression mode is read by the same decompressor
+    byte[] uncompressed = new byte[uncom.length];
+    unCompressor.uncompress(compressed, 0, compressed.length, uncompressed, 0);
+    Assert.assertArrayEquals(uncom, uncompressed);
+  }
 }
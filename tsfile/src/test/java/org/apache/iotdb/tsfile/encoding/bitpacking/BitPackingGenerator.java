@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.bitpacking;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generator of {@link IntBitPacking} and {@link LongBitPacking}. The output is formatted as
+ * google-java-format would, so it can be compared with the committed sources as is.
+ *
+ * <p>To change the kernels, change this generator and run {@link #main(String[])} from the tsfile
+ * module directory, which overwrites both classes. {@link BitPackingGeneratorTest} fails as long as
+ * the committed sources and the generator differ.
+ */
+public class BitPackingGenerator {
+
+  static final String SOURCE_DIR = "src/main/java/org/apache/iotdb/tsfile/encoding/bitpacking";
+
+  private static final int MAX_LINE_LENGTH = 100;
+
+  private static final String LICENSE_HEADER =
+      "/*\n"
+          + " * Licensed to the Apache Software Foundation (ASF) under one\n"
+          + " * or more contributor license agreements.  See the NOTICE file\n"
+          + " * distributed with this work for additional information\n"
+          + " * regarding copyright ownership.  The ASF licenses this file\n"
+          + " * to you under the Apache License, Version 2.0 (the\n"
+          + " * \"License\"); you may not use this file except in compliance\n"
+          + " * with the License.  You may obtain a copy of the License at\n"
+          + " *\n"
+          + " *      http://www.apache.org/licenses/LICENSE-2.0\n"
+          + " *\n"
+          + " * Unless required by applicable law or agreed to in writing,\n"
+          + " * software distributed under the License is distributed on an\n"
+          + " * \"AS IS\" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY\n"
+          + " * KIND, either express or implied.  See the License for the\n"
+          + " * specific language governing permissions and limitations\n"
+          + " * under the License.\n"
+          + " */\n";
+
+  private final boolean isLong;
+  private final String type;
+  private final String className;
+  private final int maxWidth;
+  private final StringBuilder out = new StringBuilder();
+
+  private BitPackingGenerator(boolean isLong) {
+    this.isLong = isLong;
+    this.type = isLong ? "long" : "int";
+    this.className = isLong ? "LongBitPacking" : "IntBitPacking";
+    this.maxWidth = isLong ? Long.SIZE : Integer.SIZE;
+  }
+
+  /** @param args the directory to write the sources into, the tsfile sources by default */
+  public static void main(String[] args) throws IOException {
+    File dir = new File(args.length > 0 ? args[0] : SOURCE_DIR);
+    for (boolean isLong : new boolean[] {false, true}) {
+      BitPackingGenerator generator = new BitPackingGenerator(isLong);
+      File file = new File(dir, generator.className + ".java");
+      Files.write(file.toPath(), generator.generate().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  /** @return the source of IntBitPacking */
+  static String generateInt() {
+    return new BitPackingGenerator(false).generate();
+  }
+
+  /** @return the source of LongBitPacking */
+  static String generateLong() {
+    return new BitPackingGenerator(true).generate();
+  }
+
+  private String generate() {
+    out.append(LICENSE_HEADER)
+        .append("\n")
+        .append("package org.apache.iotdb.tsfile.encoding.bitpacking;\n")
+        .append("\n")
+        .append("import java.util.Arrays;\n")
+        .append("\n");
+    appendJavadoc(
+        "",
+        "Unrolled kernels packing (unpacking) 8 "
+            + type
+            + " values of a fixed bit-width into (from) exactly {@code width} bytes, one method per"
+            + " width. Values are laid out one after another, most significant bit first, as"
+            + " described in {@link "
+            + (isLong ? "LongPacker" : "IntPacker")
+            + "}.",
+        "Every kernel works on constant shifts and masks only, so that the JIT can keep the values"
+            + " in registers instead of looping bit by bit. This class is generated by"
+            + " BitPackingGenerator in the tests, change the generator instead of this class.");
+    out.append("final class ").append(className).append(" {\n\n");
+    out.append("  private ").append(className).append("() {\n");
+    out.append("    // util class\n");
+    out.append("  }\n\n");
+    generatePackDispatch();
+    out.append("\n");
+    generateUnpackDispatch();
+    for (int width = 1; width <= maxWidth; width++) {
+      out.append("\n");
+      generatePack(width);
+      out.append("\n");
+      generateUnpack(width);
+    }
+    out.append("}\n");
+    return out.toString();
+  }
+
+  private void generatePackDispatch() {
+    appendJavadoc(
+        "  ",
+        "pack values[offset, offset + 8) into buf[bufOffset, bufOffset + width). Every value must"
+            + " fit in {@code width} bits.");
+    out.append("  static void pack8(")
+        .append(type)
+        .append("[] values, int offset, byte[] buf, int bufOffset, int width) {\n");
+    out.append("    switch (width) {\n");
+    out.append("      case 0:\n");
+    out.append("        return;\n");
+    for (int width = 1; width <= maxWidth; width++) {
+      out.append("      case ").append(width).append(":\n");
+      out.append("        pack").append(width).append("(values, offset, buf, bufOffset);\n");
+      out.append("        return;\n");
+    }
+    appendDefaultCase();
+  }
+
+  private void generateUnpackDispatch() {
+    appendJavadoc(
+        "  ",
+        "unpack 8 values from buf[offset, offset + width) into values[valueOffset, valueOffset +"
+            + " 8).");
+    out.append("  static void unpack8(byte[] buf, int offset, ")
+        .append(type)
+        .append("[] values, int valueOffset, int width) {\n");
+    out.append("    switch (width) {\n");
+    out.append("      case 0:\n");
+    out.append("        Arrays.fill(values, valueOffset, valueOffset + 8, 0);\n");
+    out.append("        return;\n");
+    for (int width = 1; width <= maxWidth; width++) {
+      out.append("      case ").append(width).append(":\n");
+      out.append("        unpack").append(width).append("(buf, offset, values, valueOffset);\n");
+      out.append("        return;\n");
+    }
+    appendDefaultCase();
+  }
+
+  private void appendDefaultCase() {
+    out.append("      default:\n");
+    out.append("        throw new IllegalArgumentException(\"Unsupported bit-width \" + width);\n");
+    out.append("    }\n");
+    out.append("  }\n");
+  }
+
+  /** Value i takes bits [width * i, width * (i + 1)) and byte j takes bits [8j, 8j + 8). */
+  private void generatePack(int width) {
+    out.append("  private static void pack")
+        .append(width)
+        .append("(")
+        .append(type)
+        .append("[] v, int o, byte[] b, int p) {\n");
+    for (int j = 0; j < width; j++) {
+      List<String> terms = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        int start = Math.max(width * i, 8 * j);
+        int end = Math.min(width * (i + 1), 8 * (j + 1));
+        if (start >= end) {
+          continue;
+        }
+        // bits of the value that are dropped from the high end and the low end
+        int highBits = start - width * i;
+        int rightShift = width * (i + 1) - end;
+        int leftShift = 8 * (j + 1) - end;
+        String value = element("v", "o", i);
+        String mask = hex((1 << (end - start)) - 1);
+        String term;
+        if (highBits == 0) {
+          if (rightShift > 0) {
+            term = value + " >>> " + rightShift;
+          } else if (leftShift > 0) {
+            term = value + " << " + leftShift;
+          } else {
+            term = value;
+          }
+        } else if (rightShift > 0) {
+          term = value + " >>> " + rightShift + " & " + mask;
+        } else if (leftShift > 0) {
+          term = "(" + value + " & " + mask + ") << " + leftShift;
+        } else {
+          term = value + " & " + mask;
+        }
+        terms.add(term);
+      }
+      appendPackStatement(element("b", "p", j), terms);
+    }
+    out.append("  }\n");
+  }
+
+  private void generateUnpack(int width) {
+    out.append("  private static void unpack")
+        .append(width)
+        .append("(byte[] b, int p, ")
+        .append(type)
+        .append("[] v, int o) {\n");
+    for (int i = 0; i < 8; i++) {
+      List<String> terms = new ArrayList<>();
+      for (int j = 0; j < width; j++) {
+        int start = Math.max(width * i, 8 * j);
+        int end = Math.min(width * (i + 1), 8 * (j + 1));
+        if (start >= end) {
+          continue;
+        }
+        // bits of the byte that belong to the value, and where they go in the value
+        int from = start - 8 * j;
+        int to = end - 8 * j;
+        int leftShift = width * (i + 1) - end;
+        String value = element("b", "p", j);
+        String mask = hex((1 << (to - from)) - 1);
+        String term;
+        if (to < 8) {
+          term =
+              from == 0
+                  ? "(" + value + " & 0xFF) >>> " + (8 - to)
+                  : value + " >>> " + (8 - to) + " & " + mask;
+        } else if (leftShift > 0) {
+          // an int shifted into the sign bit or beyond has to be widened first
+          String cast = isLong && leftShift + to - from >= Integer.SIZE ? "(long) " : "";
+          term = cast + "(" + value + " & " + mask + ") << " + leftShift;
+        } else {
+          term = value + " & " + mask;
+        }
+        terms.add(term);
+      }
+      appendUnpackStatement(element("v", "o", i), terms);
+    }
+    out.append("  }\n");
+  }
+
+  private void appendPackStatement(String target, List<String> terms) {
+    String operand = "(" + join(terms) + ")";
+    if (!tryAppend("    " + target + " = (byte) " + operand + ";")
+        && !tryAppend("    " + target + " =\n", "        (byte) " + operand + ";")
+        && !tryAppend("    " + target + " =\n        (byte)\n", "            " + operand + ";")) {
+      out.append("    ").append(target).append(" =\n        (byte)\n");
+      appendBrokenChain("            (", "                | ", terms, ");");
+    }
+  }
+
+  private void appendUnpackStatement(String target, List<String> terms) {
+    String expression = join(terms);
+    if (!tryAppend("    " + target + " = " + expression + ";")
+        && !tryAppend("    " + target + " =\n", "        " + expression + ";")) {
+      out.append("    ").append(target).append(" =\n");
+      appendBrokenChain("        ", "            | ", terms, ";");
+    }
+  }
+
+  /** Append prefix + line if the last line fits in the line length limit. */
+  private boolean tryAppend(String line) {
+    return tryAppend("", line);
+  }
+
+  private boolean tryAppend(String prefix, String line) {
+    if (line.length() > MAX_LINE_LENGTH) {
+      return false;
+    }
+    out.append(prefix).append(line).append("\n");
+    return true;
+  }
+
+  /** One operand of an | chain per line, the way google-java-format breaks binary operators. */
+  private void appendBrokenChain(String first, String next, List<String> terms, String suffix) {
+    for (int i = 0; i < terms.size(); i++) {
+      out.append(i == 0 ? first : next).append(operand(terms, i));
+      out.append(i == terms.size() - 1 ? suffix : "").append("\n");
+    }
+  }
+
+  private static String join(List<String> terms) {
+    if (terms.size() == 1) {
+      return terms.get(0);
+    }
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < terms.size(); i++) {
+      builder.append(i == 0 ? "" : " | ").append(operand(terms, i));
+    }
+    return builder.toString();
+  }
+
+  /** Operands of an | chain are parenthesized unless they are a bare array element. */
+  private static String operand(List<String> terms, int index) {
+    String term = terms.get(index);
+    return terms.size() == 1 || term.endsWith("]") ? term : "(" + term + ")";
+  }
+
+  private static String element(String array, String base, int index) {
+    return array + "[" + base + (index == 0 ? "" : " + " + index) + "]";
+  }
+
+  private static String hex(int mask) {
+    return "0x" + Integer.toHexString(mask).toUpperCase();
+  }
+
+  /** Append a javadoc comment whose paragraphs are filled up to the line length limit. */
+  private void appendJavadoc(String indent, String... paragraphs) {
+    String single = indent + "/** " + paragraphs[0] + " */";
+    if (paragraphs.length == 1 && single.length() <= MAX_LINE_LENGTH) {
+      out.append(single).append("\n");
+      return;
+    }
+    out.append(indent).append("/**\n");
+    for (int i = 0; i < paragraphs.length; i++) {
+      if (i > 0) {
+        out.append(indent).append(" *\n");
+      }
+      StringBuilder line = new StringBuilder(indent + " *");
+      String separator = i > 0 ? " <p>" : " ";
+      for (String word : paragraphs[i].split(" ")) {
+        if (separator.equals(" ") && line.length() + 1 + word.length() > MAX_LINE_LENGTH) {
+          out.append(line).append("\n");
+          line = new StringBuilder(indent + " *");
+        }
+        line.append(separator).append(word);
+        separator = " ";
+      }
+      out.append(line).append("\n");
+    }
+    out.append(indent).append(" */\n");
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.bitpacking;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+
+/** The committed bit-packing kernels must be exactly what {@link BitPackingGenerator} produces. */
+public class BitPackingGeneratorTest {
+
+  @Test
+  public void testIntBitPackingUpToDate() throws IOException {
+    assertEquals(
+        "IntBitPacking.java is out of date, run BitPackingGenerator to regenerate it",
+        BitPackingGenerator.generateInt(),
+        readSource("IntBitPacking.java"));
+  }
+
+  @Test
+  public void testLongBitPackingUpToDate() throws IOException {
+    assertEquals(
+        "LongBitPacking.java is out of date, run BitPackingGenerator to regenerate it",
+        BitPackingGenerator.generateLong(),
+        readSource("LongBitPacking.java"));
+  }
+
+  private static String readSource(String fileName) throws IOException {
+    File file = new File(BitPackingGenerator.SOURCE_DIR, fileName);
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+  }
+}
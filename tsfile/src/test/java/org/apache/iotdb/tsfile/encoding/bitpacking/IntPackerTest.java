@@ -19,11 +19,15 @@
 
 package org.apache.iotdb.tsfile.encoding.bitpacking;
 
+import org.apache.iotdb.tsfile.utils.BytesUtils;
+
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class IntPackerTest {
@@ -76,4 +80,29 @@ public class IntPackerTest {
       }
     }
   }
+
+  @Test
+  public void testAllWidthsWithOffsets() {
+    Random rand = new Random();
+    for (int width = 1; width <= 32; width++) {
+      int[] values = new int[8 + 3];
+      for (int i = 3; i < values.length; i++) {
+        values[i] = width == 32 ? rand.nextInt() : rand.nextInt() & ((1 << width) - 1);
+      }
+      // the packed bytes must be the plain bit stream written by BytesUtils
+      byte[] expected = new byte[width];
+      for (int i = 0; i < 8; i++) {
+        BytesUtils.intToBytes(values[i + 3], expected, i * width, width);
+      }
+      IntPacker packer = new IntPacker(width);
+      byte[] buf = new byte[width + 5];
+      packer.pack8Values(values, 3, buf, 5);
+      assertArrayEquals(expected, Arrays.copyOfRange(buf, 5, buf.length));
+
+      int[] res = new int[8 + 2];
+      packer.unpack8Values(buf, 5, res, 2);
+      assertArrayEquals(
+          Arrays.copyOfRange(values, 3, values.length), Arrays.copyOfRange(res, 2, 10));
+    }
+  }
 }
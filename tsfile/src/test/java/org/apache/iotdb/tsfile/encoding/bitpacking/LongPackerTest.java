@@ -19,6 +19,7 @@
 
 package org.apache.iotdb.tsfile.encoding.bitpacking;
 
+import org.apache.iotdb.tsfile.utils.BytesUtils;
 import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
 
 import org.junit.Test;
@@ -28,9 +29,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class LongPackerTest {
@@ -128,4 +131,29 @@ public class LongPackerTest {
       }
     }
   }
+
+  @Test
+  public void testAllWidthsWithOffsets() {
+    Random rand = new Random();
+    for (int width = 1; width <= 64; width++) {
+      long[] values = new long[8 + 3];
+      for (int i = 3; i < values.length; i++) {
+        values[i] = width == 64 ? rand.nextLong() : rand.nextLong() & ((1L << width) - 1);
+      }
+      // the packed bytes must be the plain bit stream written by BytesUtils
+      byte[] expected = new byte[width];
+      for (int i = 0; i < 8; i++) {
+        BytesUtils.longToBytes(values[i + 3], expected, i * width, width);
+      }
+      LongPacker packer = new LongPacker(width);
+      byte[] buf = new byte[width + 5];
+      packer.pack8Values(values, 3, buf, 5);
+      assertArrayEquals(expected, Arrays.copyOfRange(buf, 5, buf.length));
+
+      long[] res = new long[8 + 2];
+      packer.unpack8Values(buf, 5, res, 2);
+      assertArrayEquals(
+          Arrays.copyOfRange(values, 3, values.length), Arrays.copyOfRange(res, 2, 10));
+    }
+  }
 }
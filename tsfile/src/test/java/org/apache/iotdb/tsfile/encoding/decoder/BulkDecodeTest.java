@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import org.apache.iotdb.tsfile.encoding.encoder.DeltaBinaryEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.DoublePrecisionEncoderV2;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.encoding.encoder.IntGorillaEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.IntRleEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.LongGorillaEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.LongRleEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.PlainEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.SinglePrecisionEncoderV2;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/** Checks that the bulk read methods decode the same values as the one-by-one read methods. */
+public class BulkDecodeTest {
+
+  private static final int ROW_COUNT = 3001;
+  /** an odd batch size so that batches cross pack and group boundaries */
+  private static final int BATCH_SIZE = 37;
+
+  private final Random random = new Random(20221017);
+
+  @Test
+  public void testLongs() throws IOException {
+    long[] values = new long[ROW_COUNT];
+    long value = 1_000_000L;
+    for (int i = 0; i < ROW_COUNT; i++) {
+      // runs of repeated values followed by random increments, for both rle and bit-packing
+      value += (i / 50) % 2 == 0 ? 0 : random.nextInt(1000);
+      values[i] = value;
+    }
+    checkLongs(new PlainEncoder(TSDataType.INT64, 0), new PlainDecoder(), values);
+    checkLongs(
+        new DeltaBinaryEncoder.LongDeltaEncoder(),
+        new DeltaBinaryDecoder.LongDeltaDecoder(),
+        values);
+    checkLongs(new LongRleEncoder(), new LongRleDecoder(), values);
+    checkLongs(new LongGorillaEncoder(), new LongGorillaDecoder(), values);
+  }
+
+  @Test
+  public void testInts() throws IOException {
+    int[] values = new int[ROW_COUNT];
+    int value = -500;
+    for (int i = 0; i < ROW_COUNT; i++) {
+      value += (i / 50) % 2 == 0 ? 0 : random.nextInt(100) - 30;
+      values[i] = value;
+    }
+    checkInts(new PlainEncoder(TSDataType.INT32, 0), new PlainDecoder(), values);
+    checkInts(
+        new DeltaBinaryEncoder.IntDeltaEncoder(), new DeltaBinaryDecoder.IntDeltaDecoder(), values);
+    checkInts(new IntRleEncoder(), new IntRleDecoder(), values);
+    checkInts(new IntGorillaEncoder(), new IntGorillaDecoder(), values);
+  }
+
+  @Test
+  public void testFloatingPoints() throws IOException {
+    float[] floats = new float[ROW_COUNT];
+    double[] doubles = new double[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++) {
+      floats[i] = random.nextFloat() * 100;
+      doubles[i] = random.nextDouble() * 100;
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Encoder encoder = new PlainEncoder(TSDataType.FLOAT, 0);
+    for (float f : floats) {
+      encoder.encode(f, out);
+    }
+    encoder.flush(out);
+    assertArrayEquals(floats, readFloats(new PlainDecoder(), out.toByteArray()), 0);
+    out.reset();
+    encoder = new SinglePrecisionEncoderV2();
+    for (float f : floats) {
+      encoder.encode(f, out);
+    }
+    encoder.flush(out);
+    assertArrayEquals(floats, readFloats(new SinglePrecisionDecoderV2(), out.toByteArray()), 0);
+
+    out.reset();
+    encoder = new PlainEncoder(TSDataType.DOUBLE, 0);
+    for (double d : doubles) {
+      encoder.encode(d, out);
+    }
+    encoder.flush(out);
+    assertArrayEquals(doubles, readDoubles(new PlainDecoder(), out.toByteArray()), 0);
+    out.reset();
+    encoder = new DoublePrecisionEncoderV2();
+    for (double d : doubles) {
+      encoder.encode(d, out);
+    }
+    encoder.flush(out);
+    assertArrayEquals(doubles, readDoubles(new DoublePrecisionDecoderV2(), out.toByteArray()), 0);
+  }
+
+  private void checkLongs(Encoder encoder, Decoder decoder, long[] values) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (long v : values) {
+      encoder.encode(v, out);
+    }
+    encoder.flush(out);
+    ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+    long[] decoded = new long[values.length + BATCH_SIZE];
+    int count = 0;
+    int read;
+    while ((read = decoder.readLongs(buffer, decoded, count, BATCH_SIZE)) > 0) {
+      count += read;
+    }
+    assertEquals(decoder.getClass().getSimpleName(), values.length, count);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(decoder.getClass().getSimpleName(), values[i], decoded[i]);
+    }
+  }
+
+  private void checkInts(Encoder encoder, Decoder decoder, int[] values) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int v : values) {
+      encoder.encode(v, out);
+    }
+    encoder.flush(out);
+    ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+    int[] decoded = new int[values.length + BATCH_SIZE];
+    int count = 0;
+    int read;
+    while ((read = decoder.readInts(buffer, decoded, count, BATCH_SIZE)) > 0) {
+      count += read;
+    }
+    assertEquals(decoder.getClass().getSimpleName(), values.length, count);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(decoder.getClass().getSimpleName(), values[i], decoded[i]);
+    }
+  }
+
+  private float[] readFloats(Decoder decoder, byte[] bytes) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    float[] decoded = new float[ROW_COUNT + BATCH_SIZE];
+    int count = 0;
+    int read;
+    while ((read = decoder.readFloats(buffer, decoded, count, BATCH_SIZE)) > 0) {
+      count += read;
+    }
+    assertEquals(ROW_COUNT, count);
+    float[] result = new float[count];
+    System.arraycopy(decoded, 0, result, 0, count);
+    return result;
+  }
+
+  private double[] readDoubles(Decoder decoder, byte[] bytes) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    double[] decoded = new double[ROW_COUNT + BATCH_SIZE];
+    int count = 0;
+    int read;
+    while ((read = decoder.readDoubles(buffer, decoded, count, BATCH_SIZE)) > 0) {
+      count += read;
+    }
+    assertEquals(ROW_COUNT, count);
+    double[] result = new double[count];
+    System.arraycopy(decoded, 0, result, 0, count);
+    return result;
+  }
+}
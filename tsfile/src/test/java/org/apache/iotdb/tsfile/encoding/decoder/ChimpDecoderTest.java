@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.encoding.encoder.TSEncodingBuilder;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ChimpDecoderTest {
+
+  private static final int ROW_COUNT = 5000;
+  private static final int PAGE_COUNT = 3;
+
+  @Test
+  public void testSingleValue() throws IOException {
+    testDouble(new double[] {Double.MAX_VALUE});
+    testFloat(new float[] {Float.MAX_VALUE});
+    testLong(new long[] {(long) Integer.MAX_VALUE + 10});
+    testInt(new int[] {777});
+  }
+
+  @Test
+  public void testZeroNumber() throws IOException {
+    testDouble(new double[] {0, 0, 0, -0.0, 0});
+    testFloat(new float[] {0, 0, 0, -0.0f, 0});
+    testLong(new long[] {0, 0, 0});
+    testInt(new int[] {0, 0, 0});
+  }
+
+  @Test
+  public void testSpecialValues() throws IOException {
+    testDouble(
+        new double[] {
+          1.5, Double.MIN_VALUE, -Double.MAX_VALUE, Double.POSITIVE_INFINITY, 1.5, -1.5, 1e-300
+        });
+    testFloat(
+        new float[] {
+          1.5f, Float.MIN_VALUE, -Float.MAX_VALUE, Float.NEGATIVE_INFINITY, 1.5f, -1.5f, 1e-30f
+        });
+    testLong(new long[] {Long.MAX_VALUE, -1, 0, Long.MIN_VALUE + 1, Long.MAX_VALUE});
+    testInt(new int[] {Integer.MAX_VALUE, -1, 0, Integer.MIN_VALUE + 1, Integer.MAX_VALUE});
+  }
+
+  @Test
+  public void testRandomWalk() throws IOException {
+    Random random = new Random(0);
+    double[] doubles = new double[ROW_COUNT];
+    float[] floats = new float[ROW_COUNT];
+    long[] longs = new long[ROW_COUNT];
+    int[] ints = new int[ROW_COUNT];
+    long current = 1_000;
+    for (int i = 0; i < ROW_COUNT; i++) {
+      current += random.nextInt(21) - 10;
+      doubles[i] = current / 100d;
+      floats[i] = current / 10f;
+      longs[i] = current * 1_000_000_000L;
+      ints[i] = (int) current;
+    }
+    testDouble(doubles);
+    testFloat(floats);
+    testLong(longs);
+    testInt(ints);
+  }
+
+  @Test
+  public void testRandomBits() throws IOException {
+    Random random = new Random(0);
+    double[] doubles = new double[ROW_COUNT];
+    float[] floats = new float[ROW_COUNT];
+    long[] longs = new long[ROW_COUNT];
+    int[] ints = new int[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++) {
+      // repeat earlier values now and then to hit the ring buffer of previous values
+      int previous = random.nextInt(200);
+      boolean repeat = i > previous && random.nextInt(4) == 0;
+      doubles[i] = repeat ? doubles[i - previous] : random.nextDouble() * 1000;
+      floats[i] = repeat ? floats[i - previous] : random.nextFloat() * 1000;
+      longs[i] = repeat ? longs[i - previous] + 1 : random.nextLong() >>> random.nextInt(64);
+      ints[i] = repeat ? ints[i - previous] ^ (1 << 30) : random.nextInt() >>> random.nextInt(32);
+    }
+    testDouble(doubles);
+    testFloat(floats);
+    testLong(longs);
+    testInt(ints);
+  }
+
+  private void testDouble(double[] values) throws IOException {
+    Encoder encoder =
+        TSEncodingBuilder.getEncodingBuilder(TSEncoding.CHIMP).getEncoder(TSDataType.DOUBLE);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      for (double value : values) {
+        encoder.encode(value, baos);
+      }
+      encoder.flush(baos);
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(baos.toByteArray());
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      Decoder decoder = Decoder.getDecoderByType(TSEncoding.CHIMP, TSDataType.DOUBLE);
+      for (double expected : values) {
+        assertTrue(decoder.hasNext(buffer));
+        assertEquals(
+            Double.doubleToRawLongBits(expected),
+            Double.doubleToRawLongBits(decoder.readDouble(buffer)));
+      }
+      assertFalse(decoder.hasNext(buffer));
+    }
+    assertFalse(buffer.hasRemaining());
+  }
+
+  private void testFloat(float[] values) throws IOException {
+    Encoder encoder =
+        TSEncodingBuilder.getEncodingBuilder(TSEncoding.CHIMP).getEncoder(TSDataType.FLOAT);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      for (float value : values) {
+        encoder.encode(value, baos);
+      }
+      encoder.flush(baos);
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(baos.toByteArray());
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      Decoder decoder = Decoder.getDecoderByType(TSEncoding.CHIMP, TSDataType.FLOAT);
+      for (float expected : values) {
+        assertTrue(decoder.hasNext(buffer));
+        assertEquals(
+            Float.floatToRawIntBits(expected), Float.floatToRawIntBits(decoder.readFloat(buffer)));
+      }
+      assertFalse(decoder.hasNext(buffer));
+    }
+    assertFalse(buffer.hasRemaining());
+  }
+
+  private void testLong(long[] values) throws IOException {
+    Encoder encoder =
+        TSEncodingBuilder.getEncodingBuilder(TSEncoding.CHIMP).getEncoder(TSDataType.INT64);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      for (long value : values) {
+        encoder.encode(value, baos);
+      }
+      encoder.flush(baos);
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(baos.toByteArray());
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      Decoder decoder = Decoder.getDecoderByType(TSEncoding.CHIMP, TSDataType.INT64);
+      for (long expected : values) {
+        assertTrue(decoder.hasNext(buffer));
+        assertEquals(expected, decoder.readLong(buffer));
+      }
+      assertFalse(decoder.hasNext(buffer));
+    }
+    assertFalse(buffer.hasRemaining());
+  }
+
+  private void testInt(int[] values) throws IOException {
+    Encoder encoder =
+        TSEncodingBuilder.getEncodingBuilder(TSEncoding.CHIMP).getEncoder(TSDataType.INT32);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      for (int value : values) {
+        encoder.encode(value, baos);
+      }
+      encoder.flush(baos);
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(baos.toByteArray());
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      Decoder decoder = Decoder.getDecoderByType(TSEncoding.CHIMP, TSDataType.INT32);
+      for (int expected : values) {
+        assertTrue(decoder.hasNext(buffer));
+        assertEquals(expected, decoder.readInt(buffer));
+      }
+      assertFalse(decoder.hasNext(buffer));
+    }
+    assertFalse(buffer.hasRemaining());
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.encoding.encoder.TSEncodingBuilder;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ElfDecoderTest {
+
+  private static final int ROW_COUNT = 5000;
+  private static final int PAGE_COUNT = 3;
+
+  @Test
+  public void testSingleValue() throws IOException {
+    testDouble(new double[] {Double.MAX_VALUE});
+    testDouble(new double[] {3.14});
+    testFloat(new float[] {Float.MAX_VALUE});
+    testFloat(new float[] {3.14f});
+  }
+
+  @Test
+  public void testZeroNumber() throws IOException {
+    testDouble(new double[] {0, 0, 0, -0.0, 0});
+    testFloat(new float[] {0, 0, 0, -0.0f, 0});
+  }
+
+  @Test
+  public void testSpecialValues() throws IOException {
+    testDouble(
+        new double[] {
+          0.1,
+          Double.MIN_VALUE,
+          -Double.MAX_VALUE,
+          Double.POSITIVE_INFINITY,
+          0.001,
+          -0.001,
+          1e-300,
+          1e300,
+          123456789.123,
+          Math.PI
+        });
+    testFloat(
+        new float[] {
+          0.1f,
+          Float.MIN_VALUE,
+          -Float.MAX_VALUE,
+          Float.NEGATIVE_INFINITY,
+          0.001f,
+          -0.001f,
+          1e-30f,
+          1e30f,
+          12345.678f,
+          (float) Math.PI
+        });
+  }
+
+  @Test
+  public void testDecimals() throws IOException {
+    Random random = new Random(0);
+    for (int decimalPlaces = 0; decimalPlaces <= 8; decimalPlaces++) {
+      double scale = Math.pow(10, decimalPlaces);
+      double[] doubles = new double[ROW_COUNT];
+      float[] floats = new float[ROW_COUNT];
+      long current = 0;
+      for (int i = 0; i < ROW_COUNT; i++) {
+        current += random.nextInt(2001) - 1000;
+        doubles[i] = current / scale;
+        floats[i] = (float) (current / scale);
+      }
+      testDouble(doubles);
+      testFloat(floats);
+    }
+  }
+
+  @Test
+  public void testRandomBits() throws IOException {
+    Random random = new Random(0);
+    double[] doubles = new double[ROW_COUNT];
+    float[] floats = new float[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++) {
+      // mix decimals of different magnitudes with values that cannot be erased
+      if (random.nextBoolean()) {
+        doubles[i] = Math.round(random.nextGaussian() * 1e6) / Math.pow(10, random.nextInt(10));
+        floats[i] = (float) doubles[i];
+      } else {
+        doubles[i] = Double.longBitsToDouble(random.nextLong() >>> 2);
+        floats[i] = Float.intBitsToFloat(random.nextInt() >>> 2);
+      }
+    }
+    testDouble(doubles);
+    testFloat(floats);
+  }
+
+  @Test
+  public void testSmallerThanGorilla() throws IOException {
+    Random random = new Random(0);
+    double[] doubles = new double[ROW_COUNT];
+    float[] floats = new float[ROW_COUNT];
+    long current = 2_000;
+    for (int i = 0; i < ROW_COUNT; i++) {
+      current += random.nextInt(21) - 10;
+      doubles[i] = current / 100d;
+      floats[i] = current / 100f;
+    }
+    assertTrue(
+        encodeDouble(TSEncoding.ELF, doubles).length
+            < encodeDouble(TSEncoding.GORILLA, doubles).length);
+    assertTrue(
+        encodeFloat(TSEncoding.ELF, floats).length
+            < encodeFloat(TSEncoding.GORILLA, floats).length);
+  }
+
+  private byte[] encodeDouble(TSEncoding encoding, double[] values) throws IOException {
+    Encoder encoder = TSEncodingBuilder.getEncodingBuilder(encoding).getEncoder(TSDataType.DOUBLE);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      for (double value : values) {
+        encoder.encode(value, baos);
+      }
+      encoder.flush(baos);
+    }
+    return baos.toByteArray();
+  }
+
+  private byte[] encodeFloat(TSEncoding encoding, float[] values) throws IOException {
+    Encoder encoder = TSEncodingBuilder.getEncodingBuilder(encoding).getEncoder(TSDataType.FLOAT);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      for (float value : values) {
+        encoder.encode(value, baos);
+      }
+      encoder.flush(baos);
+    }
+    return baos.toByteArray();
+  }
+
+  private void testDouble(double[] values) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(encodeDouble(TSEncoding.ELF, values));
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      Decoder decoder = Decoder.getDecoderByType(TSEncoding.ELF, TSDataType.DOUBLE);
+      for (double expected : values) {
+        assertTrue(decoder.hasNext(buffer));
+        assertEquals(
+            Double.doubleToRawLongBits(expected),
+            Double.doubleToRawLongBits(decoder.readDouble(buffer)));
+      }
+      assertFalse(decoder.hasNext(buffer));
+    }
+    assertFalse(buffer.hasRemaining());
+  }
+
+  private void testFloat(float[] values) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(encodeFloat(TSEncoding.ELF, values));
+    for (int page = 0; page < PAGE_COUNT; page++) {
+      Decoder decoder = Decoder.getDecoderByType(TSEncoding.ELF, TSDataType.FLOAT);
+      for (float expected : values) {
+        assertTrue(decoder.hasNext(buffer));
+        assertEquals(
+            Float.floatToRawIntBits(expected), Float.floatToRawIntBits(decoder.readFloat(buffer)));
+      }
+      assertFalse(decoder.hasNext(buffer));
+    }
+    assertFalse(buffer.hasRemaining());
+  }
+}
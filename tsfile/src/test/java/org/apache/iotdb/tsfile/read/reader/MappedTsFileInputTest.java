@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.reader;
+
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.utils.FileGenerator;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class MappedTsFileInputTest {
+
+  private static final String FILE_PATH = FileGenerator.outputDataFile;
+
+  @Before
+  public void before() throws IOException {
+    FileGenerator.generateFile(1000, 100);
+    // windows mapped by the previous tests are released when their inputs are closed
+    Assert.assertEquals(0, MappedTsFileInput.getMappedBytes());
+  }
+
+  @After
+  public void after() {
+    FileGenerator.after();
+  }
+
+  @Test
+  public void testReadChunksFromMappedWindows() throws IOException {
+    long mappedBytesBefore = MappedTsFileInput.getMappedBytes();
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(FILE_PATH);
+        TsFileSequenceReader mappedReader =
+            new TsFileSequenceReader(
+                new MappedTsFileInput(Paths.get(FILE_PATH), 1024 * 1024, Long.MAX_VALUE))) {
+      int directChunks = assertSameChunks(reader, mappedReader);
+      Assert.assertTrue(directChunks > 0);
+      Assert.assertTrue(MappedTsFileInput.getMappedBytes() > mappedBytesBefore);
+    }
+    Assert.assertEquals(mappedBytesBefore, MappedTsFileInput.getMappedBytes());
+  }
+
+  @Test
+  public void testCloseUnmapsWindows() throws IOException {
+    long mappedBytesBefore = MappedTsFileInput.getMappedBytes();
+    List<MappedByteBuffer> unmappedWindows = new ArrayList<>();
+    MappedTsFileInput input =
+        new MappedTsFileInput(Paths.get(FILE_PATH), 1024, Long.MAX_VALUE, unmappedWindows::add);
+    Assert.assertNotNull(input.slice(0, 20));
+    Assert.assertNotNull(input.slice(2048, 20));
+    Assert.assertEquals(mappedBytesBefore + 2048, MappedTsFileInput.getMappedBytes());
+
+    input.close();
+    Assert.assertEquals(2, unmappedWindows.size());
+    Assert.assertEquals(mappedBytesBefore, MappedTsFileInput.getMappedBytes());
+    // a closed input maps no more windows
+    Assert.assertNull(input.slice(4096, 20));
+  }
+
+  @Test
+  public void testFallbackAcrossWindows() throws IOException {
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(FILE_PATH);
+        TsFileSequenceReader mappedReader =
+            new TsFileSequenceReader(
+                new MappedTsFileInput(Paths.get(FILE_PATH), 512, Long.MAX_VALUE))) {
+      assertSameChunks(reader, mappedReader);
+    }
+  }
+
+  @Test
+  public void testFallbackWhenBudgetExhausted() throws IOException {
+    long mappedBytesBefore = MappedTsFileInput.getMappedBytes();
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(FILE_PATH);
+        TsFileSequenceReader mappedReader =
+            new TsFileSequenceReader(
+                new MappedTsFileInput(Paths.get(FILE_PATH), 1024 * 1024, mappedBytesBefore))) {
+      Assert.assertEquals(0, assertSameChunks(reader, mappedReader));
+      Assert.assertEquals(mappedBytesBefore, MappedTsFileInput.getMappedBytes());
+    }
+  }
+
+  @Test
+  public void testSliceFromCurrentPosition() throws IOException {
+    MappedTsFileInput input =
+        new MappedTsFileInput(Paths.get(FILE_PATH), 1024 * 1024, Long.MAX_VALUE);
+    try {
+      input.position(10);
+      ByteBuffer slice = input.slice(-1, 20);
+      Assert.assertNotNull(slice);
+      Assert.assertEquals(30, input.position());
+      Assert.assertEquals(20, slice.remaining());
+
+      ByteBuffer expected = ByteBuffer.allocate(20);
+      input.read(expected, 10);
+      expected.flip();
+      Assert.assertEquals(expected, slice);
+
+      Assert.assertNull(input.slice(input.size() - 10, 20));
+    } finally {
+      input.close();
+    }
+  }
+
+  /** @return the number of chunks of mappedReader that are sliced from mapped windows */
+  private int assertSameChunks(TsFileSequenceReader reader, TsFileSequenceReader mappedReader)
+      throws IOException {
+    int directChunks = 0;
+    for (String device : reader.getAllDevices()) {
+      Map<String, List<ChunkMetadata>> expectedMetadata = reader.readChunkMetadataInDevice(device);
+      Map<String, List<ChunkMetadata>> actualMetadata =
+          mappedReader.readChunkMetadataInDevice(device);
+      Assert.assertEquals(expectedMetadata.keySet(), actualMetadata.keySet());
+      for (Map.Entry<String, List<ChunkMetadata>> entry : expectedMetadata.entrySet()) {
+        List<ChunkMetadata> actualList = actualMetadata.get(entry.getKey());
+        Assert.assertEquals(entry.getValue().size(), actualList.size());
+        for (int i = 0; i < actualList.size(); i++) {
+          Chunk expected = reader.readMemChunk(entry.getValue().get(i));
+          Chunk actual = mappedReader.readMemChunk(actualList.get(i));
+          Assert.assertEquals(expected.getHeader().getDataSize(), actual.getHeader().getDataSize());
+          Assert.assertEquals(expected.getData(), actual.getData());
+          if (actual.getData().isDirect()) {
+            directChunks++;
+          }
+        }
+      }
+    }
+    return directChunks;
+  }
+}
@@ -24,6 +24,9 @@ import org.apache.iotdb.tsfile.constant.TestConstant;
 import org.apache.iotdb.tsfile.file.MetaMarker;
 import org.apache.iotdb.tsfile.file.header.ChunkGroupHeader;
 import org.apache.iotdb.tsfile.file.header.ChunkHeader;
+import org.apache.iotdb.tsfile.file.metadata.AlignedChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.IChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
 import org.apache.iotdb.tsfile.file.metadata.TsFileMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
@@ -163,6 +166,55 @@ public class TsFileIOWriterTest {
     Assert.assertEquals(2, metaData.getMetadataIndex().getChildren().size());
   }
 
+  @Test
+  public void appendChunkGroupsTest() throws IOException {
+    File appendedFile =
+        new File(TestConstant.BASE_OUTPUT_PATH.concat("TsFileIOWriterTest-1.tsfile"));
+    File partFile = new File(TestConstant.BASE_OUTPUT_PATH.concat("TsFileIOWriterTest-2.tsfile"));
+    try {
+      TsFileIOWriter writer = new TsFileIOWriter(appendedFile);
+      TsFileIOWriter partWriter = new TsFileIOWriter(partFile);
+      VectorMeasurementSchema vectorMeasurementSchema =
+          new VectorMeasurementSchema(
+              "", new String[] {"s1", "s2"}, new TSDataType[] {TSDataType.INT64, TSDataType.INT64});
+      writeVectorChunkGroup(partWriter, vectorMeasurementSchema);
+      writeChunkGroup(writer, TestHelper.createSimpleMeasurementSchema(SENSOR_1));
+      writer.appendChunkGroups(partWriter);
+      partWriter.close();
+      writer.endFile();
+
+      try (TsFileSequenceReader reader = new TsFileSequenceReader(appendedFile.getPath())) {
+        List<ChunkMetadata> chunkMetadataList =
+            reader.getChunkMetadataList(new Path(DEVICE_1, SENSOR_1));
+        Assert.assertEquals(CHUNK_GROUP_NUM, chunkMetadataList.size());
+        for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+          assertChunkHeader(reader, chunkMetadata, SENSOR_1);
+        }
+        List<AlignedChunkMetadata> alignedChunkMetadataList =
+            reader.getAlignedChunkMetadata(DEVICE_2);
+        Assert.assertEquals(CHUNK_GROUP_NUM, alignedChunkMetadataList.size());
+        for (AlignedChunkMetadata alignedChunkMetadata : alignedChunkMetadataList) {
+          assertChunkHeader(reader, alignedChunkMetadata.getTimeChunkMetadata(), "");
+          List<IChunkMetadata> valueChunkMetadataList =
+              alignedChunkMetadata.getValueChunkMetadataList();
+          assertChunkHeader(reader, valueChunkMetadataList.get(0), "s1");
+          assertChunkHeader(reader, valueChunkMetadataList.get(1), "s2");
+        }
+      }
+    } finally {
+      appendedFile.delete();
+      partFile.delete();
+    }
+  }
+
+  private void assertChunkHeader(
+      TsFileSequenceReader reader, IChunkMetadata chunkMetadata, String measurementId)
+      throws IOException {
+    reader.position(chunkMetadata.getOffsetOfChunkHeader());
+    byte marker = reader.readMarker();
+    Assert.assertEquals(measurementId, reader.readChunkHeader(marker).getMeasurementID());
+  }
+
   private void writeChunkGroup(TsFileIOWriter writer, MeasurementSchema measurementSchema)
       throws IOException {
     for (int i = 0; i < CHUNK_GROUP_NUM; i++) {
@@ -191,12 +243,14 @@ public class TsFileIOWriterTest {
       // chunk group
       writer.startChunkGroup(DEVICE_2);
       // vector chunk (time)
+      Statistics timeStatistics = Statistics.getStatsByType(vectorMeasurementSchema.getType());
+      timeStatistics.update(0L);
       writer.startFlushChunk(
           vectorMeasurementSchema.getMeasurementId(),
           vectorMeasurementSchema.getCompressor(),
           vectorMeasurementSchema.getType(),
           vectorMeasurementSchema.getTimeTSEncoding(),
-          Statistics.getStatsByType(vectorMeasurementSchema.getType()),
+          timeStatistics,
           0,
           0,
           TsFileConstant.TIME_COLUMN_MASK);
@@ -206,7 +260,8 @@ public class TsFileIOWriterTest {
         Statistics subStatistics =
             Statistics.getStatsByType(
                 vectorMeasurementSchema.getSubMeasurementsTSDataTypeList().get(j));
-        subStatistics.updateStats(0L, 0L);
+        // a value chunk without points is skipped when reading aligned chunk metadata
+        subStatistics.update(0L, 0L);
         writer.startFlushChunk(
             vectorMeasurementSchema.getSubMeasurementsList().get(j),
             vectorMeasurementSchema.getCompressor(),